@@ -7,7 +7,7 @@ namespace CesiumLanguageWriter.Advanced
     /// <see cref="ICesiumPropertyWriter"/> for <see cref="bool"/> values.
     /// </summary>
     /// <typeparam name="TFrom">The class that implements <see cref="ICesiumBooleanValuePropertyWriter"/> to adapt.</typeparam>
-    public class CesiumBooleanValuePropertyAdaptor<TFrom> : CesiumWriterAdaptor<TFrom, bool>
+    public class CesiumBooleanValuePropertyAdaptor<TFrom> : CesiumWriterAdaptor<TFrom, bool>, ICesiumBooleanValueWriter
         where TFrom : class, ICesiumBooleanValuePropertyWriter
     {
         /// <summary>
@@ -19,8 +19,40 @@ namespace CesiumLanguageWriter.Advanced
         public CesiumBooleanValuePropertyAdaptor([NotNull] TFrom parent,
                                                  [NotNull] CesiumWriterAdaptorWriteCallback<TFrom, bool> writeValueCallback,
                                                  [NotNull] CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback)
+            : this(parent, writeValueCallback, writeDeleteValueCallback, false)
+        {
+        }
+
+        /// <summary>
+        /// Initializes a new instance, optionally writing values directly with the <c>WriteBoolean</c> method of the parent.
+        /// </summary>
+        /// <param name="parent">The instance to wrap.</param>
+        /// <param name="writeValueCallback">The callback to write values of type <see cref="bool"/>.</param>
+        /// <param name="writeDeleteValueCallback">The callback to write an indication that the client should delete existing data.</param>
+        /// <param name="writesDirectly">Whether <see cref="ICesiumBooleanValueWriter.WriteValue"/> calls the <c>WriteBoolean</c> method of the parent directly.</param>
+        internal CesiumBooleanValuePropertyAdaptor([NotNull] TFrom parent,
+                                                   [NotNull] CesiumWriterAdaptorWriteCallback<TFrom, bool> writeValueCallback,
+                                                   [NotNull] CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback,
+                                                   bool writesDirectly)
             : base(parent, writeValueCallback, writeDeleteValueCallback)
         {
+            m_writesDirectly = writesDirectly;
         }
+
+        /// <summary>
+        /// Writes the value of the property for this interval of time.  If this instance was
+        /// created by <see cref="CesiumValuePropertyAdaptors"/>, the value is passed straight to the <c>WriteBoolean</c> method
+        /// of the parent; otherwise, it is passed to the callback given to the constructor.
+        /// </summary>
+        /// <param name="value">The value of the property.</param>
+        void ICesiumBooleanValueWriter.WriteValue(bool value)
+        {
+            if (m_writesDirectly)
+                Parent.WriteBoolean(value);
+            else
+                WriteValue(value);
+        }
+
+        private readonly bool m_writesDirectly;
     }
 }
\ No newline at end of file
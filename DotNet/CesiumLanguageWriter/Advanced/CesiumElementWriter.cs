@@ -1,4 +1,5 @@
 ﻿using System;
+using System.Collections.Generic;
 using JetBrains.Annotations;
 
 namespace CesiumLanguageWriter.Advanced
@@ -45,6 +46,24 @@ namespace CesiumLanguageWriter.Advanced
             m_output = null;
         }
 
+        /// <summary>
+        /// Returns this writer, and every writer it has created, to the state of a newly constructed
+        /// writer so that it can be reused for another document.  A writer that is still open, for example
+        /// because writing was interrupted by an exception, is closed without writing anything to its stream.
+        /// </summary>
+        public void Reset()
+        {
+            m_output = null;
+            OnReset();
+            if (m_childWriters != null)
+            {
+                for (int i = 0; i < m_childWriters.Count; ++i)
+                {
+                    m_childWriters[i].Reset();
+                }
+            }
+        }
+
         /// <summary>
         /// Gets a value indicating whether the writer is open.
         /// </summary>
@@ -53,6 +72,26 @@ namespace CesiumLanguageWriter.Advanced
             get { return m_output != null; }
         }
 
+        /// <summary>
+        /// Gets the writer which created this writer as one of its child writers, or <see langword="null"/> if this
+        /// writer was constructed directly.
+        /// </summary>
+        [CanBeNull]
+        public CesiumElementWriter ParentWriter
+        {
+            get { return m_parent; }
+        }
+
+        /// <summary>
+        /// Gets the name this writer contributes to <see cref="CesiumPropertyWriter{TDerived}.PropertyPath"/>,
+        /// or <see langword="null"/> if it does not write a named property.
+        /// </summary>
+        [CanBeNull]
+        internal virtual string PropertyPathName
+        {
+            get { return null; }
+        }
+
         /// <summary>
         /// Gets the <see cref="CesiumOutputStream"/> on which this writer is currently open.  If the writer is
         /// not open, accessing this property will throw an exception.
@@ -94,6 +133,35 @@ namespace CesiumLanguageWriter.Advanced
         {
         }
 
+        /// <summary>
+        /// When overridden in a derived class, clears any state of the writer when it is <see cref="Reset">reset</see>.
+        /// </summary>
+        protected virtual void OnReset()
+        {
+        }
+
+        /// <summary>
+        /// Records a writer created and retained by this writer, so that it is reset along with this writer,
+        /// and so that it reports this writer as its <see cref="ParentWriter">parent</see>.
+        /// For convenience, this method returns a reference to the same writer passed to it.
+        /// </summary>
+        /// <typeparam name="T">The type of the writer.</typeparam>
+        /// <param name="writer">The writer.</param>
+        /// <returns>The same writer.</returns>
+        [NotNull]
+        protected T AddChildWriter<T>([NotNull] T writer)
+            where T : CesiumElementWriter
+        {
+            if (writer == null)
+                throw new ArgumentNullException("writer");
+
+            if (m_childWriters == null)
+                m_childWriters = new List<CesiumElementWriter>();
+            m_childWriters.Add(writer);
+            writer.m_parent = this;
+            return writer;
+        }
+
         /// <summary>
         /// Opens a <see cref="CesiumElementWriter"/> on the same stream on which this one is currently open.
         /// For convenience, this method returns a reference to the same writer passed to it.
@@ -114,5 +182,9 @@ namespace CesiumLanguageWriter.Advanced
 
         [CanBeNull]
         private CesiumOutputStream m_output;
+        [CanBeNull]
+        private List<CesiumElementWriter> m_childWriters;
+        [CanBeNull]
+        private CesiumElementWriter m_parent;
     }
 }
\ No newline at end of file
@@ -13,9 +13,6 @@ namespace CesiumLanguageWriter.Advanced
     /// </summary>
     public static class CesiumFormattingHelper
     {
-        private static readonly JulianDate s_minimumDate = GregorianDate.MinValue.ToJulianDate();
-        private static readonly JulianDate s_maximumDate = GregorianDate.MaxValue.ToJulianDate();
-
         /// <summary>
         /// Converts a <see cref="TimeInterval"/> as an ISO8601 interval string.
         /// </summary>
@@ -26,7 +23,7 @@ namespace CesiumLanguageWriter.Advanced
         [NotNull]
         public static string ToIso8601Interval(JulianDate start, JulianDate stop, Iso8601Format format)
         {
-            return ToIso8601(start, format) + "/" + ToIso8601(stop, format);
+            return Iso8601Formatter.ToIso8601Interval(start, stop, format);
         }
 
         /// <summary>
@@ -53,19 +50,7 @@ namespace CesiumLanguageWriter.Advanced
         [NotNull]
         public static string ToIso8601(JulianDate date, Iso8601Format format)
         {
-            //If the JulianDate is outside the range of supported CZML values,
-            //clamp it to the minimum/maximum CZML ISO8601 value.
-            if (date <= s_minimumDate)
-            {
-                return GregorianDate.MinValue.ToIso8601String(format);
-            }
-
-            if (date >= s_maximumDate)
-            {
-                return GregorianDate.MaxValue.ToIso8601String(format);
-            }
-
-            return date.ToGregorianDate().ToIso8601String(format);
+            return Iso8601Formatter.ToIso8601(date, format);
         }
 
         /// <summary>
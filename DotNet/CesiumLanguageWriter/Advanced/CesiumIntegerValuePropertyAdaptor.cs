@@ -7,7 +7,7 @@ namespace CesiumLanguageWriter.Advanced
     /// <see cref="ICesiumInterpolatableValuePropertyWriter{TValue}"/> for <see cref="int"/> values.
     /// </summary>
     /// <typeparam name="TFrom">The class that implements <see cref="ICesiumIntegerValuePropertyWriter"/> to adapt.</typeparam>
-    public class CesiumIntegerValuePropertyAdaptor<TFrom> : CesiumInterpolatableWriterAdaptor<TFrom, int>
+    public class CesiumIntegerValuePropertyAdaptor<TFrom> : CesiumInterpolatableWriterAdaptor<TFrom, int>, ICesiumIntegerValueWriter
         where TFrom : class, ICesiumIntegerValuePropertyWriter
     {
         /// <summary>
@@ -21,8 +21,42 @@ namespace CesiumLanguageWriter.Advanced
                                                  [NotNull] CesiumWriterAdaptorWriteCallback<TFrom, int> writeValueCallback,
                                                  [NotNull] CesiumWriterAdaptorWriteSamplesCallback<TFrom, int> writeSamplesCallback,
                                                  [NotNull] CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback)
+            : this(parent, writeValueCallback, writeSamplesCallback, writeDeleteValueCallback, false)
+        {
+        }
+
+        /// <summary>
+        /// Initializes a new instance, optionally writing values directly with the <c>WriteNumber</c> method of the parent.
+        /// </summary>
+        /// <param name="parent">The instance to wrap.</param>
+        /// <param name="writeValueCallback">The callback to write values of type <see cref="int"/>.</param>
+        /// <param name="writeSamplesCallback">The callback to write samples of type <see cref="int"/>.</param>
+        /// <param name="writeDeleteValueCallback">The callback to write an indication that the client should delete existing data.</param>
+        /// <param name="writesDirectly">Whether <see cref="ICesiumIntegerValueWriter.WriteValue"/> calls the <c>WriteNumber</c> method of the parent directly.</param>
+        internal CesiumIntegerValuePropertyAdaptor([NotNull] TFrom parent,
+                                                   [NotNull] CesiumWriterAdaptorWriteCallback<TFrom, int> writeValueCallback,
+                                                   [NotNull] CesiumWriterAdaptorWriteSamplesCallback<TFrom, int> writeSamplesCallback,
+                                                   [NotNull] CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback,
+                                                   bool writesDirectly)
             : base(parent, writeValueCallback, writeSamplesCallback, writeDeleteValueCallback)
         {
+            m_writesDirectly = writesDirectly;
         }
+
+        /// <summary>
+        /// Writes the value of the property for this interval of time.  If this instance was
+        /// created by <see cref="CesiumValuePropertyAdaptors"/>, the value is passed straight to the <c>WriteNumber</c> method
+        /// of the parent; otherwise, it is passed to the callback given to the constructor.
+        /// </summary>
+        /// <param name="value">The value of the property.</param>
+        void ICesiumIntegerValueWriter.WriteValue(int value)
+        {
+            if (m_writesDirectly)
+                Parent.WriteNumber(value);
+            else
+                WriteValue(value);
+        }
+
+        private readonly bool m_writesDirectly;
     }
 }
\ No newline at end of file
@@ -40,7 +40,6 @@ namespace CesiumLanguageWriter.Advanced
             m_writeValueCallback = writeValueCallback;
             m_writeSamplesCallback = writeSamplesCallback;
             m_writeDeleteValueCallback = writeDeleteValueCallback;
-            m_interval = new Lazy<CesiumInterpolatableWriterAdaptor<TFrom, TValue>>(() => new CesiumInterpolatableWriterAdaptor<TFrom, TValue>((TFrom)m_parent.IntervalWriter, m_writeValueCallback, m_writeSamplesCallback, m_writeDeleteValueCallback), false);
         }
 
         /// <inheritdoc />
@@ -136,8 +135,8 @@ namespace CesiumLanguageWriter.Advanced
         [NotNull]
         public ICesiumInterpolatableValuePropertyWriter<TValue> OpenInterval()
         {
-            m_interval.Value.Open(m_parent.Output);
-            return m_interval.Value;
+            IntervalAdaptor.Open(m_parent.Output);
+            return IntervalAdaptor;
         }
 
         ICesiumPropertyWriter ICesiumPropertyWriter.OpenInterval()
@@ -163,7 +162,18 @@ namespace CesiumLanguageWriter.Advanced
         /// <inheritdoc />
         public ICesiumPropertyWriter IntervalWriter
         {
-            get { return m_interval.Value; }
+            get { return IntervalAdaptor; }
+        }
+
+        [NotNull]
+        private CesiumInterpolatableWriterAdaptor<TFrom, TValue> IntervalAdaptor
+        {
+            get
+            {
+                if (m_interval == null)
+                    m_interval = new CesiumInterpolatableWriterAdaptor<TFrom, TValue>((TFrom)m_parent.IntervalWriter, m_writeValueCallback, m_writeSamplesCallback, m_writeDeleteValueCallback);
+                return m_interval;
+            }
         }
 
         /// <inheritdoc />
@@ -193,8 +203,7 @@ namespace CesiumLanguageWriter.Advanced
         private readonly CesiumWriterAdaptorWriteSamplesCallback<TFrom, TValue> m_writeSamplesCallback;
         [NotNull]
         private readonly CesiumWriterAdaptorWriteDeleteCallback<TFrom> m_writeDeleteValueCallback;
-        [NotNull]
-        private readonly Lazy<CesiumInterpolatableWriterAdaptor<TFrom, TValue>> m_interval;
+        private CesiumInterpolatableWriterAdaptor<TFrom, TValue> m_interval;
 
         private class MultipleIntervalsAdaptor : ICesiumInterpolatableIntervalListWriter<TValue>
         {
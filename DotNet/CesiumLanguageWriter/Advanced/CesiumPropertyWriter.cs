@@ -1,4 +1,5 @@
 ﻿using System;
+using System.Collections.Generic;
 using JetBrains.Annotations;
 
 namespace CesiumLanguageWriter.Advanced
@@ -16,7 +17,6 @@ namespace CesiumLanguageWriter.Advanced
         /// </summary>
         /// <param name="propertyName">The name of the property.</param>
         protected CesiumPropertyWriter([NotNull] string propertyName)
-            : this()
         {
             if (propertyName == null)
                 throw new ArgumentNullException("propertyName");
@@ -29,7 +29,6 @@ namespace CesiumLanguageWriter.Advanced
         /// </summary>
         /// <param name="existingInstance">The existing instance to copy.</param>
         protected CesiumPropertyWriter([NotNull] CesiumPropertyWriter<TDerived> existingInstance)
-            : this()
         {
             if (existingInstance == null)
                 throw new ArgumentNullException("existingInstance");
@@ -37,12 +36,6 @@ namespace CesiumLanguageWriter.Advanced
             m_propertyName = existingInstance.m_propertyName;
         }
 
-        private CesiumPropertyWriter()
-        {
-            m_multipleIntervals = new Lazy<CesiumIntervalListWriter<TDerived>>(CreateIntervalListWriter, false);
-            m_interval = new Lazy<TDerived>(CopyForInterval, false);
-        }
-
         /// <summary>
         /// Copies this instance and returns the copy.
         /// </summary>
@@ -65,6 +58,35 @@ namespace CesiumLanguageWriter.Advanced
             get { return m_propertyName; }
         }
 
+        /// <summary>
+        /// Gets the names of the properties leading from the packet to the property written by this instance,
+        /// for example <c>billboard</c> and <c>image</c> for the writer returned by
+        /// <see cref="BillboardCesiumWriter.ImageWriter"/>.  The path is only complete for writers which were
+        /// created by their <see cref="CesiumElementWriter.ParentWriter">parent</see> writers.
+        /// </summary>
+        [NotNull]
+        public string[] PropertyPath
+        {
+            get
+            {
+                List<string> names = new List<string>();
+                for (CesiumElementWriter writer = this; writer != null; writer = writer.ParentWriter)
+                {
+                    string name = writer.PropertyPathName;
+                    if (name != null)
+                        names.Insert(0, name);
+                }
+
+                return names.ToArray();
+            }
+        }
+
+        internal override string PropertyPathName
+        {
+            // The writer for an interval has the same name as the property which owns it.
+            get { return m_elementType == ElementType.Interval ? null : m_propertyName; }
+        }
+
         /// <summary>
         /// Gets a value indicating whether this instance represents an open interval.
         /// </summary>
@@ -81,7 +103,12 @@ namespace CesiumLanguageWriter.Advanced
         /// </summary>
         public TDerived IntervalWriter
         {
-            get { return m_interval.Value; }
+            get
+            {
+                if (m_interval == null)
+                    m_interval = AddChildWriter(CopyForInterval());
+                return m_interval;
+            }
         }
 
         /// <summary>
@@ -96,7 +123,7 @@ namespace CesiumLanguageWriter.Advanced
         [NotNull]
         public TDerived OpenInterval()
         {
-            return OpenAndReturn(m_interval.Value);
+            return OpenAndReturn(IntervalWriter);
         }
 
         /// <summary>
@@ -108,7 +135,7 @@ namespace CesiumLanguageWriter.Advanced
         [NotNull]
         public TDerived OpenInterval(JulianDate start, JulianDate stop)
         {
-            TDerived result = OpenAndReturn(m_interval.Value);
+            TDerived result = OpenAndReturn(IntervalWriter);
             result.WriteInterval(start, stop);
             return result;
         }
@@ -120,7 +147,9 @@ namespace CesiumLanguageWriter.Advanced
         [NotNull]
         public CesiumIntervalListWriter<TDerived> OpenMultipleIntervals()
         {
-            return OpenAndReturn(m_multipleIntervals.Value);
+            if (m_multipleIntervals == null)
+                m_multipleIntervals = AddChildWriter(CreateIntervalListWriter());
+            return OpenAndReturn(m_multipleIntervals);
         }
 
         /// <summary>
@@ -144,7 +173,7 @@ namespace CesiumLanguageWriter.Advanced
 
             OpenIntervalIfNecessary();
             Output.WritePropertyName("interval");
-            Output.WriteValue(CesiumFormattingHelper.ToIso8601Interval(interval.Start, interval.Stop, Output.PrettyFormatting ? Iso8601Format.Extended : Iso8601Format.Compact));
+            Iso8601Formatter.WriteInterval(Output, interval.Start, interval.Stop);
         }
 
         /// <inheritdoc />
@@ -167,6 +196,16 @@ namespace CesiumLanguageWriter.Advanced
             }
         }
 
+        /// <summary>
+        /// Clears the interval state of the writer when it is reset.
+        /// </summary>
+        protected override void OnReset()
+        {
+            if (m_elementType == ElementType.PropertyConvertedToInterval)
+                m_elementType = ElementType.Property;
+            ForceInterval = false;
+        }
+
         /// <summary>
         /// Opens an interval for this property if one is not already open.
         /// </summary>
@@ -207,10 +246,8 @@ namespace CesiumLanguageWriter.Advanced
 
         [NotNull]
         private readonly string m_propertyName;
-        [NotNull]
-        private readonly Lazy<CesiumIntervalListWriter<TDerived>> m_multipleIntervals;
-        [NotNull]
-        private readonly Lazy<TDerived> m_interval;
+        private CesiumIntervalListWriter<TDerived> m_multipleIntervals;
+        private TDerived m_interval;
         private ElementType m_elementType = ElementType.Property;
 
         private enum ElementType
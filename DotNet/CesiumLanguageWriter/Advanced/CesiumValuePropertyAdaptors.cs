@@ -38,7 +38,7 @@ namespace CesiumLanguageWriter.Advanced
         public static CesiumBooleanValuePropertyAdaptor<TFrom> CreateBoolean<TFrom>([NotNull] TFrom parent)
             where TFrom : class, ICesiumBooleanValuePropertyWriter, ICesiumDeletablePropertyWriter
         {
-            return new CesiumBooleanValuePropertyAdaptor<TFrom>(parent, (writer, value) => writer.WriteBoolean(value), CreateWriteDeleteCallback<TFrom>());
+            return new CesiumBooleanValuePropertyAdaptor<TFrom>(parent, (writer, value) => writer.WriteBoolean(value), CreateWriteDeleteCallback<TFrom>(), true);
         }
 
         /// <summary>
@@ -297,7 +297,7 @@ namespace CesiumLanguageWriter.Advanced
         public static CesiumDoubleValuePropertyAdaptor<TFrom> CreateDouble<TFrom>([NotNull] TFrom parent)
             where TFrom : class, ICesiumDoubleValuePropertyWriter, ICesiumDeletablePropertyWriter
         {
-            return new CesiumDoubleValuePropertyAdaptor<TFrom>(parent, (writer, value) => writer.WriteNumber(value), (writer, dates, values, startIndex, length) => writer.WriteNumber(dates, values, startIndex, length), CreateWriteDeleteCallback<TFrom>());
+            return new CesiumDoubleValuePropertyAdaptor<TFrom>(parent, (writer, value) => writer.WriteNumber(value), (writer, dates, values, startIndex, length) => writer.WriteNumber(dates, values, startIndex, length), CreateWriteDeleteCallback<TFrom>(), true);
         }
 
         /// <summary>
@@ -349,7 +349,7 @@ namespace CesiumLanguageWriter.Advanced
         public static CesiumIntegerValuePropertyAdaptor<TFrom> CreateInteger<TFrom>([NotNull] TFrom parent)
             where TFrom : class, ICesiumIntegerValuePropertyWriter, ICesiumDeletablePropertyWriter
         {
-            return new CesiumIntegerValuePropertyAdaptor<TFrom>(parent, (writer, value) => writer.WriteNumber(value), (writer, dates, values, startIndex, length) => writer.WriteNumber(dates, values, startIndex, length), CreateWriteDeleteCallback<TFrom>());
+            return new CesiumIntegerValuePropertyAdaptor<TFrom>(parent, (writer, value) => writer.WriteNumber(value), (writer, dates, values, startIndex, length) => writer.WriteNumber(dates, values, startIndex, length), CreateWriteDeleteCallback<TFrom>(), true);
         }
 
         /// <summary>
@@ -34,7 +34,6 @@ namespace CesiumLanguageWriter.Advanced
             m_parent = parent;
             m_writeValueCallback = writeValueCallback;
             m_writeDeleteValueCallback = writeDeleteValueCallback;
-            m_interval = new Lazy<CesiumWriterAdaptor<TFrom, TValue>>(() => new CesiumWriterAdaptor<TFrom, TValue>((TFrom)m_parent.IntervalWriter, m_writeValueCallback, m_writeDeleteValueCallback), false);
         }
 
         /// <inheritdoc />
@@ -84,8 +83,8 @@ namespace CesiumLanguageWriter.Advanced
         /// <inheritdoc />
         public ICesiumPropertyWriter OpenInterval()
         {
-            m_interval.Value.Open(m_parent.Output);
-            return m_interval.Value;
+            IntervalAdaptor.Open(m_parent.Output);
+            return IntervalAdaptor;
         }
 
         /// <inheritdoc />
@@ -97,7 +96,18 @@ namespace CesiumLanguageWriter.Advanced
         /// <inheritdoc />
         public ICesiumPropertyWriter IntervalWriter
         {
-            get { return m_interval.Value; }
+            get { return IntervalAdaptor; }
+        }
+
+        [NotNull]
+        private CesiumWriterAdaptor<TFrom, TValue> IntervalAdaptor
+        {
+            get
+            {
+                if (m_interval == null)
+                    m_interval = new CesiumWriterAdaptor<TFrom, TValue>((TFrom)m_parent.IntervalWriter, m_writeValueCallback, m_writeDeleteValueCallback);
+                return m_interval;
+            }
         }
 
         /// <inheritdoc />
@@ -125,7 +135,6 @@ namespace CesiumLanguageWriter.Advanced
         private readonly CesiumWriterAdaptorWriteCallback<TFrom, TValue> m_writeValueCallback;
         [NotNull]
         private readonly CesiumWriterAdaptorWriteDeleteCallback<TFrom> m_writeDeleteValueCallback;
-        [NotNull]
-        private readonly Lazy<CesiumWriterAdaptor<TFrom, TValue>> m_interval;
+        private CesiumWriterAdaptor<TFrom, TValue> m_interval;
     }
 }
\ No newline at end of file
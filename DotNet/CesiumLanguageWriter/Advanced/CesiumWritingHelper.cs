@@ -16,11 +16,6 @@ namespace CesiumLanguageWriter.Advanced
         [NotNull]
         public static readonly TimeInterval MaximumInterval = new TimeInterval(GregorianDate.MinValue.ToJulianDate(), GregorianDate.MaxValue.ToJulianDate());
 
-        private static Iso8601Format GetIso8601Format([NotNull] CesiumOutputStream output)
-        {
-            return output.PrettyFormatting ? Iso8601Format.Extended : Iso8601Format.Compact;
-        }
-
         /// <summary>
         /// Writes a <see cref="JulianDate"/> as an ISO 8601 interval string.
         /// </summary>
@@ -28,7 +23,7 @@ namespace CesiumLanguageWriter.Advanced
         /// <param name="date">The date to write.</param>
         public static void WriteDate([NotNull] CesiumOutputStream output, JulianDate date)
         {
-            output.WriteValue(CesiumFormattingHelper.ToIso8601(date, GetIso8601Format(output)));
+            Iso8601Formatter.WriteDate(output, date);
         }
 
         /// <summary>
@@ -38,7 +33,7 @@ namespace CesiumLanguageWriter.Advanced
         /// <param name="interval">The interval to write.</param>
         public static void WriteTimeInterval([NotNull] CesiumOutputStream output, [NotNull] TimeInterval interval)
         {
-            output.WriteValue(CesiumFormattingHelper.ToIso8601Interval(interval.Start, interval.Stop, GetIso8601Format(output)));
+            Iso8601Formatter.WriteInterval(output, interval.Start, interval.Stop);
         }
 
         /// <summary>
@@ -109,7 +104,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 Rectangular value = values[i];
                 output.WriteValue(value.X);
                 output.WriteValue(value.Y);
@@ -162,7 +157,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 CartographicExtent value = values[i];
                 output.WriteValue(value.WestLongitude);
                 output.WriteValue(value.SouthLatitude);
@@ -216,7 +211,45 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
+                Cartesian value = values[i];
+                output.WriteValue(value.X);
+                output.WriteValue(value.Y);
+                output.WriteValue(value.Z);
+                output.WriteLineBreak();
+            }
+
+            output.WriteEndSequence();
+        }
+
+        /// <summary>
+        /// Writes time-tagged <see cref="Cartesian"/> values sampled on a shared time grid as an array in [Time, X, Y, Z] order.
+        /// Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+        /// The epoch property is written as well.
+        /// </summary>
+        /// <param name="output">The stream to which the values will be written.</param>
+        /// <param name="propertyName">The name of the property to write.</param>
+        /// <param name="grid">The grid of dates at which the value is specified.</param>
+        /// <param name="values">The corresponding value for each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to use in the <paramref name="values"/> collection.</param>
+        /// <param name="length">The number of elements to use from the <paramref name="values"/> collection.</param>
+        public static void WriteCartesian3([NotNull] CesiumOutputStream output,
+                                           [NotNull] string propertyName,
+                                           [NotNull] SharedTimeGrid grid,
+                                           [NotNull] IList<Cartesian> values,
+                                           int startIndex,
+                                           int length)
+        {
+            grid.CheckValues(values, startIndex, length);
+
+            JulianDate? epoch = GetAndWriteEpoch(output, grid, startIndex);
+
+            output.WritePropertyName(propertyName);
+            output.WriteStartSequence();
+            int last = startIndex + length;
+            for (int i = startIndex; i < last; ++i)
+            {
+                WriteOffset(output, grid, epoch, i);
                 Cartesian value = values[i];
                 output.WriteValue(value.X);
                 output.WriteValue(value.Y);
@@ -272,7 +305,49 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
+                Cartesian value = values[i].Value;
+                Cartesian velocity = values[i].FirstDerivative;
+                output.WriteValue(value.X);
+                output.WriteValue(value.Y);
+                output.WriteValue(value.Z);
+                output.WriteValue(velocity.X);
+                output.WriteValue(velocity.Y);
+                output.WriteValue(velocity.Z);
+                output.WriteLineBreak();
+            }
+
+            output.WriteEndSequence();
+        }
+
+        /// <summary>
+        /// Writes time-tagged <see cref="Motion{Cartesian}"/> values sampled on a shared time grid as an array in [Time, X, Y, Z, vX, vY, vZ] order.
+        /// Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+        /// The epoch property is written as well.
+        /// </summary>
+        /// <param name="output">The stream to which the values will be written.</param>
+        /// <param name="propertyName">The name of the property to write.</param>
+        /// <param name="grid">The grid of dates at which the value is specified.</param>
+        /// <param name="values">The corresponding value for each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to use in the <paramref name="values"/> collection.</param>
+        /// <param name="length">The number of elements to use from the <paramref name="values"/> collection.</param>
+        public static void WriteCartesian3Velocity([NotNull] CesiumOutputStream output,
+                                                   [NotNull] string propertyName,
+                                                   [NotNull] SharedTimeGrid grid,
+                                                   [NotNull] IList<Motion<Cartesian>> values,
+                                                   int startIndex,
+                                                   int length)
+        {
+            grid.CheckValues(values, startIndex, length);
+
+            JulianDate? epoch = GetAndWriteEpoch(output, grid, startIndex);
+
+            output.WritePropertyName(propertyName);
+            output.WriteStartSequence();
+            int last = startIndex + length;
+            for (int i = startIndex; i < last; ++i)
+            {
+                WriteOffset(output, grid, epoch, i);
                 Cartesian value = values[i].Value;
                 Cartesian velocity = values[i].FirstDerivative;
                 output.WriteValue(value.X);
@@ -329,7 +404,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 UnitCartesian value = values[i];
                 output.WriteValue(value.X);
                 output.WriteValue(value.Y);
@@ -382,7 +457,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 Spherical value = values[i];
                 output.WriteValue(value.Clock);
                 output.WriteValue(value.Cone);
@@ -436,7 +511,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 BoundingRectangle value = values[i];
                 output.WriteValue(value.Left);
                 output.WriteValue(value.Bottom);
@@ -491,7 +566,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 NearFarScalar value = values[i];
                 output.WriteValue(value.NearDistance);
                 output.WriteValue(value.NearValue);
@@ -544,7 +619,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 Bounds value = values[i];
                 output.WriteValue(value.LowerBound);
                 output.WriteValue(value.UpperBound);
@@ -595,7 +670,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 UnitSpherical value = values[i];
                 output.WriteValue(value.Clock);
                 output.WriteValue(value.Cone);
@@ -728,7 +803,45 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
+                Cartographic value = values[i];
+                output.WriteValue(value.Longitude);
+                output.WriteValue(value.Latitude);
+                output.WriteValue(value.Height);
+                output.WriteLineBreak();
+            }
+
+            output.WriteEndSequence();
+        }
+
+        /// <summary>
+        /// Writes time-tagged <see cref="Cartographic"/> values sampled on a shared time grid as an array in [Time, Longitude, Latitude, Height] order.
+        /// Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+        /// The epoch property is written as well.
+        /// </summary>
+        /// <param name="output">The stream to which the values will be written.</param>
+        /// <param name="propertyName">The name of the property to write.</param>
+        /// <param name="grid">The grid of dates at which the value is specified.</param>
+        /// <param name="values">The corresponding value for each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to use in the <paramref name="values"/> collection.</param>
+        /// <param name="length">The number of elements to use from the <paramref name="values"/> collection.</param>
+        public static void WriteCartographic([NotNull] CesiumOutputStream output,
+                                             [NotNull] string propertyName,
+                                             [NotNull] SharedTimeGrid grid,
+                                             [NotNull] IList<Cartographic> values,
+                                             int startIndex,
+                                             int length)
+        {
+            grid.CheckValues(values, startIndex, length);
+
+            JulianDate? epoch = GetAndWriteEpoch(output, grid, startIndex);
+
+            output.WritePropertyName(propertyName);
+            output.WriteStartSequence();
+            int last = startIndex + length;
+            for (int i = startIndex; i < last; ++i)
+            {
+                WriteOffset(output, grid, epoch, i);
                 Cartographic value = values[i];
                 output.WriteValue(value.Longitude);
                 output.WriteValue(value.Latitude);
@@ -841,7 +954,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 Color value = values[i];
                 output.WriteValue(value.R);
                 output.WriteValue(value.G);
@@ -909,7 +1022,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 Color value = values[i];
                 output.WriteValue(value.R / 255.0);
                 output.WriteValue(value.G / 255.0);
@@ -949,7 +1062,42 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
+                output.WriteValue(values[i]);
+                output.WriteLineBreak();
+            }
+
+            output.WriteEndSequence();
+        }
+
+        /// <summary>
+        /// Writes time-tagged floating-point values sampled on a shared time grid as an array in [Time, Value] order.
+        /// Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+        /// The epoch property is written as well.
+        /// </summary>
+        /// <param name="output">The stream to which the values will be written.</param>
+        /// <param name="propertyName">The name of the property to write.</param>
+        /// <param name="grid">The grid of dates at which the value is specified.</param>
+        /// <param name="values">The corresponding value for each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to use in the <paramref name="values"/> collection.</param>
+        /// <param name="length">The number of elements to use from the <paramref name="values"/> collection.</param>
+        public static void WriteDouble([NotNull] CesiumOutputStream output,
+                                       [NotNull] string propertyName,
+                                       [NotNull] SharedTimeGrid grid,
+                                       [NotNull] IList<double> values,
+                                       int startIndex,
+                                       int length)
+        {
+            grid.CheckValues(values, startIndex, length);
+
+            JulianDate? epoch = GetAndWriteEpoch(output, grid, startIndex);
+
+            output.WritePropertyName(propertyName);
+            output.WriteStartSequence();
+            int last = startIndex + length;
+            for (int i = startIndex; i < last; ++i)
+            {
+                WriteOffset(output, grid, epoch, i);
                 output.WriteValue(values[i]);
                 output.WriteLineBreak();
             }
@@ -985,7 +1133,7 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
                 output.WriteValue(values[i]);
                 output.WriteLineBreak();
             }
@@ -1037,7 +1185,47 @@ namespace CesiumLanguageWriter.Advanced
             int last = startIndex + length;
             for (int i = startIndex; i < last; ++i)
             {
-                output.WriteValue(epoch.SecondsDifference(dates[i]));
+                output.WriteValue(SecondsDifference(epoch, dates, i));
+                UnitQuaternion quaternion = values[i];
+                output.WriteValue(quaternion.X);
+                output.WriteValue(quaternion.Y);
+                output.WriteValue(quaternion.Z);
+                output.WriteValue(quaternion.W);
+                output.WriteLineBreak();
+            }
+
+            output.WriteEndSequence();
+        }
+
+        /// <summary>
+        /// Writes the time-tagged <see cref="UnitQuaternion"/> collection sampled on a shared time grid as an array in
+        /// [Time, X, Y, Z, W] order.
+        /// Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+        /// The epoch property is written as well.
+        /// </summary>
+        /// <param name="output">The stream to which the values will be written.</param>
+        /// <param name="propertyName">The name of the property to write.</param>
+        /// <param name="grid">The grid of dates at which the value is specified.</param>
+        /// <param name="values">The corresponding value for each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to use in the <paramref name="values"/> collection.</param>
+        /// <param name="length">The number of elements to use from the <paramref name="values"/> collection.</param>
+        public static void WriteUnitQuaternion([NotNull] CesiumOutputStream output,
+                                               [NotNull] string propertyName,
+                                               [NotNull] SharedTimeGrid grid,
+                                               [NotNull] IList<UnitQuaternion> values,
+                                               int startIndex,
+                                               int length)
+        {
+            grid.CheckValues(values, startIndex, length);
+
+            JulianDate? epoch = GetAndWriteEpoch(output, grid, startIndex);
+
+            output.WritePropertyName(propertyName);
+            output.WriteStartSequence();
+            int last = startIndex + length;
+            for (int i = startIndex; i < last; ++i)
+            {
+                WriteOffset(output, grid, epoch, i);
                 UnitQuaternion quaternion = values[i];
                 output.WriteValue(quaternion.X);
                 output.WriteValue(quaternion.Y);
@@ -1199,7 +1387,10 @@ namespace CesiumLanguageWriter.Advanced
         /// <param name="dates">The collection of dates from which to determine the epoch.</param>
         /// <param name="startIndex">The first index in the collection to use.</param>
         /// <param name="length">The number of items from the collection to use.</param>
-        /// <returns>A suitable epoch determined from the collection.</returns>
+        /// <returns>
+        /// A suitable epoch determined from the collection, converted to <see cref="TimeStandard.InternationalAtomicTime"/>
+        /// so that it is converted only once per write.
+        /// </returns>
         private static JulianDate GetAndWriteEpoch([NotNull] CesiumOutputStream output, [NotNull] IList<JulianDate> dates, int startIndex, int length)
         {
             if (startIndex >= dates.Count)
@@ -1207,8 +1398,48 @@ namespace CesiumLanguageWriter.Advanced
 
             JulianDate epoch = dates[startIndex];
             output.WritePropertyName("epoch");
-            output.WriteValue(CesiumFormattingHelper.ToIso8601(epoch, GetIso8601Format(output)));
-            return epoch;
+            Iso8601Formatter.WriteDate(output, epoch);
+            return epoch.ToInternationalAtomicTime();
+        }
+
+        private static double SecondsDifference(JulianDate epoch, [NotNull] IList<JulianDate> dates, int index)
+        {
+            JulianDateArray array = dates as JulianDateArray;
+            if (array != null)
+            {
+                // Read the day and seconds directly instead of creating a JulianDate.
+                // The epoch is already in TAI, so it is not converted again for each sample.
+                return array.SecondsDifference(epoch.Day, epoch.SecondsOfDay, index);
+            }
+
+            return epoch.SecondsDifference(dates[index]);
+        }
+
+        private static void WriteOffset([NotNull] CesiumOutputStream output, [NotNull] SharedTimeGrid grid, JulianDate? epoch, int index)
+        {
+            if (epoch == null)
+                grid.WriteOffset(output, index);
+            else
+                output.WriteValue(SecondsDifference(epoch.Value, grid.Dates, index));
+        }
+
+        /// <summary>
+        /// Writes the epoch of a range of a shared time grid to the <see cref="CesiumOutputStream"/> as the "epoch" property.
+        /// </summary>
+        /// <param name="output">The stream to which to write the epoch.</param>
+        /// <param name="grid">The grid of dates.</param>
+        /// <param name="startIndex">The index of the first date in the range.</param>
+        /// <returns>
+        /// The first date of the range, converted to <see cref="TimeStandard.InternationalAtomicTime"/>,
+        /// or <see langword="null"/> if the preformatted offsets of the grid apply to the range.
+        /// </returns>
+        private static JulianDate? GetAndWriteEpoch([NotNull] CesiumOutputStream output, [NotNull] SharedTimeGrid grid, int startIndex)
+        {
+            grid.WriteEpoch(output, startIndex);
+            if (startIndex == 0 || startIndex >= grid.Count)
+                return null;
+
+            return grid.Dates[startIndex].ToInternationalAtomicTime();
         }
     }
 }
\ No newline at end of file
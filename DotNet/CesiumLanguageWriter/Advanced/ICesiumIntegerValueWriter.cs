@@ -0,0 +1,15 @@
+﻿namespace CesiumLanguageWriter.Advanced
+{
+    /// <summary>
+    /// An interface to an object that writes <see cref="int"/> values of a CZML property directly.
+    /// This is the non-generic counterpart of <see cref="ICesiumValuePropertyWriter{T}"/>.
+    /// </summary>
+    public interface ICesiumIntegerValueWriter : ICesiumPropertyWriter
+    {
+        /// <summary>
+        /// Writes the value of the property for this interval of time.
+        /// </summary>
+        /// <param name="value">The value of the property.</param>
+        void WriteValue(int value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,351 @@
+﻿using System;
+using System.Globalization;
+using JetBrains.Annotations;
+
+namespace CesiumLanguageWriter.Advanced
+{
+    /// <summary>
+    /// Formats <see cref="JulianDate">JulianDates</see> as ISO 8601 strings, writing the digits directly into
+    /// a character buffer.  The output is identical to <see cref="CesiumFormattingHelper.ToIso8601"/>, including
+    /// the clamping of dates to the range of <see cref="GregorianDate"/>, but no intermediate
+    /// <see cref="GregorianDate"/>, format pattern or string is created.
+    /// </summary>
+    public static class Iso8601Formatter
+    {
+        /// <summary>
+        /// The maximum number of characters written for a single date, in any format.
+        /// </summary>
+        public const int MaximumDateLength = 40;
+
+        /// <summary>
+        /// The maximum number of characters written for an interval, in any format.
+        /// </summary>
+        public const int MaximumIntervalLength = MaximumDateLength * 2 + 1;
+
+        /// <summary>
+        /// Formats a date as an ISO 8601 string.
+        /// </summary>
+        /// <param name="date">The date to format.</param>
+        /// <param name="format">The format to use.</param>
+        /// <param name="buffer">The buffer to receive the characters, which must have room for <see cref="MaximumDateLength"/> characters after <paramref name="offset"/>.</param>
+        /// <param name="offset">The index in the buffer at which to write the first character.</param>
+        /// <returns>The index in the buffer following the last character written.</returns>
+        public static int Format(JulianDate date, Iso8601Format format, [NotNull] char[] buffer, int offset)
+        {
+            if (buffer == null)
+                throw new ArgumentNullException("buffer");
+
+            // If the JulianDate is outside the range of supported CZML values,
+            // clamp it to the minimum/maximum CZML ISO8601 value.
+            if (date <= s_minimumDate)
+                return Copy(s_minimumStrings[(int)format], buffer, offset);
+
+            if (date >= s_maximumDate)
+                return Copy(s_maximumStrings[(int)format], buffer, offset);
+
+            bool isLeapSecond = false;
+            int utcDay = date.Day;
+            double secondsOfDay = date.SecondsOfDay;
+            if (date.Standard != TimeStandard.CoordinatedUniversalTime)
+            {
+                LeapSeconds leapSeconds = LeapSeconds.Instance;
+                double taiMinusUtc = leapSeconds.GetTaiMinusUtcOfTai(utcDay, secondsOfDay);
+                if (double.IsNaN(taiMinusUtc))
+                {
+                    // During a leap second, format the second before it and add the second back.
+                    isLeapSecond = true;
+                    secondsOfDay -= 1.0;
+                    if (secondsOfDay < 0.0)
+                    {
+                        --utcDay;
+                        secondsOfDay += TimeConstants.SecondsPerDay;
+                    }
+
+                    taiMinusUtc = leapSeconds.GetTaiMinusUtcOfTai(utcDay, secondsOfDay);
+                }
+
+                secondsOfDay -= taiMinusUtc;
+
+                // Normalize the same way as JulianDate.
+                if (secondsOfDay < 0.0)
+                {
+                    int wholeDays = (int)(secondsOfDay / TimeConstants.SecondsPerDay) - 1;
+                    utcDay += wholeDays;
+                    secondsOfDay -= TimeConstants.SecondsPerDay * wholeDays;
+                    if (secondsOfDay > TimeConstants.NextBefore86400)
+                    {
+                        ++utcDay;
+                        secondsOfDay = 0.0;
+                    }
+                }
+                else if (secondsOfDay >= TimeConstants.SecondsPerDay)
+                {
+                    int wholeDays = (int)(secondsOfDay / TimeConstants.SecondsPerDay);
+                    utcDay += wholeDays;
+                    secondsOfDay -= TimeConstants.SecondsPerDay * wholeDays;
+                }
+            }
+
+            // JulianDates are noon-based.
+            int julianDayNumber = secondsOfDay >= 43200.0 ? utcDay + 1 : utcDay;
+
+            int hour = (int)Math.Floor(secondsOfDay / 3600.0);
+            double remainingSeconds = secondsOfDay - hour * 3600.0;
+            int minute = (int)Math.Floor(remainingSeconds / 60.0);
+            double second = secondsOfDay - (hour * 3600.0 + minute * 60.0);
+
+            if (isLeapSecond)
+                second += 1.0;
+
+            hour += 12;
+            if (hour > 23)
+                hour -= 24;
+
+            return Format(julianDayNumber, hour, minute, second, format, buffer, offset);
+        }
+
+        /// <summary>
+        /// Formats an interval as an ISO 8601 interval string.
+        /// </summary>
+        /// <param name="start">The start of the interval.</param>
+        /// <param name="stop">The end of the interval.</param>
+        /// <param name="format">The format to use.</param>
+        /// <param name="buffer">The buffer to receive the characters, which must have room for <see cref="MaximumIntervalLength"/> characters after <paramref name="offset"/>.</param>
+        /// <param name="offset">The index in the buffer at which to write the first character.</param>
+        /// <returns>The index in the buffer following the last character written.</returns>
+        public static int FormatInterval(JulianDate start, JulianDate stop, Iso8601Format format, [NotNull] char[] buffer, int offset)
+        {
+            offset = Format(start, format, buffer, offset);
+            buffer[offset++] = '/';
+            return Format(stop, format, buffer, offset);
+        }
+
+        /// <summary>
+        /// Formats a date as an ISO 8601 string.
+        /// </summary>
+        /// <param name="date">The date to format.</param>
+        /// <param name="format">The format to use.</param>
+        /// <returns>The formatted date.</returns>
+        [NotNull]
+        public static string ToIso8601(JulianDate date, Iso8601Format format)
+        {
+            char[] buffer = GetBuffer();
+            int length = Format(date, format, buffer, 0);
+            return new string(buffer, 0, length);
+        }
+
+        /// <summary>
+        /// Formats an interval as an ISO 8601 interval string.
+        /// </summary>
+        /// <param name="start">The start of the interval.</param>
+        /// <param name="stop">The end of the interval.</param>
+        /// <param name="format">The format to use.</param>
+        /// <returns>The formatted interval.</returns>
+        [NotNull]
+        public static string ToIso8601Interval(JulianDate start, JulianDate stop, Iso8601Format format)
+        {
+            char[] buffer = GetBuffer();
+            int length = FormatInterval(start, stop, format, buffer, 0);
+            return new string(buffer, 0, length);
+        }
+
+        /// <summary>
+        /// Writes a date as an ISO 8601 string value, in the format matching the stream.
+        /// </summary>
+        /// <param name="output">The stream to which to write the value.</param>
+        /// <param name="date">The date to write.</param>
+        public static void WriteDate([NotNull] CesiumOutputStream output, JulianDate date)
+        {
+            char[] buffer = GetBuffer();
+            int length = Format(date, GetFormat(output), buffer, 0);
+            output.WriteValue(buffer, 0, length);
+        }
+
+        /// <summary>
+        /// Writes an interval as an ISO 8601 interval string value, in the format matching the stream.
+        /// </summary>
+        /// <param name="output">The stream to which to write the value.</param>
+        /// <param name="start">The start of the interval.</param>
+        /// <param name="stop">The end of the interval.</param>
+        public static void WriteInterval([NotNull] CesiumOutputStream output, JulianDate start, JulianDate stop)
+        {
+            char[] buffer = GetBuffer();
+            int length = FormatInterval(start, stop, GetFormat(output), buffer, 0);
+            output.WriteValue(buffer, 0, length);
+        }
+
+        private static Iso8601Format GetFormat([NotNull] CesiumOutputStream output)
+        {
+            return output.PrettyFormatting ? Iso8601Format.Extended : Iso8601Format.Compact;
+        }
+
+        [NotNull]
+        private static char[] GetBuffer()
+        {
+            char[] buffer = s_buffer;
+            if (buffer == null)
+                buffer = s_buffer = new char[MaximumIntervalLength];
+            return buffer;
+        }
+
+        private static int Format(int julianDayNumber, int hour, int minute, double second, Iso8601Format format, [NotNull] char[] buffer, int offset)
+        {
+            YearMonthDay yearMonthDay = YearMonthDay.FromJulianDayNumber(julianDayNumber);
+            int year = yearMonthDay.Year;
+            int month = yearMonthDay.Month;
+            int day = yearMonthDay.Day;
+            bool hasSeconds = second != 0.0;
+
+            switch (format)
+            {
+                case Iso8601Format.Basic:
+                    offset = WriteDigits(year, 4, buffer, offset);
+                    offset = WriteDigits(month, 2, buffer, offset);
+                    offset = WriteDigits(day, 2, buffer, offset);
+                    buffer[offset++] = 'T';
+                    offset = WriteDigits(hour, 2, buffer, offset);
+                    offset = WriteDigits(minute, 2, buffer, offset);
+                    offset = WriteSeconds(second, buffer, offset);
+                    break;
+                case Iso8601Format.Extended:
+                    offset = WriteDigits(year, 4, buffer, offset);
+                    buffer[offset++] = '-';
+                    offset = WriteDigits(month, 2, buffer, offset);
+                    buffer[offset++] = '-';
+                    offset = WriteDigits(day, 2, buffer, offset);
+                    buffer[offset++] = 'T';
+                    offset = WriteDigits(hour, 2, buffer, offset);
+                    buffer[offset++] = ':';
+                    offset = WriteDigits(minute, 2, buffer, offset);
+                    buffer[offset++] = ':';
+                    offset = WriteSeconds(second, buffer, offset);
+                    break;
+                case Iso8601Format.Compact:
+                    offset = WriteDigits(year, 4, buffer, offset);
+                    offset = WriteDigits(month, 2, buffer, offset);
+                    offset = WriteDigits(day, 2, buffer, offset);
+                    buffer[offset++] = 'T';
+                    offset = WriteDigits(hour, 2, buffer, offset);
+                    if (minute != 0 || hasSeconds)
+                        offset = WriteDigits(minute, 2, buffer, offset);
+                    if (hasSeconds)
+                        offset = WriteSeconds(second, buffer, offset);
+                    break;
+                default:
+                    throw new ArgumentException(CesiumLocalization.UnknownEnumerationValue, "format");
+            }
+
+            buffer[offset++] = 'Z';
+            return offset;
+        }
+
+        private static int WriteDigits(int value, int digits, [NotNull] char[] buffer, int offset)
+        {
+            for (int i = offset + digits - 1; i >= offset; --i)
+            {
+                buffer[i] = (char)('0' + value % 10);
+                value /= 10;
+            }
+
+            return offset + digits;
+        }
+
+        /// <summary>
+        /// Writes whole seconds and, if there are any, up to 15 digits of fractional seconds, matching the
+        /// digits of the round-trip representation of the seconds, truncated, with trailing zeros removed.
+        /// </summary>
+        private static int WriteSeconds(double second, [NotNull] char[] buffer, int offset)
+        {
+            int wholeSeconds = (int)second;
+            offset = WriteDigits(wholeSeconds, 2, buffer, offset);
+            if (second == wholeSeconds)
+                return offset;
+
+            // Find the shortest decimal which reproduces the seconds exactly.  Short fractions, such as
+            // milliseconds, are found directly; anything longer uses the round-trip formatting of the seconds.
+            for (int digits = 1; digits <= MaximumDirectFractionDigits; ++digits)
+            {
+                long scaled = (long)Math.Round(second * s_powersOfTen[digits]);
+                if (scaled / s_powersOfTen[digits] == second)
+                {
+                    long fraction = scaled - wholeSeconds * (long)s_powersOfTen[digits];
+                    while (fraction % 10 == 0)
+                    {
+                        fraction /= 10;
+                        --digits;
+                    }
+
+                    buffer[offset++] = '.';
+                    for (int i = offset + digits - 1; i >= offset; --i)
+                    {
+                        buffer[i] = (char)('0' + fraction % 10);
+                        fraction /= 10;
+                    }
+
+                    return offset + digits;
+                }
+            }
+
+            return WriteRoundTripFraction(second, buffer, offset);
+        }
+
+        private static int WriteRoundTripFraction(double second, [NotNull] char[] buffer, int offset)
+        {
+            NumberFormatInfo nfi = NumberFormatInfo.InvariantInfo;
+            string formattedSeconds = second.ToString("R", CultureInfo.InvariantCulture);
+            formattedSeconds = StringFormatting.ToNonExponentialNotation(nfi, formattedSeconds);
+            int indexOfDecimalPoint = formattedSeconds.IndexOf('.');
+            if (indexOfDecimalPoint < 0)
+                return offset;
+
+            int end = Math.Min(formattedSeconds.Length, indexOfDecimalPoint + 1 + MaximumFractionDigits);
+            while (end > indexOfDecimalPoint + 1 && formattedSeconds[end - 1] == '0')
+            {
+                --end;
+            }
+
+            if (end == indexOfDecimalPoint + 1)
+                return offset;
+
+            formattedSeconds.CopyTo(indexOfDecimalPoint, buffer, offset, end - indexOfDecimalPoint);
+            return offset + end - indexOfDecimalPoint;
+        }
+
+        private static int Copy([NotNull] string value, [NotNull] char[] buffer, int offset)
+        {
+            value.CopyTo(0, buffer, offset, value.Length);
+            return offset + value.Length;
+        }
+
+        [NotNull]
+        private static string[] CreateClampedStrings(GregorianDate date)
+        {
+            Iso8601Format[] formats = { Iso8601Format.Basic, Iso8601Format.Extended, Iso8601Format.Compact };
+            string[] result = new string[formats.Length];
+            foreach (Iso8601Format format in formats)
+            {
+                result[(int)format] = date.ToIso8601String(format);
+            }
+
+            return result;
+        }
+
+        private const int MaximumFractionDigits = 15;
+        private const int MaximumDirectFractionDigits = 9;
+
+        [NotNull]
+        private static readonly double[] s_powersOfTen = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9 };
+
+        private static readonly JulianDate s_minimumDate = GregorianDate.MinValue.ToJulianDate();
+        private static readonly JulianDate s_maximumDate = GregorianDate.MaxValue.ToJulianDate();
+
+        [NotNull]
+        private static readonly string[] s_minimumStrings = CreateClampedStrings(GregorianDate.MinValue);
+
+        [NotNull]
+        private static readonly string[] s_maximumStrings = CreateClampedStrings(GregorianDate.MaxValue);
+
+        [ThreadStatic]
+        private static char[] s_buffer;
+    }
+}
\ No newline at end of file
@@ -45,6 +45,33 @@ namespace CesiumLanguageWriter
             set { m_prettyFormatting = value; }
         }
 
+        /// <summary>
+        /// Resets this stream to its initial state and directs further output to the given writer,
+        /// so that the stream can be reused to write a new document.  The value of <see cref="PrettyFormatting"/> is retained.
+        /// </summary>
+        /// <param name="writer">The writer to which data will be written.</param>
+        public void Reset([NotNull] TextWriter writer)
+        {
+            if (writer == null)
+                throw new ArgumentNullException("writer");
+
+            m_writer = writer;
+            Reset();
+        }
+
+        /// <summary>
+        /// Resets this stream to its initial state, as if nothing had been written to it,
+        /// while continuing to write to the same writer.  The value of <see cref="PrettyFormatting"/> is retained.
+        /// </summary>
+        public void Reset()
+        {
+            m_firstInStream = true;
+            m_firstInContainer = true;
+            m_inProperty = false;
+            m_nextValueOnNewLine = false;
+            m_indent = 0;
+        }
+
         /// <summary>
         /// Writes the start of an object.
         /// </summary>
@@ -189,6 +216,51 @@ namespace CesiumLanguageWriter
             WriteRawValueString(value ? "true" : "false");
         }
 
+        /// <summary>
+        /// Writes the value of a property or element in a sequence as a string, taking its characters from a buffer.
+        /// </summary>
+        /// <param name="value">The buffer containing the characters of the string.</param>
+        /// <param name="offset">The index of the first character of the string.</param>
+        /// <param name="length">The number of characters in the string.</param>
+        public virtual void WriteValue([NotNull] char[] value, int offset, int length)
+        {
+            if (value == null)
+                throw new ArgumentNullException("value");
+
+            StartNewValue();
+            m_firstInContainer = false;
+            m_inProperty = false;
+
+            m_writer.Write('"');
+            int last = offset + length;
+            for (int i = offset; i < last; ++i)
+            {
+                char c = value[i];
+                if (c <= '\u001f' || c == '"' || c == '\\' || c == '\u0085' || c == '\u2028' || c == '\u2029')
+                {
+                    WriteEscapedString(new string(value, offset, length));
+                    m_writer.Write('"');
+                    return;
+                }
+            }
+
+            m_writer.Write(value, offset, length);
+            m_writer.Write('"');
+        }
+
+        /// <summary>
+        /// Writes the value of a property or element in a sequence which has already been formatted as JSON,
+        /// such as a number formatted once and written many times.  The value is written without escaping.
+        /// </summary>
+        /// <param name="value">The formatted value to write.</param>
+        internal void WriteRawValue([NotNull] string value)
+        {
+            if (value == null)
+                throw new ArgumentNullException("value");
+
+            WriteRawValueString(value);
+        }
+
         private void WriteRawValueString(string s)
         {
             StartNewValue();
@@ -218,6 +290,48 @@ namespace CesiumLanguageWriter
             m_nextValueOnNewLine = true;
         }
 
+        /// <summary>
+        /// Writes the properties of a <see cref="CesiumPacketFragment"/>, which were written to another stream
+        /// inside an object at the first level of indentation, re-indenting each line to the current level.
+        /// </summary>
+        internal void WriteFragment([NotNull] string text, [NotNull] int[] lineStarts, bool nextValueOnNewLine)
+        {
+            m_firstInStream = false;
+            if (!m_firstInContainer)
+                m_writer.Write(',');
+
+            int extraIndent = m_indent - IndentLevel;
+            if (lineStarts.Length == 0 || extraIndent <= 0)
+            {
+                m_writer.Write(text);
+            }
+            else
+            {
+                int start = 0;
+                foreach (int lineStart in lineStarts)
+                {
+                    m_writer.Write(text.Substring(start, lineStart - start));
+                    for (int i = 0; i < extraIndent; ++i)
+                    {
+                        m_writer.Write(' ');
+                    }
+
+                    start = lineStart;
+                }
+
+                m_writer.Write(text.Substring(start));
+            }
+
+            m_firstInContainer = false;
+            m_inProperty = false;
+            m_nextValueOnNewLine = nextValueOnNewLine;
+        }
+
+        internal bool NextValueOnNewLine
+        {
+            get { return m_nextValueOnNewLine; }
+        }
+
         private void WriteEscapedString([NotNull] string value)
         {
             int lastWritePosition = 0;
@@ -369,7 +483,7 @@ namespace CesiumLanguageWriter
         }
 
         [NotNull]
-        private readonly TextWriter m_writer;
+        private TextWriter m_writer;
         private bool m_firstInStream = true;
         private bool m_firstInContainer = true;
         private bool m_inProperty;
@@ -0,0 +1,140 @@
+﻿using System;
+using System.IO;
+using JetBrains.Annotations;
+
+namespace CesiumLanguageWriter
+{
+    /// <summary>
+    /// A block of packet properties, such as a <c>billboard</c> or <c>label</c> shared by many objects,
+    /// which is written once when the fragment is created and then copied into each packet that uses it.
+    /// Writing a fragment produces the same output as writing its properties with the packet writer, including
+    /// the separating commas and, when the stream uses pretty formatting, the line breaks and indentation.
+    /// <para>
+    /// Instances are immutable and may be shared between threads and documents.
+    /// </para>
+    /// </summary>
+    public sealed class CesiumPacketFragment
+    {
+        /// <summary>
+        /// Initializes a new instance by capturing the properties written by a callback.
+        /// </summary>
+        /// <param name="callback">A callback that writes the properties of the fragment to the packet writer it is given.
+        /// The callback must close every writer it opens, and must not close the packet writer.</param>
+        public CesiumPacketFragment([NotNull] CesiumPacketFragmentCallback callback)
+        {
+            if (callback == null)
+                throw new ArgumentNullException("callback");
+
+            m_compact = new Rendering(callback, false);
+            m_pretty = new Rendering(callback, true);
+        }
+
+        /// <summary>
+        /// Gets a value indicating whether the fragment contains no properties.
+        /// </summary>
+        public bool IsEmpty
+        {
+            get { return m_compact.Text.Length == 0; }
+        }
+
+        /// <summary>
+        /// Writes the properties of this fragment to an open packet.
+        /// </summary>
+        /// <param name="packet">The packet to which to write the properties.</param>
+        /// <exception cref="InvalidOperationException">The packet is not open.</exception>
+        public void WriteTo([NotNull] PacketCesiumWriter packet)
+        {
+            if (packet == null)
+                throw new ArgumentNullException("packet");
+
+            WriteTo(packet.Output);
+        }
+
+        /// <summary>
+        /// Writes the properties of this fragment to a stream which is positioned inside an object,
+        /// where the next property of the object would be written.
+        /// </summary>
+        /// <param name="output">The stream to which to write the properties.</param>
+        public void WriteTo([NotNull] CesiumOutputStream output)
+        {
+            if (output == null)
+                throw new ArgumentNullException("output");
+
+            if (IsEmpty)
+                return;
+
+            Rendering rendering = output.PrettyFormatting ? m_pretty : m_compact;
+            output.WriteFragment(rendering.Text, rendering.LineStarts, rendering.NextValueOnNewLine);
+        }
+
+        /// <summary>
+        /// Gets the properties of this fragment as they are written to a compact stream.
+        /// </summary>
+        /// <returns>The compact JSON text of the properties.</returns>
+        public override string ToString()
+        {
+            return m_compact.Text;
+        }
+
+        private sealed class Rendering
+        {
+            public Rendering([NotNull] CesiumPacketFragmentCallback callback, bool prettyFormatting)
+            {
+                StringWriter stringWriter = new StringWriter();
+                CesiumOutputStream output = new CesiumOutputStream(stringWriter, prettyFormatting);
+                PacketCesiumWriter packet = new CesiumStreamWriter().OpenPacket(output);
+                int start = stringWriter.GetStringBuilder().Length;
+                callback(packet);
+                m_text = stringWriter.GetStringBuilder().ToString(start, stringWriter.GetStringBuilder().Length - start);
+                m_nextValueOnNewLine = output.NextValueOnNewLine;
+
+                int count = 0;
+                for (int i = 0; i < m_text.Length; ++i)
+                {
+                    if (m_text[i] == '\n')
+                        ++count;
+                }
+
+                // Strings are escaped, so every line feed in the text is a line break written by the stream.
+                m_lineStarts = new int[count];
+                count = 0;
+                for (int i = 0; i < m_text.Length; ++i)
+                {
+                    if (m_text[i] == '\n')
+                        m_lineStarts[count++] = i + 1;
+                }
+            }
+
+            [NotNull]
+            public string Text
+            {
+                get { return m_text; }
+            }
+
+            [NotNull]
+            public int[] LineStarts
+            {
+                get { return m_lineStarts; }
+            }
+
+            public bool NextValueOnNewLine
+            {
+                get { return m_nextValueOnNewLine; }
+            }
+
+            [NotNull]
+            private readonly string m_text;
+
+            [NotNull]
+            private readonly int[] m_lineStarts;
+
+            private readonly bool m_nextValueOnNewLine;
+        }
+
+        [NotNull]
+        private readonly Rendering m_compact;
+
+        [NotNull]
+        private readonly Rendering m_pretty;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+﻿using JetBrains.Annotations;
+
+namespace CesiumLanguageWriter
+{
+    /// <summary>
+    /// A callback that writes the properties captured by a <see cref="CesiumPacketFragment"/>.
+    /// </summary>
+    /// <param name="packet">The packet writer to which to write the properties.  The packet is already open.</param>
+    public delegate void CesiumPacketFragmentCallback([NotNull] PacketCesiumWriter packet);
+}
\ No newline at end of file
@@ -17,7 +17,7 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PacketCesiumWriter OpenPacket([NotNull] CesiumOutputStream output)
         {
-            PacketCesiumWriter packetWriter = m_packetWriter.Value;
+            PacketCesiumWriter packetWriter = PacketWriter;
             packetWriter.Open(output);
             return packetWriter;
         }
@@ -31,10 +31,24 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PacketCesiumWriter PacketWriter
         {
-            get { return m_packetWriter.Value; }
+            get
+            {
+                if (m_packetWriter == null)
+                    m_packetWriter = new PacketCesiumWriter();
+                return m_packetWriter;
+            }
         }
 
-        [NotNull]
-        private readonly Lazy<PacketCesiumWriter> m_packetWriter = new Lazy<PacketCesiumWriter>(() => new PacketCesiumWriter(), false);
+        /// <summary>
+        /// Resets the writers used by this instance, so that this instance can be reused
+        /// to write to a new stream, even if a previous packet was not closed.
+        /// </summary>
+        public void Reset()
+        {
+            if (m_packetWriter != null)
+                m_packetWriter.Reset();
+        }
+
+        private PacketCesiumWriter m_packetWriter;
     }
 }
\ No newline at end of file
@@ -45,18 +45,10 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asUnitCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asUnitSpherical;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asReference;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asVelocityReference;
+        private CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asUnitCartesian;
+        private CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asUnitSpherical;
+        private CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asReference;
+        private CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asVelocityReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -65,10 +57,6 @@ namespace CesiumLanguageWriter
         public AlignedAxisCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asUnitCartesian = CreateAsUnitCartesian();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asReference = CreateAsReference();
-            m_asVelocityReference = CreateAsVelocityReference();
         }
 
         /// <summary>
@@ -78,10 +66,6 @@ namespace CesiumLanguageWriter
         protected AlignedAxisCesiumWriter([NotNull] AlignedAxisCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asUnitCartesian = CreateAsUnitCartesian();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asReference = CreateAsReference();
-            m_asVelocityReference = CreateAsVelocityReference();
         }
 
         /// <inheritdoc/>
@@ -281,13 +265,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter> AsUnitCartesian()
         {
-            return m_asUnitCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter>> CreateAsUnitCartesian()
-        {
-            return new Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter>>(CreateUnitCartesian3, false);
+            if (m_asUnitCartesian == null)
+                m_asUnitCartesian = CreateUnitCartesian3();
+            return m_asUnitCartesian;
         }
 
         [NotNull]
@@ -303,13 +283,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter> AsUnitSpherical()
         {
-            return m_asUnitSpherical.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter>> CreateAsUnitSpherical()
-        {
-            return new Lazy<CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter>>(CreateUnitSpherical, false);
+            if (m_asUnitSpherical == null)
+                m_asUnitSpherical = CreateUnitSpherical();
+            return m_asUnitSpherical;
         }
 
         [NotNull]
@@ -325,13 +301,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -347,13 +319,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> AsVelocityReference()
         {
-            return m_asVelocityReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> CreateAsVelocityReference()
-        {
-            return new Lazy<CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>>(CreateVelocityReference, false);
+            if (m_asVelocityReference == null)
+                m_asVelocityReference = CreateVelocityReference();
+            return m_asVelocityReference;
         }
 
         [NotNull]
@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter>> m_asArcType;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter>> m_asReference;
+        private CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter> m_asArcType;
+        private CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public ArcTypeCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asArcType = CreateAsArcType();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected ArcTypeCesiumWriter([NotNull] ArcTypeCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asArcType = CreateAsArcType();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter> AsArcType()
         {
-            return m_asArcType.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter>> CreateAsArcType()
-        {
-            return new Lazy<CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter>>(CreateArcType, false);
+            if (m_asArcType == null)
+                m_asArcType = CreateArcType();
+            return m_asArcType;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter>> m_asNumber;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter>> m_asReference;
+        private CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter> m_asNumber;
+        private CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public ArticulationCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asNumber = CreateAsNumber();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected ArticulationCesiumWriter([NotNull] ArticulationCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asNumber = CreateAsNumber();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -179,13 +171,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter> AsNumber()
         {
-            return m_asNumber.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter>> CreateAsNumber()
-        {
-            return new Lazy<CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter>>(CreateDouble, false);
+            if (m_asNumber == null)
+                m_asNumber = CreateDouble();
+            return m_asNumber;
         }
 
         [NotNull]
@@ -201,13 +189,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
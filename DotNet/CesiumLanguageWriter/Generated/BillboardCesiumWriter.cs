@@ -136,66 +136,26 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DisableDepthTestDistancePropertyName = "disableDepthTestDistance";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<UriCesiumWriter> m_image = new Lazy<UriCesiumWriter>(() => new UriCesiumWriter(ImagePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_scale = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ScalePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PixelOffsetCesiumWriter> m_pixelOffset = new Lazy<PixelOffsetCesiumWriter>(() => new PixelOffsetCesiumWriter(PixelOffsetPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<EyeOffsetCesiumWriter> m_eyeOffset = new Lazy<EyeOffsetCesiumWriter>(() => new EyeOffsetCesiumWriter(EyeOffsetPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HorizontalOriginCesiumWriter> m_horizontalOrigin = new Lazy<HorizontalOriginCesiumWriter>(() => new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<VerticalOriginCesiumWriter> m_verticalOrigin = new Lazy<VerticalOriginCesiumWriter>(() => new VerticalOriginCesiumWriter(VerticalOriginPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_rotation = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(RotationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<AlignedAxisCesiumWriter> m_alignedAxis = new Lazy<AlignedAxisCesiumWriter>(() => new AlignedAxisCesiumWriter(AlignedAxisPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_sizeInMeters = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(SizeInMetersPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(WidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_height = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(HeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_scaleByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(ScaleByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_translucencyByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_pixelOffsetScaleByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BoundingRectangleCesiumWriter> m_imageSubRegion = new Lazy<BoundingRectangleCesiumWriter>(() => new BoundingRectangleCesiumWriter(ImageSubRegionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_disableDepthTestDistance = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(DisableDepthTestDistancePropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private UriCesiumWriter m_image;
+        private DoubleCesiumWriter m_scale;
+        private PixelOffsetCesiumWriter m_pixelOffset;
+        private EyeOffsetCesiumWriter m_eyeOffset;
+        private HorizontalOriginCesiumWriter m_horizontalOrigin;
+        private VerticalOriginCesiumWriter m_verticalOrigin;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private ColorCesiumWriter m_color;
+        private DoubleCesiumWriter m_rotation;
+        private AlignedAxisCesiumWriter m_alignedAxis;
+        private BooleanCesiumWriter m_sizeInMeters;
+        private DoubleCesiumWriter m_width;
+        private DoubleCesiumWriter m_height;
+        private NearFarScalarCesiumWriter m_scaleByDistance;
+        private NearFarScalarCesiumWriter m_translucencyByDistance;
+        private NearFarScalarCesiumWriter m_pixelOffsetScaleByDistance;
+        private BoundingRectangleCesiumWriter m_imageSubRegion;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private DoubleCesiumWriter m_disableDepthTestDistance;
 
         /// <summary>
         /// Initializes a new instance.
@@ -227,7 +187,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -308,7 +273,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public UriCesiumWriter ImageWriter
         {
-            get { return m_image.Value; }
+            get
+            {
+                if (m_image == null)
+                    m_image = AddChildWriter(new UriCesiumWriter(ImagePropertyName));
+                return m_image;
+            }
         }
 
         /// <summary>
@@ -466,7 +436,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ScaleWriter
         {
-            get { return m_scale.Value; }
+            get
+            {
+                if (m_scale == null)
+                    m_scale = AddChildWriter(new DoubleCesiumWriter(ScalePropertyName));
+                return m_scale;
+            }
         }
 
         /// <summary>
@@ -575,7 +550,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PixelOffsetCesiumWriter PixelOffsetWriter
         {
-            get { return m_pixelOffset.Value; }
+            get
+            {
+                if (m_pixelOffset == null)
+                    m_pixelOffset = AddChildWriter(new PixelOffsetCesiumWriter(PixelOffsetPropertyName));
+                return m_pixelOffset;
+            }
         }
 
         /// <summary>
@@ -697,7 +677,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public EyeOffsetCesiumWriter EyeOffsetWriter
         {
-            get { return m_eyeOffset.Value; }
+            get
+            {
+                if (m_eyeOffset == null)
+                    m_eyeOffset = AddChildWriter(new EyeOffsetCesiumWriter(EyeOffsetPropertyName));
+                return m_eyeOffset;
+            }
         }
 
         /// <summary>
@@ -806,7 +791,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HorizontalOriginCesiumWriter HorizontalOriginWriter
         {
-            get { return m_horizontalOrigin.Value; }
+            get
+            {
+                if (m_horizontalOrigin == null)
+                    m_horizontalOrigin = AddChildWriter(new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName));
+                return m_horizontalOrigin;
+            }
         }
 
         /// <summary>
@@ -887,7 +877,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public VerticalOriginCesiumWriter VerticalOriginWriter
         {
-            get { return m_verticalOrigin.Value; }
+            get
+            {
+                if (m_verticalOrigin == null)
+                    m_verticalOrigin = AddChildWriter(new VerticalOriginCesiumWriter(VerticalOriginPropertyName));
+                return m_verticalOrigin;
+            }
         }
 
         /// <summary>
@@ -968,7 +963,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -1049,7 +1049,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -1228,7 +1233,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter RotationWriter
         {
-            get { return m_rotation.Value; }
+            get
+            {
+                if (m_rotation == null)
+                    m_rotation = AddChildWriter(new DoubleCesiumWriter(RotationPropertyName));
+                return m_rotation;
+            }
         }
 
         /// <summary>
@@ -1337,7 +1347,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public AlignedAxisCesiumWriter AlignedAxisWriter
         {
-            get { return m_alignedAxis.Value; }
+            get
+            {
+                if (m_alignedAxis == null)
+                    m_alignedAxis = AddChildWriter(new AlignedAxisCesiumWriter(AlignedAxisPropertyName));
+                return m_alignedAxis;
+            }
         }
 
         /// <summary>
@@ -1536,7 +1551,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter SizeInMetersWriter
         {
-            get { return m_sizeInMeters.Value; }
+            get
+            {
+                if (m_sizeInMeters == null)
+                    m_sizeInMeters = AddChildWriter(new BooleanCesiumWriter(SizeInMetersPropertyName));
+                return m_sizeInMeters;
+            }
         }
 
         /// <summary>
@@ -1617,7 +1637,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter WidthWriter
         {
-            get { return m_width.Value; }
+            get
+            {
+                if (m_width == null)
+                    m_width = AddChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+                return m_width;
+            }
         }
 
         /// <summary>
@@ -1726,7 +1751,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter HeightWriter
         {
-            get { return m_height.Value; }
+            get
+            {
+                if (m_height == null)
+                    m_height = AddChildWriter(new DoubleCesiumWriter(HeightPropertyName));
+                return m_height;
+            }
         }
 
         /// <summary>
@@ -1835,7 +1865,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter ScaleByDistanceWriter
         {
-            get { return m_scaleByDistance.Value; }
+            get
+            {
+                if (m_scaleByDistance == null)
+                    m_scaleByDistance = AddChildWriter(new NearFarScalarCesiumWriter(ScaleByDistancePropertyName));
+                return m_scaleByDistance;
+            }
         }
 
         /// <summary>
@@ -1959,7 +1994,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter TranslucencyByDistanceWriter
         {
-            get { return m_translucencyByDistance.Value; }
+            get
+            {
+                if (m_translucencyByDistance == null)
+                    m_translucencyByDistance = AddChildWriter(new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName));
+                return m_translucencyByDistance;
+            }
         }
 
         /// <summary>
@@ -2083,7 +2123,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter PixelOffsetScaleByDistanceWriter
         {
-            get { return m_pixelOffsetScaleByDistance.Value; }
+            get
+            {
+                if (m_pixelOffsetScaleByDistance == null)
+                    m_pixelOffsetScaleByDistance = AddChildWriter(new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName));
+                return m_pixelOffsetScaleByDistance;
+            }
         }
 
         /// <summary>
@@ -2207,7 +2252,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BoundingRectangleCesiumWriter ImageSubRegionWriter
         {
-            get { return m_imageSubRegion.Value; }
+            get
+            {
+                if (m_imageSubRegion == null)
+                    m_imageSubRegion = AddChildWriter(new BoundingRectangleCesiumWriter(ImageSubRegionPropertyName));
+                return m_imageSubRegion;
+            }
         }
 
         /// <summary>
@@ -2316,7 +2366,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -2438,7 +2493,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter DisableDepthTestDistanceWriter
         {
-            get { return m_disableDepthTestDistance.Value; }
+            get
+            {
+                if (m_disableDepthTestDistance == null)
+                    m_disableDepthTestDistance = AddChildWriter(new DoubleCesiumWriter(DisableDepthTestDistancePropertyName));
+                return m_disableDepthTestDistance;
+            }
         }
 
         /// <summary>
@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter>> m_asBoolean;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter>> m_asReference;
+        private CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter> m_asBoolean;
+        private CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public BooleanCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asBoolean = CreateAsBoolean();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected BooleanCesiumWriter([NotNull] BooleanCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asBoolean = CreateAsBoolean();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter> AsBoolean()
         {
-            return m_asBoolean.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter>> CreateAsBoolean()
-        {
-            return new Lazy<CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter>>(CreateBoolean, false);
+            if (m_asBoolean == null)
+                m_asBoolean = CreateBoolean();
+            return m_asBoolean;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter>> m_asBoundingRectangle;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter>> m_asReference;
+        private CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter> m_asBoundingRectangle;
+        private CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public BoundingRectangleCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asBoundingRectangle = CreateAsBoundingRectangle();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected BoundingRectangleCesiumWriter([NotNull] BoundingRectangleCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asBoundingRectangle = CreateAsBoundingRectangle();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -173,13 +165,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter> AsBoundingRectangle()
         {
-            return m_asBoundingRectangle.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter>> CreateAsBoundingRectangle()
-        {
-            return new Lazy<CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter>>(CreateBoundingRectangle, false);
+            if (m_asBoundingRectangle == null)
+                m_asBoundingRectangle = CreateBoundingRectangle();
+            return m_asBoundingRectangle;
         }
 
         [NotNull]
@@ -195,13 +183,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
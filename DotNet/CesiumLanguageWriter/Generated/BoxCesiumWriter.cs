@@ -76,36 +76,16 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BoxDimensionsCesiumWriter> m_dimensions = new Lazy<BoxDimensionsCesiumWriter>(() => new BoxDimensionsCesiumWriter(DimensionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FillPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(OutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private BoxDimensionsCesiumWriter m_dimensions;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private BooleanCesiumWriter m_fill;
+        private MaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_outline;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private ShadowModeCesiumWriter m_shadows;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
         /// <summary>
         /// Initializes a new instance.
@@ -137,7 +117,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -218,7 +203,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BoxDimensionsCesiumWriter DimensionsWriter
         {
-            get { return m_dimensions.Value; }
+            get
+            {
+                if (m_dimensions == null)
+                    m_dimensions = AddChildWriter(new BoxDimensionsCesiumWriter(DimensionsPropertyName));
+                return m_dimensions;
+            }
         }
 
         /// <summary>
@@ -327,7 +317,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -408,7 +403,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FillWriter
         {
-            get { return m_fill.Value; }
+            get
+            {
+                if (m_fill == null)
+                    m_fill = AddChildWriter(new BooleanCesiumWriter(FillPropertyName));
+                return m_fill;
+            }
         }
 
         /// <summary>
@@ -489,7 +489,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -508,7 +513,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter OutlineWriter
         {
-            get { return m_outline.Value; }
+            get
+            {
+                if (m_outline == null)
+                    m_outline = AddChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+                return m_outline;
+            }
         }
 
         /// <summary>
@@ -589,7 +599,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -768,7 +783,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -877,7 +897,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -958,7 +983,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
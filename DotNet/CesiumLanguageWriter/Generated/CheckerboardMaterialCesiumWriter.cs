@@ -34,15 +34,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string RepeatPropertyName = "repeat";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_evenColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(EvenColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_oddColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OddColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<RepeatCesiumWriter> m_repeat = new Lazy<RepeatCesiumWriter>(() => new RepeatCesiumWriter(RepeatPropertyName), false);
+        private ColorCesiumWriter m_evenColor;
+        private ColorCesiumWriter m_oddColor;
+        private RepeatCesiumWriter m_repeat;
 
         /// <summary>
         /// Initializes a new instance.
@@ -74,7 +68,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter EvenColorWriter
         {
-            get { return m_evenColor.Value; }
+            get
+            {
+                if (m_evenColor == null)
+                    m_evenColor = AddChildWriter(new ColorCesiumWriter(EvenColorPropertyName));
+                return m_evenColor;
+            }
         }
 
         /// <summary>
@@ -253,7 +252,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OddColorWriter
         {
-            get { return m_oddColor.Value; }
+            get
+            {
+                if (m_oddColor == null)
+                    m_oddColor = AddChildWriter(new ColorCesiumWriter(OddColorPropertyName));
+                return m_oddColor;
+            }
         }
 
         /// <summary>
@@ -432,7 +436,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public RepeatCesiumWriter RepeatWriter
         {
-            get { return m_repeat.Value; }
+            get
+            {
+                if (m_repeat == null)
+                    m_repeat = AddChildWriter(new RepeatCesiumWriter(RepeatPropertyName));
+                return m_repeat;
+            }
         }
 
         /// <summary>
@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter>> m_asClassificationType;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter>> m_asReference;
+        private CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter> m_asClassificationType;
+        private CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public ClassificationTypeCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asClassificationType = CreateAsClassificationType();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected ClassificationTypeCesiumWriter([NotNull] ClassificationTypeCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asClassificationType = CreateAsClassificationType();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter> AsClassificationType()
         {
-            return m_asClassificationType.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter>> CreateAsClassificationType()
-        {
-            return new Lazy<CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter>>(CreateClassificationType, false);
+            if (m_asClassificationType == null)
+                m_asClassificationType = CreateClassificationType();
+            return m_asClassificationType;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
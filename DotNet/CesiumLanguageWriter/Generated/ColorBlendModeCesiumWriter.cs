@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter>> m_asColorBlendMode;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter>> m_asReference;
+        private CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter> m_asColorBlendMode;
+        private CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public ColorBlendModeCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asColorBlendMode = CreateAsColorBlendMode();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected ColorBlendModeCesiumWriter([NotNull] ColorBlendModeCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asColorBlendMode = CreateAsColorBlendMode();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter> AsColorBlendMode()
         {
-            return m_asColorBlendMode.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter>> CreateAsColorBlendMode()
-        {
-            return new Lazy<CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter>>(CreateColorBlendMode, false);
+            if (m_asColorBlendMode == null)
+                m_asColorBlendMode = CreateColorBlendMode();
+            return m_asColorBlendMode;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
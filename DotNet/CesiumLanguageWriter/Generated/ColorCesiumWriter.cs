@@ -40,15 +40,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter>> m_asRgba;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter>> m_asRgbaf;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter>> m_asReference;
+        private CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter> m_asRgba;
+        private CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter> m_asRgbaf;
+        private CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -57,9 +51,6 @@ namespace CesiumLanguageWriter
         public ColorCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asRgba = CreateAsRgba();
-            m_asRgbaf = CreateAsRgbaf();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -69,9 +60,6 @@ namespace CesiumLanguageWriter
         protected ColorCesiumWriter([NotNull] ColorCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asRgba = CreateAsRgba();
-            m_asRgbaf = CreateAsRgbaf();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -251,13 +239,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter> AsRgba()
         {
-            return m_asRgba.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter>> CreateAsRgba()
-        {
-            return new Lazy<CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter>>(CreateRgba, false);
+            if (m_asRgba == null)
+                m_asRgba = CreateRgba();
+            return m_asRgba;
         }
 
         [NotNull]
@@ -273,13 +257,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter> AsRgbaf()
         {
-            return m_asRgbaf.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter>> CreateAsRgbaf()
-        {
-            return new Lazy<CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter>>(CreateRgbaf, false);
+            if (m_asRgbaf == null)
+                m_asRgbaf = CreateRgbaf();
+            return m_asRgbaf;
         }
 
         [NotNull]
@@ -295,13 +275,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter>> m_asCornerType;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter>> m_asReference;
+        private CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter> m_asCornerType;
+        private CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public CornerTypeCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCornerType = CreateAsCornerType();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected CornerTypeCesiumWriter([NotNull] CornerTypeCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCornerType = CreateAsCornerType();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter> AsCornerType()
         {
-            return m_asCornerType.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter>> CreateAsCornerType()
-        {
-            return new Lazy<CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter>>(CreateCornerType, false);
+            if (m_asCornerType == null)
+                m_asCornerType = CreateCornerType();
+            return m_asCornerType;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
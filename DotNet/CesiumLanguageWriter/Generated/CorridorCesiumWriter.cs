@@ -124,60 +124,24 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ZIndexPropertyName = "zIndex";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PositionListCesiumWriter> m_positions = new Lazy<PositionListCesiumWriter>(() => new PositionListCesiumWriter(PositionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(WidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_height = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(HeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_extrudedHeight = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ExtrudedHeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_extrudedHeightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CornerTypeCesiumWriter> m_cornerType = new Lazy<CornerTypeCesiumWriter>(() => new CornerTypeCesiumWriter(CornerTypePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(GranularityPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FillPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(OutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ClassificationTypeCesiumWriter> m_classificationType = new Lazy<ClassificationTypeCesiumWriter>(() => new ClassificationTypeCesiumWriter(ClassificationTypePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_zIndex = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(ZIndexPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private PositionListCesiumWriter m_positions;
+        private DoubleCesiumWriter m_width;
+        private DoubleCesiumWriter m_height;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private DoubleCesiumWriter m_extrudedHeight;
+        private HeightReferenceCesiumWriter m_extrudedHeightReference;
+        private CornerTypeCesiumWriter m_cornerType;
+        private DoubleCesiumWriter m_granularity;
+        private BooleanCesiumWriter m_fill;
+        private MaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_outline;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private ShadowModeCesiumWriter m_shadows;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private ClassificationTypeCesiumWriter m_classificationType;
+        private IntegerCesiumWriter m_zIndex;
 
         /// <summary>
         /// Initializes a new instance.
@@ -209,7 +173,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -290,7 +259,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PositionListCesiumWriter PositionsWriter
         {
-            get { return m_positions.Value; }
+            get
+            {
+                if (m_positions == null)
+                    m_positions = AddChildWriter(new PositionListCesiumWriter(PositionsPropertyName));
+                return m_positions;
+            }
         }
 
         /// <summary>
@@ -357,7 +331,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter WidthWriter
         {
-            get { return m_width.Value; }
+            get
+            {
+                if (m_width == null)
+                    m_width = AddChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+                return m_width;
+            }
         }
 
         /// <summary>
@@ -466,7 +445,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter HeightWriter
         {
-            get { return m_height.Value; }
+            get
+            {
+                if (m_height == null)
+                    m_height = AddChildWriter(new DoubleCesiumWriter(HeightPropertyName));
+                return m_height;
+            }
         }
 
         /// <summary>
@@ -575,7 +559,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -656,7 +645,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ExtrudedHeightWriter
         {
-            get { return m_extrudedHeight.Value; }
+            get
+            {
+                if (m_extrudedHeight == null)
+                    m_extrudedHeight = AddChildWriter(new DoubleCesiumWriter(ExtrudedHeightPropertyName));
+                return m_extrudedHeight;
+            }
         }
 
         /// <summary>
@@ -765,7 +759,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter ExtrudedHeightReferenceWriter
         {
-            get { return m_extrudedHeightReference.Value; }
+            get
+            {
+                if (m_extrudedHeightReference == null)
+                    m_extrudedHeightReference = AddChildWriter(new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName));
+                return m_extrudedHeightReference;
+            }
         }
 
         /// <summary>
@@ -846,7 +845,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CornerTypeCesiumWriter CornerTypeWriter
         {
-            get { return m_cornerType.Value; }
+            get
+            {
+                if (m_cornerType == null)
+                    m_cornerType = AddChildWriter(new CornerTypeCesiumWriter(CornerTypePropertyName));
+                return m_cornerType;
+            }
         }
 
         /// <summary>
@@ -927,7 +931,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter GranularityWriter
         {
-            get { return m_granularity.Value; }
+            get
+            {
+                if (m_granularity == null)
+                    m_granularity = AddChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+                return m_granularity;
+            }
         }
 
         /// <summary>
@@ -1036,7 +1045,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FillWriter
         {
-            get { return m_fill.Value; }
+            get
+            {
+                if (m_fill == null)
+                    m_fill = AddChildWriter(new BooleanCesiumWriter(FillPropertyName));
+                return m_fill;
+            }
         }
 
         /// <summary>
@@ -1117,7 +1131,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -1136,7 +1155,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter OutlineWriter
         {
-            get { return m_outline.Value; }
+            get
+            {
+                if (m_outline == null)
+                    m_outline = AddChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+                return m_outline;
+            }
         }
 
         /// <summary>
@@ -1217,7 +1241,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -1396,7 +1425,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -1505,7 +1539,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -1586,7 +1625,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -1708,7 +1752,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ClassificationTypeCesiumWriter ClassificationTypeWriter
         {
-            get { return m_classificationType.Value; }
+            get
+            {
+                if (m_classificationType == null)
+                    m_classificationType = AddChildWriter(new ClassificationTypeCesiumWriter(ClassificationTypePropertyName));
+                return m_classificationType;
+            }
         }
 
         /// <summary>
@@ -1789,7 +1838,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter ZIndexWriter
         {
-            get { return m_zIndex.Value; }
+            get
+            {
+                if (m_zIndex == null)
+                    m_zIndex = AddChildWriter(new IntegerCesiumWriter(ZIndexPropertyName));
+                return m_zIndex;
+            }
         }
 
         /// <summary>
@@ -178,84 +178,32 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asBoolean;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asBoundingRectangle;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartographicRadians;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartographicDegrees;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartesian2;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUnitCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asSpherical;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUnitSpherical;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asRgba;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asRgbaf;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asColorBlendMode;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCornerType;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asHeightReference;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asHorizontalOrigin;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asLabelStyle;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asNumber;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asNearFarScalar;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUnitQuaternion;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asShadowMode;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asString;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asStripeOrientation;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asWsen;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asWsenDegrees;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUri;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asVerticalOrigin;
+        private CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asBoolean;
+        private CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asBoundingRectangle;
+        private CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartesian;
+        private CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartographicRadians;
+        private CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartographicDegrees;
+        private CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartesian2;
+        private CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUnitCartesian;
+        private CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asSpherical;
+        private CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUnitSpherical;
+        private CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asRgba;
+        private CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asRgbaf;
+        private CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asColorBlendMode;
+        private CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCornerType;
+        private CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asHeightReference;
+        private CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asHorizontalOrigin;
+        private CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asLabelStyle;
+        private CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asNumber;
+        private CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asNearFarScalar;
+        private CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUnitQuaternion;
+        private CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asShadowMode;
+        private CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asString;
+        private CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asStripeOrientation;
+        private CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asWsen;
+        private CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asWsenDegrees;
+        private CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUri;
+        private CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asVerticalOrigin;
 
         /// <summary>
         /// Initializes a new instance.
@@ -264,32 +212,6 @@ namespace CesiumLanguageWriter
         public CustomPropertyCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asBoolean = CreateAsBoolean();
-            m_asBoundingRectangle = CreateAsBoundingRectangle();
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asCartesian2 = CreateAsCartesian2();
-            m_asUnitCartesian = CreateAsUnitCartesian();
-            m_asSpherical = CreateAsSpherical();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asRgba = CreateAsRgba();
-            m_asRgbaf = CreateAsRgbaf();
-            m_asColorBlendMode = CreateAsColorBlendMode();
-            m_asCornerType = CreateAsCornerType();
-            m_asHeightReference = CreateAsHeightReference();
-            m_asHorizontalOrigin = CreateAsHorizontalOrigin();
-            m_asLabelStyle = CreateAsLabelStyle();
-            m_asNumber = CreateAsNumber();
-            m_asNearFarScalar = CreateAsNearFarScalar();
-            m_asUnitQuaternion = CreateAsUnitQuaternion();
-            m_asShadowMode = CreateAsShadowMode();
-            m_asString = CreateAsString();
-            m_asStripeOrientation = CreateAsStripeOrientation();
-            m_asWsen = CreateAsWsen();
-            m_asWsenDegrees = CreateAsWsenDegrees();
-            m_asUri = CreateAsUri();
-            m_asVerticalOrigin = CreateAsVerticalOrigin();
         }
 
         /// <summary>
@@ -299,32 +221,6 @@ namespace CesiumLanguageWriter
         protected CustomPropertyCesiumWriter([NotNull] CustomPropertyCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asBoolean = CreateAsBoolean();
-            m_asBoundingRectangle = CreateAsBoundingRectangle();
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asCartesian2 = CreateAsCartesian2();
-            m_asUnitCartesian = CreateAsUnitCartesian();
-            m_asSpherical = CreateAsSpherical();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asRgba = CreateAsRgba();
-            m_asRgbaf = CreateAsRgbaf();
-            m_asColorBlendMode = CreateAsColorBlendMode();
-            m_asCornerType = CreateAsCornerType();
-            m_asHeightReference = CreateAsHeightReference();
-            m_asHorizontalOrigin = CreateAsHorizontalOrigin();
-            m_asLabelStyle = CreateAsLabelStyle();
-            m_asNumber = CreateAsNumber();
-            m_asNearFarScalar = CreateAsNearFarScalar();
-            m_asUnitQuaternion = CreateAsUnitQuaternion();
-            m_asShadowMode = CreateAsShadowMode();
-            m_asString = CreateAsString();
-            m_asStripeOrientation = CreateAsStripeOrientation();
-            m_asWsen = CreateAsWsen();
-            m_asWsenDegrees = CreateAsWsenDegrees();
-            m_asUri = CreateAsUri();
-            m_asVerticalOrigin = CreateAsVerticalOrigin();
         }
 
         /// <inheritdoc/>
@@ -1171,13 +1067,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter> AsBoolean()
         {
-            return m_asBoolean.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsBoolean()
-        {
-            return new Lazy<CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateBoolean, false);
+            if (m_asBoolean == null)
+                m_asBoolean = CreateBoolean();
+            return m_asBoolean;
         }
 
         [NotNull]
@@ -1193,13 +1085,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter> AsBoundingRectangle()
         {
-            return m_asBoundingRectangle.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsBoundingRectangle()
-        {
-            return new Lazy<CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateBoundingRectangle, false);
+            if (m_asBoundingRectangle == null)
+                m_asBoundingRectangle = CreateBoundingRectangle();
+            return m_asBoundingRectangle;
         }
 
         [NotNull]
@@ -1215,13 +1103,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateCartesian3, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -1237,13 +1121,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> AsCartographicRadians()
         {
-            return m_asCartographicRadians.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsCartographicRadians()
-        {
-            return new Lazy<CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateCartographicRadians, false);
+            if (m_asCartographicRadians == null)
+                m_asCartographicRadians = CreateCartographicRadians();
+            return m_asCartographicRadians;
         }
 
         [NotNull]
@@ -1259,13 +1139,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> AsCartographicDegrees()
         {
-            return m_asCartographicDegrees.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsCartographicDegrees()
-        {
-            return new Lazy<CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateCartographicDegrees, false);
+            if (m_asCartographicDegrees == null)
+                m_asCartographicDegrees = CreateCartographicDegrees();
+            return m_asCartographicDegrees;
         }
 
         [NotNull]
@@ -1281,13 +1157,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter> AsCartesian2()
         {
-            return m_asCartesian2.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsCartesian2()
-        {
-            return new Lazy<CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateCartesian2, false);
+            if (m_asCartesian2 == null)
+                m_asCartesian2 = CreateCartesian2();
+            return m_asCartesian2;
         }
 
         [NotNull]
@@ -1303,13 +1175,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> AsUnitCartesian()
         {
-            return m_asUnitCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsUnitCartesian()
-        {
-            return new Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateUnitCartesian3, false);
+            if (m_asUnitCartesian == null)
+                m_asUnitCartesian = CreateUnitCartesian3();
+            return m_asUnitCartesian;
         }
 
         [NotNull]
@@ -1325,13 +1193,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> AsSpherical()
         {
-            return m_asSpherical.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsSpherical()
-        {
-            return new Lazy<CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateSpherical, false);
+            if (m_asSpherical == null)
+                m_asSpherical = CreateSpherical();
+            return m_asSpherical;
         }
 
         [NotNull]
@@ -1347,13 +1211,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> AsUnitSpherical()
         {
-            return m_asUnitSpherical.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsUnitSpherical()
-        {
-            return new Lazy<CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateUnitSpherical, false);
+            if (m_asUnitSpherical == null)
+                m_asUnitSpherical = CreateUnitSpherical();
+            return m_asUnitSpherical;
         }
 
         [NotNull]
@@ -1369,13 +1229,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter> AsRgba()
         {
-            return m_asRgba.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsRgba()
-        {
-            return new Lazy<CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateRgba, false);
+            if (m_asRgba == null)
+                m_asRgba = CreateRgba();
+            return m_asRgba;
         }
 
         [NotNull]
@@ -1391,13 +1247,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter> AsRgbaf()
         {
-            return m_asRgbaf.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsRgbaf()
-        {
-            return new Lazy<CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateRgbaf, false);
+            if (m_asRgbaf == null)
+                m_asRgbaf = CreateRgbaf();
+            return m_asRgbaf;
         }
 
         [NotNull]
@@ -1413,13 +1265,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter> AsColorBlendMode()
         {
-            return m_asColorBlendMode.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsColorBlendMode()
-        {
-            return new Lazy<CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateColorBlendMode, false);
+            if (m_asColorBlendMode == null)
+                m_asColorBlendMode = CreateColorBlendMode();
+            return m_asColorBlendMode;
         }
 
         [NotNull]
@@ -1435,13 +1283,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter> AsCornerType()
         {
-            return m_asCornerType.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsCornerType()
-        {
-            return new Lazy<CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateCornerType, false);
+            if (m_asCornerType == null)
+                m_asCornerType = CreateCornerType();
+            return m_asCornerType;
         }
 
         [NotNull]
@@ -1457,13 +1301,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter> AsHeightReference()
         {
-            return m_asHeightReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsHeightReference()
-        {
-            return new Lazy<CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateHeightReference, false);
+            if (m_asHeightReference == null)
+                m_asHeightReference = CreateHeightReference();
+            return m_asHeightReference;
         }
 
         [NotNull]
@@ -1479,13 +1319,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> AsHorizontalOrigin()
         {
-            return m_asHorizontalOrigin.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsHorizontalOrigin()
-        {
-            return new Lazy<CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateHorizontalOrigin, false);
+            if (m_asHorizontalOrigin == null)
+                m_asHorizontalOrigin = CreateHorizontalOrigin();
+            return m_asHorizontalOrigin;
         }
 
         [NotNull]
@@ -1501,13 +1337,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter> AsLabelStyle()
         {
-            return m_asLabelStyle.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsLabelStyle()
-        {
-            return new Lazy<CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateLabelStyle, false);
+            if (m_asLabelStyle == null)
+                m_asLabelStyle = CreateLabelStyle();
+            return m_asLabelStyle;
         }
 
         [NotNull]
@@ -1523,13 +1355,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter> AsNumber()
         {
-            return m_asNumber.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsNumber()
-        {
-            return new Lazy<CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateDouble, false);
+            if (m_asNumber == null)
+                m_asNumber = CreateDouble();
+            return m_asNumber;
         }
 
         [NotNull]
@@ -1545,13 +1373,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter> AsNearFarScalar()
         {
-            return m_asNearFarScalar.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsNearFarScalar()
-        {
-            return new Lazy<CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateNearFarScalar, false);
+            if (m_asNearFarScalar == null)
+                m_asNearFarScalar = CreateNearFarScalar();
+            return m_asNearFarScalar;
         }
 
         [NotNull]
@@ -1567,13 +1391,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter> AsUnitQuaternion()
         {
-            return m_asUnitQuaternion.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsUnitQuaternion()
-        {
-            return new Lazy<CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateUnitQuaternion, false);
+            if (m_asUnitQuaternion == null)
+                m_asUnitQuaternion = CreateUnitQuaternion();
+            return m_asUnitQuaternion;
         }
 
         [NotNull]
@@ -1589,13 +1409,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter> AsShadowMode()
         {
-            return m_asShadowMode.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsShadowMode()
-        {
-            return new Lazy<CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateShadowMode, false);
+            if (m_asShadowMode == null)
+                m_asShadowMode = CreateShadowMode();
+            return m_asShadowMode;
         }
 
         [NotNull]
@@ -1611,13 +1427,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter> AsString()
         {
-            return m_asString.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsString()
-        {
-            return new Lazy<CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateString, false);
+            if (m_asString == null)
+                m_asString = CreateString();
+            return m_asString;
         }
 
         [NotNull]
@@ -1633,13 +1445,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter> AsStripeOrientation()
         {
-            return m_asStripeOrientation.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsStripeOrientation()
-        {
-            return new Lazy<CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateStripeOrientation, false);
+            if (m_asStripeOrientation == null)
+                m_asStripeOrientation = CreateStripeOrientation();
+            return m_asStripeOrientation;
         }
 
         [NotNull]
@@ -1655,13 +1463,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> AsWsen()
         {
-            return m_asWsen.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsWsen()
-        {
-            return new Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateCartographicRectangleRadians, false);
+            if (m_asWsen == null)
+                m_asWsen = CreateCartographicRectangleRadians();
+            return m_asWsen;
         }
 
         [NotNull]
@@ -1677,13 +1481,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> AsWsenDegrees()
         {
-            return m_asWsenDegrees.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsWsenDegrees()
-        {
-            return new Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateCartographicRectangleDegrees, false);
+            if (m_asWsenDegrees == null)
+                m_asWsenDegrees = CreateCartographicRectangleDegrees();
+            return m_asWsenDegrees;
         }
 
         [NotNull]
@@ -1699,13 +1499,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter> AsUri()
         {
-            return m_asUri.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsUri()
-        {
-            return new Lazy<CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateUri, false);
+            if (m_asUri == null)
+                m_asUri = CreateUri();
+            return m_asUri;
         }
 
         [NotNull]
@@ -1721,13 +1517,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> AsVerticalOrigin()
         {
-            return m_asVerticalOrigin.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> CreateAsVerticalOrigin()
-        {
-            return new Lazy<CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>>(CreateVerticalOrigin, false);
+            if (m_asVerticalOrigin == null)
+                m_asVerticalOrigin = CreateVerticalOrigin();
+            return m_asVerticalOrigin;
         }
 
         [NotNull]
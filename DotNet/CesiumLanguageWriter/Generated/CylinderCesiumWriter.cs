@@ -100,48 +100,20 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_length = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(LengthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_topRadius = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(TopRadiusPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_bottomRadius = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(BottomRadiusPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FillPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(OutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_numberOfVerticalLines = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(NumberOfVerticalLinesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_slices = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(SlicesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private DoubleCesiumWriter m_length;
+        private DoubleCesiumWriter m_topRadius;
+        private DoubleCesiumWriter m_bottomRadius;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private BooleanCesiumWriter m_fill;
+        private MaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_outline;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private IntegerCesiumWriter m_numberOfVerticalLines;
+        private IntegerCesiumWriter m_slices;
+        private ShadowModeCesiumWriter m_shadows;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
         /// <summary>
         /// Initializes a new instance.
@@ -173,7 +145,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -254,7 +231,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter LengthWriter
         {
-            get { return m_length.Value; }
+            get
+            {
+                if (m_length == null)
+                    m_length = AddChildWriter(new DoubleCesiumWriter(LengthPropertyName));
+                return m_length;
+            }
         }
 
         /// <summary>
@@ -363,7 +345,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter TopRadiusWriter
         {
-            get { return m_topRadius.Value; }
+            get
+            {
+                if (m_topRadius == null)
+                    m_topRadius = AddChildWriter(new DoubleCesiumWriter(TopRadiusPropertyName));
+                return m_topRadius;
+            }
         }
 
         /// <summary>
@@ -472,7 +459,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter BottomRadiusWriter
         {
-            get { return m_bottomRadius.Value; }
+            get
+            {
+                if (m_bottomRadius == null)
+                    m_bottomRadius = AddChildWriter(new DoubleCesiumWriter(BottomRadiusPropertyName));
+                return m_bottomRadius;
+            }
         }
 
         /// <summary>
@@ -581,7 +573,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -662,7 +659,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FillWriter
         {
-            get { return m_fill.Value; }
+            get
+            {
+                if (m_fill == null)
+                    m_fill = AddChildWriter(new BooleanCesiumWriter(FillPropertyName));
+                return m_fill;
+            }
         }
 
         /// <summary>
@@ -743,7 +745,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -762,7 +769,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter OutlineWriter
         {
-            get { return m_outline.Value; }
+            get
+            {
+                if (m_outline == null)
+                    m_outline = AddChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+                return m_outline;
+            }
         }
 
         /// <summary>
@@ -843,7 +855,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -1022,7 +1039,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -1131,7 +1153,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter NumberOfVerticalLinesWriter
         {
-            get { return m_numberOfVerticalLines.Value; }
+            get
+            {
+                if (m_numberOfVerticalLines == null)
+                    m_numberOfVerticalLines = AddChildWriter(new IntegerCesiumWriter(NumberOfVerticalLinesPropertyName));
+                return m_numberOfVerticalLines;
+            }
         }
 
         /// <summary>
@@ -1240,7 +1267,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter SlicesWriter
         {
-            get { return m_slices.Value; }
+            get
+            {
+                if (m_slices == null)
+                    m_slices = AddChildWriter(new IntegerCesiumWriter(SlicesPropertyName));
+                return m_slices;
+            }
         }
 
         /// <summary>
@@ -1349,7 +1381,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -1430,7 +1467,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
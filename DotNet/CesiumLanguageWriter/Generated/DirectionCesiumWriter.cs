@@ -51,21 +51,11 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter>> m_asSpherical;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter>> m_asUnitSpherical;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> m_asUnitCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter>> m_asReference;
+        private CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter> m_asSpherical;
+        private CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter> m_asUnitSpherical;
+        private CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> m_asCartesian;
+        private CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> m_asUnitCartesian;
+        private CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -74,11 +64,6 @@ namespace CesiumLanguageWriter
         public DirectionCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asSpherical = CreateAsSpherical();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asCartesian = CreateAsCartesian();
-            m_asUnitCartesian = CreateAsUnitCartesian();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -88,11 +73,6 @@ namespace CesiumLanguageWriter
         protected DirectionCesiumWriter([NotNull] DirectionCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asSpherical = CreateAsSpherical();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asCartesian = CreateAsCartesian();
-            m_asUnitCartesian = CreateAsUnitCartesian();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -314,13 +294,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter> AsSpherical()
         {
-            return m_asSpherical.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter>> CreateAsSpherical()
-        {
-            return new Lazy<CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter>>(CreateSpherical, false);
+            if (m_asSpherical == null)
+                m_asSpherical = CreateSpherical();
+            return m_asSpherical;
         }
 
         [NotNull]
@@ -336,13 +312,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter> AsUnitSpherical()
         {
-            return m_asUnitSpherical.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter>> CreateAsUnitSpherical()
-        {
-            return new Lazy<CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter>>(CreateUnitSpherical, false);
+            if (m_asUnitSpherical == null)
+                m_asUnitSpherical = CreateUnitSpherical();
+            return m_asUnitSpherical;
         }
 
         [NotNull]
@@ -358,13 +330,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>>(CreateCartesian3, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -380,13 +348,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> AsUnitCartesian()
         {
-            return m_asUnitCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> CreateAsUnitCartesian()
-        {
-            return new Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>>(CreateUnitCartesian3, false);
+            if (m_asUnitCartesian == null)
+                m_asUnitCartesian = CreateUnitCartesian3();
+            return m_asUnitCartesian;
         }
 
         [NotNull]
@@ -402,13 +366,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -45,18 +45,10 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asSpherical;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asUnitSpherical;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asUnitCartesian;
+        private CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> m_asSpherical;
+        private CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> m_asUnitSpherical;
+        private CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> m_asCartesian;
+        private CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> m_asUnitCartesian;
 
         /// <summary>
         /// Initializes a new instance.
@@ -65,10 +57,6 @@ namespace CesiumLanguageWriter
         public DirectionListCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asSpherical = CreateAsSpherical();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asCartesian = CreateAsCartesian();
-            m_asUnitCartesian = CreateAsUnitCartesian();
         }
 
         /// <summary>
@@ -78,10 +66,6 @@ namespace CesiumLanguageWriter
         protected DirectionListCesiumWriter([NotNull] DirectionListCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asSpherical = CreateAsSpherical();
-            m_asUnitSpherical = CreateAsUnitSpherical();
-            m_asCartesian = CreateAsCartesian();
-            m_asUnitCartesian = CreateAsUnitCartesian();
         }
 
         /// <inheritdoc/>
@@ -157,13 +141,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> AsSpherical()
         {
-            return m_asSpherical.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> CreateAsSpherical()
-        {
-            return new Lazy<CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>>(CreateSphericalList, false);
+            if (m_asSpherical == null)
+                m_asSpherical = CreateSphericalList();
+            return m_asSpherical;
         }
 
         [NotNull]
@@ -179,13 +159,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> AsUnitSpherical()
         {
-            return m_asUnitSpherical.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> CreateAsUnitSpherical()
-        {
-            return new Lazy<CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>>(CreateUnitSphericalList, false);
+            if (m_asUnitSpherical == null)
+                m_asUnitSpherical = CreateUnitSphericalList();
+            return m_asUnitSpherical;
         }
 
         [NotNull]
@@ -201,13 +177,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>>(CreateCartesian3List, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3List();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -223,13 +195,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> AsUnitCartesian()
         {
-            return m_asUnitCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> CreateAsUnitCartesian()
-        {
-            return new Lazy<CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>>(CreateUnitCartesian3List, false);
+            if (m_asUnitCartesian == null)
+                m_asUnitCartesian = CreateUnitCartesian3List();
+            return m_asUnitCartesian;
         }
 
         [NotNull]
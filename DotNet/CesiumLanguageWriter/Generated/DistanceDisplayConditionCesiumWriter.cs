@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> m_asDistanceDisplayCondition;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> m_asReference;
+        private CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> m_asDistanceDisplayCondition;
+        private CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public DistanceDisplayConditionCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asDistanceDisplayCondition = CreateAsDistanceDisplayCondition();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected DistanceDisplayConditionCesiumWriter([NotNull] DistanceDisplayConditionCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asDistanceDisplayCondition = CreateAsDistanceDisplayCondition();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -183,13 +175,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> AsDistanceDisplayCondition()
         {
-            return m_asDistanceDisplayCondition.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> CreateAsDistanceDisplayCondition()
-        {
-            return new Lazy<CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>>(CreateDistanceDisplayCondition, false);
+            if (m_asDistanceDisplayCondition == null)
+                m_asDistanceDisplayCondition = CreateDistanceDisplayCondition();
+            return m_asDistanceDisplayCondition;
         }
 
         [NotNull]
@@ -205,13 +193,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>> m_asNumber;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter>> m_asReference;
+        private CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter> m_asNumber;
+        private CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public DoubleCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asNumber = CreateAsNumber();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected DoubleCesiumWriter([NotNull] DoubleCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asNumber = CreateAsNumber();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -110,6 +102,30 @@ namespace CesiumLanguageWriter
             CesiumWritingHelper.WriteDouble(Output, PropertyName, dates, values, startIndex, length);
         }
 
+        /// <summary>
+        /// Writes the value expressed as a <c>number</c>, which is the number.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        public void WriteNumber([NotNull] SharedTimeGrid grid, IList<double> values)
+        {
+            WriteNumber(grid, values, 0, grid.Count);
+        }
+
+        /// <summary>
+        /// Writes the value expressed as a <c>number</c>, which is the number.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to write.</param>
+        /// <param name="length">The number of elements to write.</param>
+        public void WriteNumber([NotNull] SharedTimeGrid grid, IList<double> values, int startIndex, int length)
+        {
+            const string PropertyName = NumberPropertyName;
+            OpenIntervalIfNecessary();
+            CesiumWritingHelper.WriteDouble(Output, PropertyName, grid, values, startIndex, length);
+        }
+
         /// <summary>
         /// Writes the value expressed as a <c>reference</c>, which is the number specified as a reference to another property.
         /// </summary>
@@ -179,13 +195,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter> AsNumber()
         {
-            return m_asNumber.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>> CreateAsNumber()
-        {
-            return new Lazy<CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>>(CreateDouble, false);
+            if (m_asNumber == null)
+                m_asNumber = CreateDouble();
+            return m_asNumber;
         }
 
         [NotNull]
@@ -201,13 +213,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
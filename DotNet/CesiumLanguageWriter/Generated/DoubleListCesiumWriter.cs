@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter>> m_asArray;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter>> m_asReferences;
+        private CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter> m_asArray;
+        private CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter> m_asReferences;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public DoubleListCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asArray = CreateAsArray();
-            m_asReferences = CreateAsReferences();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected DoubleListCesiumWriter([NotNull] DoubleListCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asArray = CreateAsArray();
-            m_asReferences = CreateAsReferences();
         }
 
         /// <inheritdoc/>
@@ -111,13 +103,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter> AsArray()
         {
-            return m_asArray.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter>> CreateAsArray()
-        {
-            return new Lazy<CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter>>(CreateDoubleList, false);
+            if (m_asArray == null)
+                m_asArray = CreateDoubleList();
+            return m_asArray;
         }
 
         [NotNull]
@@ -133,13 +121,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter> AsReferences()
         {
-            return m_asReferences.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter>> CreateAsReferences()
-        {
-            return new Lazy<CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter>>(CreateReferenceList, false);
+            if (m_asReferences == null)
+                m_asReferences = CreateReferenceList();
+            return m_asReferences;
         }
 
         [NotNull]
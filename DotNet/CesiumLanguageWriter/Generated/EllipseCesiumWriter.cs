@@ -136,66 +136,26 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ZIndexPropertyName = "zIndex";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_semiMajorAxis = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(SemiMajorAxisPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_semiMinorAxis = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(SemiMinorAxisPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_height = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(HeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_extrudedHeight = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ExtrudedHeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_extrudedHeightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_rotation = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(RotationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_stRotation = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(StRotationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(GranularityPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FillPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(OutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_numberOfVerticalLines = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(NumberOfVerticalLinesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ClassificationTypeCesiumWriter> m_classificationType = new Lazy<ClassificationTypeCesiumWriter>(() => new ClassificationTypeCesiumWriter(ClassificationTypePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_zIndex = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(ZIndexPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private DoubleCesiumWriter m_semiMajorAxis;
+        private DoubleCesiumWriter m_semiMinorAxis;
+        private DoubleCesiumWriter m_height;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private DoubleCesiumWriter m_extrudedHeight;
+        private HeightReferenceCesiumWriter m_extrudedHeightReference;
+        private DoubleCesiumWriter m_rotation;
+        private DoubleCesiumWriter m_stRotation;
+        private DoubleCesiumWriter m_granularity;
+        private BooleanCesiumWriter m_fill;
+        private MaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_outline;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private IntegerCesiumWriter m_numberOfVerticalLines;
+        private ShadowModeCesiumWriter m_shadows;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private ClassificationTypeCesiumWriter m_classificationType;
+        private IntegerCesiumWriter m_zIndex;
 
         /// <summary>
         /// Initializes a new instance.
@@ -227,7 +187,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -308,7 +273,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter SemiMajorAxisWriter
         {
-            get { return m_semiMajorAxis.Value; }
+            get
+            {
+                if (m_semiMajorAxis == null)
+                    m_semiMajorAxis = AddChildWriter(new DoubleCesiumWriter(SemiMajorAxisPropertyName));
+                return m_semiMajorAxis;
+            }
         }
 
         /// <summary>
@@ -417,7 +387,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter SemiMinorAxisWriter
         {
-            get { return m_semiMinorAxis.Value; }
+            get
+            {
+                if (m_semiMinorAxis == null)
+                    m_semiMinorAxis = AddChildWriter(new DoubleCesiumWriter(SemiMinorAxisPropertyName));
+                return m_semiMinorAxis;
+            }
         }
 
         /// <summary>
@@ -526,7 +501,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter HeightWriter
         {
-            get { return m_height.Value; }
+            get
+            {
+                if (m_height == null)
+                    m_height = AddChildWriter(new DoubleCesiumWriter(HeightPropertyName));
+                return m_height;
+            }
         }
 
         /// <summary>
@@ -635,7 +615,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -716,7 +701,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ExtrudedHeightWriter
         {
-            get { return m_extrudedHeight.Value; }
+            get
+            {
+                if (m_extrudedHeight == null)
+                    m_extrudedHeight = AddChildWriter(new DoubleCesiumWriter(ExtrudedHeightPropertyName));
+                return m_extrudedHeight;
+            }
         }
 
         /// <summary>
@@ -825,7 +815,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter ExtrudedHeightReferenceWriter
         {
-            get { return m_extrudedHeightReference.Value; }
+            get
+            {
+                if (m_extrudedHeightReference == null)
+                    m_extrudedHeightReference = AddChildWriter(new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName));
+                return m_extrudedHeightReference;
+            }
         }
 
         /// <summary>
@@ -906,7 +901,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter RotationWriter
         {
-            get { return m_rotation.Value; }
+            get
+            {
+                if (m_rotation == null)
+                    m_rotation = AddChildWriter(new DoubleCesiumWriter(RotationPropertyName));
+                return m_rotation;
+            }
         }
 
         /// <summary>
@@ -1015,7 +1015,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter StRotationWriter
         {
-            get { return m_stRotation.Value; }
+            get
+            {
+                if (m_stRotation == null)
+                    m_stRotation = AddChildWriter(new DoubleCesiumWriter(StRotationPropertyName));
+                return m_stRotation;
+            }
         }
 
         /// <summary>
@@ -1124,7 +1129,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter GranularityWriter
         {
-            get { return m_granularity.Value; }
+            get
+            {
+                if (m_granularity == null)
+                    m_granularity = AddChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+                return m_granularity;
+            }
         }
 
         /// <summary>
@@ -1233,7 +1243,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FillWriter
         {
-            get { return m_fill.Value; }
+            get
+            {
+                if (m_fill == null)
+                    m_fill = AddChildWriter(new BooleanCesiumWriter(FillPropertyName));
+                return m_fill;
+            }
         }
 
         /// <summary>
@@ -1314,7 +1329,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -1333,7 +1353,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter OutlineWriter
         {
-            get { return m_outline.Value; }
+            get
+            {
+                if (m_outline == null)
+                    m_outline = AddChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+                return m_outline;
+            }
         }
 
         /// <summary>
@@ -1414,7 +1439,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -1593,7 +1623,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -1702,7 +1737,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter NumberOfVerticalLinesWriter
         {
-            get { return m_numberOfVerticalLines.Value; }
+            get
+            {
+                if (m_numberOfVerticalLines == null)
+                    m_numberOfVerticalLines = AddChildWriter(new IntegerCesiumWriter(NumberOfVerticalLinesPropertyName));
+                return m_numberOfVerticalLines;
+            }
         }
 
         /// <summary>
@@ -1811,7 +1851,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -1892,7 +1937,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -2014,7 +2064,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ClassificationTypeCesiumWriter ClassificationTypeWriter
         {
-            get { return m_classificationType.Value; }
+            get
+            {
+                if (m_classificationType == null)
+                    m_classificationType = AddChildWriter(new ClassificationTypeCesiumWriter(ClassificationTypePropertyName));
+                return m_classificationType;
+            }
         }
 
         /// <summary>
@@ -2095,7 +2150,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter ZIndexWriter
         {
-            get { return m_zIndex.Value; }
+            get
+            {
+                if (m_zIndex == null)
+                    m_zIndex = AddChildWriter(new IntegerCesiumWriter(ZIndexPropertyName));
+                return m_zIndex;
+            }
         }
 
         /// <summary>
@@ -124,60 +124,24 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<EllipsoidRadiiCesiumWriter> m_radii = new Lazy<EllipsoidRadiiCesiumWriter>(() => new EllipsoidRadiiCesiumWriter(RadiiPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<EllipsoidRadiiCesiumWriter> m_innerRadii = new Lazy<EllipsoidRadiiCesiumWriter>(() => new EllipsoidRadiiCesiumWriter(InnerRadiiPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_minimumClock = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MinimumClockPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_maximumClock = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MaximumClockPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_minimumCone = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MinimumConePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_maximumCone = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MaximumConePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FillPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(OutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_stackPartitions = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(StackPartitionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_slicePartitions = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(SlicePartitionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_subdivisions = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(SubdivisionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private EllipsoidRadiiCesiumWriter m_radii;
+        private EllipsoidRadiiCesiumWriter m_innerRadii;
+        private DoubleCesiumWriter m_minimumClock;
+        private DoubleCesiumWriter m_maximumClock;
+        private DoubleCesiumWriter m_minimumCone;
+        private DoubleCesiumWriter m_maximumCone;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private BooleanCesiumWriter m_fill;
+        private MaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_outline;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private IntegerCesiumWriter m_stackPartitions;
+        private IntegerCesiumWriter m_slicePartitions;
+        private IntegerCesiumWriter m_subdivisions;
+        private ShadowModeCesiumWriter m_shadows;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
         /// <summary>
         /// Initializes a new instance.
@@ -209,7 +173,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -290,7 +259,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public EllipsoidRadiiCesiumWriter RadiiWriter
         {
-            get { return m_radii.Value; }
+            get
+            {
+                if (m_radii == null)
+                    m_radii = AddChildWriter(new EllipsoidRadiiCesiumWriter(RadiiPropertyName));
+                return m_radii;
+            }
         }
 
         /// <summary>
@@ -399,7 +373,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public EllipsoidRadiiCesiumWriter InnerRadiiWriter
         {
-            get { return m_innerRadii.Value; }
+            get
+            {
+                if (m_innerRadii == null)
+                    m_innerRadii = AddChildWriter(new EllipsoidRadiiCesiumWriter(InnerRadiiPropertyName));
+                return m_innerRadii;
+            }
         }
 
         /// <summary>
@@ -508,7 +487,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MinimumClockWriter
         {
-            get { return m_minimumClock.Value; }
+            get
+            {
+                if (m_minimumClock == null)
+                    m_minimumClock = AddChildWriter(new DoubleCesiumWriter(MinimumClockPropertyName));
+                return m_minimumClock;
+            }
         }
 
         /// <summary>
@@ -617,7 +601,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MaximumClockWriter
         {
-            get { return m_maximumClock.Value; }
+            get
+            {
+                if (m_maximumClock == null)
+                    m_maximumClock = AddChildWriter(new DoubleCesiumWriter(MaximumClockPropertyName));
+                return m_maximumClock;
+            }
         }
 
         /// <summary>
@@ -726,7 +715,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MinimumConeWriter
         {
-            get { return m_minimumCone.Value; }
+            get
+            {
+                if (m_minimumCone == null)
+                    m_minimumCone = AddChildWriter(new DoubleCesiumWriter(MinimumConePropertyName));
+                return m_minimumCone;
+            }
         }
 
         /// <summary>
@@ -835,7 +829,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MaximumConeWriter
         {
-            get { return m_maximumCone.Value; }
+            get
+            {
+                if (m_maximumCone == null)
+                    m_maximumCone = AddChildWriter(new DoubleCesiumWriter(MaximumConePropertyName));
+                return m_maximumCone;
+            }
         }
 
         /// <summary>
@@ -944,7 +943,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -1025,7 +1029,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FillWriter
         {
-            get { return m_fill.Value; }
+            get
+            {
+                if (m_fill == null)
+                    m_fill = AddChildWriter(new BooleanCesiumWriter(FillPropertyName));
+                return m_fill;
+            }
         }
 
         /// <summary>
@@ -1106,7 +1115,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -1125,7 +1139,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter OutlineWriter
         {
-            get { return m_outline.Value; }
+            get
+            {
+                if (m_outline == null)
+                    m_outline = AddChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+                return m_outline;
+            }
         }
 
         /// <summary>
@@ -1206,7 +1225,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -1385,7 +1409,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -1494,7 +1523,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter StackPartitionsWriter
         {
-            get { return m_stackPartitions.Value; }
+            get
+            {
+                if (m_stackPartitions == null)
+                    m_stackPartitions = AddChildWriter(new IntegerCesiumWriter(StackPartitionsPropertyName));
+                return m_stackPartitions;
+            }
         }
 
         /// <summary>
@@ -1603,7 +1637,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter SlicePartitionsWriter
         {
-            get { return m_slicePartitions.Value; }
+            get
+            {
+                if (m_slicePartitions == null)
+                    m_slicePartitions = AddChildWriter(new IntegerCesiumWriter(SlicePartitionsPropertyName));
+                return m_slicePartitions;
+            }
         }
 
         /// <summary>
@@ -1712,7 +1751,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter SubdivisionsWriter
         {
-            get { return m_subdivisions.Value; }
+            get
+            {
+                if (m_subdivisions == null)
+                    m_subdivisions = AddChildWriter(new IntegerCesiumWriter(SubdivisionsPropertyName));
+                return m_subdivisions;
+            }
         }
 
         /// <summary>
@@ -1821,7 +1865,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -1902,7 +1951,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
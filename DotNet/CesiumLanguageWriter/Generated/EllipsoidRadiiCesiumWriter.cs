@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> m_asReference;
+        private CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> m_asCartesian;
+        private CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public EllipsoidRadiiCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected EllipsoidRadiiCesiumWriter([NotNull] EllipsoidRadiiCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -173,13 +165,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>>(CreateCartesian3, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -195,13 +183,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter>> m_asReference;
+        private CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter> m_asCartesian;
+        private CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public EyeOffsetCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected EyeOffsetCesiumWriter([NotNull] EyeOffsetCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -173,13 +165,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter>>(CreateCartesian3, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -195,13 +183,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -76,36 +76,16 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string NumberOfRingsPropertyName = "numberOfRings";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DirectionListCesiumWriter> m_directions = new Lazy<DirectionListCesiumWriter>(() => new DirectionListCesiumWriter(DirectionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_radius = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(RadiusPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_perDirectionRadius = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(PerDirectionRadiusPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FillPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(OutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_numberOfRings = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(NumberOfRingsPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private DirectionListCesiumWriter m_directions;
+        private DoubleCesiumWriter m_radius;
+        private BooleanCesiumWriter m_perDirectionRadius;
+        private MaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_fill;
+        private BooleanCesiumWriter m_outline;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private IntegerCesiumWriter m_numberOfRings;
 
         /// <summary>
         /// Initializes a new instance.
@@ -137,7 +117,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -218,7 +203,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DirectionListCesiumWriter DirectionsWriter
         {
-            get { return m_directions.Value; }
+            get
+            {
+                if (m_directions == null)
+                    m_directions = AddChildWriter(new DirectionListCesiumWriter(DirectionsPropertyName));
+                return m_directions;
+            }
         }
 
         /// <summary>
@@ -285,7 +275,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter RadiusWriter
         {
-            get { return m_radius.Value; }
+            get
+            {
+                if (m_radius == null)
+                    m_radius = AddChildWriter(new DoubleCesiumWriter(RadiusPropertyName));
+                return m_radius;
+            }
         }
 
         /// <summary>
@@ -394,7 +389,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter PerDirectionRadiusWriter
         {
-            get { return m_perDirectionRadius.Value; }
+            get
+            {
+                if (m_perDirectionRadius == null)
+                    m_perDirectionRadius = AddChildWriter(new BooleanCesiumWriter(PerDirectionRadiusPropertyName));
+                return m_perDirectionRadius;
+            }
         }
 
         /// <summary>
@@ -475,7 +475,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -494,7 +499,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FillWriter
         {
-            get { return m_fill.Value; }
+            get
+            {
+                if (m_fill == null)
+                    m_fill = AddChildWriter(new BooleanCesiumWriter(FillPropertyName));
+                return m_fill;
+            }
         }
 
         /// <summary>
@@ -575,7 +585,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter OutlineWriter
         {
-            get { return m_outline.Value; }
+            get
+            {
+                if (m_outline == null)
+                    m_outline = AddChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+                return m_outline;
+            }
         }
 
         /// <summary>
@@ -656,7 +671,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -835,7 +855,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -944,7 +969,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter NumberOfRingsWriter
         {
-            get { return m_numberOfRings.Value; }
+            get
+            {
+                if (m_numberOfRings == null)
+                    m_numberOfRings = AddChildWriter(new IntegerCesiumWriter(NumberOfRingsPropertyName));
+                return m_numberOfRings;
+            }
         }
 
         /// <summary>
@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumFontValuePropertyAdaptor<FontCesiumWriter>> m_asFont;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<FontCesiumWriter>> m_asReference;
+        private CesiumFontValuePropertyAdaptor<FontCesiumWriter> m_asFont;
+        private CesiumReferenceValuePropertyAdaptor<FontCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public FontCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asFont = CreateAsFont();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected FontCesiumWriter([NotNull] FontCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asFont = CreateAsFont();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumFontValuePropertyAdaptor<FontCesiumWriter> AsFont()
         {
-            return m_asFont.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumFontValuePropertyAdaptor<FontCesiumWriter>> CreateAsFont()
-        {
-            return new Lazy<CesiumFontValuePropertyAdaptor<FontCesiumWriter>>(CreateFont, false);
+            if (m_asFont == null)
+                m_asFont = CreateFont();
+            return m_asFont;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<FontCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<FontCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<FontCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
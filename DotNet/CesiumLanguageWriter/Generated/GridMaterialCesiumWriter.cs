@@ -46,21 +46,11 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string LineOffsetPropertyName = "lineOffset";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_cellAlpha = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(CellAlphaPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<LineCountCesiumWriter> m_lineCount = new Lazy<LineCountCesiumWriter>(() => new LineCountCesiumWriter(LineCountPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<LineThicknessCesiumWriter> m_lineThickness = new Lazy<LineThicknessCesiumWriter>(() => new LineThicknessCesiumWriter(LineThicknessPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<LineOffsetCesiumWriter> m_lineOffset = new Lazy<LineOffsetCesiumWriter>(() => new LineOffsetCesiumWriter(LineOffsetPropertyName), false);
+        private ColorCesiumWriter m_color;
+        private DoubleCesiumWriter m_cellAlpha;
+        private LineCountCesiumWriter m_lineCount;
+        private LineThicknessCesiumWriter m_lineThickness;
+        private LineOffsetCesiumWriter m_lineOffset;
 
         /// <summary>
         /// Initializes a new instance.
@@ -92,7 +82,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -271,7 +266,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter CellAlphaWriter
         {
-            get { return m_cellAlpha.Value; }
+            get
+            {
+                if (m_cellAlpha == null)
+                    m_cellAlpha = AddChildWriter(new DoubleCesiumWriter(CellAlphaPropertyName));
+                return m_cellAlpha;
+            }
         }
 
         /// <summary>
@@ -380,7 +380,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public LineCountCesiumWriter LineCountWriter
         {
-            get { return m_lineCount.Value; }
+            get
+            {
+                if (m_lineCount == null)
+                    m_lineCount = AddChildWriter(new LineCountCesiumWriter(LineCountPropertyName));
+                return m_lineCount;
+            }
         }
 
         /// <summary>
@@ -502,7 +507,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public LineThicknessCesiumWriter LineThicknessWriter
         {
-            get { return m_lineThickness.Value; }
+            get
+            {
+                if (m_lineThickness == null)
+                    m_lineThickness = AddChildWriter(new LineThicknessCesiumWriter(LineThicknessPropertyName));
+                return m_lineThickness;
+            }
         }
 
         /// <summary>
@@ -624,7 +634,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public LineOffsetCesiumWriter LineOffsetWriter
         {
-            get { return m_lineOffset.Value; }
+            get
+            {
+                if (m_lineOffset == null)
+                    m_lineOffset = AddChildWriter(new LineOffsetCesiumWriter(LineOffsetPropertyName));
+                return m_lineOffset;
+            }
         }
 
         /// <summary>
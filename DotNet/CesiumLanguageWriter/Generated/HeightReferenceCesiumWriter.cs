@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> m_asHeightReference;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> m_asReference;
+        private CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> m_asHeightReference;
+        private CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public HeightReferenceCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asHeightReference = CreateAsHeightReference();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected HeightReferenceCesiumWriter([NotNull] HeightReferenceCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asHeightReference = CreateAsHeightReference();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> AsHeightReference()
         {
-            return m_asHeightReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> CreateAsHeightReference()
-        {
-            return new Lazy<CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>>(CreateHeightReference, false);
+            if (m_asHeightReference == null)
+                m_asHeightReference = CreateHeightReference();
+            return m_asHeightReference;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
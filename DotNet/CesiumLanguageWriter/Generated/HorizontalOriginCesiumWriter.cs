@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter>> m_asHorizontalOrigin;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter>> m_asReference;
+        private CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter> m_asHorizontalOrigin;
+        private CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public HorizontalOriginCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asHorizontalOrigin = CreateAsHorizontalOrigin();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected HorizontalOriginCesiumWriter([NotNull] HorizontalOriginCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asHorizontalOrigin = CreateAsHorizontalOrigin();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter> AsHorizontalOrigin()
         {
-            return m_asHorizontalOrigin.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter>> CreateAsHorizontalOrigin()
-        {
-            return new Lazy<CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter>>(CreateHorizontalOrigin, false);
+            if (m_asHorizontalOrigin == null)
+                m_asHorizontalOrigin = CreateHorizontalOrigin();
+            return m_asHorizontalOrigin;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -40,18 +40,10 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string TransparentPropertyName = "transparent";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<UriCesiumWriter> m_image = new Lazy<UriCesiumWriter>(() => new UriCesiumWriter(ImagePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<RepeatCesiumWriter> m_repeat = new Lazy<RepeatCesiumWriter>(() => new RepeatCesiumWriter(RepeatPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_transparent = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(TransparentPropertyName), false);
+        private UriCesiumWriter m_image;
+        private RepeatCesiumWriter m_repeat;
+        private ColorCesiumWriter m_color;
+        private BooleanCesiumWriter m_transparent;
 
         /// <summary>
         /// Initializes a new instance.
@@ -83,7 +75,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public UriCesiumWriter ImageWriter
         {
-            get { return m_image.Value; }
+            get
+            {
+                if (m_image == null)
+                    m_image = AddChildWriter(new UriCesiumWriter(ImagePropertyName));
+                return m_image;
+            }
         }
 
         /// <summary>
@@ -241,7 +238,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public RepeatCesiumWriter RepeatWriter
         {
-            get { return m_repeat.Value; }
+            get
+            {
+                if (m_repeat == null)
+                    m_repeat = AddChildWriter(new RepeatCesiumWriter(RepeatPropertyName));
+                return m_repeat;
+            }
         }
 
         /// <summary>
@@ -363,7 +365,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -542,7 +549,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter TransparentWriter
         {
-            get { return m_transparent.Value; }
+            get
+            {
+                if (m_transparent == null)
+                    m_transparent = AddChildWriter(new BooleanCesiumWriter(TransparentPropertyName));
+                return m_transparent;
+            }
         }
 
         /// <summary>
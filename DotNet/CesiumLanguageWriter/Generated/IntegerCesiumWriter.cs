@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter>> m_asNumber;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter>> m_asReference;
+        private CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter> m_asNumber;
+        private CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public IntegerCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asNumber = CreateAsNumber();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected IntegerCesiumWriter([NotNull] IntegerCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asNumber = CreateAsNumber();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -179,13 +171,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter> AsNumber()
         {
-            return m_asNumber.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter>> CreateAsNumber()
-        {
-            return new Lazy<CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter>>(CreateInteger, false);
+            if (m_asNumber == null)
+                m_asNumber = CreateInteger();
+            return m_asNumber;
         }
 
         [NotNull]
@@ -201,13 +189,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -142,69 +142,27 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DisableDepthTestDistancePropertyName = "disableDepthTestDistance";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<StringCesiumWriter> m_text = new Lazy<StringCesiumWriter>(() => new StringCesiumWriter(TextPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<FontCesiumWriter> m_font = new Lazy<FontCesiumWriter>(() => new FontCesiumWriter(FontPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<LabelStyleCesiumWriter> m_style = new Lazy<LabelStyleCesiumWriter>(() => new LabelStyleCesiumWriter(StylePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_scale = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ScalePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showBackground = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowBackgroundPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_backgroundColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(BackgroundColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BackgroundPaddingCesiumWriter> m_backgroundPadding = new Lazy<BackgroundPaddingCesiumWriter>(() => new BackgroundPaddingCesiumWriter(BackgroundPaddingPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PixelOffsetCesiumWriter> m_pixelOffset = new Lazy<PixelOffsetCesiumWriter>(() => new PixelOffsetCesiumWriter(PixelOffsetPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<EyeOffsetCesiumWriter> m_eyeOffset = new Lazy<EyeOffsetCesiumWriter>(() => new EyeOffsetCesiumWriter(EyeOffsetPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HorizontalOriginCesiumWriter> m_horizontalOrigin = new Lazy<HorizontalOriginCesiumWriter>(() => new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<VerticalOriginCesiumWriter> m_verticalOrigin = new Lazy<VerticalOriginCesiumWriter>(() => new VerticalOriginCesiumWriter(VerticalOriginPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_fillColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(FillColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_translucencyByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_pixelOffsetScaleByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_scaleByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(ScaleByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_disableDepthTestDistance = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(DisableDepthTestDistancePropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private StringCesiumWriter m_text;
+        private FontCesiumWriter m_font;
+        private LabelStyleCesiumWriter m_style;
+        private DoubleCesiumWriter m_scale;
+        private BooleanCesiumWriter m_showBackground;
+        private ColorCesiumWriter m_backgroundColor;
+        private BackgroundPaddingCesiumWriter m_backgroundPadding;
+        private PixelOffsetCesiumWriter m_pixelOffset;
+        private EyeOffsetCesiumWriter m_eyeOffset;
+        private HorizontalOriginCesiumWriter m_horizontalOrigin;
+        private VerticalOriginCesiumWriter m_verticalOrigin;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private ColorCesiumWriter m_fillColor;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private NearFarScalarCesiumWriter m_translucencyByDistance;
+        private NearFarScalarCesiumWriter m_pixelOffsetScaleByDistance;
+        private NearFarScalarCesiumWriter m_scaleByDistance;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private DoubleCesiumWriter m_disableDepthTestDistance;
 
         /// <summary>
         /// Initializes a new instance.
@@ -236,7 +194,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -317,7 +280,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public StringCesiumWriter TextWriter
         {
-            get { return m_text.Value; }
+            get
+            {
+                if (m_text == null)
+                    m_text = AddChildWriter(new StringCesiumWriter(TextPropertyName));
+                return m_text;
+            }
         }
 
         /// <summary>
@@ -398,7 +366,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public FontCesiumWriter FontWriter
         {
-            get { return m_font.Value; }
+            get
+            {
+                if (m_font == null)
+                    m_font = AddChildWriter(new FontCesiumWriter(FontPropertyName));
+                return m_font;
+            }
         }
 
         /// <summary>
@@ -479,7 +452,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public LabelStyleCesiumWriter StyleWriter
         {
-            get { return m_style.Value; }
+            get
+            {
+                if (m_style == null)
+                    m_style = AddChildWriter(new LabelStyleCesiumWriter(StylePropertyName));
+                return m_style;
+            }
         }
 
         /// <summary>
@@ -560,7 +538,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ScaleWriter
         {
-            get { return m_scale.Value; }
+            get
+            {
+                if (m_scale == null)
+                    m_scale = AddChildWriter(new DoubleCesiumWriter(ScalePropertyName));
+                return m_scale;
+            }
         }
 
         /// <summary>
@@ -669,7 +652,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowBackgroundWriter
         {
-            get { return m_showBackground.Value; }
+            get
+            {
+                if (m_showBackground == null)
+                    m_showBackground = AddChildWriter(new BooleanCesiumWriter(ShowBackgroundPropertyName));
+                return m_showBackground;
+            }
         }
 
         /// <summary>
@@ -750,7 +738,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter BackgroundColorWriter
         {
-            get { return m_backgroundColor.Value; }
+            get
+            {
+                if (m_backgroundColor == null)
+                    m_backgroundColor = AddChildWriter(new ColorCesiumWriter(BackgroundColorPropertyName));
+                return m_backgroundColor;
+            }
         }
 
         /// <summary>
@@ -929,7 +922,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BackgroundPaddingCesiumWriter BackgroundPaddingWriter
         {
-            get { return m_backgroundPadding.Value; }
+            get
+            {
+                if (m_backgroundPadding == null)
+                    m_backgroundPadding = AddChildWriter(new BackgroundPaddingCesiumWriter(BackgroundPaddingPropertyName));
+                return m_backgroundPadding;
+            }
         }
 
         /// <summary>
@@ -1051,7 +1049,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PixelOffsetCesiumWriter PixelOffsetWriter
         {
-            get { return m_pixelOffset.Value; }
+            get
+            {
+                if (m_pixelOffset == null)
+                    m_pixelOffset = AddChildWriter(new PixelOffsetCesiumWriter(PixelOffsetPropertyName));
+                return m_pixelOffset;
+            }
         }
 
         /// <summary>
@@ -1173,7 +1176,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public EyeOffsetCesiumWriter EyeOffsetWriter
         {
-            get { return m_eyeOffset.Value; }
+            get
+            {
+                if (m_eyeOffset == null)
+                    m_eyeOffset = AddChildWriter(new EyeOffsetCesiumWriter(EyeOffsetPropertyName));
+                return m_eyeOffset;
+            }
         }
 
         /// <summary>
@@ -1282,7 +1290,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HorizontalOriginCesiumWriter HorizontalOriginWriter
         {
-            get { return m_horizontalOrigin.Value; }
+            get
+            {
+                if (m_horizontalOrigin == null)
+                    m_horizontalOrigin = AddChildWriter(new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName));
+                return m_horizontalOrigin;
+            }
         }
 
         /// <summary>
@@ -1363,7 +1376,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public VerticalOriginCesiumWriter VerticalOriginWriter
         {
-            get { return m_verticalOrigin.Value; }
+            get
+            {
+                if (m_verticalOrigin == null)
+                    m_verticalOrigin = AddChildWriter(new VerticalOriginCesiumWriter(VerticalOriginPropertyName));
+                return m_verticalOrigin;
+            }
         }
 
         /// <summary>
@@ -1444,7 +1462,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -1525,7 +1548,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter FillColorWriter
         {
-            get { return m_fillColor.Value; }
+            get
+            {
+                if (m_fillColor == null)
+                    m_fillColor = AddChildWriter(new ColorCesiumWriter(FillColorPropertyName));
+                return m_fillColor;
+            }
         }
 
         /// <summary>
@@ -1704,7 +1732,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -1883,7 +1916,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -1992,7 +2030,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter TranslucencyByDistanceWriter
         {
-            get { return m_translucencyByDistance.Value; }
+            get
+            {
+                if (m_translucencyByDistance == null)
+                    m_translucencyByDistance = AddChildWriter(new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName));
+                return m_translucencyByDistance;
+            }
         }
 
         /// <summary>
@@ -2116,7 +2159,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter PixelOffsetScaleByDistanceWriter
         {
-            get { return m_pixelOffsetScaleByDistance.Value; }
+            get
+            {
+                if (m_pixelOffsetScaleByDistance == null)
+                    m_pixelOffsetScaleByDistance = AddChildWriter(new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName));
+                return m_pixelOffsetScaleByDistance;
+            }
         }
 
         /// <summary>
@@ -2240,7 +2288,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter ScaleByDistanceWriter
         {
-            get { return m_scaleByDistance.Value; }
+            get
+            {
+                if (m_scaleByDistance == null)
+                    m_scaleByDistance = AddChildWriter(new NearFarScalarCesiumWriter(ScaleByDistancePropertyName));
+                return m_scaleByDistance;
+            }
         }
 
         /// <summary>
@@ -2364,7 +2417,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -2486,7 +2544,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter DisableDepthTestDistanceWriter
         {
-            get { return m_disableDepthTestDistance.Value; }
+            get
+            {
+                if (m_disableDepthTestDistance == null)
+                    m_disableDepthTestDistance = AddChildWriter(new DoubleCesiumWriter(DisableDepthTestDistancePropertyName));
+                return m_disableDepthTestDistance;
+            }
         }
 
         /// <summary>
@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter>> m_asLabelStyle;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter>> m_asReference;
+        private CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter> m_asLabelStyle;
+        private CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public LabelStyleCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asLabelStyle = CreateAsLabelStyle();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected LabelStyleCesiumWriter([NotNull] LabelStyleCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asLabelStyle = CreateAsLabelStyle();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter> AsLabelStyle()
         {
-            return m_asLabelStyle.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter>> CreateAsLabelStyle()
-        {
-            return new Lazy<CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter>>(CreateLabelStyle, false);
+            if (m_asLabelStyle == null)
+                m_asLabelStyle = CreateLabelStyle();
+            return m_asLabelStyle;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
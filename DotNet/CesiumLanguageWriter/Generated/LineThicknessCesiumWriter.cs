@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian2ValuePropertyAdaptor<LineThicknessCesiumWriter>> m_asCartesian2;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<LineThicknessCesiumWriter>> m_asReference;
+        private CesiumCartesian2ValuePropertyAdaptor<LineThicknessCesiumWriter> m_asCartesian2;
+        private CesiumReferenceValuePropertyAdaptor<LineThicknessCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public LineThicknessCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCartesian2 = CreateAsCartesian2();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected LineThicknessCesiumWriter([NotNull] LineThicknessCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCartesian2 = CreateAsCartesian2();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -183,13 +175,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian2ValuePropertyAdaptor<LineThicknessCesiumWriter> AsCartesian2()
         {
-            return m_asCartesian2.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian2ValuePropertyAdaptor<LineThicknessCesiumWriter>> CreateAsCartesian2()
-        {
-            return new Lazy<CesiumCartesian2ValuePropertyAdaptor<LineThicknessCesiumWriter>>(CreateCartesian2, false);
+            if (m_asCartesian2 == null)
+                m_asCartesian2 = CreateCartesian2();
+            return m_asCartesian2;
         }
 
         [NotNull]
@@ -205,13 +193,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<LineThicknessCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<LineThicknessCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<LineThicknessCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -46,21 +46,11 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string CheckerboardPropertyName = "checkerboard";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<SolidColorMaterialCesiumWriter> m_solidColor = new Lazy<SolidColorMaterialCesiumWriter>(() => new SolidColorMaterialCesiumWriter(SolidColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ImageMaterialCesiumWriter> m_image = new Lazy<ImageMaterialCesiumWriter>(() => new ImageMaterialCesiumWriter(ImagePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<GridMaterialCesiumWriter> m_grid = new Lazy<GridMaterialCesiumWriter>(() => new GridMaterialCesiumWriter(GridPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<StripeMaterialCesiumWriter> m_stripe = new Lazy<StripeMaterialCesiumWriter>(() => new StripeMaterialCesiumWriter(StripePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CheckerboardMaterialCesiumWriter> m_checkerboard = new Lazy<CheckerboardMaterialCesiumWriter>(() => new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName), false);
+        private SolidColorMaterialCesiumWriter m_solidColor;
+        private ImageMaterialCesiumWriter m_image;
+        private GridMaterialCesiumWriter m_grid;
+        private StripeMaterialCesiumWriter m_stripe;
+        private CheckerboardMaterialCesiumWriter m_checkerboard;
 
         /// <summary>
         /// Initializes a new instance.
@@ -92,7 +82,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public SolidColorMaterialCesiumWriter SolidColorWriter
         {
-            get { return m_solidColor.Value; }
+            get
+            {
+                if (m_solidColor == null)
+                    m_solidColor = AddChildWriter(new SolidColorMaterialCesiumWriter(SolidColorPropertyName));
+                return m_solidColor;
+            }
         }
 
         /// <summary>
@@ -111,7 +106,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ImageMaterialCesiumWriter ImageWriter
         {
-            get { return m_image.Value; }
+            get
+            {
+                if (m_image == null)
+                    m_image = AddChildWriter(new ImageMaterialCesiumWriter(ImagePropertyName));
+                return m_image;
+            }
         }
 
         /// <summary>
@@ -130,7 +130,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public GridMaterialCesiumWriter GridWriter
         {
-            get { return m_grid.Value; }
+            get
+            {
+                if (m_grid == null)
+                    m_grid = AddChildWriter(new GridMaterialCesiumWriter(GridPropertyName));
+                return m_grid;
+            }
         }
 
         /// <summary>
@@ -149,7 +154,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public StripeMaterialCesiumWriter StripeWriter
         {
-            get { return m_stripe.Value; }
+            get
+            {
+                if (m_stripe == null)
+                    m_stripe = AddChildWriter(new StripeMaterialCesiumWriter(StripePropertyName));
+                return m_stripe;
+            }
         }
 
         /// <summary>
@@ -168,7 +178,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CheckerboardMaterialCesiumWriter CheckerboardWriter
         {
-            get { return m_checkerboard.Value; }
+            get
+            {
+                if (m_checkerboard == null)
+                    m_checkerboard = AddChildWriter(new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName));
+                return m_checkerboard;
+            }
         }
 
         /// <summary>
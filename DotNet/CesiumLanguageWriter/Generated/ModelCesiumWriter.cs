@@ -118,57 +118,23 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ArticulationsPropertyName = "articulations";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<UriCesiumWriter> m_gltf = new Lazy<UriCesiumWriter>(() => new UriCesiumWriter(GltfPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_scale = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ScalePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_minimumPixelSize = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MinimumPixelSizePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_maximumScale = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MaximumScalePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_incrementallyLoadTextures = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(IncrementallyLoadTexturesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_runAnimations = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(RunAnimationsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_silhouetteColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(SilhouetteColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_silhouetteSize = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(SilhouetteSizePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorBlendModeCesiumWriter> m_colorBlendMode = new Lazy<ColorBlendModeCesiumWriter>(() => new ColorBlendModeCesiumWriter(ColorBlendModePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_colorBlendAmount = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ColorBlendAmountPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NodeTransformationsCesiumWriter> m_nodeTransformations = new Lazy<NodeTransformationsCesiumWriter>(() => new NodeTransformationsCesiumWriter(NodeTransformationsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ArticulationsCesiumWriter> m_articulations = new Lazy<ArticulationsCesiumWriter>(() => new ArticulationsCesiumWriter(ArticulationsPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private UriCesiumWriter m_gltf;
+        private DoubleCesiumWriter m_scale;
+        private DoubleCesiumWriter m_minimumPixelSize;
+        private DoubleCesiumWriter m_maximumScale;
+        private BooleanCesiumWriter m_incrementallyLoadTextures;
+        private BooleanCesiumWriter m_runAnimations;
+        private ShadowModeCesiumWriter m_shadows;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private ColorCesiumWriter m_silhouetteColor;
+        private DoubleCesiumWriter m_silhouetteSize;
+        private ColorCesiumWriter m_color;
+        private ColorBlendModeCesiumWriter m_colorBlendMode;
+        private DoubleCesiumWriter m_colorBlendAmount;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private NodeTransformationsCesiumWriter m_nodeTransformations;
+        private ArticulationsCesiumWriter m_articulations;
 
         /// <summary>
         /// Initializes a new instance.
@@ -200,7 +166,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -281,7 +252,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public UriCesiumWriter GltfWriter
         {
-            get { return m_gltf.Value; }
+            get
+            {
+                if (m_gltf == null)
+                    m_gltf = AddChildWriter(new UriCesiumWriter(GltfPropertyName));
+                return m_gltf;
+            }
         }
 
         /// <summary>
@@ -439,7 +415,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ScaleWriter
         {
-            get { return m_scale.Value; }
+            get
+            {
+                if (m_scale == null)
+                    m_scale = AddChildWriter(new DoubleCesiumWriter(ScalePropertyName));
+                return m_scale;
+            }
         }
 
         /// <summary>
@@ -548,7 +529,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MinimumPixelSizeWriter
         {
-            get { return m_minimumPixelSize.Value; }
+            get
+            {
+                if (m_minimumPixelSize == null)
+                    m_minimumPixelSize = AddChildWriter(new DoubleCesiumWriter(MinimumPixelSizePropertyName));
+                return m_minimumPixelSize;
+            }
         }
 
         /// <summary>
@@ -657,7 +643,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MaximumScaleWriter
         {
-            get { return m_maximumScale.Value; }
+            get
+            {
+                if (m_maximumScale == null)
+                    m_maximumScale = AddChildWriter(new DoubleCesiumWriter(MaximumScalePropertyName));
+                return m_maximumScale;
+            }
         }
 
         /// <summary>
@@ -766,7 +757,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter IncrementallyLoadTexturesWriter
         {
-            get { return m_incrementallyLoadTextures.Value; }
+            get
+            {
+                if (m_incrementallyLoadTextures == null)
+                    m_incrementallyLoadTextures = AddChildWriter(new BooleanCesiumWriter(IncrementallyLoadTexturesPropertyName));
+                return m_incrementallyLoadTextures;
+            }
         }
 
         /// <summary>
@@ -847,7 +843,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter RunAnimationsWriter
         {
-            get { return m_runAnimations.Value; }
+            get
+            {
+                if (m_runAnimations == null)
+                    m_runAnimations = AddChildWriter(new BooleanCesiumWriter(RunAnimationsPropertyName));
+                return m_runAnimations;
+            }
         }
 
         /// <summary>
@@ -928,7 +929,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -1009,7 +1015,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -1090,7 +1101,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter SilhouetteColorWriter
         {
-            get { return m_silhouetteColor.Value; }
+            get
+            {
+                if (m_silhouetteColor == null)
+                    m_silhouetteColor = AddChildWriter(new ColorCesiumWriter(SilhouetteColorPropertyName));
+                return m_silhouetteColor;
+            }
         }
 
         /// <summary>
@@ -1269,7 +1285,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter SilhouetteSizeWriter
         {
-            get { return m_silhouetteSize.Value; }
+            get
+            {
+                if (m_silhouetteSize == null)
+                    m_silhouetteSize = AddChildWriter(new DoubleCesiumWriter(SilhouetteSizePropertyName));
+                return m_silhouetteSize;
+            }
         }
 
         /// <summary>
@@ -1378,7 +1399,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -1557,7 +1583,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorBlendModeCesiumWriter ColorBlendModeWriter
         {
-            get { return m_colorBlendMode.Value; }
+            get
+            {
+                if (m_colorBlendMode == null)
+                    m_colorBlendMode = AddChildWriter(new ColorBlendModeCesiumWriter(ColorBlendModePropertyName));
+                return m_colorBlendMode;
+            }
         }
 
         /// <summary>
@@ -1638,7 +1669,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ColorBlendAmountWriter
         {
-            get { return m_colorBlendAmount.Value; }
+            get
+            {
+                if (m_colorBlendAmount == null)
+                    m_colorBlendAmount = AddChildWriter(new DoubleCesiumWriter(ColorBlendAmountPropertyName));
+                return m_colorBlendAmount;
+            }
         }
 
         /// <summary>
@@ -1747,7 +1783,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -1869,7 +1910,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NodeTransformationsCesiumWriter NodeTransformationsWriter
         {
-            get { return m_nodeTransformations.Value; }
+            get
+            {
+                if (m_nodeTransformations == null)
+                    m_nodeTransformations = AddChildWriter(new NodeTransformationsCesiumWriter(NodeTransformationsPropertyName));
+                return m_nodeTransformations;
+            }
         }
 
         /// <summary>
@@ -1888,7 +1934,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ArticulationsCesiumWriter ArticulationsWriter
         {
-            get { return m_articulations.Value; }
+            get
+            {
+                if (m_articulations == null)
+                    m_articulations = AddChildWriter(new ArticulationsCesiumWriter(ArticulationsPropertyName));
+                return m_articulations;
+            }
         }
 
         /// <summary>
@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter>> m_asNearFarScalar;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter>> m_asReference;
+        private CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter> m_asNearFarScalar;
+        private CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public NearFarScalarCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asNearFarScalar = CreateAsNearFarScalar();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected NearFarScalarCesiumWriter([NotNull] NearFarScalarCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asNearFarScalar = CreateAsNearFarScalar();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -185,13 +177,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter> AsNearFarScalar()
         {
-            return m_asNearFarScalar.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter>> CreateAsNearFarScalar()
-        {
-            return new Lazy<CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter>>(CreateNearFarScalar, false);
+            if (m_asNearFarScalar == null)
+                m_asNearFarScalar = CreateNearFarScalar();
+            return m_asNearFarScalar;
         }
 
         [NotNull]
@@ -207,13 +195,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
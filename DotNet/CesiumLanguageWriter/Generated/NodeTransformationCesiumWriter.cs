@@ -33,15 +33,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ScalePropertyName = "scale";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<TranslationCesiumWriter> m_translation = new Lazy<TranslationCesiumWriter>(() => new TranslationCesiumWriter(TranslationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<RotationCesiumWriter> m_rotation = new Lazy<RotationCesiumWriter>(() => new RotationCesiumWriter(RotationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ScaleCesiumWriter> m_scale = new Lazy<ScaleCesiumWriter>(() => new ScaleCesiumWriter(ScalePropertyName), false);
+        private TranslationCesiumWriter m_translation;
+        private RotationCesiumWriter m_rotation;
+        private ScaleCesiumWriter m_scale;
 
         /// <summary>
         /// Initializes a new instance.
@@ -73,7 +67,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public TranslationCesiumWriter TranslationWriter
         {
-            get { return m_translation.Value; }
+            get
+            {
+                if (m_translation == null)
+                    m_translation = AddChildWriter(new TranslationCesiumWriter(TranslationPropertyName));
+                return m_translation;
+            }
         }
 
         /// <summary>
@@ -182,7 +181,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public RotationCesiumWriter RotationWriter
         {
-            get { return m_rotation.Value; }
+            get
+            {
+                if (m_rotation == null)
+                    m_rotation = AddChildWriter(new RotationCesiumWriter(RotationPropertyName));
+                return m_rotation;
+            }
         }
 
         /// <summary>
@@ -291,7 +295,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ScaleCesiumWriter ScaleWriter
         {
-            get { return m_scale.Value; }
+            get
+            {
+                if (m_scale == null)
+                    m_scale = AddChildWriter(new ScaleCesiumWriter(ScalePropertyName));
+                return m_scale;
+            }
         }
 
         /// <summary>
@@ -39,15 +39,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter>> m_asUnitQuaternion;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter>> m_asReference;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter>> m_asVelocityReference;
+        private CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter> m_asUnitQuaternion;
+        private CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter> m_asReference;
+        private CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter> m_asVelocityReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -56,9 +50,6 @@ namespace CesiumLanguageWriter
         public OrientationCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asUnitQuaternion = CreateAsUnitQuaternion();
-            m_asReference = CreateAsReference();
-            m_asVelocityReference = CreateAsVelocityReference();
         }
 
         /// <summary>
@@ -68,9 +59,6 @@ namespace CesiumLanguageWriter
         protected OrientationCesiumWriter([NotNull] OrientationCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asUnitQuaternion = CreateAsUnitQuaternion();
-            m_asReference = CreateAsReference();
-            m_asVelocityReference = CreateAsVelocityReference();
         }
 
         /// <inheritdoc/>
@@ -115,6 +103,30 @@ namespace CesiumLanguageWriter
             CesiumWritingHelper.WriteUnitQuaternion(Output, PropertyName, dates, values, startIndex, length);
         }
 
+        /// <summary>
+        /// Writes the value expressed as a <c>unitQuaternion</c>, which is the orientation specified as a 4-dimensional unit magnitude quaternion, specified as <c>[X, Y, Z, W]</c>.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        public void WriteUnitQuaternion([NotNull] SharedTimeGrid grid, IList<UnitQuaternion> values)
+        {
+            WriteUnitQuaternion(grid, values, 0, grid.Count);
+        }
+
+        /// <summary>
+        /// Writes the value expressed as a <c>unitQuaternion</c>, which is the orientation specified as a 4-dimensional unit magnitude quaternion, specified as <c>[X, Y, Z, W]</c>.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to write.</param>
+        /// <param name="length">The number of elements to write.</param>
+        public void WriteUnitQuaternion([NotNull] SharedTimeGrid grid, IList<UnitQuaternion> values, int startIndex, int length)
+        {
+            const string PropertyName = UnitQuaternionPropertyName;
+            OpenIntervalIfNecessary();
+            CesiumWritingHelper.WriteUnitQuaternion(Output, PropertyName, grid, values, startIndex, length);
+        }
+
         /// <summary>
         /// Writes the value expressed as a <c>reference</c>, which is the orientation specified as a reference to another property.
         /// </summary>
@@ -234,13 +246,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter> AsUnitQuaternion()
         {
-            return m_asUnitQuaternion.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter>> CreateAsUnitQuaternion()
-        {
-            return new Lazy<CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter>>(CreateUnitQuaternion, false);
+            if (m_asUnitQuaternion == null)
+                m_asUnitQuaternion = CreateUnitQuaternion();
+            return m_asUnitQuaternion;
         }
 
         [NotNull]
@@ -256,13 +264,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -278,13 +282,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter> AsVelocityReference()
         {
-            return m_asVelocityReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter>> CreateAsVelocityReference()
-        {
-            return new Lazy<CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter>>(CreateVelocityReference, false);
+            if (m_asVelocityReference == null)
+                m_asVelocityReference = CreateVelocityReference();
+            return m_asVelocityReference;
         }
 
         [NotNull]
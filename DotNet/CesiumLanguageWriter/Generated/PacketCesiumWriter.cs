@@ -214,87 +214,33 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string VectorPropertyName = "agi_vector";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<StringCesiumWriter> m_description = new Lazy<StringCesiumWriter>(() => new StringCesiumWriter(DescriptionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ClockCesiumWriter> m_clock = new Lazy<ClockCesiumWriter>(() => new ClockCesiumWriter(ClockPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CustomPropertiesCesiumWriter> m_properties = new Lazy<CustomPropertiesCesiumWriter>(() => new CustomPropertiesCesiumWriter(PropertiesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PositionCesiumWriter> m_position = new Lazy<PositionCesiumWriter>(() => new PositionCesiumWriter(PositionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<OrientationCesiumWriter> m_orientation = new Lazy<OrientationCesiumWriter>(() => new OrientationCesiumWriter(OrientationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ViewFromCesiumWriter> m_viewFrom = new Lazy<ViewFromCesiumWriter>(() => new ViewFromCesiumWriter(ViewFromPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BillboardCesiumWriter> m_billboard = new Lazy<BillboardCesiumWriter>(() => new BillboardCesiumWriter(BillboardPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BoxCesiumWriter> m_box = new Lazy<BoxCesiumWriter>(() => new BoxCesiumWriter(BoxPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CorridorCesiumWriter> m_corridor = new Lazy<CorridorCesiumWriter>(() => new CorridorCesiumWriter(CorridorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CylinderCesiumWriter> m_cylinder = new Lazy<CylinderCesiumWriter>(() => new CylinderCesiumWriter(CylinderPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<EllipseCesiumWriter> m_ellipse = new Lazy<EllipseCesiumWriter>(() => new EllipseCesiumWriter(EllipsePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<EllipsoidCesiumWriter> m_ellipsoid = new Lazy<EllipsoidCesiumWriter>(() => new EllipsoidCesiumWriter(EllipsoidPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<LabelCesiumWriter> m_label = new Lazy<LabelCesiumWriter>(() => new LabelCesiumWriter(LabelPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ModelCesiumWriter> m_model = new Lazy<ModelCesiumWriter>(() => new ModelCesiumWriter(ModelPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PathCesiumWriter> m_path = new Lazy<PathCesiumWriter>(() => new PathCesiumWriter(PathPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PointCesiumWriter> m_point = new Lazy<PointCesiumWriter>(() => new PointCesiumWriter(PointPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolygonCesiumWriter> m_polygon = new Lazy<PolygonCesiumWriter>(() => new PolygonCesiumWriter(PolygonPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineCesiumWriter> m_polyline = new Lazy<PolylineCesiumWriter>(() => new PolylineCesiumWriter(PolylinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineVolumeCesiumWriter> m_polylineVolume = new Lazy<PolylineVolumeCesiumWriter>(() => new PolylineVolumeCesiumWriter(PolylineVolumePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<RectangleCesiumWriter> m_rectangle = new Lazy<RectangleCesiumWriter>(() => new RectangleCesiumWriter(RectanglePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<TilesetCesiumWriter> m_tileset = new Lazy<TilesetCesiumWriter>(() => new TilesetCesiumWriter(TilesetPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<WallCesiumWriter> m_wall = new Lazy<WallCesiumWriter>(() => new WallCesiumWriter(WallPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ConicSensorCesiumWriter> m_agi_conicSensor = new Lazy<ConicSensorCesiumWriter>(() => new ConicSensorCesiumWriter(ConicSensorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CustomPatternSensorCesiumWriter> m_agi_customPatternSensor = new Lazy<CustomPatternSensorCesiumWriter>(() => new CustomPatternSensorCesiumWriter(CustomPatternSensorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<RectangularSensorCesiumWriter> m_agi_rectangularSensor = new Lazy<RectangularSensorCesiumWriter>(() => new RectangularSensorCesiumWriter(RectangularSensorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<FanCesiumWriter> m_agi_fan = new Lazy<FanCesiumWriter>(() => new FanCesiumWriter(FanPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<VectorCesiumWriter> m_agi_vector = new Lazy<VectorCesiumWriter>(() => new VectorCesiumWriter(VectorPropertyName), false);
+        private StringCesiumWriter m_description;
+        private ClockCesiumWriter m_clock;
+        private CustomPropertiesCesiumWriter m_properties;
+        private PositionCesiumWriter m_position;
+        private OrientationCesiumWriter m_orientation;
+        private ViewFromCesiumWriter m_viewFrom;
+        private BillboardCesiumWriter m_billboard;
+        private BoxCesiumWriter m_box;
+        private CorridorCesiumWriter m_corridor;
+        private CylinderCesiumWriter m_cylinder;
+        private EllipseCesiumWriter m_ellipse;
+        private EllipsoidCesiumWriter m_ellipsoid;
+        private LabelCesiumWriter m_label;
+        private ModelCesiumWriter m_model;
+        private PathCesiumWriter m_path;
+        private PointCesiumWriter m_point;
+        private PolygonCesiumWriter m_polygon;
+        private PolylineCesiumWriter m_polyline;
+        private PolylineVolumeCesiumWriter m_polylineVolume;
+        private RectangleCesiumWriter m_rectangle;
+        private TilesetCesiumWriter m_tileset;
+        private WallCesiumWriter m_wall;
+        private ConicSensorCesiumWriter m_agi_conicSensor;
+        private CustomPatternSensorCesiumWriter m_agi_customPatternSensor;
+        private RectangularSensorCesiumWriter m_agi_rectangularSensor;
+        private FanCesiumWriter m_agi_fan;
+        private VectorCesiumWriter m_agi_vector;
 
         /// <summary>
         /// Writes the start of a new JSON object representing the packet.
@@ -362,7 +308,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public StringCesiumWriter DescriptionWriter
         {
-            get { return m_description.Value; }
+            get
+            {
+                if (m_description == null)
+                    m_description = AddChildWriter(new StringCesiumWriter(DescriptionPropertyName));
+                return m_description;
+            }
         }
 
         /// <summary>
@@ -442,7 +393,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ClockCesiumWriter ClockWriter
         {
-            get { return m_clock.Value; }
+            get
+            {
+                if (m_clock == null)
+                    m_clock = AddChildWriter(new ClockCesiumWriter(ClockPropertyName));
+                return m_clock;
+            }
         }
 
         /// <summary>
@@ -503,7 +459,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CustomPropertiesCesiumWriter PropertiesWriter
         {
-            get { return m_properties.Value; }
+            get
+            {
+                if (m_properties == null)
+                    m_properties = AddChildWriter(new CustomPropertiesCesiumWriter(PropertiesPropertyName));
+                return m_properties;
+            }
         }
 
         /// <summary>
@@ -521,7 +482,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PositionCesiumWriter PositionWriter
         {
-            get { return m_position.Value; }
+            get
+            {
+                if (m_position == null)
+                    m_position = AddChildWriter(new PositionCesiumWriter(PositionPropertyName));
+                return m_position;
+            }
         }
 
         /// <summary>
@@ -749,7 +715,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public OrientationCesiumWriter OrientationWriter
         {
-            get { return m_orientation.Value; }
+            get
+            {
+                if (m_orientation == null)
+                    m_orientation = AddChildWriter(new OrientationCesiumWriter(OrientationPropertyName));
+                return m_orientation;
+            }
         }
 
         /// <summary>
@@ -907,7 +878,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ViewFromCesiumWriter ViewFromWriter
         {
-            get { return m_viewFrom.Value; }
+            get
+            {
+                if (m_viewFrom == null)
+                    m_viewFrom = AddChildWriter(new ViewFromCesiumWriter(ViewFromPropertyName));
+                return m_viewFrom;
+            }
         }
 
         /// <summary>
@@ -1015,7 +991,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BillboardCesiumWriter BillboardWriter
         {
-            get { return m_billboard.Value; }
+            get
+            {
+                if (m_billboard == null)
+                    m_billboard = AddChildWriter(new BillboardCesiumWriter(BillboardPropertyName));
+                return m_billboard;
+            }
         }
 
         /// <summary>
@@ -1033,7 +1014,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BoxCesiumWriter BoxWriter
         {
-            get { return m_box.Value; }
+            get
+            {
+                if (m_box == null)
+                    m_box = AddChildWriter(new BoxCesiumWriter(BoxPropertyName));
+                return m_box;
+            }
         }
 
         /// <summary>
@@ -1051,7 +1037,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CorridorCesiumWriter CorridorWriter
         {
-            get { return m_corridor.Value; }
+            get
+            {
+                if (m_corridor == null)
+                    m_corridor = AddChildWriter(new CorridorCesiumWriter(CorridorPropertyName));
+                return m_corridor;
+            }
         }
 
         /// <summary>
@@ -1069,7 +1060,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CylinderCesiumWriter CylinderWriter
         {
-            get { return m_cylinder.Value; }
+            get
+            {
+                if (m_cylinder == null)
+                    m_cylinder = AddChildWriter(new CylinderCesiumWriter(CylinderPropertyName));
+                return m_cylinder;
+            }
         }
 
         /// <summary>
@@ -1087,7 +1083,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public EllipseCesiumWriter EllipseWriter
         {
-            get { return m_ellipse.Value; }
+            get
+            {
+                if (m_ellipse == null)
+                    m_ellipse = AddChildWriter(new EllipseCesiumWriter(EllipsePropertyName));
+                return m_ellipse;
+            }
         }
 
         /// <summary>
@@ -1105,7 +1106,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public EllipsoidCesiumWriter EllipsoidWriter
         {
-            get { return m_ellipsoid.Value; }
+            get
+            {
+                if (m_ellipsoid == null)
+                    m_ellipsoid = AddChildWriter(new EllipsoidCesiumWriter(EllipsoidPropertyName));
+                return m_ellipsoid;
+            }
         }
 
         /// <summary>
@@ -1123,7 +1129,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public LabelCesiumWriter LabelWriter
         {
-            get { return m_label.Value; }
+            get
+            {
+                if (m_label == null)
+                    m_label = AddChildWriter(new LabelCesiumWriter(LabelPropertyName));
+                return m_label;
+            }
         }
 
         /// <summary>
@@ -1141,7 +1152,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ModelCesiumWriter ModelWriter
         {
-            get { return m_model.Value; }
+            get
+            {
+                if (m_model == null)
+                    m_model = AddChildWriter(new ModelCesiumWriter(ModelPropertyName));
+                return m_model;
+            }
         }
 
         /// <summary>
@@ -1159,7 +1175,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PathCesiumWriter PathWriter
         {
-            get { return m_path.Value; }
+            get
+            {
+                if (m_path == null)
+                    m_path = AddChildWriter(new PathCesiumWriter(PathPropertyName));
+                return m_path;
+            }
         }
 
         /// <summary>
@@ -1177,7 +1198,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PointCesiumWriter PointWriter
         {
-            get { return m_point.Value; }
+            get
+            {
+                if (m_point == null)
+                    m_point = AddChildWriter(new PointCesiumWriter(PointPropertyName));
+                return m_point;
+            }
         }
 
         /// <summary>
@@ -1195,7 +1221,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolygonCesiumWriter PolygonWriter
         {
-            get { return m_polygon.Value; }
+            get
+            {
+                if (m_polygon == null)
+                    m_polygon = AddChildWriter(new PolygonCesiumWriter(PolygonPropertyName));
+                return m_polygon;
+            }
         }
 
         /// <summary>
@@ -1213,7 +1244,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineCesiumWriter PolylineWriter
         {
-            get { return m_polyline.Value; }
+            get
+            {
+                if (m_polyline == null)
+                    m_polyline = AddChildWriter(new PolylineCesiumWriter(PolylinePropertyName));
+                return m_polyline;
+            }
         }
 
         /// <summary>
@@ -1231,7 +1267,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineVolumeCesiumWriter PolylineVolumeWriter
         {
-            get { return m_polylineVolume.Value; }
+            get
+            {
+                if (m_polylineVolume == null)
+                    m_polylineVolume = AddChildWriter(new PolylineVolumeCesiumWriter(PolylineVolumePropertyName));
+                return m_polylineVolume;
+            }
         }
 
         /// <summary>
@@ -1249,7 +1290,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public RectangleCesiumWriter RectangleWriter
         {
-            get { return m_rectangle.Value; }
+            get
+            {
+                if (m_rectangle == null)
+                    m_rectangle = AddChildWriter(new RectangleCesiumWriter(RectanglePropertyName));
+                return m_rectangle;
+            }
         }
 
         /// <summary>
@@ -1267,7 +1313,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public TilesetCesiumWriter TilesetWriter
         {
-            get { return m_tileset.Value; }
+            get
+            {
+                if (m_tileset == null)
+                    m_tileset = AddChildWriter(new TilesetCesiumWriter(TilesetPropertyName));
+                return m_tileset;
+            }
         }
 
         /// <summary>
@@ -1285,7 +1336,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public WallCesiumWriter WallWriter
         {
-            get { return m_wall.Value; }
+            get
+            {
+                if (m_wall == null)
+                    m_wall = AddChildWriter(new WallCesiumWriter(WallPropertyName));
+                return m_wall;
+            }
         }
 
         /// <summary>
@@ -1303,7 +1359,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ConicSensorCesiumWriter ConicSensorWriter
         {
-            get { return m_agi_conicSensor.Value; }
+            get
+            {
+                if (m_agi_conicSensor == null)
+                    m_agi_conicSensor = AddChildWriter(new ConicSensorCesiumWriter(ConicSensorPropertyName));
+                return m_agi_conicSensor;
+            }
         }
 
         /// <summary>
@@ -1321,7 +1382,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CustomPatternSensorCesiumWriter CustomPatternSensorWriter
         {
-            get { return m_agi_customPatternSensor.Value; }
+            get
+            {
+                if (m_agi_customPatternSensor == null)
+                    m_agi_customPatternSensor = AddChildWriter(new CustomPatternSensorCesiumWriter(CustomPatternSensorPropertyName));
+                return m_agi_customPatternSensor;
+            }
         }
 
         /// <summary>
@@ -1339,7 +1405,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public RectangularSensorCesiumWriter RectangularSensorWriter
         {
-            get { return m_agi_rectangularSensor.Value; }
+            get
+            {
+                if (m_agi_rectangularSensor == null)
+                    m_agi_rectangularSensor = AddChildWriter(new RectangularSensorCesiumWriter(RectangularSensorPropertyName));
+                return m_agi_rectangularSensor;
+            }
         }
 
         /// <summary>
@@ -1357,7 +1428,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public FanCesiumWriter FanWriter
         {
-            get { return m_agi_fan.Value; }
+            get
+            {
+                if (m_agi_fan == null)
+                    m_agi_fan = AddChildWriter(new FanCesiumWriter(FanPropertyName));
+                return m_agi_fan;
+            }
         }
 
         /// <summary>
@@ -1375,7 +1451,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public VectorCesiumWriter VectorWriter
         {
-            get { return m_agi_vector.Value; }
+            get
+            {
+                if (m_agi_vector == null)
+                    m_agi_vector = AddChildWriter(new VectorCesiumWriter(VectorPropertyName));
+                return m_agi_vector;
+            }
         }
 
         /// <summary>
@@ -57,27 +57,13 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_leadTime = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(LeadTimePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_trailTime = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(TrailTimePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(WidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_resolution = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ResolutionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineMaterialCesiumWriter> m_material = new Lazy<PolylineMaterialCesiumWriter>(() => new PolylineMaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private DoubleCesiumWriter m_leadTime;
+        private DoubleCesiumWriter m_trailTime;
+        private DoubleCesiumWriter m_width;
+        private DoubleCesiumWriter m_resolution;
+        private PolylineMaterialCesiumWriter m_material;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
         /// <summary>
         /// Initializes a new instance.
@@ -109,7 +95,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -190,7 +181,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter LeadTimeWriter
         {
-            get { return m_leadTime.Value; }
+            get
+            {
+                if (m_leadTime == null)
+                    m_leadTime = AddChildWriter(new DoubleCesiumWriter(LeadTimePropertyName));
+                return m_leadTime;
+            }
         }
 
         /// <summary>
@@ -299,7 +295,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter TrailTimeWriter
         {
-            get { return m_trailTime.Value; }
+            get
+            {
+                if (m_trailTime == null)
+                    m_trailTime = AddChildWriter(new DoubleCesiumWriter(TrailTimePropertyName));
+                return m_trailTime;
+            }
         }
 
         /// <summary>
@@ -408,7 +409,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter WidthWriter
         {
-            get { return m_width.Value; }
+            get
+            {
+                if (m_width == null)
+                    m_width = AddChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+                return m_width;
+            }
         }
 
         /// <summary>
@@ -517,7 +523,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ResolutionWriter
         {
-            get { return m_resolution.Value; }
+            get
+            {
+                if (m_resolution == null)
+                    m_resolution = AddChildWriter(new DoubleCesiumWriter(ResolutionPropertyName));
+                return m_resolution;
+            }
         }
 
         /// <summary>
@@ -626,7 +637,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineMaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new PolylineMaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -645,7 +661,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
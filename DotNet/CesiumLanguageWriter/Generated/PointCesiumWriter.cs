@@ -76,36 +76,16 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DisableDepthTestDistancePropertyName = "disableDepthTestDistance";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_pixelSize = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(PixelSizePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_scaleByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(ScaleByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<NearFarScalarCesiumWriter> m_translucencyByDistance = new Lazy<NearFarScalarCesiumWriter>(() => new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_disableDepthTestDistance = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(DisableDepthTestDistancePropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private DoubleCesiumWriter m_pixelSize;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private ColorCesiumWriter m_color;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private NearFarScalarCesiumWriter m_scaleByDistance;
+        private NearFarScalarCesiumWriter m_translucencyByDistance;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private DoubleCesiumWriter m_disableDepthTestDistance;
 
         /// <summary>
         /// Initializes a new instance.
@@ -137,7 +117,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -218,7 +203,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter PixelSizeWriter
         {
-            get { return m_pixelSize.Value; }
+            get
+            {
+                if (m_pixelSize == null)
+                    m_pixelSize = AddChildWriter(new DoubleCesiumWriter(PixelSizePropertyName));
+                return m_pixelSize;
+            }
         }
 
         /// <summary>
@@ -327,7 +317,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -408,7 +403,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -587,7 +587,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -766,7 +771,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -875,7 +885,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter ScaleByDistanceWriter
         {
-            get { return m_scaleByDistance.Value; }
+            get
+            {
+                if (m_scaleByDistance == null)
+                    m_scaleByDistance = AddChildWriter(new NearFarScalarCesiumWriter(ScaleByDistancePropertyName));
+                return m_scaleByDistance;
+            }
         }
 
         /// <summary>
@@ -999,7 +1014,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public NearFarScalarCesiumWriter TranslucencyByDistanceWriter
         {
-            get { return m_translucencyByDistance.Value; }
+            get
+            {
+                if (m_translucencyByDistance == null)
+                    m_translucencyByDistance = AddChildWriter(new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName));
+                return m_translucencyByDistance;
+            }
         }
 
         /// <summary>
@@ -1123,7 +1143,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -1245,7 +1270,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter DisableDepthTestDistanceWriter
         {
-            get { return m_disableDepthTestDistance.Value; }
+            get
+            {
+                if (m_disableDepthTestDistance == null)
+                    m_disableDepthTestDistance = AddChildWriter(new DoubleCesiumWriter(DisableDepthTestDistancePropertyName));
+                return m_disableDepthTestDistance;
+            }
         }
 
         /// <summary>
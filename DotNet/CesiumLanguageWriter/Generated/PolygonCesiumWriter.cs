@@ -148,72 +148,28 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ZIndexPropertyName = "zIndex";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PositionListCesiumWriter> m_positions = new Lazy<PositionListCesiumWriter>(() => new PositionListCesiumWriter(PositionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PositionListOfListsCesiumWriter> m_holes = new Lazy<PositionListOfListsCesiumWriter>(() => new PositionListOfListsCesiumWriter(HolesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ArcTypeCesiumWriter> m_arcType = new Lazy<ArcTypeCesiumWriter>(() => new ArcTypeCesiumWriter(ArcTypePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_height = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(HeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(HeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_extrudedHeight = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(ExtrudedHeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<HeightReferenceCesiumWriter> m_extrudedHeightReference = new Lazy<HeightReferenceCesiumWriter>(() => new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_stRotation = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(StRotationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(GranularityPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FillPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(OutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OutlineColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OutlineWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_perPositionHeight = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(PerPositionHeightPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_closeTop = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(CloseTopPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_closeBottom = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(CloseBottomPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ClassificationTypeCesiumWriter> m_classificationType = new Lazy<ClassificationTypeCesiumWriter>(() => new ClassificationTypeCesiumWriter(ClassificationTypePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_zIndex = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(ZIndexPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private PositionListCesiumWriter m_positions;
+        private PositionListOfListsCesiumWriter m_holes;
+        private ArcTypeCesiumWriter m_arcType;
+        private DoubleCesiumWriter m_height;
+        private HeightReferenceCesiumWriter m_heightReference;
+        private DoubleCesiumWriter m_extrudedHeight;
+        private HeightReferenceCesiumWriter m_extrudedHeightReference;
+        private DoubleCesiumWriter m_stRotation;
+        private DoubleCesiumWriter m_granularity;
+        private BooleanCesiumWriter m_fill;
+        private MaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_outline;
+        private ColorCesiumWriter m_outlineColor;
+        private DoubleCesiumWriter m_outlineWidth;
+        private BooleanCesiumWriter m_perPositionHeight;
+        private BooleanCesiumWriter m_closeTop;
+        private BooleanCesiumWriter m_closeBottom;
+        private ShadowModeCesiumWriter m_shadows;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private ClassificationTypeCesiumWriter m_classificationType;
+        private IntegerCesiumWriter m_zIndex;
 
         /// <summary>
         /// Initializes a new instance.
@@ -245,7 +201,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -326,7 +287,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PositionListCesiumWriter PositionsWriter
         {
-            get { return m_positions.Value; }
+            get
+            {
+                if (m_positions == null)
+                    m_positions = AddChildWriter(new PositionListCesiumWriter(PositionsPropertyName));
+                return m_positions;
+            }
         }
 
         /// <summary>
@@ -393,7 +359,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PositionListOfListsCesiumWriter HolesWriter
         {
-            get { return m_holes.Value; }
+            get
+            {
+                if (m_holes == null)
+                    m_holes = AddChildWriter(new PositionListOfListsCesiumWriter(HolesPropertyName));
+                return m_holes;
+            }
         }
 
         /// <summary>
@@ -460,7 +431,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ArcTypeCesiumWriter ArcTypeWriter
         {
-            get { return m_arcType.Value; }
+            get
+            {
+                if (m_arcType == null)
+                    m_arcType = AddChildWriter(new ArcTypeCesiumWriter(ArcTypePropertyName));
+                return m_arcType;
+            }
         }
 
         /// <summary>
@@ -541,7 +517,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter HeightWriter
         {
-            get { return m_height.Value; }
+            get
+            {
+                if (m_height == null)
+                    m_height = AddChildWriter(new DoubleCesiumWriter(HeightPropertyName));
+                return m_height;
+            }
         }
 
         /// <summary>
@@ -650,7 +631,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter HeightReferenceWriter
         {
-            get { return m_heightReference.Value; }
+            get
+            {
+                if (m_heightReference == null)
+                    m_heightReference = AddChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+                return m_heightReference;
+            }
         }
 
         /// <summary>
@@ -731,7 +717,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter ExtrudedHeightWriter
         {
-            get { return m_extrudedHeight.Value; }
+            get
+            {
+                if (m_extrudedHeight == null)
+                    m_extrudedHeight = AddChildWriter(new DoubleCesiumWriter(ExtrudedHeightPropertyName));
+                return m_extrudedHeight;
+            }
         }
 
         /// <summary>
@@ -840,7 +831,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public HeightReferenceCesiumWriter ExtrudedHeightReferenceWriter
         {
-            get { return m_extrudedHeightReference.Value; }
+            get
+            {
+                if (m_extrudedHeightReference == null)
+                    m_extrudedHeightReference = AddChildWriter(new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName));
+                return m_extrudedHeightReference;
+            }
         }
 
         /// <summary>
@@ -921,7 +917,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter StRotationWriter
         {
-            get { return m_stRotation.Value; }
+            get
+            {
+                if (m_stRotation == null)
+                    m_stRotation = AddChildWriter(new DoubleCesiumWriter(StRotationPropertyName));
+                return m_stRotation;
+            }
         }
 
         /// <summary>
@@ -1030,7 +1031,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter GranularityWriter
         {
-            get { return m_granularity.Value; }
+            get
+            {
+                if (m_granularity == null)
+                    m_granularity = AddChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+                return m_granularity;
+            }
         }
 
         /// <summary>
@@ -1139,7 +1145,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FillWriter
         {
-            get { return m_fill.Value; }
+            get
+            {
+                if (m_fill == null)
+                    m_fill = AddChildWriter(new BooleanCesiumWriter(FillPropertyName));
+                return m_fill;
+            }
         }
 
         /// <summary>
@@ -1220,7 +1231,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -1239,7 +1255,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter OutlineWriter
         {
-            get { return m_outline.Value; }
+            get
+            {
+                if (m_outline == null)
+                    m_outline = AddChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+                return m_outline;
+            }
         }
 
         /// <summary>
@@ -1320,7 +1341,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OutlineColorWriter
         {
-            get { return m_outlineColor.Value; }
+            get
+            {
+                if (m_outlineColor == null)
+                    m_outlineColor = AddChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+                return m_outlineColor;
+            }
         }
 
         /// <summary>
@@ -1499,7 +1525,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OutlineWidthWriter
         {
-            get { return m_outlineWidth.Value; }
+            get
+            {
+                if (m_outlineWidth == null)
+                    m_outlineWidth = AddChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+                return m_outlineWidth;
+            }
         }
 
         /// <summary>
@@ -1608,7 +1639,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter PerPositionHeightWriter
         {
-            get { return m_perPositionHeight.Value; }
+            get
+            {
+                if (m_perPositionHeight == null)
+                    m_perPositionHeight = AddChildWriter(new BooleanCesiumWriter(PerPositionHeightPropertyName));
+                return m_perPositionHeight;
+            }
         }
 
         /// <summary>
@@ -1689,7 +1725,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter CloseTopWriter
         {
-            get { return m_closeTop.Value; }
+            get
+            {
+                if (m_closeTop == null)
+                    m_closeTop = AddChildWriter(new BooleanCesiumWriter(CloseTopPropertyName));
+                return m_closeTop;
+            }
         }
 
         /// <summary>
@@ -1770,7 +1811,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter CloseBottomWriter
         {
-            get { return m_closeBottom.Value; }
+            get
+            {
+                if (m_closeBottom == null)
+                    m_closeBottom = AddChildWriter(new BooleanCesiumWriter(CloseBottomPropertyName));
+                return m_closeBottom;
+            }
         }
 
         /// <summary>
@@ -1851,7 +1897,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -1932,7 +1983,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -2054,7 +2110,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ClassificationTypeCesiumWriter ClassificationTypeWriter
         {
-            get { return m_classificationType.Value; }
+            get
+            {
+                if (m_classificationType == null)
+                    m_classificationType = AddChildWriter(new ClassificationTypeCesiumWriter(ClassificationTypePropertyName));
+                return m_classificationType;
+            }
         }
 
         /// <summary>
@@ -2135,7 +2196,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter ZIndexWriter
         {
-            get { return m_zIndex.Value; }
+            get
+            {
+                if (m_zIndex == null)
+                    m_zIndex = AddChildWriter(new IntegerCesiumWriter(ZIndexPropertyName));
+                return m_zIndex;
+            }
         }
 
         /// <summary>
@@ -22,9 +22,7 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ColorPropertyName = "color";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
+        private ColorCesiumWriter m_color;
 
         /// <summary>
         /// Initializes a new instance.
@@ -56,7 +54,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
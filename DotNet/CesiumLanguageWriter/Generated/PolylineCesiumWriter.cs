@@ -93,45 +93,19 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ZIndexPropertyName = "zIndex";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PositionListCesiumWriter> m_positions = new Lazy<PositionListCesiumWriter>(() => new PositionListCesiumWriter(PositionsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ArcTypeCesiumWriter> m_arcType = new Lazy<ArcTypeCesiumWriter>(() => new ArcTypeCesiumWriter(ArcTypePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(WidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(GranularityPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineMaterialCesiumWriter> m_material = new Lazy<PolylineMaterialCesiumWriter>(() => new PolylineMaterialCesiumWriter(MaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_followSurface = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(FollowSurfacePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(() => new ShadowModeCesiumWriter(ShadowsPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineMaterialCesiumWriter> m_depthFailMaterial = new Lazy<PolylineMaterialCesiumWriter>(() => new PolylineMaterialCesiumWriter(DepthFailMaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(() => new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_clampToGround = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ClampToGroundPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ClassificationTypeCesiumWriter> m_classificationType = new Lazy<ClassificationTypeCesiumWriter>(() => new ClassificationTypeCesiumWriter(ClassificationTypePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_zIndex = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(ZIndexPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private PositionListCesiumWriter m_positions;
+        private ArcTypeCesiumWriter m_arcType;
+        private DoubleCesiumWriter m_width;
+        private DoubleCesiumWriter m_granularity;
+        private PolylineMaterialCesiumWriter m_material;
+        private BooleanCesiumWriter m_followSurface;
+        private ShadowModeCesiumWriter m_shadows;
+        private PolylineMaterialCesiumWriter m_depthFailMaterial;
+        private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+        private BooleanCesiumWriter m_clampToGround;
+        private ClassificationTypeCesiumWriter m_classificationType;
+        private IntegerCesiumWriter m_zIndex;
 
         /// <summary>
         /// Initializes a new instance.
@@ -163,7 +137,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -244,7 +223,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PositionListCesiumWriter PositionsWriter
         {
-            get { return m_positions.Value; }
+            get
+            {
+                if (m_positions == null)
+                    m_positions = AddChildWriter(new PositionListCesiumWriter(PositionsPropertyName));
+                return m_positions;
+            }
         }
 
         /// <summary>
@@ -311,7 +295,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ArcTypeCesiumWriter ArcTypeWriter
         {
-            get { return m_arcType.Value; }
+            get
+            {
+                if (m_arcType == null)
+                    m_arcType = AddChildWriter(new ArcTypeCesiumWriter(ArcTypePropertyName));
+                return m_arcType;
+            }
         }
 
         /// <summary>
@@ -392,7 +381,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter WidthWriter
         {
-            get { return m_width.Value; }
+            get
+            {
+                if (m_width == null)
+                    m_width = AddChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+                return m_width;
+            }
         }
 
         /// <summary>
@@ -501,7 +495,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter GranularityWriter
         {
-            get { return m_granularity.Value; }
+            get
+            {
+                if (m_granularity == null)
+                    m_granularity = AddChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+                return m_granularity;
+            }
         }
 
         /// <summary>
@@ -610,7 +609,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineMaterialCesiumWriter MaterialWriter
         {
-            get { return m_material.Value; }
+            get
+            {
+                if (m_material == null)
+                    m_material = AddChildWriter(new PolylineMaterialCesiumWriter(MaterialPropertyName));
+                return m_material;
+            }
         }
 
         /// <summary>
@@ -629,7 +633,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter FollowSurfaceWriter
         {
-            get { return m_followSurface.Value; }
+            get
+            {
+                if (m_followSurface == null)
+                    m_followSurface = AddChildWriter(new BooleanCesiumWriter(FollowSurfacePropertyName));
+                return m_followSurface;
+            }
         }
 
         /// <summary>
@@ -710,7 +719,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ShadowModeCesiumWriter ShadowsWriter
         {
-            get { return m_shadows.Value; }
+            get
+            {
+                if (m_shadows == null)
+                    m_shadows = AddChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+                return m_shadows;
+            }
         }
 
         /// <summary>
@@ -791,7 +805,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineMaterialCesiumWriter DepthFailMaterialWriter
         {
-            get { return m_depthFailMaterial.Value; }
+            get
+            {
+                if (m_depthFailMaterial == null)
+                    m_depthFailMaterial = AddChildWriter(new PolylineMaterialCesiumWriter(DepthFailMaterialPropertyName));
+                return m_depthFailMaterial;
+            }
         }
 
         /// <summary>
@@ -810,7 +829,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DistanceDisplayConditionCesiumWriter DistanceDisplayConditionWriter
         {
-            get { return m_distanceDisplayCondition.Value; }
+            get
+            {
+                if (m_distanceDisplayCondition == null)
+                    m_distanceDisplayCondition = AddChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+                return m_distanceDisplayCondition;
+            }
         }
 
         /// <summary>
@@ -932,7 +956,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ClampToGroundWriter
         {
-            get { return m_clampToGround.Value; }
+            get
+            {
+                if (m_clampToGround == null)
+                    m_clampToGround = AddChildWriter(new BooleanCesiumWriter(ClampToGroundPropertyName));
+                return m_clampToGround;
+            }
         }
 
         /// <summary>
@@ -1013,7 +1042,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ClassificationTypeCesiumWriter ClassificationTypeWriter
         {
-            get { return m_classificationType.Value; }
+            get
+            {
+                if (m_classificationType == null)
+                    m_classificationType = AddChildWriter(new ClassificationTypeCesiumWriter(ClassificationTypePropertyName));
+                return m_classificationType;
+            }
         }
 
         /// <summary>
@@ -1094,7 +1128,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter ZIndexWriter
         {
-            get { return m_zIndex.Value; }
+            get
+            {
+                if (m_zIndex == null)
+                    m_zIndex = AddChildWriter(new IntegerCesiumWriter(ZIndexPropertyName));
+                return m_zIndex;
+            }
         }
 
         /// <summary>
@@ -40,18 +40,10 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DashPatternPropertyName = "dashPattern";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_gapColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(GapColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_dashLength = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(DashLengthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_dashPattern = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(DashPatternPropertyName), false);
+        private ColorCesiumWriter m_color;
+        private ColorCesiumWriter m_gapColor;
+        private DoubleCesiumWriter m_dashLength;
+        private IntegerCesiumWriter m_dashPattern;
 
         /// <summary>
         /// Initializes a new instance.
@@ -83,7 +75,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -262,7 +259,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter GapColorWriter
         {
-            get { return m_gapColor.Value; }
+            get
+            {
+                if (m_gapColor == null)
+                    m_gapColor = AddChildWriter(new ColorCesiumWriter(GapColorPropertyName));
+                return m_gapColor;
+            }
         }
 
         /// <summary>
@@ -441,7 +443,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter DashLengthWriter
         {
-            get { return m_dashLength.Value; }
+            get
+            {
+                if (m_dashLength == null)
+                    m_dashLength = AddChildWriter(new DoubleCesiumWriter(DashLengthPropertyName));
+                return m_dashLength;
+            }
         }
 
         /// <summary>
@@ -550,7 +557,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter DashPatternWriter
         {
-            get { return m_dashPattern.Value; }
+            get
+            {
+                if (m_dashPattern == null)
+                    m_dashPattern = AddChildWriter(new IntegerCesiumWriter(DashPatternPropertyName));
+                return m_dashPattern;
+            }
         }
 
         /// <summary>
@@ -34,15 +34,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string TaperPowerPropertyName = "taperPower";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_glowPower = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(GlowPowerPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_taperPower = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(TaperPowerPropertyName), false);
+        private ColorCesiumWriter m_color;
+        private DoubleCesiumWriter m_glowPower;
+        private DoubleCesiumWriter m_taperPower;
 
         /// <summary>
         /// Initializes a new instance.
@@ -74,7 +68,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -253,7 +252,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter GlowPowerWriter
         {
-            get { return m_glowPower.Value; }
+            get
+            {
+                if (m_glowPower == null)
+                    m_glowPower = AddChildWriter(new DoubleCesiumWriter(GlowPowerPropertyName));
+                return m_glowPower;
+            }
         }
 
         /// <summary>
@@ -362,7 +366,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter TaperPowerWriter
         {
-            get { return m_taperPower.Value; }
+            get
+            {
+                if (m_taperPower == null)
+                    m_taperPower = AddChildWriter(new DoubleCesiumWriter(TaperPowerPropertyName));
+                return m_taperPower;
+            }
         }
 
         /// <summary>
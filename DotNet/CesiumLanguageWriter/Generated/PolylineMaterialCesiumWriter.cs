@@ -70,33 +70,15 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string CheckerboardPropertyName = "checkerboard";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<SolidColorMaterialCesiumWriter> m_solidColor = new Lazy<SolidColorMaterialCesiumWriter>(() => new SolidColorMaterialCesiumWriter(SolidColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineOutlineMaterialCesiumWriter> m_polylineOutline = new Lazy<PolylineOutlineMaterialCesiumWriter>(() => new PolylineOutlineMaterialCesiumWriter(PolylineOutlinePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineArrowMaterialCesiumWriter> m_polylineArrow = new Lazy<PolylineArrowMaterialCesiumWriter>(() => new PolylineArrowMaterialCesiumWriter(PolylineArrowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineDashMaterialCesiumWriter> m_polylineDash = new Lazy<PolylineDashMaterialCesiumWriter>(() => new PolylineDashMaterialCesiumWriter(PolylineDashPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<PolylineGlowMaterialCesiumWriter> m_polylineGlow = new Lazy<PolylineGlowMaterialCesiumWriter>(() => new PolylineGlowMaterialCesiumWriter(PolylineGlowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ImageMaterialCesiumWriter> m_image = new Lazy<ImageMaterialCesiumWriter>(() => new ImageMaterialCesiumWriter(ImagePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<GridMaterialCesiumWriter> m_grid = new Lazy<GridMaterialCesiumWriter>(() => new GridMaterialCesiumWriter(GridPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<StripeMaterialCesiumWriter> m_stripe = new Lazy<StripeMaterialCesiumWriter>(() => new StripeMaterialCesiumWriter(StripePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CheckerboardMaterialCesiumWriter> m_checkerboard = new Lazy<CheckerboardMaterialCesiumWriter>(() => new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName), false);
+        private SolidColorMaterialCesiumWriter m_solidColor;
+        private PolylineOutlineMaterialCesiumWriter m_polylineOutline;
+        private PolylineArrowMaterialCesiumWriter m_polylineArrow;
+        private PolylineDashMaterialCesiumWriter m_polylineDash;
+        private PolylineGlowMaterialCesiumWriter m_polylineGlow;
+        private ImageMaterialCesiumWriter m_image;
+        private GridMaterialCesiumWriter m_grid;
+        private StripeMaterialCesiumWriter m_stripe;
+        private CheckerboardMaterialCesiumWriter m_checkerboard;
 
         /// <summary>
         /// Initializes a new instance.
@@ -128,7 +110,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public SolidColorMaterialCesiumWriter SolidColorWriter
         {
-            get { return m_solidColor.Value; }
+            get
+            {
+                if (m_solidColor == null)
+                    m_solidColor = AddChildWriter(new SolidColorMaterialCesiumWriter(SolidColorPropertyName));
+                return m_solidColor;
+            }
         }
 
         /// <summary>
@@ -147,7 +134,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineOutlineMaterialCesiumWriter PolylineOutlineWriter
         {
-            get { return m_polylineOutline.Value; }
+            get
+            {
+                if (m_polylineOutline == null)
+                    m_polylineOutline = AddChildWriter(new PolylineOutlineMaterialCesiumWriter(PolylineOutlinePropertyName));
+                return m_polylineOutline;
+            }
         }
 
         /// <summary>
@@ -166,7 +158,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineArrowMaterialCesiumWriter PolylineArrowWriter
         {
-            get { return m_polylineArrow.Value; }
+            get
+            {
+                if (m_polylineArrow == null)
+                    m_polylineArrow = AddChildWriter(new PolylineArrowMaterialCesiumWriter(PolylineArrowPropertyName));
+                return m_polylineArrow;
+            }
         }
 
         /// <summary>
@@ -185,7 +182,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineDashMaterialCesiumWriter PolylineDashWriter
         {
-            get { return m_polylineDash.Value; }
+            get
+            {
+                if (m_polylineDash == null)
+                    m_polylineDash = AddChildWriter(new PolylineDashMaterialCesiumWriter(PolylineDashPropertyName));
+                return m_polylineDash;
+            }
         }
 
         /// <summary>
@@ -204,7 +206,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public PolylineGlowMaterialCesiumWriter PolylineGlowWriter
         {
-            get { return m_polylineGlow.Value; }
+            get
+            {
+                if (m_polylineGlow == null)
+                    m_polylineGlow = AddChildWriter(new PolylineGlowMaterialCesiumWriter(PolylineGlowPropertyName));
+                return m_polylineGlow;
+            }
         }
 
         /// <summary>
@@ -223,7 +230,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ImageMaterialCesiumWriter ImageWriter
         {
-            get { return m_image.Value; }
+            get
+            {
+                if (m_image == null)
+                    m_image = AddChildWriter(new ImageMaterialCesiumWriter(ImagePropertyName));
+                return m_image;
+            }
         }
 
         /// <summary>
@@ -242,7 +254,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public GridMaterialCesiumWriter GridWriter
         {
-            get { return m_grid.Value; }
+            get
+            {
+                if (m_grid == null)
+                    m_grid = AddChildWriter(new GridMaterialCesiumWriter(GridPropertyName));
+                return m_grid;
+            }
         }
 
         /// <summary>
@@ -261,7 +278,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public StripeMaterialCesiumWriter StripeWriter
         {
-            get { return m_stripe.Value; }
+            get
+            {
+                if (m_stripe == null)
+                    m_stripe = AddChildWriter(new StripeMaterialCesiumWriter(StripePropertyName));
+                return m_stripe;
+            }
         }
 
         /// <summary>
@@ -280,7 +302,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CheckerboardMaterialCesiumWriter CheckerboardWriter
         {
-            get { return m_checkerboard.Value; }
+            get
+            {
+                if (m_checkerboard == null)
+                    m_checkerboard = AddChildWriter(new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName));
+                return m_checkerboard;
+            }
         }
 
         /// <summary>
@@ -57,21 +57,11 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter>> m_asCartographicRadians;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter>> m_asCartographicDegrees;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter>> m_asCartesianVelocity;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter>> m_asReference;
+        private CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter> m_asCartesian;
+        private CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter> m_asCartographicRadians;
+        private CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter> m_asCartographicDegrees;
+        private CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter> m_asCartesianVelocity;
+        private CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -80,11 +70,6 @@ namespace CesiumLanguageWriter
         public PositionCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asCartesianVelocity = CreateAsCartesianVelocity();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -94,11 +79,6 @@ namespace CesiumLanguageWriter
         protected PositionCesiumWriter([NotNull] PositionCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asCartesianVelocity = CreateAsCartesianVelocity();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -155,6 +135,30 @@ namespace CesiumLanguageWriter
             CesiumWritingHelper.WriteCartesian3(Output, PropertyName, dates, values, startIndex, length);
         }
 
+        /// <summary>
+        /// Writes the value expressed as a <c>cartesian</c>, which is the position specified as a three-dimensional Cartesian value, <c>[X, Y, Z]</c>, in meters relative to the <c>referenceFrame</c>.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        public void WriteCartesian([NotNull] SharedTimeGrid grid, IList<Cartesian> values)
+        {
+            WriteCartesian(grid, values, 0, grid.Count);
+        }
+
+        /// <summary>
+        /// Writes the value expressed as a <c>cartesian</c>, which is the position specified as a three-dimensional Cartesian value, <c>[X, Y, Z]</c>, in meters relative to the <c>referenceFrame</c>.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to write.</param>
+        /// <param name="length">The number of elements to write.</param>
+        public void WriteCartesian([NotNull] SharedTimeGrid grid, IList<Cartesian> values, int startIndex, int length)
+        {
+            const string PropertyName = CartesianPropertyName;
+            OpenIntervalIfNecessary();
+            CesiumWritingHelper.WriteCartesian3(Output, PropertyName, grid, values, startIndex, length);
+        }
+
         /// <summary>
         /// Writes the value expressed as a <c>cartographicRadians</c>, which is the position specified in Cartographic WGS84 coordinates, <c>[Longitude, Latitude, Height]</c>, where Longitude and Latitude are in radians and Height is in meters.
         /// </summary>
@@ -191,6 +195,30 @@ namespace CesiumLanguageWriter
             CesiumWritingHelper.WriteCartographic(Output, PropertyName, dates, values, startIndex, length);
         }
 
+        /// <summary>
+        /// Writes the value expressed as a <c>cartographicRadians</c>, which is the position specified in Cartographic WGS84 coordinates, <c>[Longitude, Latitude, Height]</c>, where Longitude and Latitude are in radians and Height is in meters.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        public void WriteCartographicRadians([NotNull] SharedTimeGrid grid, IList<Cartographic> values)
+        {
+            WriteCartographicRadians(grid, values, 0, grid.Count);
+        }
+
+        /// <summary>
+        /// Writes the value expressed as a <c>cartographicRadians</c>, which is the position specified in Cartographic WGS84 coordinates, <c>[Longitude, Latitude, Height]</c>, where Longitude and Latitude are in radians and Height is in meters.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to write.</param>
+        /// <param name="length">The number of elements to write.</param>
+        public void WriteCartographicRadians([NotNull] SharedTimeGrid grid, IList<Cartographic> values, int startIndex, int length)
+        {
+            const string PropertyName = CartographicRadiansPropertyName;
+            OpenIntervalIfNecessary();
+            CesiumWritingHelper.WriteCartographic(Output, PropertyName, grid, values, startIndex, length);
+        }
+
         /// <summary>
         /// Writes the value expressed as a <c>cartographicDegrees</c>, which is the position specified in Cartographic WGS84 coordinates, <c>[Longitude, Latitude, Height]</c>, where Longitude and Latitude are in degrees and Height is in meters.
         /// </summary>
@@ -227,6 +255,30 @@ namespace CesiumLanguageWriter
             CesiumWritingHelper.WriteCartographic(Output, PropertyName, dates, values, startIndex, length);
         }
 
+        /// <summary>
+        /// Writes the value expressed as a <c>cartographicDegrees</c>, which is the position specified in Cartographic WGS84 coordinates, <c>[Longitude, Latitude, Height]</c>, where Longitude and Latitude are in degrees and Height is in meters.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        public void WriteCartographicDegrees([NotNull] SharedTimeGrid grid, IList<Cartographic> values)
+        {
+            WriteCartographicDegrees(grid, values, 0, grid.Count);
+        }
+
+        /// <summary>
+        /// Writes the value expressed as a <c>cartographicDegrees</c>, which is the position specified in Cartographic WGS84 coordinates, <c>[Longitude, Latitude, Height]</c>, where Longitude and Latitude are in degrees and Height is in meters.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to write.</param>
+        /// <param name="length">The number of elements to write.</param>
+        public void WriteCartographicDegrees([NotNull] SharedTimeGrid grid, IList<Cartographic> values, int startIndex, int length)
+        {
+            const string PropertyName = CartographicDegreesPropertyName;
+            OpenIntervalIfNecessary();
+            CesiumWritingHelper.WriteCartographic(Output, PropertyName, grid, values, startIndex, length);
+        }
+
         /// <summary>
         /// Writes the value expressed as a <c>cartesianVelocity</c>, which is the position and velocity specified as a three-dimensional Cartesian value and its derivative, <c>[X, Y, Z, dX, dY, dZ]</c>, in meters relative to the <c>referenceFrame</c>.
         /// </summary>
@@ -263,6 +315,30 @@ namespace CesiumLanguageWriter
             CesiumWritingHelper.WriteCartesian3Velocity(Output, PropertyName, dates, values, startIndex, length);
         }
 
+        /// <summary>
+        /// Writes the value expressed as a <c>cartesianVelocity</c>, which is the position and velocity specified as a three-dimensional Cartesian value and its derivative, <c>[X, Y, Z, dX, dY, dZ]</c>, in meters relative to the <c>referenceFrame</c>.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        public void WriteCartesianVelocity([NotNull] SharedTimeGrid grid, IList<Motion<Cartesian>> values)
+        {
+            WriteCartesianVelocity(grid, values, 0, grid.Count);
+        }
+
+        /// <summary>
+        /// Writes the value expressed as a <c>cartesianVelocity</c>, which is the position and velocity specified as a three-dimensional Cartesian value and its derivative, <c>[X, Y, Z, dX, dY, dZ]</c>, in meters relative to the <c>referenceFrame</c>.
+        /// </summary>
+        /// <param name="grid">The shared grid of dates at which the value is specified.</param>
+        /// <param name="values">The values corresponding to each date in the grid.</param>
+        /// <param name="startIndex">The index of the first element to write.</param>
+        /// <param name="length">The number of elements to write.</param>
+        public void WriteCartesianVelocity([NotNull] SharedTimeGrid grid, IList<Motion<Cartesian>> values, int startIndex, int length)
+        {
+            const string PropertyName = CartesianVelocityPropertyName;
+            OpenIntervalIfNecessary();
+            CesiumWritingHelper.WriteCartesian3Velocity(Output, PropertyName, grid, values, startIndex, length);
+        }
+
         /// <summary>
         /// Writes the value expressed as a <c>reference</c>, which is the position specified as a reference to another property.
         /// </summary>
@@ -332,13 +408,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter>>(CreateCartesian3, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -354,13 +426,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter> AsCartographicRadians()
         {
-            return m_asCartographicRadians.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter>> CreateAsCartographicRadians()
-        {
-            return new Lazy<CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter>>(CreateCartographicRadians, false);
+            if (m_asCartographicRadians == null)
+                m_asCartographicRadians = CreateCartographicRadians();
+            return m_asCartographicRadians;
         }
 
         [NotNull]
@@ -376,13 +444,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter> AsCartographicDegrees()
         {
-            return m_asCartographicDegrees.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter>> CreateAsCartographicDegrees()
-        {
-            return new Lazy<CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter>>(CreateCartographicDegrees, false);
+            if (m_asCartographicDegrees == null)
+                m_asCartographicDegrees = CreateCartographicDegrees();
+            return m_asCartographicDegrees;
         }
 
         [NotNull]
@@ -398,13 +462,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter> AsCartesianVelocity()
         {
-            return m_asCartesianVelocity.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter>> CreateAsCartesianVelocity()
-        {
-            return new Lazy<CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter>>(CreateCartesian3Velocity, false);
+            if (m_asCartesianVelocity == null)
+                m_asCartesianVelocity = CreateCartesian3Velocity();
+            return m_asCartesianVelocity;
         }
 
         [NotNull]
@@ -420,13 +480,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
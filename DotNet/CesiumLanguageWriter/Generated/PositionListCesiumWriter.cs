@@ -51,18 +51,10 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter>> m_asCartographicRadians;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter>> m_asCartographicDegrees;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter>> m_asReferences;
+        private CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter> m_asCartesian;
+        private CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter> m_asCartographicRadians;
+        private CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter> m_asCartographicDegrees;
+        private CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter> m_asReferences;
 
         /// <summary>
         /// Initializes a new instance.
@@ -71,10 +63,6 @@ namespace CesiumLanguageWriter
         public PositionListCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asReferences = CreateAsReferences();
         }
 
         /// <summary>
@@ -84,10 +72,6 @@ namespace CesiumLanguageWriter
         protected PositionListCesiumWriter([NotNull] PositionListCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asReferences = CreateAsReferences();
         }
 
         /// <inheritdoc/>
@@ -175,13 +159,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter>>(CreateCartesian3List, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3List();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -197,13 +177,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter> AsCartographicRadians()
         {
-            return m_asCartographicRadians.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter>> CreateAsCartographicRadians()
-        {
-            return new Lazy<CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter>>(CreateCartographicRadiansList, false);
+            if (m_asCartographicRadians == null)
+                m_asCartographicRadians = CreateCartographicRadiansList();
+            return m_asCartographicRadians;
         }
 
         [NotNull]
@@ -219,13 +195,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter> AsCartographicDegrees()
         {
-            return m_asCartographicDegrees.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter>> CreateAsCartographicDegrees()
-        {
-            return new Lazy<CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter>>(CreateCartographicDegreesList, false);
+            if (m_asCartographicDegrees == null)
+                m_asCartographicDegrees = CreateCartographicDegreesList();
+            return m_asCartographicDegrees;
         }
 
         [NotNull]
@@ -241,13 +213,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter> AsReferences()
         {
-            return m_asReferences.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter>> CreateAsReferences()
-        {
-            return new Lazy<CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter>>(CreateReferenceList, false);
+            if (m_asReferences == null)
+                m_asReferences = CreateReferenceList();
+            return m_asReferences;
         }
 
         [NotNull]
@@ -45,18 +45,10 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asCartesian;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asCartographicRadians;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asCartographicDegrees;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asReferences;
+        private CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asCartesian;
+        private CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asCartographicRadians;
+        private CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asCartographicDegrees;
+        private CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asReferences;
 
         /// <summary>
         /// Initializes a new instance.
@@ -65,10 +57,6 @@ namespace CesiumLanguageWriter
         public PositionListOfListsCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asReferences = CreateAsReferences();
         }
 
         /// <summary>
@@ -78,10 +66,6 @@ namespace CesiumLanguageWriter
         protected PositionListOfListsCesiumWriter([NotNull] PositionListOfListsCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCartesian = CreateAsCartesian();
-            m_asCartographicRadians = CreateAsCartographicRadians();
-            m_asCartographicDegrees = CreateAsCartographicDegrees();
-            m_asReferences = CreateAsReferences();
         }
 
         /// <inheritdoc/>
@@ -157,13 +141,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> AsCartesian()
         {
-            return m_asCartesian.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> CreateAsCartesian()
-        {
-            return new Lazy<CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(CreateCartesian3ListOfLists, false);
+            if (m_asCartesian == null)
+                m_asCartesian = CreateCartesian3ListOfLists();
+            return m_asCartesian;
         }
 
         [NotNull]
@@ -179,13 +159,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> AsCartographicRadians()
         {
-            return m_asCartographicRadians.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> CreateAsCartographicRadians()
-        {
-            return new Lazy<CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(CreateCartographicRadiansListOfLists, false);
+            if (m_asCartographicRadians == null)
+                m_asCartographicRadians = CreateCartographicRadiansListOfLists();
+            return m_asCartographicRadians;
         }
 
         [NotNull]
@@ -201,13 +177,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> AsCartographicDegrees()
         {
-            return m_asCartographicDegrees.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> CreateAsCartographicDegrees()
-        {
-            return new Lazy<CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(CreateCartographicDegreesListOfLists, false);
+            if (m_asCartographicDegrees == null)
+                m_asCartographicDegrees = CreateCartographicDegreesListOfLists();
+            return m_asCartographicDegrees;
         }
 
         [NotNull]
@@ -223,13 +195,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> AsReferences()
         {
-            return m_asReferences.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> CreateAsReferences()
-        {
-            return new Lazy<CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(CreateReferenceListOfLists, false);
+            if (m_asReferences == null)
+                m_asReferences = CreateReferenceListOfLists();
+            return m_asReferences;
         }
 
         [NotNull]
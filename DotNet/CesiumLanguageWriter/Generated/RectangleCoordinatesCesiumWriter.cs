@@ -39,15 +39,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> m_asWsen;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> m_asWsenDegrees;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> m_asReference;
+        private CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> m_asWsen;
+        private CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> m_asWsenDegrees;
+        private CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -56,9 +50,6 @@ namespace CesiumLanguageWriter
         public RectangleCoordinatesCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asWsen = CreateAsWsen();
-            m_asWsenDegrees = CreateAsWsenDegrees();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -68,9 +59,6 @@ namespace CesiumLanguageWriter
         protected RectangleCoordinatesCesiumWriter([NotNull] RectangleCoordinatesCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asWsen = CreateAsWsen();
-            m_asWsenDegrees = CreateAsWsenDegrees();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -244,13 +232,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> AsWsen()
         {
-            return m_asWsen.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> CreateAsWsen()
-        {
-            return new Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(CreateCartographicRectangleRadians, false);
+            if (m_asWsen == null)
+                m_asWsen = CreateCartographicRectangleRadians();
+            return m_asWsen;
         }
 
         [NotNull]
@@ -266,13 +250,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> AsWsenDegrees()
         {
-            return m_asWsenDegrees.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> CreateAsWsenDegrees()
-        {
-            return new Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(CreateCartographicRectangleDegrees, false);
+            if (m_asWsenDegrees == null)
+                m_asWsenDegrees = CreateCartographicRectangleDegrees();
+            return m_asWsenDegrees;
         }
 
         [NotNull]
@@ -288,13 +268,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -178,87 +178,33 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string ViewshedResolutionPropertyName = "viewshedResolution";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_xHalfAngle = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(XHalfAnglePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_yHalfAngle = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(YHalfAnglePropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_radius = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(RadiusPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showIntersection = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowIntersectionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_intersectionColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(IntersectionColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_intersectionWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(IntersectionWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showLateralSurfaces = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowLateralSurfacesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_lateralSurfaceMaterial = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(LateralSurfaceMaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showEllipsoidSurfaces = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowEllipsoidSurfacesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_ellipsoidSurfaceMaterial = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(EllipsoidSurfaceMaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showEllipsoidHorizonSurfaces = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowEllipsoidHorizonSurfacesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_ellipsoidHorizonSurfaceMaterial = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(EllipsoidHorizonSurfaceMaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showDomeSurfaces = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowDomeSurfacesPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_domeSurfaceMaterial = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(DomeSurfaceMaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<SensorVolumePortionToDisplayCesiumWriter> m_portionToDisplay = new Lazy<SensorVolumePortionToDisplayCesiumWriter>(() => new SensorVolumePortionToDisplayCesiumWriter(PortionToDisplayPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_environmentConstraint = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(EnvironmentConstraintPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showEnvironmentOcclusion = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowEnvironmentOcclusionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<MaterialCesiumWriter> m_environmentOcclusionMaterial = new Lazy<MaterialCesiumWriter>(() => new MaterialCesiumWriter(EnvironmentOcclusionMaterialPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showEnvironmentIntersection = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowEnvironmentIntersectionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_environmentIntersectionColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(EnvironmentIntersectionColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_environmentIntersectionWidth = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(EnvironmentIntersectionWidthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showThroughEllipsoid = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowThroughEllipsoidPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_showViewshed = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowViewshedPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_viewshedVisibleColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ViewshedVisibleColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_viewshedOccludedColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ViewshedOccludedColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<IntegerCesiumWriter> m_viewshedResolution = new Lazy<IntegerCesiumWriter>(() => new IntegerCesiumWriter(ViewshedResolutionPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private DoubleCesiumWriter m_xHalfAngle;
+        private DoubleCesiumWriter m_yHalfAngle;
+        private DoubleCesiumWriter m_radius;
+        private BooleanCesiumWriter m_showIntersection;
+        private ColorCesiumWriter m_intersectionColor;
+        private DoubleCesiumWriter m_intersectionWidth;
+        private BooleanCesiumWriter m_showLateralSurfaces;
+        private MaterialCesiumWriter m_lateralSurfaceMaterial;
+        private BooleanCesiumWriter m_showEllipsoidSurfaces;
+        private MaterialCesiumWriter m_ellipsoidSurfaceMaterial;
+        private BooleanCesiumWriter m_showEllipsoidHorizonSurfaces;
+        private MaterialCesiumWriter m_ellipsoidHorizonSurfaceMaterial;
+        private BooleanCesiumWriter m_showDomeSurfaces;
+        private MaterialCesiumWriter m_domeSurfaceMaterial;
+        private SensorVolumePortionToDisplayCesiumWriter m_portionToDisplay;
+        private BooleanCesiumWriter m_environmentConstraint;
+        private BooleanCesiumWriter m_showEnvironmentOcclusion;
+        private MaterialCesiumWriter m_environmentOcclusionMaterial;
+        private BooleanCesiumWriter m_showEnvironmentIntersection;
+        private ColorCesiumWriter m_environmentIntersectionColor;
+        private DoubleCesiumWriter m_environmentIntersectionWidth;
+        private BooleanCesiumWriter m_showThroughEllipsoid;
+        private BooleanCesiumWriter m_showViewshed;
+        private ColorCesiumWriter m_viewshedVisibleColor;
+        private ColorCesiumWriter m_viewshedOccludedColor;
+        private IntegerCesiumWriter m_viewshedResolution;
 
         /// <summary>
         /// Initializes a new instance.
@@ -290,7 +236,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -371,7 +322,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter XHalfAngleWriter
         {
-            get { return m_xHalfAngle.Value; }
+            get
+            {
+                if (m_xHalfAngle == null)
+                    m_xHalfAngle = AddChildWriter(new DoubleCesiumWriter(XHalfAnglePropertyName));
+                return m_xHalfAngle;
+            }
         }
 
         /// <summary>
@@ -480,7 +436,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter YHalfAngleWriter
         {
-            get { return m_yHalfAngle.Value; }
+            get
+            {
+                if (m_yHalfAngle == null)
+                    m_yHalfAngle = AddChildWriter(new DoubleCesiumWriter(YHalfAnglePropertyName));
+                return m_yHalfAngle;
+            }
         }
 
         /// <summary>
@@ -589,7 +550,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter RadiusWriter
         {
-            get { return m_radius.Value; }
+            get
+            {
+                if (m_radius == null)
+                    m_radius = AddChildWriter(new DoubleCesiumWriter(RadiusPropertyName));
+                return m_radius;
+            }
         }
 
         /// <summary>
@@ -698,7 +664,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowIntersectionWriter
         {
-            get { return m_showIntersection.Value; }
+            get
+            {
+                if (m_showIntersection == null)
+                    m_showIntersection = AddChildWriter(new BooleanCesiumWriter(ShowIntersectionPropertyName));
+                return m_showIntersection;
+            }
         }
 
         /// <summary>
@@ -779,7 +750,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter IntersectionColorWriter
         {
-            get { return m_intersectionColor.Value; }
+            get
+            {
+                if (m_intersectionColor == null)
+                    m_intersectionColor = AddChildWriter(new ColorCesiumWriter(IntersectionColorPropertyName));
+                return m_intersectionColor;
+            }
         }
 
         /// <summary>
@@ -958,7 +934,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter IntersectionWidthWriter
         {
-            get { return m_intersectionWidth.Value; }
+            get
+            {
+                if (m_intersectionWidth == null)
+                    m_intersectionWidth = AddChildWriter(new DoubleCesiumWriter(IntersectionWidthPropertyName));
+                return m_intersectionWidth;
+            }
         }
 
         /// <summary>
@@ -1067,7 +1048,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowLateralSurfacesWriter
         {
-            get { return m_showLateralSurfaces.Value; }
+            get
+            {
+                if (m_showLateralSurfaces == null)
+                    m_showLateralSurfaces = AddChildWriter(new BooleanCesiumWriter(ShowLateralSurfacesPropertyName));
+                return m_showLateralSurfaces;
+            }
         }
 
         /// <summary>
@@ -1148,7 +1134,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter LateralSurfaceMaterialWriter
         {
-            get { return m_lateralSurfaceMaterial.Value; }
+            get
+            {
+                if (m_lateralSurfaceMaterial == null)
+                    m_lateralSurfaceMaterial = AddChildWriter(new MaterialCesiumWriter(LateralSurfaceMaterialPropertyName));
+                return m_lateralSurfaceMaterial;
+            }
         }
 
         /// <summary>
@@ -1167,7 +1158,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowEllipsoidSurfacesWriter
         {
-            get { return m_showEllipsoidSurfaces.Value; }
+            get
+            {
+                if (m_showEllipsoidSurfaces == null)
+                    m_showEllipsoidSurfaces = AddChildWriter(new BooleanCesiumWriter(ShowEllipsoidSurfacesPropertyName));
+                return m_showEllipsoidSurfaces;
+            }
         }
 
         /// <summary>
@@ -1248,7 +1244,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter EllipsoidSurfaceMaterialWriter
         {
-            get { return m_ellipsoidSurfaceMaterial.Value; }
+            get
+            {
+                if (m_ellipsoidSurfaceMaterial == null)
+                    m_ellipsoidSurfaceMaterial = AddChildWriter(new MaterialCesiumWriter(EllipsoidSurfaceMaterialPropertyName));
+                return m_ellipsoidSurfaceMaterial;
+            }
         }
 
         /// <summary>
@@ -1267,7 +1268,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowEllipsoidHorizonSurfacesWriter
         {
-            get { return m_showEllipsoidHorizonSurfaces.Value; }
+            get
+            {
+                if (m_showEllipsoidHorizonSurfaces == null)
+                    m_showEllipsoidHorizonSurfaces = AddChildWriter(new BooleanCesiumWriter(ShowEllipsoidHorizonSurfacesPropertyName));
+                return m_showEllipsoidHorizonSurfaces;
+            }
         }
 
         /// <summary>
@@ -1348,7 +1354,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter EllipsoidHorizonSurfaceMaterialWriter
         {
-            get { return m_ellipsoidHorizonSurfaceMaterial.Value; }
+            get
+            {
+                if (m_ellipsoidHorizonSurfaceMaterial == null)
+                    m_ellipsoidHorizonSurfaceMaterial = AddChildWriter(new MaterialCesiumWriter(EllipsoidHorizonSurfaceMaterialPropertyName));
+                return m_ellipsoidHorizonSurfaceMaterial;
+            }
         }
 
         /// <summary>
@@ -1367,7 +1378,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowDomeSurfacesWriter
         {
-            get { return m_showDomeSurfaces.Value; }
+            get
+            {
+                if (m_showDomeSurfaces == null)
+                    m_showDomeSurfaces = AddChildWriter(new BooleanCesiumWriter(ShowDomeSurfacesPropertyName));
+                return m_showDomeSurfaces;
+            }
         }
 
         /// <summary>
@@ -1448,7 +1464,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter DomeSurfaceMaterialWriter
         {
-            get { return m_domeSurfaceMaterial.Value; }
+            get
+            {
+                if (m_domeSurfaceMaterial == null)
+                    m_domeSurfaceMaterial = AddChildWriter(new MaterialCesiumWriter(DomeSurfaceMaterialPropertyName));
+                return m_domeSurfaceMaterial;
+            }
         }
 
         /// <summary>
@@ -1467,7 +1488,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public SensorVolumePortionToDisplayCesiumWriter PortionToDisplayWriter
         {
-            get { return m_portionToDisplay.Value; }
+            get
+            {
+                if (m_portionToDisplay == null)
+                    m_portionToDisplay = AddChildWriter(new SensorVolumePortionToDisplayCesiumWriter(PortionToDisplayPropertyName));
+                return m_portionToDisplay;
+            }
         }
 
         /// <summary>
@@ -1548,7 +1574,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter EnvironmentConstraintWriter
         {
-            get { return m_environmentConstraint.Value; }
+            get
+            {
+                if (m_environmentConstraint == null)
+                    m_environmentConstraint = AddChildWriter(new BooleanCesiumWriter(EnvironmentConstraintPropertyName));
+                return m_environmentConstraint;
+            }
         }
 
         /// <summary>
@@ -1629,7 +1660,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowEnvironmentOcclusionWriter
         {
-            get { return m_showEnvironmentOcclusion.Value; }
+            get
+            {
+                if (m_showEnvironmentOcclusion == null)
+                    m_showEnvironmentOcclusion = AddChildWriter(new BooleanCesiumWriter(ShowEnvironmentOcclusionPropertyName));
+                return m_showEnvironmentOcclusion;
+            }
         }
 
         /// <summary>
@@ -1710,7 +1746,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public MaterialCesiumWriter EnvironmentOcclusionMaterialWriter
         {
-            get { return m_environmentOcclusionMaterial.Value; }
+            get
+            {
+                if (m_environmentOcclusionMaterial == null)
+                    m_environmentOcclusionMaterial = AddChildWriter(new MaterialCesiumWriter(EnvironmentOcclusionMaterialPropertyName));
+                return m_environmentOcclusionMaterial;
+            }
         }
 
         /// <summary>
@@ -1729,7 +1770,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowEnvironmentIntersectionWriter
         {
-            get { return m_showEnvironmentIntersection.Value; }
+            get
+            {
+                if (m_showEnvironmentIntersection == null)
+                    m_showEnvironmentIntersection = AddChildWriter(new BooleanCesiumWriter(ShowEnvironmentIntersectionPropertyName));
+                return m_showEnvironmentIntersection;
+            }
         }
 
         /// <summary>
@@ -1810,7 +1856,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter EnvironmentIntersectionColorWriter
         {
-            get { return m_environmentIntersectionColor.Value; }
+            get
+            {
+                if (m_environmentIntersectionColor == null)
+                    m_environmentIntersectionColor = AddChildWriter(new ColorCesiumWriter(EnvironmentIntersectionColorPropertyName));
+                return m_environmentIntersectionColor;
+            }
         }
 
         /// <summary>
@@ -1989,7 +2040,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter EnvironmentIntersectionWidthWriter
         {
-            get { return m_environmentIntersectionWidth.Value; }
+            get
+            {
+                if (m_environmentIntersectionWidth == null)
+                    m_environmentIntersectionWidth = AddChildWriter(new DoubleCesiumWriter(EnvironmentIntersectionWidthPropertyName));
+                return m_environmentIntersectionWidth;
+            }
         }
 
         /// <summary>
@@ -2098,7 +2154,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowThroughEllipsoidWriter
         {
-            get { return m_showThroughEllipsoid.Value; }
+            get
+            {
+                if (m_showThroughEllipsoid == null)
+                    m_showThroughEllipsoid = AddChildWriter(new BooleanCesiumWriter(ShowThroughEllipsoidPropertyName));
+                return m_showThroughEllipsoid;
+            }
         }
 
         /// <summary>
@@ -2179,7 +2240,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowViewshedWriter
         {
-            get { return m_showViewshed.Value; }
+            get
+            {
+                if (m_showViewshed == null)
+                    m_showViewshed = AddChildWriter(new BooleanCesiumWriter(ShowViewshedPropertyName));
+                return m_showViewshed;
+            }
         }
 
         /// <summary>
@@ -2260,7 +2326,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ViewshedVisibleColorWriter
         {
-            get { return m_viewshedVisibleColor.Value; }
+            get
+            {
+                if (m_viewshedVisibleColor == null)
+                    m_viewshedVisibleColor = AddChildWriter(new ColorCesiumWriter(ViewshedVisibleColorPropertyName));
+                return m_viewshedVisibleColor;
+            }
         }
 
         /// <summary>
@@ -2439,7 +2510,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ViewshedOccludedColorWriter
         {
-            get { return m_viewshedOccludedColor.Value; }
+            get
+            {
+                if (m_viewshedOccludedColor == null)
+                    m_viewshedOccludedColor = AddChildWriter(new ColorCesiumWriter(ViewshedOccludedColorPropertyName));
+                return m_viewshedOccludedColor;
+            }
         }
 
         /// <summary>
@@ -2618,7 +2694,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public IntegerCesiumWriter ViewshedResolutionWriter
         {
-            get { return m_viewshedResolution.Value; }
+            get
+            {
+                if (m_viewshedResolution == null)
+                    m_viewshedResolution = AddChildWriter(new IntegerCesiumWriter(ViewshedResolutionPropertyName));
+                return m_viewshedResolution;
+            }
         }
 
         /// <summary>
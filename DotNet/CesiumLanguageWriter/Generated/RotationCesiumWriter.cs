@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter>> m_asUnitQuaternion;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter>> m_asReference;
+        private CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter> m_asUnitQuaternion;
+        private CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public RotationCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asUnitQuaternion = CreateAsUnitQuaternion();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected RotationCesiumWriter([NotNull] RotationCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asUnitQuaternion = CreateAsUnitQuaternion();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -173,13 +165,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter> AsUnitQuaternion()
         {
-            return m_asUnitQuaternion.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter>> CreateAsUnitQuaternion()
-        {
-            return new Lazy<CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter>>(CreateUnitQuaternion, false);
+            if (m_asUnitQuaternion == null)
+                m_asUnitQuaternion = CreateUnitQuaternion();
+            return m_asUnitQuaternion;
         }
 
         [NotNull]
@@ -195,13 +183,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
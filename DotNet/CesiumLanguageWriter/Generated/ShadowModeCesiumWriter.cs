@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter>> m_asShadowMode;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter>> m_asReference;
+        private CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter> m_asShadowMode;
+        private CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public ShadowModeCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asShadowMode = CreateAsShadowMode();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected ShadowModeCesiumWriter([NotNull] ShadowModeCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asShadowMode = CreateAsShadowMode();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter> AsShadowMode()
         {
-            return m_asShadowMode.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter>> CreateAsShadowMode()
-        {
-            return new Lazy<CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter>>(CreateShadowMode, false);
+            if (m_asShadowMode == null)
+                m_asShadowMode = CreateShadowMode();
+            return m_asShadowMode;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -27,9 +27,7 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter>> m_asCartesian2;
+        private CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter> m_asCartesian2;
 
         /// <summary>
         /// Initializes a new instance.
@@ -38,7 +36,6 @@ namespace CesiumLanguageWriter
         public ShapeCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asCartesian2 = CreateAsCartesian2();
         }
 
         /// <summary>
@@ -48,7 +45,6 @@ namespace CesiumLanguageWriter
         protected ShapeCesiumWriter([NotNull] ShapeCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asCartesian2 = CreateAsCartesian2();
         }
 
         /// <inheritdoc/>
@@ -88,13 +84,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter> AsCartesian2()
         {
-            return m_asCartesian2.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter>> CreateAsCartesian2()
-        {
-            return new Lazy<CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter>>(CreateCartesian2List, false);
+            if (m_asCartesian2 == null)
+                m_asCartesian2 = CreateCartesian2List();
+            return m_asCartesian2;
         }
 
         [NotNull]
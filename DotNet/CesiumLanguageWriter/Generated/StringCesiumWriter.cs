@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumStringValuePropertyAdaptor<StringCesiumWriter>> m_asString;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<StringCesiumWriter>> m_asReference;
+        private CesiumStringValuePropertyAdaptor<StringCesiumWriter> m_asString;
+        private CesiumReferenceValuePropertyAdaptor<StringCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public StringCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asString = CreateAsString();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected StringCesiumWriter([NotNull] StringCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asString = CreateAsString();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumStringValuePropertyAdaptor<StringCesiumWriter> AsString()
         {
-            return m_asString.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumStringValuePropertyAdaptor<StringCesiumWriter>> CreateAsString()
-        {
-            return new Lazy<CesiumStringValuePropertyAdaptor<StringCesiumWriter>>(CreateString, false);
+            if (m_asString == null)
+                m_asString = CreateString();
+            return m_asString;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<StringCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<StringCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<StringCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
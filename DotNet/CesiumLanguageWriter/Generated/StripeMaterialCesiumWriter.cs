@@ -46,21 +46,11 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string RepeatPropertyName = "repeat";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<StripeOrientationCesiumWriter> m_orientation = new Lazy<StripeOrientationCesiumWriter>(() => new StripeOrientationCesiumWriter(OrientationPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_evenColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(EvenColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_oddColor = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(OddColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_offset = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(OffsetPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_repeat = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(RepeatPropertyName), false);
+        private StripeOrientationCesiumWriter m_orientation;
+        private ColorCesiumWriter m_evenColor;
+        private ColorCesiumWriter m_oddColor;
+        private DoubleCesiumWriter m_offset;
+        private DoubleCesiumWriter m_repeat;
 
         /// <summary>
         /// Initializes a new instance.
@@ -92,7 +82,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public StripeOrientationCesiumWriter OrientationWriter
         {
-            get { return m_orientation.Value; }
+            get
+            {
+                if (m_orientation == null)
+                    m_orientation = AddChildWriter(new StripeOrientationCesiumWriter(OrientationPropertyName));
+                return m_orientation;
+            }
         }
 
         /// <summary>
@@ -173,7 +168,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter EvenColorWriter
         {
-            get { return m_evenColor.Value; }
+            get
+            {
+                if (m_evenColor == null)
+                    m_evenColor = AddChildWriter(new ColorCesiumWriter(EvenColorPropertyName));
+                return m_evenColor;
+            }
         }
 
         /// <summary>
@@ -352,7 +352,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter OddColorWriter
         {
-            get { return m_oddColor.Value; }
+            get
+            {
+                if (m_oddColor == null)
+                    m_oddColor = AddChildWriter(new ColorCesiumWriter(OddColorPropertyName));
+                return m_oddColor;
+            }
         }
 
         /// <summary>
@@ -531,7 +536,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter OffsetWriter
         {
-            get { return m_offset.Value; }
+            get
+            {
+                if (m_offset == null)
+                    m_offset = AddChildWriter(new DoubleCesiumWriter(OffsetPropertyName));
+                return m_offset;
+            }
         }
 
         /// <summary>
@@ -640,7 +650,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter RepeatWriter
         {
-            get { return m_repeat.Value; }
+            get
+            {
+                if (m_repeat == null)
+                    m_repeat = AddChildWriter(new DoubleCesiumWriter(RepeatPropertyName));
+                return m_repeat;
+            }
         }
 
         /// <summary>
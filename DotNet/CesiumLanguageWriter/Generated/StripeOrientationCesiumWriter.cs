@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter>> m_asStripeOrientation;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter>> m_asReference;
+        private CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter> m_asStripeOrientation;
+        private CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public StripeOrientationCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asStripeOrientation = CreateAsStripeOrientation();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected StripeOrientationCesiumWriter([NotNull] StripeOrientationCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asStripeOrientation = CreateAsStripeOrientation();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter> AsStripeOrientation()
         {
-            return m_asStripeOrientation.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter>> CreateAsStripeOrientation()
-        {
-            return new Lazy<CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter>>(CreateStripeOrientation, false);
+            if (m_asStripeOrientation == null)
+                m_asStripeOrientation = CreateStripeOrientation();
+            return m_asStripeOrientation;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
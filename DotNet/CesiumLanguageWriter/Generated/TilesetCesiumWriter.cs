@@ -34,15 +34,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string MaximumScreenSpaceErrorPropertyName = "maximumScreenSpaceError";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<UriCesiumWriter> m_uri = new Lazy<UriCesiumWriter>(() => new UriCesiumWriter(UriPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_maximumScreenSpaceError = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MaximumScreenSpaceErrorPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private UriCesiumWriter m_uri;
+        private DoubleCesiumWriter m_maximumScreenSpaceError;
 
         /// <summary>
         /// Initializes a new instance.
@@ -74,7 +68,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -155,7 +154,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public UriCesiumWriter UriWriter
         {
-            get { return m_uri.Value; }
+            get
+            {
+                if (m_uri == null)
+                    m_uri = AddChildWriter(new UriCesiumWriter(UriPropertyName));
+                return m_uri;
+            }
         }
 
         /// <summary>
@@ -313,7 +317,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MaximumScreenSpaceErrorWriter
         {
-            get { return m_maximumScreenSpaceError.Value; }
+            get
+            {
+                if (m_maximumScreenSpaceError == null)
+                    m_maximumScreenSpaceError = AddChildWriter(new DoubleCesiumWriter(MaximumScreenSpaceErrorPropertyName));
+                return m_maximumScreenSpaceError;
+            }
         }
 
         /// <summary>
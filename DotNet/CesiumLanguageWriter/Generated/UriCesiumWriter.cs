@@ -33,12 +33,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumUriValuePropertyAdaptor<UriCesiumWriter>> m_asUri;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<UriCesiumWriter>> m_asReference;
+        private CesiumUriValuePropertyAdaptor<UriCesiumWriter> m_asUri;
+        private CesiumReferenceValuePropertyAdaptor<UriCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -47,8 +43,6 @@ namespace CesiumLanguageWriter
         public UriCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asUri = CreateAsUri();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -58,8 +52,6 @@ namespace CesiumLanguageWriter
         protected UriCesiumWriter([NotNull] UriCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asUri = CreateAsUri();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -232,13 +224,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumUriValuePropertyAdaptor<UriCesiumWriter> AsUri()
         {
-            return m_asUri.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumUriValuePropertyAdaptor<UriCesiumWriter>> CreateAsUri()
-        {
-            return new Lazy<CesiumUriValuePropertyAdaptor<UriCesiumWriter>>(CreateUri, false);
+            if (m_asUri == null)
+                m_asUri = CreateUri();
+            return m_asUri;
         }
 
         [NotNull]
@@ -254,13 +242,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<UriCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<UriCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<UriCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -46,21 +46,11 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string MinimumLengthInPixelsPropertyName = "minimumLengthInPixels";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(() => new BooleanCesiumWriter(ShowPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(() => new ColorCesiumWriter(ColorPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DirectionCesiumWriter> m_direction = new Lazy<DirectionCesiumWriter>(() => new DirectionCesiumWriter(DirectionPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_length = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(LengthPropertyName), false);
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<DoubleCesiumWriter> m_minimumLengthInPixels = new Lazy<DoubleCesiumWriter>(() => new DoubleCesiumWriter(MinimumLengthInPixelsPropertyName), false);
+        private BooleanCesiumWriter m_show;
+        private ColorCesiumWriter m_color;
+        private DirectionCesiumWriter m_direction;
+        private DoubleCesiumWriter m_length;
+        private DoubleCesiumWriter m_minimumLengthInPixels;
 
         /// <summary>
         /// Initializes a new instance.
@@ -92,7 +82,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public BooleanCesiumWriter ShowWriter
         {
-            get { return m_show.Value; }
+            get
+            {
+                if (m_show == null)
+                    m_show = AddChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+                return m_show;
+            }
         }
 
         /// <summary>
@@ -173,7 +168,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public ColorCesiumWriter ColorWriter
         {
-            get { return m_color.Value; }
+            get
+            {
+                if (m_color == null)
+                    m_color = AddChildWriter(new ColorCesiumWriter(ColorPropertyName));
+                return m_color;
+            }
         }
 
         /// <summary>
@@ -352,7 +352,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DirectionCesiumWriter DirectionWriter
         {
-            get { return m_direction.Value; }
+            get
+            {
+                if (m_direction == null)
+                    m_direction = AddChildWriter(new DirectionCesiumWriter(DirectionPropertyName));
+                return m_direction;
+            }
         }
 
         /// <summary>
@@ -581,7 +586,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter LengthWriter
         {
-            get { return m_length.Value; }
+            get
+            {
+                if (m_length == null)
+                    m_length = AddChildWriter(new DoubleCesiumWriter(LengthPropertyName));
+                return m_length;
+            }
         }
 
         /// <summary>
@@ -690,7 +700,12 @@ namespace CesiumLanguageWriter
         [NotNull]
         public DoubleCesiumWriter MinimumLengthInPixelsWriter
         {
-            get { return m_minimumLengthInPixels.Value; }
+            get
+            {
+                if (m_minimumLengthInPixels == null)
+                    m_minimumLengthInPixels = AddChildWriter(new DoubleCesiumWriter(MinimumLengthInPixelsPropertyName));
+                return m_minimumLengthInPixels;
+            }
         }
 
         /// <summary>
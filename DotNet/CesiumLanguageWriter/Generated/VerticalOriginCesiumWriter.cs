@@ -32,12 +32,8 @@ namespace CesiumLanguageWriter
         [NotNull]
         public const string DeletePropertyName = "delete";
 
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter>> m_asVerticalOrigin;
-        [NotNull]
-        [CSToJavaFinalField]
-        private readonly Lazy<CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter>> m_asReference;
+        private CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter> m_asVerticalOrigin;
+        private CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter> m_asReference;
 
         /// <summary>
         /// Initializes a new instance.
@@ -46,8 +42,6 @@ namespace CesiumLanguageWriter
         public VerticalOriginCesiumWriter([NotNull] string propertyName)
             : base(propertyName)
         {
-            m_asVerticalOrigin = CreateAsVerticalOrigin();
-            m_asReference = CreateAsReference();
         }
 
         /// <summary>
@@ -57,8 +51,6 @@ namespace CesiumLanguageWriter
         protected VerticalOriginCesiumWriter([NotNull] VerticalOriginCesiumWriter existingInstance)
             : base(existingInstance)
         {
-            m_asVerticalOrigin = CreateAsVerticalOrigin();
-            m_asReference = CreateAsReference();
         }
 
         /// <inheritdoc/>
@@ -154,13 +146,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter> AsVerticalOrigin()
         {
-            return m_asVerticalOrigin.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter>> CreateAsVerticalOrigin()
-        {
-            return new Lazy<CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter>>(CreateVerticalOrigin, false);
+            if (m_asVerticalOrigin == null)
+                m_asVerticalOrigin = CreateVerticalOrigin();
+            return m_asVerticalOrigin;
         }
 
         [NotNull]
@@ -176,13 +164,9 @@ namespace CesiumLanguageWriter
         [NotNull]
         public CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter> AsReference()
         {
-            return m_asReference.Value;
-        }
-
-        [NotNull]
-        private Lazy<CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter>> CreateAsReference()
-        {
-            return new Lazy<CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter>>(CreateReference, false);
+            if (m_asReference == null)
+                m_asReference = CreateReference();
+            return m_asReference;
         }
 
         [NotNull]
@@ -1111,6 +1111,53 @@ namespace CesiumLanguageWriter
 
             [NotNull]
             public static string ToString(GregorianDate dt, [CanBeNull] string format, [CanBeNull] IFormatProvider provider)
+            {
+                CompiledFormat compiledFormat = GetCompiledFormat(format, provider);
+
+                StringBuilder result = s_formatBuffer;
+                if (result == null)
+                    result = s_formatBuffer = new StringBuilder(InitialFormatBufferCapacity);
+
+                result.Length = 0;
+                compiledFormat.Append(result, dt);
+                string formatted = result.ToString();
+
+                if (result.Capacity > MaximumFormatBufferCapacity)
+                    s_formatBuffer = new StringBuilder(InitialFormatBufferCapacity);
+
+                return formatted;
+            }
+
+            /// <summary>
+            /// Gets the compiled form of a format string for a culture, compiling it on first use.  Compiled
+            /// formats are cached per thread, so that the common case of formatting many dates with the same
+            /// few patterns interprets each pattern only once.
+            /// </summary>
+            [NotNull]
+            private static CompiledFormat GetCompiledFormat([CanBeNull] string format, [CanBeNull] IFormatProvider provider)
+            {
+                IFormatProvider culture = provider ?? CultureInfo.CurrentCulture;
+
+                Dictionary<FormatKey, CompiledFormat> cache = s_compiledFormats;
+                if (cache == null)
+                    cache = s_compiledFormats = new Dictionary<FormatKey, CompiledFormat>();
+
+                FormatKey key = new FormatKey(format, culture);
+                CompiledFormat compiledFormat;
+                if (!cache.TryGetValue(key, out compiledFormat))
+                {
+                    compiledFormat = CompileFormat(format, culture);
+                    if (cache.Count >= MaximumCompiledFormats)
+                        cache.Clear();
+
+                    cache.Add(key, compiledFormat);
+                }
+
+                return compiledFormat;
+            }
+
+            [NotNull]
+            private static CompiledFormat CompileFormat([CanBeNull] string format, [NotNull] IFormatProvider provider)
             {
                 DateTimeFormatInfo dfi = DateTimeFormatInfo.GetInstance(provider);
                 NumberFormatInfo nfi = NumberFormatInfo.GetInstance(provider);
@@ -1129,11 +1176,6 @@ namespace CesiumLanguageWriter
                         throw new FormatException(string.Format(CesiumLocalization.GregorianDateInvalidFormatSpecifier, fchar));
                 }
 
-                // the length of the format is usually a good guess of the number
-                // of chars in the result. Might save us a few bytes sometimes
-                // Add + 10 for cases like mmmm dddd
-                StringBuilder result = new StringBuilder(format.Length + 10);
-
                 // For some cases, the output should not use culture dependent calendar
                 if (useInvariant)
                 {
@@ -1141,12 +1183,16 @@ namespace CesiumLanguageWriter
                     nfi = NumberFormatInfo.InvariantInfo;
                 }
 
+                List<FormatOperation> operations = new List<FormatOperation>();
+                StringBuilder literal = new StringBuilder();
+
                 int i = 0;
 
                 while (i < format.Length)
                 {
                     int tokLen;
                     char ch = format[i];
+                    FormatOperation operation = null;
 
                     switch (ch)
                     {
@@ -1154,27 +1200,22 @@ namespace CesiumLanguageWriter
                         case 'h':
                             // hour, [1, 12]
                             tokLen = CountRepeat(format, i, ch);
-
-                            int hr = dt.Hour % 12;
-                            if (hr == 0)
-                                hr = 12;
-
-                            ZeroPad(result, hr, tokLen == 1 ? 1 : 2);
+                            operation = new FormatOperation(FormatOperation.Hour12, tokLen == 1 ? 1 : 2);
                             break;
                         case 'H':
                             // hour, [0, 23]
                             tokLen = CountRepeat(format, i, ch);
-                            ZeroPad(result, dt.Hour, tokLen == 1 ? 1 : 2);
+                            operation = new FormatOperation(FormatOperation.Hour24, tokLen == 1 ? 1 : 2);
                             break;
                         case 'm':
                             // minute, [0, 59]
                             tokLen = CountRepeat(format, i, ch);
-                            ZeroPad(result, dt.Minute, tokLen == 1 ? 1 : 2);
+                            operation = new FormatOperation(FormatOperation.Minute, tokLen == 1 ? 1 : 2);
                             break;
                         case 's':
                             // second [0, 29]
                             tokLen = CountRepeat(format, i, ch);
-                            ZeroPad(result, (int)dt.Second, tokLen == 1 ? 1 : 2);
+                            operation = new FormatOperation(FormatOperation.Second, tokLen == 1 ? 1 : 2);
                             break;
                         case 'F':
                         case 'f':
@@ -1185,54 +1226,21 @@ namespace CesiumLanguageWriter
                             if (tokLen > 15)
                                 throw new FormatException(CesiumLocalization.GregorianDateFormatInvalid);
 
-                            int startLen = result.Length;
-
-                            string formattedSeconds = dt.Second.ToString("R", provider);
-                            formattedSeconds = StringFormatting.ToNonExponentialNotation(nfi, formattedSeconds);
-                            int indexOfDecimalPoint = formattedSeconds.IndexOf(nfi.NumberDecimalSeparator, StringComparison.CurrentCulture);
-                            if (indexOfDecimalPoint == -1)
-                                indexOfDecimalPoint = formattedSeconds.Length;
-                            int digitsAfterDecimalPoint = formattedSeconds.Length - indexOfDecimalPoint - 1;
-                            if (digitsAfterDecimalPoint > tokLen)
-                                formattedSeconds = formattedSeconds.Substring(0, tokLen + indexOfDecimalPoint + 1);
-                            else if (digitsAfterDecimalPoint < tokLen)
-                                formattedSeconds = formattedSeconds.PadRight(tokLen + indexOfDecimalPoint + 1, '0');
-                            result.Append(formattedSeconds, indexOfDecimalPoint + nfi.NumberDecimalSeparator.Length, formattedSeconds.Length - indexOfDecimalPoint - nfi.NumberDecimalSeparator.Length);
-
-                            if (ch == 'F')
-                            {
-                                while (result.Length > startLen && result[result.Length - 1] == '0')
-                                    result.Length = result.Length - 1;
-                                // when the value was 0, then trim even preceding '.' (!) It is fixed character.
-                                if (result.Length == startLen && startLen >= nfi.NumberDecimalSeparator.Length)
-                                {
-                                    bool matchesSeparator = true;
-                                    for (int separatorIndex = 0; matchesSeparator && separatorIndex < nfi.NumberDecimalSeparator.Length; ++separatorIndex)
-                                    {
-                                        matchesSeparator = result[result.Length - nfi.NumberDecimalSeparator.Length + separatorIndex] == nfi.NumberDecimalSeparator[separatorIndex];
-                                    }
-
-                                    if (matchesSeparator)
-                                        result.Length = result.Length - nfi.NumberDecimalSeparator.Length;
-                                }
-                            }
-
+                            operation = new FormatOperation(ch == 'F' ? FormatOperation.TrimmedFraction : FormatOperation.Fraction, tokLen);
                             break;
                         case 't':
                             // AM/PM. t == first char, tt+ == full
                             tokLen = CountRepeat(format, i, ch);
-                            string desig = dt.Hour < 12 ? dfi.AMDesignator : dfi.PMDesignator;
+                            string am = dfi.AMDesignator;
+                            string pm = dfi.PMDesignator;
 
                             if (tokLen == 1)
                             {
-                                if (desig.Length >= 1)
-                                    result.Append(desig[0]);
-                            }
-                            else
-                            {
-                                result.Append(desig);
+                                am = am.Length >= 1 ? am.Substring(0, 1) : "";
+                                pm = pm.Length >= 1 ? pm.Substring(0, 1) : "";
                             }
 
+                            operation = new FormatOperation(FormatOperation.Designator, tokLen, am, pm);
                             break;
                         // Date tokens
                         case 'd':
@@ -1242,11 +1250,9 @@ namespace CesiumLanguageWriter
                             tokLen = CountRepeat(format, i, ch);
 
                             if (tokLen <= 2)
-                                ZeroPad(result, dt.Day, tokLen == 1 ? 1 : 2);
-                            else if (tokLen == 3)
-                                result.Append(dfi.GetAbbreviatedDayName(dt.DayOfWeek));
+                                operation = new FormatOperation(FormatOperation.Day, tokLen == 1 ? 1 : 2);
                             else
-                                result.Append(dfi.GetDayName(dt.DayOfWeek));
+                                operation = new FormatOperation(tokLen == 3 ? FormatOperation.AbbreviatedDayName : FormatOperation.DayName, tokLen);
 
                             break;
                         case 'M':
@@ -1254,44 +1260,38 @@ namespace CesiumLanguageWriter
                             // mmm = 3 letter name
                             // mmmm+ = full name
                             tokLen = CountRepeat(format, i, ch);
-                            int month = dt.Month;
+
                             if (tokLen <= 2)
-                                ZeroPad(result, month, tokLen);
-                            else if (tokLen == 3)
-                                result.Append(dfi.GetAbbreviatedMonthName(month));
+                                operation = new FormatOperation(FormatOperation.Month, tokLen);
                             else
-                                result.Append(dfi.GetMonthName(month));
+                                operation = new FormatOperation(tokLen == 3 ? FormatOperation.AbbreviatedMonthName : FormatOperation.MonthName, tokLen);
 
                             break;
                         case 'y':
                             // Year. y(y?) = two digit year, with leading 0 if yy
                             // yyy+ full year with leading zeros if needed.
                             tokLen = CountRepeat(format, i, ch);
-
-                            if (tokLen <= 2)
-                                ZeroPad(result, dt.Year % 100, tokLen);
-                            else
-                                ZeroPad(result, dt.Year, tokLen);
+                            operation = new FormatOperation(tokLen <= 2 ? FormatOperation.TwoDigitYear : FormatOperation.Year, tokLen);
                             break;
 
                         case 'g':
                             // Era name
                             tokLen = CountRepeat(format, i, ch);
-                            result.Append(dfi.GetEraName(1));
+                            literal.Append(dfi.GetEraName(1));
                             break;
 
                         // Other
                         case ':':
-                            result.Append(dfi.TimeSeparator);
+                            literal.Append(dfi.TimeSeparator);
                             tokLen = 1;
                             break;
                         case '/':
-                            result.Append(dfi.DateSeparator);
+                            literal.Append(dfi.DateSeparator);
                             tokLen = 1;
                             break;
                         case '\'':
                         case '"':
-                            tokLen = ParseQuotedString(format, i, result);
+                            tokLen = ParseQuotedString(format, i, literal);
                             break;
                         case '%':
                             if (i >= format.Length - 1)
@@ -1307,26 +1307,40 @@ namespace CesiumLanguageWriter
                             if (i >= format.Length - 1)
                                 throw new FormatException(string.Format(CesiumLocalization.GregorianDateInvalidCharacterAtEnd, "\\"));
 
-                            result.Append(format[i + 1]);
+                            literal.Append(format[i + 1]);
                             tokLen = 2;
 
                             break;
                         case '.':
                             // decimal separator
-                            result.Append(nfi.NumberDecimalSeparator);
+                            literal.Append(nfi.NumberDecimalSeparator);
                             tokLen = nfi.NumberDecimalSeparator.Length;
                             break;
                         default:
                             // catch all
-                            result.Append(ch);
+                            literal.Append(ch);
                             tokLen = 1;
                             break;
                     }
 
+                    if (operation != null)
+                    {
+                        if (literal.Length > 0)
+                        {
+                            operations.Add(new FormatOperation(FormatOperation.Literal, 0, literal.ToString(), null));
+                            literal.Length = 0;
+                        }
+
+                        operations.Add(operation);
+                    }
+
                     i += tokLen;
                 }
 
-                return result.ToString();
+                if (literal.Length > 0)
+                    operations.Add(new FormatOperation(FormatOperation.Literal, 0, literal.ToString(), null));
+
+                return new CompiledFormat(operations.ToArray(), dfi, nfi, provider);
             }
 
             /// <summary>
@@ -1453,6 +1467,222 @@ namespace CesiumLanguageWriter
                 "MMM/yy",
                 "yyyy/MMMM",
             };
+
+            private const int InitialFormatBufferCapacity = 64;
+            private const int MaximumFormatBufferCapacity = 1024;
+            private const int MaximumCompiledFormats = 64;
+
+            [ThreadStatic]
+            private static StringBuilder s_formatBuffer;
+
+            [ThreadStatic]
+            private static Dictionary<FormatKey, CompiledFormat> s_compiledFormats;
+
+            private sealed class FormatKey : IEquatable<FormatKey>
+            {
+                public FormatKey([CanBeNull] string format, [NotNull] IFormatProvider provider)
+                {
+                    m_format = format;
+                    m_provider = provider;
+                }
+
+                public bool Equals(FormatKey other)
+                {
+                    if (ReferenceEquals(other, null))
+                        return false;
+                    if (ReferenceEquals(this, other))
+                        return true;
+
+                    return m_format == other.m_format && m_provider.Equals(other.m_provider);
+                }
+
+                public override bool Equals(object obj)
+                {
+                    return Equals(obj as FormatKey);
+                }
+
+                public override int GetHashCode()
+                {
+                    return HashCode.Combine(m_format == null ? 0 : m_format.GetHashCode(), m_provider.GetHashCode());
+                }
+
+                [CanBeNull]
+                private readonly string m_format;
+
+                [NotNull]
+                private readonly IFormatProvider m_provider;
+            }
+
+            /// <summary>
+            /// A single step of a compiled format: either literal text or one field of the date.
+            /// </summary>
+            private sealed class FormatOperation
+            {
+                public const int Literal = 0;
+                public const int Hour12 = 1;
+                public const int Hour24 = 2;
+                public const int Minute = 3;
+                public const int Second = 4;
+                public const int Fraction = 5;
+                public const int TrimmedFraction = 6;
+                public const int Designator = 7;
+                public const int Day = 8;
+                public const int AbbreviatedDayName = 9;
+                public const int DayName = 10;
+                public const int Month = 11;
+                public const int AbbreviatedMonthName = 12;
+                public const int MonthName = 13;
+                public const int TwoDigitYear = 14;
+                public const int Year = 15;
+
+                public FormatOperation(int kind, int length)
+                    : this(kind, length, null, null)
+                {
+                }
+
+                public FormatOperation(int kind, int length, [CanBeNull] string text, [CanBeNull] string alternateText)
+                {
+                    Kind = kind;
+                    Length = length;
+                    Text = text;
+                    AlternateText = alternateText;
+                }
+
+                public readonly int Kind;
+                public readonly int Length;
+
+                [CanBeNull]
+                public readonly string Text;
+
+                [CanBeNull]
+                public readonly string AlternateText;
+            }
+
+            /// <summary>
+            /// A format string interpreted once into a sequence of operations, along with the culture
+            /// information it uses, so that it can be applied to many dates.
+            /// </summary>
+            private sealed class CompiledFormat
+            {
+                public CompiledFormat([NotNull] FormatOperation[] operations, [NotNull] DateTimeFormatInfo dfi, [NotNull] NumberFormatInfo nfi, [NotNull] IFormatProvider provider)
+                {
+                    m_operations = operations;
+                    m_dfi = dfi;
+                    m_nfi = nfi;
+                    m_provider = provider;
+                }
+
+                public void Append([NotNull] StringBuilder result, GregorianDate dt)
+                {
+                    foreach (FormatOperation operation in m_operations)
+                    {
+                        int tokLen = operation.Length;
+                        switch (operation.Kind)
+                        {
+                            case FormatOperation.Literal:
+                                result.Append(operation.Text);
+                                break;
+                            case FormatOperation.Hour12:
+                                int hr = dt.Hour % 12;
+                                if (hr == 0)
+                                    hr = 12;
+
+                                ZeroPad(result, hr, tokLen);
+                                break;
+                            case FormatOperation.Hour24:
+                                ZeroPad(result, dt.Hour, tokLen);
+                                break;
+                            case FormatOperation.Minute:
+                                ZeroPad(result, dt.Minute, tokLen);
+                                break;
+                            case FormatOperation.Second:
+                                ZeroPad(result, (int)dt.Second, tokLen);
+                                break;
+                            case FormatOperation.Fraction:
+                            case FormatOperation.TrimmedFraction:
+                                AppendFraction(result, dt, tokLen, operation.Kind == FormatOperation.TrimmedFraction);
+                                break;
+                            case FormatOperation.Designator:
+                                result.Append(dt.Hour < 12 ? operation.Text : operation.AlternateText);
+                                break;
+                            case FormatOperation.Day:
+                                ZeroPad(result, dt.Day, tokLen);
+                                break;
+                            case FormatOperation.AbbreviatedDayName:
+                                result.Append(m_dfi.GetAbbreviatedDayName(dt.DayOfWeek));
+                                break;
+                            case FormatOperation.DayName:
+                                result.Append(m_dfi.GetDayName(dt.DayOfWeek));
+                                break;
+                            case FormatOperation.Month:
+                                ZeroPad(result, dt.Month, tokLen);
+                                break;
+                            case FormatOperation.AbbreviatedMonthName:
+                                result.Append(m_dfi.GetAbbreviatedMonthName(dt.Month));
+                                break;
+                            case FormatOperation.MonthName:
+                                result.Append(m_dfi.GetMonthName(dt.Month));
+                                break;
+                            case FormatOperation.TwoDigitYear:
+                                ZeroPad(result, dt.Year % 100, tokLen);
+                                break;
+                            case FormatOperation.Year:
+                                ZeroPad(result, dt.Year, tokLen);
+                                break;
+                            default:
+                                throw new InvalidOperationException();
+                        }
+                    }
+                }
+
+                private void AppendFraction([NotNull] StringBuilder result, GregorianDate dt, int tokLen, bool trim)
+                {
+                    NumberFormatInfo nfi = m_nfi;
+                    int startLen = result.Length;
+
+                    string formattedSeconds = dt.Second.ToString("R", m_provider);
+                    formattedSeconds = StringFormatting.ToNonExponentialNotation(nfi, formattedSeconds);
+                    int indexOfDecimalPoint = formattedSeconds.IndexOf(nfi.NumberDecimalSeparator, StringComparison.CurrentCulture);
+                    if (indexOfDecimalPoint == -1)
+                        indexOfDecimalPoint = formattedSeconds.Length;
+                    int digitsAfterDecimalPoint = formattedSeconds.Length - indexOfDecimalPoint - 1;
+                    if (digitsAfterDecimalPoint > tokLen)
+                        formattedSeconds = formattedSeconds.Substring(0, tokLen + indexOfDecimalPoint + 1);
+                    else if (digitsAfterDecimalPoint < tokLen)
+                        formattedSeconds = formattedSeconds.PadRight(tokLen + indexOfDecimalPoint + 1, '0');
+                    result.Append(formattedSeconds, indexOfDecimalPoint + nfi.NumberDecimalSeparator.Length, formattedSeconds.Length - indexOfDecimalPoint - nfi.NumberDecimalSeparator.Length);
+
+                    if (trim)
+                    {
+                        while (result.Length > startLen && result[result.Length - 1] == '0')
+                            result.Length = result.Length - 1;
+                        // when the value was 0, then trim even preceding '.' (!) It is fixed character.
+                        if (result.Length == startLen && startLen >= nfi.NumberDecimalSeparator.Length)
+                        {
+                            bool matchesSeparator = true;
+                            for (int separatorIndex = 0; matchesSeparator && separatorIndex < nfi.NumberDecimalSeparator.Length; ++separatorIndex)
+                            {
+                                matchesSeparator = result[result.Length - nfi.NumberDecimalSeparator.Length + separatorIndex] == nfi.NumberDecimalSeparator[separatorIndex];
+                            }
+
+                            if (matchesSeparator)
+                                result.Length = result.Length - nfi.NumberDecimalSeparator.Length;
+                        }
+                    }
+                }
+
+                [NotNull]
+                private readonly FormatOperation[] m_operations;
+
+                [NotNull]
+                private readonly DateTimeFormatInfo m_dfi;
+
+                [NotNull]
+                private readonly NumberFormatInfo m_nfi;
+
+                [NotNull]
+                private readonly IFormatProvider m_provider;
+            }
         }
 
         /// <summary>
@@ -1572,15 +1802,42 @@ namespace CesiumLanguageWriter
         public GregorianDate(JulianDate julianDate, TimeStandard timeStandard)
         {
             bool isLeapSecond = false;
-            JulianDate convertedJulianDate;
-            if (!julianDate.TryConvertTimeStandard(timeStandard, out convertedJulianDate))
+            int day = julianDate.Day;
+            double secondsOfDay = julianDate.SecondsOfDay;
+            if (julianDate.Standard != timeStandard)
             {
-                isLeapSecond = true;
-                convertedJulianDate = julianDate.SubtractSeconds(1).ToTimeStandard(timeStandard);
+                // Convert the day and seconds directly, in the same way as JulianDate.ToTimeStandard.
+                LeapSeconds leapSeconds = LeapSeconds.Instance;
+                if (timeStandard == TimeStandard.CoordinatedUniversalTime)
+                {
+                    double taiMinusUtc = leapSeconds.GetTaiMinusUtcOfTai(day, secondsOfDay);
+                    if (double.IsNaN(taiMinusUtc))
+                    {
+                        // During a leap second, use the second before it and add the second back below.
+                        isLeapSecond = true;
+                        secondsOfDay -= 1.0;
+                        if (secondsOfDay < 0.0)
+                        {
+                            day += NormalizeDays(secondsOfDay);
+                            secondsOfDay = NormalizeSeconds(secondsOfDay);
+                        }
+
+                        taiMinusUtc = leapSeconds.GetTaiMinusUtcOfTai(day, secondsOfDay);
+                    }
+
+                    secondsOfDay -= taiMinusUtc;
+                }
+                else
+                {
+                    secondsOfDay += leapSeconds.GetTaiMinusUtcOfUtc(day, secondsOfDay);
+                }
+
+                day += NormalizeDays(secondsOfDay);
+                secondsOfDay = NormalizeSeconds(secondsOfDay);
             }
 
-            m_yearMonthDay = new YearMonthDay(convertedJulianDate);
-            double secondsOfDay = convertedJulianDate.SecondsOfDay;
+            // JulianDates are noon-based, so the second half of the Julian day is the next calendar day.
+            m_yearMonthDay = YearMonthDay.FromJulianDayNumber(secondsOfDay >= 43200.0 ? day + 1 : day);
 
             m_hour = (int)Math.Floor(secondsOfDay / SecondsPerHour);
 
@@ -1598,6 +1855,42 @@ namespace CesiumLanguageWriter
                 m_hour -= 24;
         }
 
+        /// <summary>
+        /// Gets the number of whole days to add to a Julian day when normalizing its seconds of the day,
+        /// matching the <see cref="JulianDate"/> constructor.
+        /// </summary>
+        private static int NormalizeDays(double secondsOfDay)
+        {
+            if (secondsOfDay < 0.0)
+            {
+                int wholeDays = (int)(secondsOfDay / TimeConstants.SecondsPerDay) - 1;
+                return secondsOfDay - TimeConstants.SecondsPerDay * wholeDays > TimeConstants.NextBefore86400 ? wholeDays + 1 : wholeDays;
+            }
+
+            if (secondsOfDay >= TimeConstants.SecondsPerDay)
+                return (int)(secondsOfDay / TimeConstants.SecondsPerDay);
+
+            return 0;
+        }
+
+        /// <summary>
+        /// Normalizes the seconds of a Julian day to the range of a day, matching the <see cref="JulianDate"/> constructor.
+        /// </summary>
+        private static double NormalizeSeconds(double secondsOfDay)
+        {
+            if (secondsOfDay < 0.0)
+            {
+                int wholeDays = (int)(secondsOfDay / TimeConstants.SecondsPerDay) - 1;
+                double result = secondsOfDay - TimeConstants.SecondsPerDay * wholeDays;
+                return result > TimeConstants.NextBefore86400 ? 0.0 : result;
+            }
+
+            if (secondsOfDay >= TimeConstants.SecondsPerDay)
+                return secondsOfDay - TimeConstants.SecondsPerDay * (int)(secondsOfDay / TimeConstants.SecondsPerDay);
+
+            return secondsOfDay;
+        }
+
         /// <summary>
         /// Initializes a <see cref="GregorianDate"/> from the provided
         /// <see cref="DateTime"/>.  If the provided <see cref="DateTime"/> is in local
@@ -0,0 +1,566 @@
+﻿using System;
+using System.Collections;
+using System.Collections.Generic;
+using JetBrains.Annotations;
+
+namespace CesiumLanguageWriter
+{
+    /// <summary>
+    /// An immutable list of <see cref="JulianDate">JulianDates</see> in a single <see cref="TimeStandard"/>, stored as
+    /// an array of days and an array of seconds of the day rather than as individual dates.
+    /// </summary>
+    /// <remarks>
+    /// Because it is an <see cref="IList{T}"/> of <see cref="JulianDate"/>, an array can be passed to any sampled writer or
+    /// utility which accepts a list of dates.  Writers which compute time offsets from an epoch read
+    /// the days and seconds directly, and other code receives a <see cref="JulianDate"/> created on demand
+    /// by the indexer.  The bulk operations work on the arrays without creating any dates.
+    /// </remarks>
+    public sealed class JulianDateArray : IList<JulianDate>
+    {
+        /// <summary>
+        /// Initializes a new instance from a list of dates, converting each to the specified standard.
+        /// </summary>
+        /// <param name="dates">The dates.</param>
+        /// <param name="standard">The time standard in which to store the dates.</param>
+        /// <exception cref="ArgumentOutOfRangeException">Thrown if a date cannot be represented in <paramref name="standard"/>.</exception>
+        public JulianDateArray([NotNull] IList<JulianDate> dates, TimeStandard standard)
+        {
+            if (dates == null)
+                throw new ArgumentNullException("dates");
+
+            int count = dates.Count;
+            m_standard = standard;
+            m_days = new int[count];
+            m_secondsOfDay = new double[count];
+            for (int i = 0; i < count; ++i)
+            {
+                JulianDate date = dates[i].ToTimeStandard(standard);
+                m_days[i] = date.Day;
+                m_secondsOfDay[i] = date.SecondsOfDay;
+            }
+        }
+
+        /// <summary>
+        /// Initializes a new instance from arrays of days and seconds.  The arrays are copied, and
+        /// seconds outside of a day are normalized in the same way as <see cref="JulianDate"/>.
+        /// </summary>
+        /// <param name="standard">The time standard of the dates.</param>
+        /// <param name="days">The Julian day number of each date.</param>
+        /// <param name="secondsOfDay">The seconds of the day of each date.</param>
+        /// <exception cref="ArgumentException">Thrown if the arrays have different lengths.</exception>
+        public JulianDateArray(TimeStandard standard, [NotNull] int[] days, [NotNull] double[] secondsOfDay)
+        {
+            if (days == null)
+                throw new ArgumentNullException("days");
+            if (secondsOfDay == null)
+                throw new ArgumentNullException("secondsOfDay");
+            if (days.Length != secondsOfDay.Length)
+                throw new ArgumentException(CesiumLocalization.MismatchedNumberOfDatesAndValues, "secondsOfDay");
+
+            m_standard = standard;
+            m_days = new int[days.Length];
+            m_secondsOfDay = new double[days.Length];
+            for (int i = 0; i < days.Length; ++i)
+            {
+                Set(m_days, m_secondsOfDay, i, days[i], secondsOfDay[i]);
+            }
+        }
+
+        /// <summary>
+        /// Initializes a new instance which takes ownership of arrays that are already normalized, without copying them.
+        /// </summary>
+        private JulianDateArray([NotNull] int[] days, [NotNull] double[] secondsOfDay, TimeStandard standard)
+        {
+            m_standard = standard;
+            m_days = days;
+            m_secondsOfDay = secondsOfDay;
+        }
+
+        /// <summary>
+        /// Creates a UTC array from times expressed as milliseconds since the Unix epoch,
+        /// 1970-01-01T00:00:00Z, as returned by <see cref="DateTimeOffset.ToUnixTimeMilliseconds"/>.
+        /// </summary>
+        /// <remarks>
+        /// As in Unix time, every day is taken to be exactly 86400 seconds long, so the times map directly
+        /// to UTC days and seconds.  Leap seconds are accounted for when the dates are converted to
+        /// TAI or when offsets from an epoch are computed, so the offsets of times on either side of a leap
+        /// second differ by the elapsed time including it.
+        /// </remarks>
+        /// <param name="epochMilliseconds">The times, in milliseconds since the Unix epoch.</param>
+        /// <returns>The new array.</returns>
+        [NotNull]
+        public static JulianDateArray FromEpochMilliseconds([NotNull] long[] epochMilliseconds)
+        {
+            if (epochMilliseconds == null)
+                throw new ArgumentNullException("epochMilliseconds");
+
+            int count = epochMilliseconds.Length;
+            int[] days = new int[count];
+            double[] secondsOfDay = new double[count];
+            for (int i = 0; i < count; ++i)
+            {
+                SetFromEpoch(days, secondsOfDay, i, epochMilliseconds[i], MillisecondsPerDay, 1e3, "epochMilliseconds");
+            }
+
+            return new JulianDateArray(days, secondsOfDay, TimeStandard.CoordinatedUniversalTime);
+        }
+
+        /// <summary>
+        /// Creates a UTC array from times expressed as nanoseconds since the Unix epoch,
+        /// 1970-01-01T00:00:00Z.  As with <see cref="FromEpochMilliseconds"/>, every day is taken to be exactly
+        /// 86400 seconds long.
+        /// </summary>
+        /// <param name="epochNanoseconds">The times, in nanoseconds since the Unix epoch.</param>
+        /// <returns>The new array.</returns>
+        [NotNull]
+        public static JulianDateArray FromEpochNanoseconds([NotNull] long[] epochNanoseconds)
+        {
+            if (epochNanoseconds == null)
+                throw new ArgumentNullException("epochNanoseconds");
+
+            int count = epochNanoseconds.Length;
+            int[] days = new int[count];
+            double[] secondsOfDay = new double[count];
+            for (int i = 0; i < count; ++i)
+            {
+                SetFromEpoch(days, secondsOfDay, i, epochNanoseconds[i], NanosecondsPerDay, 1e9, "epochNanoseconds");
+            }
+
+            return new JulianDateArray(days, secondsOfDay, TimeStandard.CoordinatedUniversalTime);
+        }
+
+        private static void SetFromEpoch([NotNull] int[] days, [NotNull] double[] secondsOfDay, int index, long time, long unitsPerDay, double unitsPerSecond, [NotNull] string parameterName)
+        {
+            long epochDays = time / unitsPerDay;
+            if (time % unitsPerDay < 0)
+                --epochDays;
+
+            SetFromEpoch(days, secondsOfDay, index, epochDays, time - epochDays * unitsPerDay, unitsPerDay, unitsPerSecond, parameterName);
+        }
+
+        /// <summary>
+        /// Stores a time given as whole days since the Unix epoch and a count of units into the day.
+        /// The day is shifted to start at noon with integer arithmetic, so that the seconds are
+        /// rounded only once.
+        /// </summary>
+        private static void SetFromEpoch([NotNull] int[] days, [NotNull] double[] secondsOfDay, int index, long epochDays, long unitsOfDay, long unitsPerDay, double unitsPerSecond, [NotNull] string parameterName)
+        {
+            long day = UnixEpochDay + epochDays;
+            long unitsPastNoon = unitsOfDay + unitsPerDay / 2L;
+            if (unitsPastNoon >= unitsPerDay)
+            {
+                ++day;
+                unitsPastNoon -= unitsPerDay;
+            }
+
+            if (day < int.MinValue || day > int.MaxValue)
+                throw new ArgumentOutOfRangeException(parameterName);
+
+            days[index] = (int)day;
+            secondsOfDay[index] = unitsPastNoon / unitsPerSecond;
+        }
+
+        /// <summary>
+        /// Gets the time standard of the dates.
+        /// </summary>
+        public TimeStandard Standard
+        {
+            get { return m_standard; }
+        }
+
+        /// <summary>
+        /// Gets the number of dates.
+        /// </summary>
+        public int Count
+        {
+            get { return m_days.Length; }
+        }
+
+        /// <summary>
+        /// Gets a value indicating whether the list is read-only, which is always <see langword="true"/>.
+        /// </summary>
+        public bool IsReadOnly
+        {
+            get { return true; }
+        }
+
+        /// <summary>
+        /// Gets a date, creating a <see cref="JulianDate"/> for it.
+        /// </summary>
+        /// <param name="index">The index of the date.</param>
+        /// <exception cref="NotSupportedException">Thrown when setting a date, because the array is immutable.</exception>
+        public JulianDate this[int index]
+        {
+            get { return new JulianDate(m_days[index], m_secondsOfDay[index], m_standard); }
+            set { throw new NotSupportedException(); }
+        }
+
+        /// <summary>
+        /// Gets the Julian day number of a date.
+        /// </summary>
+        /// <param name="index">The index of the date.</param>
+        /// <returns>The day.</returns>
+        public int GetDay(int index)
+        {
+            return m_days[index];
+        }
+
+        /// <summary>
+        /// Gets the seconds of the day of a date.
+        /// </summary>
+        /// <param name="index">The index of the date.</param>
+        /// <returns>The seconds of the day.</returns>
+        public double GetSecondsOfDay(int index)
+        {
+            return m_secondsOfDay[index];
+        }
+
+        /// <summary>
+        /// Gets a copy of part of the array.
+        /// </summary>
+        /// <param name="startIndex">The index of the first date to copy.</param>
+        /// <param name="length">The number of dates to copy.</param>
+        /// <returns>The new array.</returns>
+        [NotNull]
+        public JulianDateArray SubArray(int startIndex, int length)
+        {
+            if (startIndex < 0 || length < 0 || startIndex + length > m_days.Length)
+                throw new ArgumentOutOfRangeException("startIndex");
+
+            int[] days = new int[length];
+            double[] secondsOfDay = new double[length];
+            Array.Copy(m_days, startIndex, days, 0, length);
+            Array.Copy(m_secondsOfDay, startIndex, secondsOfDay, 0, length);
+            return new JulianDateArray(days, secondsOfDay, m_standard);
+        }
+
+        /// <summary>
+        /// Converts every date to another time standard.
+        /// </summary>
+        /// <param name="standard">The requested time standard.</param>
+        /// <returns>An array in the requested standard, or this instance if it already uses that standard.</returns>
+        /// <exception cref="ArgumentOutOfRangeException">
+        /// Thrown if a date cannot be represented in <paramref name="standard"/>,
+        /// which happens when converting a date during a leap second to UTC.
+        /// </exception>
+        [NotNull]
+        public JulianDateArray ToTimeStandard(TimeStandard standard)
+        {
+            JulianDateArray result = TryConvertTimeStandard(standard);
+            if (result == null)
+                throw new ArgumentOutOfRangeException(CesiumLocalization.CannotRepresentLeapSecondAsUTCJulianDate);
+
+            return result;
+        }
+
+        [CanBeNull]
+        private JulianDateArray TryConvertTimeStandard(TimeStandard standard)
+        {
+            if (standard == m_standard)
+                return this;
+
+            LeapSeconds leapSeconds = LeapSeconds.Instance;
+            int count = m_days.Length;
+            int[] days = new int[count];
+            double[] secondsOfDay = new double[count];
+            if (standard == TimeStandard.InternationalAtomicTime)
+            {
+                for (int i = 0; i < count; ++i)
+                {
+                    int day = m_days[i];
+                    double seconds = m_secondsOfDay[i];
+                    Set(days, secondsOfDay, i, day, seconds + leapSeconds.GetTaiMinusUtcOfUtc(day, seconds));
+                }
+            }
+            else
+            {
+                for (int i = 0; i < count; ++i)
+                {
+                    int day = m_days[i];
+                    double seconds = m_secondsOfDay[i];
+                    double taiMinusUtc = leapSeconds.GetTaiMinusUtcOfTai(day, seconds);
+                    if (double.IsNaN(taiMinusUtc))
+                        return null;
+
+                    Set(days, secondsOfDay, i, day, seconds - taiMinusUtc);
+                }
+            }
+
+            return new JulianDateArray(days, secondsOfDay, standard);
+        }
+
+        /// <summary>
+        /// Adds a number of seconds to every date.  As with <see cref="JulianDate.AddSeconds"/>, the addition
+        /// is done in TAI.  The result uses the time standard of this array if every date can be
+        /// represented in it, and otherwise uses TAI.
+        /// </summary>
+        /// <param name="seconds">The number of seconds to add.</param>
+        /// <returns>The new array.</returns>
+        [NotNull]
+        public JulianDateArray AddSeconds(double seconds)
+        {
+            Duration duration = Duration.FromSeconds(seconds);
+            int durationDays = duration.Days;
+            double durationSeconds = duration.Seconds;
+
+            JulianDateArray tai = ToTimeStandard(TimeStandard.InternationalAtomicTime);
+            int count = m_days.Length;
+            int[] days = new int[count];
+            double[] secondsOfDay = new double[count];
+            for (int i = 0; i < count; ++i)
+            {
+                Set(days, secondsOfDay, i, tai.m_days[i] + durationDays, tai.m_secondsOfDay[i] + durationSeconds);
+            }
+
+            JulianDateArray result = new JulianDateArray(days, secondsOfDay, TimeStandard.InternationalAtomicTime);
+            return result.TryConvertTimeStandard(m_standard) ?? result;
+        }
+
+        /// <summary>
+        /// Computes the number of seconds from an epoch to a date, identical to
+        /// <c>epoch.SecondsDifference(this[index])</c>.
+        /// </summary>
+        /// <param name="epoch">The epoch.</param>
+        /// <param name="index">The index of the date.</param>
+        /// <returns>The number of seconds elapsed from the epoch to the date.</returns>
+        public double SecondsDifference(JulianDate epoch, int index)
+        {
+            JulianDate start = epoch.ToInternationalAtomicTime();
+            return SecondsDifference(start.Day, start.SecondsOfDay, index);
+        }
+
+        /// <summary>
+        /// Computes the number of seconds from an epoch to each date in a range.
+        /// </summary>
+        /// <param name="epoch">The epoch.</param>
+        /// <param name="startIndex">The index of the first date.</param>
+        /// <param name="length">The number of dates.</param>
+        /// <param name="result">The array to receive the differences.</param>
+        /// <param name="resultIndex">The index in <paramref name="result"/> at which to store the first difference.</param>
+        public void SecondsDifferences(JulianDate epoch, int startIndex, int length, [NotNull] double[] result, int resultIndex)
+        {
+            if (result == null)
+                throw new ArgumentNullException("result");
+            if (startIndex < 0 || length < 0 || startIndex + length > m_days.Length)
+                throw new ArgumentOutOfRangeException("startIndex");
+            if (resultIndex < 0 || resultIndex + length > result.Length)
+                throw new ArgumentOutOfRangeException("resultIndex");
+
+            JulianDate start = epoch.ToInternationalAtomicTime();
+            int startDay = start.Day;
+            double startSecondsOfDay = start.SecondsOfDay;
+            for (int i = 0; i < length; ++i)
+            {
+                result[resultIndex + i] = SecondsDifference(startDay, startSecondsOfDay, startIndex + i);
+            }
+        }
+
+        /// <summary>
+        /// Computes the number of seconds from an epoch, given as a day and seconds of day in <see cref="TimeStandard.InternationalAtomicTime"/>,
+        /// to a date.  Converting the epoch once and calling this method for each date avoids converting it again for every date.
+        /// </summary>
+        /// <param name="startDay">The Julian day number of the epoch in TAI.</param>
+        /// <param name="startSecondsOfDay">The seconds of the day of the epoch in TAI.</param>
+        /// <param name="index">The index of the date.</param>
+        /// <returns>The number of seconds elapsed from the epoch to the date.</returns>
+        public double SecondsDifference(int startDay, double startSecondsOfDay, int index)
+        {
+            int day = m_days[index];
+            double seconds = m_secondsOfDay[index];
+            if (m_standard != TimeStandard.InternationalAtomicTime)
+            {
+                // Convert to TAI in the same way as JulianDate, normalizing the seconds.
+                seconds += LeapSeconds.Instance.GetTaiMinusUtcOfUtc(day, seconds);
+                if (seconds < 0)
+                {
+                    int wholeDays = (int)(seconds / TimeConstants.SecondsPerDay) - 1;
+                    day += wholeDays;
+                    seconds -= TimeConstants.SecondsPerDay * wholeDays;
+                    if (seconds > TimeConstants.NextBefore86400)
+                    {
+                        ++day;
+                        seconds = 0.0;
+                    }
+                }
+                else if (seconds >= TimeConstants.SecondsPerDay)
+                {
+                    int wholeDays = (int)(seconds / TimeConstants.SecondsPerDay);
+                    day += wholeDays;
+                    seconds -= TimeConstants.SecondsPerDay * wholeDays;
+                }
+            }
+
+            long endDay = day;
+            return (endDay - startDay) * TimeConstants.SecondsPerDay + (seconds - startSecondsOfDay);
+        }
+
+        /// <summary>
+        /// Searches the dates, which must be in increasing order, for a date.
+        /// </summary>
+        /// <param name="date">The date to search for.</param>
+        /// <returns>
+        /// The index of the date, if it is found; otherwise, the bitwise complement of the index
+        /// at which it would be inserted, as with <see cref="Array.BinarySearch(Array, object)"/>.
+        /// </returns>
+        public int BinarySearch(JulianDate date)
+        {
+            JulianDate converted;
+            bool isConverted = date.TryConvertTimeStandard(m_standard, out converted);
+
+            int low = 0;
+            int high = m_days.Length - 1;
+            while (low <= high)
+            {
+                int mid = low + ((high - low) >> 1);
+                int comparison;
+                if (isConverted)
+                {
+                    comparison = m_days[mid].CompareTo(converted.Day);
+                    if (comparison == 0)
+                        comparison = m_secondsOfDay[mid].CompareTo(converted.SecondsOfDay);
+                }
+                else
+                {
+                    comparison = this[mid].CompareTo(date);
+                }
+
+                if (comparison < 0)
+                    low = mid + 1;
+                else if (comparison > 0)
+                    high = mid - 1;
+                else
+                    return mid;
+            }
+
+            return ~low;
+        }
+
+        /// <summary>
+        /// Gets the index of a date, comparing with <see cref="JulianDate.Equals(JulianDate)"/>.
+        /// </summary>
+        /// <param name="item">The date to locate.</param>
+        /// <returns>The index of the date, or -1 if it is not found.</returns>
+        public int IndexOf(JulianDate item)
+        {
+            for (int i = 0; i < m_days.Length; ++i)
+            {
+                if (this[i].Equals(item))
+                    return i;
+            }
+
+            return -1;
+        }
+
+        /// <summary>
+        /// Determines whether the array contains a date.
+        /// </summary>
+        /// <param name="item">The date to locate.</param>
+        /// <returns><see langword="true"/> if the date is found; otherwise, <see langword="false"/>.</returns>
+        public bool Contains(JulianDate item)
+        {
+            return IndexOf(item) >= 0;
+        }
+
+        /// <summary>
+        /// Copies the dates to an array of <see cref="JulianDate"/>.
+        /// </summary>
+        /// <param name="array">The array to receive the dates.</param>
+        /// <param name="arrayIndex">The index in <paramref name="array"/> at which to store the first date.</param>
+        public void CopyTo(JulianDate[] array, int arrayIndex)
+        {
+            if (array == null)
+                throw new ArgumentNullException("array");
+            if (arrayIndex < 0 || arrayIndex + m_days.Length > array.Length)
+                throw new ArgumentOutOfRangeException("arrayIndex");
+
+            for (int i = 0; i < m_days.Length; ++i)
+            {
+                array[arrayIndex + i] = this[i];
+            }
+        }
+
+        /// <summary>
+        /// Returns an enumerator which creates each date in turn.
+        /// </summary>
+        /// <returns>The enumerator.</returns>
+        public IEnumerator<JulianDate> GetEnumerator()
+        {
+            for (int i = 0; i < m_days.Length; ++i)
+            {
+                yield return this[i];
+            }
+        }
+
+        IEnumerator IEnumerable.GetEnumerator()
+        {
+            return GetEnumerator();
+        }
+
+        void IList<JulianDate>.Insert(int index, JulianDate item)
+        {
+            throw new NotSupportedException();
+        }
+
+        void IList<JulianDate>.RemoveAt(int index)
+        {
+            throw new NotSupportedException();
+        }
+
+        void ICollection<JulianDate>.Add(JulianDate item)
+        {
+            throw new NotSupportedException();
+        }
+
+        void ICollection<JulianDate>.Clear()
+        {
+            throw new NotSupportedException();
+        }
+
+        bool ICollection<JulianDate>.Remove(JulianDate item)
+        {
+            throw new NotSupportedException();
+        }
+
+        /// <summary>
+        /// Stores a date, normalizing the seconds in the same way as the <see cref="JulianDate"/> constructor.
+        /// </summary>
+        private static void Set([NotNull] int[] days, [NotNull] double[] secondsOfDay, int index, int day, double seconds)
+        {
+            if (seconds < 0)
+            {
+                int wholeDays = (int)(seconds / TimeConstants.SecondsPerDay);
+                --wholeDays;
+
+                day += wholeDays;
+                seconds -= TimeConstants.SecondsPerDay * wholeDays;
+
+                if (seconds > TimeConstants.NextBefore86400)
+                {
+                    ++day;
+                    seconds = 0.0;
+                }
+            }
+            else if (seconds >= TimeConstants.SecondsPerDay)
+            {
+                int wholeDays = (int)(seconds / TimeConstants.SecondsPerDay);
+                day += wholeDays;
+                seconds -= TimeConstants.SecondsPerDay * wholeDays;
+            }
+
+            days[index] = day;
+            secondsOfDay[index] = seconds;
+        }
+
+        /// <summary>
+        /// The Julian day number whose noon precedes the Unix epoch, 1970-01-01T00:00:00Z.
+        /// </summary>
+        private const long UnixEpochDay = 2440587L;
+        private const long SecondsPerDay = 86400L;
+        private const long MillisecondsPerDay = SecondsPerDay * 1000L;
+        private const long NanosecondsPerDay = SecondsPerDay * 1000000000L;
+
+        private readonly TimeStandard m_standard;
+        private readonly int[] m_days;
+        private readonly double[] m_secondsOfDay;
+    }
+}
@@ -47,6 +47,7 @@ namespace CesiumLanguageWriter
                 new LeapSecond(2457204.5, 36),
                 new LeapSecond(2457754.5, 37),
             };
+            m_table = new Table(m_leapSeconds);
         }
 
         /// <summary>
@@ -57,15 +58,25 @@ namespace CesiumLanguageWriter
         {
             m_leapSeconds = new List<LeapSecond>(leapSeconds);
             m_leapSeconds.Sort(s_leapSecondComparer);
+            m_table = new Table(m_leapSeconds);
         }
 
         /// <summary>
-        /// Gets the default (and usually only) instance.
+        /// Gets or sets the default (and usually only) instance.  Instances are immutable, so the instance
+        /// can be replaced at any time, for example when a new list of leap seconds is published,
+        /// and conversions on other threads will use either the old or the new list.
         /// </summary>
+        [NotNull]
         public static LeapSeconds Instance
         {
             get { return s_leapSeconds; }
-            set { s_leapSeconds = value; }
+            set
+            {
+                if (value == null)
+                    throw new ArgumentNullException("value");
+
+                s_leapSeconds = value;
+            }
         }
 
         /// <summary>
@@ -83,34 +94,43 @@ namespace CesiumLanguageWriter
         /// <returns>The difference.</returns>
         public double GetTaiMinusUtc(JulianDate date)
         {
-            date = date.ToTimeStandard(TimeStandard.CoordinatedUniversalTime);
-            LeapSecond toFind = new LeapSecond(date, 0.0);
-
-            // Start by assuming we're working with UTC, we'll check later if we're
-            // off by one because we really have TAI.
-            int index = m_leapSeconds.BinarySearch(toFind, s_leapSecondComparer);
-            if (index < 0)
+            int day = date.Day;
+            double secondsOfDay = date.SecondsOfDay;
+            if (date.Standard != TimeStandard.CoordinatedUniversalTime)
             {
-                index = ~index;
-                --index;
-            }
+                double offset = m_table.GetTaiMinusUtcOfTai(day, secondsOfDay);
+                if (double.IsNaN(offset))
+                    throw new ArgumentOutOfRangeException(CesiumLocalization.CannotRepresentLeapSecondAsUTCJulianDate);
 
-            // Check if we're off by one because we're really working with TAI.
-            // If the requested date minus the most recent previous leap second offset is less than the date
-            // for the current leap second, then we haven't quite gotten to that leap second yet.
-            // This gets a little tricky because JulianDate and its conversion mechanisms try to outsmart us.
-            if (date.Standard == TimeStandard.InternationalAtomicTime)
-            {
-                JulianDate lastDate = GetDateForIndex(index);
-                JulianDate taiCutoff = new JulianDate(lastDate.Day, lastDate.SecondsOfDay, TimeStandard.InternationalAtomicTime);
-                taiCutoff += Duration.FromSeconds(GetOffsetForIndex(index));
-                if (date < taiCutoff)
-                {
-                    --index;
-                }
+                JulianDate utc = new JulianDate(day, secondsOfDay - offset, TimeStandard.CoordinatedUniversalTime);
+                day = utc.Day;
+                secondsOfDay = utc.SecondsOfDay;
             }
 
-            return GetOffsetForIndex(index);
+            return m_table.GetTaiMinusUtcOfUtc(day, secondsOfDay);
+        }
+
+        /// <summary>
+        /// Returns the difference TAI - UTC at a moment specified in UTC, in seconds.
+        /// </summary>
+        /// <param name="day">The Julian day number of the moment, in UTC.</param>
+        /// <param name="secondsOfDay">The seconds of the day of the moment, in UTC.</param>
+        /// <returns>The difference.</returns>
+        internal double GetTaiMinusUtcOfUtc(int day, double secondsOfDay)
+        {
+            return m_table.GetTaiMinusUtcOfUtc(day, secondsOfDay);
+        }
+
+        /// <summary>
+        /// Returns the difference TAI - UTC at a moment specified in TAI, in seconds.
+        /// </summary>
+        /// <param name="day">The Julian day number of the moment, in TAI.</param>
+        /// <param name="secondsOfDay">The seconds of the day of the moment, in TAI.</param>
+        /// <returns>The difference, or <see cref="double.NaN"/> if the moment is during a leap second and so
+        /// cannot be represented in UTC.</returns>
+        internal double GetTaiMinusUtcOfTai(int day, double secondsOfDay)
+        {
+            return m_table.GetTaiMinusUtcOfTai(day, secondsOfDay);
         }
 
         /// <summary>
@@ -142,81 +162,179 @@ namespace CesiumLanguageWriter
         /// to UTC, otherwise false.</returns>
         internal bool TryConvertTaiToUtc(JulianDate date, out JulianDate result)
         {
-            //treat the request date as if it were UTC, and search for the most recent leap second.
-            LeapSecond toFind = new LeapSecond(date.TotalDays, 0.0);
-            int index = m_leapSeconds.BinarySearch(toFind, s_leapSecondComparer);
-            if (index < 0)
+            double offset = m_table.GetTaiMinusUtcOfTai(date.Day, date.SecondsOfDay);
+            if (double.IsNaN(offset))
             {
-                index = ~index;
-                --index;
+                //if the requested date is during the moment of a leap second, then we cannot convert to UTC.
+                result = JulianDate.MinValue;
+                return false;
             }
 
-            //now we have the index of the most recent leap second that is after the requested date
-            if (index >= 0)
-            {
-                double mostRecentOffset = GetOffsetForIndex(index);
-                JulianDate leapSecondDate = GetDateForIndex(index);
+            result = new JulianDate(date.Day, date.SecondsOfDay - offset, TimeStandard.CoordinatedUniversalTime);
+            return true;
+        }
 
-                if (date.Day == leapSecondDate.Day)
+        /// <summary>
+        /// Determines if a given day contains a leap second.
+        /// </summary>
+        /// <param name="julianDayNumber">The day, specified as a Julian day number.</param>
+        /// <returns>true if the day contains a leap second, otherwise false.</returns>
+        public bool DoesDayHaveLeapSecond(int julianDayNumber)
+        {
+            return m_table.HasLeapSecond(julianDayNumber, 43200.0);
+        }
+
+        private static readonly LeapSecondComparer s_leapSecondComparer = new LeapSecondComparer();
+        private static volatile LeapSeconds s_leapSeconds = new LeapSeconds();
+
+        [NotNull]
+        private readonly List<LeapSecond> m_leapSeconds;
+
+        [NotNull]
+        private readonly Table m_table;
+
+        /// <summary>
+        /// The leap seconds as parallel arrays of UTC dates and offsets, with an index from each Julian day
+        /// number in the range of the leap seconds to the last leap second on or before that day.  Dates after
+        /// the last leap second, which are by far the most common, are resolved by a single comparison.
+        /// </summary>
+        private sealed class Table
+        {
+            public Table([NotNull] List<LeapSecond> leapSeconds)
+            {
+                int count = leapSeconds.Count;
+                m_days = new int[count];
+                m_secondsOfDay = new double[count];
+                m_offsets = new double[count];
+                for (int i = 0; i < count; ++i)
                 {
-                    //if the requested date is on the day of the leap second, we may have to adjust
-                    double secondsSinceLeapSecond = date.SecondsOfDay - leapSecondDate.SecondsOfDay;
+                    JulianDate date = leapSeconds[i].Date;
+                    m_days[i] = date.Day;
+                    m_secondsOfDay[i] = date.SecondsOfDay;
+                    m_offsets[i] = leapSeconds[i].TotalTaiOffsetFromUtc;
+                }
 
-                    if (secondsSinceLeapSecond >= mostRecentOffset - 1 &&
-                        secondsSinceLeapSecond < mostRecentOffset)
+                m_lastIndex = count - 1;
+                if (count > 0 && (long)m_days[count - 1] - m_days[0] < MaximumIndexedDays)
+                {
+                    m_firstDay = m_days[0];
+                    m_indexByDay = new int[m_days[count - 1] - m_firstDay + 1];
+                    int index = 0;
+                    for (int day = 0; day < m_indexByDay.Length; ++day)
                     {
-                        //if the requested date is during the moment of a leap second, then we cannot convert to UTC.
-                        result = JulianDate.MinValue;
-                        return false;
+                        while (index + 1 < count && m_days[index + 1] <= m_firstDay + day)
+                        {
+                            ++index;
+                        }
+
+                        m_indexByDay[day] = index;
                     }
+                }
+                else
+                {
+                    m_firstDay = 0;
+                    m_indexByDay = null;
+                }
+            }
 
-                    if (secondsSinceLeapSecond < mostRecentOffset)
+            /// <summary>
+            /// Gets the index of the last leap second at or before a UTC date, or -1 if there is none.
+            /// </summary>
+            public int FindIndex(int day, double secondsOfDay)
+            {
+                int last = m_lastIndex;
+                if (last < 0)
+                    return -1;
+
+                if (day > m_days[last])
+                    return last;
+
+                int index;
+                if (m_indexByDay != null)
+                {
+                    if (day < m_firstDay)
+                        return -1;
+
+                    index = m_indexByDay[day - m_firstDay];
+                }
+                else
+                {
+                    index = Array.BinarySearch(m_days, day);
+                    if (index < 0)
                     {
-                        //The leap second we found is actually after the desired date, as a result of simply treating the
-                        //TAI date as if it were UTC.  So, use the next previous leap second instead.
-                        --index;
+                        index = ~index - 1;
+                    }
+                    else
+                    {
+                        while (index < last && m_days[index + 1] == day)
+                        {
+                            ++index;
+                        }
                     }
                 }
+
+                while (index >= 0 && m_days[index] == day && m_secondsOfDay[index] > secondsOfDay)
+                {
+                    --index;
+                }
+
+                return index;
             }
 
-            result = new JulianDate(date.Day, date.SecondsOfDay - GetOffsetForIndex(index), TimeStandard.CoordinatedUniversalTime);
-            return true;
-        }
+            public double GetOffset(int index)
+            {
+                return index < 0 ? 10.0 : m_offsets[index];
+            }
 
-        private JulianDate GetDateForIndex(int index)
-        {
-            if (index < 0)
+            public double GetTaiMinusUtcOfUtc(int day, double secondsOfDay)
             {
-                return new JulianDate(0, 0.0, TimeStandard.CoordinatedUniversalTime);
+                return GetOffset(FindIndex(day, secondsOfDay));
             }
-            return m_leapSeconds[index].Date;
-        }
 
-        private double GetOffsetForIndex(int index)
-        {
-            if (index < 0)
+            public double GetTaiMinusUtcOfTai(int day, double secondsOfDay)
             {
-                return 10.0;
+                // Treat the date as if it were UTC, and find the most recent leap second.  The total
+                // days are used so that the search matches the historical behavior exactly.
+                double totalDays = day + secondsOfDay / TimeConstants.SecondsPerDay;
+                int searchDay = (int)totalDays;
+                double searchSecondsOfDay = (totalDays - searchDay) * TimeConstants.SecondsPerDay;
+                int index = FindIndex(searchDay, searchSecondsOfDay);
+                if (index >= 0 && day == m_days[index])
+                {
+                    // If the date is on the day of the leap second, we may have to adjust.
+                    double mostRecentOffset = m_offsets[index];
+                    double secondsSinceLeapSecond = secondsOfDay - m_secondsOfDay[index];
+                    if (secondsSinceLeapSecond >= mostRecentOffset - 1 && secondsSinceLeapSecond < mostRecentOffset)
+                        return double.NaN;
+
+                    if (secondsSinceLeapSecond < mostRecentOffset)
+                        --index;
+                }
+
+                return GetOffset(index);
             }
-            return m_leapSeconds[index].TotalTaiOffsetFromUtc;
-        }
 
-        /// <summary>
-        /// Determines if a given day contains a leap second.
-        /// </summary>
-        /// <param name="julianDayNumber">The day, specified as a Julian day number.</param>
-        /// <returns>true if the day contains a leap second, otherwise false.</returns>
-        public bool DoesDayHaveLeapSecond(int julianDayNumber)
-        {
-            LeapSecond potentialLeapSecond = new LeapSecond(new JulianDate(julianDayNumber, 43200, TimeStandard.CoordinatedUniversalTime), 0.0);
-            return m_leapSeconds.BinarySearch(potentialLeapSecond, s_leapSecondComparer) >= 0;
-        }
+            public bool HasLeapSecond(int day, double secondsOfDay)
+            {
+                int index = FindIndex(day, secondsOfDay);
+                return index >= 0 && m_days[index] == day && m_secondsOfDay[index] == secondsOfDay;
+            }
 
-        private static readonly LeapSecondComparer s_leapSecondComparer = new LeapSecondComparer();
-        private static LeapSeconds s_leapSeconds = new LeapSeconds();
+            private const long MaximumIndexedDays = 1L << 20;
 
-        [NotNull]
-        private readonly List<LeapSecond> m_leapSeconds;
+            [NotNull]
+            private readonly int[] m_days;
+
+            [NotNull]
+            private readonly double[] m_secondsOfDay;
+
+            [NotNull]
+            private readonly double[] m_offsets;
+
+            private readonly int m_lastIndex;
+            private readonly int m_firstDay;
+            private readonly int[] m_indexByDay;
+        }
 
         private class LeapSecondComparer : IComparer<LeapSecond>
         {
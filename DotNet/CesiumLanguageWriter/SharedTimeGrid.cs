@@ -0,0 +1,210 @@
+﻿using System;
+using System.Collections.Generic;
+using System.Collections.ObjectModel;
+using System.Globalization;
+using System.IO;
+using CesiumLanguageWriter.Advanced;
+using JetBrains.Annotations;
+
+namespace CesiumLanguageWriter
+{
+    /// <summary>
+    /// A set of sample dates shared by many sampled properties.  The epoch and the time offset of each
+    /// date from the epoch are formatted once when the grid is created, and sampled writers
+    /// interleave the formatted offsets with the values of each property, instead of formatting
+    /// the same offsets again for every property written on the grid.
+    /// </summary>
+    /// <remarks>
+    /// Instances are immutable and may be shared between threads and documents.
+    /// </remarks>
+    public sealed class SharedTimeGrid
+    {
+        /// <summary>
+        /// Initializes a new instance.
+        /// </summary>
+        /// <param name="dates">The dates of the grid, in increasing order.</param>
+        public SharedTimeGrid([NotNull] IList<JulianDate> dates)
+            : this(dates, 0, dates.Count)
+        {
+        }
+
+        /// <summary>
+        /// Initializes a new instance.
+        /// </summary>
+        /// <param name="dates">The dates of the grid, in increasing order.</param>
+        /// <param name="startIndex">The index of the first date to use.</param>
+        /// <param name="length">The number of dates to use.</param>
+        public SharedTimeGrid([NotNull] IList<JulianDate> dates, int startIndex, int length)
+        {
+            if (dates == null)
+                throw new ArgumentNullException("dates");
+            if (length < 1)
+                throw new ArgumentOutOfRangeException("length");
+            if (startIndex < 0 || startIndex + length > dates.Count)
+                throw new ArgumentOutOfRangeException("startIndex");
+
+            m_offsets = new double[length];
+
+            JulianDateArray array = dates as JulianDateArray;
+            if (array != null)
+            {
+                // The array is immutable, so keep the days and seconds rather than creating dates.
+                JulianDateArray gridDates = array.SubArray(startIndex, length);
+                m_dates = gridDates;
+                m_epoch = gridDates[0];
+                gridDates.SecondsDifferences(m_epoch, 0, length, m_offsets, 0);
+            }
+            else
+            {
+                var gridDates = new List<JulianDate>(length);
+                for (int i = 0; i < length; ++i)
+                {
+                    gridDates.Add(dates[startIndex + i]);
+                }
+
+                m_dates = gridDates.AsReadOnly();
+                m_epoch = gridDates[0];
+                for (int i = 0; i < length; ++i)
+                {
+                    m_offsets[i] = m_epoch.SecondsDifference(gridDates[i]);
+                }
+            }
+
+            m_compactEpoch = CesiumFormattingHelper.ToIso8601(m_epoch, Iso8601Format.Compact);
+            m_extendedEpoch = CesiumFormattingHelper.ToIso8601(m_epoch, Iso8601Format.Extended);
+
+            m_offsetTokens = new string[length];
+            for (int i = 0; i < length; ++i)
+            {
+                m_offsetTokens[i] = FormatOffset(m_offsets[i]);
+            }
+        }
+
+        /// <summary>
+        /// Gets the epoch of the grid, which is its first date.
+        /// </summary>
+        public JulianDate Epoch
+        {
+            get { return m_epoch; }
+        }
+
+        /// <summary>
+        /// Gets the number of dates in the grid.
+        /// </summary>
+        public int Count
+        {
+            get { return m_offsets.Length; }
+        }
+
+        /// <summary>
+        /// Gets the dates of the grid.
+        /// </summary>
+        [NotNull]
+        public IList<JulianDate> Dates
+        {
+            get { return m_dates; }
+        }
+
+        /// <summary>
+        /// Gets the time of a date in the grid, in seconds since the epoch.
+        /// </summary>
+        /// <param name="index">The index of the date.</param>
+        /// <returns>The time offset.</returns>
+        public double GetOffset(int index)
+        {
+            return m_offsets[index];
+        }
+
+        /// <summary>
+        /// Gets the epoch of the grid formatted as an ISO 8601 string.
+        /// </summary>
+        /// <param name="format">The format to use.</param>
+        /// <returns>The formatted epoch.</returns>
+        [NotNull]
+        public string GetEpochIso8601(Iso8601Format format)
+        {
+            switch (format)
+            {
+                case Iso8601Format.Compact:
+                    return m_compactEpoch;
+                case Iso8601Format.Extended:
+                    return m_extendedEpoch;
+                default:
+                    return CesiumFormattingHelper.ToIso8601(m_epoch, format);
+            }
+        }
+
+        /// <summary>
+        /// Writes the <c>epoch</c> property of the grid, in the format matching the stream.
+        /// </summary>
+        /// <param name="output">The stream to which to write the epoch.</param>
+        public void WriteEpoch([NotNull] CesiumOutputStream output)
+        {
+            WriteEpoch(output, 0);
+        }
+
+        /// <summary>
+        /// Writes the <c>epoch</c> property for a range of the grid, in the format matching the stream.
+        /// The epoch is the first date of the range, as when writing the same range of dates directly.
+        /// </summary>
+        /// <param name="output">The stream to which to write the epoch.</param>
+        /// <param name="startIndex">The index of the first date in the range.</param>
+        public void WriteEpoch([NotNull] CesiumOutputStream output, int startIndex)
+        {
+            output.WritePropertyName("epoch");
+            if (startIndex == 0 || startIndex >= m_offsets.Length)
+                output.WriteValue(output.PrettyFormatting ? m_extendedEpoch : m_compactEpoch);
+            else
+                Iso8601Formatter.WriteDate(output, m_dates[startIndex]);
+        }
+
+        /// <summary>
+        /// Writes the time offset of a date in the grid as an element of a sequence.
+        /// </summary>
+        /// <param name="output">The stream to which to write the offset.</param>
+        /// <param name="index">The index of the date.</param>
+        public void WriteOffset([NotNull] CesiumOutputStream output, int index)
+        {
+            output.WriteRawValue(m_offsetTokens[index]);
+        }
+
+        /// <summary>
+        /// Checks that a list of values has one value for each date in the grid, and that a range of those values lies within the grid.
+        /// </summary>
+        /// <typeparam name="T">The type of the values.</typeparam>
+        /// <param name="values">The values.</param>
+        /// <param name="startIndex">The index of the first value in the range.</param>
+        /// <param name="length">The number of values in the range.</param>
+        public void CheckValues<T>([NotNull] IList<T> values, int startIndex, int length)
+        {
+            if (values == null)
+                throw new ArgumentNullException("values");
+            if (values.Count != m_offsets.Length)
+                throw new ArgumentException(CesiumLocalization.MismatchedNumberOfDatesAndValues, "values");
+            if (startIndex < 0 || length < 0 || startIndex + length > m_offsets.Length)
+                throw new ArgumentOutOfRangeException("startIndex");
+        }
+
+        /// <summary>
+        /// Formats an offset in the same way as <see cref="CesiumOutputStream.WriteValue(double)"/>.
+        /// </summary>
+        [NotNull]
+        private static string FormatOffset(double value)
+        {
+#if CSToJava
+            return value.ToString("R", CultureInfo.InvariantCulture);
+#else
+            var writer = new StringWriter(CultureInfo.InvariantCulture);
+            GrisuDotNet.Grisu.DoubleToString(value, writer);
+            return writer.ToString();
+#endif
+        }
+
+        private readonly IList<JulianDate> m_dates;
+        private readonly JulianDate m_epoch;
+        private readonly string m_compactEpoch;
+        private readonly string m_extendedEpoch;
+        private readonly double[] m_offsets;
+        private readonly string[] m_offsetTokens;
+    }
+}
@@ -1,5 +1,6 @@
 ﻿using System;
 using System.Globalization;
+using JetBrains.Annotations;
 
 namespace CesiumLanguageWriter
 {
@@ -92,6 +93,27 @@ namespace CesiumLanguageWriter
                 throw new ArgumentException(CesiumLocalization.YearMonthDayInvalidArgument);
         }
 
+        /// <summary>
+        /// Gets the <see cref="YearMonthDay"/> for an astronomical Julian day number, with the same result
+        /// as the <see cref="YearMonthDay(int)">constructor</see>.  The most recently used days are cached, and
+        /// since the dates in a document usually fall on a few days, most calls return a cached instance
+        /// without performing the calendar calculation.
+        /// </summary>
+        /// <param name="astronomicalJulianDayNumber">The astronomical Julian day number.</param>
+        /// <returns>The year, month and day.</returns>
+        public static YearMonthDay FromJulianDayNumber(int astronomicalJulianDayNumber)
+        {
+            int slot = astronomicalJulianDayNumber & (CacheSize - 1);
+            CacheEntry entry = s_cache[slot];
+            if (entry != null && entry.JulianDayNumber == astronomicalJulianDayNumber)
+                return entry.Value;
+
+            YearMonthDay value = new YearMonthDay(astronomicalJulianDayNumber);
+            // entries are immutable and reference writes are atomic, so racing threads at worst replace each other's entries.
+            s_cache[slot] = new CacheEntry(astronomicalJulianDayNumber, value);
+            return value;
+        }
+
         /// <summary>
         /// Initializes a new instance from a <see cref="JulianDate"/>.
         /// </summary>
@@ -465,6 +487,27 @@ namespace CesiumLanguageWriter
             return IsLeapYear(year) ? s_leapYearCumulativeMonthTable : s_commonYearCumulativeMonthTable;
         }
 
+        /// <summary>
+        /// The number of days in the cache used by <see cref="FromJulianDayNumber"/>.  Consecutive days
+        /// use different slots, so this many consecutive days can be cached at once.
+        /// </summary>
+        private const int CacheSize = 256;
+
+        [NotNull]
+        private static readonly CacheEntry[] s_cache = new CacheEntry[CacheSize];
+
+        private sealed class CacheEntry
+        {
+            public CacheEntry(int julianDayNumber, YearMonthDay value)
+            {
+                JulianDayNumber = julianDayNumber;
+                Value = value;
+            }
+
+            public readonly int JulianDayNumber;
+            public readonly YearMonthDay Value;
+        }
+
         // fields are stored zero-indexed so that default-constructed instances are valid
         private readonly int m_year;
         private readonly int m_month;
@@ -0,0 +1,81 @@
+﻿using System;
+using System.IO;
+using CesiumLanguageWriter;
+using CesiumLanguageWriter.Advanced;
+using NUnit.Framework;
+
+namespace CesiumLanguageWriterTests.Advanced
+{
+    [TestFixture]
+    public class TestIso8601Formatter
+    {
+        [Test]
+        public void MatchesGregorianDateFormatting()
+        {
+            var random = new Random(17);
+            for (int i = 0; i < 5000; ++i)
+            {
+                int day = 2400000 + random.Next(200000);
+                double secondsOfDay;
+                switch (i % 4)
+                {
+                    case 0:
+                        secondsOfDay = random.Next(86400);
+                        break;
+                    case 1:
+                        secondsOfDay = random.Next(86400000) / 1000.0;
+                        break;
+                    case 2:
+                        secondsOfDay = random.NextDouble() * 86400.0;
+                        break;
+                    default:
+                        secondsOfDay = random.Next(86400) + random.NextDouble() * 1e-3;
+                        break;
+                }
+
+                var date = new JulianDate(day, secondsOfDay, i % 2 == 0 ? TimeStandard.CoordinatedUniversalTime : TimeStandard.InternationalAtomicTime);
+                foreach (Iso8601Format format in new[] { Iso8601Format.Basic, Iso8601Format.Extended, Iso8601Format.Compact })
+                {
+                    Assert.AreEqual(date.ToGregorianDate().ToIso8601String(format), Iso8601Formatter.ToIso8601(date, format));
+                }
+            }
+        }
+
+        [Test]
+        public void FormatsLeapSecond()
+        {
+            JulianDate date = new GregorianDate(2016, 12, 31, 23, 59, 60.25).ToJulianDate();
+            Assert.AreEqual("2016-12-31T23:59:60.25Z", Iso8601Formatter.ToIso8601(date, Iso8601Format.Extended));
+            Assert.AreEqual("20161231T235960.25Z", Iso8601Formatter.ToIso8601(date, Iso8601Format.Compact));
+        }
+
+        [Test]
+        public void ClampsToGregorianDateRange()
+        {
+            Assert.AreEqual(GregorianDate.MinValue.ToIso8601String(Iso8601Format.Compact), Iso8601Formatter.ToIso8601(JulianDate.MinValue, Iso8601Format.Compact));
+            Assert.AreEqual(GregorianDate.MaxValue.ToIso8601String(Iso8601Format.Extended), Iso8601Formatter.ToIso8601(JulianDate.MaxValue, Iso8601Format.Extended));
+        }
+
+        [Test]
+        public void FormatsIntoBufferAtOffset()
+        {
+            JulianDate start = new GregorianDate(2012, 4, 2, 12, 0, 0).ToJulianDate();
+            JulianDate stop = new GregorianDate(2012, 4, 2, 12, 30, 1.5).ToJulianDate();
+            char[] buffer = new char[Iso8601Formatter.MaximumIntervalLength + 3];
+            buffer[0] = '[';
+            int end = Iso8601Formatter.FormatInterval(start, stop, Iso8601Format.Compact, buffer, 1);
+            Assert.AreEqual("[20120402T12Z/20120402T123001.5Z", new string(buffer, 0, end));
+        }
+
+        [Test]
+        public void WritesIntervalToStream()
+        {
+            var stringWriter = new StringWriter();
+            var output = new CesiumOutputStream(stringWriter, true);
+            output.WriteStartSequence();
+            Iso8601Formatter.WriteInterval(output, new GregorianDate(2012, 4, 2, 12, 0, 0).ToJulianDate(), new GregorianDate(2012, 4, 3, 0, 0, 0).ToJulianDate());
+            output.WriteEndSequence();
+            Assert.AreEqual("[\"2012-04-02T12:00:00Z/2012-04-03T00:00:00Z\"]", stringWriter.ToString().Replace("\r", "").Replace("\n", "").Replace(" ", ""));
+        }
+    }
+}
\ No newline at end of file
@@ -27,6 +27,26 @@ namespace CesiumLanguageWriterTests
             });
         }
 
+        [Test]
+        public void BooleanCanBeWrittenWithoutBoxingThroughAdaptor()
+        {
+            const string expectedPropertyName = "foo";
+            const bool expectedValue = true;
+
+            using (Packet)
+            using (var writer = new BooleanCesiumWriter(expectedPropertyName))
+            {
+                writer.Open(OutputStream);
+                ICesiumBooleanValueWriter adaptor = writer.AsBoolean();
+                adaptor.WriteValue(expectedValue);
+            }
+
+            AssertExpectedJson(new Dictionary<string, object>
+            {
+                { expectedPropertyName, expectedValue },
+            });
+        }
+
         [Test]
         public void BooleanCanBeWrittenInsideInterval()
         {
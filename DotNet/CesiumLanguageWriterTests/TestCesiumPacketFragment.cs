@@ -0,0 +1,126 @@
+﻿using System;
+using System.Drawing;
+using System.IO;
+using CesiumLanguageWriter;
+using JetBrains.Annotations;
+using NUnit.Framework;
+
+namespace CesiumLanguageWriterTests
+{
+    [TestFixture]
+    public class TestCesiumPacketFragment
+    {
+        private static void WriteStaticProperties([NotNull] PacketCesiumWriter packet)
+        {
+            using (var billboard = packet.OpenBillboardProperty())
+            {
+                billboard.WriteImageProperty(new CesiumResource(new Uri("http://example.com/image.png"), CesiumResourceBehavior.LinkTo));
+                billboard.WriteScaleProperty(1.5);
+                billboard.WriteHorizontalOriginProperty(CesiumHorizontalOrigin.Left);
+            }
+
+            using (var label = packet.OpenLabelProperty())
+            {
+                label.WriteFillColorProperty(Color.Red);
+                using (var show = label.OpenShowProperty())
+                {
+                    // Dates are formatted differently in pretty and compact output.
+                    show.WriteInterval(new GregorianDate(2012, 4, 2).ToJulianDate(), new GregorianDate(2012, 4, 3).ToJulianDate());
+                    show.WriteBoolean(true);
+                }
+            }
+        }
+
+        [NotNull]
+        private static string WriteDocument(bool prettyFormatting, bool inSequence, bool writeId, [CanBeNull] CesiumPacketFragment fragment)
+        {
+            var stringWriter = new StringWriter();
+            var output = new CesiumOutputStream(stringWriter, prettyFormatting);
+            var writer = new CesiumStreamWriter();
+
+            if (inSequence)
+                output.WriteStartSequence();
+
+            for (int i = 0; i < 2; ++i)
+            {
+                using (var packet = writer.OpenPacket(output))
+                {
+                    if (writeId)
+                        packet.WriteId("object" + i);
+
+                    if (fragment == null)
+                        WriteStaticProperties(packet);
+                    else
+                        fragment.WriteTo(packet);
+
+                    using (var position = packet.OpenPositionProperty())
+                    {
+                        position.WriteCartesian(new Cartesian(i, 2.0, 3.0));
+                    }
+                }
+
+                if (!inSequence)
+                    break;
+            }
+
+            if (inSequence)
+                output.WriteEndSequence();
+
+            return stringWriter.ToString();
+        }
+
+        [Test]
+        public void FragmentMatchesWritingProperties()
+        {
+            var fragment = new CesiumPacketFragment(WriteStaticProperties);
+
+            foreach (bool prettyFormatting in new[] { false, true })
+            {
+                foreach (bool inSequence in new[] { false, true })
+                {
+                    foreach (bool writeId in new[] { false, true })
+                    {
+                        Assert.AreEqual(WriteDocument(prettyFormatting, inSequence, writeId, null),
+                                        WriteDocument(prettyFormatting, inSequence, writeId, fragment));
+                    }
+                }
+            }
+        }
+
+        [Test]
+        public void FragmentCanBeWrittenToCustomProperties()
+        {
+            var fragment = new CesiumPacketFragment(packet => packet.WriteName("name"));
+            Assert.AreEqual("\"name\":\"name\"", fragment.ToString());
+
+            var stringWriter = new StringWriter();
+            var output = new CesiumOutputStream(stringWriter, true);
+            output.WriteStartObject();
+            output.WritePropertyName("nested");
+            output.WriteStartObject();
+            fragment.WriteTo(output);
+            fragment.WriteTo(output);
+            output.WriteEndObject();
+            output.WriteEndObject();
+
+            Assert.AreEqual("{\n  \"nested\":{\n    \"name\":\"name\",\n    \"name\":\"name\"\n  }\n}", stringWriter.ToString().Replace("\r\n", "\n"));
+        }
+
+        [Test]
+        public void EmptyFragmentWritesNothing()
+        {
+            var fragment = new CesiumPacketFragment(packet => { });
+            Assert.IsTrue(fragment.IsEmpty);
+
+            var stringWriter = new StringWriter();
+            var writer = new CesiumStreamWriter();
+            using (var packet = writer.OpenPacket(new CesiumOutputStream(stringWriter)))
+            {
+                fragment.WriteTo(packet);
+                packet.WriteId("id");
+            }
+
+            Assert.AreEqual("{\"id\":\"id\"}", stringWriter.ToString());
+        }
+    }
+}
\ No newline at end of file
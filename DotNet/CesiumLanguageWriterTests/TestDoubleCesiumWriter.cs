@@ -114,6 +114,48 @@ namespace CesiumLanguageWriterTests
             });
         }
 
+        [Test]
+        public void DoubleCanBeWrittenWithoutBoxingThroughAdaptor()
+        {
+            const string expectedPropertyName = "foo";
+            const double expectedValue = 1.23;
+
+            using (Packet)
+            using (var writer = new DoubleCesiumWriter(expectedPropertyName))
+            {
+                writer.Open(OutputStream);
+                ICesiumDoubleValueWriter adaptor = writer.AsNumber();
+                adaptor.WriteValue(expectedValue);
+            }
+
+            AssertExpectedJson(new Dictionary<string, object>
+            {
+                { expectedPropertyName, expectedValue },
+            });
+        }
+
+        [Test]
+        public void UnboxedValuesAreWrittenWithCustomAdaptorCallback()
+        {
+            const string expectedPropertyName = "foo";
+
+            using (Packet)
+            using (var writer = new DoubleCesiumWriter(expectedPropertyName))
+            {
+                writer.Open(OutputStream);
+                ICesiumDoubleValueWriter adaptor = new CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>(writer,
+                                                                                                            (w, value) => w.WriteNumber(value * 2.0),
+                                                                                                            (w, dates, values, startIndex, length) => w.WriteNumber(dates, values, startIndex, length),
+                                                                                                            w => w.WriteDelete(true));
+                adaptor.WriteValue(1.5);
+            }
+
+            AssertExpectedJson(new Dictionary<string, object>
+            {
+                { expectedPropertyName, 3.0 },
+            });
+        }
+
         protected override CesiumPropertyWriter<DoubleCesiumWriter> CreatePropertyWriter(string propertyName)
         {
             return new DoubleCesiumWriter(propertyName);
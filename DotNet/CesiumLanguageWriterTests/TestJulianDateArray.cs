@@ -0,0 +1,173 @@
+﻿using System;
+using System.Collections.Generic;
+using System.IO;
+using CesiumLanguageWriter;
+using JetBrains.Annotations;
+using NUnit.Framework;
+
+namespace CesiumLanguageWriterTests
+{
+    [TestFixture]
+    public class TestJulianDateArray
+    {
+        [NotNull]
+        private static List<JulianDate> CreateDates(int count, TimeStandard standard)
+        {
+            var random = new Random(11);
+            var dates = new List<JulianDate>();
+
+            // Span the leap second at the end of 2016.
+            var date = new JulianDate(2457754, 43100.0, standard);
+            while (dates.Count < count)
+            {
+                // A UTC date cannot represent the leap second itself.
+                if (date.Standard == standard)
+                    dates.Add(date);
+
+                date = date.AddSeconds(random.NextDouble() * 10.0);
+            }
+
+            return dates;
+        }
+
+        [Test]
+        public void BulkOperationsMatchJulianDate()
+        {
+            foreach (TimeStandard standard in new[] { TimeStandard.CoordinatedUniversalTime, TimeStandard.InternationalAtomicTime })
+            {
+                var dates = CreateDates(50, standard);
+                var array = new JulianDateArray(dates, standard);
+                Assert.AreEqual(dates.Count, array.Count);
+
+                JulianDateArray tai = array.ToTimeStandard(TimeStandard.InternationalAtomicTime);
+                JulianDateArray added = array.AddSeconds(86400.5);
+                JulianDate epoch = dates[3];
+                JulianDate taiEpoch = epoch.ToInternationalAtomicTime();
+                var differences = new double[dates.Count];
+                array.SecondsDifferences(epoch, 0, dates.Count, differences, 0);
+
+                for (int i = 0; i < dates.Count; ++i)
+                {
+                    Assert.IsTrue(dates[i].IsIdentical(array[i]));
+                    Assert.IsTrue(dates[i].ToInternationalAtomicTime().IsIdentical(tai[i]));
+                    Assert.IsTrue(dates[i].AddSeconds(86400.5).IsIdentical(added[i]));
+                    Assert.AreEqual(epoch.SecondsDifference(dates[i]), differences[i], 0.0);
+                    Assert.AreEqual(epoch.SecondsDifference(dates[i]), array.SecondsDifference(taiEpoch.Day, taiEpoch.SecondsOfDay, i), 0.0);
+                }
+            }
+        }
+
+        [Test]
+        public void BinarySearchFindsDates()
+        {
+            var dates = CreateDates(20, TimeStandard.InternationalAtomicTime);
+            var array = new JulianDateArray(dates, TimeStandard.CoordinatedUniversalTime);
+
+            Assert.AreEqual(7, array.BinarySearch(dates[7]));
+            Assert.AreEqual(~0, array.BinarySearch(dates[0].AddSeconds(-1.0)));
+            Assert.AreEqual(~20, array.BinarySearch(dates[19].AddSeconds(1.0)));
+            Assert.AreEqual(~8, array.BinarySearch(dates[7] + Duration.FromSeconds(1e-6)));
+        }
+
+        [Test]
+        public void SampledWritersAcceptArray()
+        {
+            var dates = CreateDates(6, TimeStandard.CoordinatedUniversalTime);
+            var positions = new List<Cartesian>();
+            for (int i = 0; i < dates.Count; ++i)
+            {
+                positions.Add(new Cartesian(i, 2.0 * i, 3.0 * i));
+            }
+
+            Assert.AreEqual(WritePositions(dates, positions), WritePositions(new JulianDateArray(dates, TimeStandard.CoordinatedUniversalTime), positions));
+            Assert.AreEqual(WritePositions(dates, positions), WritePositions(new JulianDateArray(dates, TimeStandard.InternationalAtomicTime), positions));
+
+            var grid = new SharedTimeGrid(new JulianDateArray(dates, TimeStandard.CoordinatedUniversalTime), 1, 5);
+            Assert.AreEqual(dates[1].SecondsDifference(dates[5]), grid.GetOffset(4), 0.0);
+        }
+
+        [NotNull]
+        private static string WritePositions([NotNull] IList<JulianDate> dates, [NotNull] IList<Cartesian> positions)
+        {
+            var stringWriter = new StringWriter();
+            var output = new CesiumOutputStream(stringWriter);
+            var writer = new CesiumStreamWriter();
+
+            using (var packet = writer.OpenPacket(output))
+            using (var position = packet.OpenPositionProperty())
+            {
+                position.WriteCartesian(dates, positions);
+            }
+
+            return stringWriter.ToString();
+        }
+
+        [Test]
+        public void EpochTimesMatchDateTime()
+        {
+            var random = new Random(5);
+            var unixEpoch = new DateTime(1970, 1, 1, 0, 0, 0, DateTimeKind.Utc);
+            var milliseconds = new long[50];
+            var nanoseconds = new long[milliseconds.Length];
+            for (int i = 0; i < milliseconds.Length; ++i)
+            {
+                milliseconds[i] = (long)(random.NextDouble() * 4e12) - 1000000000000L;
+                nanoseconds[i] = milliseconds[i] * 1000000L + random.Next(1000000);
+            }
+
+            JulianDateArray fromMilliseconds = JulianDateArray.FromEpochMilliseconds(milliseconds);
+            JulianDateArray fromNanoseconds = JulianDateArray.FromEpochNanoseconds(nanoseconds);
+            Assert.AreEqual(TimeStandard.CoordinatedUniversalTime, fromMilliseconds.Standard);
+
+            for (int i = 0; i < milliseconds.Length; ++i)
+            {
+                var expected = new JulianDate(unixEpoch.AddTicks(milliseconds[i] * TimeSpan.TicksPerMillisecond));
+                Assert.AreEqual(0.0, expected.SecondsDifference(fromMilliseconds[i]), 1e-10);
+
+                // DateTime has a resolution of 100 nanoseconds.
+                expected = new JulianDate(unixEpoch.AddTicks(nanoseconds[i] / 100L));
+                Assert.AreEqual(0.0, expected.SecondsDifference(fromNanoseconds[i]), 1e-6);
+            }
+        }
+
+        [Test]
+        public void EpochTimesIncludeLeapSeconds()
+        {
+            var unixEpoch = new DateTime(1970, 1, 1, 0, 0, 0, DateTimeKind.Utc);
+            long before = (long)(new DateTime(2016, 12, 31, 23, 59, 59, DateTimeKind.Utc) - unixEpoch).TotalMilliseconds;
+            long after = (long)(new DateTime(2017, 1, 1, 0, 0, 0, DateTimeKind.Utc) - unixEpoch).TotalMilliseconds;
+            JulianDateArray array = JulianDateArray.FromEpochMilliseconds(new[] { before, after, -1L });
+
+            Assert.AreEqual(2.0, array.SecondsDifference(array[0], 1), 0.0);
+            Assert.AreEqual(2440587, array.GetDay(2));
+            Assert.AreEqual(43199.999, array.GetSecondsOfDay(2), 0.0);
+        }
+
+        [Test]
+        public void NormalizesSeconds()
+        {
+            var array = new JulianDateArray(TimeStandard.InternationalAtomicTime, new[] { 2451545, 2451545 }, new[] { -10.0, 86410.0 });
+
+            Assert.AreEqual(2451544, array.GetDay(0));
+            Assert.AreEqual(86390.0, array.GetSecondsOfDay(0), 0.0);
+            Assert.AreEqual(2451546, array.GetDay(1));
+            Assert.AreEqual(10.0, array.GetSecondsOfDay(1), 0.0);
+        }
+
+        [Test]
+        public void ArraysMustHaveSameLength()
+        {
+            Assert.Throws<ArgumentException>(() => new JulianDateArray(TimeStandard.InternationalAtomicTime, new int[2], new double[3]));
+        }
+
+        [Test]
+        public void IsReadOnly()
+        {
+            IList<JulianDate> array = new JulianDateArray(TimeStandard.InternationalAtomicTime, new int[2], new double[2]);
+
+            Assert.IsTrue(array.IsReadOnly);
+            Assert.Throws<NotSupportedException>(() => array.Add(new JulianDate(0, 0.0)));
+            Assert.Throws<NotSupportedException>(() => array[0] = new JulianDate(0, 0.0));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+﻿using System;
+using System.Collections.Generic;
+using System.IO;
+using CesiumLanguageWriter;
+using JetBrains.Annotations;
+using NUnit.Framework;
+
+namespace CesiumLanguageWriterTests
+{
+    [TestFixture]
+    public class TestSharedTimeGrid
+    {
+        [NotNull]
+        private List<JulianDate> CreateDates(int count)
+        {
+            var dates = new List<JulianDate>();
+            for (int i = 0; i < count; ++i)
+            {
+                dates.Add(m_epoch.AddSeconds(i * 60.5));
+            }
+
+            return dates;
+        }
+
+        [Test]
+        public void OffsetsAreRelativeToFirstDate()
+        {
+            var dates = CreateDates(4);
+            var grid = new SharedTimeGrid(dates, 1, 3);
+
+            Assert.AreEqual(3, grid.Count);
+            Assert.AreEqual(dates[1], grid.Epoch);
+            Assert.AreEqual(0.0, grid.GetOffset(0), 0.0);
+            Assert.AreEqual(121.0, grid.GetOffset(2), 0.0);
+            Assert.AreEqual("20120402T120100.5Z", grid.GetEpochIso8601(Iso8601Format.Compact));
+            Assert.AreEqual("2012-04-02T12:01:00.5Z", grid.GetEpochIso8601(Iso8601Format.Extended));
+        }
+
+        [Test]
+        public void GridOutputMatchesPerPropertyOutput()
+        {
+            var dates = CreateDates(5);
+            var positions = new List<Cartesian>();
+            var orientations = new List<UnitQuaternion>();
+            for (int i = 0; i < dates.Count; ++i)
+            {
+                positions.Add(new Cartesian(i * 1.5, -i, 1e7 + i));
+                orientations.Add(new UnitQuaternion(Math.Cos(i * 0.1), 0.0, 0.0, Math.Sin(i * 0.1)));
+            }
+
+            var grid = new SharedTimeGrid(dates);
+
+            foreach (bool pretty in new[] { false, true })
+            {
+                var expected = new StringWriter();
+                using (var packet = new CesiumStreamWriter().OpenPacket(new CesiumOutputStream(expected, pretty)))
+                {
+                    using (var position = packet.OpenPositionProperty())
+                    {
+                        position.WriteCartesian(dates, positions);
+                    }
+
+                    using (var orientation = packet.OpenOrientationProperty())
+                    {
+                        orientation.WriteUnitQuaternion(dates, orientations);
+                    }
+                }
+
+                var actual = new StringWriter();
+                using (var packet = new CesiumStreamWriter().OpenPacket(new CesiumOutputStream(actual, pretty)))
+                {
+                    using (var position = packet.OpenPositionProperty())
+                    {
+                        position.WriteCartesian(grid, positions);
+                    }
+
+                    using (var orientation = packet.OpenOrientationProperty())
+                    {
+                        orientation.WriteUnitQuaternion(grid, orientations);
+                    }
+                }
+
+                Assert.AreEqual(expected.ToString(), actual.ToString());
+            }
+        }
+
+        [Test]
+        public void RangeOfGridUsesFirstDateOfRangeAsEpoch()
+        {
+            var dates = CreateDates(3);
+            var values = new List<double> { 1.0, 2.0, 3.0 };
+            var grid = new SharedTimeGrid(dates);
+
+            var stringWriter = new StringWriter();
+            using (var packet = new CesiumStreamWriter().OpenPacket(new CesiumOutputStream(stringWriter)))
+            using (var path = packet.OpenPathProperty())
+            using (var leadTime = path.OpenLeadTimeProperty())
+            {
+                leadTime.WriteNumber(grid, values, 1, 2);
+            }
+
+            Assert.AreEqual("{\"path\":{\"leadTime\":{\"epoch\":\"20120402T120100.5Z\",\"number\":[0,2,60.5,3]}}}", stringWriter.ToString());
+        }
+
+        [Test]
+        public void RangeOfGridMatchesRangeOfDates()
+        {
+            var dates = CreateDates(6);
+            var positions = new List<Cartesian>();
+            for (int i = 0; i < dates.Count; ++i)
+            {
+                positions.Add(new Cartesian(i * 1.5, -i, 1e7 + i));
+            }
+
+            foreach (IList<JulianDate> gridDates in new IList<JulianDate>[] { dates, new JulianDateArray(dates, TimeStandard.CoordinatedUniversalTime) })
+            {
+                var grid = new SharedTimeGrid(gridDates);
+
+                foreach (bool pretty in new[] { false, true })
+                {
+                    var expected = new StringWriter();
+                    using (var packet = new CesiumStreamWriter().OpenPacket(new CesiumOutputStream(expected, pretty)))
+                    using (var position = packet.OpenPositionProperty())
+                    {
+                        position.WriteCartesian(dates, positions, 2, 3);
+                    }
+
+                    var actual = new StringWriter();
+                    using (var packet = new CesiumStreamWriter().OpenPacket(new CesiumOutputStream(actual, pretty)))
+                    using (var position = packet.OpenPositionProperty())
+                    {
+                        position.WriteCartesian(grid, positions, 2, 3);
+                    }
+
+                    Assert.AreEqual(expected.ToString(), actual.ToString());
+                }
+            }
+        }
+
+        [Test]
+        public void ValuesMustMatchGrid()
+        {
+            var grid = new SharedTimeGrid(CreateDates(3));
+            var positions = new List<Cartesian> { Cartesian.Zero };
+
+            using (var packet = new CesiumStreamWriter().OpenPacket(new CesiumOutputStream(new StringWriter())))
+            using (var position = packet.OpenPositionProperty())
+            {
+                Assert.Throws<ArgumentException>(() => position.WriteCartesian(grid, positions));
+            }
+        }
+
+        private readonly JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).ToJulianDate();
+    }
+}
@@ -65,7 +65,7 @@ namespace GenerateFromSchema
                     using (writer.OpenScope())
                     {
                         WritePropertyNameConstants(writer, schema);
-                        WritePropertyLazyFields(writer, schema);
+                        WritePropertyFields(writer, schema);
                         WriteConstructorsAndCloneMethod(writer, schema);
                         WriteProperties(writer, schema);
                         WriteAsTypeMethods(writer, schema);
@@ -100,7 +100,7 @@ namespace GenerateFromSchema
                     using (writer.OpenScope())
                     {
                         WritePropertyNameConstants(writer, packetSchema);
-                        WritePropertyLazyFields(writer, packetSchema);
+                        WritePropertyFields(writer, packetSchema);
                         WritePacketOpenClose(writer);
                         WriteProperties(writer, packetSchema);
                     }
@@ -128,7 +128,7 @@ namespace GenerateFromSchema
             namespaces.AddRange(m_configuration.UsingNamespaces ?? Enumerable.Empty<string>());
 
             namespaces.AddRange(schema.AllProperties
-                                      .SelectMany(property => GetOverloadsForProperty(property).Concat(property.ValueType.Properties.SelectMany(GetOverloadsForProperty)))
+                                      .SelectMany(property => GetOverloadsForProperty(schema, property).Concat(property.ValueType.Properties.SelectMany(p => GetOverloadsForProperty(schema, p))))
                                       .SelectMany(overload => overload.UsingNamespaces ?? Enumerable.Empty<string>()));
 
             foreach (string ns in namespaces.Distinct())
@@ -189,7 +189,7 @@ namespace GenerateFromSchema
             }
         }
 
-        private void WritePropertyLazyFields(CodeWriter writer, Schema schema)
+        private void WritePropertyFields(CodeWriter writer, Schema schema)
         {
             foreach (Property property in schema.AllProperties)
             {
@@ -199,25 +199,18 @@ namespace GenerateFromSchema
                     {
                         // Does this property have an overload to write sampled data?
                         // If so, it's interpolatable.
-                        OverloadInfo firstOverload = GetOverloadsForProperty(property).First();
+                        OverloadInfo firstOverload = GetOverloadsForProperty(schema, property).First();
                         if (firstOverload.Parameters.Length != 1)
                             continue;
 
                         string adaptorType = GetAdaptorType(schema, property);
 
-                        writer.WriteLine("[NotNull]");
-                        writer.WriteLine("[CSToJavaFinalField]");
-                        writer.WriteLine("private readonly Lazy<{0}> m_as{1};", adaptorType, property.NameWithPascalCase);
+                        writer.WriteLine("private {0} m_as{1};", adaptorType, property.NameWithPascalCase);
                     }
                 }
                 else
                 {
-                    writer.WriteLine("[NotNull]");
-                    writer.WriteLine("[CSToJavaFinalField]");
-                    writer.WriteLine("private readonly Lazy<{0}> m_{1} = new Lazy<{0}>(() => new {0}({2}PropertyName), false);",
-                                     GetWriterType(property.ValueType),
-                                     property.Name,
-                                     property.NameWithPascalCase);
+                    writer.WriteLine("private {0} m_{1};", GetWriterType(property.ValueType), property.Name);
                 }
             }
 
@@ -310,7 +303,15 @@ namespace GenerateFromSchema
             writer.WriteLine("public {0} {1}Writer", writerType, property.NameWithPascalCase);
             using (writer.OpenScope())
             {
-                writer.WriteLine("get {{ return m_{0}.Value; }}", property.Name);
+                writer.WriteLine("get");
+                using (writer.OpenScope())
+                {
+                    writer.WriteLine("if (m_{0} == null)", property.Name);
+                    writer.IncreaseIndent();
+                    writer.WriteLine("m_{0} = AddChildWriter(new {1}({2}PropertyName));", property.Name, writerType, property.NameWithPascalCase);
+                    writer.DecreaseIndent();
+                    writer.WriteLine("return m_{0};", property.Name);
+                }
             }
 
             writer.WriteLine();
@@ -330,7 +331,7 @@ namespace GenerateFromSchema
             bool isFirstValueProperty = true;
             foreach (var nestedProperty in property.ValueType.AllProperties.Where(p => p.IsValue))
             {
-                foreach (var overload in GetOverloadsForProperty(nestedProperty))
+                foreach (var overload in GetOverloadsForProperty(schema, nestedProperty))
                 {
                     WriteSummaryText(writer, "Writes a value for the <c>{0}</c> property as a <c>{1}</c> value. The <c>{0}</c> property specifies {2}", property.Name, nestedProperty.Name, GetDescription(property));
                     foreach (var parameter in overload.Parameters.Where(p => !string.IsNullOrEmpty(p.Description)))
@@ -361,7 +362,7 @@ namespace GenerateFromSchema
 
         private void WriteLeafProperty(CodeWriter writer, Schema schema, Property property, bool isFirstValueProperty)
         {
-            foreach (var overload in GetOverloadsForProperty(property))
+            foreach (var overload in GetOverloadsForProperty(schema, property))
             {
                 WriteSummaryText(writer, "Writes the value expressed as a <c>{0}</c>, which is {1}", property.Name, GetDescription(property));
                 foreach (var parameter in overload.Parameters.Where(p => !string.IsNullOrEmpty(p.Description)))
@@ -434,7 +435,6 @@ namespace GenerateFromSchema
             writer.WriteLine("    : base(propertyName)");
             using (writer.OpenScope())
             {
-                WriteAsTypeLazyInitialization(writer, schema);
             }
 
             writer.WriteLine();
@@ -445,7 +445,6 @@ namespace GenerateFromSchema
             writer.WriteLine("    : base(existingInstance)");
             using (writer.OpenScope())
             {
-                WriteAsTypeLazyInitialization(writer, schema);
             }
 
             writer.WriteLine();
@@ -460,29 +459,11 @@ namespace GenerateFromSchema
             writer.WriteLine();
         }
 
-        private void WriteAsTypeLazyInitialization(CodeWriter writer, Schema schema)
-        {
-            foreach (Property property in schema.AllProperties)
-            {
-                if (!property.IsValue)
-                    continue;
-
-                if (PropertyValueIsLeaf(property))
-                {
-                    OverloadInfo firstOverload = GetOverloadsForProperty(property).First();
-                    if (firstOverload.Parameters.Length != 1)
-                        continue;
-
-                    writer.WriteLine("m_as{0} = CreateAs{0}();", property.NameWithPascalCase);
-                }
-            }
-        }
-
         private void WriteAsTypeMethods(CodeWriter writer, Schema schema)
         {
             foreach (var property in schema.AllProperties.Where(p => p.IsValue).Where(PropertyValueIsLeaf))
             {
-                OverloadInfo firstOverload = GetOverloadsForProperty(property).First();
+                OverloadInfo firstOverload = GetOverloadsForProperty(schema, property).First();
                 if (firstOverload.Parameters.Length != 1)
                     continue;
 
@@ -495,15 +476,11 @@ namespace GenerateFromSchema
                 writer.WriteLine("public {0} As{1}()", adaptorType, property.NameWithPascalCase);
                 using (writer.OpenScope())
                 {
-                    writer.WriteLine("return m_as{0}.Value;", property.NameWithPascalCase);
-                }
-                writer.WriteLine();
-
-                writer.WriteLine("[NotNull]");
-                writer.WriteLine("private Lazy<{0}> CreateAs{1}()", adaptorType, property.NameWithPascalCase);
-                using (writer.OpenScope())
-                {
-                    writer.WriteLine("return new Lazy<{0}>(Create{1}, false);", adaptorType, property.ValueType.NameWithPascalCase);
+                    writer.WriteLine("if (m_as{0} == null)", property.NameWithPascalCase);
+                    writer.IncreaseIndent();
+                    writer.WriteLine("m_as{0} = Create{1}();", property.NameWithPascalCase, property.ValueType.NameWithPascalCase);
+                    writer.DecreaseIndent();
+                    writer.WriteLine("return m_as{0};", property.NameWithPascalCase);
                 }
                 writer.WriteLine();
 
@@ -527,7 +504,7 @@ namespace GenerateFromSchema
             return $"{schema.NameWithPascalCase}CesiumWriter";
         }
 
-        private IEnumerable<OverloadInfo> GetOverloadsForProperty(Property property)
+        private IEnumerable<OverloadInfo> GetOverloadsForProperty(Schema schema, Property property)
         {
             if (property.ValueType.IsSchemaFromType)
             {
@@ -558,7 +535,8 @@ namespace GenerateFromSchema
             {
                 if (m_configuration.Types.TryGetValue(property.ValueType.Name, out var overloads))
                 {
-                    foreach (var overload in overloads)
+                    // Some overloads are only written by specific writers, named by schema.
+                    foreach (var overload in overloads.Where(o => o.Writers == null || o.Writers.Contains(schema.Name)))
                         yield return overload;
                 }
                 else
@@ -659,6 +637,9 @@ namespace GenerateFromSchema
             [JsonProperty("needsInterval")]
             public bool NeedsInterval = true;
 
+            [JsonProperty("writers")]
+            public string[] Writers = null;
+
             public string FormattedParameters => string.Join(", ", Array.ConvertAll(Parameters, parameter => parameter.Format()));
 
             public static OverloadInfo CreateDefault(string typeName)
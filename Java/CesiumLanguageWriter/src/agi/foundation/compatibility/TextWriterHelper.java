@@ -56,6 +56,17 @@ public final class TextWriterHelper {
         }
     }
 
+    public static void write(@Nonnull Writer writer, @Nonnull String value, int index, int count) {
+        assertNonNull(writer, "writer");
+        assertNonNull(value, "value");
+
+        try {
+            writer.write(value, index, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public static void writeLine(@Nonnull Writer writer, @Nullable String value) {
         write(writer, value);
         writeLine(writer);
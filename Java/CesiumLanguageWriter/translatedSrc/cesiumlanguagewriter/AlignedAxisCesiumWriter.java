@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -43,14 +41,10 @@ public class AlignedAxisCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asUnitCartesian;
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asUnitSpherical;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asReference;
-    @Nonnull
-    private final Lazy<CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> m_asVelocityReference;
+    private CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asUnitCartesian;
+    private CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asUnitSpherical;
+    private CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asReference;
+    private CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> m_asVelocityReference;
 
     /**
     * Initializes a new instance.
@@ -58,10 +52,6 @@ public class AlignedAxisCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     public AlignedAxisCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asUnitCartesian = createAsUnitCartesian();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asReference = createAsReference();
-        m_asVelocityReference = createAsVelocityReference();
     }
 
     /**
@@ -70,10 +60,6 @@ public class AlignedAxisCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     protected AlignedAxisCesiumWriter(@Nonnull AlignedAxisCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asUnitCartesian = createAsUnitCartesian();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asReference = createAsReference();
-        m_asVelocityReference = createAsVelocityReference();
     }
 
     /**
@@ -260,16 +246,10 @@ public class AlignedAxisCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter> asUnitCartesian() {
-        return m_asUnitCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter>> createAsUnitCartesian() {
-        return new Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter>>(new Func1<CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter>>(this, "createUnitCartesian3") {
-            public CesiumUnitCartesian3ValuePropertyAdaptor<AlignedAxisCesiumWriter> invoke() {
-                return createUnitCartesian3();
-            }
-        }, false);
+        if (m_asUnitCartesian == null) {
+            m_asUnitCartesian = createUnitCartesian3();
+        }
+        return m_asUnitCartesian;
     }
 
     @Nonnull
@@ -283,16 +263,10 @@ public class AlignedAxisCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter> asUnitSpherical() {
-        return m_asUnitSpherical.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter>> createAsUnitSpherical() {
-        return new Lazy<CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter>>(new Func1<CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter>>(this, "createUnitSpherical") {
-            public CesiumUnitSphericalValuePropertyAdaptor<AlignedAxisCesiumWriter> invoke() {
-                return createUnitSpherical();
-            }
-        }, false);
+        if (m_asUnitSpherical == null) {
+            m_asUnitSpherical = createUnitSpherical();
+        }
+        return m_asUnitSpherical;
     }
 
     @Nonnull
@@ -306,16 +280,10 @@ public class AlignedAxisCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -329,17 +297,10 @@ public class AlignedAxisCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> asVelocityReference() {
-        return m_asVelocityReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>> createAsVelocityReference() {
-        return new Lazy<CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>>(
-                new Func1<CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter>>(this, "createVelocityReference") {
-                    public CesiumVelocityReferenceValuePropertyAdaptor<AlignedAxisCesiumWriter> invoke() {
-                        return createVelocityReference();
-                    }
-                }, false);
+        if (m_asVelocityReference == null) {
+            m_asVelocityReference = createVelocityReference();
+        }
+        return m_asVelocityReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -31,10 +29,8 @@ public class ArcTypeCesiumWriter extends CesiumPropertyWriter<ArcTypeCesiumWrite
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter>> m_asArcType;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter>> m_asReference;
+    private CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter> m_asArcType;
+    private CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -42,8 +38,6 @@ public class ArcTypeCesiumWriter extends CesiumPropertyWriter<ArcTypeCesiumWrite
     */
     public ArcTypeCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asArcType = createAsArcType();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -52,8 +46,6 @@ public class ArcTypeCesiumWriter extends CesiumPropertyWriter<ArcTypeCesiumWrite
     */
     protected ArcTypeCesiumWriter(@Nonnull ArcTypeCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asArcType = createAsArcType();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -143,16 +135,10 @@ public class ArcTypeCesiumWriter extends CesiumPropertyWriter<ArcTypeCesiumWrite
     */
     @Nonnull
     public final CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter> asArcType() {
-        return m_asArcType.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter>> createAsArcType() {
-        return new Lazy<CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter>>(new Func1<CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter>>(this, "createArcType") {
-            public CesiumArcTypeValuePropertyAdaptor<ArcTypeCesiumWriter> invoke() {
-                return createArcType();
-            }
-        }, false);
+        if (m_asArcType == null) {
+            m_asArcType = createArcType();
+        }
+        return m_asArcType;
     }
 
     @Nonnull
@@ -166,16 +152,10 @@ public class ArcTypeCesiumWriter extends CesiumPropertyWriter<ArcTypeCesiumWrite
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ArcTypeCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
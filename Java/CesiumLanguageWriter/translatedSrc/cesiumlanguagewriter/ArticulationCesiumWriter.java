@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class ArticulationCesiumWriter extends CesiumInterpolatablePropertyWriter
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter>> m_asNumber;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter>> m_asReference;
+    private CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter> m_asNumber;
+    private CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class ArticulationCesiumWriter extends CesiumInterpolatablePropertyWriter
     */
     public ArticulationCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asNumber = createAsNumber();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class ArticulationCesiumWriter extends CesiumInterpolatablePropertyWriter
     */
     protected ArticulationCesiumWriter(@Nonnull ArticulationCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asNumber = createAsNumber();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -167,16 +159,10 @@ public class ArticulationCesiumWriter extends CesiumInterpolatablePropertyWriter
     */
     @Nonnull
     public final CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter> asNumber() {
-        return m_asNumber.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter>> createAsNumber() {
-        return new Lazy<CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter>>(new Func1<CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter>>(this, "createDouble") {
-            public CesiumDoubleValuePropertyAdaptor<ArticulationCesiumWriter> invoke() {
-                return createDouble();
-            }
-        }, false);
+        if (m_asNumber == null) {
+            m_asNumber = createDouble();
+        }
+        return m_asNumber;
     }
 
     @Nonnull
@@ -190,16 +176,10 @@ public class ArticulationCesiumWriter extends CesiumInterpolatablePropertyWriter
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ArticulationCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
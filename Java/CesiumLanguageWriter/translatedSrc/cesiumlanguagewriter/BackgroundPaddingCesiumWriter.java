@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class BackgroundPaddingCesiumWriter extends CesiumInterpolatablePropertyW
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<BackgroundPaddingCesiumWriter>> m_asCartesian2;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BackgroundPaddingCesiumWriter>> m_asReference;
+    private CesiumCartesian2ValuePropertyAdaptor<BackgroundPaddingCesiumWriter> m_asCartesian2;
+    private CesiumReferenceValuePropertyAdaptor<BackgroundPaddingCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class BackgroundPaddingCesiumWriter extends CesiumInterpolatablePropertyW
     */
     public BackgroundPaddingCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian2 = createAsCartesian2();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class BackgroundPaddingCesiumWriter extends CesiumInterpolatablePropertyW
     */
     protected BackgroundPaddingCesiumWriter(@Nonnull BackgroundPaddingCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian2 = createAsCartesian2();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -172,16 +164,10 @@ public class BackgroundPaddingCesiumWriter extends CesiumInterpolatablePropertyW
     */
     @Nonnull
     public final CesiumCartesian2ValuePropertyAdaptor<BackgroundPaddingCesiumWriter> asCartesian2() {
-        return m_asCartesian2.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<BackgroundPaddingCesiumWriter>> createAsCartesian2() {
-        return new Lazy<CesiumCartesian2ValuePropertyAdaptor<BackgroundPaddingCesiumWriter>>(new Func1<CesiumCartesian2ValuePropertyAdaptor<BackgroundPaddingCesiumWriter>>(this, "createCartesian2") {
-            public CesiumCartesian2ValuePropertyAdaptor<BackgroundPaddingCesiumWriter> invoke() {
-                return createCartesian2();
-            }
-        }, false);
+        if (m_asCartesian2 == null) {
+            m_asCartesian2 = createCartesian2();
+        }
+        return m_asCartesian2;
     }
 
     @Nonnull
@@ -195,16 +181,10 @@ public class BackgroundPaddingCesiumWriter extends CesiumInterpolatablePropertyW
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<BackgroundPaddingCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BackgroundPaddingCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<BackgroundPaddingCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<BackgroundPaddingCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<BackgroundPaddingCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.AlignedAxisCesiumWriter;
@@ -134,126 +132,26 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public static final String DisableDepthTestDistancePropertyName = "disableDepthTestDistance";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<UriCesiumWriter> m_image = new Lazy<UriCesiumWriter>(new Func1<UriCesiumWriter>() {
-        public UriCesiumWriter invoke() {
-            return new UriCesiumWriter(ImagePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_scale = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(ScalePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PixelOffsetCesiumWriter> m_pixelOffset = new Lazy<PixelOffsetCesiumWriter>(new Func1<PixelOffsetCesiumWriter>() {
-        public PixelOffsetCesiumWriter invoke() {
-            return new PixelOffsetCesiumWriter(PixelOffsetPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<EyeOffsetCesiumWriter> m_eyeOffset = new Lazy<EyeOffsetCesiumWriter>(new Func1<EyeOffsetCesiumWriter>() {
-        public EyeOffsetCesiumWriter invoke() {
-            return new EyeOffsetCesiumWriter(EyeOffsetPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HorizontalOriginCesiumWriter> m_horizontalOrigin = new Lazy<HorizontalOriginCesiumWriter>(new Func1<HorizontalOriginCesiumWriter>() {
-        public HorizontalOriginCesiumWriter invoke() {
-            return new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<VerticalOriginCesiumWriter> m_verticalOrigin = new Lazy<VerticalOriginCesiumWriter>(new Func1<VerticalOriginCesiumWriter>() {
-        public VerticalOriginCesiumWriter invoke() {
-            return new VerticalOriginCesiumWriter(VerticalOriginPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_rotation = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(RotationPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<AlignedAxisCesiumWriter> m_alignedAxis = new Lazy<AlignedAxisCesiumWriter>(new Func1<AlignedAxisCesiumWriter>() {
-        public AlignedAxisCesiumWriter invoke() {
-            return new AlignedAxisCesiumWriter(AlignedAxisPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_sizeInMeters = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(SizeInMetersPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(WidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_height = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(HeightPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_scaleByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(ScaleByDistancePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_translucencyByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_pixelOffsetScaleByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BoundingRectangleCesiumWriter> m_imageSubRegion = new Lazy<BoundingRectangleCesiumWriter>(new Func1<BoundingRectangleCesiumWriter>() {
-        public BoundingRectangleCesiumWriter invoke() {
-            return new BoundingRectangleCesiumWriter(ImageSubRegionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_disableDepthTestDistance = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(DisableDepthTestDistancePropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private UriCesiumWriter m_image;
+    private DoubleCesiumWriter m_scale;
+    private PixelOffsetCesiumWriter m_pixelOffset;
+    private EyeOffsetCesiumWriter m_eyeOffset;
+    private HorizontalOriginCesiumWriter m_horizontalOrigin;
+    private VerticalOriginCesiumWriter m_verticalOrigin;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private ColorCesiumWriter m_color;
+    private DoubleCesiumWriter m_rotation;
+    private AlignedAxisCesiumWriter m_alignedAxis;
+    private BooleanCesiumWriter m_sizeInMeters;
+    private DoubleCesiumWriter m_width;
+    private DoubleCesiumWriter m_height;
+    private NearFarScalarCesiumWriter m_scaleByDistance;
+    private NearFarScalarCesiumWriter m_translucencyByDistance;
+    private NearFarScalarCesiumWriter m_pixelOffsetScaleByDistance;
+    private BoundingRectangleCesiumWriter m_imageSubRegion;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+    private DoubleCesiumWriter m_disableDepthTestDistance;
 
     /**
     * Initializes a new instance.
@@ -285,7 +183,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -359,7 +260,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final UriCesiumWriter getImageWriter() {
-        return m_image.getValue();
+        if (m_image == null) {
+            m_image = this.<UriCesiumWriter> addChildWriter(new UriCesiumWriter(ImagePropertyName));
+        }
+        return m_image;
     }
 
     /**
@@ -504,7 +408,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getScaleWriter() {
-        return m_scale.getValue();
+        if (m_scale == null) {
+            m_scale = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(ScalePropertyName));
+        }
+        return m_scale;
     }
 
     /**
@@ -604,7 +511,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final PixelOffsetCesiumWriter getPixelOffsetWriter() {
-        return m_pixelOffset.getValue();
+        if (m_pixelOffset == null) {
+            m_pixelOffset = this.<PixelOffsetCesiumWriter> addChildWriter(new PixelOffsetCesiumWriter(PixelOffsetPropertyName));
+        }
+        return m_pixelOffset;
     }
 
     /**
@@ -716,7 +626,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final EyeOffsetCesiumWriter getEyeOffsetWriter() {
-        return m_eyeOffset.getValue();
+        if (m_eyeOffset == null) {
+            m_eyeOffset = this.<EyeOffsetCesiumWriter> addChildWriter(new EyeOffsetCesiumWriter(EyeOffsetPropertyName));
+        }
+        return m_eyeOffset;
     }
 
     /**
@@ -816,7 +729,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final HorizontalOriginCesiumWriter getHorizontalOriginWriter() {
-        return m_horizontalOrigin.getValue();
+        if (m_horizontalOrigin == null) {
+            m_horizontalOrigin = this.<HorizontalOriginCesiumWriter> addChildWriter(new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName));
+        }
+        return m_horizontalOrigin;
     }
 
     /**
@@ -890,7 +806,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final VerticalOriginCesiumWriter getVerticalOriginWriter() {
-        return m_verticalOrigin.getValue();
+        if (m_verticalOrigin == null) {
+            m_verticalOrigin = this.<VerticalOriginCesiumWriter> addChildWriter(new VerticalOriginCesiumWriter(VerticalOriginPropertyName));
+        }
+        return m_verticalOrigin;
     }
 
     /**
@@ -964,7 +883,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -1038,7 +960,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -1203,7 +1128,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getRotationWriter() {
-        return m_rotation.getValue();
+        if (m_rotation == null) {
+            m_rotation = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(RotationPropertyName));
+        }
+        return m_rotation;
     }
 
     /**
@@ -1303,7 +1231,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final AlignedAxisCesiumWriter getAlignedAxisWriter() {
-        return m_alignedAxis.getValue();
+        if (m_alignedAxis == null) {
+            m_alignedAxis = this.<AlignedAxisCesiumWriter> addChildWriter(new AlignedAxisCesiumWriter(AlignedAxisPropertyName));
+        }
+        return m_alignedAxis;
     }
 
     /**
@@ -1486,7 +1417,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final BooleanCesiumWriter getSizeInMetersWriter() {
-        return m_sizeInMeters.getValue();
+        if (m_sizeInMeters == null) {
+            m_sizeInMeters = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(SizeInMetersPropertyName));
+        }
+        return m_sizeInMeters;
     }
 
     /**
@@ -1560,7 +1494,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getWidthWriter() {
-        return m_width.getValue();
+        if (m_width == null) {
+            m_width = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+        }
+        return m_width;
     }
 
     /**
@@ -1660,7 +1597,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getHeightWriter() {
-        return m_height.getValue();
+        if (m_height == null) {
+            m_height = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(HeightPropertyName));
+        }
+        return m_height;
     }
 
     /**
@@ -1760,7 +1700,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getScaleByDistanceWriter() {
-        return m_scaleByDistance.getValue();
+        if (m_scaleByDistance == null) {
+            m_scaleByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(ScaleByDistancePropertyName));
+        }
+        return m_scaleByDistance;
     }
 
     /**
@@ -1874,7 +1817,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getTranslucencyByDistanceWriter() {
-        return m_translucencyByDistance.getValue();
+        if (m_translucencyByDistance == null) {
+            m_translucencyByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName));
+        }
+        return m_translucencyByDistance;
     }
 
     /**
@@ -1988,7 +1934,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getPixelOffsetScaleByDistanceWriter() {
-        return m_pixelOffsetScaleByDistance.getValue();
+        if (m_pixelOffsetScaleByDistance == null) {
+            m_pixelOffsetScaleByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName));
+        }
+        return m_pixelOffsetScaleByDistance;
     }
 
     /**
@@ -2102,7 +2051,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final BoundingRectangleCesiumWriter getImageSubRegionWriter() {
-        return m_imageSubRegion.getValue();
+        if (m_imageSubRegion == null) {
+            m_imageSubRegion = this.<BoundingRectangleCesiumWriter> addChildWriter(new BoundingRectangleCesiumWriter(ImageSubRegionPropertyName));
+        }
+        return m_imageSubRegion;
     }
 
     /**
@@ -2202,7 +2154,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -2314,7 +2269,10 @@ public class BillboardCesiumWriter extends CesiumPropertyWriter<BillboardCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getDisableDepthTestDistanceWriter() {
-        return m_disableDepthTestDistance.getValue();
+        if (m_disableDepthTestDistance == null) {
+            m_disableDepthTestDistance = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(DisableDepthTestDistancePropertyName));
+        }
+        return m_disableDepthTestDistance;
     }
 
     /**
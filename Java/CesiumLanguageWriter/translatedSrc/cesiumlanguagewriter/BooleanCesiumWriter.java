@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -31,10 +29,8 @@ public class BooleanCesiumWriter extends CesiumPropertyWriter<BooleanCesiumWrite
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter>> m_asBoolean;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter>> m_asReference;
+    private CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter> m_asBoolean;
+    private CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -42,8 +38,6 @@ public class BooleanCesiumWriter extends CesiumPropertyWriter<BooleanCesiumWrite
     */
     public BooleanCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asBoolean = createAsBoolean();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -52,8 +46,6 @@ public class BooleanCesiumWriter extends CesiumPropertyWriter<BooleanCesiumWrite
     */
     protected BooleanCesiumWriter(@Nonnull BooleanCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asBoolean = createAsBoolean();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -143,16 +135,10 @@ public class BooleanCesiumWriter extends CesiumPropertyWriter<BooleanCesiumWrite
     */
     @Nonnull
     public final CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter> asBoolean() {
-        return m_asBoolean.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter>> createAsBoolean() {
-        return new Lazy<CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter>>(new Func1<CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter>>(this, "createBoolean") {
-            public CesiumBooleanValuePropertyAdaptor<BooleanCesiumWriter> invoke() {
-                return createBoolean();
-            }
-        }, false);
+        if (m_asBoolean == null) {
+            m_asBoolean = createBoolean();
+        }
+        return m_asBoolean;
     }
 
     @Nonnull
@@ -166,16 +152,10 @@ public class BooleanCesiumWriter extends CesiumPropertyWriter<BooleanCesiumWrite
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<BooleanCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class BoundingRectangleCesiumWriter extends CesiumInterpolatablePropertyW
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter>> m_asBoundingRectangle;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter>> m_asReference;
+    private CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter> m_asBoundingRectangle;
+    private CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class BoundingRectangleCesiumWriter extends CesiumInterpolatablePropertyW
     */
     public BoundingRectangleCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asBoundingRectangle = createAsBoundingRectangle();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class BoundingRectangleCesiumWriter extends CesiumInterpolatablePropertyW
     */
     protected BoundingRectangleCesiumWriter(@Nonnull BoundingRectangleCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asBoundingRectangle = createAsBoundingRectangle();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,17 +155,10 @@ public class BoundingRectangleCesiumWriter extends CesiumInterpolatablePropertyW
     */
     @Nonnull
     public final CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter> asBoundingRectangle() {
-        return m_asBoundingRectangle.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter>> createAsBoundingRectangle() {
-        return new Lazy<CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter>>(
-                new Func1<CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter>>(this, "createBoundingRectangle") {
-                    public CesiumBoundingRectangleValuePropertyAdaptor<BoundingRectangleCesiumWriter> invoke() {
-                        return createBoundingRectangle();
-                    }
-                }, false);
+        if (m_asBoundingRectangle == null) {
+            m_asBoundingRectangle = createBoundingRectangle();
+        }
+        return m_asBoundingRectangle;
     }
 
     @Nonnull
@@ -187,16 +172,10 @@ public class BoundingRectangleCesiumWriter extends CesiumInterpolatablePropertyW
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<BoundingRectangleCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -77,66 +75,16 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public static final String DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BoxDimensionsCesiumWriter> m_dimensions = new Lazy<BoxDimensionsCesiumWriter>(new Func1<BoxDimensionsCesiumWriter>() {
-        public BoxDimensionsCesiumWriter invoke() {
-            return new BoxDimensionsCesiumWriter(DimensionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FillPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(OutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private BoxDimensionsCesiumWriter m_dimensions;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private BooleanCesiumWriter m_fill;
+    private MaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_outline;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private ShadowModeCesiumWriter m_shadows;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
     /**
     * Initializes a new instance.
@@ -168,7 +116,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -242,7 +193,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final BoxDimensionsCesiumWriter getDimensionsWriter() {
-        return m_dimensions.getValue();
+        if (m_dimensions == null) {
+            m_dimensions = this.<BoxDimensionsCesiumWriter> addChildWriter(new BoxDimensionsCesiumWriter(DimensionsPropertyName));
+        }
+        return m_dimensions;
     }
 
     /**
@@ -342,7 +296,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -416,7 +373,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getFillWriter() {
-        return m_fill.getValue();
+        if (m_fill == null) {
+            m_fill = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FillPropertyName));
+        }
+        return m_fill;
     }
 
     /**
@@ -490,7 +450,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final MaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -507,7 +470,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getOutlineWriter() {
-        return m_outline.getValue();
+        if (m_outline == null) {
+            m_outline = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+        }
+        return m_outline;
     }
 
     /**
@@ -581,7 +547,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -746,7 +715,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -846,7 +818,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -920,7 +895,10 @@ public class BoxCesiumWriter extends CesiumPropertyWriter<BoxCesiumWriter> {
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class BoxDimensionsCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<BoxDimensionsCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BoxDimensionsCesiumWriter>> m_asReference;
+    private CesiumCartesian3ValuePropertyAdaptor<BoxDimensionsCesiumWriter> m_asCartesian;
+    private CesiumReferenceValuePropertyAdaptor<BoxDimensionsCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class BoxDimensionsCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     public BoxDimensionsCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class BoxDimensionsCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     protected BoxDimensionsCesiumWriter(@Nonnull BoxDimensionsCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,16 +155,10 @@ public class BoxDimensionsCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<BoxDimensionsCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<BoxDimensionsCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<BoxDimensionsCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<BoxDimensionsCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<BoxDimensionsCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -186,16 +172,10 @@ public class BoxDimensionsCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<BoxDimensionsCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<BoxDimensionsCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<BoxDimensionsCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<BoxDimensionsCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<BoxDimensionsCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
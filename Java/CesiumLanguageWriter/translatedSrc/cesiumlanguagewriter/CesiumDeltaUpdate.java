@@ -0,0 +1,355 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.IDisposable;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.CesiumDeltaWriter.EntityState;
+import cesiumlanguagewriter.CesiumDeltaWriter.PropertyState;
+import java.util.Iterator;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+/**
+ * An update of a single object, opened by {@link CesiumDeltaWriter#openUpdate}.  Write the complete
+ current state of the object, and then close the update.  Only the properties whose values differ from
+ the previous update of the object are written, using a {@link PacketCesiumWriter}, and properties written
+ by the previous update but not by this one are deleted.  If nothing changed, no packet is written.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumDeltaUpdate implements IDisposable {
+    CesiumDeltaUpdate(@Nonnull CesiumDeltaWriter deltaWriter) {
+        m_deltaWriter = deltaWriter;
+    }
+
+    /**
+    * Gets a value indicating whether the update is open.
+    */
+    public final boolean getIsOpen() {
+        return m_output != null;
+    }
+
+    /**
+    * Writes the {@code position} of the object as a Cartesian value.
+    * @param x The X component.
+    * @param y The Y component.
+    * @param z The Z component.
+    */
+    public final void writePositionCartesian(double x, double y, double z) {
+        set(Position, KindCartesian, x, y, z, 0.0);
+    }
+
+    /**
+    * Writes the {@code position} of the object as a cartographic value in degrees.
+    * @param longitude The longitude, in degrees.
+    * @param latitude The latitude, in degrees.
+    * @param height The height, in meters.
+    */
+    public final void writePositionCartographicDegrees(double longitude, double latitude, double height) {
+        set(Position, KindCartographicDegrees, longitude, latitude, height, 0.0);
+    }
+
+    /**
+    * Writes the {@code orientation} of the object as a unit quaternion.
+    * @param w The W component.
+    * @param x The X component.
+    * @param y The Y component.
+    * @param z The Z component.
+    */
+    public final void writeOrientation(double w, double x, double y, double z) {
+        set(Orientation, KindUnitQuaternion, w, x, y, z);
+    }
+
+    /**
+    * Writes the {@code show} property of the object's {@code billboard}.
+    * @param value Whether the billboard is shown.
+    */
+    public final void writeBillboardShow(boolean value) {
+        set(BillboardShow, KindBoolean, value ? 1.0 : 0.0, 0.0, 0.0, 0.0);
+    }
+
+    /**
+    * Writes the {@code scale} property of the object's {@code billboard}.
+    * @param value The scale.
+    */
+    public final void writeBillboardScale(double value) {
+        set(BillboardScale, KindDouble, value, 0.0, 0.0, 0.0);
+    }
+
+    /**
+    * Writes the {@code show} property of the object's {@code label}.
+    * @param value Whether the label is shown.
+    */
+    public final void writeLabelShow(boolean value) {
+        set(LabelShow, KindBoolean, value ? 1.0 : 0.0, 0.0, 0.0, 0.0);
+    }
+
+    /**
+    * Writes the {@code text} property of the object's {@code label}.
+    * @param value The text.
+    */
+    public final void writeLabelText(@Nonnull String value) {
+        if (value == null) {
+            throw new ArgumentNullException("value");
+        }
+        PropertyState property = touch(LabelText);
+        if (property.kind != KindString || !value.equals(property.text)) {
+            property.kind = KindString;
+            property.text = value;
+            property.changed = true;
+        }
+    }
+
+    /**
+    * Writes any other top-level property of the object with a callback.  The callback is
+    invoked immediately to determine whether the property changed, and again, if it did, to write the property
+    to the packet.  The callback must write exactly one property, named {@code propertyName}, which is not
+    one of the properties written by the other methods of this class.
+    * @param propertyName The name of the property, such as {@code "path"}.
+    * @param callback The callback which writes the property to the packet writer it is given.
+    */
+    public final void writeProperty(@Nonnull String propertyName, @Nonnull CesiumPacketFragmentCallback callback) {
+        if (propertyName == null) {
+            throw new ArgumentNullException("propertyName");
+        }
+        if (callback == null) {
+            throw new ArgumentNullException("callback");
+        }
+        EntityState entity = getEntity();
+        PropertyState property = entity.otherProperties.get(propertyName);
+        if (property == null) {
+            property = new PropertyState();
+            entity.otherProperties.put(propertyName, property);
+        }
+        property.generation = entity.generation;
+        long hash = m_deltaWriter.hashProperty(callback);
+        if (property.kind != KindHash || property.hash != hash) {
+            property.kind = KindHash;
+            property.hash = hash;
+            property.changed = true;
+            property.callback = callback;
+        }
+    }
+
+    /**
+    * Writes a packet containing the changes made by this update, if there are any, and closes the update.
+    * @exception IllegalStateException The update is not open.
+    */
+    public final void dispose() {
+        if (m_output == null) {
+            throw new IllegalStateException(CesiumLocalization.getWriterAlreadyClosed());
+        }
+        try {
+            if (hasChanges()) {
+                writeChanges();
+            }
+        } finally {
+            m_output = null;
+            m_entity = null;
+        }
+    }
+
+    final void open(@Nonnull CesiumOutputStream output, @Nonnull EntityState entity) {
+        m_output = output;
+        m_entity = entity;
+    }
+
+    @Nonnull
+    private final EntityState getEntity() {
+        if (m_entity == null) {
+            throw new IllegalStateException(CesiumLocalization.getWriterNotOpen());
+        }
+        return m_entity;
+    }
+
+    @Nonnull
+    private final PropertyState touch(int index) {
+        EntityState entity = getEntity();
+        PropertyState property = entity.properties[index];
+        property.generation = entity.generation;
+        return property;
+    }
+
+    private final void set(int index, int kind, double x, double y, double z, double w) {
+        PropertyState property = touch(index);
+        // Compare bit patterns so that a NaN which is written again is not a change.
+        if (property.kind != kind || Double.doubleToLongBits(property.x) != Double.doubleToLongBits(x) || Double.doubleToLongBits(property.y) != Double.doubleToLongBits(y)
+                || Double.doubleToLongBits(property.z) != Double.doubleToLongBits(z) || Double.doubleToLongBits(property.w) != Double.doubleToLongBits(w)) {
+            property.kind = kind;
+            property.x = x;
+            property.y = y;
+            property.z = z;
+            property.w = w;
+            property.changed = true;
+        }
+    }
+
+    private final boolean isDeleted(@Nonnull PropertyState property) {
+        return property.kind != KindNone && property.generation != m_entity.generation;
+    }
+
+    private final boolean needsWriting(@Nonnull PropertyState property) {
+        return property.changed || isDeleted(property);
+    }
+
+    private final boolean hasChanges() {
+        for (final PropertyState property : m_entity.properties) {
+            if (needsWriting(property)) {
+                return true;
+            }
+        }
+        for (final PropertyState property : m_entity.otherProperties.values()) {
+            if (needsWriting(property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final void writeChanges() {
+        EntityState entity = m_entity;
+        PropertyState[] properties = entity.properties;
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(m_deltaWriter.getStreamWriter().openPacket(m_output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId(entity.id);
+            if (needsWriting(properties[Position])) {
+                try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    final PositionCesiumWriter writer = using$1.resource;
+                    PropertyState property = properties[Position];
+                    if (isDeleted(property)) {
+                        writer.writeDelete(true);
+                    } else if (property.kind == KindCartesian) {
+                        writer.writeCartesian(new Cartesian(property.x, property.y, property.z));
+                    } else {
+                        writer.writeCartographicDegrees(new Cartographic(property.x, property.y, property.z));
+                    }
+                }
+            }
+            if (needsWriting(properties[Orientation])) {
+                try (Using<OrientationCesiumWriter> using$2 = new Using<OrientationCesiumWriter>(packet.openOrientationProperty())) {
+                    final OrientationCesiumWriter writer = using$2.resource;
+                    PropertyState property = properties[Orientation];
+                    if (isDeleted(property)) {
+                        writer.writeDelete(true);
+                    } else {
+                        writer.writeUnitQuaternion(new UnitQuaternion(property.x, property.y, property.z, property.w));
+                    }
+                }
+            }
+            if (needsWriting(properties[BillboardShow]) || needsWriting(properties[BillboardScale])) {
+                try (Using<BillboardCesiumWriter> using$3 = new Using<BillboardCesiumWriter>(packet.openBillboardProperty())) {
+                    final BillboardCesiumWriter billboard = using$3.resource;
+                    if (needsWriting(properties[BillboardShow])) {
+                        try (Using<BooleanCesiumWriter> using$4 = new Using<BooleanCesiumWriter>(billboard.openShowProperty())) {
+                            writeBoolean(using$4.resource, properties[BillboardShow]);
+                        }
+                    }
+                    if (needsWriting(properties[BillboardScale])) {
+                        try (Using<DoubleCesiumWriter> using$5 = new Using<DoubleCesiumWriter>(billboard.openScaleProperty())) {
+                            writeDouble(using$5.resource, properties[BillboardScale]);
+                        }
+                    }
+                }
+            }
+            if (needsWriting(properties[LabelShow]) || needsWriting(properties[LabelText])) {
+                try (Using<LabelCesiumWriter> using$6 = new Using<LabelCesiumWriter>(packet.openLabelProperty())) {
+                    final LabelCesiumWriter label = using$6.resource;
+                    if (needsWriting(properties[LabelShow])) {
+                        try (Using<BooleanCesiumWriter> using$7 = new Using<BooleanCesiumWriter>(label.openShowProperty())) {
+                            writeBoolean(using$7.resource, properties[LabelShow]);
+                        }
+                    }
+                    if (needsWriting(properties[LabelText])) {
+                        try (Using<StringCesiumWriter> using$8 = new Using<StringCesiumWriter>(label.openTextProperty())) {
+                            final StringCesiumWriter writer = using$8.resource;
+                            PropertyState property = properties[LabelText];
+                            if (isDeleted(property)) {
+                                writer.writeDelete(true);
+                            } else {
+                                writer.writeString(property.text);
+                            }
+                        }
+                    }
+                }
+            }
+            for (final Map.Entry<String, PropertyState> entry : entity.otherProperties.entrySet()) {
+                PropertyState property = entry.getValue();
+                if (isDeleted(property)) {
+                    writeDeleteProperty(m_output, entry.getKey());
+                } else if (property.changed) {
+                    property.callback.invoke(packet);
+                }
+            }
+        }
+        for (final PropertyState property : properties) {
+            forgetIfDeleted(property);
+        }
+        for (Iterator<PropertyState> iterator = entity.otherProperties.values().iterator(); iterator.hasNext();) {
+            PropertyState property = iterator.next();
+            if (isDeleted(property)) {
+                iterator.remove();
+            } else {
+                property.changed = false;
+                property.callback = null;
+            }
+        }
+    }
+
+    private final void forgetIfDeleted(@Nonnull PropertyState property) {
+        if (isDeleted(property)) {
+            property.kind = KindNone;
+            property.text = null;
+        }
+        property.changed = false;
+    }
+
+    private final void writeBoolean(@Nonnull BooleanCesiumWriter writer, @Nonnull PropertyState property) {
+        if (isDeleted(property)) {
+            writer.writeDelete(true);
+        } else {
+            writer.writeBoolean(property.x != 0.0);
+        }
+    }
+
+    private final void writeDouble(@Nonnull DoubleCesiumWriter writer, @Nonnull PropertyState property) {
+        if (isDeleted(property)) {
+            writer.writeDelete(true);
+        } else {
+            writer.writeNumber(property.x);
+        }
+    }
+
+    private static void writeDeleteProperty(@Nonnull CesiumOutputStream output, @Nonnull String propertyName) {
+        // This is what the property writer of any deletable property writes for writeDelete.
+        output.writePropertyName(propertyName);
+        output.writeStartObject();
+        output.writePropertyName("delete");
+        output.writeValue(true);
+        output.writeEndObject();
+    }
+
+    static final int PropertyCount = 6;
+    private static final int Position = 0;
+    private static final int Orientation = 1;
+    private static final int BillboardShow = 2;
+    private static final int BillboardScale = 3;
+    private static final int LabelShow = 4;
+    private static final int LabelText = 5;
+    private static final int KindNone = 0;
+    private static final int KindCartesian = 1;
+    private static final int KindCartographicDegrees = 2;
+    private static final int KindUnitQuaternion = 3;
+    private static final int KindBoolean = 4;
+    private static final int KindDouble = 5;
+    private static final int KindString = 6;
+    private static final int KindHash = 7;
+    @Nonnull
+    private final CesiumDeltaWriter m_deltaWriter;
+    private CesiumOutputStream m_output;
+    private EntityState m_entity;
+}
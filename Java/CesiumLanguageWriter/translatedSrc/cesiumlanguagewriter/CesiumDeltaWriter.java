@@ -0,0 +1,179 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.Using;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Writes packets for a live stream of updates, containing only the properties of each object which changed
+ since the last packet written for that object.  The last value written for each property of each object
+ is remembered, as primitive values for the common properties written by {@link CesiumDeltaUpdate},
+ and as a 64-bit hash of the written JSON for other properties.  An update that changes nothing writes nothing,
+ and a property which was written by the previous update of an object but not by the current one is deleted.
+ <p>
+ The remembered values describe what a single client has received, so use a separate instance for each stream,
+ and call {@link #clear} when a client must be sent the complete state again.  Instances are not thread-safe.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumDeltaWriter {
+    /**
+    * Starts an update of an object.  Write the complete current state of the object to the returned instance,
+    and then close it to write a packet containing the changes, if there are any.
+    * @param output The stream to which the packet will be written.
+    * @param id The ID of the object.
+    * @return The update, which is reused by subsequent calls to this method.
+    * @exception IllegalStateException The previous update has not been closed.
+    */
+    @Nonnull
+    public final CesiumDeltaUpdate openUpdate(@Nonnull CesiumOutputStream output, @Nonnull String id) {
+        if (output == null) {
+            throw new ArgumentNullException("output");
+        }
+        if (id == null) {
+            throw new ArgumentNullException("id");
+        }
+        if (m_update.getIsOpen()) {
+            throw new IllegalStateException(CesiumLocalization.getWriterAlreadyOpen());
+        }
+        EntityState entity = m_entities.get(id);
+        if (entity == null) {
+            entity = new EntityState(id);
+            m_entities.put(id, entity);
+        }
+        ++entity.generation;
+        m_update.open(output, entity);
+        return m_update;
+    }
+
+    /**
+    * Writes a packet deleting an object, and forgets its state.  Nothing is written if no update
+    of the object has been written.
+    * @param output The stream to which the packet will be written.
+    * @param id The ID of the object.
+    */
+    public final void writeDeleteObject(@Nonnull CesiumOutputStream output, @Nonnull String id) {
+        if (output == null) {
+            throw new ArgumentNullException("output");
+        }
+        if (id == null) {
+            throw new ArgumentNullException("id");
+        }
+        if (m_entities.remove(id) == null) {
+            return;
+        }
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(m_streamWriter.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId(id);
+            packet.writeDelete(true);
+        }
+    }
+
+    /**
+    * Forgets the state of every object, so that the next update of each object writes all of its properties.
+    */
+    public final void clear() {
+        m_entities.clear();
+    }
+
+    /**
+    * Gets the number of objects whose state is remembered.
+    */
+    public final int getObjectCount() {
+        return m_entities.size();
+    }
+
+    @Nonnull
+    final CesiumStreamWriter getStreamWriter() {
+        return m_streamWriter;
+    }
+
+    /**
+    * Writes a property with a callback to a scratch packet, and returns a hash of the written JSON.
+    */
+    final long hashProperty(@Nonnull CesiumPacketFragmentCallback callback) {
+        m_scratch.getBuffer().setLength(0);
+        m_scratchOutput.reset();
+        m_scratchWriter.reset();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(m_scratchWriter.openPacket(m_scratchOutput))) {
+            callback.invoke(using$0.resource);
+        }
+        StringBuffer buffer = m_scratch.getBuffer();
+        // 64-bit FNV-1a.
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < buffer.length(); ++i) {
+            hash ^= buffer.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+    * The remembered state of a single property.
+    */
+    static final class PropertyState {
+        /**
+        * The kind of value last written, or zero if the property has not been written.
+        */
+        public int kind;
+        public double x;
+        public double y;
+        public double z;
+        public double w;
+        @Nullable
+        public String text;
+        public long hash;
+        /**
+        * The generation of the update which last wrote the property.
+        */
+        public int generation;
+        /**
+        * Whether the property has changed in the current update, and must be written.
+        */
+        public boolean changed;
+        @Nullable
+        public CesiumPacketFragmentCallback callback;
+    }
+
+    /**
+    * The remembered state of a single object.
+    */
+    static final class EntityState {
+        public EntityState(@Nonnull String id) {
+            this.id = id;
+            for (int i = 0; i < properties.length; ++i) {
+                properties[i] = new PropertyState();
+            }
+        }
+
+        @Nonnull
+        public final String id;
+        public int generation;
+        @Nonnull
+        public final PropertyState[] properties = new PropertyState[CesiumDeltaUpdate.PropertyCount];
+        @Nonnull
+        public final LinkedHashMap<String, PropertyState> otherProperties = new LinkedHashMap<String, PropertyState>();
+    }
+
+    @Nonnull
+    private final HashMap<String, EntityState> m_entities = new HashMap<String, EntityState>();
+    @Nonnull
+    private final CesiumStreamWriter m_streamWriter = new CesiumStreamWriter();
+    @Nonnull
+    private final CesiumDeltaUpdate m_update = new CesiumDeltaUpdate(this);
+    @Nonnull
+    private final StringWriter m_scratch = new StringWriter();
+    @Nonnull
+    private final CesiumOutputStream m_scratchOutput = new CesiumOutputStream(m_scratch);
+    @Nonnull
+    private final CesiumStreamWriter m_scratchWriter = new CesiumStreamWriter();
+}
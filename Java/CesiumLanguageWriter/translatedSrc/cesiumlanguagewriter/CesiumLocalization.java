@@ -100,6 +100,16 @@ public class CesiumLocalization {
         return getResourceManager().getString("CannotRepresentLeapSecondAsUTCJulianDate");
     }
 
+    /**
+    * Looks up a localized string similar to The document cannot be written to because it has already been closed..
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public static String getConcurrentDocumentClosed() {
+        return getResourceManager().getString("ConcurrentDocumentClosed");
+    }
+
     /**
     * Looks up a localized string similar to The requested data cannot be downloaded..
     * @deprecated Internal use only.
@@ -110,6 +120,16 @@ public class CesiumLocalization {
         return getResourceManager().getString("DataDownloadFailed");
     }
 
+    /**
+    * Looks up a localized string similar to The dates must be in strictly increasing order..
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public static String getDatesMustBeIncreasing() {
+        return getResourceManager().getString("DatesMustBeIncreasing");
+    }
+
     /**
     * Looks up a localized string similar to The given date must be in the UTC time standard..
     * @deprecated Internal use only.
@@ -130,6 +150,16 @@ public class CesiumLocalization {
         return getResourceManager().getString("DayOfYearOutOfRange");
     }
 
+    /**
+    * Looks up a localized string similar to Sequence number {0} was published more than once..
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public static String getDuplicatePacketSequenceNumber() {
+        return getResourceManager().getString("DuplicatePacketSequenceNumber");
+    }
+
     /**
     * Looks up a localized string similar to Invalid format string..
     * @deprecated Internal use only.
@@ -280,6 +310,46 @@ public class CesiumLocalization {
         return getResourceManager().getString("MotionMustContainValue");
     }
 
+    /**
+    * Looks up a localized string similar to The packet cannot be published because it has not been opened and closed since the last packet was published..
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public static String getPacketNotClosedBeforePublishing() {
+        return getResourceManager().getString("PacketNotClosedBeforePublishing");
+    }
+
+    /**
+    * Looks up a localized string similar to A sequence number must be given if, and only if, packets are ordered by sequence number..
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public static String getPacketSequenceNumberMismatch() {
+        return getResourceManager().getString("PacketSequenceNumberMismatch");
+    }
+
+    /**
+    * Looks up a localized string similar to The pooled writer cannot be used because it has already been returned to its pool..
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public static String getPooledWriterAlreadyReleased() {
+        return getResourceManager().getString("PooledWriterAlreadyReleased");
+    }
+
+    /**
+    * Looks up a localized string similar to The tolerance must not be negative..
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public static String getToleranceMustNotBeNegative() {
+        return getResourceManager().getString("ToleranceMustNotBeNegative");
+    }
+
     /**
     * Looks up a localized string similar to The enumeration has an invalid or unsupported value..
     * @deprecated Internal use only.
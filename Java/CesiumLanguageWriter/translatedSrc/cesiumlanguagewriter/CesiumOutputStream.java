@@ -61,6 +61,31 @@ public class CesiumOutputStream {
         m_prettyFormatting = value;
     }
 
+    /**
+    * Resets this stream to its initial state and directs further output to the given writer,
+    so that the stream can be reused to write a new document.  The value of {@link #getPrettyFormatting} is retained.
+    * @param writer The writer to which data will be written.
+    */
+    public final void reset(@Nonnull Writer writer) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        m_writer = writer;
+        reset();
+    }
+
+    /**
+    * Resets this stream to its initial state, as if nothing had been written to it,
+    while continuing to write to the same writer.  The value of {@link #getPrettyFormatting} is retained.
+    */
+    public final void reset() {
+        m_firstInStream = true;
+        m_firstInContainer = true;
+        m_inProperty = false;
+        m_nextValueOnNewLine = false;
+        m_indent = 0;
+    }
+
     /**
     * Writes the start of an object.
     */
@@ -181,6 +206,45 @@ public class CesiumOutputStream {
         writeRawValueString(value ? "true" : "false");
     }
 
+    /**
+    * Writes the value of a property or element in a sequence as a string, taking its characters from a buffer.
+    * @param value The buffer containing the characters of the string.
+    * @param offset The index of the first character of the string.
+    * @param length The number of characters in the string.
+    */
+    public void writeValue(@Nonnull char[] value, int offset, int length) {
+        if (value == null) {
+            throw new ArgumentNullException("value");
+        }
+        startNewValue();
+        m_firstInContainer = false;
+        m_inProperty = false;
+        TextWriterHelper.write(m_writer, '"');
+        int last = offset + length;
+        for (int i = offset; i < last; ++i) {
+            char c = value[i];
+            if (c <= '\u001f' || c == '"' || c == '\\' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                writeEscapedString(new String(value, offset, length));
+                TextWriterHelper.write(m_writer, '"');
+                return;
+            }
+        }
+        TextWriterHelper.write(m_writer, value, offset, length);
+        TextWriterHelper.write(m_writer, '"');
+    }
+
+    /**
+    * Writes the value of a property or element in a sequence which has already been formatted as JSON,
+    such as a number formatted once and written many times.  The value is written without escaping.
+    * @param value The formatted value to write.
+    */
+    final void writeRawValue(@Nonnull String value) {
+        if (value == null) {
+            throw new ArgumentNullException("value");
+        }
+        writeRawValueString(value);
+    }
+
     private final void writeRawValueString(String s) {
         startNewValue();
         m_firstInContainer = false;
@@ -207,6 +271,38 @@ public class CesiumOutputStream {
         m_nextValueOnNewLine = true;
     }
 
+    /**
+    * Writes the properties of a {@link CesiumPacketFragment}, which were written to another stream
+    inside an object at the first level of indentation, re-indenting each line to the current level.
+    */
+    final void writeFragment(@Nonnull String text, @Nonnull int[] lineStarts, boolean nextValueOnNewLine) {
+        m_firstInStream = false;
+        if (!m_firstInContainer) {
+            TextWriterHelper.write(m_writer, ',');
+        }
+        int extraIndent = m_indent - IndentLevel;
+        if (lineStarts.length == 0 || extraIndent <= 0) {
+            TextWriterHelper.write(m_writer, text);
+        } else {
+            int start = 0;
+            for (final int lineStart : lineStarts) {
+                TextWriterHelper.write(m_writer, text, start, lineStart - start);
+                for (int i = 0; i < extraIndent; ++i) {
+                    TextWriterHelper.write(m_writer, ' ');
+                }
+                start = lineStart;
+            }
+            TextWriterHelper.write(m_writer, text, start, text.length() - start);
+        }
+        m_firstInContainer = false;
+        m_inProperty = false;
+        m_nextValueOnNewLine = nextValueOnNewLine;
+    }
+
+    final boolean getNextValueOnNewLine() {
+        return m_nextValueOnNewLine;
+    }
+
     private final void writeEscapedString(@Nonnull String value) {
         int lastWritePosition = 0;
         int skipped = 0;
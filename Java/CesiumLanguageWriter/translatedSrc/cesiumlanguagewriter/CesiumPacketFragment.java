@@ -0,0 +1,130 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import java.io.StringWriter;
+import javax.annotation.Nonnull;
+
+/**
+ * A block of packet properties, such as a {@code billboard} or {@code label} shared by many objects,
+ which is written once when the fragment is created and then copied into each packet that uses it.
+ Writing a fragment produces the same output as writing its properties with the packet writer, including
+ the separating commas and, when the stream uses pretty formatting, the line breaks and indentation.
+ <p>
+ Instances are immutable and may be shared between threads and documents.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumPacketFragment {
+    /**
+    * Initializes a new instance by capturing the properties written by a callback.
+    * @param callback A callback that writes the properties of the fragment to the packet writer it is given.
+    The callback must close every writer it opens, and must not close the packet writer.
+    */
+    public CesiumPacketFragment(@Nonnull CesiumPacketFragmentCallback callback) {
+        if (callback == null) {
+            throw new ArgumentNullException("callback");
+        }
+        m_compact = new Rendering(callback, false);
+        m_pretty = new Rendering(callback, true);
+    }
+
+    /**
+    * Gets a value indicating whether the fragment contains no properties.
+    */
+    public final boolean getIsEmpty() {
+        return m_compact.getText().length() == 0;
+    }
+
+    /**
+    * Writes the properties of this fragment to an open packet.
+    * @param packet The packet to which to write the properties.
+    * @exception IllegalStateException The packet is not open.
+    */
+    public final void writeTo(@Nonnull PacketCesiumWriter packet) {
+        if (packet == null) {
+            throw new ArgumentNullException("packet");
+        }
+        writeTo(packet.getOutput());
+    }
+
+    /**
+    * Writes the properties of this fragment to a stream which is positioned inside an object,
+    where the next property of the object would be written.
+    * @param output The stream to which to write the properties.
+    */
+    public final void writeTo(@Nonnull CesiumOutputStream output) {
+        if (output == null) {
+            throw new ArgumentNullException("output");
+        }
+        if (getIsEmpty()) {
+            return;
+        }
+        Rendering rendering = output.getPrettyFormatting() ? m_pretty : m_compact;
+        output.writeFragment(rendering.getText(), rendering.getLineStarts(), rendering.getNextValueOnNewLine());
+    }
+
+    /**
+    * Gets the properties of this fragment as they are written to a compact stream.
+    * @return The compact JSON text of the properties.
+    */
+    @Override
+    public String toString() {
+        return m_compact.getText();
+    }
+
+    private static final class Rendering {
+        public Rendering(@Nonnull CesiumPacketFragmentCallback callback, boolean prettyFormatting) {
+            StringWriter stringWriter = new StringWriter();
+            CesiumOutputStream output = new CesiumOutputStream(stringWriter, prettyFormatting);
+            PacketCesiumWriter packet = new CesiumStreamWriter().openPacket(output);
+            int start = stringWriter.getBuffer().length();
+            callback.invoke(packet);
+            m_text = stringWriter.getBuffer().substring(start);
+            m_nextValueOnNewLine = output.getNextValueOnNewLine();
+            int count = 0;
+            for (int i = 0; i < m_text.length(); ++i) {
+                if (m_text.charAt(i) == '\n') {
+                    ++count;
+                }
+            }
+            // Strings are escaped, so every line feed in the text is a line break written by the stream.
+            m_lineStarts = new int[count];
+            count = 0;
+            for (int i = 0; i < m_text.length(); ++i) {
+                if (m_text.charAt(i) == '\n') {
+                    m_lineStarts[count++] = i + 1;
+                }
+            }
+        }
+
+        @Nonnull
+        public final String getText() {
+            return m_text;
+        }
+
+        @Nonnull
+        public final int[] getLineStarts() {
+            return m_lineStarts;
+        }
+
+        public final boolean getNextValueOnNewLine() {
+            return m_nextValueOnNewLine;
+        }
+
+        @Nonnull
+        private final String m_text;
+        @Nonnull
+        private final int[] m_lineStarts;
+        private final boolean m_nextValueOnNewLine;
+    }
+
+    @Nonnull
+    private final Rendering m_compact;
+    @Nonnull
+    private final Rendering m_pretty;
+}
@@ -0,0 +1,121 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Delegate;
+import javax.annotation.Nonnull;
+
+/**
+ * A callback that writes the properties captured by a {@link CesiumPacketFragment}.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public abstract class CesiumPacketFragmentCallback extends Delegate {
+    /**
+    * Creates a new instance of this delegate.
+    */
+    public CesiumPacketFragmentCallback() {
+        super();
+    }
+
+    /**
+    * Initializes a delegate that will invoke an instance method on a class instance.
+    * @param targetObject The class instance on which the delegate will invoke the method.
+    * @param methodName The name of the instance method.
+    * @param methodParameterClasses The type of the parameters of the instance method.
+    */
+    public CesiumPacketFragmentCallback(@Nonnull Object targetObject, @Nonnull String methodName, @Nonnull Class<?>... methodParameterClasses) {
+        super(targetObject, methodName, methodParameterClasses);
+    }
+
+    /**
+    * Initializes a delegate that will invoke a static method on a class.
+    * @param targetClass The class that defines the method.
+    * @param methodName The name of the static method.
+    * @param methodParameterClasses The type of the parameters of the static method.
+    */
+    public CesiumPacketFragmentCallback(@Nonnull Class<?> targetClass, @Nonnull String methodName, @Nonnull Class<?>... methodParameterClasses) {
+        super(targetClass, methodName, methodParameterClasses);
+    }
+
+    /**
+    * A callback that writes the properties captured by a {@link CesiumPacketFragment}.
+    * @param packet The packet writer to which to write the properties.  The packet is already open.
+    */
+    public abstract void invoke(@Nonnull PacketCesiumWriter packet);
+
+    /**
+    * Create a delegate for the given interface. This can be used to create a delegate from a lambda expression.
+    * @param f The function which will be invoked.
+    * @return A new delegate that will invoke the given function.
+    */
+    @Nonnull
+    public static CesiumPacketFragmentCallback of(@Nonnull Function f) {
+        return new FunctionImpl(f);
+    }
+
+    /**
+    * Create a delegate for the given interface. This can be used to create a delegate from a method reference to an instance method.
+    * @param f The function which will be invoked.
+    * @param targetObject The class instance on which the delegate will invoke the method.
+    * @param methodName The name of the instance method.
+    * @param methodParameterClasses The type of the parameters of the instance method.
+    * @return A new delegate that will invoke the given function.
+    */
+    @Nonnull
+    public static CesiumPacketFragmentCallback of(@Nonnull Function f, @Nonnull Object targetObject, @Nonnull String methodName, @Nonnull Class<?>... methodParameterClasses) {
+        return new FunctionImpl(f, targetObject, methodName, methodParameterClasses);
+    }
+
+    /**
+    * Create a delegate for the given interface. This can be used to create a delegate from a method reference to a static method.
+    * @param f The function which will be invoked.
+    * @param targetClass The class that defines the method.
+    * @param methodName The name of the static method.
+    * @param methodParameterClasses The type of the parameters of the static method.
+    * @return A new delegate that will invoke the given function.
+    */
+    @Nonnull
+    public static CesiumPacketFragmentCallback of(@Nonnull Function f, @Nonnull Class<?> targetClass, @Nonnull String methodName, @Nonnull Class<?>... methodParameterClasses) {
+        return new FunctionImpl(f, targetClass, methodName, methodParameterClasses);
+    }
+
+    /**
+    * A functional interface for the containing delegate type.
+    */
+    @FunctionalInterface
+    public interface Function {
+        /**
+        * A callback that writes the properties captured by a {@link CesiumPacketFragment}.
+        * @param packet The packet writer to which to write the properties.  The packet is already open.
+        */
+        void invoke(@Nonnull PacketCesiumWriter packet);
+    }
+
+    private static final class FunctionImpl extends CesiumPacketFragmentCallback {
+        @Nonnull
+        private final Function f;
+
+        public FunctionImpl(@Nonnull Function f) {
+            this.f = f;
+        }
+
+        public FunctionImpl(@Nonnull Function f, @Nonnull Object targetObject, @Nonnull String methodName, @Nonnull Class<?>... methodParameterClasses) {
+            super(targetObject, methodName, methodParameterClasses);
+            this.f = f;
+        }
+
+        public FunctionImpl(@Nonnull Function f, @Nonnull Class<?> targetClass, @Nonnull String methodName, @Nonnull Class<?>... methodParameterClasses) {
+            super(targetClass, methodName, methodParameterClasses);
+            this.f = f;
+        }
+
+        @Override
+        public void invoke(@Nonnull PacketCesiumWriter packet) {
+            f.invoke(packet);
+        }
+    }
+}
\ No newline at end of file
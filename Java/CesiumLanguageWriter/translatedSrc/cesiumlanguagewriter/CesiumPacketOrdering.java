@@ -0,0 +1,68 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Enumeration;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Specifies the order in which a {@link ConcurrentCesiumStreamWriter} writes packets published by its producers.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public enum CesiumPacketOrdering implements Enumeration {
+    /**
+    * Packets are written in the order in which they are published.
+    */
+    ARRIVAL(0),
+    /**
+    * Packets are written in the order of the sequence numbers with which they are published,
+    starting from zero.  A packet is held until every packet with a lower sequence number has been written.
+    */
+    SEQUENCE_NUMBER(1);
+
+    private final int value;
+
+    CesiumPacketOrdering(int value) {
+        this.value = value;
+    }
+
+    /**
+    * Get the numeric value associated with this enum constant.
+    * @return A numeric value.
+    */
+    @Override
+    public int getValue() {
+        return value;
+    }
+
+    /**
+    * Get the enum constant that is associated with the given numeric value.
+    * @return The enum constant associated with value.
+    * @param value a numeric value.
+    */
+    @Nonnull
+    public static CesiumPacketOrdering getFromValue(int value) {
+        switch (value) {
+        case 0:
+            return ARRIVAL;
+        case 1:
+            return SEQUENCE_NUMBER;
+        default:
+            throw new IllegalArgumentException("Undefined enum value.");
+        }
+    }
+
+    /**
+    * Get the enum constant that is considered to be the default.
+    * @return The default enum constant.
+    */
+    @Nonnull
+    public static CesiumPacketOrdering getDefault() {
+        return ARRIVAL;
+    }
+}
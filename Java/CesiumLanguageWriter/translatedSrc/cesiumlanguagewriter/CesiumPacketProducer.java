@@ -0,0 +1,95 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import java.io.StringWriter;
+import javax.annotation.Nonnull;
+
+/**
+ * Renders packets for a {@link ConcurrentCesiumStreamWriter} on a single thread.  Each packet is
+ written into a buffer owned by this producer, and then published to the document, which writes it
+ to the underlying stream.  Obtain an instance for the calling thread with {@link ConcurrentCesiumStreamWriter#getProducer}.
+ <p>
+ Instances of this class, and the writers it returns, must only be used by the thread that obtained them.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumPacketProducer {
+    CesiumPacketProducer(@Nonnull ConcurrentCesiumStreamWriter document, boolean prettyFormatting) {
+        m_document = document;
+        m_output = new CesiumOutputStream(m_buffer, prettyFormatting);
+    }
+
+    /**
+    * Starts a new packet.  The packet must be closed, and then published by calling {@link #publish()}
+    or {@link #publish(long)}, before the next packet is opened.
+    * @return The packet writer.
+    * @exception IllegalStateException The previous packet is still open.
+    */
+    @Nonnull
+    public final PacketCesiumWriter openPacket() {
+        if (m_writer.getPacketWriter().getIsOpen()) {
+            throw new IllegalStateException(CesiumLocalization.getWriterAlreadyOpen());
+        }
+        m_buffer.getBuffer().setLength(0);
+        m_output.reset();
+        // Render the packet as an element of the document's top-level sequence, so that it is
+        // formatted exactly as it would be if it were written directly to the document.
+        m_output.writeStartSequence();
+        m_packetStart = m_buffer.getBuffer().length();
+        return m_writer.openPacket(m_output);
+    }
+
+    /**
+    * Publishes the most recently written packet to a document whose packets are ordered by
+    {@link CesiumPacketOrdering#ARRIVAL arrival}.
+    * @exception IllegalStateException The packet has not been closed, or the document orders packets by sequence number.
+    */
+    public final void publish() {
+        if (m_document.getOrdering() != CesiumPacketOrdering.ARRIVAL) {
+            throw new IllegalStateException(CesiumLocalization.getPacketSequenceNumberMismatch());
+        }
+        m_document.enqueue(0L, takePacket());
+    }
+
+    /**
+    * Publishes the most recently written packet to a document whose packets are ordered by
+    {@link CesiumPacketOrdering#SEQUENCE_NUMBER sequence number}.
+    * @param sequenceNumber The position of the packet in the document.  Each packet in the document
+    must have a distinct sequence number, and the sequence numbers must be contiguous, starting from zero.
+    * @exception IllegalStateException The packet has not been closed, or the document orders packets by arrival.
+    */
+    public final void publish(long sequenceNumber) {
+        if (sequenceNumber < 0L) {
+            throw new ArgumentOutOfRangeException("sequenceNumber");
+        }
+        if (m_document.getOrdering() != CesiumPacketOrdering.SEQUENCE_NUMBER) {
+            throw new IllegalStateException(CesiumLocalization.getPacketSequenceNumberMismatch());
+        }
+        m_document.enqueue(sequenceNumber, takePacket());
+    }
+
+    @Nonnull
+    private final String takePacket() {
+        if (m_packetStart < 0 || m_writer.getPacketWriter().getIsOpen()) {
+            throw new IllegalStateException(CesiumLocalization.getPacketNotClosedBeforePublishing());
+        }
+        String packet = m_buffer.getBuffer().substring(m_packetStart);
+        m_packetStart = -1;
+        return packet;
+    }
+
+    @Nonnull
+    private final ConcurrentCesiumStreamWriter m_document;
+    @Nonnull
+    private final StringWriter m_buffer = new StringWriter();
+    @Nonnull
+    private final CesiumOutputStream m_output;
+    @Nonnull
+    private final CesiumStreamWriter m_writer = new CesiumStreamWriter();
+    private int m_packetStart = -1;
+}
@@ -0,0 +1,243 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import cesiumlanguagewriter.advanced.*;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Replaces large property values which repeat a value already written in the same document with a
+ {@code reference} to the property where the value was first written.  Values such as the directions
+ of a custom pattern sensor, the positions of a polygon, or an image embedded in a data URI are often
+ identical for many objects, and a reference is much smaller than the value.
+ <p>
+ Write a property through {@link #writeValue} to opt in to deduplication.  The value is written to a
+ scratch stream and hashed, and is written in full the first time it is seen.  When it repeats, it is written
+ as a reference if the property writer implements {@link ICesiumReferenceValuePropertyWriter}.  Otherwise it
+ is written in full, and the repeat is counted in {@link #getUnreferencedDuplicates}, so that the
+ document producer can see which properties would benefit from being restructured.
+ <p>
+ Use one instance for each document, because a reference is only valid within the document containing
+ the referenced property.  Instances are not thread-safe.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumReferenceDeduplicator {
+    /**
+    * Initializes a new instance which deduplicates values of at least {@value #DefaultMinimumLength} characters.
+    */
+    public CesiumReferenceDeduplicator() {
+        this(DefaultMinimumLength);
+    }
+
+    /**
+    * Initializes a new instance.
+    * @param minimumLength The minimum length, in characters of compact JSON, of values to deduplicate.
+    Smaller values are always written in full without being remembered.
+    */
+    public CesiumReferenceDeduplicator(int minimumLength) {
+        if (minimumLength < 1) {
+            throw new ArgumentOutOfRangeException("minimumLength");
+        }
+        m_minimumLength = minimumLength;
+        m_scratchOutput = new CesiumOutputStream(m_scratch);
+    }
+
+    /**
+    * Writes the value of a property, or a reference to an identical value written earlier.
+    * @param <TWriter> The type of the property writer.
+    * @param <TValue> The type of the value.
+    * @param id The ID of the object containing the property.
+    * @param writer The property writer, which must have been opened as a property, for example by
+    {@link BillboardCesiumWriter#openImageProperty}, and not yet written to.  It must have been created by its
+    parent writer, so that its {@linkplain CesiumPropertyWriter#getPropertyPath path} within the packet is known.
+    * @param value The value.
+    * @param writeValue The callback which writes the value to the given writer.  It is invoked once or twice.
+    * @return {@code true} if a reference was written instead of the value; otherwise, {@code false}.
+    */
+    public final <TWriter extends CesiumPropertyWriter<TWriter>, TValue> boolean writeValue(@Nonnull String id, @Nonnull TWriter writer, TValue value,
+            @Nonnull CesiumWriterAdaptorWriteCallback<TWriter, TValue> writeValue) {
+        if (id == null) {
+            throw new ArgumentNullException("id");
+        }
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        if (writeValue == null) {
+            throw new ArgumentNullException("writeValue");
+        }
+        CesiumOutputStream output = writer.getOutput();
+        if (writer.getIsInterval()) {
+            writeValue.invoke(writer, value);
+            return false;
+        }
+        String json = renderValue(writer, value, writeValue);
+        if (json.length() < m_minimumLength) {
+            writeFull(output, writer, value, writeValue, json);
+            return false;
+        }
+        String[] propertyPath = writer.getPropertyPath();
+        long hash = hash(json);
+        Occurrence first = m_occurrences.get(hash);
+        for (Occurrence occurrence = first; occurrence != null; occurrence = occurrence.next) {
+            if (occurrence.writerType == writer.getClass() && occurrence.json.equals(json)
+                    && !(occurrence.id.equals(id) && Arrays.equals(occurrence.propertyPath, propertyPath))) {
+                if (writer instanceof ICesiumReferenceValuePropertyWriter) {
+                    ((ICesiumReferenceValuePropertyWriter) writer).writeReference(occurrence.id, occurrence.propertyPath);
+                    ++m_referenceCount;
+                    m_referencedLength += json.length();
+                    return true;
+                }
+                writeFull(output, writer, value, writeValue, json);
+                String path = String.join(".", propertyPath);
+                Integer count = m_unreferencedDuplicates.get(path);
+                m_unreferencedDuplicates.put(path, count == null ? 1 : count + 1);
+                return false;
+            }
+        }
+        writeFull(output, writer, value, writeValue, json);
+        Occurrence occurrence = new Occurrence(id, propertyPath, writer.getClass(), json);
+        occurrence.next = first;
+        m_occurrences.put(hash, occurrence);
+        return false;
+    }
+
+    /**
+    * Gets the number of values which were written as references.
+    */
+    public final int getReferenceCount() {
+        return m_referenceCount;
+    }
+
+    /**
+    * Gets the total length, in characters of compact JSON, of the values which were written as references.
+    */
+    public final long getReferencedLength() {
+        return m_referencedLength;
+    }
+
+    /**
+    * Gets the number of repeated values which were written in full because their properties do not support
+    references, keyed by the dot-separated path of the property, such as {@code polygon.positions}.
+    */
+    @Nonnull
+    public final Map<String, Integer> getUnreferencedDuplicates() {
+        return Collections.unmodifiableMap(m_unreferencedDuplicates);
+    }
+
+    /**
+    * Forgets every value written so far, for example before starting a new document.
+    */
+    public final void clear() {
+        m_occurrences.clear();
+        m_unreferencedDuplicates.clear();
+        m_referenceCount = 0;
+        m_referencedLength = 0L;
+    }
+
+    /**
+    * Writes a value with a copy of the property writer to the scratch stream, and returns the compact JSON of the value.
+    */
+    @Nonnull
+    private <TWriter extends CesiumPropertyWriter<TWriter>, TValue> String renderValue(@Nonnull TWriter writer, TValue value,
+            @Nonnull CesiumWriterAdaptorWriteCallback<TWriter, TValue> writeValue) {
+        // Each copy is keyed by the writer it was cloned from, so it has the same type.
+        @SuppressWarnings("unchecked")
+        TWriter copy = (TWriter) m_scratchWriters.get(writer);
+        if (copy == null) {
+            copy = writer.clone();
+            m_scratchWriters.put(writer, copy);
+        }
+        StringBuffer buffer = m_scratch.getBuffer();
+        buffer.setLength(0);
+        m_scratchOutput.reset();
+        m_scratchOutput.writeStartObject();
+        copy.open(m_scratchOutput);
+        int start = buffer.length();
+        try {
+            writeValue.invoke(copy, value);
+        } finally {
+            copy.close();
+        }
+        return buffer.substring(start);
+    }
+
+    /**
+    * Writes a value in full, copying the already rendered JSON when the output is compact.
+    */
+    private static <TWriter extends CesiumPropertyWriter<TWriter>, TValue> void writeFull(@Nonnull CesiumOutputStream output, @Nonnull TWriter writer, TValue value,
+            @Nonnull CesiumWriterAdaptorWriteCallback<TWriter, TValue> writeValue, @Nonnull String json) {
+        if (output.getPrettyFormatting()) {
+            writeValue.invoke(writer, value);
+        } else {
+            output.writeRawValue(json);
+        }
+    }
+
+    private static long hash(@Nonnull String json) {
+        // 64-bit FNV-1a.
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < json.length(); ++i) {
+            hash ^= json.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+    * The first property written with a given value.
+    */
+    private static final class Occurrence {
+        public Occurrence(@Nonnull String id, @Nonnull String[] propertyPath, @Nonnull Class<?> writerType, @Nonnull String json) {
+            this.id = id;
+            this.propertyPath = propertyPath;
+            this.writerType = writerType;
+            this.json = json;
+        }
+
+        @Nonnull
+        public final String id;
+        @Nonnull
+        public final String[] propertyPath;
+        @Nonnull
+        public final Class<?> writerType;
+        @Nonnull
+        public final String json;
+        /**
+        * A different value with the same hash, if any.
+        */
+        @Nullable
+        public Occurrence next;
+    }
+
+    /**
+    * The default minimum length, in characters of compact JSON, of values to deduplicate.
+    */
+    public static final int DefaultMinimumLength = 128;
+    private final int m_minimumLength;
+    private int m_referenceCount;
+    private long m_referencedLength;
+    @Nonnull
+    private final HashMap<Long, Occurrence> m_occurrences = new HashMap<Long, Occurrence>();
+    @Nonnull
+    private final LinkedHashMap<String, Integer> m_unreferencedDuplicates = new LinkedHashMap<String, Integer>();
+    @Nonnull
+    private final IdentityHashMap<CesiumPropertyWriter<?>, CesiumPropertyWriter<?>> m_scratchWriters = new IdentityHashMap<CesiumPropertyWriter<?>, CesiumPropertyWriter<?>>();
+    @Nonnull
+    private final StringWriter m_scratch = new StringWriter();
+    @Nonnull
+    private final CesiumOutputStream m_scratchOutput;
+}
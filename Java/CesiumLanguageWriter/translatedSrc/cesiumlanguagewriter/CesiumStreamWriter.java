@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -23,7 +21,7 @@ public class CesiumStreamWriter {
     */
     @Nonnull
     public final PacketCesiumWriter openPacket(@Nonnull CesiumOutputStream output) {
-        PacketCesiumWriter packetWriter = m_packetWriter.getValue();
+        PacketCesiumWriter packetWriter = getPacketWriter();
         packetWriter.open(output);
         return packetWriter;
     }
@@ -36,13 +34,21 @@ public class CesiumStreamWriter {
     */
     @Nonnull
     public final PacketCesiumWriter getPacketWriter() {
-        return m_packetWriter.getValue();
+        if (m_packetWriter == null) {
+            m_packetWriter = new PacketCesiumWriter();
+        }
+        return m_packetWriter;
     }
 
-    @Nonnull
-    private Lazy<PacketCesiumWriter> m_packetWriter = new Lazy<PacketCesiumWriter>(new Func1<PacketCesiumWriter>() {
-        public PacketCesiumWriter invoke() {
-            return new PacketCesiumWriter();
+    /**
+    * Resets the writers used by this instance, so that this instance can be reused
+    to write to a new stream, even if a previous packet was not closed.
+    */
+    public final void reset() {
+        if (m_packetWriter != null) {
+            m_packetWriter.reset();
         }
-    }, false);
+    }
+
+    private PacketCesiumWriter m_packetWriter;
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import javax.annotation.Nonnull;
+
+/**
+ * A thread-safe pool of {@link CesiumStreamWriter} instances, each paired with a {@link CesiumOutputStream},
+ so that applications which write many short documents do not need to construct a new graph of writers for each one.
+ Writers are borrowed by calling {@link #acquire(Writer)} and returned by disposing the {@link PooledCesiumStreamWriter}.
+ <p>
+ The pool retains at most {@link #getMaximumSize} idle writers.  Acquiring a writer when none are idle creates a new one,
+ and writers returned to a full pool are discarded.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumStreamWriterPool {
+    /**
+    * Initializes a new instance.
+    * @param maximumSize The maximum number of idle writers retained by the pool.
+    */
+    public CesiumStreamWriterPool(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new ArgumentOutOfRangeException("maximumSize");
+        }
+        m_maximumSize = maximumSize;
+        m_available = new ArrayBlockingQueue<PooledCesiumStreamWriter>(maximumSize);
+    }
+
+    /**
+    * Gets the maximum number of idle writers retained by the pool.
+    */
+    public final int getMaximumSize() {
+        return m_maximumSize;
+    }
+
+    /**
+    * Gets the number of idle writers currently held by the pool.
+    */
+    public final int getAvailableCount() {
+        return m_available.size();
+    }
+
+    /**
+    * Borrows a writer from the pool and directs its output to the given writer.  The output is
+    not formatted for readability.  Dispose the returned instance to return it to the pool.
+    * @param writer The writer to which data will be written.
+    * @return The pooled writer.
+    */
+    @Nonnull
+    public final PooledCesiumStreamWriter acquire(@Nonnull Writer writer) {
+        return acquire(writer, false);
+    }
+
+    /**
+    * Borrows a writer from the pool and directs its output to the given writer.
+    Dispose the returned instance to return it to the pool.
+    * @param writer The writer to which data will be written.
+    * @param prettyFormatting Whether or not the written data should be formatted for easy human readability.
+    * @return The pooled writer.
+    */
+    @Nonnull
+    public final PooledCesiumStreamWriter acquire(@Nonnull Writer writer, boolean prettyFormatting) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        PooledCesiumStreamWriter result = m_available.poll();
+        if (result == null) {
+            result = new PooledCesiumStreamWriter(this);
+        }
+        result.acquire(writer, prettyFormatting);
+        return result;
+    }
+
+    final void release(@Nonnull PooledCesiumStreamWriter writer) {
+        m_available.offer(writer);
+    }
+
+    private final int m_maximumSize;
+    @Nonnull
+    private final ArrayBlockingQueue<PooledCesiumStreamWriter> m_available;
+}
@@ -0,0 +1,343 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.Using;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+/**
+ * Holds the latest update of each property of each object in a live feed, so that updates which arrive faster
+ than clients need them are merged, and superseded updates are dropped without ever being written.
+ <p>
+ Any number of threads may call {@link #update} concurrently.  The thread that owns the connection to the client
+ calls {@link #flushIfDue}, or {@link #flush}, periodically.  A flush is due when the flush interval has elapsed
+ since the previous flush, or sooner if the estimated size of the pending packets reaches the byte budget.
+ Each flush writes a CZML document containing one packet for each object with pending updates, and stops tracking
+ objects which had no pending updates, so that objects which are no longer updated do not accumulate.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumUpdateCoalescer {
+    /**
+    * Initializes a new instance which writes compact CZML.
+    * @param flushIntervalMilliseconds The interval between flushes, in milliseconds.
+    * @param byteBudget The estimated size of pending packets, in characters, at which a flush is due before the interval has elapsed.
+    */
+    public CesiumUpdateCoalescer(long flushIntervalMilliseconds, long byteBudget) {
+        this(flushIntervalMilliseconds, byteBudget, false);
+    }
+
+    /**
+    * Initializes a new instance.
+    * @param flushIntervalMilliseconds The interval between flushes, in milliseconds.
+    * @param byteBudget The estimated size of pending packets, in characters, at which a flush is due before the interval has elapsed.
+    * @param prettyFormatting Whether or not the written data should be formatted for easy human readability.
+    */
+    public CesiumUpdateCoalescer(long flushIntervalMilliseconds, long byteBudget, boolean prettyFormatting) {
+        if (flushIntervalMilliseconds < 0L) {
+            throw new ArgumentOutOfRangeException("flushIntervalMilliseconds");
+        }
+        if (byteBudget < 1L) {
+            throw new ArgumentOutOfRangeException("byteBudget");
+        }
+        m_flushIntervalNanoseconds = TimeUnit.MILLISECONDS.toNanos(flushIntervalMilliseconds);
+        m_byteBudget = byteBudget;
+        m_output = new CesiumOutputStream(m_counter, prettyFormatting);
+        m_lastFlushTime = System.nanoTime();
+    }
+
+    /**
+    * Records the latest value of a property of an object, replacing any pending update of the same property.
+    The callback is not invoked until the next flush, and is not invoked at all if it is superseded first,
+    so it must capture the value to write rather than reading it from a mutable source.
+    * @param id The ID of the object.
+    * @param propertyName The name of the top-level property written by the callback, such as {@code "position"}.
+    * @param callback The callback which writes the property to the packet writer it is given.
+    */
+    public final void update(@Nonnull String id, @Nonnull String propertyName, @Nonnull CesiumPacketFragmentCallback callback) {
+        if (id == null) {
+            throw new ArgumentNullException("id");
+        }
+        if (propertyName == null) {
+            throw new ArgumentNullException("propertyName");
+        }
+        if (callback == null) {
+            throw new ArgumentNullException("callback");
+        }
+        while (true) {
+            PendingObject pending = m_objects.get(id);
+            if (pending == null) {
+                pending = new PendingObject(id);
+                PendingObject existing = m_objects.putIfAbsent(id, pending);
+                if (existing != null) {
+                    pending = existing;
+                }
+            }
+            if (pending.put(propertyName, callback)) {
+                return;
+            }
+            // A flush stopped tracking the object after this thread found it.
+            m_objects.remove(id, pending);
+        }
+    }
+
+    /**
+    * Gets the estimated size, in characters, of the packets which the next flush will write.
+    The estimate for each object is based on the size of its previously written packets.
+    */
+    public final long getPendingEstimate() {
+        return m_pendingEstimate.get();
+    }
+
+    /**
+    * Gets the number of objects currently tracked, which includes every object updated since the previous flush.
+    */
+    public final int getObjectCount() {
+        return m_objects.size();
+    }
+
+    /**
+    * Gets the number of updates which have been replaced by a later update of the same property before being written.
+    */
+    public final long getSupersededCount() {
+        return m_supersededCount.get();
+    }
+
+    /**
+    * Gets a value indicating whether a flush is due, because there are pending updates and either
+    the flush interval has elapsed or the byte budget has been reached.
+    */
+    public final boolean getIsFlushDue() {
+        long pendingEstimate = m_pendingEstimate.get();
+        if (pendingEstimate == 0L) {
+            return false;
+        }
+        return pendingEstimate >= m_byteBudget || System.nanoTime() - m_lastFlushTime >= m_flushIntervalNanoseconds;
+    }
+
+    /**
+    * Writes the pending updates if a flush is due.
+    * @param writer The writer to which to write the document.
+    * @return The number of packets written, which is zero if a flush is not due.
+    */
+    public final int flushIfDue(@Nonnull Writer writer) {
+        return getIsFlushDue() ? flush(writer) : 0;
+    }
+
+    /**
+    * Writes a CZML document containing a packet for each object with pending updates, merging all of the
+    pending updates of each object into its packet.  If nothing is pending, nothing is written.
+    Objects without pending updates are no longer tracked.  Only one thread flushes at a time.
+    <p>
+    If a callback throws, the exception propagates and the document is abandoned incomplete, without
+    its closing bracket.  The updates of that object are discarded, while the updates of objects which
+    had not yet been written remain pending for the next flush.
+    * @param writer The writer to which to write the document.
+    * @return The number of packets written.
+    */
+    public final synchronized int flush(@Nonnull Writer writer) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        m_lastFlushTime = System.nanoTime();
+        if (m_pendingEstimate.get() == 0L) {
+            for (final PendingObject pending : m_objects.values()) {
+                removeIfIdle(pending);
+            }
+            return 0;
+        }
+        m_counter.setWriter(writer);
+        m_output.reset();
+        m_streamWriter.reset();
+        m_output.writeStartSequence();
+        int count = 0;
+        try {
+            for (final PendingObject pending : m_objects.values()) {
+                LinkedHashMap<String, CesiumPacketFragmentCallback> properties = pending.take();
+                if (properties == null) {
+                    removeIfIdle(pending);
+                    continue;
+                }
+                try {
+                    long start = m_counter.getCount();
+                    try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(m_streamWriter.openPacket(m_output))) {
+                        final PacketCesiumWriter packet = using$0.resource;
+                        packet.writeId(pending.getId());
+                        for (final CesiumPacketFragmentCallback callback : properties.values()) {
+                            callback.invoke(packet);
+                        }
+                    }
+                    pending.recordWritten(properties.size(), m_counter.getCount() - start);
+                } finally {
+                    // The taken map becomes the pending map again on the next take, so it must be empty
+                    // even if a callback fails.
+                    properties.clear();
+                }
+                ++count;
+            }
+            m_output.writeEndSequence();
+        } finally {
+            m_counter.setWriter(null);
+        }
+        return count;
+    }
+
+    private void removeIfIdle(@Nonnull PendingObject pending) {
+        if (pending.retireIfIdle()) {
+            m_objects.remove(pending.getId(), pending);
+        }
+    }
+
+    /**
+    * The pending updates of a single object.  Producers add updates to one map while the flushing
+    thread writes and clears the other.  The estimated size of the pending updates is added to and
+    subtracted from the total while holding the lock, so that the total never counts updates
+    which have already been taken.
+    */
+    private final class PendingObject {
+        public PendingObject(@Nonnull String id) {
+            m_id = id;
+            m_packetOverhead = PacketOverhead + id.length();
+        }
+
+        @Nonnull
+        public final String getId() {
+            return m_id;
+        }
+
+        /**
+        * Adds or replaces a pending update, or returns {@code false} if this object is no longer tracked.
+        */
+        public final synchronized boolean put(@Nonnull String propertyName, @Nonnull CesiumPacketFragmentCallback callback) {
+            if (m_retired) {
+                return false;
+            }
+            if (m_pending.put(propertyName, callback) != null) {
+                m_supersededCount.incrementAndGet();
+                return true;
+            }
+            long estimate = m_pending.size() == 1 ? m_packetOverhead + m_propertySize : m_propertySize;
+            m_estimate += estimate;
+            m_pendingEstimate.addAndGet(estimate);
+            return true;
+        }
+
+        /**
+        * Takes the pending updates, or returns {@code null} if there are none.
+        */
+        public final synchronized LinkedHashMap<String, CesiumPacketFragmentCallback> take() {
+            if (m_pending.isEmpty()) {
+                return null;
+            }
+            LinkedHashMap<String, CesiumPacketFragmentCallback> result = m_pending;
+            m_pending = m_spare;
+            m_spare = result;
+            m_pendingEstimate.addAndGet(-m_estimate);
+            m_estimate = 0L;
+            return result;
+        }
+
+        /**
+        * Stops accepting updates if there are none pending, and returns whether or not it did.
+        */
+        public final synchronized boolean retireIfIdle() {
+            m_retired = m_pending.isEmpty();
+            return m_retired;
+        }
+
+        /**
+        * Records the size of a written packet, to estimate the size of future packets of this object.
+        */
+        public final synchronized void recordWritten(int propertyCount, long size) {
+            m_propertySize = Math.max(1L, (size - m_packetOverhead) / propertyCount);
+        }
+
+        @Nonnull
+        private final String m_id;
+        @Nonnull
+        private LinkedHashMap<String, CesiumPacketFragmentCallback> m_pending = new LinkedHashMap<String, CesiumPacketFragmentCallback>();
+        @Nonnull
+        private LinkedHashMap<String, CesiumPacketFragmentCallback> m_spare = new LinkedHashMap<String, CesiumPacketFragmentCallback>();
+        private long m_estimate;
+        private boolean m_retired;
+        private long m_propertySize = DefaultPropertySize;
+        private final long m_packetOverhead;
+    }
+
+    /**
+    * Counts the characters written to the current writer.
+    */
+    private static final class CountingWriter extends Writer {
+        public final void setWriter(Writer writer) {
+            m_writer = writer;
+        }
+
+        public final long getCount() {
+            return m_count;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            m_writer.write(c);
+            ++m_count;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            m_writer.write(cbuf, off, len);
+            m_count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            m_writer.write(str, off, len);
+            m_count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            m_writer.flush();
+        }
+
+        @Override
+        public void close() {}
+
+        private Writer m_writer;
+        private long m_count;
+    }
+
+    /**
+    * The estimated size of a property which has not been written before.
+    */
+    private static final long DefaultPropertySize = 64L;
+    /**
+    * The size of a packet containing only an empty ID.
+    */
+    private static final long PacketOverhead = 10L;
+    private final long m_flushIntervalNanoseconds;
+    private final long m_byteBudget;
+    @Nonnull
+    private final ConcurrentHashMap<String, PendingObject> m_objects = new ConcurrentHashMap<String, PendingObject>();
+    @Nonnull
+    private final AtomicLong m_pendingEstimate = new AtomicLong();
+    @Nonnull
+    private final AtomicLong m_supersededCount = new AtomicLong();
+    @Nonnull
+    private final CountingWriter m_counter = new CountingWriter();
+    @Nonnull
+    private final CesiumOutputStream m_output;
+    @Nonnull
+    private final CesiumStreamWriter m_streamWriter = new CesiumStreamWriter();
+    private volatile long m_lastFlushTime;
+}
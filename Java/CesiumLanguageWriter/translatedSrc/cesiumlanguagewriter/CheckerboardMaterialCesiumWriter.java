@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ColorCesiumWriter;
@@ -36,24 +34,9 @@ public class CheckerboardMaterialCesiumWriter extends CesiumPropertyWriter<Check
     */
     @Nonnull
     public static final String RepeatPropertyName = "repeat";
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_evenColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(EvenColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_oddColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OddColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<RepeatCesiumWriter> m_repeat = new Lazy<RepeatCesiumWriter>(new Func1<RepeatCesiumWriter>() {
-        public RepeatCesiumWriter invoke() {
-            return new RepeatCesiumWriter(RepeatPropertyName);
-        }
-    }, false);
+    private ColorCesiumWriter m_evenColor;
+    private ColorCesiumWriter m_oddColor;
+    private RepeatCesiumWriter m_repeat;
 
     /**
     * Initializes a new instance.
@@ -85,7 +68,10 @@ public class CheckerboardMaterialCesiumWriter extends CesiumPropertyWriter<Check
     */
     @Nonnull
     public final ColorCesiumWriter getEvenColorWriter() {
-        return m_evenColor.getValue();
+        if (m_evenColor == null) {
+            m_evenColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(EvenColorPropertyName));
+        }
+        return m_evenColor;
     }
 
     /**
@@ -250,7 +236,10 @@ public class CheckerboardMaterialCesiumWriter extends CesiumPropertyWriter<Check
     */
     @Nonnull
     public final ColorCesiumWriter getOddColorWriter() {
-        return m_oddColor.getValue();
+        if (m_oddColor == null) {
+            m_oddColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OddColorPropertyName));
+        }
+        return m_oddColor;
     }
 
     /**
@@ -415,7 +404,10 @@ public class CheckerboardMaterialCesiumWriter extends CesiumPropertyWriter<Check
     */
     @Nonnull
     public final RepeatCesiumWriter getRepeatWriter() {
-        return m_repeat.getValue();
+        if (m_repeat == null) {
+            m_repeat = this.<RepeatCesiumWriter> addChildWriter(new RepeatCesiumWriter(RepeatPropertyName));
+        }
+        return m_repeat;
     }
 
     /**
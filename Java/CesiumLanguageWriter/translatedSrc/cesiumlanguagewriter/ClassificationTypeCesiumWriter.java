@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class ClassificationTypeCesiumWriter extends CesiumPropertyWriter<Classif
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter>> m_asClassificationType;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter>> m_asReference;
+    private CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter> m_asClassificationType;
+    private CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class ClassificationTypeCesiumWriter extends CesiumPropertyWriter<Classif
     */
     public ClassificationTypeCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asClassificationType = createAsClassificationType();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class ClassificationTypeCesiumWriter extends CesiumPropertyWriter<Classif
     */
     protected ClassificationTypeCesiumWriter(@Nonnull ClassificationTypeCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asClassificationType = createAsClassificationType();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,17 +136,10 @@ public class ClassificationTypeCesiumWriter extends CesiumPropertyWriter<Classif
     */
     @Nonnull
     public final CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter> asClassificationType() {
-        return m_asClassificationType.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter>> createAsClassificationType() {
-        return new Lazy<CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter>>(
-                new Func1<CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter>>(this, "createClassificationType") {
-                    public CesiumClassificationTypeValuePropertyAdaptor<ClassificationTypeCesiumWriter> invoke() {
-                        return createClassificationType();
-                    }
-                }, false);
+        if (m_asClassificationType == null) {
+            m_asClassificationType = createClassificationType();
+        }
+        return m_asClassificationType;
     }
 
     @Nonnull
@@ -168,16 +153,10 @@ public class ClassificationTypeCesiumWriter extends CesiumPropertyWriter<Classif
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ClassificationTypeCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class ColorBlendModeCesiumWriter extends CesiumPropertyWriter<ColorBlendM
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter>> m_asColorBlendMode;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter>> m_asReference;
+    private CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter> m_asColorBlendMode;
+    private CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class ColorBlendModeCesiumWriter extends CesiumPropertyWriter<ColorBlendM
     */
     public ColorBlendModeCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asColorBlendMode = createAsColorBlendMode();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class ColorBlendModeCesiumWriter extends CesiumPropertyWriter<ColorBlendM
     */
     protected ColorBlendModeCesiumWriter(@Nonnull ColorBlendModeCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asColorBlendMode = createAsColorBlendMode();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,17 +136,10 @@ public class ColorBlendModeCesiumWriter extends CesiumPropertyWriter<ColorBlendM
     */
     @Nonnull
     public final CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter> asColorBlendMode() {
-        return m_asColorBlendMode.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter>> createAsColorBlendMode() {
-        return new Lazy<CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter>>(
-                new Func1<CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter>>(this, "createColorBlendMode") {
-                    public CesiumColorBlendModeValuePropertyAdaptor<ColorBlendModeCesiumWriter> invoke() {
-                        return createColorBlendMode();
-                    }
-                }, false);
+        if (m_asColorBlendMode == null) {
+            m_asColorBlendMode = createColorBlendMode();
+        }
+        return m_asColorBlendMode;
     }
 
     @Nonnull
@@ -168,16 +153,10 @@ public class ColorBlendModeCesiumWriter extends CesiumPropertyWriter<ColorBlendM
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ColorBlendModeCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.awt.Color;
 import java.util.List;
@@ -39,12 +37,9 @@ public class ColorCesiumWriter extends CesiumInterpolatablePropertyWriter<ColorC
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter>> m_asRgba;
-    @Nonnull
-    private final Lazy<CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter>> m_asRgbaf;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter>> m_asReference;
+    private CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter> m_asRgba;
+    private CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter> m_asRgbaf;
+    private CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -52,9 +47,6 @@ public class ColorCesiumWriter extends CesiumInterpolatablePropertyWriter<ColorC
     */
     public ColorCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asRgba = createAsRgba();
-        m_asRgbaf = createAsRgbaf();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -63,9 +55,6 @@ public class ColorCesiumWriter extends CesiumInterpolatablePropertyWriter<ColorC
     */
     protected ColorCesiumWriter(@Nonnull ColorCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asRgba = createAsRgba();
-        m_asRgbaf = createAsRgbaf();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -234,16 +223,10 @@ public class ColorCesiumWriter extends CesiumInterpolatablePropertyWriter<ColorC
     */
     @Nonnull
     public final CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter> asRgba() {
-        return m_asRgba.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter>> createAsRgba() {
-        return new Lazy<CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter>>(new Func1<CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter>>(this, "createRgba") {
-            public CesiumRgbaValuePropertyAdaptor<ColorCesiumWriter> invoke() {
-                return createRgba();
-            }
-        }, false);
+        if (m_asRgba == null) {
+            m_asRgba = createRgba();
+        }
+        return m_asRgba;
     }
 
     @Nonnull
@@ -257,16 +240,10 @@ public class ColorCesiumWriter extends CesiumInterpolatablePropertyWriter<ColorC
     */
     @Nonnull
     public final CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter> asRgbaf() {
-        return m_asRgbaf.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter>> createAsRgbaf() {
-        return new Lazy<CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter>>(new Func1<CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter>>(this, "createRgbaf") {
-            public CesiumRgbafValuePropertyAdaptor<ColorCesiumWriter> invoke() {
-                return createRgbaf();
-            }
-        }, false);
+        if (m_asRgbaf == null) {
+            m_asRgbaf = createRgbaf();
+        }
+        return m_asRgbaf;
     }
 
     @Nonnull
@@ -280,16 +257,10 @@ public class ColorCesiumWriter extends CesiumInterpolatablePropertyWriter<ColorC
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ColorCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
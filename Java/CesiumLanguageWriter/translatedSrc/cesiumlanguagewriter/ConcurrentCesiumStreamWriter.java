@@ -0,0 +1,207 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.IDisposable;
+import agi.foundation.compatibility.StringHelper;
+import agi.foundation.compatibility.TextWriterHelper;
+import agi.foundation.compatibility.ThreadHelper;
+import java.io.Writer;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nonnull;
+
+/**
+ * Writes a CZML document whose packets are produced concurrently by multiple threads.
+ <p>
+ Each producing thread renders packets with its own {@link CesiumPacketProducer}, obtained from {@link #getProducer},
+ without any locking.  Completed packets are published to a lock-free queue, and are written to the stream, in the order
+ specified by {@link #getOrdering}, when the thread that owns the stream calls {@link #drain} or {@link #dispose}.
+ The written document is identical to one written by a single {@link CesiumStreamWriter} in the same packet order.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class ConcurrentCesiumStreamWriter implements IDisposable {
+    /**
+    * Initializes a new instance which writes packets in the order they are published.
+    * @param writer The writer to which the document will be written.
+    */
+    public ConcurrentCesiumStreamWriter(@Nonnull Writer writer) {
+        this(writer, false, CesiumPacketOrdering.ARRIVAL);
+    }
+
+    /**
+    * Initializes a new instance.
+    * @param writer The writer to which the document will be written.
+    * @param prettyFormatting Whether or not the written data should be formatted for easy human readability.
+    * @param ordering The order in which packets are written.
+    */
+    public ConcurrentCesiumStreamWriter(@Nonnull Writer writer, boolean prettyFormatting, @Nonnull CesiumPacketOrdering ordering) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        if (ordering == null) {
+            throw new ArgumentNullException("ordering");
+        }
+        m_writer = writer;
+        m_output = new CesiumOutputStream(writer, prettyFormatting);
+        m_ordering = ordering;
+    }
+
+    /**
+    * Gets the order in which packets are written.
+    */
+    @Nonnull
+    public final CesiumPacketOrdering getOrdering() {
+        return m_ordering;
+    }
+
+    /**
+    * Gets the producer for the calling thread, creating it if necessary.
+    * @exception IllegalStateException The document has been closed.
+    */
+    @Nonnull
+    public final CesiumPacketProducer getProducer() {
+        if (m_closed) {
+            throw new IllegalStateException(CesiumLocalization.getConcurrentDocumentClosed());
+        }
+        CesiumPacketProducer producer = m_producers.get();
+        if (producer == null) {
+            producer = new CesiumPacketProducer(this, m_output.getPrettyFormatting());
+            m_producers.set(producer);
+        }
+        return producer;
+    }
+
+    /**
+    * Writes every packet that has been published and is ready to be written to the stream.
+    Only one thread writes to the stream at a time; this method should normally be called
+    by the thread that owns the stream.
+    * @return The number of packets written.
+    * @exception IllegalStateException The document has been closed, or a sequence number was published more than once.
+    */
+    public final synchronized int drain() {
+        if (m_closed) {
+            throw new IllegalStateException(CesiumLocalization.getConcurrentDocumentClosed());
+        }
+        return drainPublished();
+    }
+
+    /**
+    * Writes every published packet, followed by the end of the document.  Any packets still waiting
+    for a packet with a lower sequence number are written in sequence order.  The underlying writer is not closed.
+    A packet published concurrently with this method is either written or rejected by an exception thrown to its producer.
+    * @exception IllegalStateException A sequence number was published more than once.
+    */
+    public final synchronized void dispose() {
+        if (m_closed) {
+            return;
+        }
+        // Close before the final drain, so that a packet published after the drain sees the
+        // document closed and withdraws itself.
+        m_closed = true;
+        drainPublished();
+        while (!m_waiting.isEmpty()) {
+            writePacket(m_waiting.poll().getText());
+        }
+        m_output.writeEndSequence();
+    }
+
+    final void enqueue(long sequenceNumber, @Nonnull String text) {
+        if (m_closed) {
+            throw new IllegalStateException(CesiumLocalization.getConcurrentDocumentClosed());
+        }
+        PublishedPacket packet = new PublishedPacket(sequenceNumber, text);
+        m_published.offer(packet);
+        // The document may have been closed after the check above.  If the final drain has not
+        // taken the packet, remove it again; exactly one of the two succeeds.
+        if (m_closed && m_published.remove(packet)) {
+            throw new IllegalStateException(CesiumLocalization.getConcurrentDocumentClosed());
+        }
+    }
+
+    private final int drainPublished() {
+        if (!m_started) {
+            m_output.writeStartSequence();
+            m_started = true;
+        }
+        int count = 0;
+        PublishedPacket packet;
+        while ((packet = m_published.poll()) != null) {
+            if (m_ordering == CesiumPacketOrdering.ARRIVAL) {
+                writePacket(packet.getText());
+                ++count;
+            } else {
+                if (packet.getSequenceNumber() < m_nextSequenceNumber) {
+                    throw new IllegalStateException(StringHelper.format(CesiumLocalization.getDuplicatePacketSequenceNumber(), packet.getSequenceNumber()));
+                }
+                m_waiting.add(packet);
+            }
+        }
+        while (!m_waiting.isEmpty() && m_waiting.peek().getSequenceNumber() <= m_nextSequenceNumber) {
+            packet = m_waiting.poll();
+            if (packet.getSequenceNumber() < m_nextSequenceNumber) {
+                throw new IllegalStateException(StringHelper.format(CesiumLocalization.getDuplicatePacketSequenceNumber(), packet.getSequenceNumber()));
+            }
+            writePacket(packet.getText());
+            ++m_nextSequenceNumber;
+            ++count;
+        }
+        return count;
+    }
+
+    private final void writePacket(@Nonnull String text) {
+        // Each packet was rendered as an element of a sequence, including any leading line break
+        // and indentation, so only the separator is needed here.
+        if (!m_firstPacket) {
+            TextWriterHelper.write(m_writer, ',');
+        }
+        m_firstPacket = false;
+        TextWriterHelper.write(m_writer, text);
+    }
+
+    private static final class PublishedPacket implements Comparable<PublishedPacket> {
+        public PublishedPacket(long sequenceNumber, @Nonnull String text) {
+            m_sequenceNumber = sequenceNumber;
+            m_text = text;
+        }
+
+        public final long getSequenceNumber() {
+            return m_sequenceNumber;
+        }
+
+        @Nonnull
+        public final String getText() {
+            return m_text;
+        }
+
+        public int compareTo(PublishedPacket other) {
+            return Long.compare(m_sequenceNumber, other.m_sequenceNumber);
+        }
+
+        private final long m_sequenceNumber;
+        @Nonnull
+        private final String m_text;
+    }
+
+    @Nonnull
+    private final Writer m_writer;
+    @Nonnull
+    private final CesiumOutputStream m_output;
+    @Nonnull
+    private final CesiumPacketOrdering m_ordering;
+    @Nonnull
+    private final ConcurrentLinkedQueue<PublishedPacket> m_published = new ConcurrentLinkedQueue<PublishedPacket>();
+    @Nonnull
+    private final PriorityQueue<PublishedPacket> m_waiting = new PriorityQueue<PublishedPacket>();
+    @Nonnull
+    private final ThreadLocal<CesiumPacketProducer> m_producers = ThreadHelper.createThreadLocal(null);
+    private long m_nextSequenceNumber;
+    private boolean m_started;
+    private boolean m_firstPacket = true;
+    private volatile boolean m_closed;
+}
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -170,180 +168,35 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public static final String ViewshedResolutionPropertyName = "viewshedResolution";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_innerHalfAngle = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(InnerHalfAnglePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outerHalfAngle = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OuterHalfAnglePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_minimumClockAngle = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MinimumClockAnglePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_maximumClockAngle = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MaximumClockAnglePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_radius = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(RadiusPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showIntersection = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowIntersectionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_intersectionColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(IntersectionColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_intersectionWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(IntersectionWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showLateralSurfaces = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowLateralSurfacesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_lateralSurfaceMaterial = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(LateralSurfaceMaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showEllipsoidSurfaces = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowEllipsoidSurfacesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_ellipsoidSurfaceMaterial = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(EllipsoidSurfaceMaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showEllipsoidHorizonSurfaces = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowEllipsoidHorizonSurfacesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_ellipsoidHorizonSurfaceMaterial = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(EllipsoidHorizonSurfaceMaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showDomeSurfaces = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowDomeSurfacesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_domeSurfaceMaterial = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(DomeSurfaceMaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<SensorVolumePortionToDisplayCesiumWriter> m_portionToDisplay = new Lazy<SensorVolumePortionToDisplayCesiumWriter>(new Func1<SensorVolumePortionToDisplayCesiumWriter>() {
-        public SensorVolumePortionToDisplayCesiumWriter invoke() {
-            return new SensorVolumePortionToDisplayCesiumWriter(PortionToDisplayPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_environmentConstraint = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(EnvironmentConstraintPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showEnvironmentOcclusion = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowEnvironmentOcclusionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_environmentOcclusionMaterial = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(EnvironmentOcclusionMaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showEnvironmentIntersection = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowEnvironmentIntersectionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_environmentIntersectionColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(EnvironmentIntersectionColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_environmentIntersectionWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(EnvironmentIntersectionWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showThroughEllipsoid = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowThroughEllipsoidPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showViewshed = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowViewshedPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_viewshedVisibleColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ViewshedVisibleColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_viewshedOccludedColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ViewshedOccludedColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_viewshedResolution = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(ViewshedResolutionPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private DoubleCesiumWriter m_innerHalfAngle;
+    private DoubleCesiumWriter m_outerHalfAngle;
+    private DoubleCesiumWriter m_minimumClockAngle;
+    private DoubleCesiumWriter m_maximumClockAngle;
+    private DoubleCesiumWriter m_radius;
+    private BooleanCesiumWriter m_showIntersection;
+    private ColorCesiumWriter m_intersectionColor;
+    private DoubleCesiumWriter m_intersectionWidth;
+    private BooleanCesiumWriter m_showLateralSurfaces;
+    private MaterialCesiumWriter m_lateralSurfaceMaterial;
+    private BooleanCesiumWriter m_showEllipsoidSurfaces;
+    private MaterialCesiumWriter m_ellipsoidSurfaceMaterial;
+    private BooleanCesiumWriter m_showEllipsoidHorizonSurfaces;
+    private MaterialCesiumWriter m_ellipsoidHorizonSurfaceMaterial;
+    private BooleanCesiumWriter m_showDomeSurfaces;
+    private MaterialCesiumWriter m_domeSurfaceMaterial;
+    private SensorVolumePortionToDisplayCesiumWriter m_portionToDisplay;
+    private BooleanCesiumWriter m_environmentConstraint;
+    private BooleanCesiumWriter m_showEnvironmentOcclusion;
+    private MaterialCesiumWriter m_environmentOcclusionMaterial;
+    private BooleanCesiumWriter m_showEnvironmentIntersection;
+    private ColorCesiumWriter m_environmentIntersectionColor;
+    private DoubleCesiumWriter m_environmentIntersectionWidth;
+    private BooleanCesiumWriter m_showThroughEllipsoid;
+    private BooleanCesiumWriter m_showViewshed;
+    private ColorCesiumWriter m_viewshedVisibleColor;
+    private ColorCesiumWriter m_viewshedOccludedColor;
+    private IntegerCesiumWriter m_viewshedResolution;
 
     /**
     * Initializes a new instance.
@@ -375,7 +228,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -449,7 +305,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final DoubleCesiumWriter getInnerHalfAngleWriter() {
-        return m_innerHalfAngle.getValue();
+        if (m_innerHalfAngle == null) {
+            m_innerHalfAngle = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(InnerHalfAnglePropertyName));
+        }
+        return m_innerHalfAngle;
     }
 
     /**
@@ -549,7 +408,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final DoubleCesiumWriter getOuterHalfAngleWriter() {
-        return m_outerHalfAngle.getValue();
+        if (m_outerHalfAngle == null) {
+            m_outerHalfAngle = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OuterHalfAnglePropertyName));
+        }
+        return m_outerHalfAngle;
     }
 
     /**
@@ -649,7 +511,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final DoubleCesiumWriter getMinimumClockAngleWriter() {
-        return m_minimumClockAngle.getValue();
+        if (m_minimumClockAngle == null) {
+            m_minimumClockAngle = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MinimumClockAnglePropertyName));
+        }
+        return m_minimumClockAngle;
     }
 
     /**
@@ -749,7 +614,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final DoubleCesiumWriter getMaximumClockAngleWriter() {
-        return m_maximumClockAngle.getValue();
+        if (m_maximumClockAngle == null) {
+            m_maximumClockAngle = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MaximumClockAnglePropertyName));
+        }
+        return m_maximumClockAngle;
     }
 
     /**
@@ -849,7 +717,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final DoubleCesiumWriter getRadiusWriter() {
-        return m_radius.getValue();
+        if (m_radius == null) {
+            m_radius = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(RadiusPropertyName));
+        }
+        return m_radius;
     }
 
     /**
@@ -949,7 +820,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowIntersectionWriter() {
-        return m_showIntersection.getValue();
+        if (m_showIntersection == null) {
+            m_showIntersection = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowIntersectionPropertyName));
+        }
+        return m_showIntersection;
     }
 
     /**
@@ -1023,7 +897,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final ColorCesiumWriter getIntersectionColorWriter() {
-        return m_intersectionColor.getValue();
+        if (m_intersectionColor == null) {
+            m_intersectionColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(IntersectionColorPropertyName));
+        }
+        return m_intersectionColor;
     }
 
     /**
@@ -1188,7 +1065,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final DoubleCesiumWriter getIntersectionWidthWriter() {
-        return m_intersectionWidth.getValue();
+        if (m_intersectionWidth == null) {
+            m_intersectionWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(IntersectionWidthPropertyName));
+        }
+        return m_intersectionWidth;
     }
 
     /**
@@ -1288,7 +1168,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowLateralSurfacesWriter() {
-        return m_showLateralSurfaces.getValue();
+        if (m_showLateralSurfaces == null) {
+            m_showLateralSurfaces = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowLateralSurfacesPropertyName));
+        }
+        return m_showLateralSurfaces;
     }
 
     /**
@@ -1362,7 +1245,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final MaterialCesiumWriter getLateralSurfaceMaterialWriter() {
-        return m_lateralSurfaceMaterial.getValue();
+        if (m_lateralSurfaceMaterial == null) {
+            m_lateralSurfaceMaterial = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(LateralSurfaceMaterialPropertyName));
+        }
+        return m_lateralSurfaceMaterial;
     }
 
     /**
@@ -1379,7 +1265,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowEllipsoidSurfacesWriter() {
-        return m_showEllipsoidSurfaces.getValue();
+        if (m_showEllipsoidSurfaces == null) {
+            m_showEllipsoidSurfaces = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowEllipsoidSurfacesPropertyName));
+        }
+        return m_showEllipsoidSurfaces;
     }
 
     /**
@@ -1453,7 +1342,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final MaterialCesiumWriter getEllipsoidSurfaceMaterialWriter() {
-        return m_ellipsoidSurfaceMaterial.getValue();
+        if (m_ellipsoidSurfaceMaterial == null) {
+            m_ellipsoidSurfaceMaterial = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(EllipsoidSurfaceMaterialPropertyName));
+        }
+        return m_ellipsoidSurfaceMaterial;
     }
 
     /**
@@ -1470,7 +1362,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowEllipsoidHorizonSurfacesWriter() {
-        return m_showEllipsoidHorizonSurfaces.getValue();
+        if (m_showEllipsoidHorizonSurfaces == null) {
+            m_showEllipsoidHorizonSurfaces = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowEllipsoidHorizonSurfacesPropertyName));
+        }
+        return m_showEllipsoidHorizonSurfaces;
     }
 
     /**
@@ -1544,7 +1439,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final MaterialCesiumWriter getEllipsoidHorizonSurfaceMaterialWriter() {
-        return m_ellipsoidHorizonSurfaceMaterial.getValue();
+        if (m_ellipsoidHorizonSurfaceMaterial == null) {
+            m_ellipsoidHorizonSurfaceMaterial = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(EllipsoidHorizonSurfaceMaterialPropertyName));
+        }
+        return m_ellipsoidHorizonSurfaceMaterial;
     }
 
     /**
@@ -1561,7 +1459,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowDomeSurfacesWriter() {
-        return m_showDomeSurfaces.getValue();
+        if (m_showDomeSurfaces == null) {
+            m_showDomeSurfaces = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowDomeSurfacesPropertyName));
+        }
+        return m_showDomeSurfaces;
     }
 
     /**
@@ -1635,7 +1536,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final MaterialCesiumWriter getDomeSurfaceMaterialWriter() {
-        return m_domeSurfaceMaterial.getValue();
+        if (m_domeSurfaceMaterial == null) {
+            m_domeSurfaceMaterial = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(DomeSurfaceMaterialPropertyName));
+        }
+        return m_domeSurfaceMaterial;
     }
 
     /**
@@ -1652,7 +1556,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final SensorVolumePortionToDisplayCesiumWriter getPortionToDisplayWriter() {
-        return m_portionToDisplay.getValue();
+        if (m_portionToDisplay == null) {
+            m_portionToDisplay = this.<SensorVolumePortionToDisplayCesiumWriter> addChildWriter(new SensorVolumePortionToDisplayCesiumWriter(PortionToDisplayPropertyName));
+        }
+        return m_portionToDisplay;
     }
 
     /**
@@ -1726,7 +1633,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getEnvironmentConstraintWriter() {
-        return m_environmentConstraint.getValue();
+        if (m_environmentConstraint == null) {
+            m_environmentConstraint = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(EnvironmentConstraintPropertyName));
+        }
+        return m_environmentConstraint;
     }
 
     /**
@@ -1800,7 +1710,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowEnvironmentOcclusionWriter() {
-        return m_showEnvironmentOcclusion.getValue();
+        if (m_showEnvironmentOcclusion == null) {
+            m_showEnvironmentOcclusion = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowEnvironmentOcclusionPropertyName));
+        }
+        return m_showEnvironmentOcclusion;
     }
 
     /**
@@ -1874,7 +1787,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final MaterialCesiumWriter getEnvironmentOcclusionMaterialWriter() {
-        return m_environmentOcclusionMaterial.getValue();
+        if (m_environmentOcclusionMaterial == null) {
+            m_environmentOcclusionMaterial = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(EnvironmentOcclusionMaterialPropertyName));
+        }
+        return m_environmentOcclusionMaterial;
     }
 
     /**
@@ -1891,7 +1807,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowEnvironmentIntersectionWriter() {
-        return m_showEnvironmentIntersection.getValue();
+        if (m_showEnvironmentIntersection == null) {
+            m_showEnvironmentIntersection = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowEnvironmentIntersectionPropertyName));
+        }
+        return m_showEnvironmentIntersection;
     }
 
     /**
@@ -1965,7 +1884,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final ColorCesiumWriter getEnvironmentIntersectionColorWriter() {
-        return m_environmentIntersectionColor.getValue();
+        if (m_environmentIntersectionColor == null) {
+            m_environmentIntersectionColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(EnvironmentIntersectionColorPropertyName));
+        }
+        return m_environmentIntersectionColor;
     }
 
     /**
@@ -2130,7 +2052,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final DoubleCesiumWriter getEnvironmentIntersectionWidthWriter() {
-        return m_environmentIntersectionWidth.getValue();
+        if (m_environmentIntersectionWidth == null) {
+            m_environmentIntersectionWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(EnvironmentIntersectionWidthPropertyName));
+        }
+        return m_environmentIntersectionWidth;
     }
 
     /**
@@ -2230,7 +2155,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowThroughEllipsoidWriter() {
-        return m_showThroughEllipsoid.getValue();
+        if (m_showThroughEllipsoid == null) {
+            m_showThroughEllipsoid = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowThroughEllipsoidPropertyName));
+        }
+        return m_showThroughEllipsoid;
     }
 
     /**
@@ -2304,7 +2232,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final BooleanCesiumWriter getShowViewshedWriter() {
-        return m_showViewshed.getValue();
+        if (m_showViewshed == null) {
+            m_showViewshed = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowViewshedPropertyName));
+        }
+        return m_showViewshed;
     }
 
     /**
@@ -2378,7 +2309,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final ColorCesiumWriter getViewshedVisibleColorWriter() {
-        return m_viewshedVisibleColor.getValue();
+        if (m_viewshedVisibleColor == null) {
+            m_viewshedVisibleColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ViewshedVisibleColorPropertyName));
+        }
+        return m_viewshedVisibleColor;
     }
 
     /**
@@ -2543,7 +2477,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final ColorCesiumWriter getViewshedOccludedColorWriter() {
-        return m_viewshedOccludedColor.getValue();
+        if (m_viewshedOccludedColor == null) {
+            m_viewshedOccludedColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ViewshedOccludedColorPropertyName));
+        }
+        return m_viewshedOccludedColor;
     }
 
     /**
@@ -2708,7 +2645,10 @@ public class ConicSensorCesiumWriter extends CesiumPropertyWriter<ConicSensorCes
     */
     @Nonnull
     public final IntegerCesiumWriter getViewshedResolutionWriter() {
-        return m_viewshedResolution.getValue();
+        if (m_viewshedResolution == null) {
+            m_viewshedResolution = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(ViewshedResolutionPropertyName));
+        }
+        return m_viewshedResolution;
     }
 
     /**
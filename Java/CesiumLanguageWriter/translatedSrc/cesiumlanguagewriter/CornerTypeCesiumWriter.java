@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class CornerTypeCesiumWriter extends CesiumPropertyWriter<CornerTypeCesiu
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter>> m_asCornerType;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter>> m_asReference;
+    private CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter> m_asCornerType;
+    private CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class CornerTypeCesiumWriter extends CesiumPropertyWriter<CornerTypeCesiu
     */
     public CornerTypeCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCornerType = createAsCornerType();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class CornerTypeCesiumWriter extends CesiumPropertyWriter<CornerTypeCesiu
     */
     protected CornerTypeCesiumWriter(@Nonnull CornerTypeCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCornerType = createAsCornerType();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,16 +136,10 @@ public class CornerTypeCesiumWriter extends CesiumPropertyWriter<CornerTypeCesiu
     */
     @Nonnull
     public final CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter> asCornerType() {
-        return m_asCornerType.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter>> createAsCornerType() {
-        return new Lazy<CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter>>(new Func1<CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter>>(this, "createCornerType") {
-            public CesiumCornerTypeValuePropertyAdaptor<CornerTypeCesiumWriter> invoke() {
-                return createCornerType();
-            }
-        }, false);
+        if (m_asCornerType == null) {
+            m_asCornerType = createCornerType();
+        }
+        return m_asCornerType;
     }
 
     @Nonnull
@@ -167,16 +153,10 @@ public class CornerTypeCesiumWriter extends CesiumPropertyWriter<CornerTypeCesiu
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<CornerTypeCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
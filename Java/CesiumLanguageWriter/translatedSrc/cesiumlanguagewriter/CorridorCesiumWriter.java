@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -120,114 +118,24 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public static final String ZIndexPropertyName = "zIndex";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PositionListCesiumWriter> m_positions = new Lazy<PositionListCesiumWriter>(new Func1<PositionListCesiumWriter>() {
-        public PositionListCesiumWriter invoke() {
-            return new PositionListCesiumWriter(PositionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(WidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_height = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(HeightPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_extrudedHeight = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(ExtrudedHeightPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_extrudedHeightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CornerTypeCesiumWriter> m_cornerType = new Lazy<CornerTypeCesiumWriter>(new Func1<CornerTypeCesiumWriter>() {
-        public CornerTypeCesiumWriter invoke() {
-            return new CornerTypeCesiumWriter(CornerTypePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(GranularityPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FillPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(OutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ClassificationTypeCesiumWriter> m_classificationType = new Lazy<ClassificationTypeCesiumWriter>(new Func1<ClassificationTypeCesiumWriter>() {
-        public ClassificationTypeCesiumWriter invoke() {
-            return new ClassificationTypeCesiumWriter(ClassificationTypePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_zIndex = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(ZIndexPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private PositionListCesiumWriter m_positions;
+    private DoubleCesiumWriter m_width;
+    private DoubleCesiumWriter m_height;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private DoubleCesiumWriter m_extrudedHeight;
+    private HeightReferenceCesiumWriter m_extrudedHeightReference;
+    private CornerTypeCesiumWriter m_cornerType;
+    private DoubleCesiumWriter m_granularity;
+    private BooleanCesiumWriter m_fill;
+    private MaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_outline;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private ShadowModeCesiumWriter m_shadows;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+    private ClassificationTypeCesiumWriter m_classificationType;
+    private IntegerCesiumWriter m_zIndex;
 
     /**
     * Initializes a new instance.
@@ -259,7 +167,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -333,7 +244,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final PositionListCesiumWriter getPositionsWriter() {
-        return m_positions.getValue();
+        if (m_positions == null) {
+            m_positions = this.<PositionListCesiumWriter> addChildWriter(new PositionListCesiumWriter(PositionsPropertyName));
+        }
+        return m_positions;
     }
 
     /**
@@ -394,7 +308,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getWidthWriter() {
-        return m_width.getValue();
+        if (m_width == null) {
+            m_width = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+        }
+        return m_width;
     }
 
     /**
@@ -494,7 +411,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getHeightWriter() {
-        return m_height.getValue();
+        if (m_height == null) {
+            m_height = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(HeightPropertyName));
+        }
+        return m_height;
     }
 
     /**
@@ -594,7 +514,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -668,7 +591,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getExtrudedHeightWriter() {
-        return m_extrudedHeight.getValue();
+        if (m_extrudedHeight == null) {
+            m_extrudedHeight = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(ExtrudedHeightPropertyName));
+        }
+        return m_extrudedHeight;
     }
 
     /**
@@ -768,7 +694,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getExtrudedHeightReferenceWriter() {
-        return m_extrudedHeightReference.getValue();
+        if (m_extrudedHeightReference == null) {
+            m_extrudedHeightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName));
+        }
+        return m_extrudedHeightReference;
     }
 
     /**
@@ -842,7 +771,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final CornerTypeCesiumWriter getCornerTypeWriter() {
-        return m_cornerType.getValue();
+        if (m_cornerType == null) {
+            m_cornerType = this.<CornerTypeCesiumWriter> addChildWriter(new CornerTypeCesiumWriter(CornerTypePropertyName));
+        }
+        return m_cornerType;
     }
 
     /**
@@ -916,7 +848,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getGranularityWriter() {
-        return m_granularity.getValue();
+        if (m_granularity == null) {
+            m_granularity = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+        }
+        return m_granularity;
     }
 
     /**
@@ -1016,7 +951,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getFillWriter() {
-        return m_fill.getValue();
+        if (m_fill == null) {
+            m_fill = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FillPropertyName));
+        }
+        return m_fill;
     }
 
     /**
@@ -1090,7 +1028,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final MaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -1107,7 +1048,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getOutlineWriter() {
-        return m_outline.getValue();
+        if (m_outline == null) {
+            m_outline = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+        }
+        return m_outline;
     }
 
     /**
@@ -1181,7 +1125,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -1346,7 +1293,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -1446,7 +1396,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -1520,7 +1473,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -1632,7 +1588,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final ClassificationTypeCesiumWriter getClassificationTypeWriter() {
-        return m_classificationType.getValue();
+        if (m_classificationType == null) {
+            m_classificationType = this.<ClassificationTypeCesiumWriter> addChildWriter(new ClassificationTypeCesiumWriter(ClassificationTypePropertyName));
+        }
+        return m_classificationType;
     }
 
     /**
@@ -1706,7 +1665,10 @@ public class CorridorCesiumWriter extends CesiumPropertyWriter<CorridorCesiumWri
     */
     @Nonnull
     public final IntegerCesiumWriter getZIndexWriter() {
-        return m_zIndex.getValue();
+        if (m_zIndex == null) {
+            m_zIndex = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(ZIndexPropertyName));
+        }
+        return m_zIndex;
     }
 
     /**
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.awt.Color;
 import java.awt.image.RenderedImage;
@@ -161,58 +159,32 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asBoolean;
-    @Nonnull
-    private final Lazy<CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asBoundingRectangle;
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartographicRadians;
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartographicDegrees;
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCartesian2;
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUnitCartesian;
-    @Nonnull
-    private final Lazy<CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asSpherical;
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUnitSpherical;
-    @Nonnull
-    private final Lazy<CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asRgba;
-    @Nonnull
-    private final Lazy<CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asRgbaf;
-    @Nonnull
-    private final Lazy<CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asColorBlendMode;
-    @Nonnull
-    private final Lazy<CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asCornerType;
-    @Nonnull
-    private final Lazy<CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asHeightReference;
-    @Nonnull
-    private final Lazy<CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asHorizontalOrigin;
-    @Nonnull
-    private final Lazy<CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asLabelStyle;
-    @Nonnull
-    private final Lazy<CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asNumber;
-    @Nonnull
-    private final Lazy<CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asNearFarScalar;
-    @Nonnull
-    private final Lazy<CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUnitQuaternion;
-    @Nonnull
-    private final Lazy<CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asShadowMode;
-    @Nonnull
-    private final Lazy<CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asString;
-    @Nonnull
-    private final Lazy<CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asStripeOrientation;
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asWsen;
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asWsenDegrees;
-    @Nonnull
-    private final Lazy<CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asUri;
-    @Nonnull
-    private final Lazy<CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> m_asVerticalOrigin;
+    private CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asBoolean;
+    private CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asBoundingRectangle;
+    private CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartesian;
+    private CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartographicRadians;
+    private CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartographicDegrees;
+    private CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCartesian2;
+    private CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUnitCartesian;
+    private CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asSpherical;
+    private CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUnitSpherical;
+    private CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asRgba;
+    private CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asRgbaf;
+    private CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asColorBlendMode;
+    private CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asCornerType;
+    private CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asHeightReference;
+    private CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asHorizontalOrigin;
+    private CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asLabelStyle;
+    private CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asNumber;
+    private CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asNearFarScalar;
+    private CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUnitQuaternion;
+    private CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asShadowMode;
+    private CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asString;
+    private CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asStripeOrientation;
+    private CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asWsen;
+    private CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asWsenDegrees;
+    private CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asUri;
+    private CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> m_asVerticalOrigin;
 
     /**
     * Initializes a new instance.
@@ -220,32 +192,6 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     public CustomPropertyCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asBoolean = createAsBoolean();
-        m_asBoundingRectangle = createAsBoundingRectangle();
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asCartesian2 = createAsCartesian2();
-        m_asUnitCartesian = createAsUnitCartesian();
-        m_asSpherical = createAsSpherical();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asRgba = createAsRgba();
-        m_asRgbaf = createAsRgbaf();
-        m_asColorBlendMode = createAsColorBlendMode();
-        m_asCornerType = createAsCornerType();
-        m_asHeightReference = createAsHeightReference();
-        m_asHorizontalOrigin = createAsHorizontalOrigin();
-        m_asLabelStyle = createAsLabelStyle();
-        m_asNumber = createAsNumber();
-        m_asNearFarScalar = createAsNearFarScalar();
-        m_asUnitQuaternion = createAsUnitQuaternion();
-        m_asShadowMode = createAsShadowMode();
-        m_asString = createAsString();
-        m_asStripeOrientation = createAsStripeOrientation();
-        m_asWsen = createAsWsen();
-        m_asWsenDegrees = createAsWsenDegrees();
-        m_asUri = createAsUri();
-        m_asVerticalOrigin = createAsVerticalOrigin();
     }
 
     /**
@@ -254,32 +200,6 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     protected CustomPropertyCesiumWriter(@Nonnull CustomPropertyCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asBoolean = createAsBoolean();
-        m_asBoundingRectangle = createAsBoundingRectangle();
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asCartesian2 = createAsCartesian2();
-        m_asUnitCartesian = createAsUnitCartesian();
-        m_asSpherical = createAsSpherical();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asRgba = createAsRgba();
-        m_asRgbaf = createAsRgbaf();
-        m_asColorBlendMode = createAsColorBlendMode();
-        m_asCornerType = createAsCornerType();
-        m_asHeightReference = createAsHeightReference();
-        m_asHorizontalOrigin = createAsHorizontalOrigin();
-        m_asLabelStyle = createAsLabelStyle();
-        m_asNumber = createAsNumber();
-        m_asNearFarScalar = createAsNearFarScalar();
-        m_asUnitQuaternion = createAsUnitQuaternion();
-        m_asShadowMode = createAsShadowMode();
-        m_asString = createAsString();
-        m_asStripeOrientation = createAsStripeOrientation();
-        m_asWsen = createAsWsen();
-        m_asWsenDegrees = createAsWsenDegrees();
-        m_asUri = createAsUri();
-        m_asVerticalOrigin = createAsVerticalOrigin();
     }
 
     /**
@@ -1057,16 +977,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter> asBoolean() {
-        return m_asBoolean.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsBoolean() {
-        return new Lazy<CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createBoolean") {
-            public CesiumBooleanValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createBoolean();
-            }
-        }, false);
+        if (m_asBoolean == null) {
+            m_asBoolean = createBoolean();
+        }
+        return m_asBoolean;
     }
 
     @Nonnull
@@ -1080,17 +994,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter> asBoundingRectangle() {
-        return m_asBoundingRectangle.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsBoundingRectangle() {
-        return new Lazy<CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createBoundingRectangle") {
-                    public CesiumBoundingRectangleValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createBoundingRectangle();
-                    }
-                }, false);
+        if (m_asBoundingRectangle == null) {
+            m_asBoundingRectangle = createBoundingRectangle();
+        }
+        return m_asBoundingRectangle;
     }
 
     @Nonnull
@@ -1104,16 +1011,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -1127,17 +1028,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> asCartographicRadians() {
-        return m_asCartographicRadians.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsCartographicRadians() {
-        return new Lazy<CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createCartographicRadians") {
-                    public CesiumCartographicRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createCartographicRadians();
-                    }
-                }, false);
+        if (m_asCartographicRadians == null) {
+            m_asCartographicRadians = createCartographicRadians();
+        }
+        return m_asCartographicRadians;
     }
 
     @Nonnull
@@ -1151,17 +1045,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> asCartographicDegrees() {
-        return m_asCartographicDegrees.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsCartographicDegrees() {
-        return new Lazy<CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createCartographicDegrees") {
-                    public CesiumCartographicDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createCartographicDegrees();
-                    }
-                }, false);
+        if (m_asCartographicDegrees == null) {
+            m_asCartographicDegrees = createCartographicDegrees();
+        }
+        return m_asCartographicDegrees;
     }
 
     @Nonnull
@@ -1175,16 +1062,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter> asCartesian2() {
-        return m_asCartesian2.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsCartesian2() {
-        return new Lazy<CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createCartesian2") {
-            public CesiumCartesian2ValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createCartesian2();
-            }
-        }, false);
+        if (m_asCartesian2 == null) {
+            m_asCartesian2 = createCartesian2();
+        }
+        return m_asCartesian2;
     }
 
     @Nonnull
@@ -1198,17 +1079,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> asUnitCartesian() {
-        return m_asUnitCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsUnitCartesian() {
-        return new Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createUnitCartesian3") {
-                    public CesiumUnitCartesian3ValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createUnitCartesian3();
-                    }
-                }, false);
+        if (m_asUnitCartesian == null) {
+            m_asUnitCartesian = createUnitCartesian3();
+        }
+        return m_asUnitCartesian;
     }
 
     @Nonnull
@@ -1222,16 +1096,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> asSpherical() {
-        return m_asSpherical.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsSpherical() {
-        return new Lazy<CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createSpherical") {
-            public CesiumSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createSpherical();
-            }
-        }, false);
+        if (m_asSpherical == null) {
+            m_asSpherical = createSpherical();
+        }
+        return m_asSpherical;
     }
 
     @Nonnull
@@ -1245,17 +1113,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> asUnitSpherical() {
-        return m_asUnitSpherical.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsUnitSpherical() {
-        return new Lazy<CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createUnitSpherical") {
-                    public CesiumUnitSphericalValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createUnitSpherical();
-                    }
-                }, false);
+        if (m_asUnitSpherical == null) {
+            m_asUnitSpherical = createUnitSpherical();
+        }
+        return m_asUnitSpherical;
     }
 
     @Nonnull
@@ -1269,16 +1130,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter> asRgba() {
-        return m_asRgba.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsRgba() {
-        return new Lazy<CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createRgba") {
-            public CesiumRgbaValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createRgba();
-            }
-        }, false);
+        if (m_asRgba == null) {
+            m_asRgba = createRgba();
+        }
+        return m_asRgba;
     }
 
     @Nonnull
@@ -1292,16 +1147,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter> asRgbaf() {
-        return m_asRgbaf.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsRgbaf() {
-        return new Lazy<CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createRgbaf") {
-            public CesiumRgbafValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createRgbaf();
-            }
-        }, false);
+        if (m_asRgbaf == null) {
+            m_asRgbaf = createRgbaf();
+        }
+        return m_asRgbaf;
     }
 
     @Nonnull
@@ -1315,17 +1164,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter> asColorBlendMode() {
-        return m_asColorBlendMode.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsColorBlendMode() {
-        return new Lazy<CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createColorBlendMode") {
-                    public CesiumColorBlendModeValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createColorBlendMode();
-                    }
-                }, false);
+        if (m_asColorBlendMode == null) {
+            m_asColorBlendMode = createColorBlendMode();
+        }
+        return m_asColorBlendMode;
     }
 
     @Nonnull
@@ -1339,16 +1181,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter> asCornerType() {
-        return m_asCornerType.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsCornerType() {
-        return new Lazy<CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createCornerType") {
-            public CesiumCornerTypeValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createCornerType();
-            }
-        }, false);
+        if (m_asCornerType == null) {
+            m_asCornerType = createCornerType();
+        }
+        return m_asCornerType;
     }
 
     @Nonnull
@@ -1362,17 +1198,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter> asHeightReference() {
-        return m_asHeightReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsHeightReference() {
-        return new Lazy<CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createHeightReference") {
-                    public CesiumHeightReferenceValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createHeightReference();
-                    }
-                }, false);
+        if (m_asHeightReference == null) {
+            m_asHeightReference = createHeightReference();
+        }
+        return m_asHeightReference;
     }
 
     @Nonnull
@@ -1386,17 +1215,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> asHorizontalOrigin() {
-        return m_asHorizontalOrigin.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsHorizontalOrigin() {
-        return new Lazy<CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createHorizontalOrigin") {
-                    public CesiumHorizontalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createHorizontalOrigin();
-                    }
-                }, false);
+        if (m_asHorizontalOrigin == null) {
+            m_asHorizontalOrigin = createHorizontalOrigin();
+        }
+        return m_asHorizontalOrigin;
     }
 
     @Nonnull
@@ -1410,16 +1232,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter> asLabelStyle() {
-        return m_asLabelStyle.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsLabelStyle() {
-        return new Lazy<CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createLabelStyle") {
-            public CesiumLabelStyleValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createLabelStyle();
-            }
-        }, false);
+        if (m_asLabelStyle == null) {
+            m_asLabelStyle = createLabelStyle();
+        }
+        return m_asLabelStyle;
     }
 
     @Nonnull
@@ -1433,16 +1249,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter> asNumber() {
-        return m_asNumber.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsNumber() {
-        return new Lazy<CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createDouble") {
-            public CesiumDoubleValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createDouble();
-            }
-        }, false);
+        if (m_asNumber == null) {
+            m_asNumber = createDouble();
+        }
+        return m_asNumber;
     }
 
     @Nonnull
@@ -1456,17 +1266,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter> asNearFarScalar() {
-        return m_asNearFarScalar.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsNearFarScalar() {
-        return new Lazy<CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createNearFarScalar") {
-                    public CesiumNearFarScalarValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createNearFarScalar();
-                    }
-                }, false);
+        if (m_asNearFarScalar == null) {
+            m_asNearFarScalar = createNearFarScalar();
+        }
+        return m_asNearFarScalar;
     }
 
     @Nonnull
@@ -1480,17 +1283,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter> asUnitQuaternion() {
-        return m_asUnitQuaternion.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsUnitQuaternion() {
-        return new Lazy<CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createUnitQuaternion") {
-                    public CesiumUnitQuaternionValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createUnitQuaternion();
-                    }
-                }, false);
+        if (m_asUnitQuaternion == null) {
+            m_asUnitQuaternion = createUnitQuaternion();
+        }
+        return m_asUnitQuaternion;
     }
 
     @Nonnull
@@ -1504,16 +1300,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter> asShadowMode() {
-        return m_asShadowMode.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsShadowMode() {
-        return new Lazy<CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createShadowMode") {
-            public CesiumShadowModeValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createShadowMode();
-            }
-        }, false);
+        if (m_asShadowMode == null) {
+            m_asShadowMode = createShadowMode();
+        }
+        return m_asShadowMode;
     }
 
     @Nonnull
@@ -1527,16 +1317,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter> asString() {
-        return m_asString.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsString() {
-        return new Lazy<CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createString") {
-            public CesiumStringValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createString();
-            }
-        }, false);
+        if (m_asString == null) {
+            m_asString = createString();
+        }
+        return m_asString;
     }
 
     @Nonnull
@@ -1550,17 +1334,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter> asStripeOrientation() {
-        return m_asStripeOrientation.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsStripeOrientation() {
-        return new Lazy<CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createStripeOrientation") {
-                    public CesiumStripeOrientationValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createStripeOrientation();
-                    }
-                }, false);
+        if (m_asStripeOrientation == null) {
+            m_asStripeOrientation = createStripeOrientation();
+        }
+        return m_asStripeOrientation;
     }
 
     @Nonnull
@@ -1574,17 +1351,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> asWsen() {
-        return m_asWsen.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsWsen() {
-        return new Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createCartographicRectangleRadians") {
-                    public CesiumCartographicRectangleRadiansValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createCartographicRectangleRadians();
-                    }
-                }, false);
+        if (m_asWsen == null) {
+            m_asWsen = createCartographicRectangleRadians();
+        }
+        return m_asWsen;
     }
 
     @Nonnull
@@ -1598,17 +1368,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> asWsenDegrees() {
-        return m_asWsenDegrees.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsWsenDegrees() {
-        return new Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createCartographicRectangleDegrees") {
-                    public CesiumCartographicRectangleDegreesValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createCartographicRectangleDegrees();
-                    }
-                }, false);
+        if (m_asWsenDegrees == null) {
+            m_asWsenDegrees = createCartographicRectangleDegrees();
+        }
+        return m_asWsenDegrees;
     }
 
     @Nonnull
@@ -1622,16 +1385,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter> asUri() {
-        return m_asUri.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsUri() {
-        return new Lazy<CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter>>(new Func1<CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createUri") {
-            public CesiumUriValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                return createUri();
-            }
-        }, false);
+        if (m_asUri == null) {
+            m_asUri = createUri();
+        }
+        return m_asUri;
     }
 
     @Nonnull
@@ -1645,17 +1402,10 @@ public class CustomPropertyCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> asVerticalOrigin() {
-        return m_asVerticalOrigin.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>> createAsVerticalOrigin() {
-        return new Lazy<CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>>(
-                new Func1<CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter>>(this, "createVerticalOrigin") {
-                    public CesiumVerticalOriginValuePropertyAdaptor<CustomPropertyCesiumWriter> invoke() {
-                        return createVerticalOrigin();
-                    }
-                }, false);
+        if (m_asVerticalOrigin == null) {
+            m_asVerticalOrigin = createVerticalOrigin();
+        }
+        return m_asVerticalOrigin;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -97,90 +95,20 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public static final String DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_length = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(LengthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_topRadius = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(TopRadiusPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_bottomRadius = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(BottomRadiusPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FillPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(OutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_numberOfVerticalLines = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(NumberOfVerticalLinesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_slices = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(SlicesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private DoubleCesiumWriter m_length;
+    private DoubleCesiumWriter m_topRadius;
+    private DoubleCesiumWriter m_bottomRadius;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private BooleanCesiumWriter m_fill;
+    private MaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_outline;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private IntegerCesiumWriter m_numberOfVerticalLines;
+    private IntegerCesiumWriter m_slices;
+    private ShadowModeCesiumWriter m_shadows;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
     /**
     * Initializes a new instance.
@@ -212,7 +140,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -286,7 +217,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getLengthWriter() {
-        return m_length.getValue();
+        if (m_length == null) {
+            m_length = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(LengthPropertyName));
+        }
+        return m_length;
     }
 
     /**
@@ -386,7 +320,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getTopRadiusWriter() {
-        return m_topRadius.getValue();
+        if (m_topRadius == null) {
+            m_topRadius = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(TopRadiusPropertyName));
+        }
+        return m_topRadius;
     }
 
     /**
@@ -486,7 +423,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getBottomRadiusWriter() {
-        return m_bottomRadius.getValue();
+        if (m_bottomRadius == null) {
+            m_bottomRadius = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(BottomRadiusPropertyName));
+        }
+        return m_bottomRadius;
     }
 
     /**
@@ -586,7 +526,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -660,7 +603,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getFillWriter() {
-        return m_fill.getValue();
+        if (m_fill == null) {
+            m_fill = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FillPropertyName));
+        }
+        return m_fill;
     }
 
     /**
@@ -734,7 +680,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final MaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -751,7 +700,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getOutlineWriter() {
-        return m_outline.getValue();
+        if (m_outline == null) {
+            m_outline = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+        }
+        return m_outline;
     }
 
     /**
@@ -825,7 +777,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -990,7 +945,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -1090,7 +1048,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final IntegerCesiumWriter getNumberOfVerticalLinesWriter() {
-        return m_numberOfVerticalLines.getValue();
+        if (m_numberOfVerticalLines == null) {
+            m_numberOfVerticalLines = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(NumberOfVerticalLinesPropertyName));
+        }
+        return m_numberOfVerticalLines;
     }
 
     /**
@@ -1190,7 +1151,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final IntegerCesiumWriter getSlicesWriter() {
-        return m_slices.getValue();
+        if (m_slices == null) {
+            m_slices = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(SlicesPropertyName));
+        }
+        return m_slices;
     }
 
     /**
@@ -1290,7 +1254,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -1364,7 +1331,10 @@ public class CylinderCesiumWriter extends CesiumPropertyWriter<CylinderCesiumWri
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
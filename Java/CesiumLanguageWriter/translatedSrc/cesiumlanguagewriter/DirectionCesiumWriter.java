@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -48,16 +46,11 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter>> m_asSpherical;
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter>> m_asUnitSpherical;
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> m_asUnitCartesian;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter>> m_asReference;
+    private CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter> m_asSpherical;
+    private CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter> m_asUnitSpherical;
+    private CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> m_asCartesian;
+    private CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> m_asUnitCartesian;
+    private CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -65,11 +58,6 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     public DirectionCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asSpherical = createAsSpherical();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asCartesian = createAsCartesian();
-        m_asUnitCartesian = createAsUnitCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -78,11 +66,6 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     protected DirectionCesiumWriter(@Nonnull DirectionCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asSpherical = createAsSpherical();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asCartesian = createAsCartesian();
-        m_asUnitCartesian = createAsUnitCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -289,16 +272,10 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     @Nonnull
     public final CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter> asSpherical() {
-        return m_asSpherical.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter>> createAsSpherical() {
-        return new Lazy<CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter>>(new Func1<CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter>>(this, "createSpherical") {
-            public CesiumSphericalValuePropertyAdaptor<DirectionCesiumWriter> invoke() {
-                return createSpherical();
-            }
-        }, false);
+        if (m_asSpherical == null) {
+            m_asSpherical = createSpherical();
+        }
+        return m_asSpherical;
     }
 
     @Nonnull
@@ -312,16 +289,10 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     @Nonnull
     public final CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter> asUnitSpherical() {
-        return m_asUnitSpherical.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter>> createAsUnitSpherical() {
-        return new Lazy<CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter>>(new Func1<CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter>>(this, "createUnitSpherical") {
-            public CesiumUnitSphericalValuePropertyAdaptor<DirectionCesiumWriter> invoke() {
-                return createUnitSpherical();
-            }
-        }, false);
+        if (m_asUnitSpherical == null) {
+            m_asUnitSpherical = createUnitSpherical();
+        }
+        return m_asUnitSpherical;
     }
 
     @Nonnull
@@ -335,16 +306,10 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -358,16 +323,10 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     @Nonnull
     public final CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> asUnitCartesian() {
-        return m_asUnitCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>> createAsUnitCartesian() {
-        return new Lazy<CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>>(new Func1<CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter>>(this, "createUnitCartesian3") {
-            public CesiumUnitCartesian3ValuePropertyAdaptor<DirectionCesiumWriter> invoke() {
-                return createUnitCartesian3();
-            }
-        }, false);
+        if (m_asUnitCartesian == null) {
+            m_asUnitCartesian = createUnitCartesian3();
+        }
+        return m_asUnitCartesian;
     }
 
     @Nonnull
@@ -381,16 +340,10 @@ public class DirectionCesiumWriter extends CesiumInterpolatablePropertyWriter<Di
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<DirectionCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -42,14 +40,10 @@ public class DirectionListCesiumWriter extends CesiumPropertyWriter<DirectionLis
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asSpherical;
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asUnitSpherical;
-    @Nonnull
-    private final Lazy<CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> m_asUnitCartesian;
+    private CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> m_asSpherical;
+    private CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> m_asUnitSpherical;
+    private CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> m_asCartesian;
+    private CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> m_asUnitCartesian;
 
     /**
     * Initializes a new instance.
@@ -57,10 +51,6 @@ public class DirectionListCesiumWriter extends CesiumPropertyWriter<DirectionLis
     */
     public DirectionListCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asSpherical = createAsSpherical();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asCartesian = createAsCartesian();
-        m_asUnitCartesian = createAsUnitCartesian();
     }
 
     /**
@@ -69,10 +59,6 @@ public class DirectionListCesiumWriter extends CesiumPropertyWriter<DirectionLis
     */
     protected DirectionListCesiumWriter(@Nonnull DirectionListCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asSpherical = createAsSpherical();
-        m_asUnitSpherical = createAsUnitSpherical();
-        m_asCartesian = createAsCartesian();
-        m_asUnitCartesian = createAsUnitCartesian();
     }
 
     /**
@@ -145,16 +131,10 @@ public class DirectionListCesiumWriter extends CesiumPropertyWriter<DirectionLis
     */
     @Nonnull
     public final CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> asSpherical() {
-        return m_asSpherical.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> createAsSpherical() {
-        return new Lazy<CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>>(new Func1<CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>>(this, "createSphericalList") {
-            public CesiumSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> invoke() {
-                return createSphericalList();
-            }
-        }, false);
+        if (m_asSpherical == null) {
+            m_asSpherical = createSphericalList();
+        }
+        return m_asSpherical;
     }
 
     @Nonnull
@@ -168,17 +148,10 @@ public class DirectionListCesiumWriter extends CesiumPropertyWriter<DirectionLis
     */
     @Nonnull
     public final CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> asUnitSpherical() {
-        return m_asUnitSpherical.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>> createAsUnitSpherical() {
-        return new Lazy<CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>>(
-                new Func1<CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter>>(this, "createUnitSphericalList") {
-                    public CesiumUnitSphericalListValuePropertyAdaptor<DirectionListCesiumWriter> invoke() {
-                        return createUnitSphericalList();
-                    }
-                }, false);
+        if (m_asUnitSpherical == null) {
+            m_asUnitSpherical = createUnitSphericalList();
+        }
+        return m_asUnitSpherical;
     }
 
     @Nonnull
@@ -192,17 +165,10 @@ public class DirectionListCesiumWriter extends CesiumPropertyWriter<DirectionLis
     */
     @Nonnull
     public final CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>>(
-                new Func1<CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>>(this, "createCartesian3List") {
-                    public CesiumCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> invoke() {
-                        return createCartesian3List();
-                    }
-                }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3List();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -216,17 +182,10 @@ public class DirectionListCesiumWriter extends CesiumPropertyWriter<DirectionLis
     */
     @Nonnull
     public final CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> asUnitCartesian() {
-        return m_asUnitCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>> createAsUnitCartesian() {
-        return new Lazy<CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>>(
-                new Func1<CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter>>(this, "createUnitCartesian3List") {
-                    public CesiumUnitCartesian3ListValuePropertyAdaptor<DirectionListCesiumWriter> invoke() {
-                        return createUnitCartesian3List();
-                    }
-                }, false);
+        if (m_asUnitCartesian == null) {
+            m_asUnitCartesian = createUnitCartesian3List();
+        }
+        return m_asUnitCartesian;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class DistanceDisplayConditionCesiumWriter extends CesiumInterpolatablePr
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> m_asDistanceDisplayCondition;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> m_asReference;
+    private CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> m_asDistanceDisplayCondition;
+    private CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class DistanceDisplayConditionCesiumWriter extends CesiumInterpolatablePr
     */
     public DistanceDisplayConditionCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asDistanceDisplayCondition = createAsDistanceDisplayCondition();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class DistanceDisplayConditionCesiumWriter extends CesiumInterpolatablePr
     */
     protected DistanceDisplayConditionCesiumWriter(@Nonnull DistanceDisplayConditionCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asDistanceDisplayCondition = createAsDistanceDisplayCondition();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -172,17 +164,10 @@ public class DistanceDisplayConditionCesiumWriter extends CesiumInterpolatablePr
     */
     @Nonnull
     public final CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> asDistanceDisplayCondition() {
-        return m_asDistanceDisplayCondition.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> createAsDistanceDisplayCondition() {
-        return new Lazy<CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>>(
-                new Func1<CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>>(this, "createDistanceDisplayCondition") {
-                    public CesiumDistanceDisplayConditionValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> invoke() {
-                        return createDistanceDisplayCondition();
-                    }
-                }, false);
+        if (m_asDistanceDisplayCondition == null) {
+            m_asDistanceDisplayCondition = createDistanceDisplayCondition();
+        }
+        return m_asDistanceDisplayCondition;
     }
 
     @Nonnull
@@ -196,17 +181,10 @@ public class DistanceDisplayConditionCesiumWriter extends CesiumInterpolatablePr
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>>(
-                new Func1<CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter>>(this, "createReference") {
-                    public CesiumReferenceValuePropertyAdaptor<DistanceDisplayConditionCesiumWriter> invoke() {
-                        return createReference();
-                    }
-                }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class DoubleCesiumWriter extends CesiumInterpolatablePropertyWriter<Doubl
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>> m_asNumber;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter>> m_asReference;
+    private CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter> m_asNumber;
+    private CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class DoubleCesiumWriter extends CesiumInterpolatablePropertyWriter<Doubl
     */
     public DoubleCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asNumber = createAsNumber();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class DoubleCesiumWriter extends CesiumInterpolatablePropertyWriter<Doubl
     */
     protected DoubleCesiumWriter(@Nonnull DoubleCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asNumber = createAsNumber();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -104,6 +96,28 @@ public class DoubleCesiumWriter extends CesiumInterpolatablePropertyWriter<Doubl
         CesiumWritingHelper.writeDouble(getOutput(), PropertyName, dates, values, startIndex, length);
     }
 
+    /**
+    * Writes the value expressed as a {@code number}, which is the number.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    */
+    public final void writeNumber(@Nonnull SharedTimeGrid grid, List<Double> values) {
+        writeNumber(grid, values, 0, grid.getCount());
+    }
+
+    /**
+    * Writes the value expressed as a {@code number}, which is the number.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeNumber(@Nonnull SharedTimeGrid grid, List<Double> values, int startIndex, int length) {
+        final String PropertyName = NumberPropertyName;
+        openIntervalIfNecessary();
+        CesiumWritingHelper.writeDouble(getOutput(), PropertyName, grid, values, startIndex, length);
+    }
+
     /**
     * Writes the value expressed as a {@code reference}, which is the number specified as a reference to another property.
     * @param value The reference.
@@ -167,16 +181,10 @@ public class DoubleCesiumWriter extends CesiumInterpolatablePropertyWriter<Doubl
     */
     @Nonnull
     public final CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter> asNumber() {
-        return m_asNumber.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>> createAsNumber() {
-        return new Lazy<CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>>(new Func1<CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>>(this, "createDouble") {
-            public CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter> invoke() {
-                return createDouble();
-            }
-        }, false);
+        if (m_asNumber == null) {
+            m_asNumber = createDouble();
+        }
+        return m_asNumber;
     }
 
     @Nonnull
@@ -190,16 +198,10 @@ public class DoubleCesiumWriter extends CesiumInterpolatablePropertyWriter<Doubl
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<DoubleCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class DoubleListCesiumWriter extends CesiumPropertyWriter<DoubleListCesiu
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter>> m_asArray;
-    @Nonnull
-    private final Lazy<CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter>> m_asReferences;
+    private CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter> m_asArray;
+    private CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter> m_asReferences;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class DoubleListCesiumWriter extends CesiumPropertyWriter<DoubleListCesiu
     */
     public DoubleListCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asArray = createAsArray();
-        m_asReferences = createAsReferences();
     }
 
     /**
@@ -53,8 +47,6 @@ public class DoubleListCesiumWriter extends CesiumPropertyWriter<DoubleListCesiu
     */
     protected DoubleListCesiumWriter(@Nonnull DoubleListCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asArray = createAsArray();
-        m_asReferences = createAsReferences();
     }
 
     /**
@@ -105,16 +97,10 @@ public class DoubleListCesiumWriter extends CesiumPropertyWriter<DoubleListCesiu
     */
     @Nonnull
     public final CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter> asArray() {
-        return m_asArray.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter>> createAsArray() {
-        return new Lazy<CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter>>(new Func1<CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter>>(this, "createDoubleList") {
-            public CesiumDoubleListValuePropertyAdaptor<DoubleListCesiumWriter> invoke() {
-                return createDoubleList();
-            }
-        }, false);
+        if (m_asArray == null) {
+            m_asArray = createDoubleList();
+        }
+        return m_asArray;
     }
 
     @Nonnull
@@ -128,16 +114,10 @@ public class DoubleListCesiumWriter extends CesiumPropertyWriter<DoubleListCesiu
     */
     @Nonnull
     public final CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter> asReferences() {
-        return m_asReferences.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter>> createAsReferences() {
-        return new Lazy<CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter>>(new Func1<CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter>>(this, "createReferenceList") {
-            public CesiumReferenceListValuePropertyAdaptor<DoubleListCesiumWriter> invoke() {
-                return createReferenceList();
-            }
-        }, false);
+        if (m_asReferences == null) {
+            m_asReferences = createReferenceList();
+        }
+        return m_asReferences;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -118,114 +116,24 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public static final String DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<EllipsoidRadiiCesiumWriter> m_radii = new Lazy<EllipsoidRadiiCesiumWriter>(new Func1<EllipsoidRadiiCesiumWriter>() {
-        public EllipsoidRadiiCesiumWriter invoke() {
-            return new EllipsoidRadiiCesiumWriter(RadiiPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<EllipsoidRadiiCesiumWriter> m_innerRadii = new Lazy<EllipsoidRadiiCesiumWriter>(new Func1<EllipsoidRadiiCesiumWriter>() {
-        public EllipsoidRadiiCesiumWriter invoke() {
-            return new EllipsoidRadiiCesiumWriter(InnerRadiiPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_minimumClock = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MinimumClockPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_maximumClock = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MaximumClockPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_minimumCone = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MinimumConePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_maximumCone = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MaximumConePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FillPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(OutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_stackPartitions = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(StackPartitionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_slicePartitions = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(SlicePartitionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_subdivisions = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(SubdivisionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private EllipsoidRadiiCesiumWriter m_radii;
+    private EllipsoidRadiiCesiumWriter m_innerRadii;
+    private DoubleCesiumWriter m_minimumClock;
+    private DoubleCesiumWriter m_maximumClock;
+    private DoubleCesiumWriter m_minimumCone;
+    private DoubleCesiumWriter m_maximumCone;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private BooleanCesiumWriter m_fill;
+    private MaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_outline;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private IntegerCesiumWriter m_stackPartitions;
+    private IntegerCesiumWriter m_slicePartitions;
+    private IntegerCesiumWriter m_subdivisions;
+    private ShadowModeCesiumWriter m_shadows;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
     /**
     * Initializes a new instance.
@@ -257,7 +165,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -331,7 +242,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final EllipsoidRadiiCesiumWriter getRadiiWriter() {
-        return m_radii.getValue();
+        if (m_radii == null) {
+            m_radii = this.<EllipsoidRadiiCesiumWriter> addChildWriter(new EllipsoidRadiiCesiumWriter(RadiiPropertyName));
+        }
+        return m_radii;
     }
 
     /**
@@ -431,7 +345,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final EllipsoidRadiiCesiumWriter getInnerRadiiWriter() {
-        return m_innerRadii.getValue();
+        if (m_innerRadii == null) {
+            m_innerRadii = this.<EllipsoidRadiiCesiumWriter> addChildWriter(new EllipsoidRadiiCesiumWriter(InnerRadiiPropertyName));
+        }
+        return m_innerRadii;
     }
 
     /**
@@ -531,7 +448,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getMinimumClockWriter() {
-        return m_minimumClock.getValue();
+        if (m_minimumClock == null) {
+            m_minimumClock = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MinimumClockPropertyName));
+        }
+        return m_minimumClock;
     }
 
     /**
@@ -631,7 +551,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getMaximumClockWriter() {
-        return m_maximumClock.getValue();
+        if (m_maximumClock == null) {
+            m_maximumClock = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MaximumClockPropertyName));
+        }
+        return m_maximumClock;
     }
 
     /**
@@ -731,7 +654,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getMinimumConeWriter() {
-        return m_minimumCone.getValue();
+        if (m_minimumCone == null) {
+            m_minimumCone = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MinimumConePropertyName));
+        }
+        return m_minimumCone;
     }
 
     /**
@@ -831,7 +757,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getMaximumConeWriter() {
-        return m_maximumCone.getValue();
+        if (m_maximumCone == null) {
+            m_maximumCone = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MaximumConePropertyName));
+        }
+        return m_maximumCone;
     }
 
     /**
@@ -931,7 +860,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -1005,7 +937,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final BooleanCesiumWriter getFillWriter() {
-        return m_fill.getValue();
+        if (m_fill == null) {
+            m_fill = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FillPropertyName));
+        }
+        return m_fill;
     }
 
     /**
@@ -1079,7 +1014,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final MaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -1096,7 +1034,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final BooleanCesiumWriter getOutlineWriter() {
-        return m_outline.getValue();
+        if (m_outline == null) {
+            m_outline = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+        }
+        return m_outline;
     }
 
     /**
@@ -1170,7 +1111,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -1335,7 +1279,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -1435,7 +1382,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final IntegerCesiumWriter getStackPartitionsWriter() {
-        return m_stackPartitions.getValue();
+        if (m_stackPartitions == null) {
+            m_stackPartitions = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(StackPartitionsPropertyName));
+        }
+        return m_stackPartitions;
     }
 
     /**
@@ -1535,7 +1485,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final IntegerCesiumWriter getSlicePartitionsWriter() {
-        return m_slicePartitions.getValue();
+        if (m_slicePartitions == null) {
+            m_slicePartitions = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(SlicePartitionsPropertyName));
+        }
+        return m_slicePartitions;
     }
 
     /**
@@ -1635,7 +1588,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final IntegerCesiumWriter getSubdivisionsWriter() {
-        return m_subdivisions.getValue();
+        if (m_subdivisions == null) {
+            m_subdivisions = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(SubdivisionsPropertyName));
+        }
+        return m_subdivisions;
     }
 
     /**
@@ -1735,7 +1691,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -1809,7 +1768,10 @@ public class EllipsoidCesiumWriter extends CesiumPropertyWriter<EllipsoidCesiumW
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
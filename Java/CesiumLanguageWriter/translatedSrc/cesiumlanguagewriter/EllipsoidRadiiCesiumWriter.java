@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class EllipsoidRadiiCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> m_asReference;
+    private CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> m_asCartesian;
+    private CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class EllipsoidRadiiCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     public EllipsoidRadiiCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class EllipsoidRadiiCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     protected EllipsoidRadiiCesiumWriter(@Nonnull EllipsoidRadiiCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,16 +155,10 @@ public class EllipsoidRadiiCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -186,16 +172,10 @@ public class EllipsoidRadiiCesiumWriter extends CesiumInterpolatablePropertyWrit
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<EllipsoidRadiiCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
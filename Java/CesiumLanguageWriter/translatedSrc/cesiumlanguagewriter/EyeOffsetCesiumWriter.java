@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class EyeOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<Ey
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter>> m_asReference;
+    private CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter> m_asCartesian;
+    private CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class EyeOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<Ey
     */
     public EyeOffsetCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class EyeOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<Ey
     */
     protected EyeOffsetCesiumWriter(@Nonnull EyeOffsetCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,16 +155,10 @@ public class EyeOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<Ey
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<EyeOffsetCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -186,16 +172,10 @@ public class EyeOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<Ey
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<EyeOffsetCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
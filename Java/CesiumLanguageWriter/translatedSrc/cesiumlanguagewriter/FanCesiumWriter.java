@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -75,66 +73,16 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public static final String NumberOfRingsPropertyName = "numberOfRings";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DirectionListCesiumWriter> m_directions = new Lazy<DirectionListCesiumWriter>(new Func1<DirectionListCesiumWriter>() {
-        public DirectionListCesiumWriter invoke() {
-            return new DirectionListCesiumWriter(DirectionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_radius = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(RadiusPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_perDirectionRadius = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(PerDirectionRadiusPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FillPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(OutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_numberOfRings = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(NumberOfRingsPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private DirectionListCesiumWriter m_directions;
+    private DoubleCesiumWriter m_radius;
+    private BooleanCesiumWriter m_perDirectionRadius;
+    private MaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_fill;
+    private BooleanCesiumWriter m_outline;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private IntegerCesiumWriter m_numberOfRings;
 
     /**
     * Initializes a new instance.
@@ -166,7 +114,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -240,7 +191,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final DirectionListCesiumWriter getDirectionsWriter() {
-        return m_directions.getValue();
+        if (m_directions == null) {
+            m_directions = this.<DirectionListCesiumWriter> addChildWriter(new DirectionListCesiumWriter(DirectionsPropertyName));
+        }
+        return m_directions;
     }
 
     /**
@@ -301,7 +255,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getRadiusWriter() {
-        return m_radius.getValue();
+        if (m_radius == null) {
+            m_radius = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(RadiusPropertyName));
+        }
+        return m_radius;
     }
 
     /**
@@ -401,7 +358,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getPerDirectionRadiusWriter() {
-        return m_perDirectionRadius.getValue();
+        if (m_perDirectionRadius == null) {
+            m_perDirectionRadius = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(PerDirectionRadiusPropertyName));
+        }
+        return m_perDirectionRadius;
     }
 
     /**
@@ -475,7 +435,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final MaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -492,7 +455,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getFillWriter() {
-        return m_fill.getValue();
+        if (m_fill == null) {
+            m_fill = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FillPropertyName));
+        }
+        return m_fill;
     }
 
     /**
@@ -566,7 +532,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getOutlineWriter() {
-        return m_outline.getValue();
+        if (m_outline == null) {
+            m_outline = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+        }
+        return m_outline;
     }
 
     /**
@@ -640,7 +609,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -805,7 +777,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -905,7 +880,10 @@ public class FanCesiumWriter extends CesiumPropertyWriter<FanCesiumWriter> {
     */
     @Nonnull
     public final IntegerCesiumWriter getNumberOfRingsWriter() {
-        return m_numberOfRings.getValue();
+        if (m_numberOfRings == null) {
+            m_numberOfRings = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(NumberOfRingsPropertyName));
+        }
+        return m_numberOfRings;
     }
 
     /**
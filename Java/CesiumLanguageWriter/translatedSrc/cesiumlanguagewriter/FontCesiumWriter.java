@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -31,10 +29,8 @@ public class FontCesiumWriter extends CesiumPropertyWriter<FontCesiumWriter> imp
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumFontValuePropertyAdaptor<FontCesiumWriter>> m_asFont;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<FontCesiumWriter>> m_asReference;
+    private CesiumFontValuePropertyAdaptor<FontCesiumWriter> m_asFont;
+    private CesiumReferenceValuePropertyAdaptor<FontCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -42,8 +38,6 @@ public class FontCesiumWriter extends CesiumPropertyWriter<FontCesiumWriter> imp
     */
     public FontCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asFont = createAsFont();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -52,8 +46,6 @@ public class FontCesiumWriter extends CesiumPropertyWriter<FontCesiumWriter> imp
     */
     protected FontCesiumWriter(@Nonnull FontCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asFont = createAsFont();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -143,16 +135,10 @@ public class FontCesiumWriter extends CesiumPropertyWriter<FontCesiumWriter> imp
     */
     @Nonnull
     public final CesiumFontValuePropertyAdaptor<FontCesiumWriter> asFont() {
-        return m_asFont.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumFontValuePropertyAdaptor<FontCesiumWriter>> createAsFont() {
-        return new Lazy<CesiumFontValuePropertyAdaptor<FontCesiumWriter>>(new Func1<CesiumFontValuePropertyAdaptor<FontCesiumWriter>>(this, "createFont") {
-            public CesiumFontValuePropertyAdaptor<FontCesiumWriter> invoke() {
-                return createFont();
-            }
-        }, false);
+        if (m_asFont == null) {
+            m_asFont = createFont();
+        }
+        return m_asFont;
     }
 
     @Nonnull
@@ -166,16 +152,10 @@ public class FontCesiumWriter extends CesiumPropertyWriter<FontCesiumWriter> imp
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<FontCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<FontCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<FontCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<FontCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<FontCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
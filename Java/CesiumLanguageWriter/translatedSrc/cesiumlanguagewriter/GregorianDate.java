@@ -22,7 +22,9 @@ import java.time.ZonedDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -1238,6 +1240,40 @@ public final class GregorianDate implements Comparable<GregorianDate>, IEquatabl
 
         @Nonnull
         public static String toString(@Nonnull GregorianDate dt, @Nullable String format, @Nullable Locale provider) {
+            CompiledFormat compiledFormat = getCompiledFormat(format, provider);
+            StringBuilder result = s_formatBuffer.get();
+            result.setLength(0);
+            compiledFormat.append(result, dt);
+            String formatted = result.toString();
+            if (result.capacity() > MaximumFormatBufferCapacity) {
+                s_formatBuffer.set(new StringBuilder(InitialFormatBufferCapacity));
+            }
+            return formatted;
+        }
+
+        /**
+        * Gets the compiled form of a format string for a culture, compiling it on first use.  Compiled
+        formats are cached per thread, so that the common case of formatting many dates with the same
+        few patterns interprets each pattern only once.
+        */
+        @Nonnull
+        private static CompiledFormat getCompiledFormat(@Nullable String format, @Nullable Locale provider) {
+            Locale locale = provider == null ? CultureInfoHelper.getCurrentCulture() : provider;
+            HashMap<FormatKey, CompiledFormat> cache = s_compiledFormats.get();
+            FormatKey key = new FormatKey(format, locale);
+            CompiledFormat compiledFormat = cache.get(key);
+            if (compiledFormat == null) {
+                compiledFormat = compileFormat(format, locale);
+                if (cache.size() >= MaximumCompiledFormats) {
+                    cache.clear();
+                }
+                cache.put(key, compiledFormat);
+            }
+            return compiledFormat;
+        }
+
+        @Nonnull
+        private static CompiledFormat compileFormat(@Nullable String format, @Nonnull Locale provider) {
             DateTimeFormatInfo dfi = DateTimeFormatInfo.getInstance(provider);
             NumberFormatInfo nfi = NumberFormatInfo.getInstance(provider);
             if (StringHelper.isNullOrEmpty(format)) {
@@ -1254,43 +1290,38 @@ public final class GregorianDate implements Comparable<GregorianDate>, IEquatabl
                     throw new NumberFormatException(StringHelper.format(CesiumLocalization.getGregorianDateInvalidFormatSpecifier(), fchar));
                 }
             }
-            // the length of the format is usually a good guess of the number
-            // of chars in the result. Might save us a few bytes sometimes
-            // Add + 10 for cases like mmmm dddd
-            StringBuilder result = StringHelper.createStringBuilder(format.length() + 10);
             // For some cases, the output should not use culture dependent calendar
             if (useInvariant) {
                 dfi = DateTimeFormatInfo.getInvariantInfo();
                 nfi = NumberFormatInfo.getInvariantInfo();
             }
+            ArrayList<FormatOperation> operations = new ArrayList<FormatOperation>();
+            StringBuilder literal = new StringBuilder();
             int i = 0;
             while (i < format.length()) {
                 int tokLen;
                 char ch = format.charAt(i);
+                FormatOperation operation = null;
                 // catch all
                 switch (ch) {
                 case 'h': {
                     tokLen = countRepeat(format, i, ch);
-                    int hr = dt.getHour() % 12;
-                    if (hr == 0) {
-                        hr = 12;
-                    }
-                    zeroPad(result, hr, tokLen == 1 ? 1 : 2);
+                    operation = new FormatOperation(FormatOperation.Hour12, tokLen == 1 ? 1 : 2);
                     break;
                 }
                 case 'H': {
                     tokLen = countRepeat(format, i, ch);
-                    zeroPad(result, dt.getHour(), tokLen == 1 ? 1 : 2);
+                    operation = new FormatOperation(FormatOperation.Hour24, tokLen == 1 ? 1 : 2);
                     break;
                 }
                 case 'm': {
                     tokLen = countRepeat(format, i, ch);
-                    zeroPad(result, dt.getMinute(), tokLen == 1 ? 1 : 2);
+                    operation = new FormatOperation(FormatOperation.Minute, tokLen == 1 ? 1 : 2);
                     break;
                 }
                 case 's': {
                     tokLen = countRepeat(format, i, ch);
-                    zeroPad(result, (int) dt.getSecond(), tokLen == 1 ? 1 : 2);
+                    operation = new FormatOperation(FormatOperation.Second, tokLen == 1 ? 1 : 2);
                     break;
                 }
                 case 'F':
@@ -1299,100 +1330,61 @@ public final class GregorianDate implements Comparable<GregorianDate>, IEquatabl
                     if (tokLen > 15) {
                         throw new NumberFormatException(CesiumLocalization.getGregorianDateFormatInvalid());
                     }
-                    int startLen = result.length();
-                    String formattedSeconds = DoubleHelper.toString(dt.getSecond(), "R", provider);
-                    formattedSeconds = StringFormatting.toNonExponentialNotation(nfi, formattedSeconds);
-                    int indexOfDecimalPoint = StringHelper.indexOf(formattedSeconds, nfi.getNumberDecimalSeparator(), StringComparison.CURRENT_CULTURE);
-                    if (indexOfDecimalPoint == -1) {
-                        indexOfDecimalPoint = formattedSeconds.length();
-                    }
-                    int digitsAfterDecimalPoint = formattedSeconds.length() - indexOfDecimalPoint - 1;
-                    if (digitsAfterDecimalPoint > tokLen) {
-                        formattedSeconds = StringHelper.substring(formattedSeconds, 0, tokLen + indexOfDecimalPoint + 1);
-                    } else if (digitsAfterDecimalPoint < tokLen) {
-                        formattedSeconds = StringHelper.padRight(formattedSeconds, tokLen + indexOfDecimalPoint + 1, '0');
-                    }
-                    StringHelper.append(result, formattedSeconds, indexOfDecimalPoint + nfi.getNumberDecimalSeparator().length(),
-                            formattedSeconds.length() - indexOfDecimalPoint - nfi.getNumberDecimalSeparator().length());
-                    if (ch == 'F') {
-                        while (result.length() > startLen && result.charAt(result.length() - 1) == '0') {
-                            result.setLength(result.length() - 1);
-                        }
-                        // when the value was 0, then trim even preceding '.' (!) It is fixed character.
-                        if (result.length() == startLen && startLen >= nfi.getNumberDecimalSeparator().length()) {
-                            boolean matchesSeparator = true;
-                            for (int separatorIndex = 0; matchesSeparator && separatorIndex < nfi.getNumberDecimalSeparator().length(); ++separatorIndex) {
-                                matchesSeparator = result.charAt(result.length() - nfi.getNumberDecimalSeparator().length() + separatorIndex) == nfi.getNumberDecimalSeparator().charAt(separatorIndex);
-                            }
-                            if (matchesSeparator) {
-                                result.setLength(result.length() - nfi.getNumberDecimalSeparator().length());
-                            }
-                        }
-                    }
+                    operation = new FormatOperation(ch == 'F' ? FormatOperation.TrimmedFraction : FormatOperation.Fraction, tokLen);
                     break;
                 }
                 case 't': {
                     tokLen = countRepeat(format, i, ch);
-                    String desig = dt.getHour() < 12 ? dfi.getAMDesignator() : dfi.getPMDesignator();
+                    String am = dfi.getAMDesignator();
+                    String pm = dfi.getPMDesignator();
                     if (tokLen == 1) {
-                        if (desig.length() >= 1) {
-                            result.append(desig.charAt(0));
-                        }
-                    } else {
-                        result.append(desig);
+                        am = am.length() >= 1 ? am.substring(0, 1) : "";
+                        pm = pm.length() >= 1 ? pm.substring(0, 1) : "";
                     }
+                    operation = new FormatOperation(FormatOperation.Designator, tokLen, am, pm);
                     break;
                 }
                 case 'd': {
                     tokLen = countRepeat(format, i, ch);
                     if (tokLen <= 2) {
-                        zeroPad(result, dt.getDay(), tokLen == 1 ? 1 : 2);
-                    } else if (tokLen == 3) {
-                        result.append(dfi.getAbbreviatedDayName(dt.getDayOfWeek()));
+                        operation = new FormatOperation(FormatOperation.Day, tokLen == 1 ? 1 : 2);
                     } else {
-                        result.append(dfi.getDayName(dt.getDayOfWeek()));
+                        operation = new FormatOperation(tokLen == 3 ? FormatOperation.AbbreviatedDayName : FormatOperation.DayName, tokLen);
                     }
                     break;
                 }
                 case 'M': {
                     tokLen = countRepeat(format, i, ch);
-                    int month = dt.getMonth();
                     if (tokLen <= 2) {
-                        zeroPad(result, month, tokLen);
-                    } else if (tokLen == 3) {
-                        result.append(dfi.getAbbreviatedMonthName(month));
+                        operation = new FormatOperation(FormatOperation.Month, tokLen);
                     } else {
-                        result.append(dfi.getMonthName(month));
+                        operation = new FormatOperation(tokLen == 3 ? FormatOperation.AbbreviatedMonthName : FormatOperation.MonthName, tokLen);
                     }
                     break;
                 }
                 case 'y': {
                     tokLen = countRepeat(format, i, ch);
-                    if (tokLen <= 2) {
-                        zeroPad(result, dt.getYear() % 100, tokLen);
-                    } else {
-                        zeroPad(result, dt.getYear(), tokLen);
-                    }
+                    operation = new FormatOperation(tokLen <= 2 ? FormatOperation.TwoDigitYear : FormatOperation.Year, tokLen);
                     break;
                 }
                 case 'g': {
                     tokLen = countRepeat(format, i, ch);
-                    result.append(dfi.getEraName(1));
+                    literal.append(dfi.getEraName(1));
                     break;
                 }
                 case ':': {
-                    result.append(dfi.getTimeSeparator());
+                    literal.append(dfi.getTimeSeparator());
                     tokLen = 1;
                     break;
                 }
                 case '/': {
-                    result.append(dfi.getDateSeparator());
+                    literal.append(dfi.getDateSeparator());
                     tokLen = 1;
                     break;
                 }
                 case '\'':
                 case '"': {
-                    tokLen = parseQuotedString(format, i, result);
+                    tokLen = parseQuotedString(format, i, literal);
                     break;
                 }
                 case '%': {
@@ -1410,24 +1402,34 @@ public final class GregorianDate implements Comparable<GregorianDate>, IEquatabl
                     if (i >= format.length() - 1) {
                         throw new NumberFormatException(StringHelper.format(CesiumLocalization.getGregorianDateInvalidCharacterAtEnd(), "\\"));
                     }
-                    result.append(format.charAt(i + 1));
+                    literal.append(format.charAt(i + 1));
                     tokLen = 2;
                     break;
                 }
                 case '.': {
-                    result.append(nfi.getNumberDecimalSeparator());
+                    literal.append(nfi.getNumberDecimalSeparator());
                     tokLen = nfi.getNumberDecimalSeparator().length();
                     break;
                 }
                 default: {
-                    result.append(ch);
+                    literal.append(ch);
                     tokLen = 1;
                     break;
                 }
                 }
+                if (operation != null) {
+                    if (literal.length() > 0) {
+                        operations.add(new FormatOperation(FormatOperation.Literal, 0, literal.toString(), null));
+                        literal.setLength(0);
+                    }
+                    operations.add(operation);
+                }
                 i += tokLen;
             }
-            return result.toString();
+            if (literal.length() > 0) {
+                operations.add(new FormatOperation(FormatOperation.Literal, 0, literal.toString(), null));
+            }
+            return new CompiledFormat(operations.toArray(new FormatOperation[0]), dfi, nfi, provider);
         }
 
         /**
@@ -1537,6 +1539,214 @@ public final class GregorianDate implements Comparable<GregorianDate>, IEquatabl
             "MMM/yy",
             "yyyy/MMMM"
         };
+        private static final int InitialFormatBufferCapacity = 64;
+        private static final int MaximumFormatBufferCapacity = 1024;
+        private static final int MaximumCompiledFormats = 64;
+        @Nonnull
+        private static final ThreadLocal<StringBuilder> s_formatBuffer = ThreadLocal.withInitial(() -> new StringBuilder(InitialFormatBufferCapacity));
+        @Nonnull
+        private static final ThreadLocal<HashMap<FormatKey, CompiledFormat>> s_compiledFormats = ThreadLocal.withInitial(HashMap::new);
+
+        private static final class FormatKey {
+            public FormatKey(@Nullable String format, @Nonnull Locale locale) {
+                m_format = format;
+                m_locale = locale;
+            }
+
+            @Override
+            public int hashCode() {
+                return HashCode.combine(HashCode.getHashCode(m_format), m_locale.hashCode());
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (!(obj instanceof FormatKey)) {
+                    return false;
+                }
+                FormatKey other = (FormatKey) obj;
+                return Objects.equals(m_format, other.m_format) && m_locale.equals(other.m_locale);
+            }
+
+            @Nullable
+            private final String m_format;
+            @Nonnull
+            private final Locale m_locale;
+        }
+
+        /**
+        * A single step of a compiled format: either literal text or one field of the date.
+        */
+        private static final class FormatOperation {
+            public static final int Literal = 0;
+            public static final int Hour12 = 1;
+            public static final int Hour24 = 2;
+            public static final int Minute = 3;
+            public static final int Second = 4;
+            public static final int Fraction = 5;
+            public static final int TrimmedFraction = 6;
+            public static final int Designator = 7;
+            public static final int Day = 8;
+            public static final int AbbreviatedDayName = 9;
+            public static final int DayName = 10;
+            public static final int Month = 11;
+            public static final int AbbreviatedMonthName = 12;
+            public static final int MonthName = 13;
+            public static final int TwoDigitYear = 14;
+            public static final int Year = 15;
+
+            public FormatOperation(int kind, int length) {
+                this(kind, length, null, null);
+            }
+
+            public FormatOperation(int kind, int length, @Nullable String text, @Nullable String alternateText) {
+                m_kind = kind;
+                m_length = length;
+                m_text = text;
+                m_alternateText = alternateText;
+            }
+
+            private final int m_kind;
+            private final int m_length;
+            @Nullable
+            private final String m_text;
+            @Nullable
+            private final String m_alternateText;
+        }
+
+        /**
+        * A format string interpreted once into a sequence of operations, along with the culture
+        information it uses, so that it can be applied to many dates.
+        */
+        private static final class CompiledFormat {
+            public CompiledFormat(@Nonnull FormatOperation[] operations, @Nonnull DateTimeFormatInfo dfi, @Nonnull NumberFormatInfo nfi, @Nonnull Locale provider) {
+                m_operations = operations;
+                m_dfi = dfi;
+                m_nfi = nfi;
+                m_provider = provider;
+            }
+
+            public final void append(@Nonnull StringBuilder result, @Nonnull GregorianDate dt) {
+                for (final FormatOperation operation : m_operations) {
+                    int tokLen = operation.m_length;
+                    switch (operation.m_kind) {
+                    case FormatOperation.Literal: {
+                        result.append(operation.m_text);
+                        break;
+                    }
+                    case FormatOperation.Hour12: {
+                        int hr = dt.getHour() % 12;
+                        if (hr == 0) {
+                            hr = 12;
+                        }
+                        zeroPad(result, hr, tokLen);
+                        break;
+                    }
+                    case FormatOperation.Hour24: {
+                        zeroPad(result, dt.getHour(), tokLen);
+                        break;
+                    }
+                    case FormatOperation.Minute: {
+                        zeroPad(result, dt.getMinute(), tokLen);
+                        break;
+                    }
+                    case FormatOperation.Second: {
+                        zeroPad(result, (int) dt.getSecond(), tokLen);
+                        break;
+                    }
+                    case FormatOperation.Fraction:
+                    case FormatOperation.TrimmedFraction: {
+                        appendFraction(result, dt, tokLen, operation.m_kind == FormatOperation.TrimmedFraction);
+                        break;
+                    }
+                    case FormatOperation.Designator: {
+                        result.append(dt.getHour() < 12 ? operation.m_text : operation.m_alternateText);
+                        break;
+                    }
+                    case FormatOperation.Day: {
+                        zeroPad(result, dt.getDay(), tokLen);
+                        break;
+                    }
+                    case FormatOperation.AbbreviatedDayName: {
+                        result.append(m_dfi.getAbbreviatedDayName(dt.getDayOfWeek()));
+                        break;
+                    }
+                    case FormatOperation.DayName: {
+                        result.append(m_dfi.getDayName(dt.getDayOfWeek()));
+                        break;
+                    }
+                    case FormatOperation.Month: {
+                        zeroPad(result, dt.getMonth(), tokLen);
+                        break;
+                    }
+                    case FormatOperation.AbbreviatedMonthName: {
+                        result.append(m_dfi.getAbbreviatedMonthName(dt.getMonth()));
+                        break;
+                    }
+                    case FormatOperation.MonthName: {
+                        result.append(m_dfi.getMonthName(dt.getMonth()));
+                        break;
+                    }
+                    case FormatOperation.TwoDigitYear: {
+                        zeroPad(result, dt.getYear() % 100, tokLen);
+                        break;
+                    }
+                    case FormatOperation.Year: {
+                        zeroPad(result, dt.getYear(), tokLen);
+                        break;
+                    }
+                    default: {
+                        throw new IllegalStateException();
+                    }
+                    }
+                }
+            }
+
+            private void appendFraction(@Nonnull StringBuilder result, @Nonnull GregorianDate dt, int tokLen, boolean trim) {
+                NumberFormatInfo nfi = m_nfi;
+                int startLen = result.length();
+                String formattedSeconds = DoubleHelper.toString(dt.getSecond(), "R", m_provider);
+                formattedSeconds = StringFormatting.toNonExponentialNotation(nfi, formattedSeconds);
+                int indexOfDecimalPoint = StringHelper.indexOf(formattedSeconds, nfi.getNumberDecimalSeparator(), StringComparison.CURRENT_CULTURE);
+                if (indexOfDecimalPoint == -1) {
+                    indexOfDecimalPoint = formattedSeconds.length();
+                }
+                int digitsAfterDecimalPoint = formattedSeconds.length() - indexOfDecimalPoint - 1;
+                if (digitsAfterDecimalPoint > tokLen) {
+                    formattedSeconds = StringHelper.substring(formattedSeconds, 0, tokLen + indexOfDecimalPoint + 1);
+                } else if (digitsAfterDecimalPoint < tokLen) {
+                    formattedSeconds = StringHelper.padRight(formattedSeconds, tokLen + indexOfDecimalPoint + 1, '0');
+                }
+                StringHelper.append(result, formattedSeconds, indexOfDecimalPoint + nfi.getNumberDecimalSeparator().length(),
+                        formattedSeconds.length() - indexOfDecimalPoint - nfi.getNumberDecimalSeparator().length());
+                if (trim) {
+                    while (result.length() > startLen && result.charAt(result.length() - 1) == '0') {
+                        result.setLength(result.length() - 1);
+                    }
+                    // when the value was 0, then trim even preceding '.' (!) It is fixed character.
+                    if (result.length() == startLen && startLen >= nfi.getNumberDecimalSeparator().length()) {
+                        boolean matchesSeparator = true;
+                        for (int separatorIndex = 0; matchesSeparator && separatorIndex < nfi.getNumberDecimalSeparator().length(); ++separatorIndex) {
+                            matchesSeparator = result.charAt(result.length() - nfi.getNumberDecimalSeparator().length() + separatorIndex) == nfi.getNumberDecimalSeparator().charAt(separatorIndex);
+                        }
+                        if (matchesSeparator) {
+                            result.setLength(result.length() - nfi.getNumberDecimalSeparator().length());
+                        }
+                    }
+                }
+            }
+
+            @Nonnull
+            private final FormatOperation[] m_operations;
+            @Nonnull
+            private final DateTimeFormatInfo m_dfi;
+            @Nonnull
+            private final NumberFormatInfo m_nfi;
+            @Nonnull
+            private final Locale m_provider;
+        }
     }
 
     /**
@@ -1639,17 +1849,33 @@ public final class GregorianDate implements Comparable<GregorianDate>, IEquatabl
     */
     public GregorianDate(@Nonnull JulianDate julianDate, @Nonnull TimeStandard timeStandard) {
         boolean isLeapSecond = false;
-        @CS2JInfo("Initialization of C# struct variable 'convertedJulianDate' added by translator.")
-        JulianDate convertedJulianDate = new JulianDate();
-        final JulianDate[] out$convertedJulianDate$110 = new JulianDate[1];
-        final boolean temp$109 = julianDate.tryConvertTimeStandard(timeStandard, out$convertedJulianDate$110);
-        convertedJulianDate = out$convertedJulianDate$110[0];
-        if (!temp$109) {
-            isLeapSecond = true;
-            convertedJulianDate = julianDate.subtractSeconds(1.0).toTimeStandard(timeStandard);
+        int day = julianDate.getDay();
+        double secondsOfDay = julianDate.getSecondsOfDay();
+        if (julianDate.getStandard() != timeStandard) {
+            // Convert the day and seconds directly, in the same way as JulianDate.toTimeStandard.
+            LeapSeconds leapSeconds = LeapSeconds.getInstance();
+            double taiMinusUtc;
+            if (timeStandard == TimeStandard.COORDINATED_UNIVERSAL_TIME) {
+                taiMinusUtc = leapSeconds.getTaiMinusUtcOfTai(day, secondsOfDay);
+                if (Double.isNaN(taiMinusUtc)) {
+                    // During a leap second, use the second before it and add the second back below.
+                    isLeapSecond = true;
+                    secondsOfDay -= 1.0;
+                    if (secondsOfDay < 0.0) {
+                        day += normalizeDays(secondsOfDay);
+                        secondsOfDay = normalizeSeconds(secondsOfDay);
+                    }
+                    taiMinusUtc = leapSeconds.getTaiMinusUtcOfTai(day, secondsOfDay);
+                }
+                secondsOfDay -= taiMinusUtc;
+            } else {
+                secondsOfDay += leapSeconds.getTaiMinusUtcOfUtc(day, secondsOfDay);
+            }
+            day += normalizeDays(secondsOfDay);
+            secondsOfDay = normalizeSeconds(secondsOfDay);
         }
-        m_yearMonthDay = new YearMonthDay(convertedJulianDate);
-        double secondsOfDay = convertedJulianDate.getSecondsOfDay();
+        // JulianDates are noon-based, so the second half of the Julian day is the next calendar day.
+        m_yearMonthDay = YearMonthDay.fromJulianDayNumber(secondsOfDay >= 43200.0 ? day + 1 : day);
         m_hour = (int) Math.floor(secondsOfDay / SecondsPerHour);
         double remainingSeconds = secondsOfDay - m_hour * SecondsPerHour;
         m_minute = (int) Math.floor(remainingSeconds / SecondsPerMinute);
@@ -1664,6 +1890,36 @@ public final class GregorianDate implements Comparable<GregorianDate>, IEquatabl
         }
     }
 
+    /**
+    * Gets the number of whole days to add to a Julian day when normalizing its seconds of the day,
+    matching the {@link JulianDate} constructor.
+    */
+    private static int normalizeDays(double secondsOfDay) {
+        if (secondsOfDay < 0.0) {
+            int wholeDays = (int) (secondsOfDay / TimeConstants.SecondsPerDay) - 1;
+            return secondsOfDay - TimeConstants.SecondsPerDay * wholeDays > TimeConstants.NextBefore86400 ? wholeDays + 1 : wholeDays;
+        }
+        if (secondsOfDay >= TimeConstants.SecondsPerDay) {
+            return (int) (secondsOfDay / TimeConstants.SecondsPerDay);
+        }
+        return 0;
+    }
+
+    /**
+    * Normalizes the seconds of a Julian day to the range of a day, matching the {@link JulianDate} constructor.
+    */
+    private static double normalizeSeconds(double secondsOfDay) {
+        if (secondsOfDay < 0.0) {
+            int wholeDays = (int) (secondsOfDay / TimeConstants.SecondsPerDay) - 1;
+            double result = secondsOfDay - TimeConstants.SecondsPerDay * wholeDays;
+            return result > TimeConstants.NextBefore86400 ? 0.0 : result;
+        }
+        if (secondsOfDay >= TimeConstants.SecondsPerDay) {
+            return secondsOfDay - TimeConstants.SecondsPerDay * (int) (secondsOfDay / TimeConstants.SecondsPerDay);
+        }
+        return secondsOfDay;
+    }
+
     /**
     * Initializes a {@link GregorianDate} from the provided
     {@link ZonedDateTime}.  If the provided {@link ZonedDateTime} is in local
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ColorCesiumWriter;
@@ -49,36 +47,11 @@ public class GridMaterialCesiumWriter extends CesiumPropertyWriter<GridMaterialC
     */
     @Nonnull
     public static final String LineOffsetPropertyName = "lineOffset";
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_cellAlpha = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(CellAlphaPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<LineCountCesiumWriter> m_lineCount = new Lazy<LineCountCesiumWriter>(new Func1<LineCountCesiumWriter>() {
-        public LineCountCesiumWriter invoke() {
-            return new LineCountCesiumWriter(LineCountPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<LineThicknessCesiumWriter> m_lineThickness = new Lazy<LineThicknessCesiumWriter>(new Func1<LineThicknessCesiumWriter>() {
-        public LineThicknessCesiumWriter invoke() {
-            return new LineThicknessCesiumWriter(LineThicknessPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<LineOffsetCesiumWriter> m_lineOffset = new Lazy<LineOffsetCesiumWriter>(new Func1<LineOffsetCesiumWriter>() {
-        public LineOffsetCesiumWriter invoke() {
-            return new LineOffsetCesiumWriter(LineOffsetPropertyName);
-        }
-    }, false);
+    private ColorCesiumWriter m_color;
+    private DoubleCesiumWriter m_cellAlpha;
+    private LineCountCesiumWriter m_lineCount;
+    private LineThicknessCesiumWriter m_lineThickness;
+    private LineOffsetCesiumWriter m_lineOffset;
 
     /**
     * Initializes a new instance.
@@ -110,7 +83,10 @@ public class GridMaterialCesiumWriter extends CesiumPropertyWriter<GridMaterialC
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -275,7 +251,10 @@ public class GridMaterialCesiumWriter extends CesiumPropertyWriter<GridMaterialC
     */
     @Nonnull
     public final DoubleCesiumWriter getCellAlphaWriter() {
-        return m_cellAlpha.getValue();
+        if (m_cellAlpha == null) {
+            m_cellAlpha = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(CellAlphaPropertyName));
+        }
+        return m_cellAlpha;
     }
 
     /**
@@ -375,7 +354,10 @@ public class GridMaterialCesiumWriter extends CesiumPropertyWriter<GridMaterialC
     */
     @Nonnull
     public final LineCountCesiumWriter getLineCountWriter() {
-        return m_lineCount.getValue();
+        if (m_lineCount == null) {
+            m_lineCount = this.<LineCountCesiumWriter> addChildWriter(new LineCountCesiumWriter(LineCountPropertyName));
+        }
+        return m_lineCount;
     }
 
     /**
@@ -487,7 +469,10 @@ public class GridMaterialCesiumWriter extends CesiumPropertyWriter<GridMaterialC
     */
     @Nonnull
     public final LineThicknessCesiumWriter getLineThicknessWriter() {
-        return m_lineThickness.getValue();
+        if (m_lineThickness == null) {
+            m_lineThickness = this.<LineThicknessCesiumWriter> addChildWriter(new LineThicknessCesiumWriter(LineThicknessPropertyName));
+        }
+        return m_lineThickness;
     }
 
     /**
@@ -599,7 +584,10 @@ public class GridMaterialCesiumWriter extends CesiumPropertyWriter<GridMaterialC
     */
     @Nonnull
     public final LineOffsetCesiumWriter getLineOffsetWriter() {
-        return m_lineOffset.getValue();
+        if (m_lineOffset == null) {
+            m_lineOffset = this.<LineOffsetCesiumWriter> addChildWriter(new LineOffsetCesiumWriter(LineOffsetPropertyName));
+        }
+        return m_lineOffset;
     }
 
     /**
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class HeightReferenceCesiumWriter extends CesiumPropertyWriter<HeightRefe
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> m_asHeightReference;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> m_asReference;
+    private CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> m_asHeightReference;
+    private CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class HeightReferenceCesiumWriter extends CesiumPropertyWriter<HeightRefe
     */
     public HeightReferenceCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asHeightReference = createAsHeightReference();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class HeightReferenceCesiumWriter extends CesiumPropertyWriter<HeightRefe
     */
     protected HeightReferenceCesiumWriter(@Nonnull HeightReferenceCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asHeightReference = createAsHeightReference();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,17 +136,10 @@ public class HeightReferenceCesiumWriter extends CesiumPropertyWriter<HeightRefe
     */
     @Nonnull
     public final CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> asHeightReference() {
-        return m_asHeightReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> createAsHeightReference() {
-        return new Lazy<CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>>(
-                new Func1<CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>>(this, "createHeightReference") {
-                    public CesiumHeightReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> invoke() {
-                        return createHeightReference();
-                    }
-                }, false);
+        if (m_asHeightReference == null) {
+            m_asHeightReference = createHeightReference();
+        }
+        return m_asHeightReference;
     }
 
     @Nonnull
@@ -168,16 +153,10 @@ public class HeightReferenceCesiumWriter extends CesiumPropertyWriter<HeightRefe
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<HeightReferenceCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
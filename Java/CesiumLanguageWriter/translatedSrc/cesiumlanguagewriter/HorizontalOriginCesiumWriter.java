@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class HorizontalOriginCesiumWriter extends CesiumPropertyWriter<Horizonta
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter>> m_asHorizontalOrigin;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter>> m_asReference;
+    private CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter> m_asHorizontalOrigin;
+    private CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class HorizontalOriginCesiumWriter extends CesiumPropertyWriter<Horizonta
     */
     public HorizontalOriginCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asHorizontalOrigin = createAsHorizontalOrigin();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class HorizontalOriginCesiumWriter extends CesiumPropertyWriter<Horizonta
     */
     protected HorizontalOriginCesiumWriter(@Nonnull HorizontalOriginCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asHorizontalOrigin = createAsHorizontalOrigin();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,17 +136,10 @@ public class HorizontalOriginCesiumWriter extends CesiumPropertyWriter<Horizonta
     */
     @Nonnull
     public final CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter> asHorizontalOrigin() {
-        return m_asHorizontalOrigin.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter>> createAsHorizontalOrigin() {
-        return new Lazy<CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter>>(
-                new Func1<CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter>>(this, "createHorizontalOrigin") {
-                    public CesiumHorizontalOriginValuePropertyAdaptor<HorizontalOriginCesiumWriter> invoke() {
-                        return createHorizontalOrigin();
-                    }
-                }, false);
+        if (m_asHorizontalOrigin == null) {
+            m_asHorizontalOrigin = createHorizontalOrigin();
+        }
+        return m_asHorizontalOrigin;
     }
 
     @Nonnull
@@ -168,16 +153,10 @@ public class HorizontalOriginCesiumWriter extends CesiumPropertyWriter<Horizonta
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<HorizontalOriginCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
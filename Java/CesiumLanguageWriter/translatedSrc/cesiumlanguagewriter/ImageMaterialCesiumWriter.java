@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -45,30 +43,10 @@ public class ImageMaterialCesiumWriter extends CesiumPropertyWriter<ImageMateria
     */
     @Nonnull
     public static final String TransparentPropertyName = "transparent";
-    @Nonnull
-    private final Lazy<UriCesiumWriter> m_image = new Lazy<UriCesiumWriter>(new Func1<UriCesiumWriter>() {
-        public UriCesiumWriter invoke() {
-            return new UriCesiumWriter(ImagePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<RepeatCesiumWriter> m_repeat = new Lazy<RepeatCesiumWriter>(new Func1<RepeatCesiumWriter>() {
-        public RepeatCesiumWriter invoke() {
-            return new RepeatCesiumWriter(RepeatPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_transparent = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(TransparentPropertyName);
-        }
-    }, false);
+    private UriCesiumWriter m_image;
+    private RepeatCesiumWriter m_repeat;
+    private ColorCesiumWriter m_color;
+    private BooleanCesiumWriter m_transparent;
 
     /**
     * Initializes a new instance.
@@ -100,7 +78,10 @@ public class ImageMaterialCesiumWriter extends CesiumPropertyWriter<ImageMateria
     */
     @Nonnull
     public final UriCesiumWriter getImageWriter() {
-        return m_image.getValue();
+        if (m_image == null) {
+            m_image = this.<UriCesiumWriter> addChildWriter(new UriCesiumWriter(ImagePropertyName));
+        }
+        return m_image;
     }
 
     /**
@@ -245,7 +226,10 @@ public class ImageMaterialCesiumWriter extends CesiumPropertyWriter<ImageMateria
     */
     @Nonnull
     public final RepeatCesiumWriter getRepeatWriter() {
-        return m_repeat.getValue();
+        if (m_repeat == null) {
+            m_repeat = this.<RepeatCesiumWriter> addChildWriter(new RepeatCesiumWriter(RepeatPropertyName));
+        }
+        return m_repeat;
     }
 
     /**
@@ -357,7 +341,10 @@ public class ImageMaterialCesiumWriter extends CesiumPropertyWriter<ImageMateria
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -522,7 +509,10 @@ public class ImageMaterialCesiumWriter extends CesiumPropertyWriter<ImageMateria
     */
     @Nonnull
     public final BooleanCesiumWriter getTransparentWriter() {
-        return m_transparent.getValue();
+        if (m_transparent == null) {
+            m_transparent = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(TransparentPropertyName));
+        }
+        return m_transparent;
     }
 
     /**
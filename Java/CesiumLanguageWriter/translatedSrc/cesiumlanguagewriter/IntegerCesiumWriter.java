@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class IntegerCesiumWriter extends CesiumInterpolatablePropertyWriter<Inte
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter>> m_asNumber;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter>> m_asReference;
+    private CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter> m_asNumber;
+    private CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class IntegerCesiumWriter extends CesiumInterpolatablePropertyWriter<Inte
     */
     public IntegerCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asNumber = createAsNumber();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class IntegerCesiumWriter extends CesiumInterpolatablePropertyWriter<Inte
     */
     protected IntegerCesiumWriter(@Nonnull IntegerCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asNumber = createAsNumber();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -167,16 +159,10 @@ public class IntegerCesiumWriter extends CesiumInterpolatablePropertyWriter<Inte
     */
     @Nonnull
     public final CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter> asNumber() {
-        return m_asNumber.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter>> createAsNumber() {
-        return new Lazy<CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter>>(new Func1<CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter>>(this, "createInteger") {
-            public CesiumIntegerValuePropertyAdaptor<IntegerCesiumWriter> invoke() {
-                return createInteger();
-            }
-        }, false);
+        if (m_asNumber == null) {
+            m_asNumber = createInteger();
+        }
+        return m_asNumber;
     }
 
     @Nonnull
@@ -190,16 +176,10 @@ public class IntegerCesiumWriter extends CesiumInterpolatablePropertyWriter<Inte
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<IntegerCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
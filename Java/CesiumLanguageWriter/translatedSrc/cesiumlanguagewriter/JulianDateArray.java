@@ -0,0 +1,467 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import javax.annotation.Nonnull;
+
+/**
+ * An immutable list of {@link JulianDate JulianDates} in a single {@link TimeStandard}, stored as
+ an array of days and an array of seconds of the day rather than as individual objects.
+ <p>
+ Because it is a {@code List<JulianDate>}, an array can be passed to any sampled writer or
+ utility which accepts a list of dates.  Writers which compute time offsets from an epoch read
+ the days and seconds directly, and other code receives a {@link JulianDate} created on demand
+ by {@link #get}.  The bulk operations work on the arrays without creating any dates.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class JulianDateArray extends AbstractList<JulianDate> implements RandomAccess {
+    /**
+    * Initializes a new instance from a list of dates, converting each to the specified standard.
+    * @param dates The dates.
+    * @param standard The time standard in which to store the dates.
+    * @exception ArgumentOutOfRangeException Thrown if a date cannot be represented in {@code standard}.
+    */
+    public JulianDateArray(@Nonnull List<JulianDate> dates, @Nonnull TimeStandard standard) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        if (standard == null) {
+            throw new ArgumentNullException("standard");
+        }
+        int count = dates.size();
+        m_standard = standard;
+        m_days = new int[count];
+        m_secondsOfDay = new double[count];
+        for (int i = 0; i < count; ++i) {
+            JulianDate date = dates.get(i).toTimeStandard(standard);
+            m_days[i] = date.getDay();
+            m_secondsOfDay[i] = date.getSecondsOfDay();
+        }
+    }
+
+    /**
+    * Initializes a new instance from arrays of days and seconds.  The arrays are copied, and
+    seconds outside of a day are normalized in the same way as {@link JulianDate}.
+    * @param standard The time standard of the dates.
+    * @param days The Julian day number of each date.
+    * @param secondsOfDay The seconds of the day of each date.
+    * @exception ArgumentException Thrown if the arrays have different lengths.
+    */
+    public JulianDateArray(@Nonnull TimeStandard standard, @Nonnull int[] days, @Nonnull double[] secondsOfDay) {
+        if (standard == null) {
+            throw new ArgumentNullException("standard");
+        }
+        if (days == null) {
+            throw new ArgumentNullException("days");
+        }
+        if (secondsOfDay == null) {
+            throw new ArgumentNullException("secondsOfDay");
+        }
+        if (days.length != secondsOfDay.length) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "secondsOfDay");
+        }
+        m_standard = standard;
+        m_days = new int[days.length];
+        m_secondsOfDay = new double[days.length];
+        for (int i = 0; i < days.length; ++i) {
+            set(m_days, m_secondsOfDay, i, days[i], secondsOfDay[i]);
+        }
+    }
+
+    /**
+    * Initializes a new instance which takes ownership of arrays that are already normalized, without copying them.
+    */
+    private JulianDateArray(@Nonnull int[] days, @Nonnull double[] secondsOfDay, @Nonnull TimeStandard standard) {
+        m_standard = standard;
+        m_days = days;
+        m_secondsOfDay = secondsOfDay;
+    }
+
+    /**
+    * Creates a UTC array from times expressed as milliseconds since the Unix epoch,
+    1970-01-01T00:00:00Z, as returned by {@link System#currentTimeMillis()} or
+    {@link java.time.Instant#toEpochMilli()}.
+    <p>
+    As in Unix time, every day is taken to be exactly 86400 seconds long, so the times map directly
+    to UTC days and seconds.  Leap seconds are accounted for when the dates are converted to
+    TAI or when offsets from an epoch are computed, so the offsets of times on either side of a leap
+    second differ by the elapsed time including it.
+    * @param epochMilliseconds The times, in milliseconds since the Unix epoch.
+    * @return The new array.
+    */
+    @Nonnull
+    public static JulianDateArray fromEpochMilliseconds(@Nonnull long[] epochMilliseconds) {
+        if (epochMilliseconds == null) {
+            throw new ArgumentNullException("epochMilliseconds");
+        }
+        int count = epochMilliseconds.length;
+        int[] days = new int[count];
+        double[] secondsOfDay = new double[count];
+        for (int i = 0; i < count; ++i) {
+            setFromEpoch(days, secondsOfDay, i, epochMilliseconds[i], MillisecondsPerDay, 1e3, "epochMilliseconds");
+        }
+        return new JulianDateArray(days, secondsOfDay, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+    }
+
+    /**
+    * Creates a UTC array from times expressed as nanoseconds since the Unix epoch,
+    1970-01-01T00:00:00Z.  As with {@link #fromEpochMilliseconds}, every day is taken to be exactly
+    86400 seconds long.
+    * @param epochNanoseconds The times, in nanoseconds since the Unix epoch.
+    * @return The new array.
+    */
+    @Nonnull
+    public static JulianDateArray fromEpochNanoseconds(@Nonnull long[] epochNanoseconds) {
+        if (epochNanoseconds == null) {
+            throw new ArgumentNullException("epochNanoseconds");
+        }
+        int count = epochNanoseconds.length;
+        int[] days = new int[count];
+        double[] secondsOfDay = new double[count];
+        for (int i = 0; i < count; ++i) {
+            setFromEpoch(days, secondsOfDay, i, epochNanoseconds[i], NanosecondsPerDay, 1e9, "epochNanoseconds");
+        }
+        return new JulianDateArray(days, secondsOfDay, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+    }
+
+    /**
+    * Creates a UTC array from {@link java.time.Instant Instants}.  As with
+    {@link #fromEpochMilliseconds}, every day is taken to be exactly 86400 seconds long.
+    * @param instants The times.
+    * @return The new array.
+    */
+    @Nonnull
+    public static JulianDateArray fromInstants(@Nonnull List<Instant> instants) {
+        if (instants == null) {
+            throw new ArgumentNullException("instants");
+        }
+        int count = instants.size();
+        int[] days = new int[count];
+        double[] secondsOfDay = new double[count];
+        for (int i = 0; i < count; ++i) {
+            Instant instant = instants.get(i);
+            long epochSeconds = instant.getEpochSecond();
+            long epochDays = Math.floorDiv(epochSeconds, SecondsPerDay);
+            long nanosecondsOfDay = (epochSeconds - epochDays * SecondsPerDay) * 1000000000L + instant.getNano();
+            setFromEpoch(days, secondsOfDay, i, epochDays, nanosecondsOfDay, NanosecondsPerDay, 1e9, "instants");
+        }
+        return new JulianDateArray(days, secondsOfDay, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+    }
+
+    private static void setFromEpoch(@Nonnull int[] days, @Nonnull double[] secondsOfDay, int index, long time, long unitsPerDay, double unitsPerSecond, @Nonnull String parameterName) {
+        long epochDays = Math.floorDiv(time, unitsPerDay);
+        setFromEpoch(days, secondsOfDay, index, epochDays, time - epochDays * unitsPerDay, unitsPerDay, unitsPerSecond, parameterName);
+    }
+
+    /**
+    * Stores a time given as whole days since the Unix epoch and a count of units into the day.
+    The day is shifted to start at noon with integer arithmetic, so that the seconds are
+    rounded only once.
+    */
+    private static void setFromEpoch(@Nonnull int[] days, @Nonnull double[] secondsOfDay, int index, long epochDays, long unitsOfDay, long unitsPerDay, double unitsPerSecond, @Nonnull String parameterName) {
+        long day = UnixEpochDay + epochDays;
+        long unitsPastNoon = unitsOfDay + unitsPerDay / 2L;
+        if (unitsPastNoon >= unitsPerDay) {
+            ++day;
+            unitsPastNoon -= unitsPerDay;
+        }
+        if (day < Integer.MIN_VALUE || day > Integer.MAX_VALUE) {
+            throw new ArgumentOutOfRangeException(parameterName);
+        }
+        days[index] = (int) day;
+        secondsOfDay[index] = unitsPastNoon / unitsPerSecond;
+    }
+
+    /**
+    * Gets the time standard of the dates.
+    */
+    @Nonnull
+    public final TimeStandard getStandard() {
+        return m_standard;
+    }
+
+    /**
+    * Gets the number of dates.
+    */
+    @Override
+    public final int size() {
+        return m_days.length;
+    }
+
+    /**
+    * Gets a date, creating a {@link JulianDate} for it.
+    * @param index The index of the date.
+    * @return The date.
+    */
+    @Nonnull
+    @Override
+    public final JulianDate get(int index) {
+        return new JulianDate(m_days[index], m_secondsOfDay[index], m_standard);
+    }
+
+    /**
+    * Gets the Julian day number of a date.
+    * @param index The index of the date.
+    * @return The day.
+    */
+    public final int getDay(int index) {
+        return m_days[index];
+    }
+
+    /**
+    * Gets the seconds of the day of a date.
+    * @param index The index of the date.
+    * @return The seconds of the day.
+    */
+    public final double getSecondsOfDay(int index) {
+        return m_secondsOfDay[index];
+    }
+
+    /**
+    * Gets a copy of part of the array.
+    * @param startIndex The index of the first date to copy.
+    * @param length The number of dates to copy.
+    * @return The new array.
+    */
+    @Nonnull
+    public final JulianDateArray subArray(int startIndex, int length) {
+        if (startIndex < 0 || length < 0 || startIndex + length > m_days.length) {
+            throw new ArgumentOutOfRangeException("startIndex");
+        }
+        int[] days = new int[length];
+        double[] secondsOfDay = new double[length];
+        System.arraycopy(m_days, startIndex, days, 0, length);
+        System.arraycopy(m_secondsOfDay, startIndex, secondsOfDay, 0, length);
+        return new JulianDateArray(days, secondsOfDay, m_standard);
+    }
+
+    /**
+    * Converts every date to another time standard.
+    * @param standard The requested time standard.
+    * @return An array in the requested standard, or this instance if it already uses that standard.
+    * @exception ArgumentOutOfRangeException Thrown if a date cannot be represented in {@code standard},
+    which happens when converting a date during a leap second to UTC.
+    */
+    @Nonnull
+    public final JulianDateArray toTimeStandard(@Nonnull TimeStandard standard) {
+        JulianDateArray result = tryConvertTimeStandard(standard);
+        if (result == null) {
+            throw new ArgumentOutOfRangeException(CesiumLocalization.getCannotRepresentLeapSecondAsUTCJulianDate());
+        }
+        return result;
+    }
+
+    private JulianDateArray tryConvertTimeStandard(@Nonnull TimeStandard standard) {
+        if (standard == null) {
+            throw new ArgumentNullException("standard");
+        }
+        if (standard == m_standard) {
+            return this;
+        }
+        LeapSeconds leapSeconds = LeapSeconds.getInstance();
+        int count = m_days.length;
+        int[] days = new int[count];
+        double[] secondsOfDay = new double[count];
+        if (standard == TimeStandard.INTERNATIONAL_ATOMIC_TIME) {
+            for (int i = 0; i < count; ++i) {
+                int day = m_days[i];
+                double seconds = m_secondsOfDay[i];
+                set(days, secondsOfDay, i, day, seconds + leapSeconds.getTaiMinusUtcOfUtc(day, seconds));
+            }
+        } else {
+            for (int i = 0; i < count; ++i) {
+                int day = m_days[i];
+                double seconds = m_secondsOfDay[i];
+                double taiMinusUtc = leapSeconds.getTaiMinusUtcOfTai(day, seconds);
+                if (Double.isNaN(taiMinusUtc)) {
+                    return null;
+                }
+                set(days, secondsOfDay, i, day, seconds - taiMinusUtc);
+            }
+        }
+        return new JulianDateArray(days, secondsOfDay, standard);
+    }
+
+    /**
+    * Adds a number of seconds to every date.  As with {@link JulianDate#addSeconds}, the addition
+    is done in TAI.  The result uses the time standard of this array if every date can be
+    represented in it, and otherwise uses TAI.
+    * @param seconds The number of seconds to add.
+    * @return The new array.
+    */
+    @Nonnull
+    public final JulianDateArray addSeconds(double seconds) {
+        Duration duration = Duration.fromSeconds(seconds);
+        int durationDays = duration.getDays();
+        double durationSeconds = duration.getSeconds();
+        JulianDateArray tai = toTimeStandard(TimeStandard.INTERNATIONAL_ATOMIC_TIME);
+        int count = m_days.length;
+        int[] days = new int[count];
+        double[] secondsOfDay = new double[count];
+        for (int i = 0; i < count; ++i) {
+            set(days, secondsOfDay, i, tai.m_days[i] + durationDays, tai.m_secondsOfDay[i] + durationSeconds);
+        }
+        JulianDateArray result = new JulianDateArray(days, secondsOfDay, TimeStandard.INTERNATIONAL_ATOMIC_TIME);
+        JulianDateArray converted = result.tryConvertTimeStandard(m_standard);
+        return converted == null ? result : converted;
+    }
+
+    /**
+    * Computes the number of seconds from an epoch to a date, identical to
+    {@code epoch.secondsDifference(get(index))}.
+    * @param epoch The epoch.
+    * @param index The index of the date.
+    * @return The number of seconds elapsed from the epoch to the date.
+    */
+    public final double secondsDifference(@Nonnull JulianDate epoch, int index) {
+        if (epoch == null) {
+            throw new ArgumentNullException("epoch");
+        }
+        JulianDate start = epoch.toInternationalAtomicTime();
+        return secondsDifference(start.getDay(), start.getSecondsOfDay(), index);
+    }
+
+    /**
+    * Computes the number of seconds from an epoch to each date in a range.
+    * @param epoch The epoch.
+    * @param startIndex The index of the first date.
+    * @param length The number of dates.
+    * @param result The array to receive the differences.
+    * @param resultIndex The index in {@code result} at which to store the first difference.
+    */
+    public final void secondsDifferences(@Nonnull JulianDate epoch, int startIndex, int length, @Nonnull double[] result, int resultIndex) {
+        if (epoch == null) {
+            throw new ArgumentNullException("epoch");
+        }
+        if (result == null) {
+            throw new ArgumentNullException("result");
+        }
+        if (startIndex < 0 || length < 0 || startIndex + length > m_days.length) {
+            throw new ArgumentOutOfRangeException("startIndex");
+        }
+        if (resultIndex < 0 || resultIndex + length > result.length) {
+            throw new ArgumentOutOfRangeException("resultIndex");
+        }
+        JulianDate start = epoch.toInternationalAtomicTime();
+        int startDay = start.getDay();
+        double startSecondsOfDay = start.getSecondsOfDay();
+        for (int i = 0; i < length; ++i) {
+            result[resultIndex + i] = secondsDifference(startDay, startSecondsOfDay, startIndex + i);
+        }
+    }
+
+    /**
+    * Computes the number of seconds from an epoch, given as a day and seconds of day in {@code InternationalAtomicTime} ({@link TimeStandard#INTERNATIONAL_ATOMIC_TIME}),
+    to a date.  Converting the epoch once and calling this method for each date avoids converting it again for every date.
+    * @param startDay The Julian day number of the epoch in TAI.
+    * @param startSecondsOfDay The seconds of the day of the epoch in TAI.
+    * @param index The index of the date.
+    * @return The number of seconds elapsed from the epoch to the date.
+    */
+    public final double secondsDifference(int startDay, double startSecondsOfDay, int index) {
+        int day = m_days[index];
+        double seconds = m_secondsOfDay[index];
+        if (m_standard != TimeStandard.INTERNATIONAL_ATOMIC_TIME) {
+            // Convert to TAI in the same way as JulianDate, normalizing the seconds.
+            seconds += LeapSeconds.getInstance().getTaiMinusUtcOfUtc(day, seconds);
+            if (seconds < 0) {
+                int wholeDays = (int) (seconds / TimeConstants.SecondsPerDay) - 1;
+                day += wholeDays;
+                seconds -= TimeConstants.SecondsPerDay * wholeDays;
+                if (seconds > TimeConstants.NextBefore86400) {
+                    ++day;
+                    seconds = 0.0;
+                }
+            } else if (seconds >= TimeConstants.SecondsPerDay) {
+                int wholeDays = (int) (seconds / TimeConstants.SecondsPerDay);
+                day += wholeDays;
+                seconds -= TimeConstants.SecondsPerDay * wholeDays;
+            }
+        }
+        long endDay = day;
+        return (endDay - startDay) * TimeConstants.SecondsPerDay + (seconds - startSecondsOfDay);
+    }
+
+    /**
+    * Searches the dates, which must be in increasing order, for a date.
+    * @param date The date to search for.
+    * @return The index of the date, if it is found; otherwise, the bitwise complement of the index
+    at which it would be inserted, as with {@link java.util.Arrays#binarySearch(int[], int)}.
+    */
+    public final int binarySearch(@Nonnull JulianDate date) {
+        if (date == null) {
+            throw new ArgumentNullException("date");
+        }
+        final JulianDate[] out$converted$0 = new JulianDate[1];
+        boolean converted = date.tryConvertTimeStandard(m_standard, out$converted$0);
+        int low = 0;
+        int high = m_days.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison;
+            if (converted) {
+                comparison = Integer.compare(m_days[mid], out$converted$0[0].getDay());
+                if (comparison == 0) {
+                    comparison = Double.compare(m_secondsOfDay[mid], out$converted$0[0].getSecondsOfDay());
+                }
+            } else {
+                comparison = get(mid).compareTo(date);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return ~low;
+    }
+
+    /**
+    * Stores a date, normalizing the seconds in the same way as the {@link JulianDate} constructor.
+    */
+    private static void set(@Nonnull int[] days, @Nonnull double[] secondsOfDay, int index, int day, double seconds) {
+        if (seconds < 0) {
+            int wholeDays = (int) (seconds / TimeConstants.SecondsPerDay);
+            --wholeDays;
+            day += wholeDays;
+            seconds -= TimeConstants.SecondsPerDay * wholeDays;
+            if (seconds > TimeConstants.NextBefore86400) {
+                ++day;
+                seconds = 0.0;
+            }
+        } else if (seconds >= TimeConstants.SecondsPerDay) {
+            int wholeDays = (int) (seconds / TimeConstants.SecondsPerDay);
+            day += wholeDays;
+            seconds -= TimeConstants.SecondsPerDay * wholeDays;
+        }
+        days[index] = day;
+        secondsOfDay[index] = seconds;
+    }
+
+    /**
+    * The Julian day number whose noon precedes the Unix epoch, 1970-01-01T00:00:00Z.
+    */
+    private static final long UnixEpochDay = 2440587L;
+    private static final long SecondsPerDay = 86400L;
+    private static final long MillisecondsPerDay = SecondsPerDay * 1000L;
+    private static final long NanosecondsPerDay = SecondsPerDay * 1000000000L;
+    @Nonnull
+    private final TimeStandard m_standard;
+    @Nonnull
+    private final int[] m_days;
+    @Nonnull
+    private final double[] m_secondsOfDay;
+}
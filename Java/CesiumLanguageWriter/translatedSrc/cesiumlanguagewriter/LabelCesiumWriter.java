@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BackgroundPaddingCesiumWriter;
@@ -138,132 +136,27 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public static final String DisableDepthTestDistancePropertyName = "disableDepthTestDistance";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<StringCesiumWriter> m_text = new Lazy<StringCesiumWriter>(new Func1<StringCesiumWriter>() {
-        public StringCesiumWriter invoke() {
-            return new StringCesiumWriter(TextPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<FontCesiumWriter> m_font = new Lazy<FontCesiumWriter>(new Func1<FontCesiumWriter>() {
-        public FontCesiumWriter invoke() {
-            return new FontCesiumWriter(FontPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<LabelStyleCesiumWriter> m_style = new Lazy<LabelStyleCesiumWriter>(new Func1<LabelStyleCesiumWriter>() {
-        public LabelStyleCesiumWriter invoke() {
-            return new LabelStyleCesiumWriter(StylePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_scale = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(ScalePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_showBackground = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowBackgroundPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_backgroundColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(BackgroundColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BackgroundPaddingCesiumWriter> m_backgroundPadding = new Lazy<BackgroundPaddingCesiumWriter>(new Func1<BackgroundPaddingCesiumWriter>() {
-        public BackgroundPaddingCesiumWriter invoke() {
-            return new BackgroundPaddingCesiumWriter(BackgroundPaddingPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PixelOffsetCesiumWriter> m_pixelOffset = new Lazy<PixelOffsetCesiumWriter>(new Func1<PixelOffsetCesiumWriter>() {
-        public PixelOffsetCesiumWriter invoke() {
-            return new PixelOffsetCesiumWriter(PixelOffsetPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<EyeOffsetCesiumWriter> m_eyeOffset = new Lazy<EyeOffsetCesiumWriter>(new Func1<EyeOffsetCesiumWriter>() {
-        public EyeOffsetCesiumWriter invoke() {
-            return new EyeOffsetCesiumWriter(EyeOffsetPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HorizontalOriginCesiumWriter> m_horizontalOrigin = new Lazy<HorizontalOriginCesiumWriter>(new Func1<HorizontalOriginCesiumWriter>() {
-        public HorizontalOriginCesiumWriter invoke() {
-            return new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<VerticalOriginCesiumWriter> m_verticalOrigin = new Lazy<VerticalOriginCesiumWriter>(new Func1<VerticalOriginCesiumWriter>() {
-        public VerticalOriginCesiumWriter invoke() {
-            return new VerticalOriginCesiumWriter(VerticalOriginPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_fillColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(FillColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_translucencyByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_pixelOffsetScaleByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_scaleByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(ScaleByDistancePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_disableDepthTestDistance = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(DisableDepthTestDistancePropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private StringCesiumWriter m_text;
+    private FontCesiumWriter m_font;
+    private LabelStyleCesiumWriter m_style;
+    private DoubleCesiumWriter m_scale;
+    private BooleanCesiumWriter m_showBackground;
+    private ColorCesiumWriter m_backgroundColor;
+    private BackgroundPaddingCesiumWriter m_backgroundPadding;
+    private PixelOffsetCesiumWriter m_pixelOffset;
+    private EyeOffsetCesiumWriter m_eyeOffset;
+    private HorizontalOriginCesiumWriter m_horizontalOrigin;
+    private VerticalOriginCesiumWriter m_verticalOrigin;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private ColorCesiumWriter m_fillColor;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private NearFarScalarCesiumWriter m_translucencyByDistance;
+    private NearFarScalarCesiumWriter m_pixelOffsetScaleByDistance;
+    private NearFarScalarCesiumWriter m_scaleByDistance;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+    private DoubleCesiumWriter m_disableDepthTestDistance;
 
     /**
     * Initializes a new instance.
@@ -295,7 +188,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -369,7 +265,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final StringCesiumWriter getTextWriter() {
-        return m_text.getValue();
+        if (m_text == null) {
+            m_text = this.<StringCesiumWriter> addChildWriter(new StringCesiumWriter(TextPropertyName));
+        }
+        return m_text;
     }
 
     /**
@@ -443,7 +342,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final FontCesiumWriter getFontWriter() {
-        return m_font.getValue();
+        if (m_font == null) {
+            m_font = this.<FontCesiumWriter> addChildWriter(new FontCesiumWriter(FontPropertyName));
+        }
+        return m_font;
     }
 
     /**
@@ -517,7 +419,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final LabelStyleCesiumWriter getStyleWriter() {
-        return m_style.getValue();
+        if (m_style == null) {
+            m_style = this.<LabelStyleCesiumWriter> addChildWriter(new LabelStyleCesiumWriter(StylePropertyName));
+        }
+        return m_style;
     }
 
     /**
@@ -591,7 +496,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getScaleWriter() {
-        return m_scale.getValue();
+        if (m_scale == null) {
+            m_scale = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(ScalePropertyName));
+        }
+        return m_scale;
     }
 
     /**
@@ -691,7 +599,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getShowBackgroundWriter() {
-        return m_showBackground.getValue();
+        if (m_showBackground == null) {
+            m_showBackground = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowBackgroundPropertyName));
+        }
+        return m_showBackground;
     }
 
     /**
@@ -765,7 +676,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getBackgroundColorWriter() {
-        return m_backgroundColor.getValue();
+        if (m_backgroundColor == null) {
+            m_backgroundColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(BackgroundColorPropertyName));
+        }
+        return m_backgroundColor;
     }
 
     /**
@@ -930,7 +844,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final BackgroundPaddingCesiumWriter getBackgroundPaddingWriter() {
-        return m_backgroundPadding.getValue();
+        if (m_backgroundPadding == null) {
+            m_backgroundPadding = this.<BackgroundPaddingCesiumWriter> addChildWriter(new BackgroundPaddingCesiumWriter(BackgroundPaddingPropertyName));
+        }
+        return m_backgroundPadding;
     }
 
     /**
@@ -1042,7 +959,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final PixelOffsetCesiumWriter getPixelOffsetWriter() {
-        return m_pixelOffset.getValue();
+        if (m_pixelOffset == null) {
+            m_pixelOffset = this.<PixelOffsetCesiumWriter> addChildWriter(new PixelOffsetCesiumWriter(PixelOffsetPropertyName));
+        }
+        return m_pixelOffset;
     }
 
     /**
@@ -1154,7 +1074,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final EyeOffsetCesiumWriter getEyeOffsetWriter() {
-        return m_eyeOffset.getValue();
+        if (m_eyeOffset == null) {
+            m_eyeOffset = this.<EyeOffsetCesiumWriter> addChildWriter(new EyeOffsetCesiumWriter(EyeOffsetPropertyName));
+        }
+        return m_eyeOffset;
     }
 
     /**
@@ -1254,7 +1177,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final HorizontalOriginCesiumWriter getHorizontalOriginWriter() {
-        return m_horizontalOrigin.getValue();
+        if (m_horizontalOrigin == null) {
+            m_horizontalOrigin = this.<HorizontalOriginCesiumWriter> addChildWriter(new HorizontalOriginCesiumWriter(HorizontalOriginPropertyName));
+        }
+        return m_horizontalOrigin;
     }
 
     /**
@@ -1328,7 +1254,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final VerticalOriginCesiumWriter getVerticalOriginWriter() {
-        return m_verticalOrigin.getValue();
+        if (m_verticalOrigin == null) {
+            m_verticalOrigin = this.<VerticalOriginCesiumWriter> addChildWriter(new VerticalOriginCesiumWriter(VerticalOriginPropertyName));
+        }
+        return m_verticalOrigin;
     }
 
     /**
@@ -1402,7 +1331,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -1476,7 +1408,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getFillColorWriter() {
-        return m_fillColor.getValue();
+        if (m_fillColor == null) {
+            m_fillColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(FillColorPropertyName));
+        }
+        return m_fillColor;
     }
 
     /**
@@ -1641,7 +1576,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -1806,7 +1744,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -1906,7 +1847,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getTranslucencyByDistanceWriter() {
-        return m_translucencyByDistance.getValue();
+        if (m_translucencyByDistance == null) {
+            m_translucencyByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(TranslucencyByDistancePropertyName));
+        }
+        return m_translucencyByDistance;
     }
 
     /**
@@ -2020,7 +1964,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getPixelOffsetScaleByDistanceWriter() {
-        return m_pixelOffsetScaleByDistance.getValue();
+        if (m_pixelOffsetScaleByDistance == null) {
+            m_pixelOffsetScaleByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(PixelOffsetScaleByDistancePropertyName));
+        }
+        return m_pixelOffsetScaleByDistance;
     }
 
     /**
@@ -2134,7 +2081,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getScaleByDistanceWriter() {
-        return m_scaleByDistance.getValue();
+        if (m_scaleByDistance == null) {
+            m_scaleByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(ScaleByDistancePropertyName));
+        }
+        return m_scaleByDistance;
     }
 
     /**
@@ -2248,7 +2198,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -2360,7 +2313,10 @@ public class LabelCesiumWriter extends CesiumPropertyWriter<LabelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getDisableDepthTestDistanceWriter() {
-        return m_disableDepthTestDistance.getValue();
+        if (m_disableDepthTestDistance == null) {
+            m_disableDepthTestDistance = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(DisableDepthTestDistancePropertyName));
+        }
+        return m_disableDepthTestDistance;
     }
 
     /**
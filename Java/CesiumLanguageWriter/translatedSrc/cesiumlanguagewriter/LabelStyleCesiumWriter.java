@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class LabelStyleCesiumWriter extends CesiumPropertyWriter<LabelStyleCesiu
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter>> m_asLabelStyle;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter>> m_asReference;
+    private CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter> m_asLabelStyle;
+    private CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class LabelStyleCesiumWriter extends CesiumPropertyWriter<LabelStyleCesiu
     */
     public LabelStyleCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asLabelStyle = createAsLabelStyle();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class LabelStyleCesiumWriter extends CesiumPropertyWriter<LabelStyleCesiu
     */
     protected LabelStyleCesiumWriter(@Nonnull LabelStyleCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asLabelStyle = createAsLabelStyle();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,16 +136,10 @@ public class LabelStyleCesiumWriter extends CesiumPropertyWriter<LabelStyleCesiu
     */
     @Nonnull
     public final CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter> asLabelStyle() {
-        return m_asLabelStyle.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter>> createAsLabelStyle() {
-        return new Lazy<CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter>>(new Func1<CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter>>(this, "createLabelStyle") {
-            public CesiumLabelStyleValuePropertyAdaptor<LabelStyleCesiumWriter> invoke() {
-                return createLabelStyle();
-            }
-        }, false);
+        if (m_asLabelStyle == null) {
+            m_asLabelStyle = createLabelStyle();
+        }
+        return m_asLabelStyle;
     }
 
     @Nonnull
@@ -167,16 +153,10 @@ public class LabelStyleCesiumWriter extends CesiumPropertyWriter<LabelStyleCesiu
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<LabelStyleCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
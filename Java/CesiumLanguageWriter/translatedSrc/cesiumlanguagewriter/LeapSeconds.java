@@ -4,9 +4,11 @@ package cesiumlanguagewriter;
 import agi.foundation.compatibility.*;
 import agi.foundation.compatibility.annotations.CS2JInfo;
 import agi.foundation.compatibility.annotations.Internal;
+import agi.foundation.compatibility.ArgumentNullException;
 import agi.foundation.compatibility.ArgumentOutOfRangeException;
 import agi.foundation.compatibility.ListHelper;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -57,6 +59,7 @@ public class LeapSeconds {
         tempCollection$0.add(new LeapSecond(2457204.5, 36.0));
         tempCollection$0.add(new LeapSecond(2457754.5, 37.0));
         m_leapSeconds = tempCollection$0;
+        m_table = new Table(m_leapSeconds);
     }
 
     /**
@@ -66,6 +69,7 @@ public class LeapSeconds {
     public LeapSeconds(Iterable<LeapSecond> leapSeconds) {
         m_leapSeconds = ListHelper.create(leapSeconds);
         Collections.sort(m_leapSeconds, s_leapSecondComparer);
+        m_table = new Table(m_leapSeconds);
     }
 
     /**
@@ -76,9 +80,14 @@ public class LeapSeconds {
     }
 
     /**
-    * Sets the default (and usually only) instance.
+    * Sets the default (and usually only) instance.  Instances are immutable, so the instance
+    can be replaced at any time, for example when a new list of leap seconds is published,
+    and conversions on other threads will use either the old or the new list.
     */
-    public static void setInstance(LeapSeconds value) {
+    public static void setInstance(@Nonnull LeapSeconds value) {
+        if (value == null) {
+            throw new ArgumentNullException("value");
+        }
         s_leapSeconds = value;
     }
 
@@ -95,28 +104,45 @@ public class LeapSeconds {
     * @return The difference.
     */
     public final double getTaiMinusUtc(@Nonnull JulianDate date) {
-        date = date.toTimeStandard(TimeStandard.COORDINATED_UNIVERSAL_TIME);
-        LeapSecond toFind = new LeapSecond(date, 0.0);
-        // Start by assuming we're working with UTC, we'll check later if we're
-        // off by one because we really have TAI.
-        int index = Collections.binarySearch(m_leapSeconds, toFind, s_leapSecondComparer);
-        if (index < 0) {
-            index = ~index;
-            --index;
-        }
-        // Check if we're off by one because we're really working with TAI.
-        // If the requested date minus the most recent previous leap second offset is less than the date
-        // for the current leap second, then we haven't quite gotten to that leap second yet.
-        // This gets a little tricky because JulianDate and its conversion mechanisms try to outsmart us.
-        if (date.getStandard() == TimeStandard.INTERNATIONAL_ATOMIC_TIME) {
-            JulianDate lastDate = getDateForIndex(index);
-            JulianDate taiCutoff = new JulianDate(lastDate.getDay(), lastDate.getSecondsOfDay(), TimeStandard.INTERNATIONAL_ATOMIC_TIME);
-            taiCutoff = JulianDate.add(taiCutoff, Duration.fromSeconds(getOffsetForIndex(index)));
-            if (JulianDate.lessThan(date, taiCutoff)) {
-                --index;
+        int day = date.getDay();
+        double secondsOfDay = date.getSecondsOfDay();
+        if (date.getStandard() != TimeStandard.COORDINATED_UNIVERSAL_TIME) {
+            double offset = m_table.getTaiMinusUtcOfTai(day, secondsOfDay);
+            if (Double.isNaN(offset)) {
+                throw new ArgumentOutOfRangeException(CesiumLocalization.getCannotRepresentLeapSecondAsUTCJulianDate());
             }
+            JulianDate utc = new JulianDate(day, secondsOfDay - offset, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+            day = utc.getDay();
+            secondsOfDay = utc.getSecondsOfDay();
         }
-        return getOffsetForIndex(index);
+        return m_table.getTaiMinusUtcOfUtc(day, secondsOfDay);
+    }
+
+    /**
+    * Returns the difference TAI - UTC at a moment specified in UTC, in seconds.
+    * @param day The Julian day number of the moment, in UTC.
+    * @param secondsOfDay The seconds of the day of the moment, in UTC.
+    * @return The difference.
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public final double getTaiMinusUtcOfUtc(int day, double secondsOfDay) {
+        return m_table.getTaiMinusUtcOfUtc(day, secondsOfDay);
+    }
+
+    /**
+    * Returns the difference TAI - UTC at a moment specified in TAI, in seconds.
+    * @param day The Julian day number of the moment, in TAI.
+    * @param secondsOfDay The seconds of the day of the moment, in TAI.
+    * @return The difference, or {@link Double#NaN} if the moment is during a leap second and so
+    cannot be represented in UTC.
+    * @deprecated Internal use only.
+    */
+    @Deprecated
+    @Internal
+    public final double getTaiMinusUtcOfTai(int day, double secondsOfDay) {
+        return m_table.getTaiMinusUtcOfTai(day, secondsOfDay);
     }
 
     /**
@@ -157,63 +183,144 @@ public class LeapSeconds {
     @Deprecated
     @Internal
     public final boolean tryConvertTaiToUtc(@Nonnull JulianDate date, @Nonnull JulianDate[] result) {
-        //treat the request date as if it were UTC, and search for the most recent leap second.
-        LeapSecond toFind = new LeapSecond(date.getTotalDays(), 0.0);
-        int index = Collections.binarySearch(m_leapSeconds, toFind, s_leapSecondComparer);
-        if (index < 0) {
-            index = ~index;
-            --index;
-        }
-        //now we have the index of the most recent leap second that is after the requested date
-        if (index >= 0) {
-            double mostRecentOffset = getOffsetForIndex(index);
-            JulianDate leapSecondDate = getDateForIndex(index);
-            if (date.getDay() == leapSecondDate.getDay()) {
-                //if the requested date is on the day of the leap second, we may have to adjust
-                double secondsSinceLeapSecond = date.getSecondsOfDay() - leapSecondDate.getSecondsOfDay();
-                if (secondsSinceLeapSecond >= mostRecentOffset - 1 && secondsSinceLeapSecond < mostRecentOffset) {
-                    //if the requested date is during the moment of a leap second, then we cannot convert to UTC.
-                    result[0] = JulianDate.getMinValue();
-                    return false;
-                }
-                if (secondsSinceLeapSecond < mostRecentOffset) {
-                    --index;
-                }
-            }
+        double offset = m_table.getTaiMinusUtcOfTai(date.getDay(), date.getSecondsOfDay());
+        if (Double.isNaN(offset)) {
+            //if the requested date is during the moment of a leap second, then we cannot convert to UTC.
+            result[0] = JulianDate.getMinValue();
+            return false;
         }
-        result[0] = new JulianDate(date.getDay(), date.getSecondsOfDay() - getOffsetForIndex(index), TimeStandard.COORDINATED_UNIVERSAL_TIME);
+        result[0] = new JulianDate(date.getDay(), date.getSecondsOfDay() - offset, TimeStandard.COORDINATED_UNIVERSAL_TIME);
         return true;
     }
 
-    @Nonnull
-    private final JulianDate getDateForIndex(int index) {
-        if (index < 0) {
-            return new JulianDate(0, 0.0, TimeStandard.COORDINATED_UNIVERSAL_TIME);
-        }
-        return m_leapSeconds.get(index).getDate();
-    }
-
-    private final double getOffsetForIndex(int index) {
-        if (index < 0) {
-            return 10.0;
-        }
-        return m_leapSeconds.get(index).getTotalTaiOffsetFromUtc();
-    }
-
     /**
     * Determines if a given day contains a leap second.
     * @param julianDayNumber The day, specified as a Julian day number.
     * @return true if the day contains a leap second, otherwise false.
     */
     public final boolean doesDayHaveLeapSecond(int julianDayNumber) {
-        LeapSecond potentialLeapSecond = new LeapSecond(new JulianDate(julianDayNumber, 43200.0, TimeStandard.COORDINATED_UNIVERSAL_TIME), 0.0);
-        return Collections.binarySearch(m_leapSeconds, potentialLeapSecond, s_leapSecondComparer) >= 0;
+        return m_table.hasLeapSecond(julianDayNumber, 43200.0);
     }
 
-    private static LeapSecondComparer s_leapSecondComparer = new LeapSecondComparer();
-    private static LeapSeconds s_leapSeconds = new LeapSeconds();
+    private static final LeapSecondComparer s_leapSecondComparer = new LeapSecondComparer();
+    private static volatile LeapSeconds s_leapSeconds = new LeapSeconds();
+    @Nonnull
+    private final ArrayList<LeapSecond> m_leapSeconds;
     @Nonnull
-    private ArrayList<LeapSecond> m_leapSeconds;
+    private final Table m_table;
+
+    /**
+    * The leap seconds as parallel arrays of UTC dates and offsets, with an index from each Julian day
+    number in the range of the leap seconds to the last leap second on or before that day.  Dates after
+    the last leap second, which are by far the most common, are resolved by a single comparison.
+    */
+    private static final class Table {
+        public Table(@Nonnull List<LeapSecond> leapSeconds) {
+            int count = leapSeconds.size();
+            m_days = new int[count];
+            m_secondsOfDay = new double[count];
+            m_offsets = new double[count];
+            for (int i = 0; i < count; ++i) {
+                JulianDate date = leapSeconds.get(i).getDate();
+                m_days[i] = date.getDay();
+                m_secondsOfDay[i] = date.getSecondsOfDay();
+                m_offsets[i] = leapSeconds.get(i).getTotalTaiOffsetFromUtc();
+            }
+            m_lastIndex = count - 1;
+            if (count > 0 && (long) m_days[count - 1] - m_days[0] < MaximumIndexedDays) {
+                m_firstDay = m_days[0];
+                m_indexByDay = new int[m_days[count - 1] - m_firstDay + 1];
+                int index = 0;
+                for (int day = 0; day < m_indexByDay.length; ++day) {
+                    while (index + 1 < count && m_days[index + 1] <= m_firstDay + day) {
+                        ++index;
+                    }
+                    m_indexByDay[day] = index;
+                }
+            } else {
+                m_firstDay = 0;
+                m_indexByDay = null;
+            }
+        }
+
+        /**
+        * Gets the index of the last leap second at or before a UTC date, or -1 if there is none.
+        */
+        public final int findIndex(int day, double secondsOfDay) {
+            int last = m_lastIndex;
+            if (last < 0) {
+                return -1;
+            }
+            if (day > m_days[last]) {
+                return last;
+            }
+            int index;
+            if (m_indexByDay != null) {
+                if (day < m_firstDay) {
+                    return -1;
+                }
+                index = m_indexByDay[day - m_firstDay];
+            } else {
+                index = Arrays.binarySearch(m_days, day);
+                if (index < 0) {
+                    index = ~index - 1;
+                } else {
+                    while (index < last && m_days[index + 1] == day) {
+                        ++index;
+                    }
+                }
+            }
+            while (index >= 0 && m_days[index] == day && m_secondsOfDay[index] > secondsOfDay) {
+                --index;
+            }
+            return index;
+        }
+
+        public final double getOffset(int index) {
+            return index < 0 ? 10.0 : m_offsets[index];
+        }
+
+        public final double getTaiMinusUtcOfUtc(int day, double secondsOfDay) {
+            return getOffset(findIndex(day, secondsOfDay));
+        }
+
+        public final double getTaiMinusUtcOfTai(int day, double secondsOfDay) {
+            // Treat the date as if it were UTC, and find the most recent leap second.  The total
+            // days are used so that the search matches the historical behavior exactly.
+            double totalDays = day + secondsOfDay / TimeConstants.SecondsPerDay;
+            int searchDay = (int) totalDays;
+            double searchSecondsOfDay = (totalDays - searchDay) * TimeConstants.SecondsPerDay;
+            int index = findIndex(searchDay, searchSecondsOfDay);
+            if (index >= 0 && day == m_days[index]) {
+                // If the date is on the day of the leap second, we may have to adjust.
+                double mostRecentOffset = m_offsets[index];
+                double secondsSinceLeapSecond = secondsOfDay - m_secondsOfDay[index];
+                if (secondsSinceLeapSecond >= mostRecentOffset - 1 && secondsSinceLeapSecond < mostRecentOffset) {
+                    return Double.NaN;
+                }
+                if (secondsSinceLeapSecond < mostRecentOffset) {
+                    --index;
+                }
+            }
+            return getOffset(index);
+        }
+
+        public final boolean hasLeapSecond(int day, double secondsOfDay) {
+            int index = findIndex(day, secondsOfDay);
+            return index >= 0 && m_days[index] == day && m_secondsOfDay[index] == secondsOfDay;
+        }
+
+        private static final long MaximumIndexedDays = 1L << 20;
+        @Nonnull
+        private final int[] m_days;
+        @Nonnull
+        private final double[] m_secondsOfDay;
+        @Nonnull
+        private final double[] m_offsets;
+        private final int m_lastIndex;
+        private final int m_firstDay;
+        private final int[] m_indexByDay;
+    }
 
     private static class LeapSecondComparer implements Comparator<LeapSecond> {
         public final int compare(@Nonnull LeapSecond x, @Nonnull LeapSecond y) {
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class LineOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<L
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<LineOffsetCesiumWriter>> m_asCartesian2;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<LineOffsetCesiumWriter>> m_asReference;
+    private CesiumCartesian2ValuePropertyAdaptor<LineOffsetCesiumWriter> m_asCartesian2;
+    private CesiumReferenceValuePropertyAdaptor<LineOffsetCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class LineOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<L
     */
     public LineOffsetCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian2 = createAsCartesian2();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class LineOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<L
     */
     protected LineOffsetCesiumWriter(@Nonnull LineOffsetCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian2 = createAsCartesian2();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -172,16 +164,10 @@ public class LineOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<L
     */
     @Nonnull
     public final CesiumCartesian2ValuePropertyAdaptor<LineOffsetCesiumWriter> asCartesian2() {
-        return m_asCartesian2.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<LineOffsetCesiumWriter>> createAsCartesian2() {
-        return new Lazy<CesiumCartesian2ValuePropertyAdaptor<LineOffsetCesiumWriter>>(new Func1<CesiumCartesian2ValuePropertyAdaptor<LineOffsetCesiumWriter>>(this, "createCartesian2") {
-            public CesiumCartesian2ValuePropertyAdaptor<LineOffsetCesiumWriter> invoke() {
-                return createCartesian2();
-            }
-        }, false);
+        if (m_asCartesian2 == null) {
+            m_asCartesian2 = createCartesian2();
+        }
+        return m_asCartesian2;
     }
 
     @Nonnull
@@ -195,16 +181,10 @@ public class LineOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<L
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<LineOffsetCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<LineOffsetCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<LineOffsetCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<LineOffsetCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<LineOffsetCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.CheckerboardMaterialCesiumWriter;
 import cesiumlanguagewriter.GridMaterialCesiumWriter;
@@ -46,36 +44,11 @@ public class MaterialCesiumWriter extends CesiumPropertyWriter<MaterialCesiumWri
     */
     @Nonnull
     public static final String CheckerboardPropertyName = "checkerboard";
-    @Nonnull
-    private final Lazy<SolidColorMaterialCesiumWriter> m_solidColor = new Lazy<SolidColorMaterialCesiumWriter>(new Func1<SolidColorMaterialCesiumWriter>() {
-        public SolidColorMaterialCesiumWriter invoke() {
-            return new SolidColorMaterialCesiumWriter(SolidColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ImageMaterialCesiumWriter> m_image = new Lazy<ImageMaterialCesiumWriter>(new Func1<ImageMaterialCesiumWriter>() {
-        public ImageMaterialCesiumWriter invoke() {
-            return new ImageMaterialCesiumWriter(ImagePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<GridMaterialCesiumWriter> m_grid = new Lazy<GridMaterialCesiumWriter>(new Func1<GridMaterialCesiumWriter>() {
-        public GridMaterialCesiumWriter invoke() {
-            return new GridMaterialCesiumWriter(GridPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<StripeMaterialCesiumWriter> m_stripe = new Lazy<StripeMaterialCesiumWriter>(new Func1<StripeMaterialCesiumWriter>() {
-        public StripeMaterialCesiumWriter invoke() {
-            return new StripeMaterialCesiumWriter(StripePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CheckerboardMaterialCesiumWriter> m_checkerboard = new Lazy<CheckerboardMaterialCesiumWriter>(new Func1<CheckerboardMaterialCesiumWriter>() {
-        public CheckerboardMaterialCesiumWriter invoke() {
-            return new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName);
-        }
-    }, false);
+    private SolidColorMaterialCesiumWriter m_solidColor;
+    private ImageMaterialCesiumWriter m_image;
+    private GridMaterialCesiumWriter m_grid;
+    private StripeMaterialCesiumWriter m_stripe;
+    private CheckerboardMaterialCesiumWriter m_checkerboard;
 
     /**
     * Initializes a new instance.
@@ -107,7 +80,10 @@ public class MaterialCesiumWriter extends CesiumPropertyWriter<MaterialCesiumWri
     */
     @Nonnull
     public final SolidColorMaterialCesiumWriter getSolidColorWriter() {
-        return m_solidColor.getValue();
+        if (m_solidColor == null) {
+            m_solidColor = this.<SolidColorMaterialCesiumWriter> addChildWriter(new SolidColorMaterialCesiumWriter(SolidColorPropertyName));
+        }
+        return m_solidColor;
     }
 
     /**
@@ -124,7 +100,10 @@ public class MaterialCesiumWriter extends CesiumPropertyWriter<MaterialCesiumWri
     */
     @Nonnull
     public final ImageMaterialCesiumWriter getImageWriter() {
-        return m_image.getValue();
+        if (m_image == null) {
+            m_image = this.<ImageMaterialCesiumWriter> addChildWriter(new ImageMaterialCesiumWriter(ImagePropertyName));
+        }
+        return m_image;
     }
 
     /**
@@ -141,7 +120,10 @@ public class MaterialCesiumWriter extends CesiumPropertyWriter<MaterialCesiumWri
     */
     @Nonnull
     public final GridMaterialCesiumWriter getGridWriter() {
-        return m_grid.getValue();
+        if (m_grid == null) {
+            m_grid = this.<GridMaterialCesiumWriter> addChildWriter(new GridMaterialCesiumWriter(GridPropertyName));
+        }
+        return m_grid;
     }
 
     /**
@@ -158,7 +140,10 @@ public class MaterialCesiumWriter extends CesiumPropertyWriter<MaterialCesiumWri
     */
     @Nonnull
     public final StripeMaterialCesiumWriter getStripeWriter() {
-        return m_stripe.getValue();
+        if (m_stripe == null) {
+            m_stripe = this.<StripeMaterialCesiumWriter> addChildWriter(new StripeMaterialCesiumWriter(StripePropertyName));
+        }
+        return m_stripe;
     }
 
     /**
@@ -175,7 +160,10 @@ public class MaterialCesiumWriter extends CesiumPropertyWriter<MaterialCesiumWri
     */
     @Nonnull
     public final CheckerboardMaterialCesiumWriter getCheckerboardWriter() {
-        return m_checkerboard.getValue();
+        if (m_checkerboard == null) {
+            m_checkerboard = this.<CheckerboardMaterialCesiumWriter> addChildWriter(new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName));
+        }
+        return m_checkerboard;
     }
 
     /**
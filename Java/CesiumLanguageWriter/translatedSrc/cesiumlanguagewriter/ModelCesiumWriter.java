@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ArticulationsCesiumWriter;
@@ -116,108 +114,23 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public static final String ArticulationsPropertyName = "articulations";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<UriCesiumWriter> m_gltf = new Lazy<UriCesiumWriter>(new Func1<UriCesiumWriter>() {
-        public UriCesiumWriter invoke() {
-            return new UriCesiumWriter(GltfPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_scale = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(ScalePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_minimumPixelSize = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MinimumPixelSizePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_maximumScale = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MaximumScalePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_incrementallyLoadTextures = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(IncrementallyLoadTexturesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_runAnimations = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(RunAnimationsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_silhouetteColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(SilhouetteColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_silhouetteSize = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(SilhouetteSizePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorBlendModeCesiumWriter> m_colorBlendMode = new Lazy<ColorBlendModeCesiumWriter>(new Func1<ColorBlendModeCesiumWriter>() {
-        public ColorBlendModeCesiumWriter invoke() {
-            return new ColorBlendModeCesiumWriter(ColorBlendModePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_colorBlendAmount = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(ColorBlendAmountPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NodeTransformationsCesiumWriter> m_nodeTransformations = new Lazy<NodeTransformationsCesiumWriter>(new Func1<NodeTransformationsCesiumWriter>() {
-        public NodeTransformationsCesiumWriter invoke() {
-            return new NodeTransformationsCesiumWriter(NodeTransformationsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ArticulationsCesiumWriter> m_articulations = new Lazy<ArticulationsCesiumWriter>(new Func1<ArticulationsCesiumWriter>() {
-        public ArticulationsCesiumWriter invoke() {
-            return new ArticulationsCesiumWriter(ArticulationsPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private UriCesiumWriter m_gltf;
+    private DoubleCesiumWriter m_scale;
+    private DoubleCesiumWriter m_minimumPixelSize;
+    private DoubleCesiumWriter m_maximumScale;
+    private BooleanCesiumWriter m_incrementallyLoadTextures;
+    private BooleanCesiumWriter m_runAnimations;
+    private ShadowModeCesiumWriter m_shadows;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private ColorCesiumWriter m_silhouetteColor;
+    private DoubleCesiumWriter m_silhouetteSize;
+    private ColorCesiumWriter m_color;
+    private ColorBlendModeCesiumWriter m_colorBlendMode;
+    private DoubleCesiumWriter m_colorBlendAmount;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+    private NodeTransformationsCesiumWriter m_nodeTransformations;
+    private ArticulationsCesiumWriter m_articulations;
 
     /**
     * Initializes a new instance.
@@ -249,7 +162,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -323,7 +239,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final UriCesiumWriter getGltfWriter() {
-        return m_gltf.getValue();
+        if (m_gltf == null) {
+            m_gltf = this.<UriCesiumWriter> addChildWriter(new UriCesiumWriter(GltfPropertyName));
+        }
+        return m_gltf;
     }
 
     /**
@@ -468,7 +387,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getScaleWriter() {
-        return m_scale.getValue();
+        if (m_scale == null) {
+            m_scale = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(ScalePropertyName));
+        }
+        return m_scale;
     }
 
     /**
@@ -568,7 +490,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getMinimumPixelSizeWriter() {
-        return m_minimumPixelSize.getValue();
+        if (m_minimumPixelSize == null) {
+            m_minimumPixelSize = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MinimumPixelSizePropertyName));
+        }
+        return m_minimumPixelSize;
     }
 
     /**
@@ -668,7 +593,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getMaximumScaleWriter() {
-        return m_maximumScale.getValue();
+        if (m_maximumScale == null) {
+            m_maximumScale = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MaximumScalePropertyName));
+        }
+        return m_maximumScale;
     }
 
     /**
@@ -768,7 +696,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getIncrementallyLoadTexturesWriter() {
-        return m_incrementallyLoadTextures.getValue();
+        if (m_incrementallyLoadTextures == null) {
+            m_incrementallyLoadTextures = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(IncrementallyLoadTexturesPropertyName));
+        }
+        return m_incrementallyLoadTextures;
     }
 
     /**
@@ -842,7 +773,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getRunAnimationsWriter() {
-        return m_runAnimations.getValue();
+        if (m_runAnimations == null) {
+            m_runAnimations = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(RunAnimationsPropertyName));
+        }
+        return m_runAnimations;
     }
 
     /**
@@ -916,7 +850,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -990,7 +927,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -1064,7 +1004,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getSilhouetteColorWriter() {
-        return m_silhouetteColor.getValue();
+        if (m_silhouetteColor == null) {
+            m_silhouetteColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(SilhouetteColorPropertyName));
+        }
+        return m_silhouetteColor;
     }
 
     /**
@@ -1229,7 +1172,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getSilhouetteSizeWriter() {
-        return m_silhouetteSize.getValue();
+        if (m_silhouetteSize == null) {
+            m_silhouetteSize = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(SilhouetteSizePropertyName));
+        }
+        return m_silhouetteSize;
     }
 
     /**
@@ -1329,7 +1275,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -1494,7 +1443,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final ColorBlendModeCesiumWriter getColorBlendModeWriter() {
-        return m_colorBlendMode.getValue();
+        if (m_colorBlendMode == null) {
+            m_colorBlendMode = this.<ColorBlendModeCesiumWriter> addChildWriter(new ColorBlendModeCesiumWriter(ColorBlendModePropertyName));
+        }
+        return m_colorBlendMode;
     }
 
     /**
@@ -1568,7 +1520,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getColorBlendAmountWriter() {
-        return m_colorBlendAmount.getValue();
+        if (m_colorBlendAmount == null) {
+            m_colorBlendAmount = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(ColorBlendAmountPropertyName));
+        }
+        return m_colorBlendAmount;
     }
 
     /**
@@ -1668,7 +1623,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -1780,7 +1738,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final NodeTransformationsCesiumWriter getNodeTransformationsWriter() {
-        return m_nodeTransformations.getValue();
+        if (m_nodeTransformations == null) {
+            m_nodeTransformations = this.<NodeTransformationsCesiumWriter> addChildWriter(new NodeTransformationsCesiumWriter(NodeTransformationsPropertyName));
+        }
+        return m_nodeTransformations;
     }
 
     /**
@@ -1797,7 +1758,10 @@ public class ModelCesiumWriter extends CesiumPropertyWriter<ModelCesiumWriter> {
     */
     @Nonnull
     public final ArticulationsCesiumWriter getArticulationsWriter() {
-        return m_articulations.getValue();
+        if (m_articulations == null) {
+            m_articulations = this.<ArticulationsCesiumWriter> addChildWriter(new ArticulationsCesiumWriter(ArticulationsPropertyName));
+        }
+        return m_articulations;
     }
 
     /**
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class NearFarScalarCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter>> m_asNearFarScalar;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter>> m_asReference;
+    private CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter> m_asNearFarScalar;
+    private CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class NearFarScalarCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     public NearFarScalarCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asNearFarScalar = createAsNearFarScalar();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class NearFarScalarCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     protected NearFarScalarCesiumWriter(@Nonnull NearFarScalarCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asNearFarScalar = createAsNearFarScalar();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -174,16 +166,10 @@ public class NearFarScalarCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     @Nonnull
     public final CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter> asNearFarScalar() {
-        return m_asNearFarScalar.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter>> createAsNearFarScalar() {
-        return new Lazy<CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter>>(new Func1<CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter>>(this, "createNearFarScalar") {
-            public CesiumNearFarScalarValuePropertyAdaptor<NearFarScalarCesiumWriter> invoke() {
-                return createNearFarScalar();
-            }
-        }, false);
+        if (m_asNearFarScalar == null) {
+            m_asNearFarScalar = createNearFarScalar();
+        }
+        return m_asNearFarScalar;
     }
 
     @Nonnull
@@ -197,16 +183,10 @@ public class NearFarScalarCesiumWriter extends CesiumInterpolatablePropertyWrite
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<NearFarScalarCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.RotationCesiumWriter;
@@ -36,24 +34,9 @@ public class NodeTransformationCesiumWriter extends CesiumPropertyWriter<NodeTra
     */
     @Nonnull
     public static final String ScalePropertyName = "scale";
-    @Nonnull
-    private final Lazy<TranslationCesiumWriter> m_translation = new Lazy<TranslationCesiumWriter>(new Func1<TranslationCesiumWriter>() {
-        public TranslationCesiumWriter invoke() {
-            return new TranslationCesiumWriter(TranslationPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<RotationCesiumWriter> m_rotation = new Lazy<RotationCesiumWriter>(new Func1<RotationCesiumWriter>() {
-        public RotationCesiumWriter invoke() {
-            return new RotationCesiumWriter(RotationPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ScaleCesiumWriter> m_scale = new Lazy<ScaleCesiumWriter>(new Func1<ScaleCesiumWriter>() {
-        public ScaleCesiumWriter invoke() {
-            return new ScaleCesiumWriter(ScalePropertyName);
-        }
-    }, false);
+    private TranslationCesiumWriter m_translation;
+    private RotationCesiumWriter m_rotation;
+    private ScaleCesiumWriter m_scale;
 
     /**
     * Initializes a new instance.
@@ -85,7 +68,10 @@ public class NodeTransformationCesiumWriter extends CesiumPropertyWriter<NodeTra
     */
     @Nonnull
     public final TranslationCesiumWriter getTranslationWriter() {
-        return m_translation.getValue();
+        if (m_translation == null) {
+            m_translation = this.<TranslationCesiumWriter> addChildWriter(new TranslationCesiumWriter(TranslationPropertyName));
+        }
+        return m_translation;
     }
 
     /**
@@ -185,7 +171,10 @@ public class NodeTransformationCesiumWriter extends CesiumPropertyWriter<NodeTra
     */
     @Nonnull
     public final RotationCesiumWriter getRotationWriter() {
-        return m_rotation.getValue();
+        if (m_rotation == null) {
+            m_rotation = this.<RotationCesiumWriter> addChildWriter(new RotationCesiumWriter(RotationPropertyName));
+        }
+        return m_rotation;
     }
 
     /**
@@ -285,7 +274,10 @@ public class NodeTransformationCesiumWriter extends CesiumPropertyWriter<NodeTra
     */
     @Nonnull
     public final ScaleCesiumWriter getScaleWriter() {
-        return m_scale.getValue();
+        if (m_scale == null) {
+            m_scale = this.<ScaleCesiumWriter> addChildWriter(new ScaleCesiumWriter(ScalePropertyName));
+        }
+        return m_scale;
     }
 
     /**
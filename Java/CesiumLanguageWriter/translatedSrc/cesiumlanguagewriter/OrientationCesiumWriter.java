@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -38,12 +36,9 @@ public class OrientationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter>> m_asUnitQuaternion;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter>> m_asReference;
-    @Nonnull
-    private final Lazy<CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter>> m_asVelocityReference;
+    private CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter> m_asUnitQuaternion;
+    private CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter> m_asReference;
+    private CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter> m_asVelocityReference;
 
     /**
     * Initializes a new instance.
@@ -51,9 +46,6 @@ public class OrientationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     public OrientationCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asUnitQuaternion = createAsUnitQuaternion();
-        m_asReference = createAsReference();
-        m_asVelocityReference = createAsVelocityReference();
     }
 
     /**
@@ -62,9 +54,6 @@ public class OrientationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     protected OrientationCesiumWriter(@Nonnull OrientationCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asUnitQuaternion = createAsUnitQuaternion();
-        m_asReference = createAsReference();
-        m_asVelocityReference = createAsVelocityReference();
     }
 
     /**
@@ -109,6 +98,28 @@ public class OrientationCesiumWriter extends CesiumInterpolatablePropertyWriter<
         CesiumWritingHelper.writeUnitQuaternion(getOutput(), PropertyName, dates, values, startIndex, length);
     }
 
+    /**
+    * Writes the value expressed as a {@code unitQuaternion}, which is the orientation specified as a 4-dimensional unit magnitude quaternion, specified as {@code [X, Y, Z, W]}.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    */
+    public final void writeUnitQuaternion(@Nonnull SharedTimeGrid grid, List<UnitQuaternion> values) {
+        writeUnitQuaternion(grid, values, 0, grid.getCount());
+    }
+
+    /**
+    * Writes the value expressed as a {@code unitQuaternion}, which is the orientation specified as a 4-dimensional unit magnitude quaternion, specified as {@code [X, Y, Z, W]}.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeUnitQuaternion(@Nonnull SharedTimeGrid grid, List<UnitQuaternion> values, int startIndex, int length) {
+        final String PropertyName = UnitQuaternionPropertyName;
+        openIntervalIfNecessary();
+        CesiumWritingHelper.writeUnitQuaternion(getOutput(), PropertyName, grid, values, startIndex, length);
+    }
+
     /**
     * Writes the value expressed as a {@code reference}, which is the orientation specified as a reference to another property.
     * @param value The reference.
@@ -218,16 +229,10 @@ public class OrientationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter> asUnitQuaternion() {
-        return m_asUnitQuaternion.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter>> createAsUnitQuaternion() {
-        return new Lazy<CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter>>(new Func1<CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter>>(this, "createUnitQuaternion") {
-            public CesiumUnitQuaternionValuePropertyAdaptor<OrientationCesiumWriter> invoke() {
-                return createUnitQuaternion();
-            }
-        }, false);
+        if (m_asUnitQuaternion == null) {
+            m_asUnitQuaternion = createUnitQuaternion();
+        }
+        return m_asUnitQuaternion;
     }
 
     @Nonnull
@@ -241,16 +246,10 @@ public class OrientationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<OrientationCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -264,17 +263,10 @@ public class OrientationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter> asVelocityReference() {
-        return m_asVelocityReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter>> createAsVelocityReference() {
-        return new Lazy<CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter>>(
-                new Func1<CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter>>(this, "createVelocityReference") {
-                    public CesiumVelocityReferenceValuePropertyAdaptor<OrientationCesiumWriter> invoke() {
-                        return createVelocityReference();
-                    }
-                }, false);
+        if (m_asVelocityReference == null) {
+            m_asVelocityReference = createVelocityReference();
+        }
+        return m_asVelocityReference;
     }
 
     @Nonnull
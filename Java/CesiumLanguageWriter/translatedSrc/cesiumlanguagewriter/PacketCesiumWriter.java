@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BillboardCesiumWriter;
@@ -210,168 +208,33 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public static final String VectorPropertyName = "agi_vector";
-    @Nonnull
-    private final Lazy<StringCesiumWriter> m_description = new Lazy<StringCesiumWriter>(new Func1<StringCesiumWriter>() {
-        public StringCesiumWriter invoke() {
-            return new StringCesiumWriter(DescriptionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ClockCesiumWriter> m_clock = new Lazy<ClockCesiumWriter>(new Func1<ClockCesiumWriter>() {
-        public ClockCesiumWriter invoke() {
-            return new ClockCesiumWriter(ClockPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CustomPropertiesCesiumWriter> m_properties = new Lazy<CustomPropertiesCesiumWriter>(new Func1<CustomPropertiesCesiumWriter>() {
-        public CustomPropertiesCesiumWriter invoke() {
-            return new CustomPropertiesCesiumWriter(PropertiesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PositionCesiumWriter> m_position = new Lazy<PositionCesiumWriter>(new Func1<PositionCesiumWriter>() {
-        public PositionCesiumWriter invoke() {
-            return new PositionCesiumWriter(PositionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<OrientationCesiumWriter> m_orientation = new Lazy<OrientationCesiumWriter>(new Func1<OrientationCesiumWriter>() {
-        public OrientationCesiumWriter invoke() {
-            return new OrientationCesiumWriter(OrientationPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ViewFromCesiumWriter> m_viewFrom = new Lazy<ViewFromCesiumWriter>(new Func1<ViewFromCesiumWriter>() {
-        public ViewFromCesiumWriter invoke() {
-            return new ViewFromCesiumWriter(ViewFromPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BillboardCesiumWriter> m_billboard = new Lazy<BillboardCesiumWriter>(new Func1<BillboardCesiumWriter>() {
-        public BillboardCesiumWriter invoke() {
-            return new BillboardCesiumWriter(BillboardPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BoxCesiumWriter> m_box = new Lazy<BoxCesiumWriter>(new Func1<BoxCesiumWriter>() {
-        public BoxCesiumWriter invoke() {
-            return new BoxCesiumWriter(BoxPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CorridorCesiumWriter> m_corridor = new Lazy<CorridorCesiumWriter>(new Func1<CorridorCesiumWriter>() {
-        public CorridorCesiumWriter invoke() {
-            return new CorridorCesiumWriter(CorridorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CylinderCesiumWriter> m_cylinder = new Lazy<CylinderCesiumWriter>(new Func1<CylinderCesiumWriter>() {
-        public CylinderCesiumWriter invoke() {
-            return new CylinderCesiumWriter(CylinderPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<EllipseCesiumWriter> m_ellipse = new Lazy<EllipseCesiumWriter>(new Func1<EllipseCesiumWriter>() {
-        public EllipseCesiumWriter invoke() {
-            return new EllipseCesiumWriter(EllipsePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<EllipsoidCesiumWriter> m_ellipsoid = new Lazy<EllipsoidCesiumWriter>(new Func1<EllipsoidCesiumWriter>() {
-        public EllipsoidCesiumWriter invoke() {
-            return new EllipsoidCesiumWriter(EllipsoidPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<LabelCesiumWriter> m_label = new Lazy<LabelCesiumWriter>(new Func1<LabelCesiumWriter>() {
-        public LabelCesiumWriter invoke() {
-            return new LabelCesiumWriter(LabelPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ModelCesiumWriter> m_model = new Lazy<ModelCesiumWriter>(new Func1<ModelCesiumWriter>() {
-        public ModelCesiumWriter invoke() {
-            return new ModelCesiumWriter(ModelPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PathCesiumWriter> m_path = new Lazy<PathCesiumWriter>(new Func1<PathCesiumWriter>() {
-        public PathCesiumWriter invoke() {
-            return new PathCesiumWriter(PathPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PointCesiumWriter> m_point = new Lazy<PointCesiumWriter>(new Func1<PointCesiumWriter>() {
-        public PointCesiumWriter invoke() {
-            return new PointCesiumWriter(PointPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolygonCesiumWriter> m_polygon = new Lazy<PolygonCesiumWriter>(new Func1<PolygonCesiumWriter>() {
-        public PolygonCesiumWriter invoke() {
-            return new PolygonCesiumWriter(PolygonPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineCesiumWriter> m_polyline = new Lazy<PolylineCesiumWriter>(new Func1<PolylineCesiumWriter>() {
-        public PolylineCesiumWriter invoke() {
-            return new PolylineCesiumWriter(PolylinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineVolumeCesiumWriter> m_polylineVolume = new Lazy<PolylineVolumeCesiumWriter>(new Func1<PolylineVolumeCesiumWriter>() {
-        public PolylineVolumeCesiumWriter invoke() {
-            return new PolylineVolumeCesiumWriter(PolylineVolumePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<RectangleCesiumWriter> m_rectangle = new Lazy<RectangleCesiumWriter>(new Func1<RectangleCesiumWriter>() {
-        public RectangleCesiumWriter invoke() {
-            return new RectangleCesiumWriter(RectanglePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<TilesetCesiumWriter> m_tileset = new Lazy<TilesetCesiumWriter>(new Func1<TilesetCesiumWriter>() {
-        public TilesetCesiumWriter invoke() {
-            return new TilesetCesiumWriter(TilesetPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<WallCesiumWriter> m_wall = new Lazy<WallCesiumWriter>(new Func1<WallCesiumWriter>() {
-        public WallCesiumWriter invoke() {
-            return new WallCesiumWriter(WallPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ConicSensorCesiumWriter> m_agi_conicSensor = new Lazy<ConicSensorCesiumWriter>(new Func1<ConicSensorCesiumWriter>() {
-        public ConicSensorCesiumWriter invoke() {
-            return new ConicSensorCesiumWriter(ConicSensorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CustomPatternSensorCesiumWriter> m_agi_customPatternSensor = new Lazy<CustomPatternSensorCesiumWriter>(new Func1<CustomPatternSensorCesiumWriter>() {
-        public CustomPatternSensorCesiumWriter invoke() {
-            return new CustomPatternSensorCesiumWriter(CustomPatternSensorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<RectangularSensorCesiumWriter> m_agi_rectangularSensor = new Lazy<RectangularSensorCesiumWriter>(new Func1<RectangularSensorCesiumWriter>() {
-        public RectangularSensorCesiumWriter invoke() {
-            return new RectangularSensorCesiumWriter(RectangularSensorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<FanCesiumWriter> m_agi_fan = new Lazy<FanCesiumWriter>(new Func1<FanCesiumWriter>() {
-        public FanCesiumWriter invoke() {
-            return new FanCesiumWriter(FanPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<VectorCesiumWriter> m_agi_vector = new Lazy<VectorCesiumWriter>(new Func1<VectorCesiumWriter>() {
-        public VectorCesiumWriter invoke() {
-            return new VectorCesiumWriter(VectorPropertyName);
-        }
-    }, false);
+    private StringCesiumWriter m_description;
+    private ClockCesiumWriter m_clock;
+    private CustomPropertiesCesiumWriter m_properties;
+    private PositionCesiumWriter m_position;
+    private OrientationCesiumWriter m_orientation;
+    private ViewFromCesiumWriter m_viewFrom;
+    private BillboardCesiumWriter m_billboard;
+    private BoxCesiumWriter m_box;
+    private CorridorCesiumWriter m_corridor;
+    private CylinderCesiumWriter m_cylinder;
+    private EllipseCesiumWriter m_ellipse;
+    private EllipsoidCesiumWriter m_ellipsoid;
+    private LabelCesiumWriter m_label;
+    private ModelCesiumWriter m_model;
+    private PathCesiumWriter m_path;
+    private PointCesiumWriter m_point;
+    private PolygonCesiumWriter m_polygon;
+    private PolylineCesiumWriter m_polyline;
+    private PolylineVolumeCesiumWriter m_polylineVolume;
+    private RectangleCesiumWriter m_rectangle;
+    private TilesetCesiumWriter m_tileset;
+    private WallCesiumWriter m_wall;
+    private ConicSensorCesiumWriter m_agi_conicSensor;
+    private CustomPatternSensorCesiumWriter m_agi_customPatternSensor;
+    private RectangularSensorCesiumWriter m_agi_rectangularSensor;
+    private FanCesiumWriter m_agi_fan;
+    private VectorCesiumWriter m_agi_vector;
 
     /**
     * Writes the start of a new JSON object representing the packet.
@@ -434,7 +297,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final StringCesiumWriter getDescriptionWriter() {
-        return m_description.getValue();
+        if (m_description == null) {
+            m_description = this.<StringCesiumWriter> addChildWriter(new StringCesiumWriter(DescriptionPropertyName));
+        }
+        return m_description;
     }
 
     /**
@@ -507,7 +373,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final ClockCesiumWriter getClockWriter() {
-        return m_clock.getValue();
+        if (m_clock == null) {
+            m_clock = this.<ClockCesiumWriter> addChildWriter(new ClockCesiumWriter(ClockPropertyName));
+        }
+        return m_clock;
     }
 
     /**
@@ -562,7 +431,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final CustomPropertiesCesiumWriter getPropertiesWriter() {
-        return m_properties.getValue();
+        if (m_properties == null) {
+            m_properties = this.<CustomPropertiesCesiumWriter> addChildWriter(new CustomPropertiesCesiumWriter(PropertiesPropertyName));
+        }
+        return m_properties;
     }
 
     /**
@@ -578,7 +450,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final PositionCesiumWriter getPositionWriter() {
-        return m_position.getValue();
+        if (m_position == null) {
+            m_position = this.<PositionCesiumWriter> addChildWriter(new PositionCesiumWriter(PositionPropertyName));
+        }
+        return m_position;
     }
 
     /**
@@ -788,7 +663,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final OrientationCesiumWriter getOrientationWriter() {
-        return m_orientation.getValue();
+        if (m_orientation == null) {
+            m_orientation = this.<OrientationCesiumWriter> addChildWriter(new OrientationCesiumWriter(OrientationPropertyName));
+        }
+        return m_orientation;
     }
 
     /**
@@ -933,7 +811,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final ViewFromCesiumWriter getViewFromWriter() {
-        return m_viewFrom.getValue();
+        if (m_viewFrom == null) {
+            m_viewFrom = this.<ViewFromCesiumWriter> addChildWriter(new ViewFromCesiumWriter(ViewFromPropertyName));
+        }
+        return m_viewFrom;
     }
 
     /**
@@ -1032,7 +913,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final BillboardCesiumWriter getBillboardWriter() {
-        return m_billboard.getValue();
+        if (m_billboard == null) {
+            m_billboard = this.<BillboardCesiumWriter> addChildWriter(new BillboardCesiumWriter(BillboardPropertyName));
+        }
+        return m_billboard;
     }
 
     /**
@@ -1048,7 +932,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final BoxCesiumWriter getBoxWriter() {
-        return m_box.getValue();
+        if (m_box == null) {
+            m_box = this.<BoxCesiumWriter> addChildWriter(new BoxCesiumWriter(BoxPropertyName));
+        }
+        return m_box;
     }
 
     /**
@@ -1064,7 +951,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final CorridorCesiumWriter getCorridorWriter() {
-        return m_corridor.getValue();
+        if (m_corridor == null) {
+            m_corridor = this.<CorridorCesiumWriter> addChildWriter(new CorridorCesiumWriter(CorridorPropertyName));
+        }
+        return m_corridor;
     }
 
     /**
@@ -1080,7 +970,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final CylinderCesiumWriter getCylinderWriter() {
-        return m_cylinder.getValue();
+        if (m_cylinder == null) {
+            m_cylinder = this.<CylinderCesiumWriter> addChildWriter(new CylinderCesiumWriter(CylinderPropertyName));
+        }
+        return m_cylinder;
     }
 
     /**
@@ -1096,7 +989,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final EllipseCesiumWriter getEllipseWriter() {
-        return m_ellipse.getValue();
+        if (m_ellipse == null) {
+            m_ellipse = this.<EllipseCesiumWriter> addChildWriter(new EllipseCesiumWriter(EllipsePropertyName));
+        }
+        return m_ellipse;
     }
 
     /**
@@ -1112,7 +1008,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final EllipsoidCesiumWriter getEllipsoidWriter() {
-        return m_ellipsoid.getValue();
+        if (m_ellipsoid == null) {
+            m_ellipsoid = this.<EllipsoidCesiumWriter> addChildWriter(new EllipsoidCesiumWriter(EllipsoidPropertyName));
+        }
+        return m_ellipsoid;
     }
 
     /**
@@ -1128,7 +1027,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final LabelCesiumWriter getLabelWriter() {
-        return m_label.getValue();
+        if (m_label == null) {
+            m_label = this.<LabelCesiumWriter> addChildWriter(new LabelCesiumWriter(LabelPropertyName));
+        }
+        return m_label;
     }
 
     /**
@@ -1144,7 +1046,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final ModelCesiumWriter getModelWriter() {
-        return m_model.getValue();
+        if (m_model == null) {
+            m_model = this.<ModelCesiumWriter> addChildWriter(new ModelCesiumWriter(ModelPropertyName));
+        }
+        return m_model;
     }
 
     /**
@@ -1160,7 +1065,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final PathCesiumWriter getPathWriter() {
-        return m_path.getValue();
+        if (m_path == null) {
+            m_path = this.<PathCesiumWriter> addChildWriter(new PathCesiumWriter(PathPropertyName));
+        }
+        return m_path;
     }
 
     /**
@@ -1176,7 +1084,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final PointCesiumWriter getPointWriter() {
-        return m_point.getValue();
+        if (m_point == null) {
+            m_point = this.<PointCesiumWriter> addChildWriter(new PointCesiumWriter(PointPropertyName));
+        }
+        return m_point;
     }
 
     /**
@@ -1192,7 +1103,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final PolygonCesiumWriter getPolygonWriter() {
-        return m_polygon.getValue();
+        if (m_polygon == null) {
+            m_polygon = this.<PolygonCesiumWriter> addChildWriter(new PolygonCesiumWriter(PolygonPropertyName));
+        }
+        return m_polygon;
     }
 
     /**
@@ -1208,7 +1122,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final PolylineCesiumWriter getPolylineWriter() {
-        return m_polyline.getValue();
+        if (m_polyline == null) {
+            m_polyline = this.<PolylineCesiumWriter> addChildWriter(new PolylineCesiumWriter(PolylinePropertyName));
+        }
+        return m_polyline;
     }
 
     /**
@@ -1224,7 +1141,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final PolylineVolumeCesiumWriter getPolylineVolumeWriter() {
-        return m_polylineVolume.getValue();
+        if (m_polylineVolume == null) {
+            m_polylineVolume = this.<PolylineVolumeCesiumWriter> addChildWriter(new PolylineVolumeCesiumWriter(PolylineVolumePropertyName));
+        }
+        return m_polylineVolume;
     }
 
     /**
@@ -1240,7 +1160,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final RectangleCesiumWriter getRectangleWriter() {
-        return m_rectangle.getValue();
+        if (m_rectangle == null) {
+            m_rectangle = this.<RectangleCesiumWriter> addChildWriter(new RectangleCesiumWriter(RectanglePropertyName));
+        }
+        return m_rectangle;
     }
 
     /**
@@ -1256,7 +1179,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final TilesetCesiumWriter getTilesetWriter() {
-        return m_tileset.getValue();
+        if (m_tileset == null) {
+            m_tileset = this.<TilesetCesiumWriter> addChildWriter(new TilesetCesiumWriter(TilesetPropertyName));
+        }
+        return m_tileset;
     }
 
     /**
@@ -1272,7 +1198,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final WallCesiumWriter getWallWriter() {
-        return m_wall.getValue();
+        if (m_wall == null) {
+            m_wall = this.<WallCesiumWriter> addChildWriter(new WallCesiumWriter(WallPropertyName));
+        }
+        return m_wall;
     }
 
     /**
@@ -1288,7 +1217,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final ConicSensorCesiumWriter getConicSensorWriter() {
-        return m_agi_conicSensor.getValue();
+        if (m_agi_conicSensor == null) {
+            m_agi_conicSensor = this.<ConicSensorCesiumWriter> addChildWriter(new ConicSensorCesiumWriter(ConicSensorPropertyName));
+        }
+        return m_agi_conicSensor;
     }
 
     /**
@@ -1304,7 +1236,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final CustomPatternSensorCesiumWriter getCustomPatternSensorWriter() {
-        return m_agi_customPatternSensor.getValue();
+        if (m_agi_customPatternSensor == null) {
+            m_agi_customPatternSensor = this.<CustomPatternSensorCesiumWriter> addChildWriter(new CustomPatternSensorCesiumWriter(CustomPatternSensorPropertyName));
+        }
+        return m_agi_customPatternSensor;
     }
 
     /**
@@ -1320,7 +1255,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final RectangularSensorCesiumWriter getRectangularSensorWriter() {
-        return m_agi_rectangularSensor.getValue();
+        if (m_agi_rectangularSensor == null) {
+            m_agi_rectangularSensor = this.<RectangularSensorCesiumWriter> addChildWriter(new RectangularSensorCesiumWriter(RectangularSensorPropertyName));
+        }
+        return m_agi_rectangularSensor;
     }
 
     /**
@@ -1336,7 +1274,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final FanCesiumWriter getFanWriter() {
-        return m_agi_fan.getValue();
+        if (m_agi_fan == null) {
+            m_agi_fan = this.<FanCesiumWriter> addChildWriter(new FanCesiumWriter(FanPropertyName));
+        }
+        return m_agi_fan;
     }
 
     /**
@@ -1352,7 +1293,10 @@ public class PacketCesiumWriter extends CesiumElementWriter {
     */
     @Nonnull
     public final VectorCesiumWriter getVectorWriter() {
-        return m_agi_vector.getValue();
+        if (m_agi_vector == null) {
+            m_agi_vector = this.<VectorCesiumWriter> addChildWriter(new VectorCesiumWriter(VectorPropertyName));
+        }
+        return m_agi_vector;
     }
 
     /**
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -57,48 +55,13 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public static final String DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_leadTime = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(LeadTimePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_trailTime = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(TrailTimePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(WidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_resolution = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(ResolutionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineMaterialCesiumWriter> m_material = new Lazy<PolylineMaterialCesiumWriter>(new Func1<PolylineMaterialCesiumWriter>() {
-        public PolylineMaterialCesiumWriter invoke() {
-            return new PolylineMaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private DoubleCesiumWriter m_leadTime;
+    private DoubleCesiumWriter m_trailTime;
+    private DoubleCesiumWriter m_width;
+    private DoubleCesiumWriter m_resolution;
+    private PolylineMaterialCesiumWriter m_material;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
     /**
     * Initializes a new instance.
@@ -130,7 +93,10 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -204,7 +170,10 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getLeadTimeWriter() {
-        return m_leadTime.getValue();
+        if (m_leadTime == null) {
+            m_leadTime = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(LeadTimePropertyName));
+        }
+        return m_leadTime;
     }
 
     /**
@@ -304,7 +273,10 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getTrailTimeWriter() {
-        return m_trailTime.getValue();
+        if (m_trailTime == null) {
+            m_trailTime = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(TrailTimePropertyName));
+        }
+        return m_trailTime;
     }
 
     /**
@@ -404,7 +376,10 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getWidthWriter() {
-        return m_width.getValue();
+        if (m_width == null) {
+            m_width = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+        }
+        return m_width;
     }
 
     /**
@@ -504,7 +479,10 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getResolutionWriter() {
-        return m_resolution.getValue();
+        if (m_resolution == null) {
+            m_resolution = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(ResolutionPropertyName));
+        }
+        return m_resolution;
     }
 
     /**
@@ -604,7 +582,10 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public final PolylineMaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<PolylineMaterialCesiumWriter> addChildWriter(new PolylineMaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -621,7 +602,10 @@ public class PathCesiumWriter extends CesiumPropertyWriter<PathCesiumWriter> {
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
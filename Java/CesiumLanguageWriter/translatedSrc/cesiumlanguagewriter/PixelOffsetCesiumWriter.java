@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class PixelOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<PixelOffsetCesiumWriter>> m_asCartesian2;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<PixelOffsetCesiumWriter>> m_asReference;
+    private CesiumCartesian2ValuePropertyAdaptor<PixelOffsetCesiumWriter> m_asCartesian2;
+    private CesiumReferenceValuePropertyAdaptor<PixelOffsetCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class PixelOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     public PixelOffsetCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian2 = createAsCartesian2();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class PixelOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     protected PixelOffsetCesiumWriter(@Nonnull PixelOffsetCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian2 = createAsCartesian2();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -172,16 +164,10 @@ public class PixelOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumCartesian2ValuePropertyAdaptor<PixelOffsetCesiumWriter> asCartesian2() {
-        return m_asCartesian2.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian2ValuePropertyAdaptor<PixelOffsetCesiumWriter>> createAsCartesian2() {
-        return new Lazy<CesiumCartesian2ValuePropertyAdaptor<PixelOffsetCesiumWriter>>(new Func1<CesiumCartesian2ValuePropertyAdaptor<PixelOffsetCesiumWriter>>(this, "createCartesian2") {
-            public CesiumCartesian2ValuePropertyAdaptor<PixelOffsetCesiumWriter> invoke() {
-                return createCartesian2();
-            }
-        }, false);
+        if (m_asCartesian2 == null) {
+            m_asCartesian2 = createCartesian2();
+        }
+        return m_asCartesian2;
     }
 
     @Nonnull
@@ -195,16 +181,10 @@ public class PixelOffsetCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<PixelOffsetCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<PixelOffsetCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<PixelOffsetCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<PixelOffsetCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<PixelOffsetCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -75,66 +73,16 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public static final String DisableDepthTestDistancePropertyName = "disableDepthTestDistance";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_pixelSize = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(PixelSizePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_scaleByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(ScaleByDistancePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<NearFarScalarCesiumWriter> m_translucencyByDistance = new Lazy<NearFarScalarCesiumWriter>(new Func1<NearFarScalarCesiumWriter>() {
-        public NearFarScalarCesiumWriter invoke() {
-            return new NearFarScalarCesiumWriter(TransByDistPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_disableDepthTestDistance = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(DisableDepthTestDistancePropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private DoubleCesiumWriter m_pixelSize;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private ColorCesiumWriter m_color;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private NearFarScalarCesiumWriter m_scaleByDistance;
+    private NearFarScalarCesiumWriter m_translucencyByDistance;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+    private DoubleCesiumWriter m_disableDepthTestDistance;
 
     /**
     * Initializes a new instance.
@@ -166,7 +114,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -240,7 +191,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getPixelSizeWriter() {
-        return m_pixelSize.getValue();
+        if (m_pixelSize == null) {
+            m_pixelSize = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(PixelSizePropertyName));
+        }
+        return m_pixelSize;
     }
 
     /**
@@ -340,7 +294,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -414,7 +371,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -579,7 +539,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -744,7 +707,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -844,7 +810,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getScaleByDistanceWriter() {
-        return m_scaleByDistance.getValue();
+        if (m_scaleByDistance == null) {
+            m_scaleByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(ScaleByDistancePropertyName));
+        }
+        return m_scaleByDistance;
     }
 
     /**
@@ -958,7 +927,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final NearFarScalarCesiumWriter getTranslucencyByDistanceWriter() {
-        return m_translucencyByDistance.getValue();
+        if (m_translucencyByDistance == null) {
+            m_translucencyByDistance = this.<NearFarScalarCesiumWriter> addChildWriter(new NearFarScalarCesiumWriter(TransByDistPropertyName));
+        }
+        return m_translucencyByDistance;
     }
 
     /**
@@ -1072,7 +1044,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -1184,7 +1159,10 @@ public class PointCesiumWriter extends CesiumPropertyWriter<PointCesiumWriter> {
     */
     @Nonnull
     public final DoubleCesiumWriter getDisableDepthTestDistanceWriter() {
-        return m_disableDepthTestDistance.getValue();
+        if (m_disableDepthTestDistance == null) {
+            m_disableDepthTestDistance = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(DisableDepthTestDistancePropertyName));
+        }
+        return m_disableDepthTestDistance;
     }
 
     /**
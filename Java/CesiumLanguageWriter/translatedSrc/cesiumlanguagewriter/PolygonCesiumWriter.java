@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ArcTypeCesiumWriter;
@@ -141,138 +139,28 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public static final String ZIndexPropertyName = "zIndex";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PositionListCesiumWriter> m_positions = new Lazy<PositionListCesiumWriter>(new Func1<PositionListCesiumWriter>() {
-        public PositionListCesiumWriter invoke() {
-            return new PositionListCesiumWriter(PositionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PositionListOfListsCesiumWriter> m_holes = new Lazy<PositionListOfListsCesiumWriter>(new Func1<PositionListOfListsCesiumWriter>() {
-        public PositionListOfListsCesiumWriter invoke() {
-            return new PositionListOfListsCesiumWriter(HolesPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ArcTypeCesiumWriter> m_arcType = new Lazy<ArcTypeCesiumWriter>(new Func1<ArcTypeCesiumWriter>() {
-        public ArcTypeCesiumWriter invoke() {
-            return new ArcTypeCesiumWriter(ArcTypePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_height = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(HeightPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_heightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(HeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_extrudedHeight = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(ExtrudedHeightPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<HeightReferenceCesiumWriter> m_extrudedHeightReference = new Lazy<HeightReferenceCesiumWriter>(new Func1<HeightReferenceCesiumWriter>() {
-        public HeightReferenceCesiumWriter invoke() {
-            return new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_stRotation = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(StRotationPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(GranularityPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FillPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(OutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_perPositionHeight = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(PerPositionHeightPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_closeTop = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(CloseTopPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_closeBottom = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(CloseBottomPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ClassificationTypeCesiumWriter> m_classificationType = new Lazy<ClassificationTypeCesiumWriter>(new Func1<ClassificationTypeCesiumWriter>() {
-        public ClassificationTypeCesiumWriter invoke() {
-            return new ClassificationTypeCesiumWriter(ClassificationTypePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_zIndex = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(ZIndexPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private PositionListCesiumWriter m_positions;
+    private PositionListOfListsCesiumWriter m_holes;
+    private ArcTypeCesiumWriter m_arcType;
+    private DoubleCesiumWriter m_height;
+    private HeightReferenceCesiumWriter m_heightReference;
+    private DoubleCesiumWriter m_extrudedHeight;
+    private HeightReferenceCesiumWriter m_extrudedHeightReference;
+    private DoubleCesiumWriter m_stRotation;
+    private DoubleCesiumWriter m_granularity;
+    private BooleanCesiumWriter m_fill;
+    private MaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_outline;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private BooleanCesiumWriter m_perPositionHeight;
+    private BooleanCesiumWriter m_closeTop;
+    private BooleanCesiumWriter m_closeBottom;
+    private ShadowModeCesiumWriter m_shadows;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+    private ClassificationTypeCesiumWriter m_classificationType;
+    private IntegerCesiumWriter m_zIndex;
 
     /**
     * Initializes a new instance.
@@ -304,7 +192,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -378,7 +269,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final PositionListCesiumWriter getPositionsWriter() {
-        return m_positions.getValue();
+        if (m_positions == null) {
+            m_positions = this.<PositionListCesiumWriter> addChildWriter(new PositionListCesiumWriter(PositionsPropertyName));
+        }
+        return m_positions;
     }
 
     /**
@@ -439,7 +333,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final PositionListOfListsCesiumWriter getHolesWriter() {
-        return m_holes.getValue();
+        if (m_holes == null) {
+            m_holes = this.<PositionListOfListsCesiumWriter> addChildWriter(new PositionListOfListsCesiumWriter(HolesPropertyName));
+        }
+        return m_holes;
     }
 
     /**
@@ -500,7 +397,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final ArcTypeCesiumWriter getArcTypeWriter() {
-        return m_arcType.getValue();
+        if (m_arcType == null) {
+            m_arcType = this.<ArcTypeCesiumWriter> addChildWriter(new ArcTypeCesiumWriter(ArcTypePropertyName));
+        }
+        return m_arcType;
     }
 
     /**
@@ -574,7 +474,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final DoubleCesiumWriter getHeightWriter() {
-        return m_height.getValue();
+        if (m_height == null) {
+            m_height = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(HeightPropertyName));
+        }
+        return m_height;
     }
 
     /**
@@ -674,7 +577,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getHeightReferenceWriter() {
-        return m_heightReference.getValue();
+        if (m_heightReference == null) {
+            m_heightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(HeightReferencePropertyName));
+        }
+        return m_heightReference;
     }
 
     /**
@@ -748,7 +654,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final DoubleCesiumWriter getExtrudedHeightWriter() {
-        return m_extrudedHeight.getValue();
+        if (m_extrudedHeight == null) {
+            m_extrudedHeight = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(ExtrudedHeightPropertyName));
+        }
+        return m_extrudedHeight;
     }
 
     /**
@@ -848,7 +757,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final HeightReferenceCesiumWriter getExtrudedHeightReferenceWriter() {
-        return m_extrudedHeightReference.getValue();
+        if (m_extrudedHeightReference == null) {
+            m_extrudedHeightReference = this.<HeightReferenceCesiumWriter> addChildWriter(new HeightReferenceCesiumWriter(ExtrudedHeightReferencePropertyName));
+        }
+        return m_extrudedHeightReference;
     }
 
     /**
@@ -922,7 +834,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final DoubleCesiumWriter getStRotationWriter() {
-        return m_stRotation.getValue();
+        if (m_stRotation == null) {
+            m_stRotation = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(StRotationPropertyName));
+        }
+        return m_stRotation;
     }
 
     /**
@@ -1022,7 +937,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final DoubleCesiumWriter getGranularityWriter() {
-        return m_granularity.getValue();
+        if (m_granularity == null) {
+            m_granularity = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+        }
+        return m_granularity;
     }
 
     /**
@@ -1122,7 +1040,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final BooleanCesiumWriter getFillWriter() {
-        return m_fill.getValue();
+        if (m_fill == null) {
+            m_fill = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FillPropertyName));
+        }
+        return m_fill;
     }
 
     /**
@@ -1196,7 +1117,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final MaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -1213,7 +1137,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final BooleanCesiumWriter getOutlineWriter() {
-        return m_outline.getValue();
+        if (m_outline == null) {
+            m_outline = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+        }
+        return m_outline;
     }
 
     /**
@@ -1287,7 +1214,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -1452,7 +1382,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -1552,7 +1485,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final BooleanCesiumWriter getPerPositionHeightWriter() {
-        return m_perPositionHeight.getValue();
+        if (m_perPositionHeight == null) {
+            m_perPositionHeight = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(PerPositionHeightPropertyName));
+        }
+        return m_perPositionHeight;
     }
 
     /**
@@ -1626,7 +1562,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final BooleanCesiumWriter getCloseTopWriter() {
-        return m_closeTop.getValue();
+        if (m_closeTop == null) {
+            m_closeTop = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(CloseTopPropertyName));
+        }
+        return m_closeTop;
     }
 
     /**
@@ -1700,7 +1639,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final BooleanCesiumWriter getCloseBottomWriter() {
-        return m_closeBottom.getValue();
+        if (m_closeBottom == null) {
+            m_closeBottom = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(CloseBottomPropertyName));
+        }
+        return m_closeBottom;
     }
 
     /**
@@ -1774,7 +1716,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -1848,7 +1793,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -1960,7 +1908,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final ClassificationTypeCesiumWriter getClassificationTypeWriter() {
-        return m_classificationType.getValue();
+        if (m_classificationType == null) {
+            m_classificationType = this.<ClassificationTypeCesiumWriter> addChildWriter(new ClassificationTypeCesiumWriter(ClassificationTypePropertyName));
+        }
+        return m_classificationType;
     }
 
     /**
@@ -2034,7 +1985,10 @@ public class PolygonCesiumWriter extends CesiumPropertyWriter<PolygonCesiumWrite
     */
     @Nonnull
     public final IntegerCesiumWriter getZIndexWriter() {
-        return m_zIndex.getValue();
+        if (m_zIndex == null) {
+            m_zIndex = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(ZIndexPropertyName));
+        }
+        return m_zIndex;
     }
 
     /**
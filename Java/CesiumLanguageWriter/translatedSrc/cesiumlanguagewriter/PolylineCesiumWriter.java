@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ArcTypeCesiumWriter;
@@ -92,84 +90,19 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public static final String ZIndexPropertyName = "zIndex";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PositionListCesiumWriter> m_positions = new Lazy<PositionListCesiumWriter>(new Func1<PositionListCesiumWriter>() {
-        public PositionListCesiumWriter invoke() {
-            return new PositionListCesiumWriter(PositionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ArcTypeCesiumWriter> m_arcType = new Lazy<ArcTypeCesiumWriter>(new Func1<ArcTypeCesiumWriter>() {
-        public ArcTypeCesiumWriter invoke() {
-            return new ArcTypeCesiumWriter(ArcTypePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_width = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(WidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(GranularityPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineMaterialCesiumWriter> m_material = new Lazy<PolylineMaterialCesiumWriter>(new Func1<PolylineMaterialCesiumWriter>() {
-        public PolylineMaterialCesiumWriter invoke() {
-            return new PolylineMaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_followSurface = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FollowSurfacePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineMaterialCesiumWriter> m_depthFailMaterial = new Lazy<PolylineMaterialCesiumWriter>(new Func1<PolylineMaterialCesiumWriter>() {
-        public PolylineMaterialCesiumWriter invoke() {
-            return new PolylineMaterialCesiumWriter(DepthFailMaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_clampToGround = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ClampToGroundPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ClassificationTypeCesiumWriter> m_classificationType = new Lazy<ClassificationTypeCesiumWriter>(new Func1<ClassificationTypeCesiumWriter>() {
-        public ClassificationTypeCesiumWriter invoke() {
-            return new ClassificationTypeCesiumWriter(ClassificationTypePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_zIndex = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(ZIndexPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private PositionListCesiumWriter m_positions;
+    private ArcTypeCesiumWriter m_arcType;
+    private DoubleCesiumWriter m_width;
+    private DoubleCesiumWriter m_granularity;
+    private PolylineMaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_followSurface;
+    private ShadowModeCesiumWriter m_shadows;
+    private PolylineMaterialCesiumWriter m_depthFailMaterial;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
+    private BooleanCesiumWriter m_clampToGround;
+    private ClassificationTypeCesiumWriter m_classificationType;
+    private IntegerCesiumWriter m_zIndex;
 
     /**
     * Initializes a new instance.
@@ -201,7 +134,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -275,7 +211,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final PositionListCesiumWriter getPositionsWriter() {
-        return m_positions.getValue();
+        if (m_positions == null) {
+            m_positions = this.<PositionListCesiumWriter> addChildWriter(new PositionListCesiumWriter(PositionsPropertyName));
+        }
+        return m_positions;
     }
 
     /**
@@ -336,7 +275,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final ArcTypeCesiumWriter getArcTypeWriter() {
-        return m_arcType.getValue();
+        if (m_arcType == null) {
+            m_arcType = this.<ArcTypeCesiumWriter> addChildWriter(new ArcTypeCesiumWriter(ArcTypePropertyName));
+        }
+        return m_arcType;
     }
 
     /**
@@ -410,7 +352,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getWidthWriter() {
-        return m_width.getValue();
+        if (m_width == null) {
+            m_width = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(WidthPropertyName));
+        }
+        return m_width;
     }
 
     /**
@@ -510,7 +455,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final DoubleCesiumWriter getGranularityWriter() {
-        return m_granularity.getValue();
+        if (m_granularity == null) {
+            m_granularity = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+        }
+        return m_granularity;
     }
 
     /**
@@ -610,7 +558,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final PolylineMaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<PolylineMaterialCesiumWriter> addChildWriter(new PolylineMaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -627,7 +578,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getFollowSurfaceWriter() {
-        return m_followSurface.getValue();
+        if (m_followSurface == null) {
+            m_followSurface = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FollowSurfacePropertyName));
+        }
+        return m_followSurface;
     }
 
     /**
@@ -701,7 +655,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -775,7 +732,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final PolylineMaterialCesiumWriter getDepthFailMaterialWriter() {
-        return m_depthFailMaterial.getValue();
+        if (m_depthFailMaterial == null) {
+            m_depthFailMaterial = this.<PolylineMaterialCesiumWriter> addChildWriter(new PolylineMaterialCesiumWriter(DepthFailMaterialPropertyName));
+        }
+        return m_depthFailMaterial;
     }
 
     /**
@@ -792,7 +752,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
@@ -904,7 +867,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final BooleanCesiumWriter getClampToGroundWriter() {
-        return m_clampToGround.getValue();
+        if (m_clampToGround == null) {
+            m_clampToGround = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ClampToGroundPropertyName));
+        }
+        return m_clampToGround;
     }
 
     /**
@@ -978,7 +944,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final ClassificationTypeCesiumWriter getClassificationTypeWriter() {
-        return m_classificationType.getValue();
+        if (m_classificationType == null) {
+            m_classificationType = this.<ClassificationTypeCesiumWriter> addChildWriter(new ClassificationTypeCesiumWriter(ClassificationTypePropertyName));
+        }
+        return m_classificationType;
     }
 
     /**
@@ -1052,7 +1021,10 @@ public class PolylineCesiumWriter extends CesiumPropertyWriter<PolylineCesiumWri
     */
     @Nonnull
     public final IntegerCesiumWriter getZIndexWriter() {
-        return m_zIndex.getValue();
+        if (m_zIndex == null) {
+            m_zIndex = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(ZIndexPropertyName));
+        }
+        return m_zIndex;
     }
 
     /**
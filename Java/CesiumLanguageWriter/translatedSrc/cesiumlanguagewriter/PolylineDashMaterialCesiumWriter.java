@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ColorCesiumWriter;
@@ -42,30 +40,10 @@ public class PolylineDashMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public static final String DashPatternPropertyName = "dashPattern";
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_gapColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(GapColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_dashLength = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(DashLengthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<IntegerCesiumWriter> m_dashPattern = new Lazy<IntegerCesiumWriter>(new Func1<IntegerCesiumWriter>() {
-        public IntegerCesiumWriter invoke() {
-            return new IntegerCesiumWriter(DashPatternPropertyName);
-        }
-    }, false);
+    private ColorCesiumWriter m_color;
+    private ColorCesiumWriter m_gapColor;
+    private DoubleCesiumWriter m_dashLength;
+    private IntegerCesiumWriter m_dashPattern;
 
     /**
     * Initializes a new instance.
@@ -97,7 +75,10 @@ public class PolylineDashMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -262,7 +243,10 @@ public class PolylineDashMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public final ColorCesiumWriter getGapColorWriter() {
-        return m_gapColor.getValue();
+        if (m_gapColor == null) {
+            m_gapColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(GapColorPropertyName));
+        }
+        return m_gapColor;
     }
 
     /**
@@ -427,7 +411,10 @@ public class PolylineDashMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public final DoubleCesiumWriter getDashLengthWriter() {
-        return m_dashLength.getValue();
+        if (m_dashLength == null) {
+            m_dashLength = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(DashLengthPropertyName));
+        }
+        return m_dashLength;
     }
 
     /**
@@ -527,7 +514,10 @@ public class PolylineDashMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public final IntegerCesiumWriter getDashPatternWriter() {
-        return m_dashPattern.getValue();
+        if (m_dashPattern == null) {
+            m_dashPattern = this.<IntegerCesiumWriter> addChildWriter(new IntegerCesiumWriter(DashPatternPropertyName));
+        }
+        return m_dashPattern;
     }
 
     /**
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ColorCesiumWriter;
@@ -36,24 +34,9 @@ public class PolylineGlowMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public static final String TaperPowerPropertyName = "taperPower";
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_glowPower = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(GlowPowerPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_taperPower = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(TaperPowerPropertyName);
-        }
-    }, false);
+    private ColorCesiumWriter m_color;
+    private DoubleCesiumWriter m_glowPower;
+    private DoubleCesiumWriter m_taperPower;
 
     /**
     * Initializes a new instance.
@@ -85,7 +68,10 @@ public class PolylineGlowMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -250,7 +236,10 @@ public class PolylineGlowMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public final DoubleCesiumWriter getGlowPowerWriter() {
-        return m_glowPower.getValue();
+        if (m_glowPower == null) {
+            m_glowPower = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(GlowPowerPropertyName));
+        }
+        return m_glowPower;
     }
 
     /**
@@ -350,7 +339,10 @@ public class PolylineGlowMaterialCesiumWriter extends CesiumPropertyWriter<Polyl
     */
     @Nonnull
     public final DoubleCesiumWriter getTaperPowerWriter() {
-        return m_taperPower.getValue();
+        if (m_taperPower == null) {
+            m_taperPower = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(TaperPowerPropertyName));
+        }
+        return m_taperPower;
     }
 
     /**
@@ -1,8 +1,6 @@
 package cesiumlanguagewriter;
 
 
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 
 import javax.annotation.Nonnull;
@@ -61,60 +59,15 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public static final String CheckerboardPropertyName = "checkerboard";
-    @Nonnull
-    private final Lazy<SolidColorMaterialCesiumWriter> m_solidColor = new Lazy<SolidColorMaterialCesiumWriter>(new Func1<SolidColorMaterialCesiumWriter>() {
-        public SolidColorMaterialCesiumWriter invoke() {
-            return new SolidColorMaterialCesiumWriter(SolidColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineOutlineMaterialCesiumWriter> m_polylineOutline = new Lazy<PolylineOutlineMaterialCesiumWriter>(new Func1<PolylineOutlineMaterialCesiumWriter>() {
-        public PolylineOutlineMaterialCesiumWriter invoke() {
-            return new PolylineOutlineMaterialCesiumWriter(PolylineOutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineArrowMaterialCesiumWriter> m_polylineArrow = new Lazy<PolylineArrowMaterialCesiumWriter>(new Func1<PolylineArrowMaterialCesiumWriter>() {
-        public PolylineArrowMaterialCesiumWriter invoke() {
-            return new PolylineArrowMaterialCesiumWriter(PolylineArrowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineDashMaterialCesiumWriter> m_polylineDash = new Lazy<PolylineDashMaterialCesiumWriter>(new Func1<PolylineDashMaterialCesiumWriter>() {
-        public PolylineDashMaterialCesiumWriter invoke() {
-            return new PolylineDashMaterialCesiumWriter(PolylineDashPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PolylineGlowMaterialCesiumWriter> m_polylineGlow = new Lazy<PolylineGlowMaterialCesiumWriter>(new Func1<PolylineGlowMaterialCesiumWriter>() {
-        public PolylineGlowMaterialCesiumWriter invoke() {
-            return new PolylineGlowMaterialCesiumWriter(PolylineGlowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ImageMaterialCesiumWriter> m_image = new Lazy<ImageMaterialCesiumWriter>(new Func1<ImageMaterialCesiumWriter>() {
-        public ImageMaterialCesiumWriter invoke() {
-            return new ImageMaterialCesiumWriter(ImagePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<GridMaterialCesiumWriter> m_grid = new Lazy<GridMaterialCesiumWriter>(new Func1<GridMaterialCesiumWriter>() {
-        public GridMaterialCesiumWriter invoke() {
-            return new GridMaterialCesiumWriter(GridPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<StripeMaterialCesiumWriter> m_stripe = new Lazy<StripeMaterialCesiumWriter>(new Func1<StripeMaterialCesiumWriter>() {
-        public StripeMaterialCesiumWriter invoke() {
-            return new StripeMaterialCesiumWriter(StripePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CheckerboardMaterialCesiumWriter> m_checkerboard = new Lazy<CheckerboardMaterialCesiumWriter>(new Func1<CheckerboardMaterialCesiumWriter>() {
-        public CheckerboardMaterialCesiumWriter invoke() {
-            return new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName);
-        }
-    }, false);
+    private SolidColorMaterialCesiumWriter m_solidColor;
+    private PolylineOutlineMaterialCesiumWriter m_polylineOutline;
+    private PolylineArrowMaterialCesiumWriter m_polylineArrow;
+    private PolylineDashMaterialCesiumWriter m_polylineDash;
+    private PolylineGlowMaterialCesiumWriter m_polylineGlow;
+    private ImageMaterialCesiumWriter m_image;
+    private GridMaterialCesiumWriter m_grid;
+    private StripeMaterialCesiumWriter m_stripe;
+    private CheckerboardMaterialCesiumWriter m_checkerboard;
 
     /**
     * Initializes a new instance.
@@ -146,7 +99,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final SolidColorMaterialCesiumWriter getSolidColorWriter() {
-        return m_solidColor.getValue();
+        if (m_solidColor == null) {
+            m_solidColor = this.<SolidColorMaterialCesiumWriter> addChildWriter(new SolidColorMaterialCesiumWriter(SolidColorPropertyName));
+        }
+        return m_solidColor;
     }
 
     /**
@@ -163,7 +119,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final PolylineOutlineMaterialCesiumWriter getPolylineOutlineWriter() {
-        return m_polylineOutline.getValue();
+        if (m_polylineOutline == null) {
+            m_polylineOutline = this.<PolylineOutlineMaterialCesiumWriter> addChildWriter(new PolylineOutlineMaterialCesiumWriter(PolylineOutlinePropertyName));
+        }
+        return m_polylineOutline;
     }
 
     /**
@@ -180,7 +139,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final PolylineArrowMaterialCesiumWriter getPolylineArrowWriter() {
-        return m_polylineArrow.getValue();
+        if (m_polylineArrow == null) {
+            m_polylineArrow = this.<PolylineArrowMaterialCesiumWriter> addChildWriter(new PolylineArrowMaterialCesiumWriter(PolylineArrowPropertyName));
+        }
+        return m_polylineArrow;
     }
 
     /**
@@ -197,7 +159,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final PolylineDashMaterialCesiumWriter getPolylineDashWriter() {
-        return m_polylineDash.getValue();
+        if (m_polylineDash == null) {
+            m_polylineDash = this.<PolylineDashMaterialCesiumWriter> addChildWriter(new PolylineDashMaterialCesiumWriter(PolylineDashPropertyName));
+        }
+        return m_polylineDash;
     }
 
     /**
@@ -214,7 +179,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final PolylineGlowMaterialCesiumWriter getPolylineGlowWriter() {
-        return m_polylineGlow.getValue();
+        if (m_polylineGlow == null) {
+            m_polylineGlow = this.<PolylineGlowMaterialCesiumWriter> addChildWriter(new PolylineGlowMaterialCesiumWriter(PolylineGlowPropertyName));
+        }
+        return m_polylineGlow;
     }
 
     /**
@@ -231,7 +199,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final ImageMaterialCesiumWriter getImageWriter() {
-        return m_image.getValue();
+        if (m_image == null) {
+            m_image = this.<ImageMaterialCesiumWriter> addChildWriter(new ImageMaterialCesiumWriter(ImagePropertyName));
+        }
+        return m_image;
     }
 
     /**
@@ -248,7 +219,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final GridMaterialCesiumWriter getGridWriter() {
-        return m_grid.getValue();
+        if (m_grid == null) {
+            m_grid = this.<GridMaterialCesiumWriter> addChildWriter(new GridMaterialCesiumWriter(GridPropertyName));
+        }
+        return m_grid;
     }
 
     /**
@@ -265,7 +239,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final StripeMaterialCesiumWriter getStripeWriter() {
-        return m_stripe.getValue();
+        if (m_stripe == null) {
+            m_stripe = this.<StripeMaterialCesiumWriter> addChildWriter(new StripeMaterialCesiumWriter(StripePropertyName));
+        }
+        return m_stripe;
     }
 
     /**
@@ -282,7 +259,10 @@ public class PolylineMaterialCesiumWriter extends CesiumPropertyWriter<PolylineM
     */
     @Nonnull
     public final CheckerboardMaterialCesiumWriter getCheckerboardWriter() {
-        return m_checkerboard.getValue();
+        if (m_checkerboard == null) {
+            m_checkerboard = this.<CheckerboardMaterialCesiumWriter> addChildWriter(new CheckerboardMaterialCesiumWriter(CheckerboardPropertyName));
+        }
+        return m_checkerboard;
     }
 
     /**
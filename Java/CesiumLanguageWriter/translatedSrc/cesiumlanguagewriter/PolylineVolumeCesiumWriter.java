@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -88,78 +86,18 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public static final String DistanceDisplayConditionPropertyName = "distanceDisplayCondition";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<PositionListCesiumWriter> m_positions = new Lazy<PositionListCesiumWriter>(new Func1<PositionListCesiumWriter>() {
-        public PositionListCesiumWriter invoke() {
-            return new PositionListCesiumWriter(PositionsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShapeCesiumWriter> m_shape = new Lazy<ShapeCesiumWriter>(new Func1<ShapeCesiumWriter>() {
-        public ShapeCesiumWriter invoke() {
-            return new ShapeCesiumWriter(ShapePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<CornerTypeCesiumWriter> m_cornerType = new Lazy<CornerTypeCesiumWriter>(new Func1<CornerTypeCesiumWriter>() {
-        public CornerTypeCesiumWriter invoke() {
-            return new CornerTypeCesiumWriter(CornerTypePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_granularity = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(GranularityPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_fill = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(FillPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<MaterialCesiumWriter> m_material = new Lazy<MaterialCesiumWriter>(new Func1<MaterialCesiumWriter>() {
-        public MaterialCesiumWriter invoke() {
-            return new MaterialCesiumWriter(MaterialPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_outline = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(OutlinePropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_outlineColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OutlineColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_outlineWidth = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OutlineWidthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ShadowModeCesiumWriter> m_shadows = new Lazy<ShadowModeCesiumWriter>(new Func1<ShadowModeCesiumWriter>() {
-        public ShadowModeCesiumWriter invoke() {
-            return new ShadowModeCesiumWriter(ShadowsPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DistanceDisplayConditionCesiumWriter> m_distanceDisplayCondition = new Lazy<DistanceDisplayConditionCesiumWriter>(new Func1<DistanceDisplayConditionCesiumWriter>() {
-        public DistanceDisplayConditionCesiumWriter invoke() {
-            return new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private PositionListCesiumWriter m_positions;
+    private ShapeCesiumWriter m_shape;
+    private CornerTypeCesiumWriter m_cornerType;
+    private DoubleCesiumWriter m_granularity;
+    private BooleanCesiumWriter m_fill;
+    private MaterialCesiumWriter m_material;
+    private BooleanCesiumWriter m_outline;
+    private ColorCesiumWriter m_outlineColor;
+    private DoubleCesiumWriter m_outlineWidth;
+    private ShadowModeCesiumWriter m_shadows;
+    private DistanceDisplayConditionCesiumWriter m_distanceDisplayCondition;
 
     /**
     * Initializes a new instance.
@@ -191,7 +129,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -265,7 +206,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final PositionListCesiumWriter getPositionsWriter() {
-        return m_positions.getValue();
+        if (m_positions == null) {
+            m_positions = this.<PositionListCesiumWriter> addChildWriter(new PositionListCesiumWriter(PositionsPropertyName));
+        }
+        return m_positions;
     }
 
     /**
@@ -326,7 +270,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final ShapeCesiumWriter getShapeWriter() {
-        return m_shape.getValue();
+        if (m_shape == null) {
+            m_shape = this.<ShapeCesiumWriter> addChildWriter(new ShapeCesiumWriter(ShapePropertyName));
+        }
+        return m_shape;
     }
 
     /**
@@ -354,7 +301,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final CornerTypeCesiumWriter getCornerTypeWriter() {
-        return m_cornerType.getValue();
+        if (m_cornerType == null) {
+            m_cornerType = this.<CornerTypeCesiumWriter> addChildWriter(new CornerTypeCesiumWriter(CornerTypePropertyName));
+        }
+        return m_cornerType;
     }
 
     /**
@@ -428,7 +378,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final DoubleCesiumWriter getGranularityWriter() {
-        return m_granularity.getValue();
+        if (m_granularity == null) {
+            m_granularity = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(GranularityPropertyName));
+        }
+        return m_granularity;
     }
 
     /**
@@ -528,7 +481,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final BooleanCesiumWriter getFillWriter() {
-        return m_fill.getValue();
+        if (m_fill == null) {
+            m_fill = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(FillPropertyName));
+        }
+        return m_fill;
     }
 
     /**
@@ -602,7 +558,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final MaterialCesiumWriter getMaterialWriter() {
-        return m_material.getValue();
+        if (m_material == null) {
+            m_material = this.<MaterialCesiumWriter> addChildWriter(new MaterialCesiumWriter(MaterialPropertyName));
+        }
+        return m_material;
     }
 
     /**
@@ -619,7 +578,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final BooleanCesiumWriter getOutlineWriter() {
-        return m_outline.getValue();
+        if (m_outline == null) {
+            m_outline = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(OutlinePropertyName));
+        }
+        return m_outline;
     }
 
     /**
@@ -693,7 +655,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final ColorCesiumWriter getOutlineColorWriter() {
-        return m_outlineColor.getValue();
+        if (m_outlineColor == null) {
+            m_outlineColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OutlineColorPropertyName));
+        }
+        return m_outlineColor;
     }
 
     /**
@@ -858,7 +823,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final DoubleCesiumWriter getOutlineWidthWriter() {
-        return m_outlineWidth.getValue();
+        if (m_outlineWidth == null) {
+            m_outlineWidth = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OutlineWidthPropertyName));
+        }
+        return m_outlineWidth;
     }
 
     /**
@@ -958,7 +926,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final ShadowModeCesiumWriter getShadowsWriter() {
-        return m_shadows.getValue();
+        if (m_shadows == null) {
+            m_shadows = this.<ShadowModeCesiumWriter> addChildWriter(new ShadowModeCesiumWriter(ShadowsPropertyName));
+        }
+        return m_shadows;
     }
 
     /**
@@ -1032,7 +1003,10 @@ public class PolylineVolumeCesiumWriter extends CesiumPropertyWriter<PolylineVol
     */
     @Nonnull
     public final DistanceDisplayConditionCesiumWriter getDistanceDisplayConditionWriter() {
-        return m_distanceDisplayCondition.getValue();
+        if (m_distanceDisplayCondition == null) {
+            m_distanceDisplayCondition = this.<DistanceDisplayConditionCesiumWriter> addChildWriter(new DistanceDisplayConditionCesiumWriter(DistanceDisplayConditionPropertyName));
+        }
+        return m_distanceDisplayCondition;
     }
 
     /**
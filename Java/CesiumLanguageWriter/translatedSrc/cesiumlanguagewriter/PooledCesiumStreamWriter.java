@@ -0,0 +1,101 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.IDisposable;
+import java.io.Writer;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link CesiumStreamWriter} and {@link CesiumOutputStream} borrowed from a {@link CesiumStreamWriterPool}.
+ Disposing this instance resets both and returns them to the pool; neither may be used afterwards.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class PooledCesiumStreamWriter implements IDisposable {
+    PooledCesiumStreamWriter(@Nonnull CesiumStreamWriterPool pool) {
+        m_pool = pool;
+        m_output = new CesiumOutputStream(DiscardingWriter.Instance);
+    }
+
+    /**
+    * Gets the stream writer.
+    * @exception IllegalStateException This instance has already been returned to its pool.
+    */
+    @Nonnull
+    public final CesiumStreamWriter getWriter() {
+        checkAcquired();
+        return m_writer;
+    }
+
+    /**
+    * Gets the output stream, which writes to the writer given when this instance was acquired.
+    * @exception IllegalStateException This instance has already been returned to its pool.
+    */
+    @Nonnull
+    public final CesiumOutputStream getOutput() {
+        checkAcquired();
+        return m_output;
+    }
+
+    /**
+    * Starts a new CZML packet on the output stream.
+    * @return The packet writer.
+    * @exception IllegalStateException This instance has already been returned to its pool.
+    */
+    @Nonnull
+    public final PacketCesiumWriter openPacket() {
+        checkAcquired();
+        return m_writer.openPacket(m_output);
+    }
+
+    /**
+    * Resets the writer and output stream, and returns them to the pool.
+    * @exception IllegalStateException This instance has already been returned to its pool.
+    */
+    public final void dispose() {
+        checkAcquired();
+        m_acquired = false;
+        m_writer.reset();
+        // Do not retain the caller's writer while idle.
+        m_output.reset(DiscardingWriter.Instance);
+        m_pool.release(this);
+    }
+
+    final void acquire(@Nonnull Writer writer, boolean prettyFormatting) {
+        m_output.reset(writer);
+        m_output.setPrettyFormatting(prettyFormatting);
+        m_acquired = true;
+    }
+
+    private final void checkAcquired() {
+        if (!m_acquired) {
+            throw new IllegalStateException(CesiumLocalization.getPooledWriterAlreadyReleased());
+        }
+    }
+
+    private static final class DiscardingWriter extends Writer {
+        @Nonnull
+        public static final DiscardingWriter Instance = new DiscardingWriter();
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {}
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+
+    @Nonnull
+    private final CesiumStreamWriterPool m_pool;
+    @Nonnull
+    private final CesiumStreamWriter m_writer = new CesiumStreamWriter();
+    @Nonnull
+    private final CesiumOutputStream m_output;
+    private boolean m_acquired;
+}
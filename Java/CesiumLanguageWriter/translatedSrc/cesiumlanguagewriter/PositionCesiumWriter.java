@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -53,16 +51,11 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter>> m_asCartographicRadians;
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter>> m_asCartographicDegrees;
-    @Nonnull
-    private final Lazy<CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter>> m_asCartesianVelocity;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter>> m_asReference;
+    private CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter> m_asCartesian;
+    private CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter> m_asCartographicRadians;
+    private CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter> m_asCartographicDegrees;
+    private CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter> m_asCartesianVelocity;
+    private CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -70,11 +63,6 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     public PositionCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asCartesianVelocity = createAsCartesianVelocity();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -83,11 +71,6 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     protected PositionCesiumWriter(@Nonnull PositionCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asCartesianVelocity = createAsCartesianVelocity();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -143,6 +126,28 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
         CesiumWritingHelper.writeCartesian3(getOutput(), PropertyName, dates, values, startIndex, length);
     }
 
+    /**
+    * Writes the value expressed as a {@code cartesian}, which is the position specified as a three-dimensional Cartesian value, {@code [X, Y, Z]}, in meters relative to the {@code referenceFrame}.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    */
+    public final void writeCartesian(@Nonnull SharedTimeGrid grid, List<Cartesian> values) {
+        writeCartesian(grid, values, 0, grid.getCount());
+    }
+
+    /**
+    * Writes the value expressed as a {@code cartesian}, which is the position specified as a three-dimensional Cartesian value, {@code [X, Y, Z]}, in meters relative to the {@code referenceFrame}.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeCartesian(@Nonnull SharedTimeGrid grid, List<Cartesian> values, int startIndex, int length) {
+        final String PropertyName = CartesianPropertyName;
+        openIntervalIfNecessary();
+        CesiumWritingHelper.writeCartesian3(getOutput(), PropertyName, grid, values, startIndex, length);
+    }
+
     /**
     * Writes the value expressed as a {@code cartographicRadians}, which is the position specified in Cartographic WGS84 coordinates, {@code [Longitude, Latitude, Height]}, where Longitude and Latitude are in radians and Height is in meters.
     * @param value The interval.
@@ -176,6 +181,28 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
         CesiumWritingHelper.writeCartographic(getOutput(), PropertyName, dates, values, startIndex, length);
     }
 
+    /**
+    * Writes the value expressed as a {@code cartographicRadians}, which is the position specified in Cartographic WGS84 coordinates, {@code [Longitude, Latitude, Height]}, where Longitude and Latitude are in radians and Height is in meters.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    */
+    public final void writeCartographicRadians(@Nonnull SharedTimeGrid grid, List<Cartographic> values) {
+        writeCartographicRadians(grid, values, 0, grid.getCount());
+    }
+
+    /**
+    * Writes the value expressed as a {@code cartographicRadians}, which is the position specified in Cartographic WGS84 coordinates, {@code [Longitude, Latitude, Height]}, where Longitude and Latitude are in radians and Height is in meters.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeCartographicRadians(@Nonnull SharedTimeGrid grid, List<Cartographic> values, int startIndex, int length) {
+        final String PropertyName = CartographicRadiansPropertyName;
+        openIntervalIfNecessary();
+        CesiumWritingHelper.writeCartographic(getOutput(), PropertyName, grid, values, startIndex, length);
+    }
+
     /**
     * Writes the value expressed as a {@code cartographicDegrees}, which is the position specified in Cartographic WGS84 coordinates, {@code [Longitude, Latitude, Height]}, where Longitude and Latitude are in degrees and Height is in meters.
     * @param value The interval.
@@ -209,6 +236,28 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
         CesiumWritingHelper.writeCartographic(getOutput(), PropertyName, dates, values, startIndex, length);
     }
 
+    /**
+    * Writes the value expressed as a {@code cartographicDegrees}, which is the position specified in Cartographic WGS84 coordinates, {@code [Longitude, Latitude, Height]}, where Longitude and Latitude are in degrees and Height is in meters.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    */
+    public final void writeCartographicDegrees(@Nonnull SharedTimeGrid grid, List<Cartographic> values) {
+        writeCartographicDegrees(grid, values, 0, grid.getCount());
+    }
+
+    /**
+    * Writes the value expressed as a {@code cartographicDegrees}, which is the position specified in Cartographic WGS84 coordinates, {@code [Longitude, Latitude, Height]}, where Longitude and Latitude are in degrees and Height is in meters.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeCartographicDegrees(@Nonnull SharedTimeGrid grid, List<Cartographic> values, int startIndex, int length) {
+        final String PropertyName = CartographicDegreesPropertyName;
+        openIntervalIfNecessary();
+        CesiumWritingHelper.writeCartographic(getOutput(), PropertyName, grid, values, startIndex, length);
+    }
+
     /**
     * Writes the value expressed as a {@code cartesianVelocity}, which is the position and velocity specified as a three-dimensional Cartesian value and its derivative, {@code [X, Y, Z, dX, dY, dZ]}, in meters relative to the {@code referenceFrame}.
     * @param value The value.
@@ -242,6 +291,28 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
         CesiumWritingHelper.writeCartesian3Velocity(getOutput(), PropertyName, dates, values, startIndex, length);
     }
 
+    /**
+    * Writes the value expressed as a {@code cartesianVelocity}, which is the position and velocity specified as a three-dimensional Cartesian value and its derivative, {@code [X, Y, Z, dX, dY, dZ]}, in meters relative to the {@code referenceFrame}.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    */
+    public final void writeCartesianVelocity(@Nonnull SharedTimeGrid grid, List<Motion1<Cartesian>> values) {
+        writeCartesianVelocity(grid, values, 0, grid.getCount());
+    }
+
+    /**
+    * Writes the value expressed as a {@code cartesianVelocity}, which is the position and velocity specified as a three-dimensional Cartesian value and its derivative, {@code [X, Y, Z, dX, dY, dZ]}, in meters relative to the {@code referenceFrame}.
+    * @param grid The shared grid of dates at which the value is specified.
+    * @param values The values corresponding to each date in the grid.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeCartesianVelocity(@Nonnull SharedTimeGrid grid, List<Motion1<Cartesian>> values, int startIndex, int length) {
+        final String PropertyName = CartesianVelocityPropertyName;
+        openIntervalIfNecessary();
+        CesiumWritingHelper.writeCartesian3Velocity(getOutput(), PropertyName, grid, values, startIndex, length);
+    }
+
     /**
     * Writes the value expressed as a {@code reference}, which is the position specified as a reference to another property.
     * @param value The reference.
@@ -305,16 +376,10 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<PositionCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -328,17 +393,10 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     @Nonnull
     public final CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter> asCartographicRadians() {
-        return m_asCartographicRadians.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter>> createAsCartographicRadians() {
-        return new Lazy<CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter>>(
-                new Func1<CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter>>(this, "createCartographicRadians") {
-                    public CesiumCartographicRadiansValuePropertyAdaptor<PositionCesiumWriter> invoke() {
-                        return createCartographicRadians();
-                    }
-                }, false);
+        if (m_asCartographicRadians == null) {
+            m_asCartographicRadians = createCartographicRadians();
+        }
+        return m_asCartographicRadians;
     }
 
     @Nonnull
@@ -352,17 +410,10 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     @Nonnull
     public final CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter> asCartographicDegrees() {
-        return m_asCartographicDegrees.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter>> createAsCartographicDegrees() {
-        return new Lazy<CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter>>(
-                new Func1<CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter>>(this, "createCartographicDegrees") {
-                    public CesiumCartographicDegreesValuePropertyAdaptor<PositionCesiumWriter> invoke() {
-                        return createCartographicDegrees();
-                    }
-                }, false);
+        if (m_asCartographicDegrees == null) {
+            m_asCartographicDegrees = createCartographicDegrees();
+        }
+        return m_asCartographicDegrees;
     }
 
     @Nonnull
@@ -376,17 +427,10 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     @Nonnull
     public final CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter> asCartesianVelocity() {
-        return m_asCartesianVelocity.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter>> createAsCartesianVelocity() {
-        return new Lazy<CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter>>(
-                new Func1<CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter>>(this, "createCartesian3Velocity") {
-                    public CesiumCartesian3VelocityValuePropertyAdaptor<PositionCesiumWriter> invoke() {
-                        return createCartesian3Velocity();
-                    }
-                }, false);
+        if (m_asCartesianVelocity == null) {
+            m_asCartesianVelocity = createCartesian3Velocity();
+        }
+        return m_asCartesianVelocity;
     }
 
     @Nonnull
@@ -400,16 +444,10 @@ public class PositionCesiumWriter extends CesiumInterpolatablePropertyWriter<Pos
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<PositionCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -47,14 +45,10 @@ public class PositionListCesiumWriter extends CesiumPropertyWriter<PositionListC
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter>> m_asCartographicRadians;
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter>> m_asCartographicDegrees;
-    @Nonnull
-    private final Lazy<CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter>> m_asReferences;
+    private CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter> m_asCartesian;
+    private CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter> m_asCartographicRadians;
+    private CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter> m_asCartographicDegrees;
+    private CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter> m_asReferences;
 
     /**
     * Initializes a new instance.
@@ -62,10 +56,6 @@ public class PositionListCesiumWriter extends CesiumPropertyWriter<PositionListC
     */
     public PositionListCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asReferences = createAsReferences();
     }
 
     /**
@@ -74,10 +64,6 @@ public class PositionListCesiumWriter extends CesiumPropertyWriter<PositionListC
     */
     protected PositionListCesiumWriter(@Nonnull PositionListCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asReferences = createAsReferences();
     }
 
     /**
@@ -161,17 +147,10 @@ public class PositionListCesiumWriter extends CesiumPropertyWriter<PositionListC
     */
     @Nonnull
     public final CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter>>(
-                new Func1<CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter>>(this, "createCartesian3List") {
-                    public CesiumCartesian3ListValuePropertyAdaptor<PositionListCesiumWriter> invoke() {
-                        return createCartesian3List();
-                    }
-                }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3List();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -185,17 +164,10 @@ public class PositionListCesiumWriter extends CesiumPropertyWriter<PositionListC
     */
     @Nonnull
     public final CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter> asCartographicRadians() {
-        return m_asCartographicRadians.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter>> createAsCartographicRadians() {
-        return new Lazy<CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter>>(
-                new Func1<CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter>>(this, "createCartographicRadiansList") {
-                    public CesiumCartographicRadiansListValuePropertyAdaptor<PositionListCesiumWriter> invoke() {
-                        return createCartographicRadiansList();
-                    }
-                }, false);
+        if (m_asCartographicRadians == null) {
+            m_asCartographicRadians = createCartographicRadiansList();
+        }
+        return m_asCartographicRadians;
     }
 
     @Nonnull
@@ -209,17 +181,10 @@ public class PositionListCesiumWriter extends CesiumPropertyWriter<PositionListC
     */
     @Nonnull
     public final CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter> asCartographicDegrees() {
-        return m_asCartographicDegrees.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter>> createAsCartographicDegrees() {
-        return new Lazy<CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter>>(
-                new Func1<CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter>>(this, "createCartographicDegreesList") {
-                    public CesiumCartographicDegreesListValuePropertyAdaptor<PositionListCesiumWriter> invoke() {
-                        return createCartographicDegreesList();
-                    }
-                }, false);
+        if (m_asCartographicDegrees == null) {
+            m_asCartographicDegrees = createCartographicDegreesList();
+        }
+        return m_asCartographicDegrees;
     }
 
     @Nonnull
@@ -233,16 +198,10 @@ public class PositionListCesiumWriter extends CesiumPropertyWriter<PositionListC
     */
     @Nonnull
     public final CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter> asReferences() {
-        return m_asReferences.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter>> createAsReferences() {
-        return new Lazy<CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter>>(new Func1<CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter>>(this, "createReferenceList") {
-            public CesiumReferenceListValuePropertyAdaptor<PositionListCesiumWriter> invoke() {
-                return createReferenceList();
-            }
-        }, false);
+        if (m_asReferences == null) {
+            m_asReferences = createReferenceList();
+        }
+        return m_asReferences;
     }
 
     @Nonnull
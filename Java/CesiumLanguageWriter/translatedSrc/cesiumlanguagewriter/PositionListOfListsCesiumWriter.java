@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -42,14 +40,10 @@ public class PositionListOfListsCesiumWriter extends CesiumPropertyWriter<Positi
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asCartographicRadians;
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asCartographicDegrees;
-    @Nonnull
-    private final Lazy<CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> m_asReferences;
+    private CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asCartesian;
+    private CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asCartographicRadians;
+    private CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asCartographicDegrees;
+    private CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> m_asReferences;
 
     /**
     * Initializes a new instance.
@@ -57,10 +51,6 @@ public class PositionListOfListsCesiumWriter extends CesiumPropertyWriter<Positi
     */
     public PositionListOfListsCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asReferences = createAsReferences();
     }
 
     /**
@@ -69,10 +59,6 @@ public class PositionListOfListsCesiumWriter extends CesiumPropertyWriter<Positi
     */
     protected PositionListOfListsCesiumWriter(@Nonnull PositionListOfListsCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asCartographicRadians = createAsCartographicRadians();
-        m_asCartographicDegrees = createAsCartographicDegrees();
-        m_asReferences = createAsReferences();
     }
 
     /**
@@ -145,17 +131,10 @@ public class PositionListOfListsCesiumWriter extends CesiumPropertyWriter<Positi
     */
     @Nonnull
     public final CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(
-                new Func1<CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(this, "createCartesian3ListOfLists") {
-                    public CesiumCartesian3ListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> invoke() {
-                        return createCartesian3ListOfLists();
-                    }
-                }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3ListOfLists();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -169,17 +148,10 @@ public class PositionListOfListsCesiumWriter extends CesiumPropertyWriter<Positi
     */
     @Nonnull
     public final CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> asCartographicRadians() {
-        return m_asCartographicRadians.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> createAsCartographicRadians() {
-        return new Lazy<CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(
-                new Func1<CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(this, "createCartographicRadiansListOfLists") {
-                    public CesiumCartographicRadiansListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> invoke() {
-                        return createCartographicRadiansListOfLists();
-                    }
-                }, false);
+        if (m_asCartographicRadians == null) {
+            m_asCartographicRadians = createCartographicRadiansListOfLists();
+        }
+        return m_asCartographicRadians;
     }
 
     @Nonnull
@@ -193,17 +165,10 @@ public class PositionListOfListsCesiumWriter extends CesiumPropertyWriter<Positi
     */
     @Nonnull
     public final CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> asCartographicDegrees() {
-        return m_asCartographicDegrees.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> createAsCartographicDegrees() {
-        return new Lazy<CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(
-                new Func1<CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(this, "createCartographicDegreesListOfLists") {
-                    public CesiumCartographicDegreesListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> invoke() {
-                        return createCartographicDegreesListOfLists();
-                    }
-                }, false);
+        if (m_asCartographicDegrees == null) {
+            m_asCartographicDegrees = createCartographicDegreesListOfLists();
+        }
+        return m_asCartographicDegrees;
     }
 
     @Nonnull
@@ -217,17 +182,10 @@ public class PositionListOfListsCesiumWriter extends CesiumPropertyWriter<Positi
     */
     @Nonnull
     public final CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> asReferences() {
-        return m_asReferences.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>> createAsReferences() {
-        return new Lazy<CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(
-                new Func1<CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter>>(this, "createReferenceListOfLists") {
-                    public CesiumReferenceListOfListsValuePropertyAdaptor<PositionListOfListsCesiumWriter> invoke() {
-                        return createReferenceListOfLists();
-                    }
-                }, false);
+        if (m_asReferences == null) {
+            m_asReferences = createReferenceListOfLists();
+        }
+        return m_asReferences;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -38,12 +36,9 @@ public class RectangleCoordinatesCesiumWriter extends CesiumInterpolatableProper
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> m_asWsen;
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> m_asWsenDegrees;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> m_asReference;
+    private CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> m_asWsen;
+    private CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> m_asWsenDegrees;
+    private CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -51,9 +46,6 @@ public class RectangleCoordinatesCesiumWriter extends CesiumInterpolatableProper
     */
     public RectangleCoordinatesCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asWsen = createAsWsen();
-        m_asWsenDegrees = createAsWsenDegrees();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -62,9 +54,6 @@ public class RectangleCoordinatesCesiumWriter extends CesiumInterpolatableProper
     */
     protected RectangleCoordinatesCesiumWriter(@Nonnull RectangleCoordinatesCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asWsen = createAsWsen();
-        m_asWsenDegrees = createAsWsenDegrees();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -227,17 +216,10 @@ public class RectangleCoordinatesCesiumWriter extends CesiumInterpolatableProper
     */
     @Nonnull
     public final CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> asWsen() {
-        return m_asWsen.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> createAsWsen() {
-        return new Lazy<CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(
-                new Func1<CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(this, "createCartographicRectangleRadians") {
-                    public CesiumCartographicRectangleRadiansValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> invoke() {
-                        return createCartographicRectangleRadians();
-                    }
-                }, false);
+        if (m_asWsen == null) {
+            m_asWsen = createCartographicRectangleRadians();
+        }
+        return m_asWsen;
     }
 
     @Nonnull
@@ -251,17 +233,10 @@ public class RectangleCoordinatesCesiumWriter extends CesiumInterpolatableProper
     */
     @Nonnull
     public final CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> asWsenDegrees() {
-        return m_asWsenDegrees.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> createAsWsenDegrees() {
-        return new Lazy<CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(
-                new Func1<CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(this, "createCartographicRectangleDegrees") {
-                    public CesiumCartographicRectangleDegreesValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> invoke() {
-                        return createCartographicRectangleDegrees();
-                    }
-                }, false);
+        if (m_asWsenDegrees == null) {
+            m_asWsenDegrees = createCartographicRectangleDegrees();
+        }
+        return m_asWsenDegrees;
     }
 
     @Nonnull
@@ -275,17 +250,10 @@ public class RectangleCoordinatesCesiumWriter extends CesiumInterpolatableProper
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(
-                new Func1<CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter>>(this, "createReference") {
-                    public CesiumReferenceValuePropertyAdaptor<RectangleCoordinatesCesiumWriter> invoke() {
-                        return createReference();
-                    }
-                }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class RotationCesiumWriter extends CesiumInterpolatablePropertyWriter<Rot
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter>> m_asUnitQuaternion;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter>> m_asReference;
+    private CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter> m_asUnitQuaternion;
+    private CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class RotationCesiumWriter extends CesiumInterpolatablePropertyWriter<Rot
     */
     public RotationCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asUnitQuaternion = createAsUnitQuaternion();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class RotationCesiumWriter extends CesiumInterpolatablePropertyWriter<Rot
     */
     protected RotationCesiumWriter(@Nonnull RotationCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asUnitQuaternion = createAsUnitQuaternion();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,16 +155,10 @@ public class RotationCesiumWriter extends CesiumInterpolatablePropertyWriter<Rot
     */
     @Nonnull
     public final CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter> asUnitQuaternion() {
-        return m_asUnitQuaternion.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter>> createAsUnitQuaternion() {
-        return new Lazy<CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter>>(new Func1<CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter>>(this, "createUnitQuaternion") {
-            public CesiumUnitQuaternionValuePropertyAdaptor<RotationCesiumWriter> invoke() {
-                return createUnitQuaternion();
-            }
-        }, false);
+        if (m_asUnitQuaternion == null) {
+            m_asUnitQuaternion = createUnitQuaternion();
+        }
+        return m_asUnitQuaternion;
     }
 
     @Nonnull
@@ -186,16 +172,10 @@ public class RotationCesiumWriter extends CesiumInterpolatablePropertyWriter<Rot
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<RotationCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class ScaleCesiumWriter extends CesiumInterpolatablePropertyWriter<ScaleC
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<ScaleCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ScaleCesiumWriter>> m_asReference;
+    private CesiumCartesian3ValuePropertyAdaptor<ScaleCesiumWriter> m_asCartesian;
+    private CesiumReferenceValuePropertyAdaptor<ScaleCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class ScaleCesiumWriter extends CesiumInterpolatablePropertyWriter<ScaleC
     */
     public ScaleCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class ScaleCesiumWriter extends CesiumInterpolatablePropertyWriter<ScaleC
     */
     protected ScaleCesiumWriter(@Nonnull ScaleCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,16 +155,10 @@ public class ScaleCesiumWriter extends CesiumInterpolatablePropertyWriter<ScaleC
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<ScaleCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<ScaleCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<ScaleCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<ScaleCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<ScaleCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -186,16 +172,10 @@ public class ScaleCesiumWriter extends CesiumInterpolatablePropertyWriter<ScaleC
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ScaleCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ScaleCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ScaleCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ScaleCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ScaleCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class SensorVolumePortionToDisplayCesiumWriter extends CesiumPropertyWrit
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumSensorVolumePortionToDisplayValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>> m_asPortionToDisplay;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>> m_asReference;
+    private CesiumSensorVolumePortionToDisplayValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter> m_asPortionToDisplay;
+    private CesiumReferenceValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class SensorVolumePortionToDisplayCesiumWriter extends CesiumPropertyWrit
     */
     public SensorVolumePortionToDisplayCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asPortionToDisplay = createAsPortionToDisplay();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class SensorVolumePortionToDisplayCesiumWriter extends CesiumPropertyWrit
     */
     protected SensorVolumePortionToDisplayCesiumWriter(@Nonnull SensorVolumePortionToDisplayCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asPortionToDisplay = createAsPortionToDisplay();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,17 +136,10 @@ public class SensorVolumePortionToDisplayCesiumWriter extends CesiumPropertyWrit
     */
     @Nonnull
     public final CesiumSensorVolumePortionToDisplayValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter> asPortionToDisplay() {
-        return m_asPortionToDisplay.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumSensorVolumePortionToDisplayValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>> createAsPortionToDisplay() {
-        return new Lazy<CesiumSensorVolumePortionToDisplayValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>>(
-                new Func1<CesiumSensorVolumePortionToDisplayValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>>(this, "createSensorVolumePortionToDisplay") {
-                    public CesiumSensorVolumePortionToDisplayValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter> invoke() {
-                        return createSensorVolumePortionToDisplay();
-                    }
-                }, false);
+        if (m_asPortionToDisplay == null) {
+            m_asPortionToDisplay = createSensorVolumePortionToDisplay();
+        }
+        return m_asPortionToDisplay;
     }
 
     @Nonnull
@@ -168,17 +153,10 @@ public class SensorVolumePortionToDisplayCesiumWriter extends CesiumPropertyWrit
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>>(
-                new Func1<CesiumReferenceValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter>>(this, "createReference") {
-                    public CesiumReferenceValuePropertyAdaptor<SensorVolumePortionToDisplayCesiumWriter> invoke() {
-                        return createReference();
-                    }
-                }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
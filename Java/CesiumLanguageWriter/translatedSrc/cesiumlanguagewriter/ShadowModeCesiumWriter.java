@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class ShadowModeCesiumWriter extends CesiumPropertyWriter<ShadowModeCesiu
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter>> m_asShadowMode;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter>> m_asReference;
+    private CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter> m_asShadowMode;
+    private CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class ShadowModeCesiumWriter extends CesiumPropertyWriter<ShadowModeCesiu
     */
     public ShadowModeCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asShadowMode = createAsShadowMode();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class ShadowModeCesiumWriter extends CesiumPropertyWriter<ShadowModeCesiu
     */
     protected ShadowModeCesiumWriter(@Nonnull ShadowModeCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asShadowMode = createAsShadowMode();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,16 +136,10 @@ public class ShadowModeCesiumWriter extends CesiumPropertyWriter<ShadowModeCesiu
     */
     @Nonnull
     public final CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter> asShadowMode() {
-        return m_asShadowMode.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter>> createAsShadowMode() {
-        return new Lazy<CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter>>(new Func1<CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter>>(this, "createShadowMode") {
-            public CesiumShadowModeValuePropertyAdaptor<ShadowModeCesiumWriter> invoke() {
-                return createShadowMode();
-            }
-        }, false);
+        if (m_asShadowMode == null) {
+            m_asShadowMode = createShadowMode();
+        }
+        return m_asShadowMode;
     }
 
     @Nonnull
@@ -167,16 +153,10 @@ public class ShadowModeCesiumWriter extends CesiumPropertyWriter<ShadowModeCesiu
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ShadowModeCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
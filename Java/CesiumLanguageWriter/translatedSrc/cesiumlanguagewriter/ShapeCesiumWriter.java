@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -26,8 +24,7 @@ public class ShapeCesiumWriter extends CesiumPropertyWriter<ShapeCesiumWriter> i
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter>> m_asCartesian2;
+    private CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter> m_asCartesian2;
 
     /**
     * Initializes a new instance.
@@ -35,7 +32,6 @@ public class ShapeCesiumWriter extends CesiumPropertyWriter<ShapeCesiumWriter> i
     */
     public ShapeCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian2 = createAsCartesian2();
     }
 
     /**
@@ -44,7 +40,6 @@ public class ShapeCesiumWriter extends CesiumPropertyWriter<ShapeCesiumWriter> i
     */
     protected ShapeCesiumWriter(@Nonnull ShapeCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian2 = createAsCartesian2();
     }
 
     /**
@@ -84,16 +79,10 @@ public class ShapeCesiumWriter extends CesiumPropertyWriter<ShapeCesiumWriter> i
     */
     @Nonnull
     public final CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter> asCartesian2() {
-        return m_asCartesian2.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter>> createAsCartesian2() {
-        return new Lazy<CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter>>(new Func1<CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter>>(this, "createCartesian2List") {
-            public CesiumCartesian2ListValuePropertyAdaptor<ShapeCesiumWriter> invoke() {
-                return createCartesian2List();
-            }
-        }, false);
+        if (m_asCartesian2 == null) {
+            m_asCartesian2 = createCartesian2List();
+        }
+        return m_asCartesian2;
     }
 
     @Nonnull
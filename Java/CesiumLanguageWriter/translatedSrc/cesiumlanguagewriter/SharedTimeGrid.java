@@ -0,0 +1,190 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.CultureInfoHelper;
+import agi.foundation.compatibility.DoubleHelper;
+import cesiumlanguagewriter.advanced.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A set of sample dates shared by many sampled properties.  The epoch and the time offset of each
+ date from the epoch are formatted once when the grid is created, and sampled writers
+ interleave the formatted offsets with the values of each property, instead of formatting
+ the same offsets again for every property written on the grid.
+ <p>
+ Instances are immutable and may be shared between threads and documents.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class SharedTimeGrid {
+    /**
+    * Initializes a new instance.
+    * @param dates The dates of the grid, in increasing order.
+    */
+    public SharedTimeGrid(@Nonnull List<JulianDate> dates) {
+        this(dates, 0, dates.size());
+    }
+
+    /**
+    * Initializes a new instance.
+    * @param dates The dates of the grid, in increasing order.
+    * @param startIndex The index of the first date to use.
+    * @param length The number of dates to use.
+    */
+    public SharedTimeGrid(@Nonnull List<JulianDate> dates, int startIndex, int length) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        if (length < 1) {
+            throw new ArgumentOutOfRangeException("length");
+        }
+        if (startIndex < 0 || startIndex + length > dates.size()) {
+            throw new ArgumentOutOfRangeException("startIndex");
+        }
+        m_offsets = new double[length];
+        if (dates instanceof JulianDateArray) {
+            // The array is immutable, so keep the days and seconds rather than creating dates.
+            JulianDateArray gridDates = ((JulianDateArray) dates).subArray(startIndex, length);
+            m_dates = gridDates;
+            m_epoch = gridDates.get(0);
+            gridDates.secondsDifferences(m_epoch, 0, length, m_offsets, 0);
+        } else {
+            ArrayList<JulianDate> gridDates = new ArrayList<JulianDate>(length);
+            for (int i = 0; i < length; ++i) {
+                gridDates.add(dates.get(startIndex + i));
+            }
+            m_dates = Collections.unmodifiableList(gridDates);
+            m_epoch = gridDates.get(0);
+            for (int i = 0; i < length; ++i) {
+                m_offsets[i] = m_epoch.secondsDifference(gridDates.get(i));
+            }
+        }
+        m_compactEpoch = CesiumFormattingHelper.toIso8601(m_epoch, Iso8601Format.COMPACT);
+        m_extendedEpoch = CesiumFormattingHelper.toIso8601(m_epoch, Iso8601Format.EXTENDED);
+        m_offsetTokens = new String[length];
+        for (int i = 0; i < length; ++i) {
+            m_offsetTokens[i] = DoubleHelper.toString(m_offsets[i], "R", CultureInfoHelper.getInvariantCulture());
+        }
+    }
+
+    /**
+    * Gets the epoch of the grid, which is its first date.
+    */
+    @Nonnull
+    public final JulianDate getEpoch() {
+        return m_epoch;
+    }
+
+    /**
+    * Gets the number of dates in the grid.
+    */
+    public final int getCount() {
+        return m_offsets.length;
+    }
+
+    /**
+    * Gets the dates of the grid.
+    */
+    @Nonnull
+    public final List<JulianDate> getDates() {
+        return m_dates;
+    }
+
+    /**
+    * Gets the time of a date in the grid, in seconds since the epoch.
+    * @param index The index of the date.
+    * @return The time offset.
+    */
+    public final double getOffset(int index) {
+        return m_offsets[index];
+    }
+
+    /**
+    * Gets the epoch of the grid formatted as an ISO 8601 string.
+    * @param format The format to use.
+    * @return The formatted epoch.
+    */
+    @Nonnull
+    public final String getEpochIso8601(@Nonnull Iso8601Format format) {
+        switch (format) {
+        case COMPACT:
+            return m_compactEpoch;
+        case EXTENDED:
+            return m_extendedEpoch;
+        default:
+            return CesiumFormattingHelper.toIso8601(m_epoch, format);
+        }
+    }
+
+    /**
+    * Writes the {@code epoch} property of the grid, in the format matching the stream.
+    * @param output The stream to which to write the epoch.
+    */
+    public final void writeEpoch(@Nonnull CesiumOutputStream output) {
+        writeEpoch(output, 0);
+    }
+
+    /**
+    * Writes the {@code epoch} property for a range of the grid, in the format matching the stream.
+    The epoch is the first date of the range, as when writing the same range of dates directly.
+    * @param output The stream to which to write the epoch.
+    * @param startIndex The index of the first date in the range.
+    */
+    public final void writeEpoch(@Nonnull CesiumOutputStream output, int startIndex) {
+        output.writePropertyName("epoch");
+        if (startIndex == 0 || startIndex >= m_offsets.length) {
+            output.writeValue(output.getPrettyFormatting() ? m_extendedEpoch : m_compactEpoch);
+        } else {
+            Iso8601Formatter.writeDate(output, m_dates.get(startIndex));
+        }
+    }
+
+    /**
+    * Writes the time offset of a date in the grid as an element of a sequence.
+    * @param output The stream to which to write the offset.
+    * @param index The index of the date.
+    */
+    public final void writeOffset(@Nonnull CesiumOutputStream output, int index) {
+        output.writeRawValue(m_offsetTokens[index]);
+    }
+
+    /**
+    * Checks that a list of values has one value for each date in the grid, and that a range of those values lies within the grid.
+    * @param values The values.
+    * @param startIndex The index of the first value in the range.
+    * @param length The number of values in the range.
+    */
+    public final void checkValues(@Nonnull List<?> values, int startIndex, int length) {
+        if (values == null) {
+            throw new ArgumentNullException("values");
+        }
+        if (values.size() != m_offsets.length) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "values");
+        }
+        if (startIndex < 0 || length < 0 || startIndex + length > m_offsets.length) {
+            throw new ArgumentOutOfRangeException("startIndex");
+        }
+    }
+
+    @Nonnull
+    private final List<JulianDate> m_dates;
+    @Nonnull
+    private final JulianDate m_epoch;
+    @Nonnull
+    private final String m_compactEpoch;
+    @Nonnull
+    private final String m_extendedEpoch;
+    @Nonnull
+    private final double[] m_offsets;
+    @Nonnull
+    private final String[] m_offsetTokens;
+}
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -31,10 +29,8 @@ public class StringCesiumWriter extends CesiumPropertyWriter<StringCesiumWriter>
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumStringValuePropertyAdaptor<StringCesiumWriter>> m_asString;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<StringCesiumWriter>> m_asReference;
+    private CesiumStringValuePropertyAdaptor<StringCesiumWriter> m_asString;
+    private CesiumReferenceValuePropertyAdaptor<StringCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -42,8 +38,6 @@ public class StringCesiumWriter extends CesiumPropertyWriter<StringCesiumWriter>
     */
     public StringCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asString = createAsString();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -52,8 +46,6 @@ public class StringCesiumWriter extends CesiumPropertyWriter<StringCesiumWriter>
     */
     protected StringCesiumWriter(@Nonnull StringCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asString = createAsString();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -143,16 +135,10 @@ public class StringCesiumWriter extends CesiumPropertyWriter<StringCesiumWriter>
     */
     @Nonnull
     public final CesiumStringValuePropertyAdaptor<StringCesiumWriter> asString() {
-        return m_asString.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumStringValuePropertyAdaptor<StringCesiumWriter>> createAsString() {
-        return new Lazy<CesiumStringValuePropertyAdaptor<StringCesiumWriter>>(new Func1<CesiumStringValuePropertyAdaptor<StringCesiumWriter>>(this, "createString") {
-            public CesiumStringValuePropertyAdaptor<StringCesiumWriter> invoke() {
-                return createString();
-            }
-        }, false);
+        if (m_asString == null) {
+            m_asString = createString();
+        }
+        return m_asString;
     }
 
     @Nonnull
@@ -166,16 +152,10 @@ public class StringCesiumWriter extends CesiumPropertyWriter<StringCesiumWriter>
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<StringCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<StringCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<StringCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<StringCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<StringCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.ColorCesiumWriter;
@@ -47,36 +45,11 @@ public class StripeMaterialCesiumWriter extends CesiumPropertyWriter<StripeMater
     */
     @Nonnull
     public static final String RepeatPropertyName = "repeat";
-    @Nonnull
-    private final Lazy<StripeOrientationCesiumWriter> m_orientation = new Lazy<StripeOrientationCesiumWriter>(new Func1<StripeOrientationCesiumWriter>() {
-        public StripeOrientationCesiumWriter invoke() {
-            return new StripeOrientationCesiumWriter(OrientationPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_evenColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(EvenColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_oddColor = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(OddColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_offset = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(OffsetPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_repeat = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(RepeatPropertyName);
-        }
-    }, false);
+    private StripeOrientationCesiumWriter m_orientation;
+    private ColorCesiumWriter m_evenColor;
+    private ColorCesiumWriter m_oddColor;
+    private DoubleCesiumWriter m_offset;
+    private DoubleCesiumWriter m_repeat;
 
     /**
     * Initializes a new instance.
@@ -108,7 +81,10 @@ public class StripeMaterialCesiumWriter extends CesiumPropertyWriter<StripeMater
     */
     @Nonnull
     public final StripeOrientationCesiumWriter getOrientationWriter() {
-        return m_orientation.getValue();
+        if (m_orientation == null) {
+            m_orientation = this.<StripeOrientationCesiumWriter> addChildWriter(new StripeOrientationCesiumWriter(OrientationPropertyName));
+        }
+        return m_orientation;
     }
 
     /**
@@ -182,7 +158,10 @@ public class StripeMaterialCesiumWriter extends CesiumPropertyWriter<StripeMater
     */
     @Nonnull
     public final ColorCesiumWriter getEvenColorWriter() {
-        return m_evenColor.getValue();
+        if (m_evenColor == null) {
+            m_evenColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(EvenColorPropertyName));
+        }
+        return m_evenColor;
     }
 
     /**
@@ -347,7 +326,10 @@ public class StripeMaterialCesiumWriter extends CesiumPropertyWriter<StripeMater
     */
     @Nonnull
     public final ColorCesiumWriter getOddColorWriter() {
-        return m_oddColor.getValue();
+        if (m_oddColor == null) {
+            m_oddColor = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(OddColorPropertyName));
+        }
+        return m_oddColor;
     }
 
     /**
@@ -512,7 +494,10 @@ public class StripeMaterialCesiumWriter extends CesiumPropertyWriter<StripeMater
     */
     @Nonnull
     public final DoubleCesiumWriter getOffsetWriter() {
-        return m_offset.getValue();
+        if (m_offset == null) {
+            m_offset = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(OffsetPropertyName));
+        }
+        return m_offset;
     }
 
     /**
@@ -612,7 +597,10 @@ public class StripeMaterialCesiumWriter extends CesiumPropertyWriter<StripeMater
     */
     @Nonnull
     public final DoubleCesiumWriter getRepeatWriter() {
-        return m_repeat.getValue();
+        if (m_repeat == null) {
+            m_repeat = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(RepeatPropertyName));
+        }
+        return m_repeat;
     }
 
     /**
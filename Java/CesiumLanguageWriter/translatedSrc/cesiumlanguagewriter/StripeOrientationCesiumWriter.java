@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class StripeOrientationCesiumWriter extends CesiumPropertyWriter<StripeOr
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter>> m_asStripeOrientation;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter>> m_asReference;
+    private CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter> m_asStripeOrientation;
+    private CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class StripeOrientationCesiumWriter extends CesiumPropertyWriter<StripeOr
     */
     public StripeOrientationCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asStripeOrientation = createAsStripeOrientation();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class StripeOrientationCesiumWriter extends CesiumPropertyWriter<StripeOr
     */
     protected StripeOrientationCesiumWriter(@Nonnull StripeOrientationCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asStripeOrientation = createAsStripeOrientation();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,17 +136,10 @@ public class StripeOrientationCesiumWriter extends CesiumPropertyWriter<StripeOr
     */
     @Nonnull
     public final CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter> asStripeOrientation() {
-        return m_asStripeOrientation.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter>> createAsStripeOrientation() {
-        return new Lazy<CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter>>(
-                new Func1<CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter>>(this, "createStripeOrientation") {
-                    public CesiumStripeOrientationValuePropertyAdaptor<StripeOrientationCesiumWriter> invoke() {
-                        return createStripeOrientation();
-                    }
-                }, false);
+        if (m_asStripeOrientation == null) {
+            m_asStripeOrientation = createStripeOrientation();
+        }
+        return m_asStripeOrientation;
     }
 
     @Nonnull
@@ -168,16 +153,10 @@ public class StripeOrientationCesiumWriter extends CesiumPropertyWriter<StripeOr
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<StripeOrientationCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
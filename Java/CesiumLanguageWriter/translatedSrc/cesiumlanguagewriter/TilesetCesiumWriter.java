@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -38,24 +36,9 @@ public class TilesetCesiumWriter extends CesiumPropertyWriter<TilesetCesiumWrite
     */
     @Nonnull
     public static final String MaximumScreenSpaceErrorPropertyName = "maximumScreenSpaceError";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<UriCesiumWriter> m_uri = new Lazy<UriCesiumWriter>(new Func1<UriCesiumWriter>() {
-        public UriCesiumWriter invoke() {
-            return new UriCesiumWriter(UriPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_maximumScreenSpaceError = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MaximumScreenSpaceErrorPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private UriCesiumWriter m_uri;
+    private DoubleCesiumWriter m_maximumScreenSpaceError;
 
     /**
     * Initializes a new instance.
@@ -87,7 +70,10 @@ public class TilesetCesiumWriter extends CesiumPropertyWriter<TilesetCesiumWrite
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -161,7 +147,10 @@ public class TilesetCesiumWriter extends CesiumPropertyWriter<TilesetCesiumWrite
     */
     @Nonnull
     public final UriCesiumWriter getUriWriter() {
-        return m_uri.getValue();
+        if (m_uri == null) {
+            m_uri = this.<UriCesiumWriter> addChildWriter(new UriCesiumWriter(UriPropertyName));
+        }
+        return m_uri;
     }
 
     /**
@@ -306,7 +295,10 @@ public class TilesetCesiumWriter extends CesiumPropertyWriter<TilesetCesiumWrite
     */
     @Nonnull
     public final DoubleCesiumWriter getMaximumScreenSpaceErrorWriter() {
-        return m_maximumScreenSpaceError.getValue();
+        if (m_maximumScreenSpaceError == null) {
+            m_maximumScreenSpaceError = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MaximumScreenSpaceErrorPropertyName));
+        }
+        return m_maximumScreenSpaceError;
     }
 
     /**
@@ -0,0 +1,299 @@
+package cesiumlanguagewriter;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import javax.annotation.Nonnull;
+
+/**
+ * An immutable set of times, represented as a sorted list of disjoint, non-empty
+ {@link TimeInterval TimeIntervals}.  Overlapping and touching intervals are coalesced when the
+ set is created, so each moment in the set belongs to exactly one interval.
+ <p>
+ Because it is a {@code List<TimeInterval>}, a set can be written directly as an
+ {@code availability} or interval list, for example with
+ {@link PacketCesiumWriter#writeAvailability(List)}.  Set operations on two sets take time
+ proportional to the total number of intervals, and containment queries use a binary search.
+ Like {@link TimeInterval}, the intervals are closed, so the result of {@link #difference}
+ includes the end points it shares with the removed intervals.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class TimeIntervalSet extends AbstractList<TimeInterval> implements RandomAccess {
+    /**
+    * Initializes a new set containing the times in the specified intervals.  The intervals may
+    be in any order and may overlap, and empty intervals are ignored.
+    * @param intervals The intervals.
+    */
+    public TimeIntervalSet(@Nonnull Iterable<TimeInterval> intervals) {
+        if (intervals == null) {
+            throw new ArgumentNullException("intervals");
+        }
+        ArrayList<TimeInterval> nonEmpty = new ArrayList<TimeInterval>();
+        for (final TimeInterval interval : intervals) {
+            if (!interval.getIsEmpty()) {
+                nonEmpty.add(interval);
+            }
+        }
+        TimeInterval[] sorted = nonEmpty.toArray(new TimeInterval[0]);
+        Arrays.sort(sorted, s_startComparer);
+        m_intervals = coalesce(sorted, sorted.length, 0.0);
+    }
+
+    private TimeIntervalSet(@Nonnull TimeInterval[] intervals) {
+        m_intervals = intervals;
+    }
+
+    /**
+    * Gets an empty set.
+    */
+    @Nonnull
+    public static TimeIntervalSet getEmpty() {
+        return s_empty;
+    }
+
+    /**
+    * Gets the number of intervals in the set.
+    */
+    @Override
+    public final int size() {
+        return m_intervals.length;
+    }
+
+    /**
+    * Gets an interval of the set.
+    * @param index The index of the interval.
+    * @return The interval.
+    */
+    @Nonnull
+    @Override
+    public final TimeInterval get(int index) {
+        return m_intervals[index];
+    }
+
+    /**
+    * Determines if the set contains a specified date.
+    * @param date The date to test.
+    * @return {@code true} if one of the intervals contains the date; otherwise {@code false}.
+    */
+    public final boolean contains(@Nonnull JulianDate date) {
+        return findIntervalIndex(date) >= 0;
+    }
+
+    /**
+    * Finds the interval which contains a specified date.
+    * @param date The date to find.
+    * @return The index of the interval which contains the date, or -1 if no interval contains it.
+    */
+    public final int findIntervalIndex(@Nonnull JulianDate date) {
+        if (date == null) {
+            throw new ArgumentNullException("date");
+        }
+        // Find the last interval which starts at or before the date.
+        int low = 0;
+        int high = m_intervals.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (m_intervals[mid].getStart().compareTo(date) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high >= 0 && date.compareTo(m_intervals[high].getStop()) <= 0) {
+            return high;
+        }
+        return -1;
+    }
+
+    /**
+    * Creates a set containing the times in either this set or another set.
+    * @param other The other set.
+    * @return The union of the sets.
+    */
+    @Nonnull
+    public final TimeIntervalSet union(@Nonnull TimeIntervalSet other) {
+        if (other == null) {
+            throw new ArgumentNullException("other");
+        }
+        if (other.m_intervals.length == 0) {
+            return this;
+        }
+        if (m_intervals.length == 0) {
+            return other;
+        }
+        // Merge the two sorted lists, then coalesce.
+        TimeInterval[] a = m_intervals;
+        TimeInterval[] b = other.m_intervals;
+        TimeInterval[] merged = new TimeInterval[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i].getStart().compareTo(b[j].getStart()) <= 0) {
+                merged[count++] = a[i++];
+            } else {
+                merged[count++] = b[j++];
+            }
+        }
+        while (i < a.length) {
+            merged[count++] = a[i++];
+        }
+        while (j < b.length) {
+            merged[count++] = b[j++];
+        }
+        return new TimeIntervalSet(coalesce(merged, count, 0.0));
+    }
+
+    /**
+    * Creates a set containing the times in both this set and another set.
+    * @param other The other set.
+    * @return The intersection of the sets.
+    */
+    @Nonnull
+    public final TimeIntervalSet intersection(@Nonnull TimeIntervalSet other) {
+        if (other == null) {
+            throw new ArgumentNullException("other");
+        }
+        TimeInterval[] a = m_intervals;
+        TimeInterval[] b = other.m_intervals;
+        ArrayList<TimeInterval> result = new ArrayList<TimeInterval>();
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            JulianDate start = JulianDate.greaterThan(b[j].getStart(), a[i].getStart()) ? b[j].getStart() : a[i].getStart();
+            JulianDate stop = JulianDate.lessThan(b[j].getStop(), a[i].getStop()) ? b[j].getStop() : a[i].getStop();
+            if (JulianDate.lessThan(start, stop)) {
+                result.add(interval(start, stop, a[i], b[j]));
+            }
+            // Advance whichever interval ends first.
+            if (JulianDate.lessThan(a[i].getStop(), b[j].getStop())) {
+                ++i;
+            } else {
+                ++j;
+            }
+        }
+        return new TimeIntervalSet(result.toArray(new TimeInterval[0]));
+    }
+
+    /**
+    * Creates a set containing the times in this set which are not in another set.  Because
+    intervals are closed, the result includes the end points shared with {@code other}.
+    * @param other The set of times to remove.
+    * @return The difference of the sets.
+    */
+    @Nonnull
+    public final TimeIntervalSet difference(@Nonnull TimeIntervalSet other) {
+        if (other == null) {
+            throw new ArgumentNullException("other");
+        }
+        if (other.m_intervals.length == 0 || m_intervals.length == 0) {
+            return this;
+        }
+        TimeInterval[] b = other.m_intervals;
+        ArrayList<TimeInterval> result = new ArrayList<TimeInterval>();
+        int j = 0;
+        for (final TimeInterval interval : m_intervals) {
+            JulianDate start = interval.getStart();
+            JulianDate stop = interval.getStop();
+            // Skip removed intervals which end before this interval starts.
+            while (j < b.length && JulianDate.lessThanOrEqual(b[j].getStop(), start)) {
+                ++j;
+            }
+            int k = j;
+            while (k < b.length && JulianDate.lessThan(b[k].getStart(), stop)) {
+                if (JulianDate.lessThan(start, b[k].getStart())) {
+                    result.add(interval(start, b[k].getStart(), interval, interval));
+                }
+                if (JulianDate.greaterThan(b[k].getStop(), start)) {
+                    start = b[k].getStop();
+                }
+                if (JulianDate.greaterThanOrEqual(start, stop)) {
+                    break;
+                }
+                ++k;
+            }
+            if (JulianDate.lessThan(start, stop)) {
+                result.add(interval(start, stop, interval, interval));
+            }
+        }
+        return new TimeIntervalSet(result.toArray(new TimeInterval[0]));
+    }
+
+    /**
+    * Creates a set in which gaps between consecutive intervals no longer than a tolerance
+    are filled, joining the intervals on either side.
+    * @param toleranceSeconds The longest gap to fill, in seconds.
+    * @return The set with the gaps filled.
+    */
+    @Nonnull
+    public final TimeIntervalSet fillGaps(double toleranceSeconds) {
+        if (toleranceSeconds < 0.0) {
+            throw new ArgumentOutOfRangeException("toleranceSeconds");
+        }
+        TimeInterval[] filled = coalesce(m_intervals, m_intervals.length, toleranceSeconds);
+        return filled.length == m_intervals.length ? this : new TimeIntervalSet(filled);
+    }
+
+    /**
+    * Joins sorted intervals which overlap, touch, or are separated by no more than a tolerance.
+    */
+    @Nonnull
+    private static TimeInterval[] coalesce(@Nonnull TimeInterval[] sorted, int count, double toleranceSeconds) {
+        ArrayList<TimeInterval> result = new ArrayList<TimeInterval>(count);
+        int i = 0;
+        while (i < count) {
+            TimeInterval first = sorted[i];
+            JulianDate stop = first.getStop();
+            TimeInterval last = first;
+            ++i;
+            while (i < count && joins(stop, sorted[i].getStart(), toleranceSeconds)) {
+                if (JulianDate.greaterThan(sorted[i].getStop(), stop)) {
+                    stop = sorted[i].getStop();
+                    last = sorted[i];
+                }
+                ++i;
+            }
+            result.add(interval(first.getStart(), stop, first, last));
+        }
+        return result.toArray(new TimeInterval[0]);
+    }
+
+    private static boolean joins(@Nonnull JulianDate stop, @Nonnull JulianDate nextStart, double toleranceSeconds) {
+        if (JulianDate.greaterThanOrEqual(stop, nextStart)) {
+            return true;
+        }
+        return toleranceSeconds > 0.0 && stop.secondsDifference(nextStart) <= toleranceSeconds;
+    }
+
+    /**
+    * Gets an interval with the specified end points, reusing an existing interval if it has them.
+    */
+    @Nonnull
+    private static TimeInterval interval(@Nonnull JulianDate start, @Nonnull JulianDate stop, @Nonnull TimeInterval first, @Nonnull TimeInterval second) {
+        if (first.getStart() == start && first.getStop() == stop) {
+            return first;
+        }
+        if (second.getStart() == start && second.getStop() == stop) {
+            return second;
+        }
+        return new TimeInterval(start, stop);
+    }
+
+    @Nonnull
+    private static final Comparator<TimeInterval> s_startComparer = (x, y) -> x.getStart().compareTo(y.getStart());
+    @Nonnull
+    private static final TimeIntervalSet s_empty = new TimeIntervalSet(new TimeInterval[0]);
+    @Nonnull
+    private final TimeInterval[] m_intervals;
+}
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class TranslationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<TranslationCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<TranslationCesiumWriter>> m_asReference;
+    private CesiumCartesian3ValuePropertyAdaptor<TranslationCesiumWriter> m_asCartesian;
+    private CesiumReferenceValuePropertyAdaptor<TranslationCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class TranslationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     public TranslationCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class TranslationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     protected TranslationCesiumWriter(@Nonnull TranslationCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,16 +155,10 @@ public class TranslationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<TranslationCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<TranslationCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<TranslationCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<TranslationCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<TranslationCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -186,16 +172,10 @@ public class TranslationCesiumWriter extends CesiumInterpolatablePropertyWriter<
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<TranslationCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<TranslationCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<TranslationCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<TranslationCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<TranslationCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
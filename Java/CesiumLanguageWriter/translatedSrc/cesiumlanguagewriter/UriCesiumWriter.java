@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.awt.image.RenderedImage;
 import java.net.URI;
@@ -33,10 +31,8 @@ public class UriCesiumWriter extends CesiumPropertyWriter<UriCesiumWriter> imple
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumUriValuePropertyAdaptor<UriCesiumWriter>> m_asUri;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<UriCesiumWriter>> m_asReference;
+    private CesiumUriValuePropertyAdaptor<UriCesiumWriter> m_asUri;
+    private CesiumReferenceValuePropertyAdaptor<UriCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class UriCesiumWriter extends CesiumPropertyWriter<UriCesiumWriter> imple
     */
     public UriCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asUri = createAsUri();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class UriCesiumWriter extends CesiumPropertyWriter<UriCesiumWriter> imple
     */
     protected UriCesiumWriter(@Nonnull UriCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asUri = createAsUri();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -212,16 +204,10 @@ public class UriCesiumWriter extends CesiumPropertyWriter<UriCesiumWriter> imple
     */
     @Nonnull
     public final CesiumUriValuePropertyAdaptor<UriCesiumWriter> asUri() {
-        return m_asUri.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumUriValuePropertyAdaptor<UriCesiumWriter>> createAsUri() {
-        return new Lazy<CesiumUriValuePropertyAdaptor<UriCesiumWriter>>(new Func1<CesiumUriValuePropertyAdaptor<UriCesiumWriter>>(this, "createUri") {
-            public CesiumUriValuePropertyAdaptor<UriCesiumWriter> invoke() {
-                return createUri();
-            }
-        }, false);
+        if (m_asUri == null) {
+            m_asUri = createUri();
+        }
+        return m_asUri;
     }
 
     @Nonnull
@@ -235,16 +221,10 @@ public class UriCesiumWriter extends CesiumPropertyWriter<UriCesiumWriter> imple
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<UriCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<UriCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<UriCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<UriCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<UriCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
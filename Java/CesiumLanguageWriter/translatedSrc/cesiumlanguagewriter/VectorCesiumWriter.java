@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import agi.foundation.compatibility.Using;
 import cesiumlanguagewriter.advanced.*;
 import cesiumlanguagewriter.BooleanCesiumWriter;
@@ -48,36 +46,11 @@ public class VectorCesiumWriter extends CesiumPropertyWriter<VectorCesiumWriter>
     */
     @Nonnull
     public static final String MinimumLengthInPixelsPropertyName = "minimumLengthInPixels";
-    @Nonnull
-    private final Lazy<BooleanCesiumWriter> m_show = new Lazy<BooleanCesiumWriter>(new Func1<BooleanCesiumWriter>() {
-        public BooleanCesiumWriter invoke() {
-            return new BooleanCesiumWriter(ShowPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<ColorCesiumWriter> m_color = new Lazy<ColorCesiumWriter>(new Func1<ColorCesiumWriter>() {
-        public ColorCesiumWriter invoke() {
-            return new ColorCesiumWriter(ColorPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DirectionCesiumWriter> m_direction = new Lazy<DirectionCesiumWriter>(new Func1<DirectionCesiumWriter>() {
-        public DirectionCesiumWriter invoke() {
-            return new DirectionCesiumWriter(DirectionPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_length = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(LengthPropertyName);
-        }
-    }, false);
-    @Nonnull
-    private final Lazy<DoubleCesiumWriter> m_minimumLengthInPixels = new Lazy<DoubleCesiumWriter>(new Func1<DoubleCesiumWriter>() {
-        public DoubleCesiumWriter invoke() {
-            return new DoubleCesiumWriter(MinimumLengthInPixelsPropertyName);
-        }
-    }, false);
+    private BooleanCesiumWriter m_show;
+    private ColorCesiumWriter m_color;
+    private DirectionCesiumWriter m_direction;
+    private DoubleCesiumWriter m_length;
+    private DoubleCesiumWriter m_minimumLengthInPixels;
 
     /**
     * Initializes a new instance.
@@ -109,7 +82,10 @@ public class VectorCesiumWriter extends CesiumPropertyWriter<VectorCesiumWriter>
     */
     @Nonnull
     public final BooleanCesiumWriter getShowWriter() {
-        return m_show.getValue();
+        if (m_show == null) {
+            m_show = this.<BooleanCesiumWriter> addChildWriter(new BooleanCesiumWriter(ShowPropertyName));
+        }
+        return m_show;
     }
 
     /**
@@ -183,7 +159,10 @@ public class VectorCesiumWriter extends CesiumPropertyWriter<VectorCesiumWriter>
     */
     @Nonnull
     public final ColorCesiumWriter getColorWriter() {
-        return m_color.getValue();
+        if (m_color == null) {
+            m_color = this.<ColorCesiumWriter> addChildWriter(new ColorCesiumWriter(ColorPropertyName));
+        }
+        return m_color;
     }
 
     /**
@@ -348,7 +327,10 @@ public class VectorCesiumWriter extends CesiumPropertyWriter<VectorCesiumWriter>
     */
     @Nonnull
     public final DirectionCesiumWriter getDirectionWriter() {
-        return m_direction.getValue();
+        if (m_direction == null) {
+            m_direction = this.<DirectionCesiumWriter> addChildWriter(new DirectionCesiumWriter(DirectionPropertyName));
+        }
+        return m_direction;
     }
 
     /**
@@ -559,7 +541,10 @@ public class VectorCesiumWriter extends CesiumPropertyWriter<VectorCesiumWriter>
     */
     @Nonnull
     public final DoubleCesiumWriter getLengthWriter() {
-        return m_length.getValue();
+        if (m_length == null) {
+            m_length = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(LengthPropertyName));
+        }
+        return m_length;
     }
 
     /**
@@ -659,7 +644,10 @@ public class VectorCesiumWriter extends CesiumPropertyWriter<VectorCesiumWriter>
     */
     @Nonnull
     public final DoubleCesiumWriter getMinimumLengthInPixelsWriter() {
-        return m_minimumLengthInPixels.getValue();
+        if (m_minimumLengthInPixels == null) {
+            m_minimumLengthInPixels = this.<DoubleCesiumWriter> addChildWriter(new DoubleCesiumWriter(MinimumLengthInPixelsPropertyName));
+        }
+        return m_minimumLengthInPixels;
     }
 
     /**
@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import javax.annotation.Nonnull;
 
@@ -32,10 +30,8 @@ public class VerticalOriginCesiumWriter extends CesiumPropertyWriter<VerticalOri
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter>> m_asVerticalOrigin;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter>> m_asReference;
+    private CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter> m_asVerticalOrigin;
+    private CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -43,8 +39,6 @@ public class VerticalOriginCesiumWriter extends CesiumPropertyWriter<VerticalOri
     */
     public VerticalOriginCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asVerticalOrigin = createAsVerticalOrigin();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -53,8 +47,6 @@ public class VerticalOriginCesiumWriter extends CesiumPropertyWriter<VerticalOri
     */
     protected VerticalOriginCesiumWriter(@Nonnull VerticalOriginCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asVerticalOrigin = createAsVerticalOrigin();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -144,17 +136,10 @@ public class VerticalOriginCesiumWriter extends CesiumPropertyWriter<VerticalOri
     */
     @Nonnull
     public final CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter> asVerticalOrigin() {
-        return m_asVerticalOrigin.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter>> createAsVerticalOrigin() {
-        return new Lazy<CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter>>(
-                new Func1<CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter>>(this, "createVerticalOrigin") {
-                    public CesiumVerticalOriginValuePropertyAdaptor<VerticalOriginCesiumWriter> invoke() {
-                        return createVerticalOrigin();
-                    }
-                }, false);
+        if (m_asVerticalOrigin == null) {
+            m_asVerticalOrigin = createVerticalOrigin();
+        }
+        return m_asVerticalOrigin;
     }
 
     @Nonnull
@@ -168,16 +153,10 @@ public class VerticalOriginCesiumWriter extends CesiumPropertyWriter<VerticalOri
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<VerticalOriginCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
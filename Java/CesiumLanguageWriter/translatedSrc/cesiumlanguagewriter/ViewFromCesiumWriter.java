@@ -2,8 +2,6 @@ package cesiumlanguagewriter;
 
 
 import agi.foundation.compatibility.*;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.advanced.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -33,10 +31,8 @@ public class ViewFromCesiumWriter extends CesiumInterpolatablePropertyWriter<Vie
     */
     @Nonnull
     public static final String DeletePropertyName = "delete";
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<ViewFromCesiumWriter>> m_asCartesian;
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ViewFromCesiumWriter>> m_asReference;
+    private CesiumCartesian3ValuePropertyAdaptor<ViewFromCesiumWriter> m_asCartesian;
+    private CesiumReferenceValuePropertyAdaptor<ViewFromCesiumWriter> m_asReference;
 
     /**
     * Initializes a new instance.
@@ -44,8 +40,6 @@ public class ViewFromCesiumWriter extends CesiumInterpolatablePropertyWriter<Vie
     */
     public ViewFromCesiumWriter(@Nonnull String propertyName) {
         super(propertyName);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -54,8 +48,6 @@ public class ViewFromCesiumWriter extends CesiumInterpolatablePropertyWriter<Vie
     */
     protected ViewFromCesiumWriter(@Nonnull ViewFromCesiumWriter existingInstance) {
         super(existingInstance);
-        m_asCartesian = createAsCartesian();
-        m_asReference = createAsReference();
     }
 
     /**
@@ -163,16 +155,10 @@ public class ViewFromCesiumWriter extends CesiumInterpolatablePropertyWriter<Vie
     */
     @Nonnull
     public final CesiumCartesian3ValuePropertyAdaptor<ViewFromCesiumWriter> asCartesian() {
-        return m_asCartesian.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumCartesian3ValuePropertyAdaptor<ViewFromCesiumWriter>> createAsCartesian() {
-        return new Lazy<CesiumCartesian3ValuePropertyAdaptor<ViewFromCesiumWriter>>(new Func1<CesiumCartesian3ValuePropertyAdaptor<ViewFromCesiumWriter>>(this, "createCartesian3") {
-            public CesiumCartesian3ValuePropertyAdaptor<ViewFromCesiumWriter> invoke() {
-                return createCartesian3();
-            }
-        }, false);
+        if (m_asCartesian == null) {
+            m_asCartesian = createCartesian3();
+        }
+        return m_asCartesian;
     }
 
     @Nonnull
@@ -186,16 +172,10 @@ public class ViewFromCesiumWriter extends CesiumInterpolatablePropertyWriter<Vie
     */
     @Nonnull
     public final CesiumReferenceValuePropertyAdaptor<ViewFromCesiumWriter> asReference() {
-        return m_asReference.getValue();
-    }
-
-    @Nonnull
-    private final Lazy<CesiumReferenceValuePropertyAdaptor<ViewFromCesiumWriter>> createAsReference() {
-        return new Lazy<CesiumReferenceValuePropertyAdaptor<ViewFromCesiumWriter>>(new Func1<CesiumReferenceValuePropertyAdaptor<ViewFromCesiumWriter>>(this, "createReference") {
-            public CesiumReferenceValuePropertyAdaptor<ViewFromCesiumWriter> invoke() {
-                return createReference();
-            }
-        }, false);
+        if (m_asReference == null) {
+            m_asReference = createReference();
+        }
+        return m_asReference;
     }
 
     @Nonnull
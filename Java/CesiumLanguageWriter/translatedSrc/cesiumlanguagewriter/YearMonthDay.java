@@ -11,6 +11,7 @@ import agi.foundation.compatibility.ImmutableValueType;
 import agi.foundation.compatibility.StringHelper;
 import java.time.DayOfWeek;
 import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.annotation.Nonnull;
 
 /**
@@ -99,6 +100,26 @@ public final class YearMonthDay implements Comparable<YearMonthDay>, IEquatable<
         }
     }
 
+    /**
+    * Gets the {@link YearMonthDay} for an astronomical Julian day number, with the same result
+    as the {@link #YearMonthDay(int) constructor}.  The most recently used days are cached, and
+    since the dates in a document usually fall on a few days, most calls return a cached instance
+    without performing the calendar calculation.
+    * @param astronomicalJulianDayNumber The astronomical Julian day number.
+    * @return The year, month and day.
+    */
+    @Nonnull
+    public static YearMonthDay fromJulianDayNumber(int astronomicalJulianDayNumber) {
+        int slot = astronomicalJulianDayNumber & (CacheSize - 1);
+        CacheEntry entry = s_cache.get(slot);
+        if (entry != null && entry.JulianDayNumber == astronomicalJulianDayNumber) {
+            return entry.Value;
+        }
+        YearMonthDay value = new YearMonthDay(astronomicalJulianDayNumber);
+        s_cache.lazySet(slot, new CacheEntry(astronomicalJulianDayNumber, value));
+        return value;
+    }
+
     /**
     * Initializes a new instance from a {@link JulianDate}.
     * @param date The date.
@@ -376,6 +397,25 @@ public final class YearMonthDay implements Comparable<YearMonthDay>, IEquatable<
         return isLeapYear(year) ? s_leapYearCumulativeMonthTable : s_commonYearCumulativeMonthTable;
     }
 
+    /**
+    * The number of days in the cache used by {@link #fromJulianDayNumber}.  Consecutive days
+    use different slots, so this many consecutive days can be cached at once.
+    */
+    private static final int CacheSize = 256;
+    @Nonnull
+    private static final AtomicReferenceArray<CacheEntry> s_cache = new AtomicReferenceArray<CacheEntry>(CacheSize);
+
+    private static final class CacheEntry {
+        public CacheEntry(int julianDayNumber, @Nonnull YearMonthDay value) {
+            JulianDayNumber = julianDayNumber;
+            Value = value;
+        }
+
+        public final int JulianDayNumber;
+        @Nonnull
+        public final YearMonthDay Value;
+    }
+
     // fields are stored zero-indexed so that default-constructed instances are valid
     private int m_year;
     private int m_month;
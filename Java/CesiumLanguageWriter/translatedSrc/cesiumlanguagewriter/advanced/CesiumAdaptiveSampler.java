@@ -0,0 +1,509 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.Func2;
+import cesiumlanguagewriter.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+
+/**
+ * Chooses the times at which to sample a value so that the client, interpolating the samples with the given
+ {@link CesiumInterpolationAlgorithm} and degree, reproduces the value to within a tolerance at the midpoint of
+ every gap between samples.  Samples are placed densely where the value changes rapidly, such as around maneuvers,
+ and sparsely where it is smooth.
+ * <p>
+ Sampling starts from an evenly spaced grid no coarser than the maximum step.  The midpoint of every gap between
+ samples is then evaluated and compared to the value the client would interpolate there; gaps whose error exceeds
+ the tolerance are split, and the process repeats until every midpoint is within tolerance or the gaps reach the
+ minimum step.  The error is only measured at the midpoints, so a value which varies faster than the samples can
+ show, such as one oscillating with a period shorter than the gaps, may exceed the tolerance elsewhere in a gap;
+ choose a maximum step short enough to resolve such variations.
+ * <p>
+ Cartesian and numeric values are compared using the Euclidean distance between their components, cartographic
+ values using the distance, in meters, between the corresponding points relative to the WGS84 ellipsoid, and unit
+ quaternions using the angle, in radians, of the rotation between them.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumAdaptiveSampler {
+    /**
+    * Initializes a new instance.
+    * @param interpolationAlgorithm The interpolation algorithm the client will use to interpolate the samples.
+    * @param interpolationDegree The interpolation degree the client will use to interpolate the samples.
+    * @param tolerance The maximum error allowed between the value and its interpolation at the midpoint of each gap between samples.
+    * @param maximumStep The largest interval allowed between samples.
+    * @param minimumStep The smallest interval allowed between samples.
+    */
+    public CesiumAdaptiveSampler(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree, double tolerance, @Nonnull Duration maximumStep,
+            @Nonnull Duration minimumStep) {
+        if (interpolationAlgorithm == null) {
+            throw new ArgumentNullException("interpolationAlgorithm");
+        }
+        if (interpolationDegree < 1) {
+            throw new ArgumentOutOfRangeException("interpolationDegree");
+        }
+        if (!(tolerance >= 0.0)) {
+            throw new ArgumentOutOfRangeException("tolerance", CesiumLocalization.getToleranceMustNotBeNegative());
+        }
+        if (maximumStep == null) {
+            throw new ArgumentNullException("maximumStep");
+        }
+        if (minimumStep == null) {
+            throw new ArgumentNullException("minimumStep");
+        }
+        if (!(minimumStep.getTotalSeconds() > 0.0)) {
+            throw new ArgumentOutOfRangeException("minimumStep");
+        }
+        if (maximumStep.getTotalSeconds() < minimumStep.getTotalSeconds()) {
+            throw new ArgumentOutOfRangeException("maximumStep", CesiumLocalization.getUpperBoundCannotBeLessThanLowerBound());
+        }
+        m_interpolationAlgorithm = interpolationAlgorithm;
+        m_interpolationDegree = interpolationDegree;
+        m_tolerance = tolerance;
+        m_maximumStep = maximumStep;
+        m_minimumStep = minimumStep;
+    }
+
+    /**
+    * Gets the interpolation algorithm the client will use to interpolate the samples.
+    */
+    @Nonnull
+    public final CesiumInterpolationAlgorithm getInterpolationAlgorithm() {
+        return m_interpolationAlgorithm;
+    }
+
+    /**
+    * Gets the interpolation degree the client will use to interpolate the samples.
+    */
+    public final int getInterpolationDegree() {
+        return m_interpolationDegree;
+    }
+
+    /**
+    * Gets the maximum error allowed between the value and its interpolation at the midpoint of each gap between samples.
+    */
+    public final double getTolerance() {
+        return m_tolerance;
+    }
+
+    /**
+    * Gets the largest interval allowed between samples.
+    */
+    @Nonnull
+    public final Duration getMaximumStep() {
+        return m_maximumStep;
+    }
+
+    /**
+    * Gets the smallest interval allowed between samples.
+    */
+    @Nonnull
+    public final Duration getMinimumStep() {
+        return m_minimumStep;
+    }
+
+    /**
+    * Samples a Cartesian value over an interval.
+    * @param function The function which computes the value at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    * @return The samples.
+    */
+    @Nonnull
+    public final CesiumSampleSeries<Cartesian> sampleCartesian(@Nonnull Func2<JulianDate, Cartesian> function, @Nonnull JulianDate start, @Nonnull JulianDate stop) {
+        return sample(function, start, stop, CartesianComponents);
+    }
+
+    /**
+    * Samples a unit quaternion value over an interval.
+    * @param function The function which computes the value at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    * @return The samples.
+    */
+    @Nonnull
+    public final CesiumSampleSeries<UnitQuaternion> sampleUnitQuaternion(@Nonnull Func2<JulianDate, UnitQuaternion> function, @Nonnull JulianDate start, @Nonnull JulianDate stop) {
+        return sample(function, start, stop, UnitQuaternionComponents);
+    }
+
+    /**
+    * Samples a cartographic value, in radians, over an interval.
+    * @param function The function which computes the value at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    * @return The samples.
+    */
+    @Nonnull
+    public final CesiumSampleSeries<Cartographic> sampleCartographic(@Nonnull Func2<JulianDate, Cartographic> function, @Nonnull JulianDate start, @Nonnull JulianDate stop) {
+        return sample(function, start, stop, CartographicComponents);
+    }
+
+    /**
+    * Samples a numeric value over an interval.
+    * @param function The function which computes the value at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    * @return The samples.
+    */
+    @Nonnull
+    public final CesiumSampleSeries<Double> sampleNumber(@Nonnull Func2<JulianDate, Double> function, @Nonnull JulianDate start, @Nonnull JulianDate stop) {
+        return sample(function, start, stop, NumberComponents);
+    }
+
+    /**
+    * Samples the Cartesian values of several objects over an interval, sampling each object on a separate task.
+    The functions must be safe to call from multiple threads.
+    * @param functions The functions which compute the value of each object at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    * @param executor The executor on which to run the sampling tasks.
+    * @return The samples for each object, in the same order as {@code functions}.
+    */
+    @Nonnull
+    public final List<CesiumSampleSeries<Cartesian>> sampleCartesian(@Nonnull List<Func2<JulianDate, Cartesian>> functions, @Nonnull JulianDate start, @Nonnull JulianDate stop,
+            @Nonnull ExecutorService executor) {
+        return sampleAll(functions, start, stop, executor, CartesianComponents);
+    }
+
+    /**
+    * Samples the cartographic values, in radians, of several objects over an interval, sampling each object on a separate task.
+    The functions must be safe to call from multiple threads.
+    * @param functions The functions which compute the value of each object at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    * @param executor The executor on which to run the sampling tasks.
+    * @return The samples for each object, in the same order as {@code functions}.
+    */
+    @Nonnull
+    public final List<CesiumSampleSeries<Cartographic>> sampleCartographic(@Nonnull List<Func2<JulianDate, Cartographic>> functions, @Nonnull JulianDate start,
+            @Nonnull JulianDate stop, @Nonnull ExecutorService executor) {
+        return sampleAll(functions, start, stop, executor, CartographicComponents);
+    }
+
+    /**
+    * Samples the unit quaternion values of several objects over an interval, sampling each object on a separate task.
+    The functions must be safe to call from multiple threads.
+    * @param functions The functions which compute the value of each object at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    * @param executor The executor on which to run the sampling tasks.
+    * @return The samples for each object, in the same order as {@code functions}.
+    */
+    @Nonnull
+    public final List<CesiumSampleSeries<UnitQuaternion>> sampleUnitQuaternion(@Nonnull List<Func2<JulianDate, UnitQuaternion>> functions, @Nonnull JulianDate start,
+            @Nonnull JulianDate stop, @Nonnull ExecutorService executor) {
+        return sampleAll(functions, start, stop, executor, UnitQuaternionComponents);
+    }
+
+    /**
+    * Samples a Cartesian value over an interval, and writes the interpolation algorithm and degree,
+    followed by the samples.
+    * @param writer The writer to which to write the property.
+    * @param function The function which computes the value at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    */
+    public final void writeCartesian(@Nonnull ICesiumCartesian3ValuePropertyWriter writer, @Nonnull Func2<JulianDate, Cartesian> function, @Nonnull JulianDate start,
+            @Nonnull JulianDate stop) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        CesiumSampleSeries<Cartesian> samples = sampleCartesian(function, start, stop);
+        writer.writeInterpolationAlgorithm(m_interpolationAlgorithm);
+        writer.writeInterpolationDegree(m_interpolationDegree);
+        writer.writeCartesian(samples.getDates(), samples.getValues());
+    }
+
+    /**
+    * Samples a cartographic value, in radians, over an interval, and writes the interpolation algorithm and degree,
+    followed by the samples.
+    * @param writer The writer to which to write the property.
+    * @param function The function which computes the value at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    */
+    public final void writeCartographicRadians(@Nonnull ICesiumCartographicRadiansValuePropertyWriter writer, @Nonnull Func2<JulianDate, Cartographic> function,
+            @Nonnull JulianDate start, @Nonnull JulianDate stop) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        CesiumSampleSeries<Cartographic> samples = sampleCartographic(function, start, stop);
+        writer.writeInterpolationAlgorithm(m_interpolationAlgorithm);
+        writer.writeInterpolationDegree(m_interpolationDegree);
+        writer.writeCartographicRadians(samples.getDates(), samples.getValues());
+    }
+
+    /**
+    * Samples a unit quaternion value over an interval, and writes the interpolation algorithm and degree,
+    followed by the samples.
+    * @param writer The writer to which to write the property.
+    * @param function The function which computes the value at a given date.
+    * @param start The first date to sample.
+    * @param stop The last date to sample.
+    */
+    public final void writeUnitQuaternion(@Nonnull ICesiumUnitQuaternionValuePropertyWriter writer, @Nonnull Func2<JulianDate, UnitQuaternion> function, @Nonnull JulianDate start,
+            @Nonnull JulianDate stop) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        CesiumSampleSeries<UnitQuaternion> samples = sampleUnitQuaternion(function, start, stop);
+        writer.writeInterpolationAlgorithm(m_interpolationAlgorithm);
+        writer.writeInterpolationDegree(m_interpolationDegree);
+        writer.writeUnitQuaternion(samples.getDates(), samples.getValues());
+    }
+
+    @Nonnull
+    private <TValue> List<CesiumSampleSeries<TValue>> sampleAll(@Nonnull List<Func2<JulianDate, TValue>> functions, @Nonnull final JulianDate start, @Nonnull final JulianDate stop,
+            @Nonnull ExecutorService executor, @Nonnull final Components<TValue> components) {
+        if (functions == null) {
+            throw new ArgumentNullException("functions");
+        }
+        if (executor == null) {
+            throw new ArgumentNullException("executor");
+        }
+        ArrayList<Future<CesiumSampleSeries<TValue>>> futures = new ArrayList<Future<CesiumSampleSeries<TValue>>>(functions.size());
+        for (final Func2<JulianDate, TValue> function : functions) {
+            futures.add(executor.submit(new Callable<CesiumSampleSeries<TValue>>() {
+                public CesiumSampleSeries<TValue> call() {
+                    return sample(function, start, stop, components);
+                }
+            }));
+        }
+        ArrayList<CesiumSampleSeries<TValue>> result = new ArrayList<CesiumSampleSeries<TValue>>(functions.size());
+        try {
+            for (Future<CesiumSampleSeries<TValue>> future : futures) {
+                result.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (Future<CesiumSampleSeries<TValue>> future : futures) {
+                future.cancel(true);
+            }
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            for (Future<CesiumSampleSeries<TValue>> future : futures) {
+                future.cancel(true);
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        return result;
+    }
+
+    @Nonnull
+    private <TValue> CesiumSampleSeries<TValue> sample(@Nonnull Func2<JulianDate, TValue> function, @Nonnull JulianDate start, @Nonnull JulianDate stop,
+            @Nonnull Components<TValue> components) {
+        if (function == null) {
+            throw new ArgumentNullException("function");
+        }
+        if (start == null) {
+            throw new ArgumentNullException("start");
+        }
+        if (stop == null) {
+            throw new ArgumentNullException("stop");
+        }
+        double span = start.secondsDifference(stop);
+        if (span < 0.0) {
+            throw new ArgumentOutOfRangeException("stop", CesiumLocalization.getUpperBoundCannotBeLessThanLowerBound());
+        }
+        int stride = components.getStride();
+        int pointCount = CesiumSampleInterpolation.getPointCount(m_interpolationAlgorithm, m_interpolationDegree, 0);
+        double minimumStep = m_minimumStep.getTotalSeconds();
+
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<TValue> values = new ArrayList<TValue>();
+        int initialCount = 1;
+        if (span > 0.0) {
+            initialCount = Math.max(Math.min(pointCount, (int) Math.floor(span / minimumStep) + 1), (int) Math.ceil(span / m_maximumStep.getTotalSeconds()) + 1);
+            initialCount = Math.max(initialCount, 2);
+        }
+        for (int i = 0; i < initialCount; ++i) {
+            JulianDate date = i == initialCount - 1 ? stop : start.addSeconds(span * i / (initialCount - 1));
+            dates.add(date);
+            values.add(function.invoke(date));
+        }
+
+        int count = dates.size();
+        double[] times = new double[count];
+        double[] samples = new double[count * stride];
+        for (int i = 0; i < count; ++i) {
+            times[i] = start.secondsDifference(dates.get(i));
+            components.store(values.get(i), samples, i * stride);
+        }
+        // Each gap between samples caches the value at its midpoint, once evaluated.
+        ArrayList<JulianDate> midpointDates = new ArrayList<JulianDate>();
+        ArrayList<TValue> midpointValues = new ArrayList<TValue>();
+        for (int i = 0; i < count - 1; ++i) {
+            midpointDates.add(null);
+            midpointValues.add(null);
+        }
+        double[] weights = new double[pointCount];
+        double[] interpolated = new double[stride];
+        double[] actual = new double[stride];
+        boolean[] split = new boolean[Math.max(0, count - 1)];
+        boolean anySplit = true;
+        while (anySplit) {
+            anySplit = false;
+            int windowCount = Math.min(pointCount, count);
+            for (int gap = 0; gap < count - 1; ++gap) {
+                split[gap] = false;
+                if ((times[gap + 1] - times[gap]) * 0.5 < minimumStep) {
+                    continue;
+                }
+                if (midpointDates.get(gap) == null) {
+                    JulianDate gapStart = dates.get(gap);
+                    JulianDate midpoint = gapStart.addSeconds(gapStart.secondsDifference(dates.get(gap + 1)) * 0.5);
+                    midpointDates.set(gap, midpoint);
+                    midpointValues.set(gap, function.invoke(midpoint));
+                }
+                components.store(midpointValues.get(gap), actual, 0);
+                int firstIndex = CesiumSampleInterpolation.getWindowStart(gap + 1, windowCount, count);
+                CesiumSampleInterpolation.computeWeights(times, null, firstIndex, windowCount, start.secondsDifference(midpointDates.get(gap)), weights);
+                if (components.getIsRotation()) {
+                    CesiumSampleInterpolation.interpolateRotation(samples, null, firstIndex, windowCount, weights, interpolated);
+                } else {
+                    CesiumSampleInterpolation.interpolateVector(samples, stride, null, firstIndex, windowCount, weights, interpolated);
+                }
+                double error = components.error(interpolated, actual);
+                if (error > m_tolerance || Double.isNaN(error)) {
+                    split[gap] = true;
+                    anySplit = true;
+                }
+            }
+            if (!anySplit) {
+                break;
+            }
+            // Insert the midpoints of the gaps that were split.
+            ArrayList<JulianDate> newDates = new ArrayList<JulianDate>();
+            ArrayList<TValue> newValues = new ArrayList<TValue>();
+            ArrayList<JulianDate> newMidpointDates = new ArrayList<JulianDate>();
+            ArrayList<TValue> newMidpointValues = new ArrayList<TValue>();
+            for (int i = 0; i < count; ++i) {
+                newDates.add(dates.get(i));
+                newValues.add(values.get(i));
+                if (i == count - 1) {
+                    break;
+                }
+                if (split[i]) {
+                    newMidpointDates.add(null);
+                    newMidpointValues.add(null);
+                    newDates.add(midpointDates.get(i));
+                    newValues.add(midpointValues.get(i));
+                    newMidpointDates.add(null);
+                    newMidpointValues.add(null);
+                } else {
+                    newMidpointDates.add(midpointDates.get(i));
+                    newMidpointValues.add(midpointValues.get(i));
+                }
+            }
+            dates = newDates;
+            values = newValues;
+            midpointDates = newMidpointDates;
+            midpointValues = newMidpointValues;
+            count = dates.size();
+            times = new double[count];
+            samples = new double[count * stride];
+            for (int i = 0; i < count; ++i) {
+                times[i] = start.secondsDifference(dates.get(i));
+                components.store(values.get(i), samples, i * stride);
+            }
+            split = new boolean[count - 1];
+        }
+        return new CesiumSampleSeries<TValue>(dates, values);
+    }
+
+    /**
+    * Stores the components of a value in an array of doubles.
+    */
+    private abstract static class Components<TValue> {
+        protected Components(int stride, boolean isRotation) {
+            m_stride = stride;
+            m_isRotation = isRotation;
+        }
+
+        public final int getStride() {
+            return m_stride;
+        }
+
+        public final boolean getIsRotation() {
+            return m_isRotation;
+        }
+
+        public abstract void store(TValue value, double[] array, int offset);
+
+        /**
+        * Computes the error between an interpolated value and the actual value.
+        */
+        public double error(double[] interpolated, double[] actual) {
+            if (m_isRotation) {
+                return CesiumSampleInterpolation.rotationAngle(interpolated, 0, actual, 0);
+            }
+            return CesiumSampleInterpolation.vectorDistance(interpolated, 0, actual, 0, m_stride);
+        }
+
+        private final int m_stride;
+        private final boolean m_isRotation;
+    }
+
+    private static final Components<Cartesian> CartesianComponents = new Components<Cartesian>(3, false) {
+        @Override
+        public void store(Cartesian value, double[] array, int offset) {
+            array[offset] = value.getX();
+            array[offset + 1] = value.getY();
+            array[offset + 2] = value.getZ();
+        }
+    };
+    private static final Components<UnitQuaternion> UnitQuaternionComponents = new Components<UnitQuaternion>(4, true) {
+        @Override
+        public void store(UnitQuaternion value, double[] array, int offset) {
+            array[offset] = value.getX();
+            array[offset + 1] = value.getY();
+            array[offset + 2] = value.getZ();
+            array[offset + 3] = value.getW();
+        }
+    };
+    private static final Components<Cartographic> CartographicComponents = new Components<Cartographic>(3, false) {
+        @Override
+        public void store(Cartographic value, double[] array, int offset) {
+            array[offset] = value.getLongitude();
+            array[offset + 1] = value.getLatitude();
+            array[offset + 2] = value.getHeight();
+        }
+
+        @Override
+        public double error(double[] interpolated, double[] actual) {
+            return CesiumSampleInterpolation.cartographicDistance(interpolated, 0, actual, 0);
+        }
+    };
+    private static final Components<Double> NumberComponents = new Components<Double>(1, false) {
+        @Override
+        public void store(Double value, double[] array, int offset) {
+            array[offset] = value;
+        }
+    };
+    @Nonnull
+    private final CesiumInterpolationAlgorithm m_interpolationAlgorithm;
+    private final int m_interpolationDegree;
+    private final double m_tolerance;
+    @Nonnull
+    private final Duration m_maximumStep;
+    @Nonnull
+    private final Duration m_minimumStep;
+}
@@ -15,7 +15,7 @@ import javax.annotation.Nonnull;
     "deprecation",
     "serial"
 })
-public class CesiumBooleanValuePropertyAdaptor<TFrom extends ICesiumBooleanValuePropertyWriter> extends CesiumWriterAdaptor<TFrom, Boolean> {
+public class CesiumBooleanValuePropertyAdaptor<TFrom extends ICesiumBooleanValuePropertyWriter> extends CesiumWriterAdaptor<TFrom, Boolean> implements ICesiumBooleanValueWriter {
     /**
     * Initializes a new instance.
     * @param parent The instance to wrap.
@@ -24,6 +24,35 @@ public class CesiumBooleanValuePropertyAdaptor<TFrom extends ICesiumBooleanValue
     */
     public CesiumBooleanValuePropertyAdaptor(@Nonnull TFrom parent, @Nonnull CesiumWriterAdaptorWriteCallback<TFrom, Boolean> writeValueCallback,
             @Nonnull CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback) {
+        this(parent, writeValueCallback, writeDeleteValueCallback, false);
+    }
+
+    /**
+    * Initializes a new instance, optionally writing unboxed values directly with the {@code writeBoolean} method of the parent.
+    * @param parent The instance to wrap.
+    * @param writeValueCallback The callback to write values of type {@code boolean}.
+    * @param writeDeleteValueCallback The callback to write an indication that the client should delete existing data.
+    * @param writesDirectly Whether {@link #writeValue(boolean)} calls the {@code writeBoolean} method of the parent directly.
+    */
+    CesiumBooleanValuePropertyAdaptor(@Nonnull TFrom parent, @Nonnull CesiumWriterAdaptorWriteCallback<TFrom, Boolean> writeValueCallback,
+            @Nonnull CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback, boolean writesDirectly) {
         super(parent, writeValueCallback, writeDeleteValueCallback);
+        m_writesDirectly = writesDirectly;
+    }
+
+    /**
+    * Writes the value of the property for this interval of time without boxing it.  If this instance was
+    created by {@link CesiumValuePropertyAdaptors}, the value is passed straight to the {@code writeBoolean} method
+    of the parent; otherwise, it is boxed and passed to the callback given to the constructor.
+    * @param value The value of the property.
+    */
+    public final void writeValue(boolean value) {
+        if (m_writesDirectly) {
+            getParent().writeBoolean(value);
+        } else {
+            writeValue((Boolean) value);
+        }
     }
-}
\ No newline at end of file
+
+    private final boolean m_writesDirectly;
+}
@@ -5,6 +5,7 @@ import agi.foundation.compatibility.*;
 import agi.foundation.compatibility.ArgumentNullException;
 import agi.foundation.compatibility.IDisposable;
 import cesiumlanguagewriter.*;
+import java.util.ArrayList;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -51,6 +52,21 @@ public abstract class CesiumElementWriter implements ICesiumElementWriter {
         m_output = null;
     }
 
+    /**
+    * Returns this writer, and every writer it has created, to the state of a newly constructed
+    writer so that it can be reused for another document.  A writer that is still open, for example
+    because writing was interrupted by an exception, is closed without writing anything to its stream.
+    */
+    public final void reset() {
+        m_output = null;
+        onReset();
+        if (m_childWriters != null) {
+            for (int i = 0; i < m_childWriters.size(); ++i) {
+                m_childWriters.get(i).reset();
+            }
+        }
+    }
+
     /**
     * Gets a value indicating whether the writer is open.
     */
@@ -58,6 +74,15 @@ public abstract class CesiumElementWriter implements ICesiumElementWriter {
         return m_output != null;
     }
 
+    /**
+    * Gets the writer which created this writer as one of its child writers, or {@code null} if this
+    writer was constructed directly.
+    */
+    @Nullable
+    public final CesiumElementWriter getParentWriter() {
+        return m_parent;
+    }
+
     /**
     * Gets the {@link CesiumOutputStream} on which this writer is currently open.  If the writer is
     not open, accessing this property will throw an exception.
@@ -91,6 +116,32 @@ public abstract class CesiumElementWriter implements ICesiumElementWriter {
     */
     protected void onClose() {}
 
+    /**
+    * When overridden in a derived class, clears any state of the writer when it is {@linkplain #reset reset}.
+    */
+    protected void onReset() {}
+
+    /**
+    * Records a writer created and retained by this writer, so that it is reset along with this writer,
+    and so that it reports this writer as its {@linkplain #getParentWriter parent}.
+    For convenience, this method returns a reference to the same writer passed to it.
+    * @param <T> The type of the writer.
+    * @param writer The writer.
+    * @return The same writer.
+    */
+    @Nonnull
+    protected final <T extends CesiumElementWriter> T addChildWriter(@Nonnull T writer) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        if (m_childWriters == null) {
+            m_childWriters = new ArrayList<CesiumElementWriter>();
+        }
+        m_childWriters.add(writer);
+        ((CesiumElementWriter) writer).m_parent = this;
+        return writer;
+    }
+
     /**
     * Opens a {@link CesiumElementWriter} on the same stream on which this one is currently open.
     For convenience, this method returns a reference to the same writer passed to it.
@@ -109,4 +160,8 @@ public abstract class CesiumElementWriter implements ICesiumElementWriter {
 
     @Nullable
     private CesiumOutputStream m_output;
+    @Nullable
+    private ArrayList<CesiumElementWriter> m_childWriters;
+    @Nullable
+    private CesiumElementWriter m_parent;
 }
\ No newline at end of file
@@ -31,11 +31,6 @@ import javax.annotation.Nonnull;
 public final class CesiumFormattingHelper {
     private CesiumFormattingHelper() {}
 
-    @Nonnull
-    private static JulianDate s_minimumDate = GregorianDate.MinValue.toJulianDate();
-    @Nonnull
-    private static JulianDate s_maximumDate = GregorianDate.MaxValue.toJulianDate();
-
     /**
     * Converts a {@link TimeInterval} as an ISO8601 interval string.
     * @param start The start of the interval.
@@ -45,7 +40,7 @@ public final class CesiumFormattingHelper {
     */
     @Nonnull
     public static String toIso8601Interval(@Nonnull JulianDate start, @Nonnull JulianDate stop, @Nonnull Iso8601Format format) {
-        return toIso8601(start, format) + "/" + toIso8601(stop, format);
+        return Iso8601StringCache.getDefault().toIso8601Interval(start, stop, format);
     }
 
     /**
@@ -70,15 +65,7 @@ public final class CesiumFormattingHelper {
     */
     @Nonnull
     public static String toIso8601(@Nonnull JulianDate date, @Nonnull Iso8601Format format) {
-        //If the JulianDate is outside the range of supported CZML values,
-        //clamp it to the minimum/maximum CZML ISO8601 value.
-        if (JulianDate.lessThanOrEqual(date, s_minimumDate)) {
-            return GregorianDate.MinValue.toIso8601String(format);
-        }
-        if (JulianDate.greaterThanOrEqual(date, s_maximumDate)) {
-            return GregorianDate.MaxValue.toIso8601String(format);
-        }
-        return date.toGregorianDate().toIso8601String(format);
+        return Iso8601StringCache.getDefault().toIso8601(date, format);
     }
 
     /**
@@ -15,7 +15,7 @@ import javax.annotation.Nonnull;
     "deprecation",
     "serial"
 })
-public class CesiumIntegerValuePropertyAdaptor<TFrom extends ICesiumIntegerValuePropertyWriter> extends CesiumInterpolatableWriterAdaptor<TFrom, Integer> {
+public class CesiumIntegerValuePropertyAdaptor<TFrom extends ICesiumIntegerValuePropertyWriter> extends CesiumInterpolatableWriterAdaptor<TFrom, Integer> implements ICesiumIntegerValueWriter {
     /**
     * Initializes a new instance.
     * @param parent The instance to wrap.
@@ -25,6 +25,36 @@ public class CesiumIntegerValuePropertyAdaptor<TFrom extends ICesiumIntegerValue
     */
     public CesiumIntegerValuePropertyAdaptor(@Nonnull TFrom parent, @Nonnull CesiumWriterAdaptorWriteCallback<TFrom, Integer> writeValueCallback,
             @Nonnull CesiumWriterAdaptorWriteSamplesCallback<TFrom, Integer> writeSamplesCallback, @Nonnull CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback) {
+        this(parent, writeValueCallback, writeSamplesCallback, writeDeleteValueCallback, false);
+    }
+
+    /**
+    * Initializes a new instance, optionally writing unboxed values directly with the {@code writeNumber} method of the parent.
+    * @param parent The instance to wrap.
+    * @param writeValueCallback The callback to write values of type {@code int}.
+    * @param writeSamplesCallback The callback to write samples of type {@code int}.
+    * @param writeDeleteValueCallback The callback to write an indication that the client should delete existing data.
+    * @param writesDirectly Whether {@link #writeValue(int)} calls the {@code writeNumber} method of the parent directly.
+    */
+    CesiumIntegerValuePropertyAdaptor(@Nonnull TFrom parent, @Nonnull CesiumWriterAdaptorWriteCallback<TFrom, Integer> writeValueCallback,
+            @Nonnull CesiumWriterAdaptorWriteSamplesCallback<TFrom, Integer> writeSamplesCallback, @Nonnull CesiumWriterAdaptorWriteDeleteCallback<TFrom> writeDeleteValueCallback, boolean writesDirectly) {
         super(parent, writeValueCallback, writeSamplesCallback, writeDeleteValueCallback);
+        m_writesDirectly = writesDirectly;
+    }
+
+    /**
+    * Writes the value of the property for this interval of time without boxing it.  If this instance was
+    created by {@link CesiumValuePropertyAdaptors}, the value is passed straight to the {@code writeNumber} method
+    of the parent; otherwise, it is boxed and passed to the callback given to the constructor.
+    * @param value The value of the property.
+    */
+    public final void writeValue(int value) {
+        if (m_writesDirectly) {
+            getParent().writeNumber(value);
+        } else {
+            writeValue((Integer) value);
+        }
     }
-}
\ No newline at end of file
+
+    private final boolean m_writesDirectly;
+}
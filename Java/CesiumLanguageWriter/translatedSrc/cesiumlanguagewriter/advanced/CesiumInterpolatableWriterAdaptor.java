@@ -3,9 +3,7 @@ package cesiumlanguagewriter.advanced;
 
 import agi.foundation.compatibility.*;
 import agi.foundation.compatibility.ArgumentNullException;
-import agi.foundation.compatibility.Func1;
 import agi.foundation.compatibility.IDisposable;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.*;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -50,11 +48,6 @@ public class CesiumInterpolatableWriterAdaptor<TFrom extends ICesiumPropertyWrit
         m_writeValueCallback = writeValueCallback;
         m_writeSamplesCallback = writeSamplesCallback;
         m_writeDeleteValueCallback = writeDeleteValueCallback;
-        m_interval = new Lazy<CesiumInterpolatableWriterAdaptor<TFrom, TValue>>(new Func1<CesiumInterpolatableWriterAdaptor<TFrom, TValue>>() {
-            public CesiumInterpolatableWriterAdaptor<TFrom, TValue> invoke() {
-                return new CesiumInterpolatableWriterAdaptor<TFrom, TValue>((TFrom) m_parent.getIntervalWriter(), m_writeValueCallback, m_writeSamplesCallback, m_writeDeleteValueCallback);
-            }
-        }, false);
     }
 
     /**
@@ -174,8 +167,8 @@ public class CesiumInterpolatableWriterAdaptor<TFrom extends ICesiumPropertyWrit
     */
     @Nonnull
     public final ICesiumInterpolatableValuePropertyWriter<TValue> openInterval() {
-        m_interval.getValue().open(m_parent.getOutput());
-        return m_interval.getValue();
+        getIntervalAdaptor().open(m_parent.getOutput());
+        return getIntervalAdaptor();
     }
 
     /**
@@ -194,7 +187,15 @@ public class CesiumInterpolatableWriterAdaptor<TFrom extends ICesiumPropertyWrit
     open the writer, instead of accessing this property directly.
     */
     public final ICesiumPropertyWriter getIntervalWriter() {
-        return m_interval.getValue();
+        return getIntervalAdaptor();
+    }
+
+    @Nonnull
+    private CesiumInterpolatableWriterAdaptor<TFrom, TValue> getIntervalAdaptor() {
+        if (m_interval == null) {
+            m_interval = new CesiumInterpolatableWriterAdaptor<TFrom, TValue>((TFrom) m_parent.getIntervalWriter(), m_writeValueCallback, m_writeSamplesCallback, m_writeDeleteValueCallback);
+        }
+        return m_interval;
     }
 
     /**
@@ -238,8 +239,7 @@ public class CesiumInterpolatableWriterAdaptor<TFrom extends ICesiumPropertyWrit
     private CesiumWriterAdaptorWriteSamplesCallback<TFrom, TValue> m_writeSamplesCallback;
     @Nonnull
     private CesiumWriterAdaptorWriteDeleteCallback<TFrom> m_writeDeleteValueCallback;
-    @Nonnull
-    private Lazy<CesiumInterpolatableWriterAdaptor<TFrom, TValue>> m_interval;
+    private CesiumInterpolatableWriterAdaptor<TFrom, TValue> m_interval;
 
     private static class MultipleIntervalsAdaptor<TFrom extends ICesiumPropertyWriter & ICesiumInterpolatablePropertyWriter, TValue> implements ICesiumInterpolatableIntervalListWriter<TValue> {
         public MultipleIntervalsAdaptor(@Nonnull CesiumInterpolatableWriterAdaptor<TFrom, TValue> intervalAdaptor, @Nonnull ICesiumIntervalListWriter parent) {
@@ -0,0 +1,433 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import cesiumlanguagewriter.*;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Interpolates sampled values the same way the client interpolates a sampled property with a given
+ {@link CesiumInterpolationAlgorithm} and degree, including the choice of which samples surround each
+ interpolated time.  This makes it possible to check, compress or resample data as the client will see it.
+ * <p>
+ Samples are supplied as arrays of primitive values: an array of times, in seconds from an arbitrary epoch and in
+ increasing order, and an array of values with the components of each sample stored consecutively.  When the input
+ order is 1, each sample consists of its value components followed by the same number of derivative components,
+ which the {@link CesiumInterpolationAlgorithm#HERMITE} algorithm uses; the other algorithms ignore the derivatives.
+ Unit quaternions are stored as x, y, z, w and are interpolated as rotation vectors, as the client does.
+ * <p>
+ Interpolating does not allocate memory.  Evaluating at increasing times reuses the position of the previous
+ evaluation, so walking through the samples in order is efficient.  An instance is not safe for use by multiple
+ threads at once.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumInterpolator {
+    /**
+    * Initializes a new instance.
+    * @param interpolationAlgorithm The interpolation algorithm.
+    * @param interpolationDegree The interpolation degree.
+    * @param valueStride The number of components in each value.
+    * @param inputOrder The number of derivatives provided with each sample, either 0 or 1.
+    */
+    public CesiumInterpolator(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree, int valueStride, int inputOrder) {
+        this(interpolationAlgorithm, interpolationDegree, valueStride, inputOrder, false);
+    }
+
+    private CesiumInterpolator(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree, int valueStride, int inputOrder, boolean isRotation) {
+        if (interpolationAlgorithm == null) {
+            throw new ArgumentNullException("interpolationAlgorithm");
+        }
+        if (interpolationDegree < 1) {
+            throw new ArgumentOutOfRangeException("interpolationDegree");
+        }
+        if (valueStride < 1) {
+            throw new ArgumentOutOfRangeException("valueStride");
+        }
+        if (inputOrder < 0 || inputOrder > 1) {
+            throw new ArgumentOutOfRangeException("inputOrder");
+        }
+        m_interpolationAlgorithm = interpolationAlgorithm;
+        m_interpolationDegree = interpolationDegree;
+        m_valueStride = valueStride;
+        m_inputOrder = inputOrder;
+        m_isRotation = isRotation;
+        m_usesDerivatives = inputOrder == 1 && interpolationAlgorithm == CesiumInterpolationAlgorithm.HERMITE;
+        m_requiredPointCount = CesiumSampleInterpolation.getPointCount(interpolationAlgorithm, interpolationDegree, inputOrder);
+        m_weights = new double[m_requiredPointCount];
+        m_nodes = new double[m_requiredPointCount * 2];
+        m_coefficients = new double[m_requiredPointCount * 2];
+        m_scratch = new double[valueStride];
+    }
+
+    /**
+    * Creates an interpolator for Cartesian values.
+    * @param interpolationAlgorithm The interpolation algorithm.
+    * @param interpolationDegree The interpolation degree.
+    * @return The interpolator.
+    */
+    @Nonnull
+    public static CesiumInterpolator createCartesian(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree) {
+        return new CesiumInterpolator(interpolationAlgorithm, interpolationDegree, 3, 0);
+    }
+
+    /**
+    * Creates an interpolator for Cartesian values with velocities, as written by
+    {@link PositionCesiumWriter#writeCartesianVelocity(List, List)}.
+    * @param interpolationAlgorithm The interpolation algorithm.
+    * @param interpolationDegree The interpolation degree.
+    * @return The interpolator.
+    */
+    @Nonnull
+    public static CesiumInterpolator createCartesianVelocity(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree) {
+        return new CesiumInterpolator(interpolationAlgorithm, interpolationDegree, 3, 1);
+    }
+
+    /**
+    * Creates an interpolator for cartographic values.
+    * @param interpolationAlgorithm The interpolation algorithm.
+    * @param interpolationDegree The interpolation degree.
+    * @return The interpolator.
+    */
+    @Nonnull
+    public static CesiumInterpolator createCartographic(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree) {
+        return new CesiumInterpolator(interpolationAlgorithm, interpolationDegree, 3, 0);
+    }
+
+    /**
+    * Creates an interpolator for unit quaternion values.
+    * @param interpolationAlgorithm The interpolation algorithm.
+    * @param interpolationDegree The interpolation degree.
+    * @return The interpolator.
+    */
+    @Nonnull
+    public static CesiumInterpolator createUnitQuaternion(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree) {
+        return new CesiumInterpolator(interpolationAlgorithm, interpolationDegree, 4, 0, true);
+    }
+
+    /**
+    * Creates an interpolator for numeric values.
+    * @param interpolationAlgorithm The interpolation algorithm.
+    * @param interpolationDegree The interpolation degree.
+    * @return The interpolator.
+    */
+    @Nonnull
+    public static CesiumInterpolator createNumber(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree) {
+        return new CesiumInterpolator(interpolationAlgorithm, interpolationDegree, 1, 0);
+    }
+
+    /**
+    * Gets the interpolation algorithm.
+    */
+    @Nonnull
+    public final CesiumInterpolationAlgorithm getInterpolationAlgorithm() {
+        return m_interpolationAlgorithm;
+    }
+
+    /**
+    * Gets the interpolation degree.
+    */
+    public final int getInterpolationDegree() {
+        return m_interpolationDegree;
+    }
+
+    /**
+    * Gets the number of components in each value.
+    */
+    public final int getValueStride() {
+        return m_valueStride;
+    }
+
+    /**
+    * Gets the number of derivatives provided with each sample.
+    */
+    public final int getInputOrder() {
+        return m_inputOrder;
+    }
+
+    /**
+    * Gets the number of samples used for each interpolation, when enough samples are available.
+    */
+    public final int getRequiredPointCount() {
+        return m_requiredPointCount;
+    }
+
+    /**
+    * Gets the number of samples.
+    */
+    public final int getSampleCount() {
+        return m_sampleCount;
+    }
+
+    /**
+    * Sets the samples to interpolate.  The arrays are used directly, not copied, so they must not be
+    modified while they are in use by this instance.
+    * @param times The times of the samples, in seconds from an arbitrary epoch and in increasing order.
+    * @param values The components of the samples.
+    * @param sampleCount The number of samples.
+    */
+    public final void setSamples(@Nonnull double[] times, @Nonnull double[] values, int sampleCount) {
+        if (times == null) {
+            throw new ArgumentNullException("times");
+        }
+        if (values == null) {
+            throw new ArgumentNullException("values");
+        }
+        if (sampleCount < 0 || sampleCount > times.length) {
+            throw new ArgumentOutOfRangeException("sampleCount");
+        }
+        if (values.length < sampleCount * getSampleStride()) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "values");
+        }
+        m_times = times;
+        m_values = values;
+        m_sampleCount = sampleCount;
+        m_cursor = 0;
+    }
+
+    /**
+    * Interpolates the value at a given time.
+    * @param time The time, in seconds from the same epoch as the sample times.
+    * @param result The array to receive the components of the interpolated value.
+    * @return {@code true} if the value was interpolated; {@code false} if the time is outside the range of the samples.
+    */
+    public final boolean interpolate(double time, @Nonnull double[] result) {
+        return interpolate(time, result, 0);
+    }
+
+    /**
+    * Interpolates the value at a given time.
+    * @param time The time, in seconds from the same epoch as the sample times.
+    * @param result The array to receive the components of the interpolated value.
+    * @param resultOffset The index in {@code result} at which to store the first component.
+    * @return {@code true} if the value was interpolated; {@code false} if the time is outside the range of the samples.
+    */
+    public final boolean interpolate(double time, @Nonnull double[] result, int resultOffset) {
+        int count = m_sampleCount;
+        if (count == 0 || !(time >= m_times[0]) || !(time <= m_times[count - 1])) {
+            return false;
+        }
+        int index = locate(time);
+        int sampleStride = getSampleStride();
+        if (m_times[index] == time) {
+            System.arraycopy(m_values, index * sampleStride, result, resultOffset, m_valueStride);
+            return true;
+        }
+        int pointCount = Math.min(m_requiredPointCount, count);
+        int firstIndex = CesiumSampleInterpolation.getWindowStart(index + 1, pointCount, count);
+        double[] output = resultOffset == 0 && result.length >= m_valueStride ? result : m_scratch;
+        if (m_usesDerivatives) {
+            CesiumSampleInterpolation.interpolateHermite(m_times, m_values, m_valueStride, null, firstIndex, pointCount, time, m_nodes, m_coefficients, output);
+        } else {
+            CesiumSampleInterpolation.computeWeights(m_times, null, firstIndex, pointCount, time, m_weights);
+            if (m_isRotation) {
+                CesiumSampleInterpolation.interpolateRotation(m_values, null, firstIndex, pointCount, m_weights, output);
+            } else if (sampleStride == m_valueStride) {
+                CesiumSampleInterpolation.interpolateVector(m_values, m_valueStride, null, firstIndex, pointCount, m_weights, output);
+            } else {
+                for (int c = 0; c < m_valueStride; ++c) {
+                    double interpolated = 0.0;
+                    for (int j = 0; j < pointCount; ++j) {
+                        interpolated += m_weights[j] * m_values[(firstIndex + j) * sampleStride + c];
+                    }
+                    output[c] = interpolated;
+                }
+            }
+        }
+        if (output != result) {
+            System.arraycopy(output, 0, result, resultOffset, m_valueStride);
+        }
+        return true;
+    }
+
+    /**
+    * Interpolates the value at a given date, returning a Cartesian value.  The interpolator must have
+    three value components.
+    * @param epoch The epoch from which the sample times are measured.
+    * @param date The date.
+    * @return The interpolated value, or {@link Cartesian#getUndefined()} if the date is outside the range of the samples.
+    */
+    @Nonnull
+    public final Cartesian interpolateCartesian(@Nonnull JulianDate epoch, @Nonnull JulianDate date) {
+        if (!interpolate(epoch.secondsDifference(date), m_scratch, 0)) {
+            return Cartesian.getUndefined();
+        }
+        return new Cartesian(m_scratch[0], m_scratch[1], m_scratch[2]);
+    }
+
+    /**
+    * Interpolates the value at a given date, returning a unit quaternion value.  The interpolator must
+    have been created by {@link #createUnitQuaternion}.
+    * @param epoch The epoch from which the sample times are measured.
+    * @param date The date.
+    * @return The interpolated value, or {@link UnitQuaternion#getUndefined()} if the date is outside the range of the samples.
+    */
+    @Nonnull
+    public final UnitQuaternion interpolateUnitQuaternion(@Nonnull JulianDate epoch, @Nonnull JulianDate date) {
+        if (!interpolate(epoch.secondsDifference(date), m_scratch, 0)) {
+            return UnitQuaternion.getUndefined();
+        }
+        return new UnitQuaternion(m_scratch[3], m_scratch[0], m_scratch[1], m_scratch[2]);
+    }
+
+    /**
+    * Computes the times of a series of dates, in seconds from an epoch.
+    * @param epoch The epoch.
+    * @param dates The dates.
+    * @param startIndex The index of the first date.
+    * @param length The number of dates.
+    * @param times The array to receive the times.
+    */
+    public static void computeTimes(@Nonnull JulianDate epoch, @Nonnull List<JulianDate> dates, int startIndex, int length, @Nonnull double[] times) {
+        for (int i = 0; i < length; ++i) {
+            times[i] = epoch.secondsDifference(dates.get(startIndex + i));
+        }
+    }
+
+    /**
+    * Stores the components of a series of Cartesian values.
+    * @param values The values.
+    * @param startIndex The index of the first value.
+    * @param length The number of values.
+    * @param components The array to receive the components.
+    */
+    public static void packCartesian(@Nonnull List<Cartesian> values, int startIndex, int length, @Nonnull double[] components) {
+        for (int i = 0; i < length; ++i) {
+            Cartesian value = values.get(startIndex + i);
+            components[i * 3] = value.getX();
+            components[i * 3 + 1] = value.getY();
+            components[i * 3 + 2] = value.getZ();
+        }
+    }
+
+    /**
+    * Stores the components of a series of Cartesian values and their velocities, with the
+    velocity of each sample following its value.
+    * @param values The values and their first derivatives.
+    * @param startIndex The index of the first value.
+    * @param length The number of values.
+    * @param components The array to receive the components.
+    */
+    public static void packCartesianVelocity(@Nonnull List<Motion1<Cartesian>> values, int startIndex, int length, @Nonnull double[] components) {
+        for (int i = 0; i < length; ++i) {
+            Motion1<Cartesian> value = values.get(startIndex + i);
+            Cartesian position = value.getValue();
+            Cartesian velocity = value.getFirstDerivative();
+            components[i * 6] = position.getX();
+            components[i * 6 + 1] = position.getY();
+            components[i * 6 + 2] = position.getZ();
+            components[i * 6 + 3] = velocity.getX();
+            components[i * 6 + 4] = velocity.getY();
+            components[i * 6 + 5] = velocity.getZ();
+        }
+    }
+
+    /**
+    * Stores the components of a series of cartographic values.
+    * @param values The values.
+    * @param startIndex The index of the first value.
+    * @param length The number of values.
+    * @param components The array to receive the components.
+    */
+    public static void packCartographic(@Nonnull List<Cartographic> values, int startIndex, int length, @Nonnull double[] components) {
+        for (int i = 0; i < length; ++i) {
+            Cartographic value = values.get(startIndex + i);
+            components[i * 3] = value.getLongitude();
+            components[i * 3 + 1] = value.getLatitude();
+            components[i * 3 + 2] = value.getHeight();
+        }
+    }
+
+    /**
+    * Stores the components of a series of unit quaternion values, as x, y, z, w.
+    * @param values The values.
+    * @param startIndex The index of the first value.
+    * @param length The number of values.
+    * @param components The array to receive the components.
+    */
+    public static void packUnitQuaternion(@Nonnull List<UnitQuaternion> values, int startIndex, int length, @Nonnull double[] components) {
+        for (int i = 0; i < length; ++i) {
+            UnitQuaternion value = values.get(startIndex + i);
+            components[i * 4] = value.getX();
+            components[i * 4 + 1] = value.getY();
+            components[i * 4 + 2] = value.getZ();
+            components[i * 4 + 3] = value.getW();
+        }
+    }
+
+    /**
+    * Stores a series of numeric values.
+    * @param values The values.
+    * @param startIndex The index of the first value.
+    * @param length The number of values.
+    * @param components The array to receive the values.
+    */
+    public static void packNumber(@Nonnull List<Double> values, int startIndex, int length, @Nonnull double[] components) {
+        for (int i = 0; i < length; ++i) {
+            components[i] = values.get(startIndex + i);
+        }
+    }
+
+    private int getSampleStride() {
+        return m_valueStride * (m_inputOrder + 1);
+    }
+
+    /**
+    * Finds the last sample at or before the given time, which must be within the range of the samples,
+    starting the search from the previous result.
+    */
+    private int locate(double time) {
+        double[] times = m_times;
+        int count = m_sampleCount;
+        int index = m_cursor;
+        if (index >= count || time < times[index]) {
+            index = search(time);
+        } else {
+            int steps = 0;
+            while (index + 1 < count && times[index + 1] <= time) {
+                ++index;
+                if (++steps > LinearSearchLimit) {
+                    index = search(time);
+                    break;
+                }
+            }
+        }
+        m_cursor = index;
+        return index;
+    }
+
+    private int search(double time) {
+        int result = Arrays.binarySearch(m_times, 0, m_sampleCount, time);
+        return result >= 0 ? result : -result - 2;
+    }
+
+    private static final int LinearSearchLimit = 8;
+    @Nonnull
+    private final CesiumInterpolationAlgorithm m_interpolationAlgorithm;
+    private final int m_interpolationDegree;
+    private final int m_valueStride;
+    private final int m_inputOrder;
+    private final boolean m_isRotation;
+    private final boolean m_usesDerivatives;
+    private final int m_requiredPointCount;
+    @Nonnull
+    private final double[] m_weights;
+    @Nonnull
+    private final double[] m_nodes;
+    @Nonnull
+    private final double[] m_coefficients;
+    @Nonnull
+    private final double[] m_scratch;
+    private double[] m_times = new double[0];
+    private double[] m_values = new double[0];
+    private int m_sampleCount;
+    private int m_cursor;
+}
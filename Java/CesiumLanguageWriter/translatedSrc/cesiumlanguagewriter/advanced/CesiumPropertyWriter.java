@@ -4,9 +4,8 @@ package cesiumlanguagewriter.advanced;
 import agi.foundation.compatibility.*;
 import agi.foundation.compatibility.ArgumentNullException;
 import agi.foundation.compatibility.Enumeration;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.*;
+import java.util.ArrayList;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -26,7 +25,6 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
     * @param propertyName The name of the property.
     */
     protected CesiumPropertyWriter(@Nonnull String propertyName) {
-        this();
         if (propertyName == null) {
             throw new ArgumentNullException("propertyName");
         }
@@ -38,26 +36,12 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
     * @param existingInstance The existing instance to copy.
     */
     protected CesiumPropertyWriter(@Nonnull CesiumPropertyWriter<TDerived> existingInstance) {
-        this();
         if (existingInstance == null) {
             throw new ArgumentNullException("existingInstance");
         }
         m_propertyName = existingInstance.m_propertyName;
     }
 
-    private CesiumPropertyWriter() {
-        m_multipleIntervals = new Lazy<CesiumIntervalListWriter<TDerived>>(new Func1<CesiumIntervalListWriter<TDerived>>(this, "createIntervalListWriter") {
-            public CesiumIntervalListWriter<TDerived> invoke() {
-                return createIntervalListWriter();
-            }
-        }, false);
-        m_interval = new Lazy<TDerived>(new Func1<TDerived>(this, "copyForInterval") {
-            public TDerived invoke() {
-                return copyForInterval();
-            }
-        }, false);
-    }
-
     /**
     * Copies this instance and returns the copy.
     * @return The copy.
@@ -78,6 +62,27 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
         return m_propertyName;
     }
 
+    /**
+    * Gets the names of the properties leading from the packet to the property written by this instance,
+    for example {@code billboard} and {@code image} for the writer returned by
+    {@link BillboardCesiumWriter#getImageWriter}.  The path is only complete for writers which were
+    created by their {@linkplain #getParentWriter parent} writers.
+    */
+    @Nonnull
+    public final String[] getPropertyPath() {
+        ArrayList<String> names = new ArrayList<String>();
+        for (CesiumElementWriter writer = this; writer != null; writer = writer.getParentWriter()) {
+            if (writer instanceof CesiumPropertyWriter) {
+                CesiumPropertyWriter<?> propertyWriter = (CesiumPropertyWriter<?>) writer;
+                // The writer for an interval has the same name as the property which owns it.
+                if (propertyWriter.m_elementType != ElementType.INTERVAL) {
+                    names.add(0, propertyWriter.m_propertyName);
+                }
+            }
+        }
+        return names.toArray(new String[names.size()]);
+    }
+
     /**
     * Gets a value indicating whether this instance represents an open interval.
     */
@@ -92,7 +97,10 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
     open the writer, instead of accessing this property directly.
     */
     public final TDerived getIntervalWriter() {
-        return m_interval.getValue();
+        if (m_interval == null) {
+            m_interval = this.<TDerived> addChildWriter(copyForInterval());
+        }
+        return m_interval;
     }
 
     /**
@@ -115,7 +123,7 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
     */
     @Nonnull
     public final TDerived openInterval() {
-        return openAndReturn(m_interval.getValue());
+        return openAndReturn(getIntervalWriter());
     }
 
     /**
@@ -126,7 +134,7 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
     */
     @Nonnull
     public final TDerived openInterval(@Nonnull JulianDate start, @Nonnull JulianDate stop) {
-        TDerived result = openAndReturn(m_interval.getValue());
+        TDerived result = openAndReturn(getIntervalWriter());
         result.writeInterval(start, stop);
         return result;
     }
@@ -137,7 +145,10 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
     */
     @Nonnull
     public final CesiumIntervalListWriter<TDerived> openMultipleIntervals() {
-        return openAndReturn(m_multipleIntervals.getValue());
+        if (m_multipleIntervals == null) {
+            m_multipleIntervals = this.<CesiumIntervalListWriter<TDerived>> addChildWriter(createIntervalListWriter());
+        }
+        return openAndReturn(m_multipleIntervals);
     }
 
     /**
@@ -159,7 +170,7 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
         }
         openIntervalIfNecessary();
         getOutput().writePropertyName("interval");
-        getOutput().writeValue(CesiumFormattingHelper.toIso8601Interval(interval.getStart(), interval.getStop(), getOutput().getPrettyFormatting() ? Iso8601Format.EXTENDED : Iso8601Format.COMPACT));
+        Iso8601Formatter.writeInterval(getOutput(), interval.getStart(), interval.getStop());
     }
 
     /**
@@ -187,6 +198,17 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
         }
     }
 
+    /**
+    * Clears the interval state of the writer when it is reset.
+    */
+    @Override
+    protected void onReset() {
+        if (m_elementType == ElementType.PROPERTY_CONVERTED_TO_INTERVAL) {
+            m_elementType = ElementType.PROPERTY;
+        }
+        backingField$ForceInterval = false;
+    }
+
     /**
     * Opens an interval for this property if one is not already open.
     */
@@ -207,10 +229,8 @@ public abstract class CesiumPropertyWriter<TDerived extends CesiumPropertyWriter
 
     @Nonnull
     private String m_propertyName;
-    @Nonnull
-    private Lazy<CesiumIntervalListWriter<TDerived>> m_multipleIntervals;
-    @Nonnull
-    private Lazy<TDerived> m_interval;
+    private CesiumIntervalListWriter<TDerived> m_multipleIntervals;
+    private TDerived m_interval;
     @Nonnull
     private ElementType m_elementType = ElementType.PROPERTY;
 
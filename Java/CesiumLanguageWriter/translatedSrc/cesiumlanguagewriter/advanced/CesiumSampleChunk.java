@@ -0,0 +1,61 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import cesiumlanguagewriter.*;
+import javax.annotation.Nonnull;
+
+/**
+ * A contiguous portion of a series of samples, computed by a {@link CesiumSampleChunker}.
+ The chunk covers the samples within its interval, plus the neighboring samples the client needs
+ in order to interpolate anywhere within that interval.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumSampleChunk {
+    /**
+    * Initializes a new instance.
+    * @param interval The interval of time covered by the chunk.
+    * @param startIndex The index of the first sample in the chunk.
+    * @param length The number of samples in the chunk.
+    */
+    public CesiumSampleChunk(@Nonnull TimeInterval interval, int startIndex, int length) {
+        if (interval == null) {
+            throw new ArgumentNullException("interval");
+        }
+        m_interval = interval;
+        m_startIndex = startIndex;
+        m_length = length;
+    }
+
+    /**
+    * Gets the interval of time covered by the chunk.
+    */
+    @Nonnull
+    public final TimeInterval getInterval() {
+        return m_interval;
+    }
+
+    /**
+    * Gets the index of the first sample in the chunk, including the samples that precede the interval.
+    */
+    public final int getStartIndex() {
+        return m_startIndex;
+    }
+
+    /**
+    * Gets the number of samples in the chunk, including the samples that lie outside the interval.
+    */
+    public final int getLength() {
+        return m_length;
+    }
+
+    @Nonnull
+    private final TimeInterval m_interval;
+    private final int m_startIndex;
+    private final int m_length;
+}
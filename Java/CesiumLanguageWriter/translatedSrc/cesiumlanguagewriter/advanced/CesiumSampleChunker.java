@@ -0,0 +1,212 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Splits a long series of samples into consecutive chunks, so that a sampled property can be written as
+ several intervals, or as several packets for the same object, instead of as a single large sequence.  This lets
+ the client begin rendering before the whole series has been loaded, and bounds the memory needed to write and
+ read each piece.
+ * <p>
+ Each chunk includes the samples on either side of its interval that the client needs to interpolate
+ anywhere within that interval using the given {@link CesiumInterpolationAlgorithm} and degree, so the
+ interpolated result is the same as if the samples had been written as a single sequence.  The first and last
+ chunks are extended, if necessary, to contain the full number of samples used for each interpolation, because
+ the client interpolates near the ends of a sequence using the first or last samples of the sequence.
+ Consecutive chunk intervals share their boundary sample.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumSampleChunker {
+    /**
+    * Initializes a new instance.
+    * @param maximumSamplesPerChunk The maximum number of samples to write in each chunk, including the overlapping samples.
+    It must be at least the number of samples used for each interpolation plus the leading and trailing overlaps.
+    * @param interpolationAlgorithm The interpolation algorithm the client will use to interpolate the samples.
+    * @param interpolationDegree The interpolation degree the client will use to interpolate the samples.
+    */
+    public CesiumSampleChunker(int maximumSamplesPerChunk, @Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree) {
+        if (interpolationAlgorithm == null) {
+            throw new ArgumentNullException("interpolationAlgorithm");
+        }
+        if (interpolationDegree < 1) {
+            throw new ArgumentOutOfRangeException("interpolationDegree");
+        }
+        m_interpolationAlgorithm = interpolationAlgorithm;
+        m_interpolationDegree = interpolationDegree;
+        m_pointCount = CesiumSampleInterpolation.getPointCount(interpolationAlgorithm, interpolationDegree, 0);
+        m_leadingOverlap = (m_pointCount - 1) / 2;
+        m_trailingOverlap = m_pointCount / 2 - 1;
+        if (maximumSamplesPerChunk < m_pointCount + m_leadingOverlap + m_trailingOverlap) {
+            throw new ArgumentOutOfRangeException("maximumSamplesPerChunk");
+        }
+        m_maximumSamplesPerChunk = maximumSamplesPerChunk;
+    }
+
+    /**
+    * Gets the maximum number of samples to write in each chunk, including the overlapping samples.
+    */
+    public final int getMaximumSamplesPerChunk() {
+        return m_maximumSamplesPerChunk;
+    }
+
+    /**
+    * Gets the interpolation algorithm the client will use to interpolate the samples.
+    */
+    @Nonnull
+    public final CesiumInterpolationAlgorithm getInterpolationAlgorithm() {
+        return m_interpolationAlgorithm;
+    }
+
+    /**
+    * Gets the interpolation degree the client will use to interpolate the samples.
+    */
+    public final int getInterpolationDegree() {
+        return m_interpolationDegree;
+    }
+
+    /**
+    * Gets the number of samples before the start of each chunk's interval that are included in the chunk.
+    The last chunk may include more, so that it contains a full interpolation window.
+    */
+    public final int getLeadingOverlap() {
+        return m_leadingOverlap;
+    }
+
+    /**
+    * Gets the number of samples after the end of each chunk's interval that are included in the chunk.
+    The first chunk may include more, so that it contains a full interpolation window.
+    */
+    public final int getTrailingOverlap() {
+        return m_trailingOverlap;
+    }
+
+    /**
+    * Computes the chunks for a series of samples.  When the samples fit in a single chunk,
+    the result contains one chunk covering all of them.
+    * @param dates The dates at which the samples are specified.
+    * @param startIndex The index of the first sample.
+    * @param length The number of samples.
+    * @return The chunks, in order.
+    */
+    @Nonnull
+    public final List<CesiumSampleChunk> computeChunks(@Nonnull List<JulianDate> dates, int startIndex, int length) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        ArrayList<CesiumSampleChunk> result = new ArrayList<CesiumSampleChunk>();
+        if (length <= 0) {
+            return result;
+        }
+        int lastIndex = startIndex + length - 1;
+        if (length <= m_maximumSamplesPerChunk) {
+            result.add(new CesiumSampleChunk(new TimeInterval(dates.get(startIndex), dates.get(lastIndex)), startIndex, length));
+            return result;
+        }
+        int step = m_maximumSamplesPerChunk - 1 - m_leadingOverlap - m_trailingOverlap;
+        for (int intervalStart = startIndex; intervalStart < lastIndex; intervalStart += step) {
+            int intervalStop = Math.min(intervalStart + step, lastIndex);
+            int chunkStart = Math.max(startIndex, intervalStart - m_leadingOverlap);
+            int chunkStop = Math.min(lastIndex, intervalStop + m_trailingOverlap);
+            // At either end of the series the client uses the first or last full window of samples,
+            // so a chunk touching an end must contain a full window.
+            if (chunkStart == startIndex) {
+                chunkStop = Math.min(lastIndex, Math.max(chunkStop, chunkStart + m_pointCount - 1));
+            }
+            if (chunkStop == lastIndex) {
+                chunkStart = Math.max(startIndex, Math.min(chunkStart, chunkStop - m_pointCount + 1));
+            }
+            result.add(new CesiumSampleChunk(new TimeInterval(dates.get(intervalStart), dates.get(intervalStop)), chunkStart, chunkStop - chunkStart + 1));
+        }
+        return result;
+    }
+
+    /**
+    * Writes a series of samples to a property.  When the samples fit in a single chunk, they are written
+    directly to the property; otherwise, the property is written as multiple intervals, one per chunk.
+    In both cases the interpolation algorithm and degree are written along with the samples.
+    * @param <TWriter> The type of the property writer.
+    * @param <TValue> The type of the sampled values.
+    * @param propertyWriter The open property writer.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param writeSamples The callback that writes a range of samples to a property or interval writer, for example {@code PositionCesiumWriter::writeCartesian}.
+    */
+    public final <TWriter extends CesiumInterpolatablePropertyWriter<TWriter>, TValue> void writeSamples(@Nonnull TWriter propertyWriter, @Nonnull List<JulianDate> dates,
+            @Nonnull List<TValue> values, @Nonnull CesiumWriterAdaptorWriteSamplesCallback<TWriter, TValue> writeSamples) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        writeSamples(propertyWriter, dates, values, 0, dates.size(), writeSamples);
+    }
+
+    /**
+    * Writes a series of samples to a property.  When the samples fit in a single chunk, they are written
+    directly to the property; otherwise, the property is written as multiple intervals, one per chunk.
+    In both cases the interpolation algorithm and degree are written along with the samples.
+    * @param <TWriter> The type of the property writer.
+    * @param <TValue> The type of the sampled values.
+    * @param propertyWriter The open property writer.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first sample to write.
+    * @param length The number of samples to write.
+    * @param writeSamples The callback that writes a range of samples to a property or interval writer, for example {@code PositionCesiumWriter::writeCartesian}.
+    */
+    public final <TWriter extends CesiumInterpolatablePropertyWriter<TWriter>, TValue> void writeSamples(@Nonnull TWriter propertyWriter, @Nonnull List<JulianDate> dates,
+            @Nonnull List<TValue> values, int startIndex, int length, @Nonnull CesiumWriterAdaptorWriteSamplesCallback<TWriter, TValue> writeSamples) {
+        if (propertyWriter == null) {
+            throw new ArgumentNullException("propertyWriter");
+        }
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        if (values == null) {
+            throw new ArgumentNullException("values");
+        }
+        if (writeSamples == null) {
+            throw new ArgumentNullException("writeSamples");
+        }
+        if (dates.size() != values.size()) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "values");
+        }
+        List<CesiumSampleChunk> chunks = computeChunks(dates, startIndex, length);
+        if (chunks.size() <= 1) {
+            propertyWriter.writeInterpolationAlgorithm(m_interpolationAlgorithm);
+            propertyWriter.writeInterpolationDegree(m_interpolationDegree);
+            writeSamples.invoke(propertyWriter, dates, values, startIndex, length);
+            return;
+        }
+        try (Using<CesiumIntervalListWriter<TWriter>> using$0 = new Using<CesiumIntervalListWriter<TWriter>>(propertyWriter.openMultipleIntervals())) {
+            final CesiumIntervalListWriter<TWriter> intervalList = using$0.resource;
+            for (final CesiumSampleChunk chunk : chunks) {
+                try (Using<TWriter> using$1 = new Using<TWriter>(intervalList.openInterval(chunk.getInterval().getStart(), chunk.getInterval().getStop()))) {
+                    final TWriter interval = using$1.resource;
+                    interval.writeInterpolationAlgorithm(m_interpolationAlgorithm);
+                    interval.writeInterpolationDegree(m_interpolationDegree);
+                    writeSamples.invoke(interval, dates, values, chunk.getStartIndex(), chunk.getLength());
+                }
+            }
+        }
+    }
+
+    private final int m_maximumSamplesPerChunk;
+    @Nonnull
+    private final CesiumInterpolationAlgorithm m_interpolationAlgorithm;
+    private final int m_interpolationDegree;
+    private final int m_pointCount;
+    private final int m_leadingOverlap;
+    private final int m_trailingOverlap;
+}
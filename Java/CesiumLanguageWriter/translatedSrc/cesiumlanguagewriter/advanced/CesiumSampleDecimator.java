@@ -0,0 +1,527 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import cesiumlanguagewriter.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Removes samples from a sampled property when the client can reconstruct them, to within a tolerance,
+ by interpolating the samples that remain.  The reconstruction mirrors the interpolation performed by the client
+ for the given {@link CesiumInterpolationAlgorithm} and degree, including the choice of which samples
+ surround each interpolated time, so the tolerance is guaranteed at every one of the original sample times.
+ * <p>
+ The first and last samples are always kept.  Cartesian and numeric values are compared using the Euclidean distance
+ between the components of the original and reconstructed values, so the tolerance is in the units of the values
+ themselves.  Cartographic values are compared using the distance, in meters, between the corresponding points relative
+ to the WGS84 ellipsoid.  Unit quaternions are compared using the angle, in radians, of the rotation between the
+ original and reconstructed values.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumSampleDecimator {
+    /**
+    * Initializes a new instance.
+    * @param interpolationAlgorithm The interpolation algorithm the client will use to interpolate the samples.
+    * @param interpolationDegree The interpolation degree the client will use to interpolate the samples.
+    * @param tolerance The maximum error allowed between an original sample and its reconstruction.
+    */
+    public CesiumSampleDecimator(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree, double tolerance) {
+        if (interpolationAlgorithm == null) {
+            throw new ArgumentNullException("interpolationAlgorithm");
+        }
+        if (interpolationDegree < 1) {
+            throw new ArgumentOutOfRangeException("interpolationDegree");
+        }
+        if (!(tolerance >= 0.0)) {
+            throw new ArgumentOutOfRangeException("tolerance", CesiumLocalization.getToleranceMustNotBeNegative());
+        }
+        m_interpolationAlgorithm = interpolationAlgorithm;
+        m_interpolationDegree = interpolationDegree;
+        m_tolerance = tolerance;
+    }
+
+    /**
+    * Gets the interpolation algorithm the client will use to interpolate the samples.
+    */
+    @Nonnull
+    public final CesiumInterpolationAlgorithm getInterpolationAlgorithm() {
+        return m_interpolationAlgorithm;
+    }
+
+    /**
+    * Gets the interpolation degree the client will use to interpolate the samples.
+    */
+    public final int getInterpolationDegree() {
+        return m_interpolationDegree;
+    }
+
+    /**
+    * Gets the maximum error allowed between an original sample and its reconstruction.
+    */
+    public final double getTolerance() {
+        return m_tolerance;
+    }
+
+    /**
+    * Selects the samples to keep from a series of samples whose values are stored consecutively in an array.
+    * @param dates The dates at which the values are specified.
+    * @param values The components of each value, {@code valueStride} components per date, starting with the value for the first date.
+    * @param valueStride The number of components in each value.
+    * @param startIndex The index of the first date to consider.
+    * @param length The number of dates to consider.
+    * @return The indices, in increasing order and relative to the start of {@code dates}, of the samples to keep.
+    */
+    @Nonnull
+    public final int[] selectSamples(@Nonnull List<JulianDate> dates, @Nonnull double[] values, int valueStride, int startIndex, int length) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        if (values == null) {
+            throw new ArgumentNullException("values");
+        }
+        if (valueStride < 1) {
+            throw new ArgumentOutOfRangeException("valueStride");
+        }
+        checkRange(dates, startIndex, length);
+        if (values.length < (startIndex + length) * valueStride) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "values");
+        }
+        double[] components = startIndex == 0 ? values : Arrays.copyOfRange(values, startIndex * valueStride, (startIndex + length) * valueStride);
+        return selectSamples(dates, components, valueStride, startIndex, length, ErrorMeasure.DISTANCE, false);
+    }
+
+    /**
+    * Removes samples from a series of Cartesian values.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to consider.
+    * @param length The number of elements to consider.
+    * @param decimatedDates The list to which to add the dates of the samples that are kept.
+    * @param decimatedValues The list to which to add the values of the samples that are kept.
+    */
+    public final void decimateCartesian(@Nonnull List<JulianDate> dates, @Nonnull List<Cartesian> values, int startIndex, int length, @Nonnull List<JulianDate> decimatedDates,
+            @Nonnull List<Cartesian> decimatedValues) {
+        checkArguments(dates, values, startIndex, length);
+        double[] components = new double[length * 3];
+        for (int i = 0; i < length; ++i) {
+            Cartesian value = values.get(startIndex + i);
+            components[i * 3] = value.getX();
+            components[i * 3 + 1] = value.getY();
+            components[i * 3 + 2] = value.getZ();
+        }
+        int[] kept = selectSamples(dates, components, 3, startIndex, length, ErrorMeasure.DISTANCE, false);
+        copySamples(kept, dates, values, decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Removes samples from a series of Cartesian values with velocities.  With the
+    {@link CesiumInterpolationAlgorithm#HERMITE} algorithm, the client uses the velocities when
+    interpolating, so fewer samples are needed; other algorithms use only the positions.
+    * @param dates The dates at which the values are specified.
+    * @param values The values and their first derivatives corresponding to each date.
+    * @param startIndex The index of the first element to consider.
+    * @param length The number of elements to consider.
+    * @param decimatedDates The list to which to add the dates of the samples that are kept.
+    * @param decimatedValues The list to which to add the values of the samples that are kept.
+    */
+    public final void decimateCartesianVelocity(@Nonnull List<JulianDate> dates, @Nonnull List<Motion1<Cartesian>> values, int startIndex, int length,
+            @Nonnull List<JulianDate> decimatedDates, @Nonnull List<Motion1<Cartesian>> decimatedValues) {
+        checkArguments(dates, values, startIndex, length);
+        boolean derivatives = m_interpolationAlgorithm == CesiumInterpolationAlgorithm.HERMITE;
+        int sampleStride = derivatives ? 6 : 3;
+        double[] components = new double[length * sampleStride];
+        for (int i = 0; i < length; ++i) {
+            Motion1<Cartesian> value = values.get(startIndex + i);
+            Cartesian position = value.getValue();
+            components[i * sampleStride] = position.getX();
+            components[i * sampleStride + 1] = position.getY();
+            components[i * sampleStride + 2] = position.getZ();
+            if (derivatives) {
+                Cartesian velocity = value.getFirstDerivative();
+                components[i * sampleStride + 3] = velocity.getX();
+                components[i * sampleStride + 4] = velocity.getY();
+                components[i * sampleStride + 5] = velocity.getZ();
+            }
+        }
+        int[] kept = selectSamples(dates, components, 3, startIndex, length, ErrorMeasure.DISTANCE, derivatives);
+        copySamples(kept, dates, values, decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Removes samples from a series of cartographic values.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to consider.
+    * @param length The number of elements to consider.
+    * @param decimatedDates The list to which to add the dates of the samples that are kept.
+    * @param decimatedValues The list to which to add the values of the samples that are kept.
+    */
+    public final void decimateCartographic(@Nonnull List<JulianDate> dates, @Nonnull List<Cartographic> values, int startIndex, int length, @Nonnull List<JulianDate> decimatedDates,
+            @Nonnull List<Cartographic> decimatedValues) {
+        checkArguments(dates, values, startIndex, length);
+        double[] components = new double[length * 3];
+        for (int i = 0; i < length; ++i) {
+            Cartographic value = values.get(startIndex + i);
+            components[i * 3] = value.getLongitude();
+            components[i * 3 + 1] = value.getLatitude();
+            components[i * 3 + 2] = value.getHeight();
+        }
+        int[] kept = selectSamples(dates, components, 3, startIndex, length, ErrorMeasure.CARTOGRAPHIC_DISTANCE, false);
+        copySamples(kept, dates, values, decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Removes samples from a series of unit quaternion values.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to consider.
+    * @param length The number of elements to consider.
+    * @param decimatedDates The list to which to add the dates of the samples that are kept.
+    * @param decimatedValues The list to which to add the values of the samples that are kept.
+    */
+    public final void decimateUnitQuaternion(@Nonnull List<JulianDate> dates, @Nonnull List<UnitQuaternion> values, int startIndex, int length, @Nonnull List<JulianDate> decimatedDates,
+            @Nonnull List<UnitQuaternion> decimatedValues) {
+        checkArguments(dates, values, startIndex, length);
+        double[] components = new double[length * 4];
+        for (int i = 0; i < length; ++i) {
+            UnitQuaternion value = values.get(startIndex + i);
+            components[i * 4] = value.getX();
+            components[i * 4 + 1] = value.getY();
+            components[i * 4 + 2] = value.getZ();
+            components[i * 4 + 3] = value.getW();
+        }
+        int[] kept = selectSamples(dates, components, 4, startIndex, length, ErrorMeasure.ROTATION_ANGLE, false);
+        copySamples(kept, dates, values, decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Removes samples from a series of numeric values.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to consider.
+    * @param length The number of elements to consider.
+    * @param decimatedDates The list to which to add the dates of the samples that are kept.
+    * @param decimatedValues The list to which to add the values of the samples that are kept.
+    */
+    public final void decimateNumber(@Nonnull List<JulianDate> dates, @Nonnull List<Double> values, int startIndex, int length, @Nonnull List<JulianDate> decimatedDates,
+            @Nonnull List<Double> decimatedValues) {
+        checkArguments(dates, values, startIndex, length);
+        double[] components = new double[length];
+        for (int i = 0; i < length; ++i) {
+            components[i] = values.get(startIndex + i);
+        }
+        int[] kept = selectSamples(dates, components, 1, startIndex, length, ErrorMeasure.DISTANCE, false);
+        copySamples(kept, dates, values, decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given Cartesian values.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    */
+    public final void writeCartesian(@Nonnull ICesiumCartesian3ValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Cartesian> values) {
+        writeCartesian(writer, dates, values, 0, dates.size());
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given Cartesian values.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeCartesian(@Nonnull ICesiumCartesian3ValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Cartesian> values, int startIndex, int length) {
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> decimatedValues = new ArrayList<Cartesian>();
+        decimateCartesian(dates, values, startIndex, length, decimatedDates, decimatedValues);
+        writeInterpolation(writer);
+        writer.writeCartesian(decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given Cartesian values with velocities.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values and their first derivatives corresponding to each date.
+    */
+    public final void writeCartesianVelocity(@Nonnull ICesiumCartesian3VelocityValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Motion1<Cartesian>> values) {
+        writeCartesianVelocity(writer, dates, values, 0, dates.size());
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given Cartesian values with velocities.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values and their first derivatives corresponding to each date.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeCartesianVelocity(@Nonnull ICesiumCartesian3VelocityValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Motion1<Cartesian>> values,
+            int startIndex, int length) {
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Motion1<Cartesian>> decimatedValues = new ArrayList<Motion1<Cartesian>>();
+        decimateCartesianVelocity(dates, values, startIndex, length, decimatedDates, decimatedValues);
+        writeInterpolation(writer);
+        writer.writeCartesianVelocity(decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given cartographic values, in radians.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    */
+    public final void writeCartographicRadians(@Nonnull ICesiumCartographicRadiansValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Cartographic> values) {
+        writeCartographicRadians(writer, dates, values, 0, dates.size());
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given cartographic values, in radians.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeCartographicRadians(@Nonnull ICesiumCartographicRadiansValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Cartographic> values,
+            int startIndex, int length) {
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Cartographic> decimatedValues = new ArrayList<Cartographic>();
+        decimateCartographic(dates, values, startIndex, length, decimatedDates, decimatedValues);
+        writeInterpolation(writer);
+        writer.writeCartographicRadians(decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given unit quaternion values.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    */
+    public final void writeUnitQuaternion(@Nonnull ICesiumUnitQuaternionValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<UnitQuaternion> values) {
+        writeUnitQuaternion(writer, dates, values, 0, dates.size());
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given unit quaternion values.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeUnitQuaternion(@Nonnull ICesiumUnitQuaternionValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<UnitQuaternion> values, int startIndex,
+            int length) {
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<UnitQuaternion> decimatedValues = new ArrayList<UnitQuaternion>();
+        decimateUnitQuaternion(dates, values, startIndex, length, decimatedDates, decimatedValues);
+        writeInterpolation(writer);
+        writer.writeUnitQuaternion(decimatedDates, decimatedValues);
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given numeric values.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    */
+    public final void writeNumber(@Nonnull ICesiumDoubleValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Double> values) {
+        writeNumber(writer, dates, values, 0, dates.size());
+    }
+
+    /**
+    * Writes the interpolation algorithm and degree, followed by the samples that remain after
+    decimating the given numeric values.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    * @param startIndex The index of the first element to write.
+    * @param length The number of elements to write.
+    */
+    public final void writeNumber(@Nonnull ICesiumDoubleValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Double> values, int startIndex, int length) {
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Double> decimatedValues = new ArrayList<Double>();
+        decimateNumber(dates, values, startIndex, length, decimatedDates, decimatedValues);
+        writeInterpolation(writer);
+        writer.writeNumber(decimatedDates, decimatedValues);
+    }
+
+    private void writeInterpolation(@Nonnull ICesiumInterpolatablePropertyWriter writer) {
+        if (writer == null) {
+            throw new ArgumentNullException("writer");
+        }
+        writer.writeInterpolationAlgorithm(m_interpolationAlgorithm);
+        writer.writeInterpolationDegree(m_interpolationDegree);
+    }
+
+    private static <T> void checkArguments(List<JulianDate> dates, List<T> values, int startIndex, int length) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        if (values == null) {
+            throw new ArgumentNullException("values");
+        }
+        if (dates.size() != values.size()) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "values");
+        }
+        checkRange(dates, startIndex, length);
+    }
+
+    private static void checkRange(List<JulianDate> dates, int startIndex, int length) {
+        if (length < 0) {
+            throw new ArgumentOutOfRangeException("length");
+        }
+        if (startIndex < 0 || startIndex + length > dates.size()) {
+            throw new ArgumentOutOfRangeException("startIndex");
+        }
+    }
+
+    private static <T> void copySamples(int[] kept, List<JulianDate> dates, List<T> values, List<JulianDate> decimatedDates, List<T> decimatedValues) {
+        if (decimatedDates == null) {
+            throw new ArgumentNullException("decimatedDates");
+        }
+        if (decimatedValues == null) {
+            throw new ArgumentNullException("decimatedValues");
+        }
+        for (int index : kept) {
+            decimatedDates.add(dates.get(index));
+            decimatedValues.add(values.get(index));
+        }
+    }
+
+    /**
+    * Gets the number of samples the client uses for each interpolation.
+    */
+    private int getPointCount(boolean derivatives) {
+        return CesiumSampleInterpolation.getPointCount(m_interpolationAlgorithm, m_interpolationDegree, derivatives ? 1 : 0);
+    }
+
+    @Nonnull
+    private int[] selectSamples(List<JulianDate> dates, double[] values, int stride, int startIndex, int length, @Nonnull ErrorMeasure measure, boolean derivatives) {
+        if (length <= 0) {
+            return new int[0];
+        }
+        JulianDate start = dates.get(startIndex);
+        double[] times = new double[length];
+        for (int i = 0; i < length; ++i) {
+            times[i] = start.secondsDifference(dates.get(startIndex + i));
+        }
+        // Start from the first and last samples, plus enough evenly spaced samples
+        // to give the client a full interpolation window.
+        boolean[] keep = new boolean[length];
+        int seedCount = Math.min(length, getPointCount(derivatives));
+        for (int i = 0; i < seedCount; ++i) {
+            keep[seedCount == 1 ? 0 : (int) ((long) i * (length - 1) / (seedCount - 1))] = true;
+        }
+        keep[length - 1] = true;
+        int[] kept = new int[length];
+        int keptCount;
+        double[] weights = new double[getPointCount(derivatives) * 2];
+        double[] nodes = new double[getPointCount(derivatives) * 2];
+        double[] interpolated = new double[stride];
+        boolean changed;
+        do {
+            keptCount = 0;
+            for (int i = 0; i < length; ++i) {
+                if (keep[i]) {
+                    kept[keptCount++] = i;
+                }
+            }
+            // Within every gap between kept samples, keep the sample with the largest error
+            // if it exceeds the tolerance, then repeat until every sample reconstructs.
+            changed = false;
+            for (int gap = 1; gap < keptCount; ++gap) {
+                int worst = -1;
+                double worstError = m_tolerance;
+                for (int i = kept[gap - 1] + 1; i < kept[gap]; ++i) {
+                    double error = computeError(times, values, stride, kept, keptCount, gap, i, measure, derivatives, weights, nodes, interpolated);
+                    if (error > worstError || Double.isNaN(error)) {
+                        worst = i;
+                        worstError = error;
+                        if (Double.isNaN(error)) {
+                            break;
+                        }
+                    }
+                }
+                if (worst >= 0) {
+                    keep[worst] = true;
+                    changed = true;
+                }
+            }
+        } while (changed);
+        int[] result = new int[keptCount];
+        for (int i = 0; i < keptCount; ++i) {
+            result[i] = startIndex + kept[i];
+        }
+        return result;
+    }
+
+    /**
+    * Computes the error of reconstructing the sample at {@code sampleIndex} by interpolating the kept samples,
+    choosing the interpolation window the same way the client does.
+    */
+    private double computeError(double[] times, double[] values, int stride, int[] kept, int keptCount, int insertionIndex, int sampleIndex, @Nonnull ErrorMeasure measure, boolean derivatives,
+            double[] weights, double[] nodes, double[] interpolated) {
+        int pointCount = Math.min(getPointCount(derivatives), keptCount);
+        int firstIndex = CesiumSampleInterpolation.getWindowStart(insertionIndex, pointCount, keptCount);
+        if (derivatives) {
+            CesiumSampleInterpolation.interpolateHermite(times, values, stride, kept, firstIndex, pointCount, times[sampleIndex], nodes, weights, interpolated);
+            return CesiumSampleInterpolation.vectorDistance(interpolated, 0, values, sampleIndex * stride * 2, stride);
+        }
+        CesiumSampleInterpolation.computeWeights(times, kept, firstIndex, pointCount, times[sampleIndex], weights);
+        if (measure == ErrorMeasure.ROTATION_ANGLE) {
+            CesiumSampleInterpolation.interpolateRotation(values, kept, firstIndex, pointCount, weights, interpolated);
+            return CesiumSampleInterpolation.rotationAngle(interpolated, 0, values, sampleIndex * 4);
+        }
+        // The client interpolates cartographic values component by component, like Cartesian ones.
+        CesiumSampleInterpolation.interpolateVector(values, stride, kept, firstIndex, pointCount, weights, interpolated);
+        if (measure == ErrorMeasure.CARTOGRAPHIC_DISTANCE) {
+            return CesiumSampleInterpolation.cartographicDistance(interpolated, 0, values, sampleIndex * stride);
+        }
+        return CesiumSampleInterpolation.vectorDistance(interpolated, 0, values, sampleIndex * stride, stride);
+    }
+
+    /**
+    * How the error between an original sample and its reconstruction is measured.
+    */
+    private enum ErrorMeasure {
+        /**
+        * The Euclidean distance between the components.
+        */
+        DISTANCE,
+        /**
+        * The distance, in meters, between the points relative to the WGS84 ellipsoid of cartographic values in radians.
+        */
+        CARTOGRAPHIC_DISTANCE,
+        /**
+        * The angle, in radians, of the rotation between unit quaternions.
+        */
+        ROTATION_ANGLE
+    }
+
+    @Nonnull
+    private final CesiumInterpolationAlgorithm m_interpolationAlgorithm;
+    private final int m_interpolationDegree;
+    private final double m_tolerance;
+}
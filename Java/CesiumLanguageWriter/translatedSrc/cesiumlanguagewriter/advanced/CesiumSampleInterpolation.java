@@ -0,0 +1,282 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import cesiumlanguagewriter.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The numerical kernels behind {@link CesiumInterpolator}, which reproduce the interpolation the client
+ performs on sampled properties.  Samples are stored as consecutive components in arrays of
+ doubles, and can optionally be addressed through an array of indices, so that a subset of the
+ samples can be interpolated without copying.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+final class CesiumSampleInterpolation {
+    private CesiumSampleInterpolation() {}
+
+    /**
+    * Gets the number of samples the client uses for each interpolation.
+    * @param interpolationAlgorithm The interpolation algorithm.
+    * @param interpolationDegree The interpolation degree.
+    * @param inputOrder The number of derivatives provided with each sample.
+    * @return The number of samples.
+    */
+    public static int getPointCount(@Nonnull CesiumInterpolationAlgorithm interpolationAlgorithm, int interpolationDegree, int inputOrder) {
+        switch (interpolationAlgorithm) {
+        case LINEAR:
+            return 2;
+        case HERMITE:
+            return Math.max((interpolationDegree + 1) / (inputOrder + 1), 2);
+        default:
+            return Math.max(interpolationDegree + 1, 2);
+        }
+    }
+
+    /**
+    * Gets the index of the first sample the client uses to interpolate at a given time.
+    * @param insertionIndex The index of the first sample after the time.
+    * @param pointCount The number of samples used for each interpolation.
+    * @param sampleCount The total number of samples.
+    * @return The index of the first sample.
+    */
+    public static int getWindowStart(int insertionIndex, int pointCount, int sampleCount) {
+        int firstIndex = Math.max(0, insertionIndex - (pointCount - 1) / 2 - 1);
+        if (firstIndex + pointCount > sampleCount) {
+            firstIndex = Math.max(0, sampleCount - pointCount);
+        }
+        return firstIndex;
+    }
+
+    /**
+    * Computes the Lagrange weights of a window of samples at a given time.
+    * @param times The times of the samples.
+    * @param indices The indices of the samples to use, or {@code null} to use the samples directly.
+    * @param firstIndex The first sample, or the first element of {@code indices}, in the window.
+    * @param pointCount The number of samples in the window.
+    * @param time The time at which to interpolate.
+    * @param weights The array to receive the weight of each sample in the window.
+    */
+    public static void computeWeights(@Nonnull double[] times, @Nullable int[] indices, int firstIndex, int pointCount, double time, @Nonnull double[] weights) {
+        for (int j = 0; j < pointCount; ++j) {
+            double tj = times[index(indices, firstIndex + j)];
+            double weight = 1.0;
+            for (int m = 0; m < pointCount; ++m) {
+                if (m != j) {
+                    double tm = times[index(indices, firstIndex + m)];
+                    weight *= (time - tm) / (tj - tm);
+                }
+            }
+            weights[j] = weight;
+        }
+    }
+
+    /**
+    * Interpolates a window of vector samples using previously computed weights.
+    * @param values The components of the samples.
+    * @param stride The number of components in each sample.
+    * @param indices The indices of the samples to use, or {@code null} to use the samples directly.
+    * @param firstIndex The first sample, or the first element of {@code indices}, in the window.
+    * @param pointCount The number of samples in the window.
+    * @param weights The weight of each sample in the window.
+    * @param result The array to receive the interpolated components.
+    */
+    public static void interpolateVector(@Nonnull double[] values, int stride, @Nullable int[] indices, int firstIndex, int pointCount, @Nonnull double[] weights, @Nonnull double[] result) {
+        for (int c = 0; c < stride; ++c) {
+            double interpolated = 0.0;
+            for (int j = 0; j < pointCount; ++j) {
+                interpolated += weights[j] * values[index(indices, firstIndex + j) * stride + c];
+            }
+            result[c] = interpolated;
+        }
+    }
+
+    /**
+    * Interpolates a window of samples, each consisting of a value followed by its first derivative,
+    using a Hermite polynomial which matches both at every sample.
+    * @param times The times of the samples.
+    * @param values The components of the samples: {@code stride} value components followed by {@code stride} derivative components.
+    * @param stride The number of components in each value.
+    * @param indices The indices of the samples to use, or {@code null} to use the samples directly.
+    * @param firstIndex The first sample, or the first element of {@code indices}, in the window.
+    * @param pointCount The number of samples in the window.
+    * @param time The time at which to interpolate.
+    * @param nodes Scratch space for at least {@code 2 * pointCount} values.
+    * @param coefficients Scratch space for at least {@code 2 * pointCount} values.
+    * @param result The array to receive the interpolated value components.
+    */
+    public static void interpolateHermite(@Nonnull double[] times, @Nonnull double[] values, int stride, @Nullable int[] indices, int firstIndex, int pointCount, double time,
+            @Nonnull double[] nodes, @Nonnull double[] coefficients, @Nonnull double[] result) {
+        int nodeCount = pointCount * 2;
+        for (int j = 0; j < pointCount; ++j) {
+            double t = times[index(indices, firstIndex + j)];
+            nodes[2 * j] = t;
+            nodes[2 * j + 1] = t;
+        }
+        for (int c = 0; c < stride; ++c) {
+            // Newton divided differences over the doubled nodes, where the first
+            // difference at a repeated node is the derivative.
+            for (int k = 0; k < nodeCount; ++k) {
+                coefficients[k] = values[index(indices, firstIndex + k / 2) * stride * 2 + c];
+            }
+            for (int order = 1; order < nodeCount; ++order) {
+                for (int k = nodeCount - 1; k >= order; --k) {
+                    double denominator = nodes[k] - nodes[k - order];
+                    if (denominator == 0.0) {
+                        coefficients[k] = values[index(indices, firstIndex + k / 2) * stride * 2 + stride + c];
+                    } else {
+                        coefficients[k] = (coefficients[k] - coefficients[k - 1]) / denominator;
+                    }
+                }
+            }
+            double interpolated = coefficients[nodeCount - 1];
+            for (int k = nodeCount - 2; k >= 0; --k) {
+                interpolated = interpolated * (time - nodes[k]) + coefficients[k];
+            }
+            result[c] = interpolated;
+        }
+    }
+
+    /**
+    * Interpolates a window of unit quaternion samples, stored as x, y, z, w, using previously computed weights.
+    The quaternions are interpolated as rotation vectors relative to the last sample in the window.
+    * @param values The components of the samples.
+    * @param indices The indices of the samples to use, or {@code null} to use the samples directly.
+    * @param firstIndex The first sample, or the first element of {@code indices}, in the window.
+    * @param pointCount The number of samples in the window.
+    * @param weights The weight of each sample in the window.
+    * @param result The array to receive the interpolated x, y, z and w components.
+    */
+    public static void interpolateRotation(@Nonnull double[] values, @Nullable int[] indices, int firstIndex, int pointCount, @Nonnull double[] weights, @Nonnull double[] result) {
+        int referenceOffset = index(indices, firstIndex + pointCount - 1) * 4;
+        double rx = values[referenceOffset];
+        double ry = values[referenceOffset + 1];
+        double rz = values[referenceOffset + 2];
+        double rw = values[referenceOffset + 3];
+        double vx = 0.0;
+        double vy = 0.0;
+        double vz = 0.0;
+        for (int j = 0; j < pointCount; ++j) {
+            int offset = index(indices, firstIndex + j) * 4;
+            double qx = values[offset];
+            double qy = values[offset + 1];
+            double qz = values[offset + 2];
+            double qw = values[offset + 3];
+            // q * conjugate(reference)
+            double w = qw * rw + qx * rx + qy * ry + qz * rz;
+            double ax = -qw * rx + qx * rw - qy * rz + qz * ry;
+            double ay = -qw * ry + qy * rw - qz * rx + qx * rz;
+            double az = -qw * rz + qz * rw - qx * ry + qy * rx;
+            if (w < 0.0) {
+                w = -w;
+                ax = -ax;
+                ay = -ay;
+                az = -az;
+            }
+            double scale = weights[j] * rotationVectorScale(w);
+            vx += ax * scale;
+            vy += ay * scale;
+            vz += az * scale;
+        }
+        double angle = Math.sqrt(vx * vx + vy * vy + vz * vz);
+        double tw = 1.0;
+        double tx = 0.0;
+        double ty = 0.0;
+        double tz = 0.0;
+        if (angle != 0.0) {
+            double s = Math.sin(angle * 0.5) / angle;
+            tw = Math.cos(angle * 0.5);
+            tx = vx * s;
+            ty = vy * s;
+            tz = vz * s;
+        }
+        // t * reference
+        result[0] = tw * rx + tx * rw + ty * rz - tz * ry;
+        result[1] = tw * ry - tx * rz + ty * rw + tz * rx;
+        result[2] = tw * rz + tx * ry - ty * rx + tz * rw;
+        result[3] = tw * rw - tx * rx - ty * ry - tz * rz;
+    }
+
+    /**
+    * Computes the Euclidean distance between two vectors.
+    * @param a The array containing the first vector.
+    * @param aOffset The index of the first component of the first vector.
+    * @param b The array containing the second vector.
+    * @param bOffset The index of the first component of the second vector.
+    * @param stride The number of components.
+    * @return The distance.
+    */
+    public static double vectorDistance(@Nonnull double[] a, int aOffset, @Nonnull double[] b, int bOffset, int stride) {
+        double sumOfSquares = 0.0;
+        for (int c = 0; c < stride; ++c) {
+            double difference = a[aOffset + c] - b[bOffset + c];
+            sumOfSquares += difference * difference;
+        }
+        return Math.sqrt(sumOfSquares);
+    }
+
+    /**
+    * Computes the distance between the points relative to the WGS84 ellipsoid that correspond to two cartographic
+    values, stored as longitude, latitude and height, in radians and meters.
+    * @param a The array containing the first value.
+    * @param aOffset The index of the first component of the first value.
+    * @param b The array containing the second value.
+    * @param bOffset The index of the first component of the second value.
+    * @return The distance, in meters.
+    */
+    public static double cartographicDistance(@Nonnull double[] a, int aOffset, @Nonnull double[] b, int bOffset) {
+        double aSinLatitude = Math.sin(a[aOffset + 1]);
+        double aCosLatitude = Math.cos(a[aOffset + 1]);
+        double aRadius = Wgs84SemimajorAxis / Math.sqrt(1.0 - Wgs84EccentricitySquared * aSinLatitude * aSinLatitude);
+        double bSinLatitude = Math.sin(b[bOffset + 1]);
+        double bCosLatitude = Math.cos(b[bOffset + 1]);
+        double bRadius = Wgs84SemimajorAxis / Math.sqrt(1.0 - Wgs84EccentricitySquared * bSinLatitude * bSinLatitude);
+        double dx = (aRadius + a[aOffset + 2]) * aCosLatitude * Math.cos(a[aOffset]) - (bRadius + b[bOffset + 2]) * bCosLatitude * Math.cos(b[bOffset]);
+        double dy = (aRadius + a[aOffset + 2]) * aCosLatitude * Math.sin(a[aOffset]) - (bRadius + b[bOffset + 2]) * bCosLatitude * Math.sin(b[bOffset]);
+        double dz = (aRadius * (1.0 - Wgs84EccentricitySquared) + a[aOffset + 2]) * aSinLatitude - (bRadius * (1.0 - Wgs84EccentricitySquared) + b[bOffset + 2]) * bSinLatitude;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /**
+    * Computes the angle of the rotation between two quaternions, stored as x, y, z, w.
+    * @param a The array containing the first quaternion.
+    * @param aOffset The index of the first component of the first quaternion.
+    * @param b The array containing the second quaternion.
+    * @param bOffset The index of the first component of the second quaternion.
+    * @return The angle, in radians.
+    */
+    public static double rotationAngle(@Nonnull double[] a, int aOffset, @Nonnull double[] b, int bOffset) {
+        double dot = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+        for (int c = 0; c < 4; ++c) {
+            dot += a[aOffset + c] * b[bOffset + c];
+            normA += a[aOffset + c] * a[aOffset + c];
+            normB += b[bOffset + c] * b[bOffset + c];
+        }
+        return 2.0 * Math.acos(Math.min(1.0, Math.abs(dot) / Math.sqrt(normA * normB)));
+    }
+
+    /**
+    * Gets the factor which converts the vector part of a unit quaternion with the given scalar part
+    into a rotation vector, whose magnitude is the rotation angle.
+    */
+    private static double rotationVectorScale(double w) {
+        if (Math.abs(w - 1.0) < 1e-6) {
+            return 0.0;
+        }
+        return 2.0 * Math.acos(Math.min(1.0, w)) / Math.sqrt(1.0 - w * w);
+    }
+
+    private static int index(@Nullable int[] indices, int i) {
+        return indices == null ? i : indices[i];
+    }
+
+    private static final double Wgs84SemimajorAxis = 6378137.0;
+    private static final double Wgs84EccentricitySquared = 6.69437999014e-3;
+}
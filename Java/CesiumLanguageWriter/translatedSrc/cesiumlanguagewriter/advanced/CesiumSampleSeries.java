@@ -0,0 +1,60 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import cesiumlanguagewriter.*;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A series of samples of a value, ready to be written to a sampled property.
+ * @param <TValue> The type of the sampled values.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumSampleSeries<TValue> {
+    /**
+    * Initializes a new instance.
+    * @param dates The dates at which the values are specified.
+    * @param values The values corresponding to each date.
+    */
+    public CesiumSampleSeries(@Nonnull List<JulianDate> dates, @Nonnull List<TValue> values) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        if (values == null) {
+            throw new ArgumentNullException("values");
+        }
+        if (dates.size() != values.size()) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "values");
+        }
+        m_dates = dates;
+        m_values = values;
+    }
+
+    /**
+    * Gets the dates at which the values are specified.
+    */
+    @Nonnull
+    public final List<JulianDate> getDates() {
+        return m_dates;
+    }
+
+    /**
+    * Gets the values corresponding to each date.
+    */
+    @Nonnull
+    public final List<TValue> getValues() {
+        return m_values;
+    }
+
+    @Nonnull
+    private final List<JulianDate> m_dates;
+    @Nonnull
+    private final List<TValue> m_values;
+}
@@ -57,7 +57,7 @@ public final class CesiumValuePropertyAdaptors {
             public void invoke(TFrom writer, Boolean value) {
                 writer.writeBoolean(value);
             }
-        }, CesiumValuePropertyAdaptors.<TFrom> createWriteDeleteCallback());
+        }, CesiumValuePropertyAdaptors.<TFrom> createWriteDeleteCallback(), true);
     }
 
     /**
@@ -409,7 +409,7 @@ public final class CesiumValuePropertyAdaptors {
             public void invoke(TFrom writer, List<cesiumlanguagewriter.JulianDate> dates, List<Double> values, int startIndex, int length) {
                 writer.writeNumber(dates, values, startIndex, length);
             }
-        }, CesiumValuePropertyAdaptors.<TFrom> createWriteDeleteCallback());
+        }, CesiumValuePropertyAdaptors.<TFrom> createWriteDeleteCallback(), true);
     }
 
     /**
@@ -475,7 +475,7 @@ public final class CesiumValuePropertyAdaptors {
             public void invoke(TFrom writer, List<cesiumlanguagewriter.JulianDate> dates, List<Integer> values, int startIndex, int length) {
                 writer.writeNumber(dates, values, startIndex, length);
             }
-        }, CesiumValuePropertyAdaptors.<TFrom> createWriteDeleteCallback());
+        }, CesiumValuePropertyAdaptors.<TFrom> createWriteDeleteCallback(), true);
     }
 
     /**
@@ -0,0 +1,161 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import cesiumlanguagewriter.*;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Derives velocities from sampled positions, so that positions can be written with the
+ {@link CesiumInterpolationAlgorithm#HERMITE} algorithm and their velocities, which lets the
+ client reconstruct a smooth trajectory from considerably fewer samples.  Velocities are estimated
+ with second-order finite differences, which are exact for positions that vary quadratically
+ between neighboring samples, and which allow unevenly spaced samples.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class CesiumVelocityEstimator {
+    private CesiumVelocityEstimator() {}
+
+    /**
+    * Estimates the velocity at each of a series of sampled positions.
+    * @param times The times of the samples, in seconds, in strictly increasing order.
+    * @param positions The X, Y and Z components of each position.
+    * @param count The number of samples.
+    * @param velocities The array to receive the X, Y and Z components of each velocity, in units per second.
+    This may not be the same array as {@code positions}.
+    */
+    public static void computeVelocities(@Nonnull double[] times, @Nonnull double[] positions, int count, @Nonnull double[] velocities) {
+        if (times == null) {
+            throw new ArgumentNullException("times");
+        }
+        if (positions == null) {
+            throw new ArgumentNullException("positions");
+        }
+        if (velocities == null) {
+            throw new ArgumentNullException("velocities");
+        }
+        if (count < 0 || times.length < count) {
+            throw new ArgumentOutOfRangeException("count");
+        }
+        if (positions.length < count * 3 || velocities.length < count * 3) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "positions");
+        }
+        checkIncreasing(times, count, "times");
+        if (count == 1) {
+            velocities[0] = 0.0;
+            velocities[1] = 0.0;
+            velocities[2] = 0.0;
+            return;
+        }
+        if (count == 2) {
+            double h = times[1] - times[0];
+            for (int c = 0; c < 3; ++c) {
+                double v = (positions[3 + c] - positions[c]) / h;
+                velocities[c] = v;
+                velocities[3 + c] = v;
+            }
+            return;
+        }
+        for (int i = 0; i < count; ++i) {
+            // Differentiate the parabola through three neighboring samples, centered where
+            // possible and one-sided at the ends.
+            int center = Math.min(Math.max(i, 1), count - 2);
+            double t0 = times[center - 1];
+            double t1 = times[center];
+            double t2 = times[center + 1];
+            double t = times[i];
+            double w0 = (2.0 * t - t1 - t2) / ((t0 - t1) * (t0 - t2));
+            double w1 = (2.0 * t - t0 - t2) / ((t1 - t0) * (t1 - t2));
+            double w2 = (2.0 * t - t0 - t1) / ((t2 - t0) * (t2 - t1));
+            int offset = (center - 1) * 3;
+            for (int c = 0; c < 3; ++c) {
+                velocities[i * 3 + c] = w0 * positions[offset + c] + w1 * positions[offset + 3 + c] + w2 * positions[offset + 6 + c];
+            }
+        }
+    }
+
+    /**
+    * Estimates the velocity at each of a series of sampled positions.
+    * @param dates The dates of the samples, in strictly increasing order.
+    * @param positions The position corresponding to each date.
+    * @return The positions, each with its estimated velocity.
+    */
+    @Nonnull
+    public static List<Motion1<Cartesian>> computeVelocities(@Nonnull List<JulianDate> dates, @Nonnull List<Cartesian> positions) {
+        return computeVelocities(dates, positions, 0, dates.size());
+    }
+
+    /**
+    * Estimates the velocity at each of a series of sampled positions.
+    * @param dates The dates of the samples, in strictly increasing order.
+    * @param positions The position corresponding to each date.
+    * @param startIndex The index of the first sample to consider.
+    * @param length The number of samples to consider.
+    * @return The positions, each with its estimated velocity.
+    */
+    @Nonnull
+    public static List<Motion1<Cartesian>> computeVelocities(@Nonnull List<JulianDate> dates, @Nonnull List<Cartesian> positions, int startIndex, int length) {
+        if (dates == null) {
+            throw new ArgumentNullException("dates");
+        }
+        if (positions == null) {
+            throw new ArgumentNullException("positions");
+        }
+        if (dates.size() != positions.size()) {
+            throw new ArgumentException(CesiumLocalization.getMismatchedNumberOfDatesAndValues(), "positions");
+        }
+        ArrayList<Motion1<Cartesian>> result = new ArrayList<Motion1<Cartesian>>(length);
+        if (length <= 0) {
+            return result;
+        }
+        double[] times = new double[length];
+        double[] components = new double[length * 3];
+        double[] velocities = new double[length * 3];
+        CesiumInterpolator.computeTimes(dates.get(startIndex), dates, startIndex, length, times);
+        checkIncreasing(times, length, "dates");
+        CesiumInterpolator.packCartesian(positions, startIndex, length, components);
+        computeVelocities(times, components, length, velocities);
+        for (int i = 0; i < length; ++i) {
+            result.add(new Motion1<Cartesian>(positions.get(startIndex + i), new Cartesian(velocities[i * 3], velocities[i * 3 + 1], velocities[i * 3 + 2])));
+        }
+        return result;
+    }
+
+    /**
+    * Estimates velocities for a series of sampled positions, removes the samples which the client can
+    reconstruct within a tolerance using {@link CesiumInterpolationAlgorithm#HERMITE} interpolation
+    of the positions and velocities, and writes the remaining samples along with the
+    interpolation algorithm and degree.
+    * @param writer The writer to which to write the property.
+    * @param dates The dates of the samples, in strictly increasing order.
+    * @param positions The position corresponding to each date.
+    * @param interpolationDegree The degree of the Hermite interpolation.  Since each sample provides
+    a velocity, the client uses {@code (interpolationDegree + 1) / 2} samples for each interpolation.
+    * @param tolerance The largest allowed distance between an original position and the interpolated position.
+    */
+    public static void writeCartesianVelocity(@Nonnull ICesiumCartesian3VelocityValuePropertyWriter writer, @Nonnull List<JulianDate> dates, @Nonnull List<Cartesian> positions,
+            int interpolationDegree, double tolerance) {
+        List<Motion1<Cartesian>> values = computeVelocities(dates, positions);
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.HERMITE, interpolationDegree, tolerance);
+        decimator.writeCartesianVelocity(writer, dates, values);
+    }
+
+    /**
+    * Ensures that the times are strictly increasing, since the finite differences divide by the gaps between them.
+    */
+    private static void checkIncreasing(@Nonnull double[] times, int count, @Nonnull String parameterName) {
+        for (int i = 1; i < count; ++i) {
+            if (!(times[i] > times[i - 1])) {
+                throw new ArgumentException(CesiumLocalization.getDatesMustBeIncreasing(), parameterName);
+            }
+        }
+    }
+}
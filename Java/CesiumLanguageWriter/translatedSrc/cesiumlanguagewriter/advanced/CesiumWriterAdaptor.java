@@ -3,8 +3,6 @@ package cesiumlanguagewriter.advanced;
 
 import agi.foundation.compatibility.*;
 import agi.foundation.compatibility.ArgumentNullException;
-import agi.foundation.compatibility.Func1;
-import agi.foundation.compatibility.Lazy;
 import cesiumlanguagewriter.*;
 import javax.annotation.Nonnull;
 
@@ -42,11 +40,6 @@ public class CesiumWriterAdaptor<TFrom extends ICesiumPropertyWriter, TValue> im
         m_parent = parent;
         m_writeValueCallback = writeValueCallback;
         m_writeDeleteValueCallback = writeDeleteValueCallback;
-        m_interval = new Lazy<CesiumWriterAdaptor<TFrom, TValue>>(new Func1<CesiumWriterAdaptor<TFrom, TValue>>() {
-            public CesiumWriterAdaptor<TFrom, TValue> invoke() {
-                return new CesiumWriterAdaptor<TFrom, TValue>((TFrom) m_parent.getIntervalWriter(), m_writeValueCallback, m_writeDeleteValueCallback);
-            }
-        }, false);
     }
 
     /**
@@ -110,8 +103,8 @@ public class CesiumWriterAdaptor<TFrom extends ICesiumPropertyWriter, TValue> im
     * @return The writer.
     */
     public final ICesiumPropertyWriter openInterval() {
-        m_interval.getValue().open(m_parent.getOutput());
-        return m_interval.getValue();
+        getIntervalAdaptor().open(m_parent.getOutput());
+        return getIntervalAdaptor();
     }
 
     /**
@@ -129,7 +122,15 @@ public class CesiumWriterAdaptor<TFrom extends ICesiumPropertyWriter, TValue> im
     open the writer, instead of accessing this property directly.
     */
     public final ICesiumPropertyWriter getIntervalWriter() {
-        return m_interval.getValue();
+        return getIntervalAdaptor();
+    }
+
+    @Nonnull
+    private CesiumWriterAdaptor<TFrom, TValue> getIntervalAdaptor() {
+        if (m_interval == null) {
+            m_interval = new CesiumWriterAdaptor<TFrom, TValue>((TFrom) m_parent.getIntervalWriter(), m_writeValueCallback, m_writeDeleteValueCallback);
+        }
+        return m_interval;
     }
 
     /**
@@ -171,6 +172,5 @@ public class CesiumWriterAdaptor<TFrom extends ICesiumPropertyWriter, TValue> im
     private CesiumWriterAdaptorWriteCallback<TFrom, TValue> m_writeValueCallback;
     @Nonnull
     private CesiumWriterAdaptorWriteDeleteCallback<TFrom> m_writeDeleteValueCallback;
-    @Nonnull
-    private Lazy<CesiumWriterAdaptor<TFrom, TValue>> m_interval;
+    private CesiumWriterAdaptor<TFrom, TValue> m_interval;
 }
\ No newline at end of file
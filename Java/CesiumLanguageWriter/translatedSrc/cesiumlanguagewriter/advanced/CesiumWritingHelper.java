@@ -26,18 +26,13 @@ public final class CesiumWritingHelper {
     @Nonnull
     public static final TimeInterval MaximumInterval = new TimeInterval(GregorianDate.MinValue.toJulianDate(), GregorianDate.MaxValue.toJulianDate());
 
-    @Nonnull
-    private static Iso8601Format getIso8601Format(@Nonnull CesiumOutputStream output) {
-        return output.getPrettyFormatting() ? Iso8601Format.EXTENDED : Iso8601Format.COMPACT;
-    }
-
     /**
     * Writes a {@link JulianDate} as an ISO 8601 interval string.
     * @param output The stream to which the value will be written.
     * @param date The date to write.
     */
     public static void writeDate(@Nonnull CesiumOutputStream output, @Nonnull JulianDate date) {
-        output.writeValue(CesiumFormattingHelper.toIso8601(date, getIso8601Format(output)));
+        Iso8601Formatter.writeDate(output, date);
     }
 
     /**
@@ -46,7 +41,7 @@ public final class CesiumWritingHelper {
     * @param interval The interval to write.
     */
     public static void writeTimeInterval(@Nonnull CesiumOutputStream output, @Nonnull TimeInterval interval) {
-        output.writeValue(CesiumFormattingHelper.toIso8601Interval(interval.getStart(), interval.getStop(), getIso8601Format(output)));
+        Iso8601Formatter.writeInterval(output, interval.getStart(), interval.getStop());
     }
 
     /**
@@ -103,7 +98,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             Rectangular value = values.get(i);
             output.writeValue(value.getX());
             output.writeValue(value.getY());
@@ -147,7 +142,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             CartographicExtent value = values.get(i);
             output.writeValue(value.getWestLongitude());
             output.writeValue(value.getSouthLatitude());
@@ -191,7 +186,36 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
+            Cartesian value = values.get(i);
+            output.writeValue(value.getX());
+            output.writeValue(value.getY());
+            output.writeValue(value.getZ());
+            output.writeLineBreak();
+        }
+        output.writeEndSequence();
+    }
+
+    /**
+    * Writes time-tagged {@link Cartesian} values sampled on a shared time grid as an array in [Time, X, Y, Z] order.
+    Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+    The epoch property is written as well.
+    * @param output The stream to which the values will be written.
+    * @param propertyName The name of the property to write.
+    * @param grid The grid of dates at which the value is specified.
+    * @param values The corresponding value for each date in the grid.
+    * @param startIndex The index of the first element to use in the {@code values} collection.
+    * @param length The number of elements to use from the {@code values} collection.
+    */
+    public static void writeCartesian3(@Nonnull CesiumOutputStream output, @Nonnull String propertyName, @Nonnull SharedTimeGrid grid, @Nonnull List<Cartesian> values, int startIndex,
+            int length) {
+        grid.checkValues(values, startIndex, length);
+        JulianDate epoch = getAndWriteEpoch(output, grid, startIndex);
+        output.writePropertyName(propertyName);
+        output.writeStartSequence();
+        int last = startIndex + length;
+        for (int i = startIndex; i < last; ++i) {
+            writeOffset(output, grid, epoch, i);
             Cartesian value = values.get(i);
             output.writeValue(value.getX());
             output.writeValue(value.getY());
@@ -238,7 +262,40 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
+            Cartesian value = values.get(i).getValue();
+            Cartesian velocity = values.get(i).getFirstDerivative();
+            output.writeValue(value.getX());
+            output.writeValue(value.getY());
+            output.writeValue(value.getZ());
+            output.writeValue(velocity.getX());
+            output.writeValue(velocity.getY());
+            output.writeValue(velocity.getZ());
+            output.writeLineBreak();
+        }
+        output.writeEndSequence();
+    }
+
+    /**
+    * Writes time-tagged {@link Motion1} values sampled on a shared time grid as an array in [Time, X, Y, Z, vX, vY, vZ] order.
+    Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+    The epoch property is written as well.
+    * @param output The stream to which the values will be written.
+    * @param propertyName The name of the property to write.
+    * @param grid The grid of dates at which the value is specified.
+    * @param values The corresponding value for each date in the grid.
+    * @param startIndex The index of the first element to use in the {@code values} collection.
+    * @param length The number of elements to use from the {@code values} collection.
+    */
+    public static void writeCartesian3Velocity(@Nonnull CesiumOutputStream output, @Nonnull String propertyName, @Nonnull SharedTimeGrid grid, @Nonnull List<Motion1<Cartesian>> values, int startIndex,
+            int length) {
+        grid.checkValues(values, startIndex, length);
+        JulianDate epoch = getAndWriteEpoch(output, grid, startIndex);
+        output.writePropertyName(propertyName);
+        output.writeStartSequence();
+        int last = startIndex + length;
+        for (int i = startIndex; i < last; ++i) {
+            writeOffset(output, grid, epoch, i);
             Cartesian value = values.get(i).getValue();
             Cartesian velocity = values.get(i).getFirstDerivative();
             output.writeValue(value.getX());
@@ -286,7 +343,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             UnitCartesian value = values.get(i);
             output.writeValue(value.getX());
             output.writeValue(value.getY());
@@ -329,7 +386,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             Spherical value = values.get(i);
             output.writeValue(value.getClock());
             output.writeValue(value.getCone());
@@ -374,7 +431,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             BoundingRectangle value = values.get(i);
             output.writeValue(value.getLeft());
             output.writeValue(value.getBottom());
@@ -420,7 +477,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             NearFarScalar value = values.get(i);
             output.writeValue(value.getNearDistance());
             output.writeValue(value.getNearValue());
@@ -463,7 +520,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             Bounds value = values.get(i);
             output.writeValue(value.getLowerBound());
             output.writeValue(value.getUpperBound());
@@ -505,7 +562,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             UnitSpherical value = values.get(i);
             output.writeValue(value.getClock());
             output.writeValue(value.getCone());
@@ -614,7 +671,36 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
+            Cartographic value = values.get(i);
+            output.writeValue(value.getLongitude());
+            output.writeValue(value.getLatitude());
+            output.writeValue(value.getHeight());
+            output.writeLineBreak();
+        }
+        output.writeEndSequence();
+    }
+
+    /**
+    * Writes time-tagged {@link Cartographic} values sampled on a shared time grid as an array in [Time, Longitude, Latitude, Height] order.
+    Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+    The epoch property is written as well.
+    * @param output The stream to which the values will be written.
+    * @param propertyName The name of the property to write.
+    * @param grid The grid of dates at which the value is specified.
+    * @param values The corresponding value for each date in the grid.
+    * @param startIndex The index of the first element to use in the {@code values} collection.
+    * @param length The number of elements to use from the {@code values} collection.
+    */
+    public static void writeCartographic(@Nonnull CesiumOutputStream output, @Nonnull String propertyName, @Nonnull SharedTimeGrid grid, @Nonnull List<Cartographic> values, int startIndex,
+            int length) {
+        grid.checkValues(values, startIndex, length);
+        JulianDate epoch = getAndWriteEpoch(output, grid, startIndex);
+        output.writePropertyName(propertyName);
+        output.writeStartSequence();
+        int last = startIndex + length;
+        for (int i = startIndex; i < last; ++i) {
+            writeOffset(output, grid, epoch, i);
             Cartographic value = values.get(i);
             output.writeValue(value.getLongitude());
             output.writeValue(value.getLatitude());
@@ -707,7 +793,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             Color value = values.get(i);
             output.writeValue(value.getRed());
             output.writeValue(value.getGreen());
@@ -764,7 +850,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             Color value = values.get(i);
             output.writeValue(value.getRed() / 255.0);
             output.writeValue(value.getGreen() / 255.0);
@@ -795,7 +881,33 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
+            output.writeValue(values.get(i));
+            output.writeLineBreak();
+        }
+        output.writeEndSequence();
+    }
+
+    /**
+    * Writes time-tagged floating-point values sampled on a shared time grid as an array in [Time, Value] order.
+    Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+    The epoch property is written as well.
+    * @param output The stream to which the values will be written.
+    * @param propertyName The name of the property to write.
+    * @param grid The grid of dates at which the value is specified.
+    * @param values The corresponding value for each date in the grid.
+    * @param startIndex The index of the first element to use in the {@code values} collection.
+    * @param length The number of elements to use from the {@code values} collection.
+    */
+    public static void writeDouble(@Nonnull CesiumOutputStream output, @Nonnull String propertyName, @Nonnull SharedTimeGrid grid, @Nonnull List<Double> values, int startIndex,
+            int length) {
+        grid.checkValues(values, startIndex, length);
+        JulianDate epoch = getAndWriteEpoch(output, grid, startIndex);
+        output.writePropertyName(propertyName);
+        output.writeStartSequence();
+        int last = startIndex + length;
+        for (int i = startIndex; i < last; ++i) {
+            writeOffset(output, grid, epoch, i);
             output.writeValue(values.get(i));
             output.writeLineBreak();
         }
@@ -822,7 +934,7 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
             output.writeValue(values.get(i));
             output.writeLineBreak();
         }
@@ -865,7 +977,37 @@ public final class CesiumWritingHelper {
         output.writeStartSequence();
         int last = startIndex + length;
         for (int i = startIndex; i < last; ++i) {
-            output.writeValue(epoch.secondsDifference(dates.get(i)));
+            output.writeValue(secondsDifference(epoch, dates, i));
+            UnitQuaternion quaternion = values.get(i);
+            output.writeValue(quaternion.getX());
+            output.writeValue(quaternion.getY());
+            output.writeValue(quaternion.getZ());
+            output.writeValue(quaternion.getW());
+            output.writeLineBreak();
+        }
+        output.writeEndSequence();
+    }
+
+    /**
+    * Writes time-tagged {@link UnitQuaternion} values sampled on a shared time grid as an array in [Time, X, Y, Z, W] order.
+    Times are offsets from the first date of the range, which are preformatted when the range starts at the beginning of the grid.
+    The epoch property is written as well.
+    * @param output The stream to which the values will be written.
+    * @param propertyName The name of the property to write.
+    * @param grid The grid of dates at which the value is specified.
+    * @param values The corresponding value for each date in the grid.
+    * @param startIndex The index of the first element to use in the {@code values} collection.
+    * @param length The number of elements to use from the {@code values} collection.
+    */
+    public static void writeUnitQuaternion(@Nonnull CesiumOutputStream output, @Nonnull String propertyName, @Nonnull SharedTimeGrid grid, @Nonnull List<UnitQuaternion> values, int startIndex,
+            int length) {
+        grid.checkValues(values, startIndex, length);
+        JulianDate epoch = getAndWriteEpoch(output, grid, startIndex);
+        output.writePropertyName(propertyName);
+        output.writeStartSequence();
+        int last = startIndex + length;
+        for (int i = startIndex; i < last; ++i) {
+            writeOffset(output, grid, epoch, i);
             UnitQuaternion quaternion = values.get(i);
             output.writeValue(quaternion.getX());
             output.writeValue(quaternion.getY());
@@ -994,6 +1136,23 @@ public final class CesiumWritingHelper {
         output.writeEndSequence();
     }
 
+    private static double secondsDifference(@Nonnull JulianDate epoch, @Nonnull List<JulianDate> dates, int index) {
+        if (dates instanceof JulianDateArray) {
+            // Read the day and seconds directly instead of creating a JulianDate.
+            // The epoch is already in TAI, so it is not converted again for each sample.
+            return ((JulianDateArray) dates).secondsDifference(epoch.getDay(), epoch.getSecondsOfDay(), index);
+        }
+        return epoch.secondsDifference(dates.get(index));
+    }
+
+    private static void writeOffset(@Nonnull CesiumOutputStream output, @Nonnull SharedTimeGrid grid, JulianDate epoch, int index) {
+        if (epoch == null) {
+            grid.writeOffset(output, index);
+        } else {
+            output.writeValue(secondsDifference(epoch, grid.getDates(), index));
+        }
+    }
+
     /**
     * Gets an appropriate epoch from a list of dates and writes it to the {@link CesiumOutputStream}
     as the "epoch" property.  If the {@code dates} collection is empty, the {@code startIndex}
@@ -1003,7 +1162,8 @@ public final class CesiumWritingHelper {
     * @param dates The collection of dates from which to determine the epoch.
     * @param startIndex The first index in the collection to use.
     * @param length The number of items from the collection to use.
-    * @return A suitable epoch determined from the collection.
+    * @return A suitable epoch determined from the collection, converted to {@code InternationalAtomicTime} ({@link TimeStandard#INTERNATIONAL_ATOMIC_TIME})
+    so that it is converted only once per write.
     */
     @Nonnull
     private static JulianDate getAndWriteEpoch(@Nonnull CesiumOutputStream output, @Nonnull List<JulianDate> dates, int startIndex, int length) {
@@ -1012,7 +1172,23 @@ public final class CesiumWritingHelper {
         }
         JulianDate epoch = dates.get(startIndex);
         output.writePropertyName("epoch");
-        output.writeValue(CesiumFormattingHelper.toIso8601(epoch, getIso8601Format(output)));
-        return epoch;
+        Iso8601Formatter.writeDate(output, epoch);
+        return epoch.toInternationalAtomicTime();
+    }
+
+    /**
+    * Writes the epoch of a range of a shared time grid to the {@link CesiumOutputStream} as the "epoch" property.
+    * @param output The stream to which to write the epoch.
+    * @param grid The grid of dates.
+    * @param startIndex The index of the first date in the range.
+    * @return The first date of the range, converted to {@code InternationalAtomicTime} ({@link TimeStandard#INTERNATIONAL_ATOMIC_TIME}),
+    or {@code null} if the preformatted offsets of the grid apply to the range.
+    */
+    private static JulianDate getAndWriteEpoch(@Nonnull CesiumOutputStream output, @Nonnull SharedTimeGrid grid, int startIndex) {
+        grid.writeEpoch(output, startIndex);
+        if (startIndex == 0 || startIndex >= grid.getCount()) {
+            return null;
+        }
+        return grid.getDates().get(startIndex).toInternationalAtomicTime();
     }
 }
\ No newline at end of file
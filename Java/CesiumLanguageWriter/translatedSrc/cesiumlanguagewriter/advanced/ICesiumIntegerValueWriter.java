@@ -0,0 +1,21 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+
+/**
+ * An interface to an object that writes {@code int} values of a CZML property without boxing them.
+ This is the primitive counterpart of {@link ICesiumValuePropertyWriter}.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public interface ICesiumIntegerValueWriter extends ICesiumPropertyWriter {
+    /**
+    * Writes the value of the property for this interval of time.
+    * @param value The value of the property.
+    */
+    void writeValue(int value);
+}
@@ -0,0 +1,331 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.CultureInfoHelper;
+import agi.foundation.compatibility.DoubleHelper;
+import agi.foundation.compatibility.NumberFormatInfo;
+import cesiumlanguagewriter.*;
+import javax.annotation.Nonnull;
+
+/**
+ * Formats {@link JulianDate JulianDates} as ISO 8601 strings, writing the digits directly into
+ a character buffer.  The output is identical to {@link CesiumFormattingHelper#toIso8601}, including
+ the clamping of dates to the range of {@link GregorianDate}, but no intermediate
+ {@link GregorianDate}, format pattern or string is created.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class Iso8601Formatter {
+    private Iso8601Formatter() {}
+
+    /**
+    * The maximum number of characters written for a single date, in any format.
+    */
+    public static final int MaximumDateLength = 40;
+    /**
+    * The maximum number of characters written for an interval, in any format.
+    */
+    public static final int MaximumIntervalLength = MaximumDateLength * 2 + 1;
+
+    /**
+    * Formats a date as an ISO 8601 string.
+    * @param date The date to format.
+    * @param format The format to use.
+    * @param buffer The buffer to receive the characters, which must have room for {@link #MaximumDateLength} characters after {@code offset}.
+    * @param offset The index in the buffer at which to write the first character.
+    * @return The index in the buffer following the last character written.
+    */
+    public static int format(@Nonnull JulianDate date, @Nonnull Iso8601Format format, @Nonnull char[] buffer, int offset) {
+        if (date == null) {
+            throw new ArgumentNullException("date");
+        }
+        if (format == null) {
+            throw new ArgumentNullException("format");
+        }
+        if (buffer == null) {
+            throw new ArgumentNullException("buffer");
+        }
+        // If the JulianDate is outside the range of supported CZML values,
+        // clamp it to the minimum/maximum CZML ISO8601 value.
+        if (JulianDate.lessThanOrEqual(date, s_minimumDate)) {
+            return copy(s_minimumStrings[format.ordinal()], buffer, offset);
+        }
+        if (JulianDate.greaterThanOrEqual(date, s_maximumDate)) {
+            return copy(s_maximumStrings[format.ordinal()], buffer, offset);
+        }
+        boolean isLeapSecond = false;
+        int utcDay = date.getDay();
+        double secondsOfDay = date.getSecondsOfDay();
+        if (date.getStandard() != TimeStandard.COORDINATED_UNIVERSAL_TIME) {
+            LeapSeconds leapSeconds = LeapSeconds.getInstance();
+            double taiMinusUtc = leapSeconds.getTaiMinusUtcOfTai(utcDay, secondsOfDay);
+            if (Double.isNaN(taiMinusUtc)) {
+                // During a leap second, format the second before it and add the second back.
+                isLeapSecond = true;
+                secondsOfDay -= 1.0;
+                if (secondsOfDay < 0.0) {
+                    --utcDay;
+                    secondsOfDay += TimeConstants.SecondsPerDay;
+                }
+                taiMinusUtc = leapSeconds.getTaiMinusUtcOfTai(utcDay, secondsOfDay);
+            }
+            secondsOfDay -= taiMinusUtc;
+            // Normalize the same way as JulianDate.
+            if (secondsOfDay < 0.0) {
+                int wholeDays = (int) (secondsOfDay / TimeConstants.SecondsPerDay) - 1;
+                utcDay += wholeDays;
+                secondsOfDay -= TimeConstants.SecondsPerDay * wholeDays;
+                if (secondsOfDay > TimeConstants.NextBefore86400) {
+                    ++utcDay;
+                    secondsOfDay = 0.0;
+                }
+            } else if (secondsOfDay >= TimeConstants.SecondsPerDay) {
+                int wholeDays = (int) (secondsOfDay / TimeConstants.SecondsPerDay);
+                utcDay += wholeDays;
+                secondsOfDay -= TimeConstants.SecondsPerDay * wholeDays;
+            }
+        }
+        // JulianDates are noon-based.
+        int julianDayNumber = secondsOfDay >= 43200.0 ? utcDay + 1 : utcDay;
+        int hour = (int) Math.floor(secondsOfDay / 3600.0);
+        double remainingSeconds = secondsOfDay - hour * 3600.0;
+        int minute = (int) Math.floor(remainingSeconds / 60.0);
+        double second = secondsOfDay - (hour * 3600.0 + minute * 60.0);
+        if (isLeapSecond) {
+            second += 1.0;
+        }
+        hour += 12;
+        if (hour > 23) {
+            hour -= 24;
+        }
+        return format(julianDayNumber, hour, minute, second, format, buffer, offset);
+    }
+
+    /**
+    * Formats an interval as an ISO 8601 interval string.
+    * @param start The start of the interval.
+    * @param stop The end of the interval.
+    * @param format The format to use.
+    * @param buffer The buffer to receive the characters, which must have room for {@link #MaximumIntervalLength} characters after {@code offset}.
+    * @param offset The index in the buffer at which to write the first character.
+    * @return The index in the buffer following the last character written.
+    */
+    public static int formatInterval(@Nonnull JulianDate start, @Nonnull JulianDate stop, @Nonnull Iso8601Format format, @Nonnull char[] buffer, int offset) {
+        offset = format(start, format, buffer, offset);
+        buffer[offset++] = '/';
+        return format(stop, format, buffer, offset);
+    }
+
+    /**
+    * Formats a date as an ISO 8601 string.
+    * @param date The date to format.
+    * @param format The format to use.
+    * @return The formatted date.
+    */
+    @Nonnull
+    public static String toIso8601(@Nonnull JulianDate date, @Nonnull Iso8601Format format) {
+        char[] buffer = s_buffer.get();
+        int length = format(date, format, buffer, 0);
+        return new String(buffer, 0, length);
+    }
+
+    /**
+    * Formats an interval as an ISO 8601 interval string.
+    * @param start The start of the interval.
+    * @param stop The end of the interval.
+    * @param format The format to use.
+    * @return The formatted interval.
+    */
+    @Nonnull
+    public static String toIso8601Interval(@Nonnull JulianDate start, @Nonnull JulianDate stop, @Nonnull Iso8601Format format) {
+        char[] buffer = s_buffer.get();
+        int length = formatInterval(start, stop, format, buffer, 0);
+        return new String(buffer, 0, length);
+    }
+
+    /**
+    * Writes a date as an ISO 8601 string value, in the format matching the stream.
+    * @param output The stream to which to write the value.
+    * @param date The date to write.
+    */
+    public static void writeDate(@Nonnull CesiumOutputStream output, @Nonnull JulianDate date) {
+        char[] buffer = s_buffer.get();
+        int length = format(date, getFormat(output), buffer, 0);
+        output.writeValue(buffer, 0, length);
+    }
+
+    /**
+    * Writes an interval as an ISO 8601 interval string value, in the format matching the stream.
+    * @param output The stream to which to write the value.
+    * @param start The start of the interval.
+    * @param stop The end of the interval.
+    */
+    public static void writeInterval(@Nonnull CesiumOutputStream output, @Nonnull JulianDate start, @Nonnull JulianDate stop) {
+        char[] buffer = s_buffer.get();
+        int length = formatInterval(start, stop, getFormat(output), buffer, 0);
+        output.writeValue(buffer, 0, length);
+    }
+
+    @Nonnull
+    private static Iso8601Format getFormat(@Nonnull CesiumOutputStream output) {
+        return output.getPrettyFormatting() ? Iso8601Format.EXTENDED : Iso8601Format.COMPACT;
+    }
+
+    private static int format(int julianDayNumber, int hour, int minute, double second, @Nonnull Iso8601Format format, @Nonnull char[] buffer, int offset) {
+        YearMonthDay yearMonthDay = YearMonthDay.fromJulianDayNumber(julianDayNumber);
+        int year = yearMonthDay.getYear();
+        int month = yearMonthDay.getMonth();
+        int day = yearMonthDay.getDay();
+        boolean hasSeconds = second != 0.0;
+        switch (format) {
+        case BASIC: {
+            offset = writeDigits(year, 4, buffer, offset);
+            offset = writeDigits(month, 2, buffer, offset);
+            offset = writeDigits(day, 2, buffer, offset);
+            buffer[offset++] = 'T';
+            offset = writeDigits(hour, 2, buffer, offset);
+            offset = writeDigits(minute, 2, buffer, offset);
+            offset = writeSeconds(second, buffer, offset);
+            break;
+        }
+        case EXTENDED: {
+            offset = writeDigits(year, 4, buffer, offset);
+            buffer[offset++] = '-';
+            offset = writeDigits(month, 2, buffer, offset);
+            buffer[offset++] = '-';
+            offset = writeDigits(day, 2, buffer, offset);
+            buffer[offset++] = 'T';
+            offset = writeDigits(hour, 2, buffer, offset);
+            buffer[offset++] = ':';
+            offset = writeDigits(minute, 2, buffer, offset);
+            buffer[offset++] = ':';
+            offset = writeSeconds(second, buffer, offset);
+            break;
+        }
+        case COMPACT: {
+            offset = writeDigits(year, 4, buffer, offset);
+            offset = writeDigits(month, 2, buffer, offset);
+            offset = writeDigits(day, 2, buffer, offset);
+            buffer[offset++] = 'T';
+            offset = writeDigits(hour, 2, buffer, offset);
+            if (minute != 0 || hasSeconds) {
+                offset = writeDigits(minute, 2, buffer, offset);
+            }
+            if (hasSeconds) {
+                offset = writeSeconds(second, buffer, offset);
+            }
+            break;
+        }
+        default: {
+            throw new ArgumentException(CesiumLocalization.getUnknownEnumerationValue(), "format");
+        }
+        }
+        buffer[offset++] = 'Z';
+        return offset;
+    }
+
+    private static int writeDigits(int value, int digits, @Nonnull char[] buffer, int offset) {
+        for (int i = offset + digits - 1; i >= offset; --i) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+
+    /**
+    * Writes whole seconds and, if there are any, up to 15 digits of fractional seconds, matching the
+    digits of the round-trip representation of the seconds, truncated, with trailing zeros removed.
+    */
+    private static int writeSeconds(double second, @Nonnull char[] buffer, int offset) {
+        int wholeSeconds = (int) second;
+        offset = writeDigits(wholeSeconds, 2, buffer, offset);
+        if (second == wholeSeconds) {
+            return offset;
+        }
+        // Find the shortest decimal which reproduces the seconds exactly.  Short fractions, such as
+        // milliseconds, are found directly; anything longer uses the round-trip formatting of the seconds.
+        for (int digits = 1; digits <= MaximumDirectFractionDigits; ++digits) {
+            long scaled = Math.round(second * s_powersOfTen[digits]);
+            if (scaled / s_powersOfTen[digits] == second) {
+                long fraction = scaled - wholeSeconds * (long) s_powersOfTen[digits];
+                while (fraction % 10 == 0) {
+                    fraction /= 10;
+                    --digits;
+                }
+                buffer[offset++] = '.';
+                for (int i = offset + digits - 1; i >= offset; --i) {
+                    buffer[i] = (char) ('0' + fraction % 10);
+                    fraction /= 10;
+                }
+                return offset + digits;
+            }
+        }
+        return writeRoundTripFraction(second, buffer, offset);
+    }
+
+    private static int writeRoundTripFraction(double second, @Nonnull char[] buffer, int offset) {
+        NumberFormatInfo nfi = NumberFormatInfo.getInvariantInfo();
+        String formattedSeconds = DoubleHelper.toString(second, "R", CultureInfoHelper.getInvariantCulture());
+        formattedSeconds = StringFormatting.toNonExponentialNotation(nfi, formattedSeconds);
+        int indexOfDecimalPoint = formattedSeconds.indexOf('.');
+        if (indexOfDecimalPoint < 0) {
+            return offset;
+        }
+        int end = Math.min(formattedSeconds.length(), indexOfDecimalPoint + 1 + MaximumFractionDigits);
+        while (end > indexOfDecimalPoint + 1 && formattedSeconds.charAt(end - 1) == '0') {
+            --end;
+        }
+        if (end == indexOfDecimalPoint + 1) {
+            return offset;
+        }
+        formattedSeconds.getChars(indexOfDecimalPoint, end, buffer, offset);
+        return offset + end - indexOfDecimalPoint;
+    }
+
+    private static int copy(@Nonnull String value, @Nonnull char[] buffer, int offset) {
+        value.getChars(0, value.length(), buffer, offset);
+        return offset + value.length();
+    }
+
+    @Nonnull
+    private static String[] createClampedStrings(@Nonnull GregorianDate date) {
+        Iso8601Format[] formats = Iso8601Format.values();
+        String[] result = new String[formats.length];
+        for (Iso8601Format format : formats) {
+            result[format.ordinal()] = date.toIso8601String(format);
+        }
+        return result;
+    }
+
+    private static final int MaximumFractionDigits = 15;
+    private static final int MaximumDirectFractionDigits = 9;
+    @Nonnull
+    private static final double[] s_powersOfTen = new double[] {
+            1e0,
+            1e1,
+            1e2,
+            1e3,
+            1e4,
+            1e5,
+            1e6,
+            1e7,
+            1e8,
+            1e9
+    };
+    @Nonnull
+    private static final JulianDate s_minimumDate = GregorianDate.MinValue.toJulianDate();
+    @Nonnull
+    private static final JulianDate s_maximumDate = GregorianDate.MaxValue.toJulianDate();
+    @Nonnull
+    private static final String[] s_minimumStrings = createClampedStrings(GregorianDate.MinValue);
+    @Nonnull
+    private static final String[] s_maximumStrings = createClampedStrings(GregorianDate.MaxValue);
+    @Nonnull
+    private static final ThreadLocal<char[]> s_buffer = ThreadLocal.withInitial(() -> new char[MaximumIntervalLength]);
+}
@@ -0,0 +1,374 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.CultureInfoHelper;
+import cesiumlanguagewriter.*;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nonnull;
+
+/**
+ * Parses ISO 8601 date strings, such as those written by {@link Iso8601Formatter}, directly into
+ {@link JulianDate JulianDates}.
+ <p>
+ The strict parser reads the characters in place, without creating an intermediate
+ {@link GregorianDate}, string or pattern list, and accepts only the following forms, where a
+ time may be followed by "Z":
+ </p>
+ <ul>
+ <li>
+ the extended format "YYYY-MM-DDThh:mm:ss.sss", where the time, the seconds, and the fractional
+ seconds may be omitted
+ </li>
+ <li>
+ the "day of year" equivalent "YYYY-DDDThh:mm:ss.sss", with the same optional parts
+ </li>
+ <li>
+ the basic and compact formats "YYYYMMDDThhmmss.sss", where the seconds and minutes, and the
+ fractional seconds, may be omitted
+ </li>
+ </ul>
+ <p>
+ Any other string is passed to {@link GregorianDate#parse(String, java.util.Locale)} by the
+ {@code parse} methods.  Dates are interpreted as UTC, so the result is identical to parsing
+ the string with {@link GregorianDate} and calling {@link GregorianDate#toJulianDate()}.
+ </p>
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class Iso8601Parser {
+    private Iso8601Parser() {}
+
+    /**
+    * Parses an ISO 8601 date string, falling back to the general {@link GregorianDate} parser
+    if the string is not in one of the forms accepted by the strict parser.
+    * @param s The string to parse.
+    * @return The parsed date.
+    * @exception ArgumentNullException Thrown if {@code s} is {@code null}.
+    * @exception NumberFormatException Thrown if {@code s} does not contain a valid string representation of a date and time.
+    */
+    @Nonnull
+    public static JulianDate parse(@Nonnull CharSequence s) {
+        if (s == null) {
+            throw new ArgumentNullException("s");
+        }
+        return parse(s, 0, s.length());
+    }
+
+    /**
+    * Parses part of a character sequence as an ISO 8601 date string, falling back to the general
+    {@link GregorianDate} parser if the string is not in one of the forms accepted by the strict parser.
+    * @param s The characters containing the string.
+    * @param offset The index of the first character of the string.
+    * @param length The number of characters in the string.
+    * @return The parsed date.
+    * @exception ArgumentNullException Thrown if {@code s} is {@code null}.
+    * @exception NumberFormatException Thrown if the characters do not contain a valid string representation of a date and time.
+    */
+    @Nonnull
+    public static JulianDate parse(@Nonnull CharSequence s, int offset, int length) {
+        checkRange(s, "s", offset, length, s == null ? 0 : s.length());
+        JulianDate result = parseStrict(s, offset, length);
+        if (result == null) {
+            String value = s.subSequence(offset, offset + length).toString();
+            result = GregorianDate.parse(value, CultureInfoHelper.getInvariantCulture()).toJulianDate();
+        }
+        return result;
+    }
+
+    /**
+    * Parses an ISO 8601 date string stored as ASCII or UTF-8 bytes, falling back to the general
+    {@link GregorianDate} parser if the string is not in one of the forms accepted by the strict parser.
+    * @param bytes The bytes containing the string.
+    * @param offset The index of the first byte of the string.
+    * @param length The number of bytes in the string.
+    * @return The parsed date.
+    * @exception ArgumentNullException Thrown if {@code bytes} is {@code null}.
+    * @exception NumberFormatException Thrown if the bytes do not contain a valid string representation of a date and time.
+    */
+    @Nonnull
+    public static JulianDate parse(@Nonnull byte[] bytes, int offset, int length) {
+        checkRange(bytes, "bytes", offset, length, bytes == null ? 0 : bytes.length);
+        JulianDate result = parseStrict(bytes, offset, length);
+        if (result == null) {
+            String s = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            result = GregorianDate.parse(s, CultureInfoHelper.getInvariantCulture()).toJulianDate();
+        }
+        return result;
+    }
+
+    /**
+    * Parses an ISO 8601 date string using only the strict parser.
+    * @param s The string to parse.
+    * @param result On input, an array with one element.  On return, the array is populated with
+    the parsed date, if the string was parsed successfully.
+    * @return {@code true} if {@code s} was parsed successfully; otherwise {@code false}.
+    */
+    public static boolean tryParse(@Nonnull CharSequence s, @Nonnull JulianDate[] result) {
+        if (s == null) {
+            throw new ArgumentNullException("s");
+        }
+        return tryParse(s, 0, s.length(), result);
+    }
+
+    /**
+    * Parses part of a character sequence as an ISO 8601 date string using only the strict parser.
+    * @param s The characters containing the string.
+    * @param offset The index of the first character of the string.
+    * @param length The number of characters in the string.
+    * @param result On input, an array with one element.  On return, the array is populated with
+    the parsed date, if the string was parsed successfully.
+    * @return {@code true} if the string was parsed successfully; otherwise {@code false}.
+    */
+    public static boolean tryParse(@Nonnull CharSequence s, int offset, int length, @Nonnull JulianDate[] result) {
+        checkRange(s, "s", offset, length, s == null ? 0 : s.length());
+        if (result == null) {
+            throw new ArgumentNullException("result");
+        }
+        result[0] = parseStrict(s, offset, length);
+        return result[0] != null;
+    }
+
+    /**
+    * Parses an ISO 8601 date string stored as ASCII or UTF-8 bytes using only the strict parser.
+    * @param bytes The bytes containing the string.
+    * @param offset The index of the first byte of the string.
+    * @param length The number of bytes in the string.
+    * @param result On input, an array with one element.  On return, the array is populated with
+    the parsed date, if the string was parsed successfully.
+    * @return {@code true} if the string was parsed successfully; otherwise {@code false}.
+    */
+    public static boolean tryParse(@Nonnull byte[] bytes, int offset, int length, @Nonnull JulianDate[] result) {
+        checkRange(bytes, "bytes", offset, length, bytes == null ? 0 : bytes.length);
+        if (result == null) {
+            throw new ArgumentNullException("result");
+        }
+        result[0] = parseStrict(bytes, offset, length);
+        return result[0] != null;
+    }
+
+    private static void checkRange(Object source, @Nonnull String sourceName, int offset, int length, int sourceLength) {
+        if (source == null) {
+            throw new ArgumentNullException(sourceName);
+        }
+        if (offset < 0 || offset > sourceLength) {
+            throw new ArgumentOutOfRangeException("offset");
+        }
+        if (length < 0 || length > sourceLength - offset) {
+            throw new ArgumentOutOfRangeException("length");
+        }
+    }
+
+    /**
+    * Parses a string in one of the strict forms, reading characters from either a
+    {@link CharSequence} or a byte array.
+    * @return The parsed date, or {@code null} if the string is not in one of the strict forms
+    or does not represent a valid date.
+    */
+    private static JulianDate parseStrict(@Nonnull Object source, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        if (end - i < 4) {
+            return null;
+        }
+        int year = digits(source, i, 4);
+        i += 4;
+        if (year < 0 || i == end) {
+            return null;
+        }
+        int month;
+        int day = 0;
+        int dayOfYear = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        double fractionalSeconds = 0.0;
+        boolean hasTime = true;
+        if (charAt(source, i) == '-') {
+            // Extended format, either YYYY-MM-DD or YYYY-DDD.
+            ++i;
+            int run = digitRun(source, i, end);
+            if (run == 2) {
+                month = digits(source, i, 2);
+                i += 2;
+                if (end - i < 3 || charAt(source, i) != '-') {
+                    return null;
+                }
+                day = digits(source, i + 1, 2);
+                i += 3;
+            } else if (run == 3) {
+                month = 0;
+                dayOfYear = digits(source, i, 3);
+                i += 3;
+            } else {
+                return null;
+            }
+            if (i < end && charAt(source, i) == 'T') {
+                // Time is hh:mm or hh:mm:ss, with optional fractional seconds.
+                if (end - i < 6 || charAt(source, i + 3) != ':') {
+                    return null;
+                }
+                hour = digits(source, i + 1, 2);
+                minute = digits(source, i + 4, 2);
+                i += 6;
+                if (i < end && charAt(source, i) == ':') {
+                    if (end - i < 3) {
+                        return null;
+                    }
+                    second = digits(source, i + 1, 2);
+                    i += 3;
+                    if (i < end && charAt(source, i) == '.') {
+                        int fractionEnd = fractionEnd(source, i + 1, end);
+                        if (fractionEnd < 0) {
+                            return null;
+                        }
+                        fractionalSeconds = fraction(source, i + 1, fractionEnd);
+                        i = fractionEnd;
+                    }
+                }
+            } else {
+                hasTime = false;
+            }
+        } else {
+            // Basic or compact format, YYYYMMDDThh[mm[ss[.sss]]].  The time is required.
+            if (end - i < 7 || charAt(source, i + 4) != 'T') {
+                return null;
+            }
+            month = digits(source, i, 2);
+            day = digits(source, i + 2, 2);
+            hour = digits(source, i + 5, 2);
+            i += 7;
+            if (digitRun(source, i, end) >= 2) {
+                minute = digits(source, i, 2);
+                i += 2;
+                if (digitRun(source, i, end) >= 2) {
+                    second = digits(source, i, 2);
+                    i += 2;
+                    if (i < end && charAt(source, i) == '.') {
+                        int fractionEnd = fractionEnd(source, i + 1, end);
+                        if (fractionEnd < 0) {
+                            return null;
+                        }
+                        fractionalSeconds = fraction(source, i + 1, fractionEnd);
+                        i = fractionEnd;
+                    }
+                }
+            }
+        }
+        if (hasTime && i < end && charAt(source, i) == 'Z') {
+            ++i;
+        }
+        if (i != end || month < 0 || day < 0 || dayOfYear < 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+        if (year < 1 || hour >= 24 || minute >= 60 || second > 60) {
+            return null;
+        }
+        int julianDayNumber;
+        if (month == 0) {
+            if (dayOfYear < 1 || dayOfYear > YearMonthDay.daysInYear(year)) {
+                return null;
+            }
+            julianDayNumber = julianDayNumber(year, 1, 1) + dayOfYear - 1;
+        } else {
+            if (month > 12 || day < 1 || day > YearMonthDay.daysInMonth(year, month)) {
+                return null;
+            }
+            julianDayNumber = julianDayNumber(year, month, day);
+        }
+        double seconds = second + fractionalSeconds;
+        boolean isLeapSecond = seconds >= 60.0;
+        if (isLeapSecond && (seconds >= 61.0 || hour != 23 || minute != 59 || !LeapSeconds.getInstance().doesDayHaveLeapSecond(julianDayNumber))) {
+            return null;
+        }
+        // Convert to noon-based Julian seconds, the same way as GregorianDate.toJulianDate.
+        int julianHour = hour - 12;
+        if (julianHour < 0) {
+            julianHour += 24;
+        }
+        double julianSecondsOfDay = seconds + julianHour * TimeConstants.SecondsPerHour + minute * TimeConstants.SecondsPerMinute;
+        if (isLeapSecond) {
+            julianSecondsOfDay -= 1.0;
+        } else if (julianSecondsOfDay >= 43200.0) {
+            julianDayNumber -= 1;
+        }
+        JulianDate result = new JulianDate(julianDayNumber, julianSecondsOfDay, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+        if (isLeapSecond) {
+            result = result.addSeconds(1.0);
+        }
+        return result;
+    }
+
+    private static int julianDayNumber(int year, int month, int day) {
+        // Algorithm from page 604 of the Explanatory Supplement to the
+        // Astronomical Almanac (Seidelmann 1992).
+        int a = (month - 14) / 12;
+        int b = year + 4800 + a;
+        return 1461 * b / 4 + 367 * (month - 2 - 12 * a) / 12 - 3 * ((b + 100) / 100) / 4 + day - 32075;
+    }
+
+    private static int charAt(@Nonnull Object source, int index) {
+        if (source instanceof byte[]) {
+            return ((byte[]) source)[index] & 0xFF;
+        }
+        return ((CharSequence) source).charAt(index);
+    }
+
+    /**
+    * Reads a fixed number of ASCII digits, returning -1 if any character is not a digit.
+    */
+    private static int digits(@Nonnull Object source, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; ++i) {
+            int digit = charAt(source, i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digitRun(@Nonnull Object source, int index, int end) {
+        int i = index;
+        while (i < end) {
+            int c = charAt(source, i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            ++i;
+        }
+        return i - index;
+    }
+
+    /**
+    * Finds the end of the fractional second digits, returning -1 if there are none or
+    too many to be read exactly.
+    */
+    private static int fractionEnd(@Nonnull Object source, int index, int end) {
+        int run = digitRun(source, index, end);
+        if (run < 1 || run > MaximumFractionalDigits) {
+            return -1;
+        }
+        return index + run;
+    }
+
+    private static double fraction(@Nonnull Object source, int index, int end) {
+        long value = 0L;
+        for (int i = index; i < end; ++i) {
+            value = value * 10L + (charAt(source, i) - '0');
+        }
+        // Divide the same way as the general parser so the results are identical.
+        return (double) value / Math.pow(10.0, end - index);
+    }
+
+    /**
+    * The largest number of fractional second digits accepted, matching the general parser.
+    */
+    private static final int MaximumFractionalDigits = 17;
+}
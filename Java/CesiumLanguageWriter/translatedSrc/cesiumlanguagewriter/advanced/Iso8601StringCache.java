@@ -0,0 +1,240 @@
+package cesiumlanguagewriter.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import cesiumlanguagewriter.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+
+/**
+ * A bounded cache of formatted ISO 8601 date and interval strings, for dates which recur throughout
+ a document, such as the boundaries of availability intervals and common epochs.
+ <p>
+ The cache has a fixed number of slots, and each date or interval, together with its format, maps
+ to a single slot.  Formatting a value whose slot holds a different value replaces, and so evicts,
+ the previous value.  Lookups do not lock, so an instance may be shared by many threads.
+ <p>
+ Formatting a date which is not in UTC converts it using the current {@link LeapSeconds#getInstance leap seconds},
+ so each value is cached along with the leap seconds that were current when it was formatted, and is only
+ used while they remain current.
+ */
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+public final class Iso8601StringCache {
+    /**
+    * Initializes a new instance.
+    * @param capacity The number of values to cache.  This is rounded up to a power of two.
+    */
+    public Iso8601StringCache(int capacity) {
+        if (capacity < 1 || capacity > MaximumCapacity) {
+            throw new ArgumentOutOfRangeException("capacity");
+        }
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) {
+            slots <<= 1;
+        }
+        m_entries = new AtomicReferenceArray<Entry>(slots);
+        m_mask = slots - 1;
+    }
+
+    /**
+    * Gets the cache used by {@link CesiumFormattingHelper#toIso8601} and {@link CesiumFormattingHelper#toIso8601Interval}.
+    The CZML writers format dates directly into the output stream without creating strings, and do not use the cache.
+    */
+    @Nonnull
+    public static Iso8601StringCache getDefault() {
+        return s_default;
+    }
+
+    /**
+    * Gets the number of values the cache can hold.
+    */
+    public final int getCapacity() {
+        return m_mask + 1;
+    }
+
+    /**
+    * Gets the number of lookups which found the value in the cache.
+    */
+    public final long getHitCount() {
+        return m_hits.sum();
+    }
+
+    /**
+    * Gets the number of lookups which had to format the value.
+    */
+    public final long getMissCount() {
+        return m_misses.sum();
+    }
+
+    /**
+    * Gets the number of cached values which were removed from the cache to make room for a different value.
+    */
+    public final long getEvictionCount() {
+        return m_evictions.sum();
+    }
+
+    /**
+    * Gets the fraction of lookups which found the value in the cache, or zero if there have been no lookups.
+    */
+    public final double getHitRate() {
+        long hits = m_hits.sum();
+        long total = hits + m_misses.sum();
+        return total == 0L ? 0.0 : (double) hits / total;
+    }
+
+    /**
+    * Removes all values from the cache and resets the statistics.
+    */
+    public final void clear() {
+        for (int i = 0; i < m_entries.length(); ++i) {
+            m_entries.set(i, null);
+        }
+        m_hits.reset();
+        m_misses.reset();
+        m_evictions.reset();
+    }
+
+    /**
+    * Gets a date formatted as an ISO 8601 string, formatting and caching it if necessary.
+    * @param date The date to format.
+    * @param format The format to use.
+    * @return The formatted date, identical to {@link Iso8601Formatter#toIso8601}.
+    */
+    @Nonnull
+    public final String toIso8601(@Nonnull JulianDate date, @Nonnull Iso8601Format format) {
+        if (date == null) {
+            throw new ArgumentNullException("date");
+        }
+        if (format == null) {
+            throw new ArgumentNullException("format");
+        }
+        LeapSeconds leapSeconds = LeapSeconds.getInstance();
+        int slot = hash(date, format, 0) & m_mask;
+        Entry entry = m_entries.get(slot);
+        if (entry != null && !entry.IsInterval && entry.LeapSecondTable == leapSeconds && entry.matches(date, format) && entry.matchesStop(date)) {
+            m_hits.increment();
+            return entry.Value;
+        }
+        m_misses.increment();
+        String value = Iso8601Formatter.toIso8601(date, format);
+        store(slot, new Entry(date, date, format, false, leapSeconds, value));
+        return value;
+    }
+
+    /**
+    * Gets an interval formatted as an ISO 8601 interval string, formatting and caching it if necessary.
+    * @param start The start of the interval.
+    * @param stop The end of the interval.
+    * @param format The format to use.
+    * @return The formatted interval, identical to {@link Iso8601Formatter#toIso8601Interval}.
+    */
+    @Nonnull
+    public final String toIso8601Interval(@Nonnull JulianDate start, @Nonnull JulianDate stop, @Nonnull Iso8601Format format) {
+        if (start == null) {
+            throw new ArgumentNullException("start");
+        }
+        if (stop == null) {
+            throw new ArgumentNullException("stop");
+        }
+        if (format == null) {
+            throw new ArgumentNullException("format");
+        }
+        LeapSeconds leapSeconds = LeapSeconds.getInstance();
+        int slot = hash(start, format, hash(stop, format, 1)) & m_mask;
+        Entry entry = m_entries.get(slot);
+        if (entry != null && entry.IsInterval && entry.LeapSecondTable == leapSeconds && entry.matches(start, format) && entry.matchesStop(stop)) {
+            m_hits.increment();
+            return entry.Value;
+        }
+        m_misses.increment();
+        String value = Iso8601Formatter.toIso8601Interval(start, stop, format);
+        store(slot, new Entry(start, stop, format, true, leapSeconds, value));
+        return value;
+    }
+
+    private void store(int slot, @Nonnull Entry entry) {
+        Entry previous = m_entries.getAndSet(slot, entry);
+        // Another thread may have just stored the same value, and a value formatted with
+        // leap seconds that are no longer current could not be used again; neither is an eviction.
+        if (previous != null && previous.LeapSecondTable == entry.LeapSecondTable && !previous.sameKey(entry)) {
+            m_evictions.increment();
+        }
+    }
+
+    private static int hash(@Nonnull JulianDate date, @Nonnull Iso8601Format format, int seed) {
+        long bits = Double.doubleToLongBits(date.getSecondsOfDay());
+        int h = seed * 31 + date.getDay();
+        h = h * 31 + (int) (bits ^ (bits >>> 32));
+        h = h * 31 + date.getStandard().ordinal() * 4 + format.ordinal();
+        // Spread the bits so that nearby dates use different slots.
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    private static final int MaximumCapacity = 1 << 24;
+    @Nonnull
+    private static final Iso8601StringCache s_default = new Iso8601StringCache(4096);
+    @Nonnull
+    private final AtomicReferenceArray<Entry> m_entries;
+    private final int m_mask;
+    @Nonnull
+    private final LongAdder m_hits = new LongAdder();
+    @Nonnull
+    private final LongAdder m_misses = new LongAdder();
+    @Nonnull
+    private final LongAdder m_evictions = new LongAdder();
+
+    private static final class Entry {
+        public Entry(@Nonnull JulianDate start, @Nonnull JulianDate stop, @Nonnull Iso8601Format format, boolean isInterval, @Nonnull LeapSeconds leapSecondTable,
+                @Nonnull String value) {
+            StartDay = start.getDay();
+            StartSecondsOfDay = start.getSecondsOfDay();
+            StartStandard = start.getStandard();
+            StopDay = stop.getDay();
+            StopSecondsOfDay = stop.getSecondsOfDay();
+            StopStandard = stop.getStandard();
+            Format = format;
+            IsInterval = isInterval;
+            LeapSecondTable = leapSecondTable;
+            Value = value;
+        }
+
+        public final boolean matches(@Nonnull JulianDate start, @Nonnull Iso8601Format format) {
+            return StartDay == start.getDay() && StartSecondsOfDay == start.getSecondsOfDay() && StartStandard == start.getStandard() && Format == format;
+        }
+
+        public final boolean matchesStop(@Nonnull JulianDate stop) {
+            return StopDay == stop.getDay() && StopSecondsOfDay == stop.getSecondsOfDay() && StopStandard == stop.getStandard();
+        }
+
+        public final boolean sameKey(@Nonnull Entry other) {
+            return StartDay == other.StartDay && StartSecondsOfDay == other.StartSecondsOfDay && StartStandard == other.StartStandard && StopDay == other.StopDay
+                    && StopSecondsOfDay == other.StopSecondsOfDay && StopStandard == other.StopStandard && Format == other.Format && IsInterval == other.IsInterval;
+        }
+
+        public final int StartDay;
+        public final double StartSecondsOfDay;
+        @Nonnull
+        public final TimeStandard StartStandard;
+        public final int StopDay;
+        public final double StopSecondsOfDay;
+        @Nonnull
+        public final TimeStandard StopStandard;
+        @Nonnull
+        public final Iso8601Format Format;
+        public final boolean IsInterval;
+        @Nonnull
+        public final LeapSeconds LeapSecondTable;
+        @Nonnull
+        public final String Value;
+    }
+}
@@ -0,0 +1,20 @@
+package cesiumlanguagewriter.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the member which provides the {@code scale} of the {@code billboard} of an object.
+ * <p>
+ * The annotated member must be a non-private, non-static field, or a non-private, non-static method
+ * with no parameters, of type {@code double}, {@code float} or {@code int}.
+ * {@link CzmlMapperProcessor} generates a mapper class which reads it when writing a packet.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({
+    ElementType.FIELD,
+    ElementType.METHOD
+})
+public @interface CzmlBillboardScale {}
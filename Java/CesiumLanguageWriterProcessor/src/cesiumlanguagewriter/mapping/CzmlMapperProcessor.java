@@ -0,0 +1,321 @@
+package cesiumlanguagewriter.mapping;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * An annotation processor which generates, for each class with members annotated with {@link CzmlId},
+ * {@link CzmlPosition}, {@link CzmlBillboardScale} or {@link CzmlLabelText}, a mapper class in the same package
+ * named after the class with the suffix {@code CzmlMapper}.  The mapper has static {@code writePacket} and
+ * {@code writeProperties} methods, which read the annotated members and pass their values straight to the
+ * CZML writers, without reflection, boxing or allocation.
+ * <p>
+ * Add this module to the annotation processor path of the project containing the annotated classes,
+ * and to its compile-only classpath so that the annotations can be resolved.
+ */
+@SupportedAnnotationTypes({
+    "cesiumlanguagewriter.mapping.CzmlId",
+    "cesiumlanguagewriter.mapping.CzmlPosition",
+    "cesiumlanguagewriter.mapping.CzmlBillboardScale",
+    "cesiumlanguagewriter.mapping.CzmlLabelText"
+})
+public final class CzmlMapperProcessor extends AbstractProcessor {
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        LinkedHashMap<TypeElement, EnumMap<MemberKind, Member>> types = new LinkedHashMap<TypeElement, EnumMap<MemberKind, Member>>();
+        for (MemberKind kind : MemberKind.values()) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(kind.annotation)) {
+                Member member = createMember(kind, element);
+                if (member == null) {
+                    continue;
+                }
+                TypeElement type = (TypeElement) element.getEnclosingElement();
+                EnumMap<MemberKind, Member> members = types.get(type);
+                if (members == null) {
+                    members = new EnumMap<MemberKind, Member>(MemberKind.class);
+                    types.put(type, members);
+                }
+                if (members.containsKey(kind)) {
+                    error(element, "Only one member of a class can be annotated with @" + kind.annotation.getSimpleName() + ".");
+                    continue;
+                }
+                members.put(kind, member);
+            }
+        }
+        for (Map.Entry<TypeElement, EnumMap<MemberKind, Member>> entry : types.entrySet()) {
+            writeMapper(entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Validates an annotated member, and returns a description of it, or {@code null} after reporting an error.
+     */
+    private Member createMember(MemberKind kind, Element element) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+            error(element, "A member annotated with @" + kind.annotation.getSimpleName() + " must not be private or static.");
+            return null;
+        }
+        Element enclosing = element.getEnclosingElement();
+        if (enclosing.getKind() != ElementKind.CLASS || enclosing.getModifiers().contains(Modifier.PRIVATE)
+                || ((TypeElement) enclosing).getNestingKind() == NestingKind.LOCAL || ((TypeElement) enclosing).getNestingKind() == NestingKind.ANONYMOUS) {
+            error(element, "A member annotated with @" + kind.annotation.getSimpleName() + " must belong to a class which is visible within its package.");
+            return null;
+        }
+        TypeMirror type;
+        String expression;
+        if (element.getKind() == ElementKind.FIELD) {
+            type = element.asType();
+            expression = "source." + element.getSimpleName();
+        } else {
+            ExecutableElement method = (ExecutableElement) element;
+            if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                error(element, "A method annotated with @" + kind.annotation.getSimpleName() + " must have no parameters and return a value.");
+                return null;
+            }
+            type = method.getReturnType();
+            expression = "source." + element.getSimpleName() + "()";
+        }
+        String writeMethod = kind.getWriteMethod(type, element);
+        if (writeMethod == null) {
+            error(element, "A member annotated with @" + kind.annotation.getSimpleName() + " must have " + kind.typeDescription + ".");
+            return null;
+        }
+        return new Member(kind, expression, type.toString(), writeMethod, !type.getKind().isPrimitive());
+    }
+
+    private void writeMapper(TypeElement type, EnumMap<MemberKind, Member> members) {
+        String packageName = getPackage(type).getQualifiedName().toString();
+        String mapperName = getFlatName(type) + "CzmlMapper";
+        String sourceName = type.getQualifiedName().toString();
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("/**\n");
+        code.append(" * Writes instances of {@link ").append(sourceName).append("} as CZML packets.\n");
+        code.append(" * This class was generated by {@code ").append(CzmlMapperProcessor.class.getName()).append("}.  Do not edit it.\n");
+        code.append(" */\n");
+        code.append("public final class ").append(mapperName).append(" {\n");
+        code.append("    private ").append(mapperName).append("() {}\n\n");
+        code.append("    /**\n");
+        code.append("     * Writes a packet containing the mapped properties of an object.\n");
+        code.append("     * @param writer The stream writer which opens the packet.\n");
+        code.append("     * @param output The stream to which to write the packet.\n");
+        code.append("     * @param source The object.\n");
+        code.append("     */\n");
+        code.append("    public static void writePacket(cesiumlanguagewriter.CesiumStreamWriter writer, cesiumlanguagewriter.CesiumOutputStream output, ").append(sourceName).append(" source) {\n");
+        code.append("        try (cesiumlanguagewriter.PacketCesiumWriter packet = writer.openPacket(output)) {\n");
+        code.append("            writeProperties(packet, source);\n");
+        code.append("        }\n");
+        code.append("    }\n\n");
+        code.append("    /**\n");
+        code.append("     * Writes the mapped properties of an object to an open packet.\n");
+        code.append("     * @param packet The packet.\n");
+        code.append("     * @param source The object.\n");
+        code.append("     */\n");
+        code.append("    public static void writeProperties(cesiumlanguagewriter.PacketCesiumWriter packet, ").append(sourceName).append(" source) {\n");
+        LinkedHashMap<Group, ArrayList<Member>> groups = new LinkedHashMap<Group, ArrayList<Member>>();
+        for (Member member : members.values()) {
+            ArrayList<Member> groupMembers = groups.get(member.kind.group);
+            if (groupMembers == null) {
+                groupMembers = new ArrayList<Member>();
+                groups.put(member.kind.group, groupMembers);
+            }
+            groupMembers.add(member);
+        }
+        for (Map.Entry<Group, ArrayList<Member>> entry : groups.entrySet()) {
+            writeGroup(code, entry.getKey(), entry.getValue());
+        }
+        code.append("    }\n");
+        code.append("}\n");
+        try {
+            Writer writer = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? mapperName : packageName + "." + mapperName, type).openWriter();
+            try {
+                writer.write(code.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            error(type, "The CZML mapper could not be written: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the statements which read a group of members and write their values with the same writer.
+     * Nothing is written for the group if every value is {@code null}.
+     */
+    private static void writeGroup(StringBuilder code, Group group, ArrayList<Member> members) {
+        boolean anyPrimitive = false;
+        StringBuilder anyNotNull = new StringBuilder();
+        for (Member member : members) {
+            code.append("        ").append(member.type).append(' ').append(member.kind.variable).append(" = ").append(member.expression).append(";\n");
+            if (member.nullable) {
+                if (anyNotNull.length() > 0) {
+                    anyNotNull.append(" || ");
+                }
+                anyNotNull.append(member.kind.variable).append(" != null");
+            } else {
+                anyPrimitive = true;
+            }
+        }
+        String indent = "        ";
+        if (!anyPrimitive) {
+            code.append(indent).append("if (").append(anyNotNull).append(") {\n");
+            indent += "    ";
+        }
+        String target = "packet";
+        if (group.writerType != null) {
+            target = group.variable;
+            code.append(indent).append("try (cesiumlanguagewriter.").append(group.writerType).append(' ').append(target).append(" = packet.").append(group.openMethod).append("()) {\n");
+            indent += "    ";
+        }
+        boolean guardEach = members.size() > 1;
+        for (Member member : members) {
+            if (member.nullable && guardEach) {
+                code.append(indent).append("if (").append(member.kind.variable).append(" != null) {\n");
+                code.append(indent).append("    ").append(target).append('.').append(member.writeMethod).append('(').append(member.kind.variable).append(");\n");
+                code.append(indent).append("}\n");
+            } else {
+                code.append(indent).append(target).append('.').append(member.writeMethod).append('(').append(member.kind.variable).append(");\n");
+            }
+        }
+        while (indent.length() > 8) {
+            indent = indent.substring(4);
+            code.append(indent).append("}\n");
+        }
+    }
+
+    private static PackageElement getPackage(Element element) {
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return (PackageElement) element;
+    }
+
+    /**
+     * Gets the simple names of a type and of the types enclosing it, concatenated.
+     */
+    private static String getFlatName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        Element enclosing = type.getEnclosingElement();
+        return enclosing instanceof TypeElement ? getFlatName((TypeElement) enclosing) + name : name;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A writer opened on the packet to write one or more mapped members.
+     */
+    private static enum Group {
+        PACKET(null, null, null),
+        POSITION("PositionCesiumWriter", "openPositionProperty", "positionWriter"),
+        BILLBOARD("BillboardCesiumWriter", "openBillboardProperty", "billboard"),
+        LABEL("LabelCesiumWriter", "openLabelProperty", "label");
+
+        private Group(String writerType, String openMethod, String variable) {
+            this.writerType = writerType;
+            this.openMethod = openMethod;
+            this.variable = variable;
+        }
+
+        final String writerType;
+        final String openMethod;
+        final String variable;
+    }
+
+    /**
+     * The kinds of annotated members, in the order in which they are written.
+     */
+    private static enum MemberKind {
+        ID(CzmlId.class, Group.PACKET, "id", "type String"),
+        POSITION(CzmlPosition.class, Group.POSITION, "position", "type cesiumlanguagewriter.Cartesian or cesiumlanguagewriter.Cartographic"),
+        BILLBOARD_SCALE(CzmlBillboardScale.class, Group.BILLBOARD, "billboardScale", "type double, float or int"),
+        LABEL_TEXT(CzmlLabelText.class, Group.LABEL, "labelText", "type String");
+
+        private MemberKind(Class<? extends Annotation> annotation, Group group, String variable, String typeDescription) {
+            this.annotation = annotation;
+            this.group = group;
+            this.variable = variable;
+            this.typeDescription = typeDescription;
+        }
+
+        /**
+         * Gets the method of the group's writer which writes a value of the given type, or {@code null} if the type is not supported.
+         */
+        final String getWriteMethod(TypeMirror type, Element element) {
+            String typeName = type.toString();
+            switch (this) {
+            case ID:
+                return "java.lang.String".equals(typeName) ? "writeId" : null;
+            case POSITION:
+                if ("cesiumlanguagewriter.Cartesian".equals(typeName)) {
+                    return "writeCartesian";
+                }
+                if ("cesiumlanguagewriter.Cartographic".equals(typeName)) {
+                    return element.getAnnotation(CzmlPosition.class).degrees() ? "writeCartographicDegrees" : "writeCartographicRadians";
+                }
+                return null;
+            case BILLBOARD_SCALE:
+                TypeKind kind = type.getKind();
+                return kind == TypeKind.DOUBLE || kind == TypeKind.FLOAT || kind == TypeKind.INT ? "writeScaleProperty" : null;
+            case LABEL_TEXT:
+                return "java.lang.String".equals(typeName) ? "writeTextProperty" : null;
+            default:
+                return null;
+            }
+        }
+
+        final Class<? extends Annotation> annotation;
+        final Group group;
+        final String variable;
+        final String typeDescription;
+    }
+
+    /**
+     * A validated annotated member.
+     */
+    private static final class Member {
+        public Member(MemberKind kind, String expression, String type, String writeMethod, boolean nullable) {
+            this.kind = kind;
+            this.expression = expression;
+            this.type = type;
+            this.writeMethod = writeMethod;
+            this.nullable = nullable;
+        }
+
+        final MemberKind kind;
+        final String expression;
+        final String type;
+        final String writeMethod;
+        final boolean nullable;
+    }
+}
@@ -0,0 +1,27 @@
+package cesiumlanguagewriter.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the member which provides the {@code position} of an object.
+ * <p>
+ * The annotated member must be a non-private, non-static field, or a non-private, non-static method
+ * with no parameters, of type {@code cesiumlanguagewriter.Cartesian}, which is written as {@code cartesian},
+ * or of type {@code cesiumlanguagewriter.Cartographic}, which is written as {@code cartographicRadians}
+ * or {@code cartographicDegrees}.  Nothing is written if the value is {@code null}.
+ * {@link CzmlMapperProcessor} generates a mapper class which reads it when writing a packet.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({
+    ElementType.FIELD,
+    ElementType.METHOD
+})
+public @interface CzmlPosition {
+    /**
+     * Whether a {@code Cartographic} value is in degrees rather than radians.  The default is {@code false}.
+     */
+    boolean degrees() default false;
+}
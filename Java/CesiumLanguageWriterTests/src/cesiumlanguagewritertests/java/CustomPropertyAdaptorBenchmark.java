@@ -0,0 +1,144 @@
+package cesiumlanguagewritertests.java;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+
+import cesiumlanguagewriter.Cartesian;
+import cesiumlanguagewriter.Cartographic;
+import cesiumlanguagewriter.CesiumOutputStream;
+import cesiumlanguagewriter.CesiumStreamWriter;
+import cesiumlanguagewriter.CustomPropertiesCesiumWriter;
+import cesiumlanguagewriter.CustomPropertyCesiumWriter;
+import cesiumlanguagewriter.IntegerCesiumWriter;
+import cesiumlanguagewriter.PacketCesiumWriter;
+import cesiumlanguagewriter.UnitQuaternion;
+import cesiumlanguagewriter.advanced.ICesiumBooleanValueWriter;
+import cesiumlanguagewriter.advanced.ICesiumDoubleValueWriter;
+import cesiumlanguagewriter.advanced.ICesiumValuePropertyWriter;
+
+/**
+ * Compares writing custom-property telemetry through the generic {@link ICesiumValuePropertyWriter} view of
+ * the {@code asNumber} and {@code asBoolean} adaptors, which boxes every value, with writing through the
+ * primitive {@link ICesiumDoubleValueWriter} and {@link ICesiumBooleanValueWriter} views, which do not.
+ * Each packet contains three numeric properties and one boolean property, written with long-lived
+ * property writers as a telemetry feed would.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method with the test classpath, optionally
+ * with the argument {@code shared} to first make the adaptor call sites megamorphic.
+ * Allocation is measured with the HotSpot-specific {@code com.sun.management.ThreadMXBean}.
+ */
+public final class CustomPropertyAdaptorBenchmark {
+    private static final int Iterations = 200000;
+    private static final int Rounds = 5;
+
+    public static void main(String[] args) {
+        if (args.length > 0 && "shared".equals(args[0])) {
+            shareAdaptorCallSites();
+        }
+        for (int round = 0; round < Rounds; ++round) {
+            Result generic = run(false);
+            Result primitive = run(true);
+            System.out.printf("Round %d: generic %7.1f ns, %6.1f bytes per packet; primitive %7.1f ns, %6.1f bytes per packet%n",
+                    round, generic.nanoseconds, generic.bytes, primitive.nanoseconds, primitive.bytes);
+        }
+    }
+
+    private static final class Result {
+        double nanoseconds;
+        double bytes;
+    }
+
+    private static Result run(boolean primitive) {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        CustomPropertyCesiumWriter speed = new CustomPropertyCesiumWriter("speed");
+        CustomPropertyCesiumWriter altitude = new CustomPropertyCesiumWriter("altitude");
+        CustomPropertyCesiumWriter heading = new CustomPropertyCesiumWriter("heading");
+        CustomPropertyCesiumWriter engaged = new CustomPropertyCesiumWriter("engaged");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long length = 0;
+        for (int i = 0; i < Iterations; ++i) {
+            stringWriter.getBuffer().setLength(0);
+            output.reset();
+            try (PacketCesiumWriter packet = writer.openPacket(output)) {
+                try (CustomPropertiesCesiumWriter properties = packet.openPropertiesProperty()) {
+                    double value = i * 0.37;
+                    if (primitive) {
+                        writePrimitive(speed, output, value);
+                        writePrimitive(altitude, output, value + 1000.0);
+                        writePrimitive(heading, output, value * 0.5);
+                        engaged.open(output);
+                        ICesiumBooleanValueWriter booleanWriter = engaged.asBoolean();
+                        booleanWriter.writeValue((i & 1) == 0);
+                        engaged.close();
+                    } else {
+                        writeGeneric(speed, output, value);
+                        writeGeneric(altitude, output, value + 1000.0);
+                        writeGeneric(heading, output, value * 0.5);
+                        engaged.open(output);
+                        ICesiumValuePropertyWriter<Boolean> booleanWriter = engaged.asBoolean();
+                        booleanWriter.writeValue((i & 1) == 0);
+                        engaged.close();
+                    }
+                }
+            }
+            length += stringWriter.getBuffer().length();
+        }
+        Result result = new Result();
+        result.nanoseconds = (double) (System.nanoTime() - start) / Iterations;
+        result.bytes = (double) (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / Iterations;
+        if (length == 0) {
+            throw new IllegalStateException();
+        }
+        return result;
+    }
+
+    /**
+     * Writes through the generic adaptors of several other value types first, so that the call sites shared by
+     * all adaptors are megamorphic, as they are in an application writing many kinds of properties.  The JIT
+     * can then no longer inline the callbacks and eliminate the boxing of values written through them.
+     */
+    private static void shareAdaptorCallSites() {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CustomPropertyCesiumWriter property = new CustomPropertyCesiumWriter("property");
+        IntegerCesiumWriter integer = new IntegerCesiumWriter("integer");
+        output.writeStartObject();
+        for (int i = 0; i < Iterations; ++i) {
+            stringWriter.getBuffer().setLength(0);
+            property.open(output);
+            property.asCartesian().writeValue(new Cartesian(i, 2.0, 3.0));
+            property.close();
+            property.open(output);
+            property.asCartographicDegrees().writeValue(new Cartographic(i, 2.0, 3.0));
+            property.close();
+            property.open(output);
+            property.asUnitQuaternion().writeValue(UnitQuaternion.getIdentity());
+            property.close();
+            integer.open(output);
+            integer.asNumber().writeValue(Integer.valueOf(i));
+            integer.close();
+            property.open(output);
+            property.asString().writeValue("value");
+            property.close();
+        }
+    }
+
+    private static void writeGeneric(CustomPropertyCesiumWriter property, CesiumOutputStream output, double value) {
+        property.open(output);
+        ICesiumValuePropertyWriter<Double> writer = property.asNumber();
+        writer.writeValue(value);
+        property.close();
+    }
+
+    private static void writePrimitive(CustomPropertyCesiumWriter property, CesiumOutputStream output, double value) {
+        property.open(output);
+        ICesiumDoubleValueWriter writer = property.asNumber();
+        writer.writeValue(value);
+        property.close();
+    }
+}
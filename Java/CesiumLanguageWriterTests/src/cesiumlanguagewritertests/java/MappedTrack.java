@@ -0,0 +1,51 @@
+package cesiumlanguagewritertests.java;
+
+import cesiumlanguagewriter.Cartesian;
+import cesiumlanguagewriter.mapping.CzmlBillboardScale;
+import cesiumlanguagewriter.mapping.CzmlId;
+import cesiumlanguagewriter.mapping.CzmlLabelText;
+import cesiumlanguagewriter.mapping.CzmlPosition;
+
+/**
+ * A domain object mapped to CZML by the generated {@code MappedTrackCzmlMapper}, using both fields and getters.
+ */
+final class MappedTrack {
+    MappedTrack(String id, Cartesian position, String name, double scale) {
+        this.id = id;
+        this.position = position;
+        m_name = name;
+        this.scale = scale;
+    }
+
+    @CzmlId
+    final String id;
+
+    @CzmlPosition
+    Cartesian position;
+
+    @CzmlBillboardScale
+    double scale;
+
+    @CzmlLabelText
+    String getName() {
+        return m_name;
+    }
+
+    private final String m_name;
+
+    /**
+     * A nested domain object with a cartographic position.
+     */
+    static final class Site {
+        Site(String id, cesiumlanguagewriter.Cartographic location) {
+            this.id = id;
+            this.location = location;
+        }
+
+        @CzmlId
+        final String id;
+
+        @CzmlPosition(degrees = true)
+        final cesiumlanguagewriter.Cartographic location;
+    }
+}
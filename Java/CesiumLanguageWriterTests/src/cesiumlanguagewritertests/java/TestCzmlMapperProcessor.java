@@ -0,0 +1,58 @@
+package cesiumlanguagewritertests.java;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import cesiumlanguagewriter.BillboardCesiumWriter;
+import cesiumlanguagewriter.Cartesian;
+import cesiumlanguagewriter.Cartographic;
+import cesiumlanguagewriter.CesiumOutputStream;
+import cesiumlanguagewriter.CesiumStreamWriter;
+import cesiumlanguagewriter.LabelCesiumWriter;
+import cesiumlanguagewriter.PacketCesiumWriter;
+import cesiumlanguagewriter.PositionCesiumWriter;
+
+/**
+ * Tests the mapper classes generated by {@code cesiumlanguagewriter.mapping.CzmlMapperProcessor}.
+ */
+public class TestCzmlMapperProcessor {
+    @Test
+    public void generatedMapperMatchesWritingDirectly() {
+        MappedTrack track = new MappedTrack("track", new Cartesian(1.0, 2.0, 3.0), "name", 1.5);
+        StringWriter expected = new StringWriter();
+        CesiumOutputStream expectedOutput = new CesiumOutputStream(expected, true);
+        try (PacketCesiumWriter packet = new CesiumStreamWriter().openPacket(expectedOutput)) {
+            packet.writeId("track");
+            try (PositionCesiumWriter position = packet.openPositionProperty()) {
+                position.writeCartesian(new Cartesian(1.0, 2.0, 3.0));
+            }
+            try (BillboardCesiumWriter billboard = packet.openBillboardProperty()) {
+                billboard.writeScaleProperty(1.5);
+            }
+            try (LabelCesiumWriter label = packet.openLabelProperty()) {
+                label.writeTextProperty("name");
+            }
+        }
+        StringWriter actual = new StringWriter();
+        MappedTrackCzmlMapper.writePacket(new CesiumStreamWriter(), new CesiumOutputStream(actual, true), track);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void nullValuesAreNotWritten() {
+        StringWriter actual = new StringWriter();
+        MappedTrackCzmlMapper.writePacket(new CesiumStreamWriter(), new CesiumOutputStream(actual), new MappedTrack(null, null, null, 2.0));
+        assertEquals("{\"billboard\":{\"scale\":2}}", actual.toString());
+    }
+
+    @Test
+    public void nestedClassesAndCartographicPositionsAreMapped() {
+        StringWriter actual = new StringWriter();
+        MappedTrack.Site site = new MappedTrack.Site("site", new Cartographic(10.0, 20.0, 30.0));
+        MappedTrackSiteCzmlMapper.writePacket(new CesiumStreamWriter(), new CesiumOutputStream(actual), site);
+        assertEquals("{\"id\":\"site\",\"position\":{\"cartographicDegrees\":[10,20,30]}}", actual.toString());
+    }
+}
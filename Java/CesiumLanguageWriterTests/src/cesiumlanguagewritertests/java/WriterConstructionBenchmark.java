@@ -0,0 +1,89 @@
+package cesiumlanguagewritertests.java;
+
+import java.io.StringWriter;
+
+import cesiumlanguagewriter.BillboardCesiumWriter;
+import cesiumlanguagewriter.Cartesian;
+import cesiumlanguagewriter.CesiumOutputStream;
+import cesiumlanguagewriter.CesiumStreamWriter;
+import cesiumlanguagewriter.PacketCesiumWriter;
+import cesiumlanguagewriter.PositionCesiumWriter;
+
+/**
+ * Measures the cost of constructing writers: the heap retained by each new writer, and the time
+ * taken to create a {@link CesiumStreamWriter} and write a small packet with it, as an application
+ * which creates short-lived writers per request would.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method with the test classpath.
+ */
+public final class WriterConstructionBenchmark {
+    private static final int RetainedCount = 20000;
+    private static final int Iterations = 200000;
+    private static final int Rounds = 5;
+
+    public static void main(String[] args) {
+        System.out.printf("Retained heap per PacketCesiumWriter:    %8.1f bytes%n", retainedBytesPerWriter(() -> new PacketCesiumWriter()));
+        System.out.printf("Retained heap per BillboardCesiumWriter: %8.1f bytes%n", retainedBytesPerWriter(() -> new BillboardCesiumWriter("billboard")));
+        System.out.printf("Retained heap per PositionCesiumWriter:  %8.1f bytes%n", retainedBytesPerWriter(() -> new PositionCesiumWriter("position")));
+
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < Rounds; ++round) {
+            long start = System.nanoTime();
+            int length = 0;
+            for (int i = 0; i < Iterations; ++i) {
+                length += writePacket(i);
+            }
+            double nanosecondsPerPacket = (double) (System.nanoTime() - start) / Iterations;
+            best = Math.min(best, nanosecondsPerPacket);
+            if (length == 0) {
+                throw new IllegalStateException();
+            }
+        }
+        System.out.printf("New stream writer and packet:            %8.1f ns%n", best);
+    }
+
+    private static int writePacket(int index) {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (PacketCesiumWriter packet = writer.openPacket(output)) {
+            packet.writeId("object" + index);
+            try (PositionCesiumWriter position = packet.openPositionProperty()) {
+                position.writeCartesian(new Cartesian(index, 2.0, 3.0));
+            }
+            try (BillboardCesiumWriter billboard = packet.openBillboardProperty()) {
+                billboard.writeScaleProperty(1.5);
+            }
+        }
+        return stringWriter.getBuffer().length();
+    }
+
+    private interface WriterFactory {
+        Object create();
+    }
+
+    private static double retainedBytesPerWriter(WriterFactory factory) {
+        // Warm up so that class initialization is not counted.
+        for (int i = 0; i < 1000; ++i) {
+            factory.create();
+        }
+        Object[] writers = new Object[RetainedCount];
+        long before = usedMemory();
+        for (int i = 0; i < RetainedCount; ++i) {
+            writers[i] = factory.create();
+        }
+        long after = usedMemory();
+        if (writers[RetainedCount - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return (double) (after - before) / RetainedCount;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; ++i) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
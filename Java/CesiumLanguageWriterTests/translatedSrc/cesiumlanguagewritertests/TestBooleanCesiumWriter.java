@@ -38,6 +38,23 @@ public class TestBooleanCesiumWriter extends TestCesiumPropertyWriter<BooleanCes
         assertExpectedJson(tempCollection$0);
     }
 
+    @Test
+    public final void booleanCanBeWrittenWithoutBoxingThroughAdaptor() {
+        final String expectedPropertyName = "foo";
+        final boolean expectedValue = true;
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(getPacket())) {
+            try (Using<BooleanCesiumWriter> using$1 = new Using<BooleanCesiumWriter>(new BooleanCesiumWriter(expectedPropertyName))) {
+                final BooleanCesiumWriter writer = using$1.resource;
+                writer.open(getOutputStream());
+                ICesiumBooleanValueWriter adaptor = writer.asBoolean();
+                adaptor.writeValue(expectedValue);
+            }
+        }
+        final Map<String, Object> tempCollection$0 = MapHelper.create();
+        MapHelper.add(tempCollection$0, expectedPropertyName, expectedValue);
+        assertExpectedJson(tempCollection$0);
+    }
+
     @Test
     public final void booleanCanBeWrittenInsideInterval() {
         JulianDate start = new GregorianDate(2012, 6, 7, 12, 0, 0.0).toJulianDate();
@@ -0,0 +1,158 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumDeltaWriter {
+    private StringWriter m_stringWriter;
+    private CesiumOutputStream m_output;
+    private CesiumDeltaWriter m_deltaWriter;
+
+    @Before
+    public final void setUp() {
+        m_stringWriter = new StringWriter();
+        m_output = new CesiumOutputStream(m_stringWriter);
+        m_deltaWriter = new CesiumDeltaWriter();
+    }
+
+    @Nonnull
+    private String takeOutput() {
+        String result = m_stringWriter.toString();
+        m_stringWriter.getBuffer().setLength(0);
+        m_output.reset();
+        return result;
+    }
+
+    private void writeUpdate(double x, @Nonnull String text, boolean showLabel) {
+        try (Using<CesiumDeltaUpdate> using$0 = new Using<CesiumDeltaUpdate>(m_deltaWriter.openUpdate(m_output, "object"))) {
+            final CesiumDeltaUpdate update = using$0.resource;
+            update.writePositionCartesian(x, 2.0, 3.0);
+            update.writeLabelText(text);
+            update.writeLabelShow(showLabel);
+            update.writeBillboardScale(1.5);
+        }
+    }
+
+    @Test
+    public final void writesOnlyChangedProperties() {
+        writeUpdate(1.0, "text", true);
+        AssertHelper.assertEquals("{\"id\":\"object\",\"position\":{\"cartesian\":[1,2,3]},\"billboard\":{\"scale\":1.5},\"label\":{\"show\":true,\"text\":\"text\"}}", takeOutput());
+        writeUpdate(1.0, "text", true);
+        AssertHelper.assertEquals("", takeOutput());
+        writeUpdate(4.0, "text", true);
+        AssertHelper.assertEquals("{\"id\":\"object\",\"position\":{\"cartesian\":[4,2,3]}}", takeOutput());
+        writeUpdate(4.0, "new text", false);
+        AssertHelper.assertEquals("{\"id\":\"object\",\"label\":{\"show\":false,\"text\":\"new text\"}}", takeOutput());
+    }
+
+    @Test
+    public final void changesMatchPacketWriter() {
+        writeUpdate(1.0, "text", true);
+        takeOutput();
+        writeUpdate(5.0, "changed", true);
+        String actual = takeOutput();
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(m_output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId("object");
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                using$1.resource.writeCartesian(new Cartesian(5.0, 2.0, 3.0));
+            }
+            try (Using<LabelCesiumWriter> using$2 = new Using<LabelCesiumWriter>(packet.openLabelProperty())) {
+                using$2.resource.writeTextProperty("changed");
+            }
+        }
+        AssertHelper.assertEquals(takeOutput(), actual);
+    }
+
+    @Test
+    public final void deletesOmittedProperties() {
+        writeUpdate(1.0, "text", true);
+        takeOutput();
+        try (Using<CesiumDeltaUpdate> using$0 = new Using<CesiumDeltaUpdate>(m_deltaWriter.openUpdate(m_output, "object"))) {
+            final CesiumDeltaUpdate update = using$0.resource;
+            update.writePositionCartesian(1.0, 2.0, 3.0);
+            update.writeLabelShow(true);
+            update.writeBillboardScale(1.5);
+        }
+        AssertHelper.assertEquals("{\"id\":\"object\",\"label\":{\"text\":{\"delete\":true}}}", takeOutput());
+        // The deleted property is written again in full if it reappears.
+        writeUpdate(1.0, "text", true);
+        AssertHelper.assertEquals("{\"id\":\"object\",\"label\":{\"text\":\"text\"}}", takeOutput());
+    }
+
+    @Test
+    public final void otherPropertiesAreComparedByContent() {
+        final double[] width = {
+            2.0
+        };
+        CesiumPacketFragmentCallback writePath = CesiumPacketFragmentCallback.of(packet -> {
+            try (Using<PathCesiumWriter> using$0 = new Using<PathCesiumWriter>(packet.openPathProperty())) {
+                using$0.resource.writeWidthProperty(width[0]);
+                using$0.resource.writeLeadTimeProperty(60.0);
+            }
+        });
+        for (int i = 0; i < 2; ++i) {
+            try (Using<CesiumDeltaUpdate> using$1 = new Using<CesiumDeltaUpdate>(m_deltaWriter.openUpdate(m_output, "object"))) {
+                using$1.resource.writeProperty(PacketCesiumWriter.PathPropertyName, writePath);
+            }
+        }
+        AssertHelper.assertEquals("{\"id\":\"object\",\"path\":{\"width\":2,\"leadTime\":60}}", takeOutput());
+        width[0] = 3.0;
+        try (Using<CesiumDeltaUpdate> using$2 = new Using<CesiumDeltaUpdate>(m_deltaWriter.openUpdate(m_output, "object"))) {
+            using$2.resource.writeProperty(PacketCesiumWriter.PathPropertyName, writePath);
+        }
+        AssertHelper.assertEquals("{\"id\":\"object\",\"path\":{\"width\":3,\"leadTime\":60}}", takeOutput());
+        try (Using<CesiumDeltaUpdate> using$3 = new Using<CesiumDeltaUpdate>(m_deltaWriter.openUpdate(m_output, "object"))) {
+            using$3.resource.writePositionCartesian(1.0, 2.0, 3.0);
+        }
+        AssertHelper.assertEquals("{\"id\":\"object\",\"position\":{\"cartesian\":[1,2,3]},\"path\":{\"delete\":true}}", takeOutput());
+    }
+
+    @Test
+    public final void objectsAreTrackedSeparately() {
+        writeUpdate(1.0, "text", true);
+        takeOutput();
+        try (Using<CesiumDeltaUpdate> using$0 = new Using<CesiumDeltaUpdate>(m_deltaWriter.openUpdate(m_output, "other"))) {
+            using$0.resource.writePositionCartographicDegrees(1.0, 2.0, 3.0);
+        }
+        AssertHelper.assertEquals("{\"id\":\"other\",\"position\":{\"cartographicDegrees\":[1,2,3]}}", takeOutput());
+        AssertHelper.assertEquals(2, m_deltaWriter.getObjectCount());
+        m_deltaWriter.writeDeleteObject(m_output, "other");
+        AssertHelper.assertEquals("{\"id\":\"other\",\"delete\":true}", takeOutput());
+        m_deltaWriter.writeDeleteObject(m_output, "other");
+        AssertHelper.assertEquals("", takeOutput());
+        m_deltaWriter.clear();
+        writeUpdate(1.0, "text", true);
+        AssertHelper.assertStringContains("\"label\":{\"show\":true,\"text\":\"text\"}", takeOutput());
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -0,0 +1,136 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import java.awt.Color;
+import java.io.StringWriter;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumPacketFragment {
+    private static void writeStaticProperties(@Nonnull PacketCesiumWriter packet) {
+        try (Using<BillboardCesiumWriter> using$0 = new Using<BillboardCesiumWriter>(packet.openBillboardProperty())) {
+            final BillboardCesiumWriter billboard = using$0.resource;
+            billboard.writeImageProperty(new CesiumResource(UriHelper.create("http://example.com/image.png"), CesiumResourceBehavior.LINK_TO));
+            billboard.writeScaleProperty(1.5);
+            billboard.writeHorizontalOriginProperty(CesiumHorizontalOrigin.LEFT);
+        }
+        try (Using<LabelCesiumWriter> using$1 = new Using<LabelCesiumWriter>(packet.openLabelProperty())) {
+            final LabelCesiumWriter label = using$1.resource;
+            label.writeFillColorProperty(Color.RED);
+            try (Using<BooleanCesiumWriter> using$2 = new Using<BooleanCesiumWriter>(label.openShowProperty())) {
+                // Dates are formatted differently in pretty and compact output.
+                using$2.resource.writeInterval(new GregorianDate(2012, 4, 2).toJulianDate(), new GregorianDate(2012, 4, 3).toJulianDate());
+                using$2.resource.writeBoolean(true);
+            }
+        }
+    }
+
+    @Nonnull
+    private static String writeDocument(boolean prettyFormatting, boolean inSequence, boolean writeId, @Nonnull CesiumPacketFragment fragment) {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter, prettyFormatting);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        if (inSequence) {
+            output.writeStartSequence();
+        }
+        for (int i = 0; i < 2; ++i) {
+            try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+                final PacketCesiumWriter packet = using$0.resource;
+                if (writeId) {
+                    packet.writeId("object" + i);
+                }
+                if (fragment == null) {
+                    writeStaticProperties(packet);
+                } else {
+                    fragment.writeTo(packet);
+                }
+                try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$1.resource.writeCartesian(new Cartesian(i, 2.0, 3.0));
+                }
+            }
+            if (!inSequence) {
+                break;
+            }
+        }
+        if (inSequence) {
+            output.writeEndSequence();
+        }
+        return stringWriter.toString();
+    }
+
+    @Test
+    public final void fragmentMatchesWritingProperties() {
+        CesiumPacketFragment fragment = new CesiumPacketFragment(CesiumPacketFragmentCallback.of(TestCesiumPacketFragment::writeStaticProperties));
+        for (final boolean prettyFormatting : new boolean[] {
+            false,
+            true
+        }) {
+            for (final boolean inSequence : new boolean[] {
+                false,
+                true
+            }) {
+                for (final boolean writeId : new boolean[] {
+                    false,
+                    true
+                }) {
+                    AssertHelper.assertEquals(writeDocument(prettyFormatting, inSequence, writeId, null), writeDocument(prettyFormatting, inSequence, writeId, fragment));
+                }
+            }
+        }
+    }
+
+    @Test
+    public final void fragmentCanBeWrittenToCustomProperties() {
+        final CesiumPacketFragment fragment = new CesiumPacketFragment(CesiumPacketFragmentCallback.of(packet -> packet.writeName("name")));
+        AssertHelper.assertEquals("\"name\":\"name\"", fragment.toString());
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter, true);
+        output.writeStartObject();
+        output.writePropertyName("nested");
+        output.writeStartObject();
+        fragment.writeTo(output);
+        fragment.writeTo(output);
+        output.writeEndObject();
+        output.writeEndObject();
+        AssertHelper.assertEquals("{\n  \"nested\":{\n    \"name\":\"name\",\n    \"name\":\"name\"\n  }\n}", stringWriter.toString().replace("\r\n", "\n"));
+    }
+
+    @Test
+    public final void emptyFragmentWritesNothing() {
+        CesiumPacketFragment fragment = new CesiumPacketFragment(CesiumPacketFragmentCallback.of(packet -> {}));
+        Assert.assertTrue(fragment.getIsEmpty());
+        StringWriter stringWriter = new StringWriter();
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(new CesiumOutputStream(stringWriter)))) {
+            fragment.writeTo(using$0.resource);
+            using$0.resource.writeId("id");
+        }
+        AssertHelper.assertEquals("{\"id\":\"id\"}", stringWriter.toString());
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
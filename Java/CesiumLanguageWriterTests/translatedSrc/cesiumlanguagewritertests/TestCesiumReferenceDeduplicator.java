@@ -0,0 +1,171 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumReferenceDeduplicator {
+    private static final String ImageUri = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+    private StringWriter m_stringWriter;
+    private CesiumOutputStream m_output;
+    private CesiumStreamWriter m_writer;
+    private CesiumReferenceDeduplicator m_deduplicator;
+
+    @Before
+    public final void setUp() {
+        m_stringWriter = new StringWriter();
+        m_output = new CesiumOutputStream(m_stringWriter);
+        m_writer = new CesiumStreamWriter();
+        m_deduplicator = new CesiumReferenceDeduplicator(64);
+    }
+
+    @Nonnull
+    private String takeOutput() {
+        String result = m_stringWriter.toString();
+        m_stringWriter.getBuffer().setLength(0);
+        m_output.reset();
+        return result;
+    }
+
+    private boolean writeBillboard(@Nonnull String id, @Nonnull String uri) {
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(m_writer.openPacket(m_output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId(id);
+            try (Using<BillboardCesiumWriter> using$1 = new Using<BillboardCesiumWriter>(packet.openBillboardProperty())) {
+                final BillboardCesiumWriter billboard = using$1.resource;
+                try (Using<UriCesiumWriter> using$2 = new Using<UriCesiumWriter>(billboard.openImageProperty())) {
+                    return m_deduplicator.writeValue(id, using$2.resource, uri,
+                            CesiumWriterAdaptorWriteCallback.<UriCesiumWriter, String> of((writer, value) -> writer.writeUri(value, CesiumResourceBehavior.LINK_TO)));
+                }
+            }
+        }
+    }
+
+    @Nonnull
+    private static List<Cartesian> directions(double scale) {
+        ArrayList<Cartesian> result = new ArrayList<Cartesian>();
+        for (int i = 0; i < 16; ++i) {
+            result.add(new Cartesian(i * scale, 1.0, 2.0));
+        }
+        return result;
+    }
+
+    private void writeSensor(@Nonnull String id, @Nonnull List<Cartesian> directions) {
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(m_writer.openPacket(m_output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId(id);
+            try (Using<CustomPatternSensorCesiumWriter> using$1 = new Using<CustomPatternSensorCesiumWriter>(packet.openCustomPatternSensorProperty())) {
+                try (Using<DirectionListCesiumWriter> using$2 = new Using<DirectionListCesiumWriter>(using$1.resource.openDirectionsProperty())) {
+                    m_deduplicator.writeValue(id, using$2.resource, directions,
+                            CesiumWriterAdaptorWriteCallback.<DirectionListCesiumWriter, List<Cartesian>> of((writer, value) -> writer.writeCartesian(value)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public final void repeatedValuesAreWrittenAsReferences() {
+        Assert.assertFalse(writeBillboard("first", ImageUri));
+        AssertHelper.assertEquals("{\"id\":\"first\",\"billboard\":{\"image\":\"" + ImageUri + "\"}}", takeOutput());
+        Assert.assertTrue(writeBillboard("second", ImageUri));
+        AssertHelper.assertEquals("{\"id\":\"second\",\"billboard\":{\"image\":{\"reference\":\"first#billboard.image\"}}}", takeOutput());
+        Assert.assertTrue(writeBillboard("third", ImageUri));
+        AssertHelper.assertEquals("{\"id\":\"third\",\"billboard\":{\"image\":{\"reference\":\"first#billboard.image\"}}}", takeOutput());
+        AssertHelper.assertEquals(2, m_deduplicator.getReferenceCount());
+        AssertHelper.assertEquals(2L * (ImageUri.length() + 2), m_deduplicator.getReferencedLength());
+        // Writing the first object again writes its value rather than a reference to itself.
+        Assert.assertFalse(writeBillboard("first", ImageUri));
+    }
+
+    @Test
+    public final void smallAndDistinctValuesAreWrittenInFull() {
+        Assert.assertFalse(writeBillboard("first", "small.png"));
+        takeOutput();
+        Assert.assertFalse(writeBillboard("second", "small.png"));
+        AssertHelper.assertEquals("{\"id\":\"second\",\"billboard\":{\"image\":\"small.png\"}}", takeOutput());
+        Assert.assertFalse(writeBillboard("third", ImageUri));
+        Assert.assertFalse(writeBillboard("fourth", ImageUri + "AA"));
+        AssertHelper.assertEquals(0, m_deduplicator.getReferenceCount());
+        m_deduplicator.clear();
+        Assert.assertFalse(writeBillboard("fifth", ImageUri));
+    }
+
+    @Test
+    public final void repeatsOfPropertiesWithoutReferencesAreReported() {
+        writeSensor("first", directions(1.0));
+        String first = takeOutput();
+        writeSensor("second", directions(1.0));
+        writeSensor("third", directions(1.0));
+        writeSensor("fourth", directions(2.0));
+        takeOutput();
+        writeSensor("fifth", directions(1.0));
+        AssertHelper.assertEquals(first.replace("first", "fifth"), takeOutput());
+        AssertHelper.assertEquals(0, m_deduplicator.getReferenceCount());
+        AssertHelper.assertEquals(1, m_deduplicator.getUnreferencedDuplicates().size());
+        AssertHelper.assertEquals(3, m_deduplicator.getUnreferencedDuplicates().get("agi_customPatternSensor.directions").intValue());
+    }
+
+    @Test
+    public final void prettyOutputMatchesWritingDirectly() {
+        m_output = new CesiumOutputStream(m_stringWriter, true);
+        writeSensor("first", directions(1.0));
+        String deduplicated = takeOutput();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(m_writer.openPacket(m_output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId("first");
+            try (Using<CustomPatternSensorCesiumWriter> using$1 = new Using<CustomPatternSensorCesiumWriter>(packet.openCustomPatternSensorProperty())) {
+                try (Using<DirectionListCesiumWriter> using$2 = new Using<DirectionListCesiumWriter>(using$1.resource.openDirectionsProperty())) {
+                    using$2.resource.writeCartesian(directions(1.0));
+                }
+            }
+        }
+        AssertHelper.assertEquals(takeOutput(), deduplicated);
+    }
+
+    @Test
+    public final void propertyPathSkipsIntervals() {
+        PacketCesiumWriter packet = new CesiumStreamWriter().getPacketWriter();
+        Assert.assertArrayEquals(new String[] {
+            "billboard",
+            "image"
+        }, packet.getBillboardWriter().getImageWriter().getPropertyPath());
+        Assert.assertArrayEquals(new String[] {
+            "billboard",
+            "image"
+        }, packet.getBillboardWriter().getIntervalWriter().getImageWriter().getPropertyPath());
+        Assert.assertArrayEquals(new String[] {
+            "image"
+        }, new UriCesiumWriter("image").getPropertyPath());
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
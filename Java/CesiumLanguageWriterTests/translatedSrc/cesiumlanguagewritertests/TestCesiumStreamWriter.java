@@ -64,6 +64,53 @@ public class TestCesiumStreamWriter {
         AssertHelper.assertStringContains("already opened", exception.getMessage());
     }
 
+    @Test
+    public final void resetAllowsReuseAfterInterruptedWrite() {
+        m_outputStream.writeStartSequence();
+        PacketCesiumWriter packet = m_writer.openPacket(m_outputStream);
+        packet.writeId("interrupted");
+        PositionCesiumWriter position = packet.openPositionProperty();
+        position.openMultipleIntervals().openInterval();
+        BillboardCesiumWriter billboard = packet.openBillboardProperty();
+        // Force the scale property to be converted to an interval.
+        billboard.getScaleWriter().open(m_outputStream);
+        billboard.getScaleWriter().writeInterval(new TimeInterval(new JulianDate(2451545, 0.0), new JulianDate(2451546, 0.0)));
+        StringWriter reusedStringWriter = new StringWriter();
+        m_writer.reset();
+        m_outputStream.reset(reusedStringWriter);
+        writeDocument(m_writer, m_outputStream);
+        StringWriter freshStringWriter = new StringWriter();
+        writeDocument(new CesiumStreamWriter(), new CesiumOutputStream(freshStringWriter));
+        AssertHelper.assertEquals(freshStringWriter.toString(), reusedStringWriter.toString());
+    }
+
+    @Test
+    public final void resetOutputStreamKeepsPrettyFormatting() {
+        CesiumOutputStream output = new CesiumOutputStream(m_stringWriter, true);
+        output.writeStartSequence();
+        output.writeStartObject();
+        StringWriter stringWriter = new StringWriter();
+        output.reset(stringWriter);
+        Assert.assertTrue(output.getPrettyFormatting());
+        output.writeStartObject();
+        output.writeEndObject();
+        AssertHelper.assertEquals("{\n}", stringWriter.toString().replace("\r\n", "\n"));
+    }
+
+    private static void writeDocument(@Nonnull CesiumStreamWriter writer, @Nonnull CesiumOutputStream output) {
+        output.writeStartSequence();
+        PacketCesiumWriter packet = writer.openPacket(output);
+        packet.writeId("reused");
+        PositionCesiumWriter position = packet.openPositionProperty();
+        position.writeCartesian(new Cartesian(1.0, 2.0, 3.0));
+        position.close();
+        BillboardCesiumWriter billboard = packet.openBillboardProperty();
+        billboard.writeScaleProperty(2.0);
+        billboard.close();
+        packet.close();
+        output.writeEndSequence();
+    }
+
     @Nonnull
     private static final TestContextRule rule$testContext = new TestContextRule();
 
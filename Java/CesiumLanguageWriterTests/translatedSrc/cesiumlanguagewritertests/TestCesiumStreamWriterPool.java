@@ -0,0 +1,147 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Action;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import agi.foundation.TypeLiteral;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumStreamWriterPool {
+    @Nonnull
+    private static String writeWithPool(@Nonnull CesiumStreamWriterPool pool, @Nonnull String id) {
+        StringWriter stringWriter = new StringWriter();
+        try (Using<PooledCesiumStreamWriter> using$0 = new Using<PooledCesiumStreamWriter>(pool.acquire(stringWriter))) {
+            try (Using<PacketCesiumWriter> using$1 = new Using<PacketCesiumWriter>(using$0.resource.openPacket())) {
+                final PacketCesiumWriter packet = using$1.resource;
+                packet.writeId(id);
+                try (Using<PositionCesiumWriter> using$2 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$2.resource.writeCartesian(new Cartesian(1.0, 2.0, 3.0));
+                }
+            }
+        }
+        return stringWriter.toString();
+    }
+
+    @Test
+    public final void reusesReleasedWriters() {
+        CesiumStreamWriterPool pool = new CesiumStreamWriterPool(4);
+        PooledCesiumStreamWriter first = pool.acquire(new StringWriter());
+        CesiumStreamWriter writer = first.getWriter();
+        first.dispose();
+        AssertHelper.assertEquals(1, pool.getAvailableCount());
+        PooledCesiumStreamWriter second = pool.acquire(new StringWriter());
+        Assert.assertSame(first, second);
+        Assert.assertSame(writer, second.getWriter());
+        AssertHelper.assertEquals(0, pool.getAvailableCount());
+        second.dispose();
+    }
+
+    @Test
+    public final void retainsAtMostMaximumSize() {
+        CesiumStreamWriterPool pool = new CesiumStreamWriterPool(2);
+        ArrayList<PooledCesiumStreamWriter> writers = new ArrayList<PooledCesiumStreamWriter>();
+        for (int i = 0; i < 5; ++i) {
+            writers.add(pool.acquire(new StringWriter()));
+        }
+        for (final PooledCesiumStreamWriter writer : writers) {
+            writer.dispose();
+        }
+        AssertHelper.assertEquals(2, pool.getAvailableCount());
+    }
+
+    @Test
+    public final void writesSameOutputAsNewWriter() {
+        CesiumStreamWriterPool pool = new CesiumStreamWriterPool(1);
+        StringWriter expected = new StringWriter();
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(new CesiumOutputStream(expected)))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId("second");
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                using$1.resource.writeCartesian(new Cartesian(1.0, 2.0, 3.0));
+            }
+        }
+        writeWithPool(pool, "first");
+        AssertHelper.assertEquals(expected.toString(), writeWithPool(pool, "second"));
+    }
+
+    @Test
+    public final void releasedWriterCannotBeUsed() {
+        CesiumStreamWriterPool pool = new CesiumStreamWriterPool(1);
+        final PooledCesiumStreamWriter writer = pool.acquire(new StringWriter());
+        writer.dispose();
+        IllegalStateException exception = AssertHelper.<IllegalStateException> assertThrows(new TypeLiteral<IllegalStateException>() {}, new Action() {
+            public void invoke() {
+                writer.dispose();
+            }
+        });
+        AssertHelper.assertStringContains("returned to its pool", exception.getMessage());
+        AssertHelper.assertEquals(1, pool.getAvailableCount());
+    }
+
+    @Test
+    public final void canBeUsedFromMultipleThreads() throws Exception {
+        final CesiumStreamWriterPool pool = new CesiumStreamWriterPool(2);
+        final String expected = writeWithPool(pool, "object");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArrayList<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < 16; ++i) {
+                results.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() {
+                        for (int j = 0; j < 200; ++j) {
+                            if (!expected.equals(writeWithPool(pool, "object"))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(pool.getAvailableCount() <= 2);
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public final void maximumSizeMustBePositive() {
+        new CesiumStreamWriterPool(0);
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -0,0 +1,265 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Action;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import agi.foundation.TypeLiteral;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumUpdateCoalescer {
+    @Nonnull
+    private static CesiumPacketFragmentCallback position(final double x, @Nonnull final AtomicInteger invocations) {
+        return CesiumPacketFragmentCallback.of(packet -> {
+            invocations.incrementAndGet();
+            try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                using$0.resource.writeCartesian(new Cartesian(x, 2.0, 3.0));
+            }
+        });
+    }
+
+    @Nonnull
+    private static CesiumPacketFragmentCallback name(@Nonnull final String name) {
+        return CesiumPacketFragmentCallback.of(packet -> packet.writeName(name));
+    }
+
+    @Test
+    public final void supersededUpdatesAreNotWritten() {
+        CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(1000L, 100000L);
+        AtomicInteger invocations = new AtomicInteger();
+        for (int i = 0; i < 10; ++i) {
+            coalescer.update("object", PacketCesiumWriter.PositionPropertyName, position(i, invocations));
+        }
+        coalescer.update("object", PacketCesiumWriter.NamePropertyName, name("name"));
+        AssertHelper.assertEquals(9L, coalescer.getSupersededCount());
+        StringWriter stringWriter = new StringWriter();
+        AssertHelper.assertEquals(1, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals(1, invocations.get());
+        AssertHelper.assertEquals("[{\"id\":\"object\",\"position\":{\"cartesian\":[9,2,3]},\"name\":\"name\"}]", stringWriter.toString());
+        stringWriter.getBuffer().setLength(0);
+        AssertHelper.assertEquals(0, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals("", stringWriter.toString());
+    }
+
+    @Test
+    public final void eachFlushWritesOnePacketPerObject() {
+        CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(1000L, 100000L);
+        coalescer.update("a", PacketCesiumWriter.NamePropertyName, name("first"));
+        coalescer.update("b", PacketCesiumWriter.NamePropertyName, name("second"));
+        StringWriter stringWriter = new StringWriter();
+        AssertHelper.assertEquals(2, coalescer.flush(stringWriter));
+        String first = stringWriter.toString();
+        AssertHelper.assertStringContains("{\"id\":\"a\",\"name\":\"first\"}", first);
+        AssertHelper.assertStringContains("{\"id\":\"b\",\"name\":\"second\"}", first);
+        stringWriter.getBuffer().setLength(0);
+        coalescer.update("b", PacketCesiumWriter.NamePropertyName, name("third"));
+        AssertHelper.assertEquals(1, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals("[{\"id\":\"b\",\"name\":\"third\"}]", stringWriter.toString());
+    }
+
+    @Test
+    public final void flushIsDueWhenByteBudgetIsReached() {
+        CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(3600000L, 200L);
+        Assert.assertFalse(coalescer.getIsFlushDue());
+        StringWriter stringWriter = new StringWriter();
+        int objectCount = 0;
+        while (!coalescer.getIsFlushDue()) {
+            coalescer.update("object" + objectCount, PacketCesiumWriter.NamePropertyName, name("name"));
+            ++objectCount;
+        }
+        Assert.assertTrue(objectCount > 1);
+        AssertHelper.assertEquals(objectCount, coalescer.flushIfDue(stringWriter));
+        AssertHelper.assertEquals(0L, coalescer.getPendingEstimate());
+        // Later estimates use the size of the packets actually written.
+        coalescer.update("object0", PacketCesiumWriter.NamePropertyName, name("name"));
+        // The written packet may or may not have been preceded by a comma.
+        long packetLength = "{\"id\":\"object0\",\"name\":\"name\"}".length();
+        Assert.assertTrue(coalescer.getPendingEstimate() == packetLength || coalescer.getPendingEstimate() == packetLength + 1L);
+        Assert.assertFalse(coalescer.getIsFlushDue());
+        AssertHelper.assertEquals(0, coalescer.flushIfDue(stringWriter));
+    }
+
+    @Test
+    public final void flushIsDueWhenIntervalElapses() {
+        CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(0L, 100000L);
+        Assert.assertFalse(coalescer.getIsFlushDue());
+        coalescer.update("object", PacketCesiumWriter.NamePropertyName, name("name"));
+        Assert.assertTrue(coalescer.getIsFlushDue());
+        StringWriter stringWriter = new StringWriter();
+        AssertHelper.assertEquals(1, coalescer.flushIfDue(stringWriter));
+        Assert.assertFalse(coalescer.getIsFlushDue());
+    }
+
+    @Test
+    public final void prettyFormattingMatchesStreamWriter() {
+        CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(1000L, 100000L, true);
+        coalescer.update("object", PacketCesiumWriter.PositionPropertyName, position(1.0, new AtomicInteger()));
+        StringWriter actual = new StringWriter();
+        coalescer.flush(actual);
+        StringWriter expected = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(expected, true);
+        output.writeStartSequence();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(new CesiumStreamWriter().openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeId("object");
+            position(1.0, new AtomicInteger()).invoke(packet);
+        }
+        output.writeEndSequence();
+        AssertHelper.assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public final void updatesFromManyThreadsAreCoalesced() throws InterruptedException {
+        final CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(1000L, 100000L);
+        final AtomicInteger invocations = new AtomicInteger();
+        ArrayList<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; ++t) {
+            final String id = "object" + t;
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 1000; ++i) {
+                        coalescer.update(id, PacketCesiumWriter.PositionPropertyName, position(i, invocations));
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        StringWriter stringWriter = new StringWriter();
+        AssertHelper.assertEquals(4, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals(4, invocations.get());
+        AssertHelper.assertEquals(4L * 999L, coalescer.getSupersededCount());
+        AssertHelper.assertStringContains("{\"id\":\"object3\",\"position\":{\"cartesian\":[999,2,3]}}", stringWriter.toString());
+    }
+
+    @Test
+    public final void failedCallbackUpdatesAreDiscarded() {
+        final CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(1000L, 100000L);
+        coalescer.update("object", PacketCesiumWriter.NamePropertyName, name("stale"));
+        coalescer.update("object", PacketCesiumWriter.DescriptionPropertyName, CesiumPacketFragmentCallback.of(packet -> {
+            throw new IllegalStateException();
+        }));
+        final StringWriter stringWriter = new StringWriter();
+        AssertHelper.<IllegalStateException> assertThrows(new TypeLiteral<IllegalStateException>() {}, new Action() {
+            public void invoke() {
+                coalescer.flush(stringWriter);
+            }
+        });
+        AssertHelper.assertEquals(0L, coalescer.getPendingEstimate());
+        stringWriter.getBuffer().setLength(0);
+        coalescer.update("object", PacketCesiumWriter.PositionPropertyName, position(1.0, new AtomicInteger()));
+        AssertHelper.assertEquals(0L, coalescer.getSupersededCount());
+        AssertHelper.assertEquals(1, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals("[{\"id\":\"object\",\"position\":{\"cartesian\":[1,2,3]}}]", stringWriter.toString());
+        // The maps are swapped on each flush, so the map taken by the failed flush is used again now.
+        stringWriter.getBuffer().setLength(0);
+        coalescer.update("object", PacketCesiumWriter.NamePropertyName, name("fresh"));
+        AssertHelper.assertEquals(0L, coalescer.getSupersededCount());
+        AssertHelper.assertEquals(1, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals("[{\"id\":\"object\",\"name\":\"fresh\"}]", stringWriter.toString());
+        AssertHelper.assertEquals(0L, coalescer.getPendingEstimate());
+    }
+
+    @Test
+    public final void objectsWithoutPendingUpdatesAreNoLongerTracked() {
+        CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(1000L, 100000L);
+        coalescer.update("a", PacketCesiumWriter.NamePropertyName, name("first"));
+        coalescer.update("b", PacketCesiumWriter.NamePropertyName, name("second"));
+        AssertHelper.assertEquals(2, coalescer.getObjectCount());
+        StringWriter stringWriter = new StringWriter();
+        AssertHelper.assertEquals(2, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals(2, coalescer.getObjectCount());
+        coalescer.update("b", PacketCesiumWriter.NamePropertyName, name("third"));
+        AssertHelper.assertEquals(1, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals(1, coalescer.getObjectCount());
+        AssertHelper.assertEquals(0, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals(0, coalescer.getObjectCount());
+        // An object which is updated again is tracked again.
+        stringWriter.getBuffer().setLength(0);
+        coalescer.update("a", PacketCesiumWriter.NamePropertyName, name("fourth"));
+        AssertHelper.assertEquals(1, coalescer.getObjectCount());
+        AssertHelper.assertEquals(1, coalescer.flush(stringWriter));
+        AssertHelper.assertEquals("[{\"id\":\"a\",\"name\":\"fourth\"}]", stringWriter.toString());
+    }
+
+    @Test
+    public final void updatesDuringFlushesAreNotLostAndTheEstimateIsNeverNegative() throws InterruptedException {
+        final CesiumUpdateCoalescer coalescer = new CesiumUpdateCoalescer(0L, 100000L);
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean negativeEstimate = new AtomicBoolean();
+        final StringWriter stringWriter = new StringWriter();
+        Thread flusher = new Thread(new Runnable() {
+            public void run() {
+                while (!done.get()) {
+                    coalescer.flush(stringWriter);
+                    if (coalescer.getPendingEstimate() < 0L) {
+                        negativeEstimate.set(true);
+                    }
+                }
+            }
+        });
+        flusher.start();
+        ArrayList<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; ++t) {
+            final String prefix = "thread" + t + "object";
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 2000; ++i) {
+                        coalescer.update(prefix + i % 10, PacketCesiumWriter.NamePropertyName, name("name" + i));
+                        if (coalescer.getPendingEstimate() < 0L) {
+                            negativeEstimate.set(true);
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        done.set(true);
+        flusher.join();
+        coalescer.flush(stringWriter);
+        Assert.assertFalse(negativeEstimate.get());
+        AssertHelper.assertEquals(0L, coalescer.getPendingEstimate());
+        String written = stringWriter.toString();
+        for (int t = 0; t < 4; ++t) {
+            for (int i = 1990; i < 2000; ++i) {
+                AssertHelper.assertStringContains("{\"id\":\"thread" + t + "object" + i % 10 + "\",\"name\":\"name" + i + "\"}", written);
+            }
+        }
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -0,0 +1,257 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Action;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import agi.foundation.TypeLiteral;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestConcurrentCesiumStreamWriter {
+    private static final int PacketCount = 400;
+
+    private static void writePacket(@Nonnull PacketCesiumWriter packet, long index) {
+        packet.writeId("object" + index);
+        try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+            using$0.resource.writeCartesian(new Cartesian(index, 2.0, 3.0));
+        }
+        try (Using<BillboardCesiumWriter> using$1 = new Using<BillboardCesiumWriter>(packet.openBillboardProperty())) {
+            using$1.resource.writeScaleProperty(1.5);
+        }
+    }
+
+    @Nonnull
+    private static String writeSerially(int count, boolean prettyFormatting) {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter, prettyFormatting);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        output.writeStartSequence();
+        for (int i = 0; i < count; ++i) {
+            try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+                writePacket(using$0.resource, i);
+            }
+        }
+        output.writeEndSequence();
+        return stringWriter.toString();
+    }
+
+    @Nonnull
+    private static String writeConcurrently(boolean prettyFormatting, @Nonnull CesiumPacketOrdering ordering) throws Exception {
+        StringWriter stringWriter = new StringWriter();
+        final ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(stringWriter, prettyFormatting, ordering);
+        final AtomicLong nextIndex = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArrayList<Future<Void>> results = new ArrayList<Future<Void>>();
+            for (int i = 0; i < 4; ++i) {
+                results.add(executor.submit(new Callable<Void>() {
+                    public Void call() {
+                        CesiumPacketProducer producer = document.getProducer();
+                        long index;
+                        while ((index = nextIndex.getAndIncrement()) < PacketCount) {
+                            try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(producer.openPacket())) {
+                                writePacket(using$0.resource, index);
+                            }
+                            if (document.getOrdering() == CesiumPacketOrdering.SEQUENCE_NUMBER) {
+                                producer.publish(index);
+                            } else {
+                                producer.publish();
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+            int written = 0;
+            for (final Future<Void> result : results) {
+                while (!result.isDone()) {
+                    written += document.drain();
+                }
+                result.get();
+            }
+            written += document.drain();
+            AssertHelper.assertEquals(PacketCount, written);
+        } finally {
+            executor.shutdown();
+        }
+        document.dispose();
+        return stringWriter.toString();
+    }
+
+    @Test
+    public final void sequenceOrderingMatchesSerialWriting() throws Exception {
+        AssertHelper.assertEquals(writeSerially(PacketCount, false), writeConcurrently(false, CesiumPacketOrdering.SEQUENCE_NUMBER));
+        AssertHelper.assertEquals(writeSerially(PacketCount, true), writeConcurrently(true, CesiumPacketOrdering.SEQUENCE_NUMBER));
+    }
+
+    @Test
+    public final void arrivalOrderingWritesEveryPacket() throws Exception {
+        String expected = writeSerially(PacketCount, false);
+        String actual = writeConcurrently(false, CesiumPacketOrdering.ARRIVAL);
+        AssertHelper.assertEquals(expected.length(), actual.length());
+        for (int i = 0; i < PacketCount; ++i) {
+            AssertHelper.assertStringContains("\"id\":\"object" + i + "\"", actual);
+        }
+    }
+
+    @Test
+    public final void sequenceOrderingHoldsPacketsUntilEarlierPacketsArePublished() {
+        StringWriter stringWriter = new StringWriter();
+        ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(stringWriter, false, CesiumPacketOrdering.SEQUENCE_NUMBER);
+        CesiumPacketProducer producer = document.getProducer();
+        producer.openPacket().close();
+        producer.publish(1L);
+        AssertHelper.assertEquals(0, document.drain());
+        AssertHelper.assertEquals("[", stringWriter.toString());
+        producer.openPacket().close();
+        producer.publish(0L);
+        AssertHelper.assertEquals(2, document.drain());
+        document.dispose();
+        AssertHelper.assertEquals("[{},{}]", stringWriter.toString());
+    }
+
+    @Test
+    public final void emptyDocumentIsEmptySequence() {
+        StringWriter stringWriter = new StringWriter();
+        ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(stringWriter);
+        document.dispose();
+        AssertHelper.assertEquals("[]", stringWriter.toString());
+    }
+
+    @Test
+    public final void duplicateSequenceNumberThrows() {
+        final ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(new StringWriter(), false, CesiumPacketOrdering.SEQUENCE_NUMBER);
+        CesiumPacketProducer producer = document.getProducer();
+        producer.openPacket().close();
+        producer.publish(0L);
+        AssertHelper.assertEquals(1, document.drain());
+        producer.openPacket().close();
+        producer.publish(0L);
+        IllegalStateException exception = AssertHelper.<IllegalStateException> assertThrows(new TypeLiteral<IllegalStateException>() {}, new Action() {
+            public void invoke() {
+                document.drain();
+            }
+        });
+        AssertHelper.assertStringContains("more than once", exception.getMessage());
+    }
+
+    @Test
+    public final void openPacketCannotBePublished() {
+        ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(new StringWriter());
+        final CesiumPacketProducer producer = document.getProducer();
+        PacketCesiumWriter unused = producer.openPacket();
+        IllegalStateException exception = AssertHelper.<IllegalStateException> assertThrows(new TypeLiteral<IllegalStateException>() {}, new Action() {
+            public void invoke() {
+                producer.publish();
+            }
+        });
+        AssertHelper.assertStringContains("has not been opened and closed", exception.getMessage());
+    }
+
+    @Test
+    public final void publishAfterDisposeThrows() {
+        ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(new StringWriter());
+        final CesiumPacketProducer producer = document.getProducer();
+        producer.openPacket().close();
+        document.dispose();
+        IllegalStateException exception = AssertHelper.<IllegalStateException> assertThrows(new TypeLiteral<IllegalStateException>() {}, new Action() {
+            public void invoke() {
+                producer.publish();
+            }
+        });
+        AssertHelper.assertStringContains("already been closed", exception.getMessage());
+    }
+
+    @Test
+    public final void packetsPublishedDuringDisposeAreWrittenOrRejected() throws Exception {
+        for (int attempt = 0; attempt < 50; ++attempt) {
+            StringWriter stringWriter = new StringWriter();
+            final ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(stringWriter);
+            final AtomicLong published = new AtomicLong();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                ArrayList<Future<Void>> results = new ArrayList<Future<Void>>();
+                for (int i = 0; i < 4; ++i) {
+                    results.add(executor.submit(new Callable<Void>() {
+                        public Void call() {
+                            try {
+                                CesiumPacketProducer producer = document.getProducer();
+                                while (true) {
+                                    try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(producer.openPacket())) {
+                                        using$0.resource.writeId("object");
+                                    }
+                                    producer.publish();
+                                    published.incrementAndGet();
+                                }
+                            } catch (IllegalStateException e) {
+                                return null;
+                            }
+                        }
+                    }));
+                }
+                while (published.get() < 100) {
+                    document.drain();
+                }
+                document.dispose();
+                for (final Future<Void> result : results) {
+                    result.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            String text = stringWriter.toString();
+            AssertHelper.assertEquals(published.get(), (long) (text.split("\"id\"", -1).length - 1));
+            Assert.assertTrue(text.endsWith("]"));
+        }
+    }
+
+    @Test
+    public final void producerIsConfinedToThread() throws Exception {
+        final ConcurrentCesiumStreamWriter document = new ConcurrentCesiumStreamWriter(new StringWriter());
+        CesiumPacketProducer producer = document.getProducer();
+        Assert.assertSame(producer, document.getProducer());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CesiumPacketProducer other = executor.submit(new Callable<CesiumPacketProducer>() {
+                public CesiumPacketProducer call() {
+                    return document.getProducer();
+                }
+            }).get();
+            Assert.assertNotSame(producer, other);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -0,0 +1,227 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDirectCzml {
+    @Nonnull
+    private final JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+    private final double[] m_times = {
+        0.0,
+        30.0,
+        60.5
+    };
+    private final double[] m_values = {
+        1.0,
+        2.0,
+        3.0,
+        -4.25,
+        5e10,
+        6.0,
+        7.0,
+        8.0,
+        -9.5
+    };
+
+    /**
+    * Writes three packets, the middle one of which is written by the given callback, into a sequence.
+    */
+    @Nonnull
+    private static String writeDocument(boolean prettyFormatting, @Nonnull final Action1<CesiumOutputStream> writeMiddle) {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter, prettyFormatting);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        output.writeStartSequence();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            using$0.resource.writeId("before");
+            using$0.resource.writeName("before");
+        }
+        writeMiddle.invoke(output);
+        try (Using<PacketCesiumWriter> using$1 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            using$1.resource.writeId("after");
+            using$1.resource.writeName("after");
+        }
+        output.writeEndSequence();
+        return stringWriter.toString();
+    }
+
+    private interface Action1<T> {
+        void invoke(T value);
+    }
+
+    private static void assertSameOutput(@Nonnull final Action1<PacketCesiumWriter> usingWriters, @Nonnull final Action1<CesiumOutputStream> usingDirect) {
+        for (final boolean prettyFormatting : new boolean[] {
+            false,
+            true
+        }) {
+            final CesiumStreamWriter writer = new CesiumStreamWriter();
+            String expected = writeDocument(prettyFormatting, new Action1<CesiumOutputStream>() {
+                public void invoke(CesiumOutputStream output) {
+                    try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+                        using$0.resource.writeId("object");
+                        usingWriters.invoke(using$0.resource);
+                    }
+                }
+            });
+            AssertHelper.assertEquals(expected, writeDocument(prettyFormatting, usingDirect));
+        }
+    }
+
+    @Test
+    public final void positionMatchesWriters() {
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$0.resource.writeCartesian(new Cartesian(1.5, -2e7, 3.0));
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.positionCartesian(output, "object", 1.5, -2e7, 3.0);
+            }
+        });
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$0.resource.writeCartographicDegrees(new Cartographic(-75.5, 40.25, 100.0));
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.positionCartographicDegrees(output, "object", -75.5, 40.25, 100.0);
+            }
+        });
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$0.resource.writeCartographicRadians(new Cartographic(-1.25, 0.5, 100.0));
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.positionCartographicRadians(output, "object", -1.25, 0.5, 100.0);
+            }
+        });
+    }
+
+    @Test
+    public final void sampledPositionMatchesWriters() {
+        final ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        final ArrayList<Cartesian> cartesians = new ArrayList<Cartesian>();
+        final ArrayList<Cartographic> cartographics = new ArrayList<Cartographic>();
+        for (int i = 0; i < m_times.length; ++i) {
+            dates.add(m_epoch.addSeconds(m_times[i]));
+            cartesians.add(new Cartesian(m_values[i * 3], m_values[i * 3 + 1], m_values[i * 3 + 2]));
+            cartographics.add(new Cartographic(m_values[i * 3], m_values[i * 3 + 1], m_values[i * 3 + 2]));
+        }
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$0.resource.writeCartesian(dates, cartesians);
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.sampledPositionCartesian(output, "object", m_epoch, m_times, m_values);
+            }
+        });
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$0.resource.writeCartographicDegrees(dates, cartographics);
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.sampledPositionCartographicDegrees(output, "object", m_epoch, m_times, m_values);
+            }
+        });
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<PositionCesiumWriter> using$0 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    using$0.resource.writeCartesian(new ArrayList<JulianDate>(), new ArrayList<Cartesian>());
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.sampledPositionCartesian(output, "object", m_epoch, new double[0], new double[0]);
+            }
+        });
+    }
+
+    @Test
+    public final void orientationLabelAndBillboardMatchWriters() {
+        final UnitQuaternion quaternion = new UnitQuaternion(0.8, 0.2, -0.4, 0.4);
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<OrientationCesiumWriter> using$0 = new Using<OrientationCesiumWriter>(packet.openOrientationProperty())) {
+                    using$0.resource.writeUnitQuaternion(quaternion);
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.orientationUnitQuaternion(output, "object", quaternion.getW(), quaternion.getX(), quaternion.getY(), quaternion.getZ());
+            }
+        });
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<LabelCesiumWriter> using$0 = new Using<LabelCesiumWriter>(packet.openLabelProperty())) {
+                    using$0.resource.writeTextProperty("Line one\nline \"two\"");
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.labelText(output, "object", "Line one\nline \"two\"");
+            }
+        });
+        assertSameOutput(new Action1<PacketCesiumWriter>() {
+            public void invoke(PacketCesiumWriter packet) {
+                try (Using<BillboardCesiumWriter> using$0 = new Using<BillboardCesiumWriter>(packet.openBillboardProperty())) {
+                    using$0.resource.writeScaleProperty(0.75);
+                }
+            }
+        }, new Action1<CesiumOutputStream>() {
+            public void invoke(CesiumOutputStream output) {
+                DirectCzml.billboardScale(output, "object", 0.75);
+            }
+        });
+    }
+
+    @Test(expected = ArgumentException.class)
+    public final void sampledPositionRequiresThreeValuesPerTime() {
+        DirectCzml.sampledPositionCartesian(new CesiumOutputStream(new StringWriter()), "object", m_epoch, m_times, new double[] {
+            1.0,
+            2.0
+        });
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
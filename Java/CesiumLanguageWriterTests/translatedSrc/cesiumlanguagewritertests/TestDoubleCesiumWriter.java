@@ -104,6 +104,42 @@ public class TestDoubleCesiumWriter extends TestCesiumPropertyWriter<DoubleCesiu
         assertExpectedJson(tempCollection$0);
     }
 
+    @Test
+    public final void doubleCanBeWrittenWithoutBoxingThroughAdaptor() {
+        final String expectedPropertyName = "foo";
+        final double expectedValue = 1.23;
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(getPacket())) {
+            try (Using<DoubleCesiumWriter> using$1 = new Using<DoubleCesiumWriter>(new DoubleCesiumWriter(expectedPropertyName))) {
+                final DoubleCesiumWriter writer = using$1.resource;
+                writer.open(getOutputStream());
+                ICesiumDoubleValueWriter adaptor = writer.asNumber();
+                adaptor.writeValue(expectedValue);
+            }
+        }
+        final Map<String, Object> tempCollection$0 = MapHelper.create();
+        MapHelper.add(tempCollection$0, expectedPropertyName, expectedValue);
+        assertExpectedJson(tempCollection$0);
+    }
+
+    @Test
+    public final void unboxedValuesAreWrittenWithCustomAdaptorCallback() {
+        final String expectedPropertyName = "foo";
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(getPacket())) {
+            try (Using<DoubleCesiumWriter> using$1 = new Using<DoubleCesiumWriter>(new DoubleCesiumWriter(expectedPropertyName))) {
+                final DoubleCesiumWriter writer = using$1.resource;
+                writer.open(getOutputStream());
+                CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter> adaptor = new CesiumDoubleValuePropertyAdaptor<DoubleCesiumWriter>(writer,
+                        CesiumWriterAdaptorWriteCallback.<DoubleCesiumWriter, Double> of((w, value) -> w.writeNumber(value * 2.0)),
+                        CesiumWriterAdaptorWriteSamplesCallback.<DoubleCesiumWriter, Double> of((w, dates, values, startIndex, length) -> w.writeNumber(dates, values, startIndex, length)),
+                        CesiumWriterAdaptorWriteDeleteCallback.<DoubleCesiumWriter> of(w -> w.writeDelete(true)));
+                adaptor.writeValue(1.5);
+            }
+        }
+        final Map<String, Object> tempCollection$0 = MapHelper.create();
+        MapHelper.add(tempCollection$0, expectedPropertyName, 3.0);
+        assertExpectedJson(tempCollection$0);
+    }
+
     @Override
     protected CesiumPropertyWriter<DoubleCesiumWriter> createPropertyWriter(String propertyName) {
         return new DoubleCesiumWriter(propertyName);
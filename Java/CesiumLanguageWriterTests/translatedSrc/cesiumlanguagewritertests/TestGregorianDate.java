@@ -227,6 +227,20 @@ public class TestGregorianDate {
         AssertHelper.assertEquals(DateTimeHelper.toString(date, cultureInfo), gregorianDate.toString(cultureInfo));
     }
 
+    @Test
+    public final void testToStringReusesFormatsPerCulture() {
+        Locale english = CultureInfoHelper.create("en-US");
+        Locale german = CultureInfoHelper.create("de-DE");
+        GregorianDate first = new GregorianDate(2001, 1, 1, 6, 3, 14.25);
+        GregorianDate second = new GregorianDate(2003, 3, 4, 16, 43, 23.5);
+        String format = "dddd, MMMM d yyyy 'at' h:mm:ss.ff tt";
+        for (int i = 0; i < 2; ++i) {
+            AssertHelper.assertEquals("Monday, January 1 2001 at 6:03:14.25 AM", first.toString(format, english));
+            AssertHelper.assertEquals("Tuesday, March 4 2003 at 4:43:23.50 PM", second.toString(format, english));
+            AssertHelper.assertEquals("Dienstag 4 März 2003 16:43:23,50", second.toString("dddd d MMMM yyyy HH:mm:ss.ff", german));
+        }
+    }
+
     @Test
     public final void canConstructFromJulianDate() {
         JulianDate julianDate = new JulianDate(DateTimeHelper.create(2008, 10, 23, 12, 5, 30, 300));
@@ -481,6 +495,22 @@ public class TestGregorianDate {
         AssertHelper.assertEquals(expected, iso);
     }
 
+    /**
+    * Tests that converting a TAI date during a leap second to a UTC {@link GregorianDate}
+    produces a second of 60 on the day before the leap second is added.
+    */
+    @Test
+    public final void testGregorianDateFromLeapSecond() {
+        JulianDate leapSecond = new JulianDate(2457754, 43236.5, TimeStandard.INTERNATIONAL_ATOMIC_TIME);
+        GregorianDate date = new GregorianDate(leapSecond);
+        AssertHelper.assertEquals(2016, date.getYear());
+        AssertHelper.assertEquals(12, date.getMonth());
+        AssertHelper.assertEquals(31, date.getDay());
+        AssertHelper.assertEquals(23, date.getHour());
+        AssertHelper.assertEquals(59, date.getMinute());
+        AssertHelper.assertEquals(60.5, date.getSecond(), 0.0);
+    }
+
     @Nonnull
     private static final TestContextRule rule$testContext = new TestContextRule();
 
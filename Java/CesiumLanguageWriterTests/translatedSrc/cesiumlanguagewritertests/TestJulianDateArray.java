@@ -0,0 +1,174 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJulianDateArray {
+    @Nonnull
+    private static ArrayList<JulianDate> createDates(int count, @Nonnull TimeStandard standard) {
+        Random random = new Random(11);
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        // Span the leap second at the end of 2016.
+        JulianDate date = new JulianDate(2457754, 43100.0, standard);
+        while (dates.size() < count) {
+            // A UTC date cannot represent the leap second itself.
+            if (date.getStandard() == standard) {
+                dates.add(date);
+            }
+            date = date.addSeconds(random.nextDouble() * 10.0);
+        }
+        return dates;
+    }
+
+    @Test
+    public final void bulkOperationsMatchJulianDate() {
+        for (TimeStandard standard : TimeStandard.values()) {
+            ArrayList<JulianDate> dates = createDates(50, standard);
+            JulianDateArray array = new JulianDateArray(dates, standard);
+            AssertHelper.assertEquals(dates.size(), array.size());
+            JulianDateArray tai = array.toTimeStandard(TimeStandard.INTERNATIONAL_ATOMIC_TIME);
+            JulianDateArray added = array.addSeconds(86400.5);
+            JulianDate epoch = dates.get(3);
+            JulianDate taiEpoch = epoch.toInternationalAtomicTime();
+            double[] differences = new double[dates.size()];
+            array.secondsDifferences(epoch, 0, dates.size(), differences, 0);
+            for (int i = 0; i < dates.size(); ++i) {
+                Assert.assertTrue(dates.get(i).isIdentical(array.get(i)));
+                Assert.assertTrue(dates.get(i).toInternationalAtomicTime().isIdentical(tai.get(i)));
+                Assert.assertTrue(dates.get(i).addSeconds(86400.5).isIdentical(added.get(i)));
+                AssertHelper.assertEquals(epoch.secondsDifference(dates.get(i)), differences[i], 0.0);
+                AssertHelper.assertEquals(epoch.secondsDifference(dates.get(i)), array.secondsDifference(taiEpoch.getDay(), taiEpoch.getSecondsOfDay(), i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public final void binarySearchFindsDates() {
+        ArrayList<JulianDate> dates = createDates(20, TimeStandard.INTERNATIONAL_ATOMIC_TIME);
+        JulianDateArray array = new JulianDateArray(dates, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+        AssertHelper.assertEquals(7, array.binarySearch(dates.get(7)));
+        AssertHelper.assertEquals(~0, array.binarySearch(dates.get(0).addSeconds(-1.0)));
+        AssertHelper.assertEquals(~20, array.binarySearch(dates.get(19).addSeconds(1.0)));
+        AssertHelper.assertEquals(~8, array.binarySearch(JulianDate.add(dates.get(7), Duration.fromSeconds(1e-6))));
+    }
+
+    @Test
+    public final void sampledWritersAcceptArray() {
+        ArrayList<JulianDate> dates = createDates(6, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+        ArrayList<Cartesian> positions = new ArrayList<Cartesian>();
+        for (int i = 0; i < dates.size(); ++i) {
+            positions.add(new Cartesian(i, 2.0 * i, 3.0 * i));
+        }
+        AssertHelper.assertEquals(writePositions(dates, positions), writePositions(new JulianDateArray(dates, TimeStandard.COORDINATED_UNIVERSAL_TIME), positions));
+        AssertHelper.assertEquals(writePositions(dates, positions), writePositions(new JulianDateArray(dates, TimeStandard.INTERNATIONAL_ATOMIC_TIME), positions));
+        SharedTimeGrid grid = new SharedTimeGrid(new JulianDateArray(dates, TimeStandard.COORDINATED_UNIVERSAL_TIME), 1, 5);
+        AssertHelper.assertEquals(dates.get(1).secondsDifference(dates.get(5)), grid.getOffset(4), 0.0);
+    }
+
+    @Nonnull
+    private static String writePositions(@Nonnull List<JulianDate> dates, @Nonnull List<Cartesian> positions) {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                using$1.resource.writeCartesian(dates, positions);
+            }
+        }
+        return stringWriter.toString();
+    }
+
+    @Test
+    public final void epochTimesMatchZonedDateTime() {
+        Random random = new Random(5);
+        long[] milliseconds = new long[50];
+        long[] nanoseconds = new long[milliseconds.length];
+        ArrayList<Instant> instants = new ArrayList<Instant>();
+        for (int i = 0; i < milliseconds.length; ++i) {
+            milliseconds[i] = (long) (random.nextDouble() * 4e12) - 1000000000000L;
+            nanoseconds[i] = milliseconds[i] * 1000000L + random.nextInt(1000000);
+            instants.add(Instant.ofEpochSecond(0L, nanoseconds[i]));
+        }
+        JulianDateArray fromMilliseconds = JulianDateArray.fromEpochMilliseconds(milliseconds);
+        JulianDateArray fromNanoseconds = JulianDateArray.fromEpochNanoseconds(nanoseconds);
+        JulianDateArray fromInstants = JulianDateArray.fromInstants(instants);
+        for (int i = 0; i < milliseconds.length; ++i) {
+            JulianDate expected = new JulianDate(ZonedDateTime.ofInstant(Instant.ofEpochMilli(milliseconds[i]), ZoneOffset.UTC));
+            AssertHelper.assertEquals(TimeStandard.COORDINATED_UNIVERSAL_TIME, fromMilliseconds.getStandard());
+            AssertHelper.assertEquals(0.0, expected.secondsDifference(fromMilliseconds.get(i)), 1e-10);
+            expected = new JulianDate(ZonedDateTime.ofInstant(instants.get(i), ZoneOffset.UTC));
+            AssertHelper.assertEquals(0.0, expected.secondsDifference(fromNanoseconds.get(i)), 1e-6);
+            Assert.assertTrue(fromNanoseconds.get(i).isIdentical(fromInstants.get(i)));
+        }
+    }
+
+    @Test
+    public final void epochTimesIncludeLeapSeconds() {
+        long before = Instant.parse("2016-12-31T23:59:59Z").toEpochMilli();
+        long after = Instant.parse("2017-01-01T00:00:00Z").toEpochMilli();
+        JulianDateArray array = JulianDateArray.fromEpochMilliseconds(new long[] {
+            before,
+            after,
+            -1L
+        });
+        AssertHelper.assertEquals(2.0, array.secondsDifference(array.get(0), 1), 0.0);
+        AssertHelper.assertEquals(2440587, array.getDay(2));
+        AssertHelper.assertEquals(43199.999, array.getSecondsOfDay(2), 0.0);
+    }
+
+    @Test
+    public final void normalizesSeconds() {
+        JulianDateArray array = new JulianDateArray(TimeStandard.INTERNATIONAL_ATOMIC_TIME, new int[] {
+            2451545,
+            2451545
+        }, new double[] {
+            -10.0,
+            86410.0
+        });
+        AssertHelper.assertEquals(2451544, array.getDay(0));
+        AssertHelper.assertEquals(86390.0, array.getSecondsOfDay(0), 0.0);
+        AssertHelper.assertEquals(2451546, array.getDay(1));
+        AssertHelper.assertEquals(10.0, array.getSecondsOfDay(1), 0.0);
+    }
+
+    @Test(expected = ArgumentException.class)
+    public final void arraysMustHaveSameLength() {
+        new JulianDateArray(TimeStandard.INTERNATIONAL_ATOMIC_TIME, new int[2], new double[3]);
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -3,11 +3,13 @@ package cesiumlanguagewritertests;
 
 import agi.foundation.compatibility.*;
 import agi.foundation.compatibility.Action;
+import agi.foundation.compatibility.ArgumentNullException;
 import agi.foundation.compatibility.ArgumentOutOfRangeException;
 import agi.foundation.compatibility.AssertHelper;
 import agi.foundation.compatibility.TestContextRule;
 import agi.foundation.TypeLiteral;
 import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
 import java.util.ArrayList;
 import java.util.Collection;
 import javax.annotation.Nonnull;
@@ -161,6 +163,59 @@ public class TestLeapSeconds {
         AssertHelper.assertEquals(50, i);
     }
 
+    /**
+    * Tests the offset of TAI dates specified by day and seconds, including during a leap second.
+    */
+    @Test
+    public final void testGetTaiMinusUtcOfTai() {
+        LeapSeconds leapSeconds = new LeapSeconds();
+        JulianDate before = new GregorianDate(2016, 12, 31, 23, 59, 59.0).toJulianDate().toInternationalAtomicTime();
+        JulianDate during = new GregorianDate(2016, 12, 31, 23, 59, 60.5).toJulianDate();
+        JulianDate after = new GregorianDate(2017, 1, 1, 0, 0, 0.0).toJulianDate().toInternationalAtomicTime();
+        AssertHelper.assertEquals(36.0, leapSeconds.getTaiMinusUtcOfTai(before.getDay(), before.getSecondsOfDay()), 0.0);
+        Assert.assertTrue(Double.isNaN(leapSeconds.getTaiMinusUtcOfTai(during.getDay(), during.getSecondsOfDay())));
+        AssertHelper.assertEquals(37.0, leapSeconds.getTaiMinusUtcOfTai(after.getDay(), after.getSecondsOfDay()), 0.0);
+        AssertHelper.assertEquals(10.0, leapSeconds.getTaiMinusUtcOfTai(2400000, 0.0), 0.0);
+    }
+
+    @Test
+    public final void testSetInstanceReplacesTable() {
+        LeapSeconds original = LeapSeconds.getInstance();
+        try {
+            ArrayList<LeapSecond> table = new ArrayList<LeapSecond>();
+            table.add(new LeapSecond(2441317.5, 10.0));
+            table.add(new LeapSecond(2450000.5, 20.0));
+            LeapSeconds.setInstance(new LeapSeconds(table));
+            JulianDate date = new JulianDate(2450001.5, TimeStandard.COORDINATED_UNIVERSAL_TIME);
+            AssertHelper.assertEquals(20, LeapSeconds.getInstance().getTaiMinusUtc(date));
+            Assert.assertTrue(LeapSeconds.getInstance().doesDayHaveLeapSecond(2450000));
+        } finally {
+            LeapSeconds.setInstance(original);
+        }
+    }
+
+    @Test
+    public final void testSetInstanceInvalidatesCachedFormatting() {
+        LeapSeconds original = LeapSeconds.getInstance();
+        try {
+            JulianDate date = new GregorianDate(2017, 6, 1, 12, 1, 3.0).toJulianDate().toInternationalAtomicTime();
+            AssertHelper.assertEquals("2017-06-01T12:01:03Z", CesiumFormattingHelper.toIso8601(date, Iso8601Format.EXTENDED));
+            AssertHelper.assertEquals("2017-06-01T12:01:03Z/2017-06-01T12:01:03Z", CesiumFormattingHelper.toIso8601Interval(date, date, Iso8601Format.EXTENDED));
+            ArrayList<LeapSecond> table = new ArrayList<LeapSecond>();
+            table.add(new LeapSecond(2441317.5, 10.0));
+            LeapSeconds.setInstance(new LeapSeconds(table));
+            AssertHelper.assertEquals("2017-06-01T12:01:30Z", CesiumFormattingHelper.toIso8601(date, Iso8601Format.EXTENDED));
+            AssertHelper.assertEquals("2017-06-01T12:01:30Z/2017-06-01T12:01:30Z", CesiumFormattingHelper.toIso8601Interval(date, date, Iso8601Format.EXTENDED));
+        } finally {
+            LeapSeconds.setInstance(original);
+        }
+    }
+
+    @Test(expected = ArgumentNullException.class)
+    public final void testSetInstanceRejectsNull() {
+        LeapSeconds.setInstance(null);
+    }
+
     @Nonnull
     private static final TestContextRule rule$testContext = new TestContextRule();
 
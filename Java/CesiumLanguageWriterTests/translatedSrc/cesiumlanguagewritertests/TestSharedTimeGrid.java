@@ -0,0 +1,185 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSharedTimeGrid {
+    @Nonnull
+    private final JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+
+    @Nonnull
+    private ArrayList<JulianDate> createDates(int count) {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        for (int i = 0; i < count; ++i) {
+            dates.add(m_epoch.addSeconds(i * 60.5));
+        }
+        return dates;
+    }
+
+    @Test
+    public final void offsetsAreRelativeToFirstDate() {
+        ArrayList<JulianDate> dates = createDates(4);
+        SharedTimeGrid grid = new SharedTimeGrid(dates, 1, 3);
+        AssertHelper.assertEquals(3, grid.getCount());
+        AssertHelper.assertEquals(dates.get(1), grid.getEpoch());
+        AssertHelper.assertEquals(0.0, grid.getOffset(0), 0.0);
+        AssertHelper.assertEquals(121.0, grid.getOffset(2), 0.0);
+        AssertHelper.assertEquals("20120402T120100.5Z", grid.getEpochIso8601(Iso8601Format.COMPACT));
+        AssertHelper.assertEquals("2012-04-02T12:01:00.5Z", grid.getEpochIso8601(Iso8601Format.EXTENDED));
+    }
+
+    @Test
+    public final void gridOutputMatchesPerPropertyOutput() {
+        ArrayList<JulianDate> dates = createDates(5);
+        ArrayList<Cartesian> positions = new ArrayList<Cartesian>();
+        ArrayList<UnitQuaternion> orientations = new ArrayList<UnitQuaternion>();
+        for (int i = 0; i < dates.size(); ++i) {
+            positions.add(new Cartesian(i * 1.5, -i, 1e7 + i));
+            orientations.add(new UnitQuaternion(Math.cos(i * 0.1), 0.0, 0.0, Math.sin(i * 0.1)));
+        }
+        SharedTimeGrid grid = new SharedTimeGrid(dates);
+        for (boolean pretty : new boolean[] {
+                false,
+                true
+        }) {
+            StringWriter expected = new StringWriter();
+            {
+                CesiumOutputStream output = new CesiumOutputStream(expected, pretty);
+                CesiumStreamWriter writer = new CesiumStreamWriter();
+                try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+                    final PacketCesiumWriter packet = using$0.resource;
+                    try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                        using$1.resource.writeCartesian(dates, positions);
+                    }
+                    try (Using<OrientationCesiumWriter> using$2 = new Using<OrientationCesiumWriter>(packet.openOrientationProperty())) {
+                        using$2.resource.writeUnitQuaternion(dates, orientations);
+                    }
+                }
+            }
+            StringWriter actual = new StringWriter();
+            {
+                CesiumOutputStream output = new CesiumOutputStream(actual, pretty);
+                CesiumStreamWriter writer = new CesiumStreamWriter();
+                try (Using<PacketCesiumWriter> using$3 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+                    final PacketCesiumWriter packet = using$3.resource;
+                    try (Using<PositionCesiumWriter> using$4 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                        using$4.resource.writeCartesian(grid, positions);
+                    }
+                    try (Using<OrientationCesiumWriter> using$5 = new Using<OrientationCesiumWriter>(packet.openOrientationProperty())) {
+                        using$5.resource.writeUnitQuaternion(grid, orientations);
+                    }
+                }
+            }
+            AssertHelper.assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public final void rangeOfGridUsesFirstDateOfRangeAsEpoch() {
+        ArrayList<JulianDate> dates = createDates(3);
+        ArrayList<Double> values = new ArrayList<Double>();
+        values.add(1.0);
+        values.add(2.0);
+        values.add(3.0);
+        SharedTimeGrid grid = new SharedTimeGrid(dates);
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PathCesiumWriter> using$1 = new Using<PathCesiumWriter>(packet.openPathProperty())) {
+                final PathCesiumWriter path = using$1.resource;
+                try (Using<DoubleCesiumWriter> using$2 = new Using<DoubleCesiumWriter>(path.openLeadTimeProperty())) {
+                    using$2.resource.writeNumber(grid, values, 1, 2);
+                }
+            }
+        }
+        AssertHelper.assertEquals("{\"path\":{\"leadTime\":{\"epoch\":\"20120402T120100.5Z\",\"number\":[0,2,60.5,3]}}}", stringWriter.toString());
+    }
+
+    @Test
+    public final void rangeOfGridMatchesRangeOfDates() {
+        ArrayList<JulianDate> dates = createDates(6);
+        ArrayList<Cartesian> positions = new ArrayList<Cartesian>();
+        for (int i = 0; i < dates.size(); ++i) {
+            positions.add(new Cartesian(i * 1.5, -i, 1e7 + i));
+        }
+        for (final List<JulianDate> gridDates : new List[] {
+            dates,
+            new JulianDateArray(dates, TimeStandard.COORDINATED_UNIVERSAL_TIME)
+        }) {
+            SharedTimeGrid grid = new SharedTimeGrid(gridDates);
+            for (boolean pretty : new boolean[] {
+                    false,
+                    true
+            }) {
+                StringWriter expected = new StringWriter();
+                {
+                    CesiumOutputStream output = new CesiumOutputStream(expected, pretty);
+                    try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(new CesiumStreamWriter().openPacket(output))) {
+                        try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(using$0.resource.openPositionProperty())) {
+                            using$1.resource.writeCartesian(dates, positions, 2, 3);
+                        }
+                    }
+                }
+                StringWriter actual = new StringWriter();
+                {
+                    CesiumOutputStream output = new CesiumOutputStream(actual, pretty);
+                    try (Using<PacketCesiumWriter> using$2 = new Using<PacketCesiumWriter>(new CesiumStreamWriter().openPacket(output))) {
+                        try (Using<PositionCesiumWriter> using$3 = new Using<PositionCesiumWriter>(using$2.resource.openPositionProperty())) {
+                            using$3.resource.writeCartesian(grid, positions, 2, 3);
+                        }
+                    }
+                }
+                AssertHelper.assertEquals(expected.toString(), actual.toString());
+            }
+        }
+    }
+
+    @Test(expected = ArgumentException.class)
+    public final void valuesMustMatchGrid() {
+        SharedTimeGrid grid = new SharedTimeGrid(createDates(3));
+        ArrayList<Cartesian> positions = new ArrayList<Cartesian>();
+        positions.add(Cartesian.getZero());
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                using$1.resource.writeCartesian(grid, positions);
+            }
+        }
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
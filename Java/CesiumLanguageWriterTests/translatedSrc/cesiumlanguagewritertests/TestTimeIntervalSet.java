@@ -0,0 +1,126 @@
+package cesiumlanguagewritertests;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTimeIntervalSet {
+    @Nonnull
+    private final JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+
+    @Nonnull
+    private TimeInterval interval(double start, double stop) {
+        return new TimeInterval(m_epoch.addSeconds(start), m_epoch.addSeconds(stop));
+    }
+
+    @Nonnull
+    private TimeIntervalSet randomSet(@Nonnull Random random, int count) {
+        ArrayList<TimeInterval> intervals = new ArrayList<TimeInterval>();
+        for (int i = 0; i < count; ++i) {
+            int start = random.nextInt(1000);
+            intervals.add(interval(start, start + random.nextInt(40)));
+        }
+        return new TimeIntervalSet(intervals);
+    }
+
+    @Test
+    public final void constructionSortsAndCoalesces() {
+        ArrayList<TimeInterval> intervals = new ArrayList<TimeInterval>();
+        intervals.add(interval(50.0, 60.0));
+        intervals.add(interval(0.0, 10.0));
+        intervals.add(interval(5.0, 20.0));
+        intervals.add(interval(20.0, 30.0));
+        intervals.add(interval(40.0, 40.0));
+        TimeIntervalSet set = new TimeIntervalSet(intervals);
+        AssertHelper.assertEquals(2, set.size());
+        AssertHelper.assertEquals(interval(0.0, 30.0), set.get(0));
+        AssertHelper.assertEquals(interval(50.0, 60.0), set.get(1));
+        Assert.assertTrue(set.contains(m_epoch.addSeconds(30.0)));
+        Assert.assertFalse(set.contains(m_epoch.addSeconds(40.0)));
+        AssertHelper.assertEquals(1, set.findIntervalIndex(m_epoch.addSeconds(55.0)));
+        AssertHelper.assertEquals(-1, set.findIntervalIndex(m_epoch.addSeconds(-1.0)));
+    }
+
+    @Test
+    public final void setOperationsMatchPointSampling() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 50; ++trial) {
+            TimeIntervalSet a = randomSet(random, 30);
+            TimeIntervalSet b = randomSet(random, 30);
+            TimeIntervalSet union = a.union(b);
+            TimeIntervalSet intersection = a.intersection(b);
+            TimeIntervalSet difference = a.difference(b);
+            // Sample between whole seconds so that the closed end points do not matter.
+            for (double t = -0.5; t < 1050.0; t += 1.0) {
+                JulianDate date = m_epoch.addSeconds(t);
+                AssertHelper.assertEquals(a.contains(date) || b.contains(date), union.contains(date));
+                AssertHelper.assertEquals(a.contains(date) && b.contains(date), intersection.contains(date));
+                AssertHelper.assertEquals(a.contains(date) && !b.contains(date), difference.contains(date));
+            }
+            for (TimeIntervalSet set : new TimeIntervalSet[] {
+                union,
+                intersection,
+                difference
+            }) {
+                for (int i = 1; i < set.size(); ++i) {
+                    Assert.assertTrue(JulianDate.lessThan(set.get(i - 1).getStop(), set.get(i).getStart()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public final void fillGapsJoinsNearbyIntervals() {
+        ArrayList<TimeInterval> intervals = new ArrayList<TimeInterval>();
+        intervals.add(interval(0.0, 10.0));
+        intervals.add(interval(11.0, 20.0));
+        intervals.add(interval(25.0, 30.0));
+        TimeIntervalSet set = new TimeIntervalSet(intervals).fillGaps(1.0);
+        AssertHelper.assertEquals(2, set.size());
+        AssertHelper.assertEquals(interval(0.0, 20.0), set.get(0));
+        AssertHelper.assertEquals(interval(25.0, 30.0), set.get(1));
+    }
+
+    @Test
+    public final void writesAvailability() {
+        ArrayList<TimeInterval> intervals = new ArrayList<TimeInterval>();
+        intervals.add(new TimeInterval(new GregorianDate(2012, 4, 2).toJulianDate(), new GregorianDate(2012, 4, 3).toJulianDate()));
+        intervals.add(new TimeInterval(new GregorianDate(2012, 4, 1).toJulianDate(), new GregorianDate(2012, 4, 2).toJulianDate()));
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            using$0.resource.writeAvailability(new TimeIntervalSet(intervals));
+        }
+        AssertHelper.assertEquals("{\"availability\":\"20120401T00Z/20120403T00Z\"}", stringWriter.toString());
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -327,6 +327,14 @@ public class TestYearMonthDay {
         AssertHelper.assertEquals(ymd.getDayOfYear(), ymd2.getDayOfYear());
     }
 
+    @Test
+    public final void testFromJulianDayNumberMatchesConstructor() {
+        for (int julianDayNumber = 2451000; julianDayNumber < 2452000; ++julianDayNumber) {
+            AssertHelper.assertEquals(new YearMonthDay(julianDayNumber), YearMonthDay.fromJulianDayNumber(julianDayNumber));
+        }
+        Assert.assertSame(YearMonthDay.fromJulianDayNumber(2451545), YearMonthDay.fromJulianDayNumber(2451545));
+    }
+
     @Nonnull
     private static final TestContextRule rule$testContext = new TestContextRule();
 
@@ -0,0 +1,219 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.Func2;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumAdaptiveSampler {
+    @Nonnull
+    private final JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+
+    @Nonnull
+    private Func2<JulianDate, Cartesian> createOrbit(final double radius, final double period) {
+        return Func2.<JulianDate, Cartesian> of(date -> {
+            double angle = 2.0 * Math.PI * m_epoch.secondsDifference(date) / period;
+            return new Cartesian(radius * Math.cos(angle), radius * Math.sin(angle), 0.0);
+        });
+    }
+
+    @Test
+    public final void linearMotionNeedsOnlyEndpoints() {
+        Func2<JulianDate, Cartesian> function = Func2.<JulianDate, Cartesian> of(date -> new Cartesian(m_epoch.secondsDifference(date), 0.0, 0.0));
+        CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LINEAR, 1, 1e-6, Duration.fromSeconds(1000.0), Duration.fromSeconds(1.0));
+        CesiumSampleSeries<Cartesian> samples = sampler.sampleCartesian(function, m_epoch, m_epoch.addSeconds(100.0));
+        AssertHelper.assertEquals(2, samples.getDates().size());
+        AssertHelper.assertEquals(m_epoch, samples.getDates().get(0));
+        AssertHelper.assertEquals(new Cartesian(100.0, 0.0, 0.0), samples.getValues().get(1));
+    }
+
+    @Test
+    public final void smoothOrbitNeedsFewSamplesWithinTolerance() {
+        final double radius = 7000000.0;
+        final double period = 5400.0;
+        CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LAGRANGE, 5, 1.0, Duration.fromSeconds(600.0), Duration.fromSeconds(1.0));
+        CesiumSampleSeries<Cartesian> samples = sampler.sampleCartesian(createOrbit(radius, period), m_epoch, m_epoch.addSeconds(period));
+        List<JulianDate> dates = samples.getDates();
+        Assert.assertTrue(dates.size() < 200);
+        for (int i = 1; i < dates.size(); ++i) {
+            Assert.assertTrue(JulianDate.lessThan(dates.get(i - 1), dates.get(i)));
+            Assert.assertTrue(dates.get(i - 1).secondsDifference(dates.get(i)) <= 600.0 + 1e-6);
+        }
+        AssertHelper.assertEquals(m_epoch.addSeconds(period), dates.get(dates.size() - 1));
+    }
+
+    @Test
+    public final void samplesAreDenserAroundManeuvers() {
+        final JulianDate maneuver = m_epoch.addSeconds(1234.5);
+        Func2<JulianDate, Cartesian> function = Func2.<JulianDate, Cartesian> of(date -> {
+            double t = m_epoch.secondsDifference(date);
+            double x = t < 1234.5 ? 7.0 * t : 8641.5 + 2.0 * (t - 1234.5);
+            return new Cartesian(x, 0.0, 0.0);
+        });
+        CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LINEAR, 1, 0.01, Duration.fromSeconds(500.0), Duration.fromSeconds(0.01));
+        CesiumSampleSeries<Cartesian> samples = sampler.sampleCartesian(function, m_epoch, m_epoch.addSeconds(2000.0));
+        int nearManeuver = 0;
+        for (JulianDate date : samples.getDates()) {
+            if (Math.abs(maneuver.secondsDifference(date)) < 10.0) {
+                ++nearManeuver;
+            }
+        }
+        Assert.assertTrue(nearManeuver >= 5);
+        Assert.assertTrue(samples.getDates().size() - nearManeuver <= 10);
+    }
+
+    @Test
+    public final void constantRotationRateNeedsOnlyEndpoints() {
+        Func2<JulianDate, UnitQuaternion> function = Func2.<JulianDate, UnitQuaternion> of(date -> {
+            double halfAngle = Math.toRadians(m_epoch.secondsDifference(date)) / 2.0;
+            return new UnitQuaternion(Math.cos(halfAngle), 0.0, 0.0, Math.sin(halfAngle));
+        });
+        CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LINEAR, 1, 1e-9, Duration.fromSeconds(60.0), Duration.fromSeconds(1.0));
+        CesiumSampleSeries<UnitQuaternion> samples = sampler.sampleUnitQuaternion(function, m_epoch, m_epoch.addSeconds(60.0));
+        AssertHelper.assertEquals(2, samples.getDates().size());
+    }
+
+    @Test
+    public final void parallelSamplingMatchesSequentialSampling() {
+        CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LAGRANGE, 5, 1.0, Duration.fromSeconds(600.0), Duration.fromSeconds(1.0));
+        ArrayList<Func2<JulianDate, Cartesian>> functions = new ArrayList<Func2<JulianDate, Cartesian>>();
+        for (int i = 0; i < 8; ++i) {
+            functions.add(createOrbit(7000000.0 + i * 100000.0, 5400.0 + i * 600.0));
+        }
+        JulianDate stop = m_epoch.addSeconds(3600.0);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CesiumSampleSeries<Cartesian>> results = sampler.sampleCartesian(functions, m_epoch, stop, executor);
+            AssertHelper.assertEquals(functions.size(), results.size());
+            for (int i = 0; i < functions.size(); ++i) {
+                CesiumSampleSeries<Cartesian> expected = sampler.sampleCartesian(functions.get(i), m_epoch, stop);
+                AssertHelper.assertEquals(expected.getDates(), results.get(i).getDates());
+                AssertHelper.assertEquals(expected.getValues(), results.get(i).getValues());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void cartographicErrorIsMeasuredInMeters() {
+        // Constant rates of longitude and height are reproduced exactly by linear interpolation.
+        Func2<JulianDate, Cartographic> function = Func2.<JulianDate, Cartographic> of(date -> {
+            double t = m_epoch.secondsDifference(date);
+            return new Cartographic(Math.toRadians(0.01 * t), 0.5, 10.0 * t);
+        });
+        CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LINEAR, 1, 1e-6, Duration.fromSeconds(1000.0), Duration.fromSeconds(1.0));
+        AssertHelper.assertEquals(2, sampler.sampleCartographic(function, m_epoch, m_epoch.addSeconds(100.0)).getDates().size());
+        // A varying latitude is sampled until the midpoints are within a meter of the true position.
+        final double tolerance = 1.0;
+        function = Func2.<JulianDate, Cartographic> of(date -> {
+            double t = m_epoch.secondsDifference(date);
+            return new Cartographic(0.0, 0.5 * Math.sin(2.0 * Math.PI * t / 5400.0), 400000.0);
+        });
+        sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LINEAR, 1, tolerance, Duration.fromSeconds(600.0), Duration.fromSeconds(0.01));
+        CesiumSampleSeries<Cartographic> samples = sampler.sampleCartographic(function, m_epoch, m_epoch.addSeconds(5400.0));
+        List<JulianDate> dates = samples.getDates();
+        List<Cartographic> values = samples.getValues();
+        Assert.assertTrue(dates.size() > 10);
+        for (int i = 1; i < dates.size(); ++i) {
+            JulianDate midpoint = dates.get(i - 1).addSeconds(dates.get(i - 1).secondsDifference(dates.get(i)) * 0.5);
+            double actualLatitude = function.invoke(midpoint).getLatitude();
+            double interpolatedLatitude = (values.get(i - 1).getLatitude() + values.get(i).getLatitude()) * 0.5;
+            // Along a meridian, the distance is approximately the latitude difference times the radius.
+            Assert.assertTrue(Math.abs(actualLatitude - interpolatedLatitude) * (6378137.0 + 400000.0) <= tolerance * 1.01);
+        }
+    }
+
+    @Test
+    public final void failedTaskCancelsRemainingTasks() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        ArrayList<Func2<JulianDate, Cartesian>> functions = new ArrayList<Func2<JulianDate, Cartesian>>();
+        functions.add(Func2.<JulianDate, Cartesian> of(date -> {
+            // Fail only once the other task is running, so that it must be interrupted rather than merely not started.
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            throw new IllegalStateException("failed");
+        }));
+        functions.add(Func2.<JulianDate, Cartesian> of(date -> {
+            started.countDown();
+            try {
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw new RuntimeException(e);
+            }
+            return Cartesian.getZero();
+        }));
+        final CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LINEAR, 1, 1.0, Duration.fromSeconds(600.0), Duration.fromSeconds(1.0));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            sampler.sampleCartesian(functions, m_epoch, m_epoch.addSeconds(60.0), executor);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            AssertHelper.assertEquals("failed", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        Assert.assertTrue(interrupted.get());
+    }
+
+    @Test
+    public final void writeCartesianWritesInterpolationAndSamples() {
+        Func2<JulianDate, Cartesian> function = Func2.<JulianDate, Cartesian> of(date -> new Cartesian(m_epoch.secondsDifference(date), 0.0, 0.0));
+        CesiumAdaptiveSampler sampler = new CesiumAdaptiveSampler(CesiumInterpolationAlgorithm.LINEAR, 1, 1e-6, Duration.fromSeconds(1000.0), Duration.fromSeconds(1.0));
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                final PositionCesiumWriter position = using$1.resource;
+                sampler.writeCartesian(position, function, m_epoch, m_epoch.addSeconds(100.0));
+            }
+        }
+        AssertHelper.assertEquals("{\"position\":{\"interpolationAlgorithm\":\"LINEAR\",\"interpolationDegree\":1,\"epoch\":\"20120402T12Z\",\"cartesian\":[0,0,0,0,100,100,0,0]}}",
+                stringWriter.toString());
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
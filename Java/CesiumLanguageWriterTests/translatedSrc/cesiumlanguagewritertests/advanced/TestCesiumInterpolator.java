@@ -0,0 +1,219 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.util.ArrayList;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumInterpolator {
+    @Test
+    public final void linearInterpolatesBetweenSurroundingSamples() {
+        double[] times = new double[] {
+                0.0,
+                10.0,
+                20.0
+        };
+        double[] values = new double[] {
+                0.0,
+                100.0,
+                400.0
+        };
+        CesiumInterpolator interpolator = CesiumInterpolator.createNumber(CesiumInterpolationAlgorithm.LINEAR, 1);
+        interpolator.setSamples(times, values, 3);
+        double[] result = new double[1];
+        Assert.assertTrue(interpolator.interpolate(5.0, result));
+        AssertHelper.assertEquals(50.0, result[0], 1e-12);
+        Assert.assertTrue(interpolator.interpolate(15.0, result));
+        AssertHelper.assertEquals(250.0, result[0], 1e-12);
+        Assert.assertTrue(interpolator.interpolate(20.0, result));
+        AssertHelper.assertEquals(400.0, result[0], 0.0);
+    }
+
+    @Test
+    public final void timesOutsideSamplesAreNotInterpolated() {
+        CesiumInterpolator interpolator = CesiumInterpolator.createNumber(CesiumInterpolationAlgorithm.LAGRANGE, 3);
+        interpolator.setSamples(new double[] {
+                0.0,
+                1.0
+        }, new double[] {
+                1.0,
+                2.0
+        }, 2);
+        double[] result = new double[1];
+        Assert.assertFalse(interpolator.interpolate(-0.5, result));
+        Assert.assertFalse(interpolator.interpolate(1.5, result));
+        Assert.assertTrue(interpolator.interpolate(0.5, result));
+        AssertHelper.assertEquals(1.5, result[0], 1e-12);
+    }
+
+    @Test
+    public final void lagrangeReproducesPolynomialOfSameDegree() {
+        final int count = 50;
+        double[] times = new double[count];
+        double[] values = new double[count * 3];
+        for (int i = 0; i < count; ++i) {
+            double t = i * 7.0;
+            times[i] = t;
+            values[i * 3] = cubic(t);
+            values[i * 3 + 1] = 2.0 * cubic(t);
+            values[i * 3 + 2] = -cubic(t);
+        }
+        CesiumInterpolator interpolator = CesiumInterpolator.createCartesian(CesiumInterpolationAlgorithm.LAGRANGE, 3);
+        interpolator.setSamples(times, values, count);
+        double[] result = new double[3];
+        for (double t = 0.0; t <= times[count - 1]; t += 1.3) {
+            Assert.assertTrue(interpolator.interpolate(t, result));
+            AssertHelper.assertEquals(cubic(t), result[0], 1e-6 * Math.abs(cubic(t)) + 1e-9);
+            AssertHelper.assertEquals(2.0 * cubic(t), result[1], 2e-6 * Math.abs(cubic(t)) + 1e-9);
+            AssertHelper.assertEquals(-cubic(t), result[2], 1e-6 * Math.abs(cubic(t)) + 1e-9);
+        }
+    }
+
+    @Test
+    public final void hermiteWithVelocitiesReproducesCubicFromTwoSamples() {
+        double[] times = new double[] {
+                0.0,
+                10.0,
+                30.0
+        };
+        double[] values = new double[times.length * 2];
+        for (int i = 0; i < times.length; ++i) {
+            values[i * 2] = cubic(times[i]);
+            values[i * 2 + 1] = cubicDerivative(times[i]);
+        }
+        CesiumInterpolator interpolator = new CesiumInterpolator(CesiumInterpolationAlgorithm.HERMITE, 3, 1, 1);
+        AssertHelper.assertEquals(2, interpolator.getRequiredPointCount());
+        interpolator.setSamples(times, values, times.length);
+        double[] result = new double[1];
+        for (double t = 0.0; t <= 30.0; t += 0.7) {
+            Assert.assertTrue(interpolator.interpolate(t, result));
+            AssertHelper.assertEquals(cubic(t), result[0], 1e-9 * Math.abs(cubic(t)) + 1e-9);
+        }
+    }
+
+    @Test
+    public final void hermiteWithoutVelocitiesMatchesLagrange() {
+        final int count = 20;
+        double[] times = new double[count];
+        double[] values = new double[count];
+        for (int i = 0; i < count; ++i) {
+            times[i] = i * i;
+            values[i] = Math.sin(i * 0.3);
+        }
+        CesiumInterpolator hermite = CesiumInterpolator.createNumber(CesiumInterpolationAlgorithm.HERMITE, 5);
+        CesiumInterpolator lagrange = CesiumInterpolator.createNumber(CesiumInterpolationAlgorithm.LAGRANGE, 5);
+        hermite.setSamples(times, values, count);
+        lagrange.setSamples(times, values, count);
+        double[] hermiteResult = new double[1];
+        double[] lagrangeResult = new double[1];
+        for (double t = 0.0; t <= times[count - 1]; t += 2.5) {
+            Assert.assertTrue(hermite.interpolate(t, hermiteResult));
+            Assert.assertTrue(lagrange.interpolate(t, lagrangeResult));
+            AssertHelper.assertEquals(lagrangeResult[0], hermiteResult[0], 1e-12);
+        }
+    }
+
+    @Test
+    public final void slidingWindowMatchesRandomAccess() {
+        final int count = 200;
+        double[] times = new double[count];
+        double[] values = new double[count];
+        for (int i = 0; i < count; ++i) {
+            times[i] = i * 3.0 + Math.sin(i);
+            values[i] = Math.cos(i * 0.1) * 1000.0;
+        }
+        CesiumInterpolator sequential = CesiumInterpolator.createNumber(CesiumInterpolationAlgorithm.LAGRANGE, 7);
+        sequential.setSamples(times, values, count);
+        double[] sequentialResult = new double[1];
+        double[] randomResult = new double[1];
+        for (double t = times[0]; t <= times[count - 1]; t += 0.37) {
+            CesiumInterpolator random = CesiumInterpolator.createNumber(CesiumInterpolationAlgorithm.LAGRANGE, 7);
+            random.setSamples(times, values, count);
+            Assert.assertTrue(sequential.interpolate(t, sequentialResult));
+            Assert.assertTrue(random.interpolate(t, randomResult));
+            AssertHelper.assertEquals(randomResult[0], sequentialResult[0], 0.0);
+        }
+        // Jumping backwards must also find the right window.
+        Assert.assertTrue(sequential.interpolate(times[3] + 0.5, sequentialResult));
+        CesiumInterpolator random = CesiumInterpolator.createNumber(CesiumInterpolationAlgorithm.LAGRANGE, 7);
+        random.setSamples(times, values, count);
+        Assert.assertTrue(random.interpolate(times[3] + 0.5, randomResult));
+        AssertHelper.assertEquals(randomResult[0], sequentialResult[0], 0.0);
+    }
+
+    @Test
+    public final void unitQuaternionInterpolatesConstantRotationRate() {
+        JulianDate epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<UnitQuaternion> values = new ArrayList<UnitQuaternion>();
+        for (int i = 0; i <= 4; ++i) {
+            dates.add(epoch.addSeconds(i * 10.0));
+            values.add(rotationAboutZ(Math.toRadians(i * 10.0)));
+        }
+        double[] times = new double[dates.size()];
+        double[] components = new double[dates.size() * 4];
+        CesiumInterpolator.computeTimes(epoch, dates, 0, dates.size(), times);
+        CesiumInterpolator.packUnitQuaternion(values, 0, values.size(), components);
+        CesiumInterpolator interpolator = CesiumInterpolator.createUnitQuaternion(CesiumInterpolationAlgorithm.LINEAR, 1);
+        interpolator.setSamples(times, components, times.length);
+        UnitQuaternion result = interpolator.interpolateUnitQuaternion(epoch, epoch.addSeconds(25.0));
+        Assert.assertTrue(result.equalsEpsilon(rotationAboutZ(Math.toRadians(25.0)), 1e-12));
+        Assert.assertTrue(interpolator.interpolateUnitQuaternion(epoch, epoch.addSeconds(-1.0)).getIsUndefined());
+    }
+
+    @Test
+    public final void cartesianVelocityPacksValueFollowedByDerivative() {
+        ArrayList<Motion1<Cartesian>> values = new ArrayList<Motion1<Cartesian>>();
+        values.add(new Motion1<Cartesian>(new Cartesian(1.0, 2.0, 3.0), new Cartesian(4.0, 5.0, 6.0)));
+        double[] components = new double[6];
+        CesiumInterpolator.packCartesianVelocity(values, 0, 1, components);
+        Assert.assertArrayEquals(new double[] {
+                1.0,
+                2.0,
+                3.0,
+                4.0,
+                5.0,
+                6.0
+        }, components, 0.0);
+    }
+
+    private static double cubic(double t) {
+        return 0.01 * t * t * t - 0.5 * t * t + 3.0 * t + 11.0;
+    }
+
+    private static double cubicDerivative(double t) {
+        return 0.03 * t * t - t + 3.0;
+    }
+
+    @Nonnull
+    private static UnitQuaternion rotationAboutZ(double angle) {
+        return new UnitQuaternion(Math.cos(angle / 2.0), 0.0, 0.0, Math.sin(angle / 2.0));
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -0,0 +1,221 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Action;
+import agi.foundation.compatibility.ArgumentNullException;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import agi.foundation.TypeLiteral;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumSampleChunker {
+    @Nonnull
+    private final JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+    private ArrayList<JulianDate> m_dates;
+    private ArrayList<Cartesian> m_values;
+
+    @Before
+    public final void setUp() {
+        m_dates = new ArrayList<JulianDate>();
+        m_values = new ArrayList<Cartesian>();
+    }
+
+    private void addSamples(int count) {
+        for (int i = 0; i < count; ++i) {
+            m_dates.add(m_epoch.addSeconds(i));
+            m_values.add(new Cartesian(i, 0.0, 0.0));
+        }
+    }
+
+    @Test
+    public final void lagrangeChunksOverlapBySamplesNeededForInterpolation() {
+        addSamples(100);
+        CesiumSampleChunker chunker = new CesiumSampleChunker(20, CesiumInterpolationAlgorithm.LAGRANGE, 5);
+        AssertHelper.assertEquals(2, chunker.getLeadingOverlap());
+        AssertHelper.assertEquals(2, chunker.getTrailingOverlap());
+        List<CesiumSampleChunk> chunks = chunker.computeChunks(m_dates, 0, m_dates.size());
+        AssertHelper.assertEquals(7, chunks.size());
+        AssertHelper.assertEquals(0, chunks.get(0).getStartIndex());
+        AssertHelper.assertEquals(18, chunks.get(0).getLength());
+        AssertHelper.assertEquals(m_dates.get(0), chunks.get(0).getInterval().getStart());
+        AssertHelper.assertEquals(m_dates.get(15), chunks.get(0).getInterval().getStop());
+        AssertHelper.assertEquals(13, chunks.get(1).getStartIndex());
+        AssertHelper.assertEquals(20, chunks.get(1).getLength());
+        AssertHelper.assertEquals(m_dates.get(15), chunks.get(1).getInterval().getStart());
+        AssertHelper.assertEquals(m_dates.get(30), chunks.get(1).getInterval().getStop());
+        CesiumSampleChunk last = chunks.get(chunks.size() - 1);
+        AssertHelper.assertEquals(m_dates.get(99), last.getInterval().getStop());
+        AssertHelper.assertEquals(100, last.getStartIndex() + last.getLength());
+    }
+
+    @Test
+    public final void samplesThatFitInOneChunkProduceOneChunk() {
+        addSamples(20);
+        CesiumSampleChunker chunker = new CesiumSampleChunker(20, CesiumInterpolationAlgorithm.LAGRANGE, 5);
+        List<CesiumSampleChunk> chunks = chunker.computeChunks(m_dates, 0, m_dates.size());
+        AssertHelper.assertEquals(1, chunks.size());
+        AssertHelper.assertEquals(0, chunks.get(0).getStartIndex());
+        AssertHelper.assertEquals(20, chunks.get(0).getLength());
+    }
+
+    @Test
+    public final void writeSamplesWritesMultipleIntervals() {
+        addSamples(7);
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        CesiumSampleChunker chunker = new CesiumSampleChunker(4, CesiumInterpolationAlgorithm.LINEAR, 1);
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                final PositionCesiumWriter position = using$1.resource;
+                chunker.writeSamples(position, m_dates, m_values, CesiumWriterAdaptorWriteSamplesCallback.<PositionCesiumWriter, Cartesian> of(PositionCesiumWriter::writeCartesian));
+            }
+        }
+        AssertHelper.assertEquals("{\"position\":["
+                + "{\"interval\":\"20120402T12Z/20120402T120003Z\",\"interpolationAlgorithm\":\"LINEAR\",\"interpolationDegree\":1,\"epoch\":\"20120402T12Z\",\"cartesian\":[0,0,0,0,1,1,0,0,2,2,0,0,3,3,0,0]},"
+                + "{\"interval\":\"20120402T120003Z/20120402T120006Z\",\"interpolationAlgorithm\":\"LINEAR\",\"interpolationDegree\":1,\"epoch\":\"20120402T120003Z\",\"cartesian\":[0,3,0,0,1,4,0,0,2,5,0,0,3,6,0,0]}"
+                + "]}", stringWriter.toString());
+    }
+
+    @Test
+    public final void writeSamplesWritesSinglePropertyWhenSamplesFit() {
+        addSamples(3);
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        CesiumSampleChunker chunker = new CesiumSampleChunker(4, CesiumInterpolationAlgorithm.LINEAR, 1);
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                final PositionCesiumWriter position = using$1.resource;
+                chunker.writeSamples(position, m_dates, m_values, CesiumWriterAdaptorWriteSamplesCallback.<PositionCesiumWriter, Cartesian> of(PositionCesiumWriter::writeCartesian));
+            }
+        }
+        AssertHelper.assertEquals("{\"position\":{\"interpolationAlgorithm\":\"LINEAR\",\"interpolationDegree\":1,\"epoch\":\"20120402T12Z\",\"cartesian\":[0,0,0,0,1,1,0,0,2,2,0,0]}}",
+                stringWriter.toString());
+    }
+
+    @Test
+    public final void chunksCanBeWrittenAsSuccessivePackets() {
+        addSamples(7);
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        CesiumSampleChunker chunker = new CesiumSampleChunker(4, CesiumInterpolationAlgorithm.LINEAR, 1);
+        output.writeStartSequence();
+        for (final CesiumSampleChunk chunk : chunker.computeChunks(m_dates, 0, m_dates.size())) {
+            try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+                final PacketCesiumWriter packet = using$0.resource;
+                packet.writeId("satellite");
+                try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                    final PositionCesiumWriter position = using$1.resource;
+                    try (Using<PositionCesiumWriter> using$2 = new Using<PositionCesiumWriter>(position.openInterval(chunk.getInterval().getStart(), chunk.getInterval().getStop()))) {
+                        final PositionCesiumWriter interval = using$2.resource;
+                        interval.writeCartesian(m_dates, m_values, chunk.getStartIndex(), chunk.getLength());
+                    }
+                }
+            }
+        }
+        output.writeEndSequence();
+        AssertHelper.assertEquals("[{\"id\":\"satellite\",\"position\":{\"interval\":\"20120402T12Z/20120402T120003Z\",\"epoch\":\"20120402T12Z\",\"cartesian\":[0,0,0,0,1,1,0,0,2,2,0,0,3,3,0,0]}},"
+                + "{\"id\":\"satellite\",\"position\":{\"interval\":\"20120402T120003Z/20120402T120006Z\",\"epoch\":\"20120402T120003Z\",\"cartesian\":[0,3,0,0,1,4,0,0,2,5,0,0,3,6,0,0]}}]",
+                stringWriter.toString());
+    }
+
+    @Test
+    public final void everyChunkContainsTheWindowTheClientUses() {
+        addSamples(92);
+        final int degree = 5;
+        final int pointCount = degree + 1;
+        // 10 is the smallest allowed chunk: a full window plus the leading and trailing overlaps.
+        for (final int maximum : new int[] {
+            10,
+            20
+        }) {
+            CesiumSampleChunker chunker = new CesiumSampleChunker(maximum, CesiumInterpolationAlgorithm.LAGRANGE, degree);
+            List<CesiumSampleChunk> chunks = chunker.computeChunks(m_dates, 0, m_dates.size());
+            Assert.assertTrue(chunks.size() > 1);
+            for (final CesiumSampleChunk chunk : chunks) {
+                Assert.assertTrue(chunk.getLength() >= pointCount);
+                Assert.assertTrue(chunk.getLength() <= maximum);
+                // Each segment of the chunk's interval must be interpolated from the same samples as in the full series.
+                int first = m_dates.indexOf(chunk.getInterval().getStart());
+                int last = m_dates.indexOf(chunk.getInterval().getStop());
+                for (int i = first; i < last; ++i) {
+                    int expected = windowStart(i + 1, pointCount, m_dates.size());
+                    int actual = chunk.getStartIndex() + windowStart(i + 1 - chunk.getStartIndex(), pointCount, chunk.getLength());
+                    AssertHelper.assertEquals(expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public final void writeSamplesWithNullDatesThrows() {
+        final CesiumSampleChunker chunker = new CesiumSampleChunker(4, CesiumInterpolationAlgorithm.LINEAR, 1);
+        final CesiumWriterAdaptorWriteSamplesCallback<PositionCesiumWriter, Cartesian> writeSamples = CesiumWriterAdaptorWriteSamplesCallback.<PositionCesiumWriter, Cartesian> of(
+                PositionCesiumWriter::writeCartesian);
+        final PositionCesiumWriter position = new PositionCesiumWriter(PacketCesiumWriter.PositionPropertyName);
+        ArgumentNullException exception = AssertHelper.<ArgumentNullException> assertThrows(new TypeLiteral<ArgumentNullException>() {}, new Action() {
+            public void invoke() {
+                chunker.writeSamples(position, null, m_values, writeSamples);
+            }
+        });
+        AssertHelper.assertEquals("dates", exception.getParamName());
+        exception = AssertHelper.<ArgumentNullException> assertThrows(new TypeLiteral<ArgumentNullException>() {}, new Action() {
+            public void invoke() {
+                chunker.writeSamples(position, null, m_values, 0, 0, writeSamples);
+            }
+        });
+        AssertHelper.assertEquals("dates", exception.getParamName());
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public final void chunkTooSmallForOverlapThrows() {
+        new CesiumSampleChunker(9, CesiumInterpolationAlgorithm.LAGRANGE, 5);
+    }
+
+    /**
+    * Gets the index of the first sample the client interpolates from, given the index of the first sample after the interpolation time.
+    */
+    private static int windowStart(int insertionIndex, int pointCount, int sampleCount) {
+        int firstIndex = Math.max(0, insertionIndex - (pointCount - 1) / 2 - 1);
+        if (firstIndex + pointCount > sampleCount) {
+            firstIndex = Math.max(0, sampleCount - pointCount);
+        }
+        return firstIndex;
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -0,0 +1,259 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Action;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import agi.foundation.TypeLiteral;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumSampleDecimator {
+    @Nonnull
+    private final JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+
+    @Test
+    public final void linearMotionKeepsOnlyEndpoints() {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> values = new ArrayList<Cartesian>();
+        for (int i = 0; i <= 100; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            values.add(new Cartesian(i, 2.0 * i, 3.0 * i));
+        }
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> decimatedValues = new ArrayList<Cartesian>();
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LINEAR, 1, 1e-9);
+        decimator.decimateCartesian(dates, values, 0, dates.size(), decimatedDates, decimatedValues);
+        AssertHelper.assertEquals(2, decimatedDates.size());
+        AssertHelper.assertEquals(dates.get(0), decimatedDates.get(0));
+        AssertHelper.assertEquals(dates.get(100), decimatedDates.get(1));
+        AssertHelper.assertEquals(values.get(100), decimatedValues.get(1));
+    }
+
+    @Test
+    public final void quadraticMotionWithLagrangeKeepsDegreePlusOneSamples() {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Double> values = new ArrayList<Double>();
+        for (int i = 0; i <= 100; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            values.add(0.5 * i * i - 3.0 * i + 7.0);
+        }
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Double> decimatedValues = new ArrayList<Double>();
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LAGRANGE, 2, 1e-6);
+        decimator.decimateNumber(dates, values, 0, dates.size(), decimatedDates, decimatedValues);
+        AssertHelper.assertEquals(3, decimatedDates.size());
+    }
+
+    @Test
+    public final void circularMotionReconstructsWithinTolerance() {
+        final double radius = 7000000.0;
+        final double rate = 2.0 * Math.PI / 5400.0;
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> values = new ArrayList<Cartesian>();
+        double[] components = new double[3601 * 3];
+        for (int i = 0; i <= 3600; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            Cartesian value = new Cartesian(radius * Math.cos(rate * i), radius * Math.sin(rate * i), 1000.0 * Math.sin(3.0 * rate * i));
+            values.add(value);
+            components[i * 3] = value.getX();
+            components[i * 3 + 1] = value.getY();
+            components[i * 3 + 2] = value.getZ();
+        }
+        final double tolerance = 1.0;
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LAGRANGE, 5, tolerance);
+        int[] kept = decimator.selectSamples(dates, components, 3, 0, dates.size());
+        Assert.assertTrue(kept.length * 5 < dates.size());
+        AssertHelper.assertEquals(0, kept[0]);
+        AssertHelper.assertEquals(3600, kept[kept.length - 1]);
+        for (int i = 0; i <= 3600; ++i) {
+            Cartesian interpolated = interpolateLagrange(dates, values, kept, 6, dates.get(i));
+            Assert.assertTrue(interpolated.subtract(values.get(i)).getMagnitude() <= tolerance);
+        }
+    }
+
+    @Test
+    public final void zeroToleranceKeepsSamplesThatCannotBeReconstructed() {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Double> values = new ArrayList<Double>();
+        for (int i = 0; i < 20; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            values.add(i % 2 == 0 ? 0.0 : 1.0);
+        }
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Double> decimatedValues = new ArrayList<Double>();
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LINEAR, 1, 0.0);
+        decimator.decimateNumber(dates, values, 0, dates.size(), decimatedDates, decimatedValues);
+        AssertHelper.assertEquals(20, decimatedDates.size());
+    }
+
+    @Test
+    public final void constantRotationRateKeepsOnlyEndpoints() {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<UnitQuaternion> values = new ArrayList<UnitQuaternion>();
+        for (int i = 0; i <= 60; ++i) {
+            double halfAngle = Math.toRadians(i) / 2.0;
+            dates.add(m_epoch.addSeconds(i));
+            values.add(new UnitQuaternion(Math.cos(halfAngle), 0.0, 0.0, Math.sin(halfAngle)));
+        }
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<UnitQuaternion> decimatedValues = new ArrayList<UnitQuaternion>();
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LINEAR, 1, 1e-9);
+        decimator.decimateUnitQuaternion(dates, values, 0, dates.size(), decimatedDates, decimatedValues);
+        AssertHelper.assertEquals(2, decimatedDates.size());
+    }
+
+    @Test
+    public final void cartographicErrorIsMeasuredInMeters() {
+        // A mostly horizontal track which weaves north and south by a few kilometers while heading east.
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Cartographic> values = new ArrayList<Cartographic>();
+        for (int i = 0; i <= 600; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            values.add(new Cartographic(1e-5 * i, 5e-4 * Math.sin(2.0 * Math.PI * i / 300.0), 1000.0 + 0.01 * i));
+        }
+        final double tolerance = 10.0;
+        ArrayList<JulianDate> decimatedDates = new ArrayList<JulianDate>();
+        ArrayList<Cartographic> decimatedValues = new ArrayList<Cartographic>();
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LINEAR, 1, tolerance);
+        decimator.decimateCartographic(dates, values, 0, dates.size(), decimatedDates, decimatedValues);
+        Assert.assertTrue(decimatedDates.size() > 10);
+        Assert.assertTrue(decimatedDates.size() * 5 < dates.size());
+        int next = 1;
+        for (int i = 0; i <= 600; ++i) {
+            while (JulianDate.lessThan(decimatedDates.get(next), dates.get(i)) && next < decimatedDates.size() - 1) {
+                ++next;
+            }
+            double fraction = decimatedDates.get(next - 1).secondsDifference(dates.get(i)) / decimatedDates.get(next - 1).secondsDifference(decimatedDates.get(next));
+            Cartographic previous = decimatedValues.get(next - 1);
+            Cartographic following = decimatedValues.get(next);
+            Cartographic interpolated = new Cartographic(previous.getLongitude() + fraction * (following.getLongitude() - previous.getLongitude()),
+                    previous.getLatitude() + fraction * (following.getLatitude() - previous.getLatitude()), previous.getHeight() + fraction * (following.getHeight() - previous.getHeight()));
+            Assert.assertTrue(toWgs84Cartesian(interpolated).subtract(toWgs84Cartesian(values.get(i))).getMagnitude() <= tolerance);
+        }
+    }
+
+    @Test
+    public final void writeCartesianWritesInterpolationAndDecimatedSamples() {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> values = new ArrayList<Cartesian>();
+        for (int i = 0; i <= 100; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            values.add(new Cartesian(i, 2.0 * i, 3.0 * i));
+        }
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LINEAR, 1, 1e-9);
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                final PositionCesiumWriter position = using$1.resource;
+                decimator.writeCartesian(position, dates, values);
+            }
+        }
+        AssertHelper.assertEquals("{\"position\":{\"interpolationAlgorithm\":\"LINEAR\",\"interpolationDegree\":1,\"epoch\":\"20120402T12Z\",\"cartesian\":[0,0,0,0,100,100,200,300]}}",
+                stringWriter.toString());
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public final void negativeToleranceThrows() {
+        new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LAGRANGE, 5, -1.0);
+    }
+
+    @Test
+    public final void rangeOutsideDatesThrows() {
+        final CesiumSampleDecimator decimator = new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LINEAR, 1, 0.1);
+        final ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        final ArrayList<Cartesian> values = new ArrayList<Cartesian>();
+        for (int i = 0; i < 4; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            values.add(new Cartesian(i, 0.0, 0.0));
+        }
+        final double[] components = new double[12];
+        ArgumentOutOfRangeException exception = AssertHelper.<ArgumentOutOfRangeException> assertThrows(new TypeLiteral<ArgumentOutOfRangeException>() {}, new Action() {
+            public void invoke() {
+                decimator.selectSamples(dates, components, 3, -1, 2);
+            }
+        });
+        AssertHelper.assertEquals("startIndex", exception.getParamName());
+        exception = AssertHelper.<ArgumentOutOfRangeException> assertThrows(new TypeLiteral<ArgumentOutOfRangeException>() {}, new Action() {
+            public void invoke() {
+                decimator.selectSamples(dates, components, 3, 0, -1);
+            }
+        });
+        AssertHelper.assertEquals("length", exception.getParamName());
+        exception = AssertHelper.<ArgumentOutOfRangeException> assertThrows(new TypeLiteral<ArgumentOutOfRangeException>() {}, new Action() {
+            public void invoke() {
+                decimator.decimateCartesian(dates, values, 2, 3, new ArrayList<JulianDate>(), new ArrayList<Cartesian>());
+            }
+        });
+        AssertHelper.assertEquals("startIndex", exception.getParamName());
+    }
+
+    @Nonnull
+    private static Cartesian interpolateLagrange(ArrayList<JulianDate> dates, ArrayList<Cartesian> values, int[] kept, int pointCount, JulianDate date) {
+        int insertionIndex = 0;
+        while (insertionIndex < kept.length && JulianDate.lessThanOrEqual(dates.get(kept[insertionIndex]), date)) {
+            if (JulianDate.equals(dates.get(kept[insertionIndex]), date)) {
+                return values.get(kept[insertionIndex]);
+            }
+            ++insertionIndex;
+        }
+        int firstIndex = Math.max(0, insertionIndex - (pointCount - 1) / 2 - 1);
+        int lastIndex = Math.min(kept.length - 1, firstIndex + pointCount - 1);
+        firstIndex = Math.max(0, lastIndex - pointCount + 1);
+        Cartesian result = Cartesian.getZero();
+        for (int j = firstIndex; j <= lastIndex; ++j) {
+            double weight = 1.0;
+            for (int m = firstIndex; m <= lastIndex; ++m) {
+                if (m != j) {
+                    weight *= dates.get(kept[m]).secondsDifference(date) / dates.get(kept[m]).secondsDifference(dates.get(kept[j]));
+                }
+            }
+            result = result.add(values.get(kept[j]).multiply(weight));
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static Cartesian toWgs84Cartesian(@Nonnull Cartographic value) {
+        final double semimajorAxis = 6378137.0;
+        final double eccentricitySquared = 6.69437999014e-3;
+        double sinLatitude = Math.sin(value.getLatitude());
+        double cosLatitude = Math.cos(value.getLatitude());
+        double primeVerticalRadius = semimajorAxis / Math.sqrt(1.0 - eccentricitySquared * sinLatitude * sinLatitude);
+        return new Cartesian((primeVerticalRadius + value.getHeight()) * cosLatitude * Math.cos(value.getLongitude()),
+                (primeVerticalRadius + value.getHeight()) * cosLatitude * Math.sin(value.getLongitude()),
+                (primeVerticalRadius * (1.0 - eccentricitySquared) + value.getHeight()) * sinLatitude);
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
@@ -0,0 +1,164 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.Action;
+import agi.foundation.compatibility.ArgumentException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import agi.foundation.TypeLiteral;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCesiumVelocityEstimator {
+    @Nonnull
+    private final JulianDate m_epoch = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+
+    @Test
+    public final void velocitiesOfQuadraticMotionAreExact() {
+        double[] times = new double[] {
+                0.0,
+                1.0,
+                3.0,
+                3.5,
+                10.0
+        };
+        double[] positions = new double[times.length * 3];
+        for (int i = 0; i < times.length; ++i) {
+            double t = times[i];
+            positions[i * 3] = 2.0 * t * t - 3.0 * t + 1.0;
+            positions[i * 3 + 1] = -t * t;
+            positions[i * 3 + 2] = 5.0 * t;
+        }
+        double[] velocities = new double[positions.length];
+        CesiumVelocityEstimator.computeVelocities(times, positions, times.length, velocities);
+        for (int i = 0; i < times.length; ++i) {
+            double t = times[i];
+            AssertHelper.assertEquals(4.0 * t - 3.0, velocities[i * 3], 1e-10);
+            AssertHelper.assertEquals(-2.0 * t, velocities[i * 3 + 1], 1e-10);
+            AssertHelper.assertEquals(5.0, velocities[i * 3 + 2], 1e-10);
+        }
+    }
+
+    @Test
+    public final void twoSamplesUseTheirDifference() {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> positions = new ArrayList<Cartesian>();
+        dates.add(m_epoch);
+        dates.add(m_epoch.addSeconds(4.0));
+        positions.add(new Cartesian(0.0, 0.0, 0.0));
+        positions.add(new Cartesian(8.0, 4.0, -4.0));
+        List<Motion1<Cartesian>> result = CesiumVelocityEstimator.computeVelocities(dates, positions);
+        AssertHelper.assertEquals(2, result.size());
+        AssertHelper.assertEquals(new Cartesian(2.0, 1.0, -1.0), result.get(0).getFirstDerivative());
+        AssertHelper.assertEquals(new Cartesian(2.0, 1.0, -1.0), result.get(1).getFirstDerivative());
+        AssertHelper.assertEquals(positions.get(1), result.get(1).getValue());
+    }
+
+    @Test
+    public final void duplicateTimesThrow() {
+        final double[] times = new double[] {
+                0.0,
+                1.0,
+                1.0,
+                2.0
+        };
+        final double[] positions = new double[12];
+        ArgumentException exception = AssertHelper.<ArgumentException> assertThrows(new TypeLiteral<ArgumentException>() {}, new Action() {
+            public void invoke() {
+                CesiumVelocityEstimator.computeVelocities(times, positions, 4, new double[12]);
+            }
+        });
+        AssertHelper.assertEquals("times", exception.getParamName());
+        final ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        final ArrayList<Cartesian> values = new ArrayList<Cartesian>();
+        for (final double time : new double[] {
+            0.0,
+            2.0,
+            1.0
+        }) {
+            dates.add(m_epoch.addSeconds(time));
+            values.add(new Cartesian(time, 0.0, 0.0));
+        }
+        exception = AssertHelper.<ArgumentException> assertThrows(new TypeLiteral<ArgumentException>() {}, new Action() {
+            public void invoke() {
+                CesiumVelocityEstimator.computeVelocities(dates, values);
+            }
+        });
+        AssertHelper.assertEquals("dates", exception.getParamName());
+    }
+
+    @Test
+    public final void hermiteWithVelocitiesNeedsFewerSamplesThanLagrange() {
+        final double radius = 7000000.0;
+        final double period = 5400.0;
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> positions = new ArrayList<Cartesian>();
+        for (int i = 0; i <= 540; ++i) {
+            double angle = 2.0 * Math.PI * i * 10.0 / period;
+            dates.add(m_epoch.addSeconds(i * 10.0));
+            positions.add(new Cartesian(radius * Math.cos(angle), radius * Math.sin(angle), 0.0));
+        }
+        ArrayList<JulianDate> lagrangeDates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> lagrangeValues = new ArrayList<Cartesian>();
+        new CesiumSampleDecimator(CesiumInterpolationAlgorithm.LAGRANGE, 3, 1.0).decimateCartesian(dates, positions, 0, dates.size(), lagrangeDates, lagrangeValues);
+        ArrayList<JulianDate> hermiteDates = new ArrayList<JulianDate>();
+        ArrayList<Motion1<Cartesian>> hermiteValues = new ArrayList<Motion1<Cartesian>>();
+        List<Motion1<Cartesian>> withVelocities = CesiumVelocityEstimator.computeVelocities(dates, positions);
+        new CesiumSampleDecimator(CesiumInterpolationAlgorithm.HERMITE, 3, 1.0).decimateCartesianVelocity(dates, withVelocities, 0, dates.size(), hermiteDates, hermiteValues);
+        Assert.assertTrue(hermiteDates.size() < lagrangeDates.size());
+        AssertHelper.assertEquals(dates.get(0), hermiteDates.get(0));
+        AssertHelper.assertEquals(dates.get(dates.size() - 1), hermiteDates.get(hermiteDates.size() - 1));
+    }
+
+    @Test
+    public final void writeCartesianVelocityWritesHermiteSamples() {
+        ArrayList<JulianDate> dates = new ArrayList<JulianDate>();
+        ArrayList<Cartesian> positions = new ArrayList<Cartesian>();
+        for (int i = 0; i <= 10; ++i) {
+            dates.add(m_epoch.addSeconds(i));
+            positions.add(new Cartesian(i * 2.0, 0.0, 0.0));
+        }
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        CesiumStreamWriter writer = new CesiumStreamWriter();
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(writer.openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                final PositionCesiumWriter position = using$1.resource;
+                CesiumVelocityEstimator.writeCartesianVelocity(position, dates, positions, 3, 1e-6);
+            }
+        }
+        AssertHelper.assertEquals(
+                "{\"position\":{\"interpolationAlgorithm\":\"HERMITE\",\"interpolationDegree\":3,\"epoch\":\"20120402T12Z\",\"cartesianVelocity\":[0,0,0,0,2,0,0,10,20,0,0,2,0,0]}}",
+                stringWriter.toString());
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
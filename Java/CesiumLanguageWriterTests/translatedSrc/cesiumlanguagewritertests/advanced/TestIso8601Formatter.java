@@ -0,0 +1,96 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.io.StringWriter;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIso8601Formatter {
+    @Test
+    public final void matchesGregorianDateFormatting() {
+        Random random = new Random(17);
+        for (int i = 0; i < 5000; ++i) {
+            int day = 2400000 + random.nextInt(200000);
+            double secondsOfDay;
+            switch (i % 4) {
+            case 0:
+                secondsOfDay = random.nextInt(86400);
+                break;
+            case 1:
+                secondsOfDay = random.nextInt(86400000) / 1000.0;
+                break;
+            case 2:
+                secondsOfDay = random.nextDouble() * 86400.0;
+                break;
+            default:
+                secondsOfDay = random.nextInt(86400) + random.nextDouble() * 1e-3;
+                break;
+            }
+            JulianDate date = new JulianDate(day, secondsOfDay, i % 2 == 0 ? TimeStandard.COORDINATED_UNIVERSAL_TIME : TimeStandard.INTERNATIONAL_ATOMIC_TIME);
+            for (Iso8601Format format : Iso8601Format.values()) {
+                AssertHelper.assertEquals(date.toGregorianDate().toIso8601String(format), Iso8601Formatter.toIso8601(date, format));
+            }
+        }
+    }
+
+    @Test
+    public final void formatsLeapSecond() {
+        JulianDate date = new GregorianDate(2016, 12, 31, 23, 59, 60.25).toJulianDate();
+        AssertHelper.assertEquals("2016-12-31T23:59:60.25Z", Iso8601Formatter.toIso8601(date, Iso8601Format.EXTENDED));
+        AssertHelper.assertEquals("20161231T235960.25Z", Iso8601Formatter.toIso8601(date, Iso8601Format.COMPACT));
+    }
+
+    @Test
+    public final void clampsToGregorianDateRange() {
+        AssertHelper.assertEquals(GregorianDate.MinValue.toIso8601String(Iso8601Format.COMPACT), Iso8601Formatter.toIso8601(JulianDate.getMinValue(), Iso8601Format.COMPACT));
+        AssertHelper.assertEquals(GregorianDate.MaxValue.toIso8601String(Iso8601Format.EXTENDED), Iso8601Formatter.toIso8601(JulianDate.getMaxValue(), Iso8601Format.EXTENDED));
+    }
+
+    @Test
+    public final void formatsIntoBufferAtOffset() {
+        JulianDate start = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+        JulianDate stop = new GregorianDate(2012, 4, 2, 12, 30, 1.5).toJulianDate();
+        char[] buffer = new char[Iso8601Formatter.MaximumIntervalLength + 3];
+        buffer[0] = '[';
+        int end = Iso8601Formatter.formatInterval(start, stop, Iso8601Format.COMPACT, buffer, 1);
+        AssertHelper.assertEquals("[20120402T12Z/20120402T123001.5Z", new String(buffer, 0, end));
+    }
+
+    @Test
+    public final void writesIntervalToStream() {
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter, true);
+        output.writeStartSequence();
+        Iso8601Formatter.writeInterval(output, new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate(), new GregorianDate(2012, 4, 3, 0, 0, 0.0).toJulianDate());
+        output.writeEndSequence();
+        AssertHelper.assertEquals("[\"2012-04-02T12:00:00Z/2012-04-03T00:00:00Z\"]", stringWriter.toString().replace("\r", "").replace("\n", "").replace(" ", ""));
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
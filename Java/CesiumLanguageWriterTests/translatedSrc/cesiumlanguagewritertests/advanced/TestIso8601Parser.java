@@ -0,0 +1,97 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.CultureInfoHelper;
+import agi.foundation.compatibility.TestContextRule;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIso8601Parser {
+    @Test
+    public final void parsesFormattedDates() {
+        Random random = new Random(23);
+        JulianDate[] result = new JulianDate[1];
+        for (int i = 0; i < 3000; ++i) {
+            JulianDate date = new JulianDate(2400000 + random.nextInt(200000), random.nextDouble() * 86400.0, TimeStandard.INTERNATIONAL_ATOMIC_TIME);
+            for (Iso8601Format format : Iso8601Format.values()) {
+                String s = Iso8601Formatter.toIso8601(date, format);
+                Assert.assertTrue(s, Iso8601Parser.tryParse(s, result));
+                JulianDate expected = GregorianDate.parse(s, CultureInfoHelper.getInvariantCulture()).toJulianDate();
+                Assert.assertTrue(s, expected.isIdentical(result[0]));
+            }
+        }
+    }
+
+    @Test
+    public final void parsesDayOfYearAndLeapSecond() {
+        JulianDate[] result = new JulianDate[1];
+        Assert.assertTrue(Iso8601Parser.tryParse("2012-093T12:30:45.5Z", result));
+        AssertHelper.assertEquals(new GregorianDate(2012, 4, 2, 12, 30, 45.5).toJulianDate(), result[0]);
+        Assert.assertTrue(Iso8601Parser.tryParse("2012-093", result));
+        AssertHelper.assertEquals(new GregorianDate(2012, 4, 2).toJulianDate(), result[0]);
+        Assert.assertTrue(Iso8601Parser.tryParse("2016-12-31T23:59:60.25Z", result));
+        AssertHelper.assertEquals(TimeStandard.INTERNATIONAL_ATOMIC_TIME, result[0].getStandard());
+        AssertHelper.assertEquals("2016-12-31T23:59:60.25Z", Iso8601Formatter.toIso8601(result[0], Iso8601Format.EXTENDED));
+    }
+
+    @Test
+    public final void rejectsOtherForms() {
+        JulianDate[] result = new JulianDate[1];
+        for (String s : new String[] {
+            "2012-4-2T12:30:45Z",
+            "2012-04-02 12:30:45Z",
+            "20120402",
+            "2012-02-30T00:00:00Z",
+            "2013-366",
+            "2012-04-02T24:00:00Z",
+            "2012-04-02T12:30:60Z",
+            "2012-04-02T12:30:45.Z",
+            "2012-04-02T12:30:45.123456789012345678Z"
+        }) {
+            Assert.assertFalse(s, Iso8601Parser.tryParse(s, result));
+        }
+    }
+
+    @Test
+    public final void parseFallsBackToGeneralParser() {
+        String s = "2012-4-2T12:30:45Z";
+        AssertHelper.assertEquals(new GregorianDate(2012, 4, 2, 12, 30, 45.0).toJulianDate(), Iso8601Parser.parse(s));
+    }
+
+    @Test
+    public final void parsesByteRange() {
+        byte[] bytes = "[\"20120402T123045.5Z\"]".getBytes(StandardCharsets.US_ASCII);
+        JulianDate[] result = new JulianDate[1];
+        Assert.assertTrue(Iso8601Parser.tryParse(bytes, 2, 18, result));
+        AssertHelper.assertEquals(new GregorianDate(2012, 4, 2, 12, 30, 45.5).toJulianDate(), result[0]);
+        AssertHelper.assertEquals(result[0], Iso8601Parser.parse("x20120402T123045.5Z", 1, 18));
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}
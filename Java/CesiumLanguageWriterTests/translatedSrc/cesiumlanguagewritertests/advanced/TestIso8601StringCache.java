@@ -0,0 +1,148 @@
+package cesiumlanguagewritertests.advanced;
+
+
+import agi.foundation.compatibility.*;
+import agi.foundation.compatibility.ArgumentOutOfRangeException;
+import agi.foundation.compatibility.AssertHelper;
+import agi.foundation.compatibility.TestContextRule;
+import agi.foundation.compatibility.Using;
+import cesiumlanguagewriter.*;
+import cesiumlanguagewriter.advanced.*;
+import cesiumlanguagewritertests.*;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.runners.MethodSorters;
+import org.junit.Test;
+
+@SuppressWarnings({
+    "unused",
+    "deprecation",
+    "serial"
+})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIso8601StringCache {
+    @Nonnull
+    private final JulianDate m_start = new GregorianDate(2012, 4, 2, 12, 0, 0.0).toJulianDate();
+    @Nonnull
+    private final JulianDate m_stop = new GregorianDate(2012, 4, 3, 12, 0, 0.5).toJulianDate();
+
+    @Test
+    public final void repeatedLookupsHit() {
+        Iso8601StringCache cache = new Iso8601StringCache(16);
+        String first = cache.toIso8601(m_start, Iso8601Format.COMPACT);
+        String second = cache.toIso8601(m_start, Iso8601Format.COMPACT);
+        AssertHelper.assertEquals("20120402T12Z", first);
+        Assert.assertSame(first, second);
+        AssertHelper.assertEquals(1L, cache.getHitCount());
+        AssertHelper.assertEquals(1L, cache.getMissCount());
+        AssertHelper.assertEquals(0.5, cache.getHitRate(), 0.0);
+    }
+
+    @Test
+    public final void formatsAreCachedSeparately() {
+        Iso8601StringCache cache = new Iso8601StringCache(16);
+        AssertHelper.assertEquals("20120402T12Z", cache.toIso8601(m_start, Iso8601Format.COMPACT));
+        AssertHelper.assertEquals("2012-04-02T12:00:00Z", cache.toIso8601(m_start, Iso8601Format.EXTENDED));
+        AssertHelper.assertEquals("20120402T12Z/20120403T120000.5Z", cache.toIso8601Interval(m_start, m_stop, Iso8601Format.COMPACT));
+        AssertHelper.assertEquals("2012-04-02T12:00:00Z/2012-04-03T12:00:00.5Z", cache.toIso8601Interval(m_start, m_stop, Iso8601Format.EXTENDED));
+        AssertHelper.assertEquals("20120402T12Z/20120403T120000.5Z", cache.toIso8601Interval(m_start, m_stop, Iso8601Format.COMPACT));
+        AssertHelper.assertEquals(1L, cache.getHitCount());
+    }
+
+    @Test
+    public final void capacityBoundsCachedValues() {
+        Iso8601StringCache cache = new Iso8601StringCache(5);
+        AssertHelper.assertEquals(8, cache.getCapacity());
+        for (int i = 0; i < 100; ++i) {
+            JulianDate date = m_start.addSeconds(i);
+            AssertHelper.assertEquals(date.toGregorianDate().toIso8601String(Iso8601Format.EXTENDED), cache.toIso8601(date, Iso8601Format.EXTENDED));
+        }
+        AssertHelper.assertEquals(100L, cache.getMissCount());
+        Assert.assertTrue(cache.getEvictionCount() >= 92L);
+        cache.clear();
+        AssertHelper.assertEquals(0L, cache.getMissCount());
+        AssertHelper.assertEquals(0.0, cache.getHitRate(), 0.0);
+    }
+
+    @Test
+    public final void onlyReplacingADifferentValueCountsAsEviction() {
+        Iso8601StringCache cache = new Iso8601StringCache(1);
+        cache.toIso8601(m_start, Iso8601Format.COMPACT);
+        cache.toIso8601(m_start, Iso8601Format.COMPACT);
+        AssertHelper.assertEquals(0L, cache.getEvictionCount());
+        cache.toIso8601(m_stop, Iso8601Format.COMPACT);
+        AssertHelper.assertEquals(1L, cache.getEvictionCount());
+        cache.toIso8601(m_start, Iso8601Format.COMPACT);
+        AssertHelper.assertEquals(2L, cache.getEvictionCount());
+        AssertHelper.assertEquals(3L, cache.getMissCount());
+    }
+
+    @Test
+    public final void writersDoNotUseDefaultCache() {
+        Iso8601StringCache cache = Iso8601StringCache.getDefault();
+        long lookups = cache.getHitCount() + cache.getMissCount();
+        StringWriter stringWriter = new StringWriter();
+        CesiumOutputStream output = new CesiumOutputStream(stringWriter);
+        try (Using<PacketCesiumWriter> using$0 = new Using<PacketCesiumWriter>(new CesiumStreamWriter().openPacket(output))) {
+            final PacketCesiumWriter packet = using$0.resource;
+            packet.writeAvailability(m_start, m_stop);
+            try (Using<PositionCesiumWriter> using$1 = new Using<PositionCesiumWriter>(packet.openPositionProperty())) {
+                try (Using<PositionCesiumWriter> using$2 = new Using<PositionCesiumWriter>(using$1.resource.openInterval(m_start, m_stop))) {
+                    using$2.resource.writeCartesian(Cartesian.getZero());
+                }
+            }
+        }
+        AssertHelper.assertEquals("{\"availability\":\"20120402T12Z/20120403T120000.5Z\",\"position\":{\"interval\":\"20120402T12Z/20120403T120000.5Z\",\"cartesian\":[0,0,0]}}",
+                stringWriter.toString());
+        AssertHelper.assertEquals(lookups, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    public final void concurrentLookupsReturnCorrectValues() throws Exception {
+        final Iso8601StringCache cache = new Iso8601StringCache(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArrayList<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < 8; ++t) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; ++i) {
+                        JulianDate date = m_start.addSeconds(i % 100);
+                        if (!cache.toIso8601(date, Iso8601Format.COMPACT).equals(date.toGregorianDate().toIso8601String(Iso8601Format.COMPACT))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        AssertHelper.assertEquals(16000L, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public final void capacityMustBePositive() {
+        new Iso8601StringCache(0);
+    }
+
+    @Nonnull
+    private static final TestContextRule rule$testContext = new TestContextRule();
+
+    @Nonnull
+    @Rule
+    @ClassRule
+    public static TestContextRule getRule$testContext() {
+        return rule$testContext;
+    }
+}